@@ -19,8 +19,10 @@
 package boofcv.app;
 
 import boofcv.alg.distort.AdjustmentType;
+import boofcv.alg.distort.DistortImageOps;
 import boofcv.alg.distort.ImageDistort;
 import boofcv.alg.distort.LensDistortionOps;
+import boofcv.alg.distort.PointToPixelTransform_F32;
 import boofcv.core.image.border.BorderType;
 import boofcv.io.UtilIO;
 import boofcv.io.calibration.CalibrationIO;
@@ -29,9 +31,8 @@ import boofcv.io.image.UtilImageIO;
 import boofcv.misc.BoofMiscOps;
 import boofcv.struct.calib.CameraPinhole;
 import boofcv.struct.calib.CameraPinholeRadial;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.ImageType;
-import boofcv.struct.image.Planar;
+import boofcv.struct.distort.Point2Transform2_F32;
+import boofcv.struct.image.InterleavedU8;
 
 import java.awt.image.BufferedImage;
 import java.io.File;
@@ -113,11 +114,14 @@ public class BatchRemoveLensDistortion {
 
 		System.out.println("Found a total of "+files.size()+" matching files");
 
-		Planar<GrayF32> distoredImg = new Planar<>(GrayF32.class,param.width,param.height,3);
-		Planar<GrayF32> undistoredImg = new Planar<>(GrayF32.class,param.width,param.height,3);
+		InterleavedU8 distoredImg = new InterleavedU8(param.width,param.height,3);
+		InterleavedU8 undistoredImg = new InterleavedU8(param.width,param.height,3);
 
-		ImageDistort distort = LensDistortionOps.changeCameraModel(adjustmentType, BorderType.ZERO, param,
-				new CameraPinhole(param), paramAdj, (ImageType) distoredImg.getImageType());
+		// the same distortion is applied to every image so use a precomputed remap table
+		Point2Transform2_F32 undistToDist = LensDistortionOps.transformChangeModel_F32(adjustmentType,
+				param, new CameraPinhole(param), true, paramAdj);
+		ImageDistort<InterleavedU8,InterleavedU8> distort = DistortImageOps.createRemap(
+				new PointToPixelTransform_F32(undistToDist), BorderType.ZERO, distoredImg.getImageType());
 		CalibrationIO.save(paramAdj,new File(outputDir,"intrinsicUndistorted.yaml").getAbsolutePath());
 
 		BufferedImage out = new BufferedImage(param.width,param.height,BufferedImage.TYPE_INT_RGB);
@@ -137,7 +141,7 @@ public class BatchRemoveLensDistortion {
 				System.exit(-1);
 			}
 
-			ConvertBufferedImage.convertFromPlanar(orig, distoredImg, true, GrayF32.class);
+			ConvertBufferedImage.convertFromInterleaved(orig, distoredImg, true);
 			distort.apply(distoredImg,undistoredImg);
 			ConvertBufferedImage.convertTo(undistoredImg,out,true);
 
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * Auto generates concurrent implementations of a class from hints placed in comments of the single threaded
+ * implementation. The output class is saved in the same directory and has the suffix "_MT". Lines with
+ * hints are never included in the output. Hints must be the only thing on their line.
+ * </p>
+ *
+ * <pre>
+ * //CONCURRENT_CLASS_NAME name   Name of the generated class. Default is the original name plus "_MT"
+ * //CONCURRENT_INLINE code       Insert the code at this location
+ * //CONCURRENT_BELOW code        Replace the line below with the code
+ * //CONCURRENT_ABOVE code        Replace the line above with the code
+ * //CONCURRENT_REMOVE_BELOW      Remove the line below
+ * //CONCURRENT_REMOVE_ABOVE      Remove the line above
+ * //CONCURRENT_OMIT_BEGIN        Everything until //CONCURRENT_OMIT_END is not included
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class AutocodeConcurrentApp {
+
+	public static final String PREFIX = "//CONCURRENT_";
+
+	private static final Pattern CLASS_DECLARATION = Pattern.compile("^public (abstract )?(final )?class (\\w+)");
+
+	/**
+	 * Creates the concurrent implementation of the specified file.
+	 *
+	 * @param file Java source file of the single threaded implementation
+	 * @return File the concurrent implementation was written to
+	 */
+	public static File convertFile( File file ) throws IOException {
+		List<String> input = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+
+		String originalName = file.getName().substring(0,file.getName().length()-5);
+		String className = originalName+"_MT";
+		for( String line : input ) {
+			String hint = line.trim();
+			if( hint.startsWith(PREFIX+"CLASS_NAME ")) {
+				className = hint.substring(PREFIX.length()+"CLASS_NAME ".length()).trim();
+			}
+		}
+
+		List<String> output = convert(input,originalName,className);
+		File outputFile = new File(file.getParentFile(),className+".java");
+		Files.write(outputFile.toPath(), output, StandardCharsets.UTF_8);
+		return outputFile;
+	}
+
+	/**
+	 * Converts the source code of the single threaded class into its concurrent implementation.
+	 */
+	public static List<String> convert( List<String> input , String originalName , String className ) {
+		List<String> output = new ArrayList<>();
+		String packageName = null;
+
+		boolean omit = false;
+		boolean removeNext = false;
+		String replaceNext = null;
+
+		for( String line : input ) {
+			String trimmed = line.trim();
+
+			if( trimmed.startsWith(PREFIX) ) {
+				String hint = trimmed.substring(PREFIX.length());
+				String indent = line.substring(0,line.indexOf(PREFIX));
+				if( hint.equals("OMIT_BEGIN") ) {
+					omit = true;
+				} else if( hint.equals("OMIT_END") ) {
+					omit = false;
+				} else if( omit ) {
+					continue;
+				} else if( hint.startsWith("CLASS_NAME") ) {
+					continue;
+				} else if( hint.startsWith("INLINE ") ) {
+					output.add(indent+hint.substring("INLINE ".length()));
+				} else if( hint.startsWith("BELOW ") ) {
+					replaceNext = indent+hint.substring("BELOW ".length());
+				} else if( hint.startsWith("ABOVE ") ) {
+					output.set(output.size()-1,indent+hint.substring("ABOVE ".length()));
+				} else if( hint.equals("REMOVE_BELOW") ) {
+					removeNext = true;
+				} else if( hint.equals("REMOVE_ABOVE") ) {
+					output.remove(output.size()-1);
+				} else {
+					throw new IllegalArgumentException("Unknown hint: "+trimmed);
+				}
+				continue;
+			}
+			if( omit )
+				continue;
+
+			if( removeNext ) {
+				removeNext = false;
+				continue;
+			}
+			if( replaceNext != null ) {
+				output.add(replaceNext);
+				replaceNext = null;
+				continue;
+			}
+
+			if( trimmed.startsWith("package ") ) {
+				packageName = trimmed.substring(8,trimmed.length()-1).trim();
+			} else if( !trimmed.startsWith("*") && !trimmed.startsWith("/") && !trimmed.startsWith("@") ) {
+				line = line.replaceAll("\\b"+originalName+"\\b",className);
+			}
+			output.add(line);
+		}
+		if( omit )
+			throw new IllegalArgumentException("OMIT_BEGIN without OMIT_END");
+
+		updateClassHeader(output, packageName+"."+originalName);
+		addImport(output,"boofcv.concurrency.BoofConcurrency");
+		addImport(output,"javax.annotation.Generated");
+
+		return output;
+	}
+
+	/**
+	 * Adds a note to the class javadoc and replaces the Generated annotation so that it references the
+	 * original class.
+	 */
+	private static void updateClassHeader( List<String> output , String originalClass ) {
+		int classLine = -1;
+		for (int i = 0; i < output.size(); i++) {
+			Matcher m = CLASS_DECLARATION.matcher(output.get(i));
+			if( m.find() ) {
+				classLine = i;
+				break;
+			}
+		}
+		if( classLine < 0 )
+			throw new IllegalArgumentException("Can't find the class declaration");
+
+		// remove annotations which are no longer true and insert a new one
+		int i = classLine-1;
+		while( i >= 0 && output.get(i).startsWith("@") ) {
+			if( output.get(i).startsWith("@Generated") ) {
+				output.remove(i);
+				classLine--;
+			}
+			i--;
+		}
+		output.add(classLine,"@Generated(\""+originalClass+"\")");
+
+		// insert a comment in the javadoc
+		for( i = classLine-1; i >= 0; i-- ) {
+			String line = output.get(i).trim();
+			if( line.startsWith("* @author") || line.equals("*/") ) {
+				// skip past any other tags
+				while( output.get(i-1).trim().startsWith("* @") )
+					i--;
+				output.add(i," * <p>DO NOT MODIFY. Automatically generated code created by "+
+						AutocodeConcurrentApp.class.getSimpleName()+"</p>");
+				output.add(i+1," *");
+				break;
+			}
+			if( line.startsWith("/**") )
+				throw new IllegalArgumentException("Class javadoc has no tags");
+		}
+	}
+
+	/**
+	 * Adds the import if it isn't already present. It will be placed next to imports from the same root package.
+	 */
+	private static void addImport( List<String> output , String name ) {
+		String statement = "import "+name+";";
+		String root = name.substring(0,name.indexOf('.')+1);
+
+		int lastImport = -1;
+		int lastSameRoot = -1;
+		for (int i = 0; i < output.size(); i++) {
+			String line = output.get(i);
+			if( line.equals(statement) )
+				return;
+			if( !line.startsWith("import ") )
+				continue;
+			lastImport = i;
+			String imported = line.substring(7);
+			if( imported.startsWith(root) ) {
+				if( imported.compareTo(statement.substring(7)) > 0 ) {
+					output.add(i,statement);
+					return;
+				}
+				lastSameRoot = i;
+			}
+		}
+
+		if( lastSameRoot >= 0 ) {
+			output.add(lastSameRoot+1,statement);
+		} else if( lastImport >= 0 ) {
+			output.add(lastImport+1,"");
+			output.add(lastImport+2,statement);
+		} else {
+			throw new IllegalArgumentException("No imports found");
+		}
+	}
+
+	public static void main(String args[] ) throws IOException {
+		String files[] = args.length > 0 ? args : new String[]{
+				"main/boofcv-ip/src/main/java/boofcv/core/image/impl/ImplConvertImage.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/binary/impl/ImplThresholdImageOps.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/derivative/impl/GradientSobel_Outer.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/derivative/impl/GradientSobel_UnrolledOuter.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/convolve/noborder/ConvolveImageStandard_SB.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/convolve/noborder/ConvolveImageUnrolled_SB_F32_F32.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/convolve/noborder/ConvolveImageUnrolled_SB_F64_F64.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/convolve/noborder/ConvolveImageUnrolled_SB_S16_I16.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/convolve/noborder/ConvolveImageUnrolled_SB_S16_I16_Div.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/convolve/noborder/ConvolveImageUnrolled_SB_S32_S32.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/convolve/noborder/ConvolveImageUnrolled_SB_S32_S32_Div.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/convolve/noborder/ConvolveImageUnrolled_SB_U8_I16.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/convolve/noborder/ConvolveImageUnrolled_SB_U8_I8_Div.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/convolve/noborder/ImplConvolveMean.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/blur/impl/ImplBlurTiled.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/blur/impl/ImplMedianConstantTime.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/transform/pyramid/impl/ImplPyramidBlurDown.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/transform/wavelet/impl/ImplWaveletTransformInner.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/color/impl/ImplColorRgb.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/color/impl/ImplColorHsv.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/color/impl/ImplColorYuv.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/filter/binary/impl/ImplBinaryPackedOps.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/misc/impl/ImplImageStatistics.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/misc/impl/ImplPixelMath.java",
+				"main/boofcv-ip/src/main/java/boofcv/alg/enhance/impl/ImplEnhanceHistogram.java",
+				"main/boofcv-feature/src/main/java/boofcv/alg/feature/detect/intensity/impl/ImplCornerIntensityFused.java",
+		};
+
+		for( String f : files ) {
+			File output = convertFile(new File(f));
+			System.out.println("Created "+output.getPath());
+		}
+	}
+}
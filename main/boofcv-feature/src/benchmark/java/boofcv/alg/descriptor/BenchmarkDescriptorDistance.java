@@ -18,9 +18,14 @@
 
 package boofcv.alg.descriptor;
 
+import boofcv.abst.feature.associate.ScoreAssociateEuclideanSq_F32;
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.misc.Performer;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.feature.TupleDesc_B;
+import boofcv.struct.feature.TupleDesc_F32;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -38,11 +43,52 @@ public class BenchmarkDescriptorDistance {
 	static List<TupleDesc_B>  binaryA = new ArrayList<>();
 	static List<TupleDesc_B>  binaryB = new ArrayList<>();
 
+	// Sets which are compared many to many. Stored as descriptors and packed into arrays
+	static int NUM_SET = 500;
+	static int DOF_F32 = 64;
+	static List<TupleDesc_F32> floatA = new ArrayList<>();
+	static List<TupleDesc_F32> floatB = new ArrayList<>();
+	static float[] packedFloatA = new float[NUM_SET*DOF_F32];
+	static float[] packedFloatB = new float[NUM_SET*DOF_F32];
+	static int[] packedBinaryA;
+	static int[] packedBinaryB;
+	static long[] packedBinaryA64;
+	static long[] packedBinaryB64;
+
 	static {
 		for (int i = 0; i < NUM_FEATURES; i++) {
 			binaryA.add(randomFeature());
 			binaryB.add(randomFeature());
 		}
+
+		for (int i = 0; i < NUM_SET; i++) {
+			TupleDesc_F32 a = new TupleDesc_F32(DOF_F32);
+			TupleDesc_F32 b = new TupleDesc_F32(DOF_F32);
+			for (int j = 0; j < DOF_F32; j++) {
+				a.value[j] = rand.nextFloat();
+				b.value[j] = rand.nextFloat();
+			}
+			floatA.add(a);
+			floatB.add(b);
+			System.arraycopy(a.value,0,packedFloatA,i*DOF_F32,DOF_F32);
+			System.arraycopy(b.value,0,packedFloatB,i*DOF_F32,DOF_F32);
+		}
+
+		int numInts = binaryA.get(0).data.length;
+		packedBinaryA = new int[NUM_SET*numInts];
+		packedBinaryB = new int[NUM_SET*numInts];
+		packedBinaryA64 = new long[NUM_SET*numInts/2];
+		packedBinaryB64 = new long[NUM_SET*numInts/2];
+		for (int i = 0; i < NUM_SET; i++) {
+			int[] a = binaryA.get(i).data;
+			int[] b = binaryB.get(i).data;
+			System.arraycopy(a,0,packedBinaryA,i*numInts,numInts);
+			System.arraycopy(b,0,packedBinaryB,i*numInts,numInts);
+			for (int j = 0; j < numInts/2; j++) {
+				packedBinaryA64[i*numInts/2+j] = (a[j*2] & 0xFFFFFFFFL) | ((long)a[j*2+1] << 32);
+				packedBinaryB64[i*numInts/2+j] = (b[j*2] & 0xFFFFFFFFL) | ((long)b[j*2+1] << 32);
+			}
+		}
 	}
 
 	public static class HammingTable extends PerformerBase {
@@ -89,6 +135,91 @@ public class BenchmarkDescriptorDistance {
 		}
 	}
 
+	/**
+	 * Every pair is scored one at a time through {@link ScoreAssociation}, which is how association is done
+	 */
+	public static class HammingScorePairs extends PerformerBase {
+		ScoreAssociation<TupleDesc_B> score = new ScoreAssociateHamming_B();
+		double output[] = new double[NUM_SET*NUM_SET];
+
+		@Override
+		public void process() {
+			for (int i = 0; i < NUM_SET; i++) {
+				TupleDesc_B a = binaryA.get(i);
+				for (int j = 0; j < NUM_SET; j++) {
+					output[i*NUM_SET+j] = score.score(a,binaryB.get(j));
+				}
+			}
+		}
+	}
+
+	public static class HammingManyToMany32 extends PerformerBase {
+		int output[] = new int[NUM_SET*NUM_SET];
+
+		@Override
+		public void process() {
+			DescriptorDistance.hamming(packedBinaryA,NUM_SET,packedBinaryB,NUM_SET,
+					binaryA.get(0).data.length,output);
+		}
+	}
+
+	public static class HammingManyToMany64 extends PerformerBase {
+		int output[] = new int[NUM_SET*NUM_SET];
+
+		@Override
+		public void process() {
+			DescriptorDistance.hamming(packedBinaryA64,NUM_SET,packedBinaryB64,NUM_SET,
+					binaryA.get(0).data.length/2,output);
+		}
+	}
+
+	public static class EuclideanSqScorePairs extends PerformerBase {
+		ScoreAssociation<TupleDesc_F32> score = new ScoreAssociateEuclideanSq_F32();
+		double output[] = new double[NUM_SET*NUM_SET];
+
+		@Override
+		public void process() {
+			for (int i = 0; i < NUM_SET; i++) {
+				TupleDesc_F32 a = floatA.get(i);
+				for (int j = 0; j < NUM_SET; j++) {
+					output[i*NUM_SET+j] = score.score(a,floatB.get(j));
+				}
+			}
+		}
+	}
+
+	public static class EuclideanSqOneToMany extends PerformerBase {
+		float output[] = new float[NUM_SET*NUM_SET];
+
+		@Override
+		public void process() {
+			for (int i = 0; i < NUM_SET; i++) {
+				DescriptorDistance.euclideanSq(packedFloatA,i*DOF_F32,packedFloatB,0,NUM_SET,DOF_F32,output,i*NUM_SET);
+			}
+		}
+	}
+
+	public static class EuclideanSqManyToMany extends PerformerBase {
+		float output[] = new float[NUM_SET*NUM_SET];
+
+		@Override
+		public void process() {
+			DescriptorDistance.euclideanSq(packedFloatA,NUM_SET,packedFloatB,NUM_SET,DOF_F32,output);
+		}
+	}
+
+	/**
+	 * Prints the speed of each kernel relative to the baseline
+	 */
+	private static void printSpeedUp( Performer baseline , Performer ...kernels ) {
+		double base = ProfileOperation.profileOpsPerSec(baseline,TEST_TIME,true);
+		System.out.printf("%30s  ops/sec = %8.3f\n",baseline.getName(),base);
+		for( Performer p : kernels ) {
+			double ops = ProfileOperation.profileOpsPerSec(p,TEST_TIME,true);
+			System.out.printf("%30s  ops/sec = %8.3f  speed up = %5.2f\n",p.getName(),ops,ops/base);
+		}
+	}
+
 	private static TupleDesc_B randomFeature() {
 		TupleDesc_B feat = new TupleDesc_B(512);
 		for (int j = 0; j < feat.data.length; j++) {
@@ -103,6 +234,11 @@ public class BenchmarkDescriptorDistance {
 		ProfileOperation.printOpsPerSec(new HammingTable(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new HammingEquationOld(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new HammingEquation(),TEST_TIME);
+
+		System.out.println();
+		System.out.println("Many to many. "+NUM_SET+" x "+NUM_SET);
+		printSpeedUp(new HammingScorePairs(),new HammingManyToMany32(),new HammingManyToMany64());
+		printSpeedUp(new EuclideanSqScorePairs(),new EuclideanSqOneToMany(),new EuclideanSqManyToMany());
 	}
 
 
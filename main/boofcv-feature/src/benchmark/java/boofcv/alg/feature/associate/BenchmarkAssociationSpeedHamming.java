@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.AssociateDescription;
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
+import boofcv.abst.feature.associate.WrapAssociateGreedy;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.misc.Performer;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.Random;
+
+/**
+ * Compares the speed of brute force and multi-index hashing association of binary descriptors when matching
+ * against a large set of features. Matched destination features are noisy copies of source features and
+ * unmatched destination features are random, i.e. they aren't in the source set.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkAssociationSpeedHamming {
+
+	static final long TEST_TIME = 1000;
+	static final int NUM_BITS = 256;
+
+	FastQueue<TupleDesc_B> listSrc = new FastQueue<>(TupleDesc_B.class,false);
+	FastQueue<TupleDesc_B> listDst = new FastQueue<>(TupleDesc_B.class,false);
+	FastQueue<TupleDesc_B> listUnmatched = new FastQueue<>(TupleDesc_B.class,false);
+
+	public BenchmarkAssociationSpeedHamming( int numSrc , int numDst ) {
+		Random rand = new Random(234);
+		for (int i = 0; i < numSrc; i++) {
+			listSrc.add(random(rand));
+		}
+		for (int i = 0; i < numDst; i++) {
+			TupleDesc_B d = listSrc.get(rand.nextInt(numSrc)).copy();
+			for (int j = 0; j < 20; j++) {
+				int bit = rand.nextInt(NUM_BITS);
+				d.data[bit/32] ^= 1 << (bit%32);
+			}
+			listDst.add(d);
+			listUnmatched.add(random(rand));
+		}
+		System.out.println("Size Src = "+numSrc+"  Dst = "+numDst);
+	}
+
+	private static TupleDesc_B random( Random rand ) {
+		TupleDesc_B d = new TupleDesc_B(NUM_BITS);
+		for (int j = 0; j < d.data.length; j++) {
+			d.data[j] = rand.nextInt();
+		}
+		return d;
+	}
+
+	public class General implements Performer {
+
+		AssociateDescription<TupleDesc_B> alg;
+		FastQueue<TupleDesc_B> dst;
+		String name;
+
+		public General(String name, AssociateDescription<TupleDesc_B> alg, FastQueue<TupleDesc_B> dst) {
+			this.alg = alg;
+			this.dst = dst;
+			this.name = name;
+			// the source is only set once, like it would be with a map
+			alg.setSource(listSrc);
+		}
+
+		@Override
+		public void process() {
+			alg.setDestination(dst);
+			alg.associate();
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	public static void main( String args[] ) {
+		BenchmarkAssociationSpeedHamming app = new BenchmarkAssociationSpeedHamming(100_000,1000);
+
+		// the memory bounded implementation is used since the score matrix would be too large
+		ProfileOperation.printOpsPerSec(app.new General("Greedy",
+				new WrapAssociateGreedy<>(new AssociateGreedy_MT<>(new ScoreAssociateHamming_B(), false)),
+				app.listDst),TEST_TIME);
+		ProfileOperation.printOpsPerSec(app.new General("Multi-Index 16",
+				FactoryAssociation.hammingMultiIndex(NUM_BITS, 16, 60),app.listDst),TEST_TIME);
+		ProfileOperation.printOpsPerSec(app.new General("Multi-Index 14",
+				FactoryAssociation.hammingMultiIndex(NUM_BITS, 14, 60),app.listDst),TEST_TIME);
+		// worst case for multi-index hashing since none of the features have a close match
+		ProfileOperation.printOpsPerSec(app.new General("Multi-Index 16 Unmatched",
+				FactoryAssociation.hammingMultiIndex(NUM_BITS, 16, 60),app.listUnmatched),TEST_TIME);
+	}
+}
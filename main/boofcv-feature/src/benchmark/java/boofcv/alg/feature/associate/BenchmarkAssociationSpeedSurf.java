@@ -20,6 +20,7 @@ package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.AssociateDescription;
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.abst.feature.associate.WrapAssociateGreedy;
 import boofcv.abst.feature.detdesc.DetectDescribePoint;
 import boofcv.factory.feature.associate.FactoryAssociation;
 import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
@@ -117,11 +118,19 @@ public class BenchmarkAssociationSpeedSurf {
 		int DOF = app.detector.createDescription().size();
 
 		ProfileOperation.printOpsPerSec(app.createProfile("Greedy",
-				FactoryAssociation.greedy(score, Double.MAX_VALUE,  false)),TEST_TIME);
+				new WrapAssociateGreedy<>(new AssociateGreedy<>(score, false))),TEST_TIME);
 		ProfileOperation.printOpsPerSec(app.createProfile("Greedy Backwards",
-				FactoryAssociation.greedy(score, Double.MAX_VALUE,  true)),TEST_TIME);
+				new WrapAssociateGreedy<>(new AssociateGreedy<>(score, true))),TEST_TIME);
+		ProfileOperation.printOpsPerSec(app.createProfile("Greedy MT",
+				new WrapAssociateGreedy<>(new AssociateGreedy_MT<>(score, false))),TEST_TIME);
+		ProfileOperation.printOpsPerSec(app.createProfile("Greedy Backwards MT",
+				new WrapAssociateGreedy<>(new AssociateGreedy_MT<>(score, true))),TEST_TIME);
 		ProfileOperation.printOpsPerSec(app.createProfile("Random Forest",
 				FactoryAssociation.kdRandomForest(DOF, 500, 15, 5, 1233445565)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(app.createProfile("KD-Forest Packed",
+				FactoryAssociation.kdForest(TupleDesc_F64.class, DOF, 500, 4, 5, 1233445565)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(app.createProfile("K-Means Tree",
+				FactoryAssociation.kmeansTree(TupleDesc_F64.class, DOF, 500, 32, 7, 1233445565)),TEST_TIME);
 		
 	}
 }
@@ -19,11 +19,18 @@
 package boofcv.alg.feature.detect.intensity;
 
 import boofcv.alg.feature.detect.intensity.impl.*;
+import boofcv.alg.filter.derivative.GradientSobel;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_S32;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
 
 import java.util.Random;
 
@@ -40,6 +47,9 @@ public class BenchmarkSsdCornerIntensity {
 
 	static GrayF32 intensity = new GrayF32(imgWidth,imgHeight);
 
+	static GrayF32 input_F32;
+	static GrayU8 input_U8;
+
 	static GrayF32 derivX_F32;
 	static GrayF32 derivY_F32;
 	static GrayF32 derivXX_F32;
@@ -115,6 +125,73 @@ public class BenchmarkSsdCornerIntensity {
 		}
 	}
 
+	/**
+	 * Gradient and intensity computed in separate passes from the input image
+	 */
+	public static class KLT_Image_F32 extends PerformerBase {
+		ImplShiTomasiCorner_F32 corner = new ImplShiTomasiCorner_F32(windowRadius);
+		GrayF32 derivX = new GrayF32(imgWidth,imgHeight);
+		GrayF32 derivY = new GrayF32(imgWidth,imgHeight);
+		ImageBorder_F32 border = (ImageBorder_F32)FactoryImageBorder.single(GrayF32.class, BorderType.EXTENDED);
+
+		@Override
+		public void process() {
+			GradientSobel.process(input_F32,derivX,derivY,border);
+			corner.process(derivX, derivY,intensity);
+		}
+	}
+
+	/**
+	 * Gradient and intensity computed in a single pass from the input image
+	 */
+	public static class KLT_Fused_F32 extends PerformerBase {
+		@Override
+		public void process() {
+			ImplCornerIntensityFused.shiTomasi(input_F32,windowRadius,intensity);
+		}
+	}
+
+	public static class KLT_Fused_MT_F32 extends PerformerBase {
+		@Override
+		public void process() {
+			ImplCornerIntensityFused_MT.shiTomasi(input_F32,windowRadius,intensity);
+		}
+	}
+
+	public static class KLT_Image_U8 extends PerformerBase {
+		ImplShiTomasiCorner_S16 corner = new ImplShiTomasiCorner_S16(windowRadius);
+		GrayS16 derivX = new GrayS16(imgWidth,imgHeight);
+		GrayS16 derivY = new GrayS16(imgWidth,imgHeight);
+		ImageBorder_S32<GrayU8> border = (ImageBorder_S32)FactoryImageBorder.single(GrayU8.class, BorderType.EXTENDED);
+
+		@Override
+		public void process() {
+			GradientSobel.process(input_U8,derivX,derivY,border);
+			corner.process(derivX, derivY,intensity);
+		}
+	}
+
+	public static class KLT_Fused_U8 extends PerformerBase {
+		@Override
+		public void process() {
+			ImplCornerIntensityFused.shiTomasi(input_U8,windowRadius,intensity);
+		}
+	}
+
+	public static class KLT_Fused_MT_U8 extends PerformerBase {
+		@Override
+		public void process() {
+			ImplCornerIntensityFused_MT.shiTomasi(input_U8,windowRadius,intensity);
+		}
+	}
+
+	public static class Harris_Fused_F32 extends PerformerBase {
+		@Override
+		public void process() {
+			ImplCornerIntensityFused.harris(input_F32,windowRadius,0.04f,intensity);
+		}
+	}
+
 	public static class KitRos_F32 extends PerformerBase {
 
 		@Override
@@ -132,6 +209,8 @@ public class BenchmarkSsdCornerIntensity {
 
 
 	public static void main(String args[]) {
+		input_F32 = new GrayF32(imgWidth, imgHeight);
+		input_U8 = new GrayU8(imgWidth, imgHeight);
 		derivX_F32 = new GrayF32(imgWidth, imgHeight);
 		derivY_F32 = new GrayF32(imgWidth, imgHeight);
 		derivXX_F32 = new GrayF32(imgWidth, imgHeight);
@@ -143,6 +222,8 @@ public class BenchmarkSsdCornerIntensity {
 		derivYY_I16 = new GrayS16(imgWidth, imgHeight);
 		derivXY_I16 = new GrayS16(imgWidth, imgHeight);
 
+		ImageMiscOps.fillUniform(input_F32, rand, 0, 255);
+		ImageMiscOps.fillUniform(input_U8, rand, 0, 255);
 		ImageMiscOps.fillUniform(derivX_F32, rand, 0, 255);
 		ImageMiscOps.fillUniform(derivY_F32, rand, 0, 255);
 		ImageMiscOps.fillUniform(derivXX_F32, rand, 0, 255);
@@ -167,5 +248,16 @@ public class BenchmarkSsdCornerIntensity {
 		ProfileOperation.printOpsPerSec(new KitRos_I16(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new KLT_Naive_I16(), TEST_TIME);
 
+		// computed from the input image. The gradient is included in the cost
+		System.out.println();
+		System.out.println("From input image. Threads "+BoofConcurrency.getMaxThreads());
+		ProfileOperation.printOpsPerSec(new KLT_Image_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new KLT_Fused_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new KLT_Fused_MT_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Harris_Fused_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new KLT_Image_U8(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new KLT_Fused_U8(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new KLT_Fused_MT_U8(), TEST_TIME);
+
 	}
 }
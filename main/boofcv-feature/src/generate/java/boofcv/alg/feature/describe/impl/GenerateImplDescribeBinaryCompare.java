@@ -53,12 +53,9 @@ public class GenerateImplDescribeBinaryCompare extends CodeGeneratorBase {
 		out.print("import boofcv.alg.feature.describe.DescribePointBinaryCompare;\n " +
 				"import boofcv.alg.feature.describe.DescribePointBrief;\n" +
 				"import boofcv.alg.feature.describe.brief.BinaryCompareDefinition_I32;\n" +
-				"import boofcv.struct.feature.TupleDesc_B;\n" +
 				"import boofcv.struct.image.*;\n" +
 				"import georegression.struct.point.Point2D_I32;\n" +
 				"\n" +
-				"import java.util.Arrays;\n" +
-				"\n" +
 				"/**\n" +
 				" * <p>\n" +
 				" * Implementation of {@link DescribePointBinaryCompare} for a specific image type.\n" +
@@ -82,10 +79,8 @@ public class GenerateImplDescribeBinaryCompare extends CodeGeneratorBase {
 		String sumType = imageType.getSumType();
 
 		out.print("\t@Override\n" +
-				"\tpublic void processInside( int c_x , int c_y , TupleDesc_B feature )\n" +
+				"\tpublic void processInside( int c_x , int c_y , int[] output , int offset )\n" +
 				"\t{\n" +
-				"\t\tArrays.fill(feature.data, 0);\n" +
-				"\n" +
 				"\t\tint index = image.startIndex + image.stride*c_y + c_x;\n" +
 				"\n" +
 				"\t\tfor( int i = 0; i < definition.compare.length; i += 32 ) {\n" +
@@ -104,14 +99,12 @@ public class GenerateImplDescribeBinaryCompare extends CodeGeneratorBase {
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
 				"\n" +
-				"\t\t\tfeature.data[ i/32 ] = desc;\n" +
+				"\t\t\toutput[ offset + i/32 ] = desc;\n" +
 				"\t\t}\n" +
 				"\t}\n\n");
 
 		out.print("\t@Override\n" +
-				"\tpublic void processBorder( int c_x , int c_y , TupleDesc_B feature ) {\n" +
-				"\t\tArrays.fill(feature.data, 0);\n" +
-				"\n" +
+				"\tpublic void processBorder( int c_x , int c_y , int[] output , int offset ) {\n" +
 				"\t\tint index = image.startIndex + image.stride*c_y + c_x;\n" +
 				"\n" +
 				"\t\tfor( int i = 0; i < definition.compare.length; i += 32 ) {\n" +
@@ -134,7 +127,7 @@ public class GenerateImplDescribeBinaryCompare extends CodeGeneratorBase {
 				"\t\t\t\t\t}\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
-				"\t\t\tfeature.data[ i/32 ] = desc;\n" +
+				"\t\t\toutput[ offset + i/32 ] = desc;\n" +
 				"\t\t}\n" +
 				"\t}\n\n");
 	}
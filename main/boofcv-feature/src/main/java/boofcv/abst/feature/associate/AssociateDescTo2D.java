@@ -20,6 +20,7 @@ package boofcv.abst.feature.associate;
 
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
 import georegression.struct.point.Point2D_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_I32;
@@ -47,6 +48,16 @@ public class AssociateDescTo2D<D> implements AssociateDescription2D<D> {
 		alg.setDestination(descriptions);
 	}
 
+	@Override
+	public void setSource(FastQueue<Point2D_F64> location, PackedTupleArray<D> descriptions) {
+		alg.setSource(descriptions);
+	}
+
+	@Override
+	public void setDestination(FastQueue<Point2D_F64> location, PackedTupleArray<D> descriptions) {
+		alg.setDestination(descriptions);
+	}
+
 	@Override
 	public void associate() {
 		alg.associate();
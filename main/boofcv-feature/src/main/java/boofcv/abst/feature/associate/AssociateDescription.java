@@ -18,6 +18,7 @@
 
 package boofcv.abst.feature.associate;
 
+import boofcv.struct.feature.PackedTupleArray;
 import org.ddogleg.struct.FastQueue;
 
 
@@ -58,4 +59,34 @@ public interface AssociateDescription<Desc> extends Associate {
 	 * @param listDst List of features
 	 */
 	public void setDestination( FastQueue<Desc> listDst );
+
+	/**
+	 * Sets the list of source features from a packed array. Implementations which operate directly on the packed
+	 * array override this function. The default implementation copies the descriptors into a new queue using
+	 * {@link PackedTupleArray#toQueue(FastQueue)}, which creates a new object for every feature. The queue is
+	 * only referenced by the association and the packed array keeps no reference to it.
+	 *
+	 * NOTE: A reference to the input array might be saved internally until the next call to this function.
+	 * The array must not be modified until association has finished.
+	 *
+	 * @param listSrc Packed array of features
+	 */
+	default void setSource( PackedTupleArray<Desc> listSrc ) {
+		setSource(listSrc.toQueue(null));
+	}
+
+	/**
+	 * Sets the list of destination features from a packed array. Implementations which operate directly on the
+	 * packed array override this function. The default implementation copies the descriptors into a new queue
+	 * using {@link PackedTupleArray#toQueue(FastQueue)}, which creates a new object for every feature. The queue is
+	 * only referenced by the association and the packed array keeps no reference to it.
+	 *
+	 * NOTE: A reference to the input array might be saved internally until the next call to this function.
+	 * The array must not be modified until association has finished.
+	 *
+	 * @param listDst Packed array of features
+	 */
+	default void setDestination( PackedTupleArray<Desc> listDst ) {
+		setDestination(listDst.toQueue(null));
+	}
 }
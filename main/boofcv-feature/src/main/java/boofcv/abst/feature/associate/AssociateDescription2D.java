@@ -18,6 +18,7 @@
 
 package boofcv.abst.feature.associate;
 
+import boofcv.struct.feature.PackedTupleArray;
 import georegression.struct.point.Point2D_F64;
 import org.ddogleg.struct.FastQueue;
 
@@ -47,4 +48,26 @@ public interface AssociateDescription2D<Desc> extends Associate {
 	 * @param descriptions Feature descriptions.
 	 */
 	public void setDestination( FastQueue<Point2D_F64> location , FastQueue<Desc> descriptions );
+
+	/**
+	 * Provide the location and descriptions for source features using a packed array. The default implementation
+	 * copies the descriptions into a new queue using {@link PackedTupleArray#toQueue(FastQueue)}.
+	 *
+	 * @param location Feature locations.
+	 * @param descriptions Feature descriptions.
+	 */
+	default void setSource( FastQueue<Point2D_F64> location , PackedTupleArray<Desc> descriptions ) {
+		setSource(location, descriptions.toQueue(null));
+	}
+
+	/**
+	 * Provide the location and descriptions for destination features using a packed array. The default
+	 * implementation copies the descriptions into a new queue using {@link PackedTupleArray#toQueue(FastQueue)}.
+	 *
+	 * @param location Feature locations.
+	 * @param descriptions Feature descriptions.
+	 */
+	default void setDestination( FastQueue<Point2D_F64> location , PackedTupleArray<Desc> descriptions ) {
+		setDestination(location, descriptions.toQueue(null));
+	}
 }
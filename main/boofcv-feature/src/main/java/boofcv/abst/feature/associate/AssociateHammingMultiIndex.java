@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.FindUnassociated;
+import boofcv.alg.feature.associate.nn.HammingMultiIndex;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * Matches binary features using {@link HammingMultiIndex}. The source features are added to the index and
+ * all the destination features are then searched for as a single batch, in parallel when concurrency is turned on.
+ * The fit score is the Hamming distance. Multiple matches for source features are possible while there will only
+ * be a unique match for each destination feature. When features are provided in a {@link PackedTupleArray_B}
+ * they are read directly from its array.
+ *
+ * <p>
+ * Instead of calling {@link #setSource} the index can be modified directly using {@link #getIndex()}. This avoids
+ * rebuilding it when only a few features change, e.g. a map of landmarks. The source index in a match is then
+ * the ID assigned by the index.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateHammingMultiIndex implements AssociateDescription<TupleDesc_B> {
+
+	private HammingMultiIndex index;
+
+	// list of features in destination set that are to be searched for in the source list
+	private FastQueue<TupleDesc_B> listDst;
+	// used instead of listDst when the destination features are packed
+	private PackedTupleArray_B packedDst;
+	// number of destination features in the last call to associate
+	private int numDst;
+	// packed arrays of an unknown type are copied into these queues. Declared the first time they're needed
+	private FastQueue<TupleDesc_B> queueSrc, queueDst;
+
+	// results of the search
+	private GrowQueue_I32 bestSrc = new GrowQueue_I32();
+	private GrowQueue_I32 bestDistance = new GrowQueue_I32();
+
+	// List of final associated points
+	private FastQueue<AssociatedIndex> matches = new FastQueue<>(100, AssociatedIndex.class, true);
+
+	// creates a list of unassociated features from the list of matches
+	private FindUnassociated unassociated = new FindUnassociated();
+	private GrowQueue_I32 unassociatedSrc = new GrowQueue_I32();
+
+	// maximum Hamming distance between two features. If negative there is no limit
+	private int maxDistance = -1;
+
+	public AssociateHammingMultiIndex( HammingMultiIndex index ) {
+		this.index = index;
+	}
+
+	@Override
+	public void setSource( FastQueue<TupleDesc_B> listSrc ) {
+		index.reset();
+		for (int i = 0; i < listSrc.size; i++) {
+			index.add(listSrc.data[i]);
+		}
+	}
+
+	/**
+	 * If the input is a {@link PackedTupleArray_B} then descriptors are added to the index directly from its array
+	 */
+	@Override
+	public void setSource( PackedTupleArray<TupleDesc_B> listSrc ) {
+		if( !(listSrc instanceof PackedTupleArray_B) ) {
+			queueSrc = listSrc.toQueue(queueSrc);
+			setSource(queueSrc);
+			return;
+		}
+		PackedTupleArray_B packed = (PackedTupleArray_B)listSrc;
+		if( packed.getDof() != index.getNumBits() )
+			throw new IllegalArgumentException("Unexpected number of bits. "+packed.getDof()+" != "+index.getNumBits());
+		index.reset();
+		int numInts = packed.getNumInts();
+		for (int i = 0; i < packed.size(); i++) {
+			index.add(packed.data,i*numInts);
+		}
+	}
+
+	@Override
+	public void setDestination( FastQueue<TupleDesc_B> listDst ) {
+		this.listDst = listDst;
+		this.packedDst = null;
+	}
+
+	/**
+	 * If the input is a {@link PackedTupleArray_B} then the queries are read directly from its array
+	 */
+	@Override
+	public void setDestination( PackedTupleArray<TupleDesc_B> listDst ) {
+		if( !(listDst instanceof PackedTupleArray_B) ) {
+			queueDst = listDst.toQueue(queueDst);
+			setDestination(queueDst);
+			return;
+		}
+		this.listDst = null;
+		this.packedDst = (PackedTupleArray_B)listDst;
+	}
+
+	@Override
+	public void associate() {
+		if( packedDst == null ) {
+			numDst = listDst.size;
+			index.findNearest(listDst,1,maxDistance,bestSrc,bestDistance);
+		} else {
+			numDst = packedDst.size();
+			index.findNearest(packedDst,1,maxDistance,bestSrc,bestDistance);
+		}
+
+		matches.reset();
+		for( int i = 0; i < numDst; i++ ) {
+			int indexSrc = bestSrc.data[i];
+			if( indexSrc < 0 )
+				continue;
+			matches.grow().setAssociation(indexSrc,i,bestDistance.data[i]);
+		}
+	}
+
+	@Override
+	public FastQueue<AssociatedIndex> getMatches() {
+		return matches;
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedSource() {
+		GrowQueue_I32 found = unassociated.checkSource(matches,index.getIdLimit());
+
+		// IDs which have been removed from the index are not features
+		unassociatedSrc.reset();
+		for (int i = 0; i < found.size; i++) {
+			if( index.isActive(found.data[i]) )
+				unassociatedSrc.add(found.data[i]);
+		}
+		return unassociatedSrc;
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedDestination() {
+		return unassociated.checkDestination(matches,numDst);
+	}
+
+	@Override
+	public void setThreshold(double score) {
+		this.maxDistance = score < 0 ? -1 : (int)score;
+	}
+
+	@Override
+	public MatchScoreType getScoreType() {
+		return MatchScoreType.NORM_ERROR;
+	}
+
+	@Override
+	public boolean uniqueSource() {
+		return false;
+	}
+
+	@Override
+	public boolean uniqueDestination() {
+		return true;
+	}
+
+	public HammingMultiIndex getIndex() {
+		return index;
+	}
+}
@@ -21,6 +21,8 @@ package boofcv.abst.feature.associate;
 import boofcv.alg.feature.associate.FindUnassociated;
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.nn.NearestNeighbor;
 import org.ddogleg.nn.NnData;
@@ -49,12 +51,20 @@ public class AssociateNearestNeighbor<D extends TupleDesc_F64>
 
 	// list of features in destination set that are to be searched for in the source list
 	private FastQueue<D> listDst;
+	// packed destination features. Only one of listDst and packedDst is set
+	private PackedTupleArray_F64 packedDst;
 
 	// List of indexes.  Passed in as data associated with source points
 	private FastQueue<Integer> indexes = new FastQueue<>(0, Integer.class, false);
 
 	// storage for source points
 	private List<double[]> src = new ArrayList<>();
+	// recycled arrays which source points in a packed array are copied into
+	private List<double[]> srcStorage = new ArrayList<>();
+	// work space for a destination point in a packed array
+	private double[] workDst = new double[0];
+	// packed arrays of an unknown type are copied into these queues. Declared the first time they're needed
+	private FastQueue<D> queueSrc, queueDst;
 
 	// List of final associated points
 	private FastQueue<AssociatedIndex> matches = new FastQueue<>(100, AssociatedIndex.class, true);
@@ -72,18 +82,7 @@ public class AssociateNearestNeighbor<D extends TupleDesc_F64>
 
 	@Override
 	public void setSource(FastQueue<D> listSrc) {
-		// grow the index list while copying over old values
-		if( indexes.data.length < listSrc.size() ) {
-			Integer a[] = new Integer[listSrc.size()];
-			System.arraycopy(indexes.data,0,a,0,indexes.data.length);
-			for( int i = indexes.data.length; i < a.length; i++ ) {
-				a[i] = i;
-			}
-			indexes.data = a;
-			indexes.size = a.length;
-		} else {
-			indexes.size = listSrc.size();
-		}
+		declareIndexes(listSrc.size());
 
 		// put all the arrays into a list
 		src.clear();
@@ -94,23 +93,98 @@ public class AssociateNearestNeighbor<D extends TupleDesc_F64>
 		alg.setPoints(src,indexes.toList());
 	}
 
+	/**
+	 * If the input is a {@link PackedTupleArray_F64} then each point is copied into an array which is recycled
+	 * between calls, instead of creating a new descriptor for each point.
+	 */
+	@Override
+	public void setSource( PackedTupleArray<D> listSrc ) {
+		if( !(listSrc instanceof PackedTupleArray_F64) ) {
+			queueSrc = listSrc.toQueue(queueSrc);
+			setSource(queueSrc);
+			return;
+		}
+		PackedTupleArray_F64 packed = (PackedTupleArray_F64)listSrc;
+		final int dof = packed.getDof();
+		declareIndexes(packed.size());
+
+		src.clear();
+		for( int i = 0; i < packed.size(); i++ ) {
+			if( srcStorage.size() <= i )
+				srcStorage.add(new double[dof]);
+			else if( srcStorage.get(i).length != dof )
+				srcStorage.set(i,new double[dof]);
+			double[] point = srcStorage.get(i);
+			System.arraycopy(packed.data,i*dof,point,0,dof);
+			src.add(point);
+		}
+
+		alg.setPoints(src,indexes.toList());
+	}
+
+	/**
+	 * Grows the index list while copying over old values
+	 */
+	private void declareIndexes( int size ) {
+		if( indexes.data.length < size ) {
+			Integer a[] = new Integer[size];
+			System.arraycopy(indexes.data,0,a,0,indexes.data.length);
+			for( int i = indexes.data.length; i < a.length; i++ ) {
+				a[i] = i;
+			}
+			indexes.data = a;
+			indexes.size = a.length;
+		} else {
+			indexes.size = size;
+		}
+	}
+
 	@Override
 	public void setDestination(FastQueue<D> listDst) {
 		this.listDst = listDst;
+		this.packedDst = null;
+	}
+
+	/**
+	 * If the input is a {@link PackedTupleArray_F64} then each point is copied into a work space array when
+	 * it's looked up.
+	 */
+	@Override
+	public void setDestination( PackedTupleArray<D> listDst ) {
+		if( !(listDst instanceof PackedTupleArray_F64) ) {
+			queueDst = listDst.toQueue(queueDst);
+			setDestination(queueDst);
+			return;
+		}
+		this.listDst = null;
+		this.packedDst = (PackedTupleArray_F64)listDst;
 	}
 
 	@Override
 	public void associate() {
 
 		matches.reset();
-		for( int i = 0; i < listDst.size; i++ ) {
-			if( !alg.findNearest(listDst.data[i].value, maxDistanceSq,result) )
-				continue;
-			// get the index of the source feature
-			int indexSrc = result.data;
-			matches.grow().setAssociation(indexSrc,i,result.distance);
+		if( packedDst == null ) {
+			for( int i = 0; i < listDst.size; i++ ) {
+				findNearest(i,listDst.data[i].value);
+			}
+		} else {
+			final int dof = packedDst.getDof();
+			if( workDst.length != dof )
+				workDst = new double[dof];
+			for( int i = 0; i < packedDst.size(); i++ ) {
+				System.arraycopy(packedDst.data,i*dof,workDst,0,dof);
+				findNearest(i,workDst);
+			}
 		}
+	}
 
+	private void findNearest( int indexDst , double[] point ) {
+		if( !alg.findNearest(point, maxDistanceSq,result) )
+			return;
+		// get the index of the source feature
+		int indexSrc = result.data;
+		matches.grow().setAssociation(indexSrc,indexDst,result.distance);
 	}
 
 	@Override
@@ -125,7 +199,8 @@ public class AssociateNearestNeighbor<D extends TupleDesc_F64>
 
 	@Override
 	public GrowQueue_I32 getUnassociatedDestination() {
-		return unassociated.checkDestination(matches,listDst.size());
+		int numDst = packedDst == null ? listDst.size() : packedDst.size();
+		return unassociated.checkDestination(matches,numDst);
 	}
 
 	@Override
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.FindUnassociated;
+import boofcv.alg.feature.associate.nn.NnIndex;
+import boofcv.alg.feature.associate.nn.NnIndexSearch;
+import boofcv.alg.feature.associate.nn.NnPointSet;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * Matches features using an approximate nearest neighbor {@link NnIndex}. The source features are copied into
+ * a packed {@link NnPointSet} and the index is constructed from them. Each destination feature is then looked up
+ * in the index. The number of points which are checked in each search is specified by maxChecks, larger values
+ * increase the chance of the true nearest neighbor being found at the cost of speed. Multiple matches for
+ * source features are possible while there will only be a unique match for each destination feature.
+ * Features can be provided in a {@link PackedTupleArray}, in which case no descriptor objects are created.
+ *
+ * @see AssociateNnIndex_MT
+ *
+ * @param <D> Feature description type.
+ *
+ * @author Peter Abeles
+ */
+public class AssociateNnIndex<D> implements AssociateDescription<D> {
+
+	// Nearest neighbor index and the points it searches
+	protected NnIndex<D> index;
+	protected NnPointSet<D> points;
+
+	// maximum number of points checked in each search
+	protected int maxChecks;
+
+	// list of features in destination set that are to be searched for in the source list
+	protected FastQueue<D> listDst;
+	// used instead of listDst when the destination features are packed
+	protected PackedTupleArray<D> packedDst;
+	// number of destination features in the last call to associate
+	protected int numDst;
+
+	// Index of the best source feature and distance for each destination feature. -1 if no match
+	protected GrowQueue_I32 bestSrc = new GrowQueue_I32();
+	protected GrowQueue_F64 bestDistance = new GrowQueue_F64();
+
+	// List of final associated points
+	private FastQueue<AssociatedIndex> matches = new FastQueue<>(100, AssociatedIndex.class, true);
+
+	// creates a list of unassociated features from the list of matches
+	private FindUnassociated unassociated = new FindUnassociated();
+
+	// maximum distance away two points can be
+	protected double maxDistanceSq = -1;
+
+	// search used by the single threaded implementation
+	private NnIndexSearch<D> search;
+
+	/**
+	 * Configures association
+	 *
+	 * @param index The nearest neighbor index
+	 * @param points Storage for the source features
+	 * @param maxChecks Maximum number of points checked in each search. Controls speed and accuracy.
+	 */
+	public AssociateNnIndex( NnIndex<D> index , NnPointSet<D> points , int maxChecks ) {
+		this.index = index;
+		this.points = points;
+		this.maxChecks = maxChecks;
+	}
+
+	@Override
+	public void setSource( FastQueue<D> listSrc ) {
+		points.setTo(listSrc);
+		index.setPoints(points);
+	}
+
+	@Override
+	public void setSource( PackedTupleArray<D> listSrc ) {
+		points.setTo(listSrc);
+		index.setPoints(points);
+	}
+
+	@Override
+	public void setDestination( FastQueue<D> listDst ) {
+		this.listDst = listDst;
+		this.packedDst = null;
+	}
+
+	@Override
+	public void setDestination( PackedTupleArray<D> listDst ) {
+		this.listDst = null;
+		this.packedDst = listDst;
+	}
+
+	@Override
+	public void associate() {
+		numDst = packedDst == null ? listDst.size : packedDst.size();
+		bestSrc.resize(numDst);
+		bestDistance.resize(numDst);
+
+		if( search == null )
+			search = index.createSearch();
+		findNearest(search,createWorkspace(),0,numDst);
+
+		createMatches();
+	}
+
+	/**
+	 * Creates storage for a destination descriptor when they are packed, otherwise null
+	 */
+	protected D createWorkspace() {
+		return packedDst == null ? null : packedDst.createDescription();
+	}
+
+	/**
+	 * Finds the nearest source feature to each destination feature in the range
+	 *
+	 * @param workspace Storage for packed destination descriptors. Not used if they are not packed.
+	 */
+	protected void findNearest( NnIndexSearch<D> search , D workspace , int idx0 , int idx1 ) {
+		for (int i = idx0; i < idx1; i++) {
+			D query;
+			if( packedDst == null ) {
+				query = listDst.data[i];
+			} else {
+				packedDst.getCopy(i,workspace);
+				query = workspace;
+			}
+			bestSrc.data[i] = search.findNearest(query,maxDistanceSq,maxChecks);
+			bestDistance.data[i] = search.getDistanceSq();
+		}
+	}
+
+	/**
+	 * Converts the results of each search into a list of matches
+	 */
+	protected void createMatches() {
+		matches.reset();
+		for( int i = 0; i < numDst; i++ ) {
+			int indexSrc = bestSrc.data[i];
+			if( indexSrc < 0 )
+				continue;
+			matches.grow().setAssociation(indexSrc,i,bestDistance.data[i]);
+		}
+	}
+
+	@Override
+	public FastQueue<AssociatedIndex> getMatches() {
+		return matches;
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedSource() {
+		return unassociated.checkSource(matches,points.size());
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedDestination() {
+		return unassociated.checkDestination(matches,numDst);
+	}
+
+	@Override
+	public void setThreshold(double score) {
+		// NN uses Euclidean distance squared
+		this.maxDistanceSq = score < 0 ? score : score*score;
+	}
+
+	@Override
+	public MatchScoreType getScoreType() {
+		return MatchScoreType.NORM_ERROR;
+	}
+
+	@Override
+	public boolean uniqueSource() {
+		return false;
+	}
+
+	@Override
+	public boolean uniqueDestination() {
+		return true;
+	}
+
+	public int getMaxChecks() {
+		return maxChecks;
+	}
+
+	public void setMaxChecks( int maxChecks ) {
+		this.maxChecks = maxChecks;
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.nn.NnIndex;
+import boofcv.alg.feature.associate.nn.NnIndexSearch;
+import boofcv.alg.feature.associate.nn.NnPointSet;
+import boofcv.concurrency.BoofConcurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Concurrent implementation of {@link AssociateNnIndex}. The destination features are split into batches
+ * which are searched in parallel, each with its own {@link NnIndexSearch}. Results are identical to the single
+ * threaded implementation.
+ *
+ * @param <D> Feature description type.
+ *
+ * @author Peter Abeles
+ */
+public class AssociateNnIndex_MT<D> extends AssociateNnIndex<D> {
+
+	// a search for each batch. Searches are not thread safe
+	private List<NnIndexSearch<D>> searches = new ArrayList<>();
+
+	public AssociateNnIndex_MT( NnIndex<D> index , NnPointSet<D> points , int maxChecks ) {
+		super(index, points, maxChecks);
+	}
+
+	@Override
+	public void associate() {
+		numDst = packedDst == null ? listDst.size : packedDst.size();
+		bestSrc.resize(numDst);
+		bestDistance.resize(numDst);
+
+		final int numBlocks = Math.max(1,Math.min(numDst,BoofConcurrency.getMaxThreads()));
+		while( searches.size() < numBlocks ) {
+			searches.add(index.createSearch());
+		}
+
+		BoofConcurrency.loopFor(0,numBlocks,block->{
+			int idx0 = block*numDst/numBlocks;
+			int idx1 = (block+1)*numDst/numBlocks;
+			findNearest(searches.get(block),createWorkspace(),idx0,idx1);
+		});
+
+		createMatches();
+	}
+}
@@ -22,6 +22,7 @@ import boofcv.alg.feature.associate.AssociateUniqueByScoreAlg;
 import boofcv.alg.feature.associate.FindUnassociated;
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
 import georegression.struct.point.Point2D_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_I32;
@@ -140,6 +141,18 @@ public class EnforceUniqueByScore<A extends Associate> implements Associate {
 			association.setDestination(listDst);
 			numDestination = listDst.size;
 		}
+
+		@Override
+		public void setSource(PackedTupleArray<Desc> listSrc) {
+			association.setSource(listSrc);
+			numSource = listSrc.size();
+		}
+
+		@Override
+		public void setDestination(PackedTupleArray<Desc> listDst) {
+			association.setDestination(listDst);
+			numDestination = listDst.size();
+		}
 	}
 
 	/**
@@ -165,5 +178,17 @@ public class EnforceUniqueByScore<A extends Associate> implements Associate {
 			association.setDestination(location, listDst);
 			numDestination = listDst.size;
 		}
+
+		@Override
+		public void setSource( FastQueue<Point2D_F64> location , PackedTupleArray<Desc> listSrc) {
+			association.setSource(location, listSrc);
+			numSource = listSrc.size();
+		}
+
+		@Override
+		public void setDestination( FastQueue<Point2D_F64> location , PackedTupleArray<Desc> listDst) {
+			association.setDestination(location, listDst);
+			numDestination = listDst.size();
+		}
 	}
 }
@@ -20,20 +20,39 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.feature.TupleDesc_F64;
 
 
 /**
  * Scores based on Euclidean distance squared
  *
- * @see DescriptorDistance#euclideanSq(TupleDesc_F64, TupleDesc_F64)
+ * @see DescriptorDistance#euclideanSq(double[], int, double[], int, int)
  *
  * @author Peter Abeles
  */
 public class ScoreAssociateEuclideanSq_F64 implements ScoreAssociation<TupleDesc_F64> {
 	@Override
 	public double score(TupleDesc_F64 a, TupleDesc_F64 b) {
-		return DescriptorDistance.euclideanSq(a, b);
+		return DescriptorDistance.euclideanSq(a.value,0,b.value,0,a.value.length);
+	}
+
+	/**
+	 * If the input is a {@link PackedTupleArray_F64} then the scores are computed directly from its array
+	 */
+	@Override
+	public void score( TupleDesc_F64 a , PackedTupleArray<TupleDesc_F64> packed , int first , int count ,
+					   TupleDesc_F64 workspace , double[] scores , int offsetScores ) {
+		if( !(packed instanceof PackedTupleArray_F64) ) {
+			ScoreAssociation.super.score(a,packed,first,count,workspace,scores,offsetScores);
+			return;
+		}
+		PackedTupleArray_F64 p = (PackedTupleArray_F64)packed;
+		final int dof = a.value.length;
+		for (int i = 0; i < count; i++) {
+			scores[offsetScores+i] = DescriptorDistance.euclideanSq(a.value,0,p.data,(first+i)*dof,dof);
+		}
 	}
 
 	@Override
@@ -20,6 +20,8 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
 
 /**
@@ -35,6 +37,23 @@ public class ScoreAssociateHamming_B implements ScoreAssociation<TupleDesc_B>{
 		return DescriptorDistance.hamming(a,b);
 	}
 
+	/**
+	 * If the input is a {@link PackedTupleArray_B} then the scores are computed directly from its array
+	 */
+	@Override
+	public void score( TupleDesc_B a , PackedTupleArray<TupleDesc_B> packed , int first , int count ,
+					   TupleDesc_B workspace , double[] scores , int offsetScores ) {
+		if( !(packed instanceof PackedTupleArray_B) ) {
+			ScoreAssociation.super.score(a,packed,first,count,workspace,scores,offsetScores);
+			return;
+		}
+		PackedTupleArray_B p = (PackedTupleArray_B)packed;
+		final int numInts = p.getNumInts();
+		for (int i = 0; i < count; i++) {
+			scores[offsetScores+i] = DescriptorDistance.hamming(a.data,0,p.data,(first+i)*numInts,numInts);
+		}
+	}
+
 	@Override
 	public MatchScoreType getScoreType() {
 		return MatchScoreType.NORM_ERROR;
@@ -20,6 +20,8 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_F32;
 import boofcv.struct.feature.TupleDesc_F32;
 
 /**
@@ -30,8 +32,24 @@ import boofcv.struct.feature.TupleDesc_F32;
 public class ScoreAssociateSad_F32 implements ScoreAssociation<TupleDesc_F32>{
 	@Override
 	public double score(TupleDesc_F32 a, TupleDesc_F32 b) {
+		return DescriptorDistance.sad(a.value,0,b.value,0,a.value.length);
+	}
 
-		return DescriptorDistance.sad(a, b);
+	/**
+	 * If the input is a {@link PackedTupleArray_F32} then the scores are computed directly from its array
+	 */
+	@Override
+	public void score( TupleDesc_F32 a , PackedTupleArray<TupleDesc_F32> packed , int first , int count ,
+					   TupleDesc_F32 workspace , double[] scores , int offsetScores ) {
+		if( !(packed instanceof PackedTupleArray_F32) ) {
+			ScoreAssociation.super.score(a,packed,first,count,workspace,scores,offsetScores);
+			return;
+		}
+		PackedTupleArray_F32 p = (PackedTupleArray_F32)packed;
+		final int dof = a.value.length;
+		for (int i = 0; i < count; i++) {
+			scores[offsetScores+i] = DescriptorDistance.sad(a.value,0,p.data,(first+i)*dof,dof);
+		}
 	}
 
 	@Override
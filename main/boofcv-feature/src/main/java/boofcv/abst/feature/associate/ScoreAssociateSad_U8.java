@@ -20,6 +20,8 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_U8;
 import boofcv.struct.feature.TupleDesc_U8;
 
 /**
@@ -34,6 +36,23 @@ public class ScoreAssociateSad_U8 implements ScoreAssociation<TupleDesc_U8>{
 		return DescriptorDistance.sad(a, b);
 	}
 
+	/**
+	 * If the input is a {@link PackedTupleArray_U8} then the scores are computed directly from its array
+	 */
+	@Override
+	public void score( TupleDesc_U8 a , PackedTupleArray<TupleDesc_U8> packed , int first , int count ,
+					   TupleDesc_U8 workspace , double[] scores , int offsetScores ) {
+		if( !(packed instanceof PackedTupleArray_U8) ) {
+			ScoreAssociation.super.score(a,packed,first,count,workspace,scores,offsetScores);
+			return;
+		}
+		PackedTupleArray_U8 p = (PackedTupleArray_U8)packed;
+		final int dof = a.value.length;
+		for (int i = 0; i < count; i++) {
+			scores[offsetScores+i] = DescriptorDistance.sad(a.value,0,p.data,(first+i)*dof,dof);
+		}
+	}
+
 	@Override
 	public MatchScoreType getScoreType() {
 		return MatchScoreType.NORM_ERROR;
@@ -19,6 +19,7 @@
 package boofcv.abst.feature.associate;
 
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
 
 /**
  * Scores the fit quality between two feature descriptions.  A lower score always indicate a better match a larger one.
@@ -43,6 +44,28 @@ public interface ScoreAssociation<Desc> {
 	 */
 	public double score( Desc a , Desc b );
 
+	/**
+	 * Computes the fit score between a feature and a sequence of features inside a packed array. The default
+	 * implementation copies each packed feature into the work space and calls {@link #score(Object, Object)}.
+	 * Implementations override this when they can compute the score directly from the packed array. Either
+	 * way the scores must be identical to the ones computed by {@link #score(Object, Object)}.
+	 *
+	 * @param a first feature
+	 * @param packed Packed array containing the second features
+	 * @param first Index of the first packed feature
+	 * @param count Number of packed features which are scored
+	 * @param workspace Storage for a copy of a packed feature. Might not be used.
+	 * @param scores (Output) scores[offsetScores+i] is the fit score against packed feature first+i
+	 * @param offsetScores First element in scores that's written to
+	 */
+	default void score( Desc a , PackedTupleArray<Desc> packed , int first , int count ,
+						Desc workspace , double[] scores , int offsetScores ) {
+		for (int i = 0; i < count; i++) {
+			packed.getCopy(first+i,workspace);
+			scores[offsetScores+i] = score(a,workspace);
+		}
+	}
+
 	/**
 	 * Specifies the type of score which is returned.
 	 *
@@ -22,6 +22,8 @@ import boofcv.alg.feature.associate.AssociateGreedy;
 import boofcv.alg.feature.associate.FindUnassociated;
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.TupleDesc;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_I32;
 
@@ -37,9 +39,14 @@ public class WrapAssociateGreedy<T> implements AssociateDescription<T> {
 
 	FastQueue<AssociatedIndex> matches = new FastQueue<>(10, AssociatedIndex.class, true);
 
-	// reference to input list
+	// reference to input list. Only one of the list or packed array is set
 	FastQueue<T> listSrc;
 	FastQueue<T> listDst;
+	PackedTupleArray<T> packedSrc;
+	PackedTupleArray<T> packedDst;
+
+	// work space which a packed array is copied into when the input is mixed. Declared the first time it's needed
+	FastQueue<T> workSrc, workDst;
 
 	// indexes of unassociated features
 	GrowQueue_I32 unassocSrc = new GrowQueue_I32();
@@ -57,11 +64,48 @@ public class WrapAssociateGreedy<T> implements AssociateDescription<T> {
 	@Override
 	public void setSource(FastQueue<T> listSrc) {
 		this.listSrc = listSrc;
+		this.packedSrc = null;
 	}
 
 	@Override
 	public void setDestination(FastQueue<T> listDst) {
 		this.listDst = listDst;
+		this.packedDst = null;
+	}
+
+	/**
+	 * Features are scored directly from the packed array.
+	 *
+	 * @see AssociateGreedy#associate(PackedTupleArray, PackedTupleArray)
+	 */
+	@Override
+	public void setSource(PackedTupleArray<T> listSrc) {
+		this.listSrc = null;
+		this.packedSrc = listSrc;
+	}
+
+	/**
+	 * Features are scored directly from the packed array.
+	 *
+	 * @see AssociateGreedy#associate(PackedTupleArray, PackedTupleArray)
+	 */
+	@Override
+	public void setDestination(PackedTupleArray<T> listDst) {
+		this.listDst = null;
+		this.packedDst = listDst;
+	}
+
+	/**
+	 * Returns the work queue if its descriptors can hold the packed descriptors, otherwise null so that a new
+	 * one is declared
+	 */
+	private FastQueue<T> recycle( FastQueue<T> work , PackedTupleArray<T> packed ) {
+		if( work == null || work.data.length == 0 )
+			return work;
+		T desc = work.data[0];
+		if( desc instanceof TupleDesc && ((TupleDesc)desc).size() != packed.getDof() )
+			return null;
+		return work;
 	}
 
 	@Override
@@ -71,19 +115,29 @@ public class WrapAssociateGreedy<T> implements AssociateDescription<T> {
 
 	@Override
 	public void associate() {
-		if( listSrc == null )
+		if( listSrc == null && packedSrc == null )
 			throw new IllegalArgumentException("source features not specified");
-		if( listDst == null )
+		if( listDst == null && packedDst == null )
 			throw new IllegalArgumentException("destination features not specified");
 
 		unassocSrc.reset();
-		alg.associate(listSrc,listDst);
+		if( packedSrc != null && packedDst != null ) {
+			alg.associate(packedSrc,packedDst);
+		} else {
+			// mixed input. Copy the packed array into a queue which is recycled between calls
+			if( listSrc == null )
+				workSrc = packedSrc.toQueue(recycle(workSrc,packedSrc));
+			if( listDst == null )
+				workDst = packedDst.toQueue(recycle(workDst,packedDst));
+			alg.associate(listSrc != null ? listSrc : workSrc, listDst != null ? listDst : workDst);
+		}
 
 		int pairs[] = alg.getPairs();
 		double score[] = alg.getFitQuality();
 
 		matches.reset();
-		for( int i = 0; i < listSrc.size; i++ ) {
+		int numSrc = listSrc != null ? listSrc.size : packedSrc.size();
+		for( int i = 0; i < numSrc; i++ ) {
 			int dst = pairs[i];
 			if( dst >= 0 )
 				matches.grow().setAssociation(i,dst,score[i]);
@@ -99,7 +153,8 @@ public class WrapAssociateGreedy<T> implements AssociateDescription<T> {
 
 	@Override
 	public GrowQueue_I32 getUnassociatedDestination() {
-		return unassociated.checkDestination(matches,listDst.size);
+		int numDst = listDst != null ? listDst.size : packedDst.size();
+		return unassociated.checkDestination(matches,numDst);
 	}
 
 	@Override
@@ -23,6 +23,7 @@ import boofcv.alg.feature.associate.FindUnassociated;
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.BrightFeature;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_I32;
 
@@ -52,6 +53,26 @@ public class WrapAssociateSurfBasic implements AssociateDescription<BrightFeatur
 		alg.setDst(listDst);
 	}
 
+	/**
+	 * Features are split by sign into packed arrays without creating an object for each feature.
+	 *
+	 * @see AssociateSurfBasic#setSrc(PackedTupleArray)
+	 */
+	@Override
+	public void setSource(PackedTupleArray<BrightFeature> listSrc) {
+		alg.setSrc(listSrc);
+	}
+
+	/**
+	 * Features are split by sign into packed arrays without creating an object for each feature.
+	 *
+	 * @see AssociateSurfBasic#setDst(PackedTupleArray)
+	 */
+	@Override
+	public void setDestination(PackedTupleArray<BrightFeature> listDst) {
+		alg.setDst(listDst);
+	}
+
 	@Override
 	public void associate() {
 		alg.associate();
@@ -18,6 +18,7 @@
 
 package boofcv.abst.feature.describe;
 
+import boofcv.struct.feature.PackedTupleArray;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
@@ -55,6 +56,25 @@ public interface DescribeRegionPoint<T extends ImageBase<T>, Desc extends TupleD
 	 */
 	boolean process( double x , double y , double orientation , double radius , Desc description );
 
+	/**
+	 * Extract a description of the local image at the given point and appends it to the end of the packed array.
+	 * Nothing is added if a description can't be computed. The work space is used to store the descriptor
+	 * before it is copied, allowing the same one to be used for every feature.
+	 *
+	 * @see #process(double, double, double, double, TupleDesc)
+	 *
+	 * @param workspace (Input) Storage for the descriptor before it's copied. Use {@link #createDescription}.
+	 * @param output (Output) Storage for all the computed descriptors. Modified.
+	 * @return true if a descriptor can computed or false if not.
+	 */
+	default boolean process( double x , double y , double orientation , double radius ,
+							 Desc workspace , PackedTupleArray<? super Desc> output ) {
+		if( !process(x,y,orientation,radius,workspace) )
+			return false;
+		output.append(workspace);
+		return true;
+	}
+
 	/**
 	 * If size information is used when computing the descriptor.
 	 *
@@ -19,6 +19,8 @@
 package boofcv.abst.feature.describe;
 
 import boofcv.alg.feature.describe.DescribePointBrief;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
@@ -54,6 +56,24 @@ public class WrapDescribeBrief<T extends ImageGray<T>> implements DescribeRegion
 		return true;
 	}
 
+	/**
+	 * If the output is a {@link PackedTupleArray_B} then the descriptor is written directly into its array and
+	 * the work space isn't used.
+	 */
+	@Override
+	public boolean process(double x, double y, double orientation, double radius,
+						   TupleDesc_B workspace, PackedTupleArray<? super TupleDesc_B> output) {
+		if( !(output instanceof PackedTupleArray_B) )
+			return DescribeRegionPoint.super.process(x, y, orientation, radius, workspace, output);
+
+		PackedTupleArray_B packed = (PackedTupleArray_B)output;
+		if( packed.getDof() != length )
+			throw new IllegalArgumentException("Unexpected number of bits. "+packed.getDof()+" != "+length);
+		int offset = packed.grow();
+		alg.process(x, y, packed.data, offset);
+		return true;
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return false;
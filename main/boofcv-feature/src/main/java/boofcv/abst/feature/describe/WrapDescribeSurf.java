@@ -22,6 +22,9 @@ import boofcv.alg.feature.describe.DescribePointSurf;
 import boofcv.alg.transform.ii.GIntegralImageOps;
 import boofcv.struct.BoofDefaults;
 import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_Bright;
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
 
@@ -69,6 +72,37 @@ public class WrapDescribeSurf<T extends ImageGray<T>, II extends ImageGray<II>>
 		return true;
 	}
 
+	/**
+	 * If the output is a {@link PackedTupleArray_Bright} or {@link PackedTupleArray_F64} then the descriptor is
+	 * written directly into its array and the work space isn't used.
+	 */
+	@Override
+	public boolean process(double x, double y, double orientation, double radius,
+						   BrightFeature workspace, PackedTupleArray<? super BrightFeature> output) {
+		double scale = radius/ BoofDefaults.SURF_SCALE_TO_RADIUS;
+
+		if( output instanceof PackedTupleArray_Bright ) {
+			PackedTupleArray_Bright packed = (PackedTupleArray_Bright)output;
+			checkLength(packed.getDof());
+			int offset = packed.grow();
+			packed.white[packed.size()-1] = surf.describe(x,y, orientation, scale, packed.data, offset);
+		} else if( output instanceof PackedTupleArray_F64 ) {
+			PackedTupleArray_F64 packed = (PackedTupleArray_F64)output;
+			checkLength(packed.getDof());
+			int offset = packed.grow();
+			surf.describe(x,y, orientation, scale, packed.data, offset);
+		} else {
+			return DescribeRegionPoint.super.process(x, y, orientation, radius, workspace, output);
+		}
+
+		return true;
+	}
+
+	private void checkLength( int dof ) {
+		if( dof != surf.getDescriptionLength() )
+			throw new IllegalArgumentException("Unexpected descriptor length. "+dof+" != "+surf.getDescriptionLength());
+	}
+
 	@Override
 	public boolean requiresRadius() {
 		return true;
@@ -21,6 +21,7 @@ package boofcv.abst.feature.detdesc;
 import boofcv.abst.feature.describe.DescribeRegionPoint;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
 import boofcv.abst.feature.orientation.OrientationImage;
+import boofcv.struct.feature.PackedTupleArray;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageGray;
 import georegression.struct.point.Point2D_F64;
@@ -50,6 +51,8 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 
 	// list of extracted feature descriptors
 	private FastQueue<TD> descs;
+	// work space for describing features that are written into a packed array. Declared when first needed.
+	private TD workspace;
 
 	// storage for found orientations
 	private GrowQueue_F64 featureRadiuses = new GrowQueue_F64(10);
@@ -97,6 +100,25 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 
 	@Override
 	public void detect(T input) {
+		detectAndDescribe(input,null);
+	}
+
+	/**
+	 * Descriptors are passed to {@link DescribeRegionPoint#process(double, double, double, double, TupleDesc,
+	 * PackedTupleArray)}, which writes them directly into the packed array when the describer supports it.
+	 */
+	@Override
+	public void detect(T input, PackedTupleArray<? super TD> output) {
+		if( workspace == null )
+			workspace = describe.createDescription();
+		output.reset();
+		detectAndDescribe(input,output);
+	}
+
+	/**
+	 * Detects and describes features. If packed is null then descriptions are saved in {@link #descs}
+	 */
+	private void detectAndDescribe(T input , PackedTupleArray<? super TD> packed ) {
 		descs.reset();
 		featureRadiuses.reset();
 		featureAngles.reset();
@@ -110,6 +132,8 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 		detector.detect(input);
 
 		int N = detector.getNumberOfFeatures();
+		if( packed != null )
+			packed.reserve(N);
 
 		for( int i = 0; i < N; i++ ) {
 			Point2D_F64 p = detector.getLocation(i);
@@ -121,12 +145,19 @@ public class DetectDescribeFusion<T extends ImageGray<T>, TD extends TupleDesc>
 				yaw = orientation.compute(p.x,p.y);
 			}
 
-			if( describe.process(p.x,p.y,yaw,radius,descs.grow()) ) {
+			boolean success;
+			if( packed == null ) {
+				success = describe.process(p.x,p.y,yaw,radius,descs.grow());
+				if( !success )
+					descs.removeTail();
+			} else {
+				success = describe.process(p.x,p.y,yaw,radius,workspace,packed);
+			}
+
+			if( success ) {
 				featureRadiuses.push(radius);
 				featureAngles.push(yaw);
 				location.add(p);
-			} else {
-				descs.removeTail();
 			}
 		}
 	}
@@ -20,6 +20,7 @@ package boofcv.abst.feature.detdesc;
 
 import boofcv.abst.feature.describe.DescriptorInfo;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
+import boofcv.struct.feature.PackedTupleArray;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.image.ImageBase;
 
@@ -43,5 +44,35 @@ public interface DetectDescribePoint<T extends ImageBase<T>, Desc extends TupleD
 	 * @return Feature descriptor
 	 */
 	public Desc getDescription(int index);
+
+	/**
+	 * Copies all the descriptors found in the last call to {@link #detect} into the packed array. This avoids
+	 * the need to declare a new descriptor for every feature when they need to be saved.
+	 *
+	 * @param output (Output) Storage for the descriptors. Reset before being filled. Modified.
+	 */
+	default void getDescriptions( PackedTupleArray<? super Desc> output ) {
+		int N = getNumberOfFeatures();
+		output.reset();
+		output.reserve(N);
+		for (int i = 0; i < N; i++) {
+			output.append(getDescription(i));
+		}
+	}
+
+	/**
+	 * Detects features and writes their descriptors into the packed array. Implementations which can compute
+	 * descriptors directly inside the packed array override this function, in which case no descriptor objects
+	 * are created and {@link #getDescription(int)} can't be called until {@link #detect} is called again. Feature
+	 * location, radius, and orientation are available as usual. The default implementation calls {@link #detect}
+	 * and then {@link #getDescriptions(PackedTupleArray)}.
+	 *
+	 * @param input Input image
+	 * @param output (Output) Storage for the descriptors. Reset before being filled. Modified.
+	 */
+	default void detect( T input , PackedTupleArray<? super Desc> output ) {
+		detect(input);
+		getDescriptions(output);
+	}
 }
 
@@ -24,6 +24,9 @@ import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
 import boofcv.alg.transform.ii.GIntegralImageOps;
 import boofcv.struct.BoofDefaults;
 import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_Bright;
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.feature.SurfFeatureQueue;
 import boofcv.struct.image.ImageGray;
@@ -91,6 +94,30 @@ public class WrapDetectDescribeSurf
 
 	@Override
 	public void detect(T input) {
+		detectAndDescribe(input,null);
+	}
+
+	/**
+	 * If the output is a {@link PackedTupleArray_Bright} or {@link PackedTupleArray_F64} then descriptors are
+	 * computed directly inside of its array.
+	 */
+	@Override
+	public void detect(T input, PackedTupleArray<? super BrightFeature> output) {
+		if( !(output instanceof PackedTupleArray_Bright || output instanceof PackedTupleArray_F64) ) {
+			DetectDescribePoint.super.detect(input, output);
+			return;
+		}
+		if( output.getDof() != describe.getDescriptionLength() )
+			throw new IllegalArgumentException("Unexpected descriptor length. "+
+					output.getDof()+" != "+describe.getDescriptionLength());
+		output.reset();
+		detectAndDescribe(input,output);
+	}
+
+	/**
+	 * Detects and describes features. If packed is null then descriptions are saved in {@link #features}
+	 */
+	private void detectAndDescribe(T input , PackedTupleArray<? super BrightFeature> packed ) {
 		if( ii != null ) {
 			ii.reshape(input.width,input.height);
 		}
@@ -107,6 +134,8 @@ public class WrapDetectDescribeSurf
 
 		// describe the found interest points
 		foundPoints = detector.getFoundPoints();
+		if( packed != null )
+			packed.reserve(foundPoints.size());
 
 		for( int i = 0; i < foundPoints.size(); i++ ) {
 			ScalePoint p = foundPoints.get(i);
@@ -114,7 +143,17 @@ public class WrapDetectDescribeSurf
 
 			orientation.setObjectRadius(radius);
 			double angle = orientation.compute(p.x,p.y);
-			describe.describe(p.x,p.y, angle, p.scale, features.grow());
+			if( packed == null ) {
+				describe.describe(p.x,p.y, angle, p.scale, features.grow());
+			} else if( packed instanceof PackedTupleArray_Bright ) {
+				PackedTupleArray_Bright bright = (PackedTupleArray_Bright)packed;
+				int offset = bright.grow();
+				bright.white[bright.size()-1] = describe.describe(p.x,p.y, angle, p.scale, bright.data, offset);
+			} else {
+				PackedTupleArray_F64 values = (PackedTupleArray_F64)packed;
+				int offset = values.grow();
+				describe.describe(p.x,p.y, angle, p.scale, values.data, offset);
+			}
 			featureAngles.push(angle);
 		}
 	}
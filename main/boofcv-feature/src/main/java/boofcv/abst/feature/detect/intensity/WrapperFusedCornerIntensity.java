@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.detect.intensity;
+
+import boofcv.alg.feature.detect.intensity.impl.ImplCornerIntensityFused;
+import boofcv.alg.feature.detect.intensity.impl.ImplCornerIntensityFused_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+
+/**
+ * Wrapper around {@link ImplCornerIntensityFused} which computes Harris or Shi-Tomasi corner intensity directly from
+ * the input image.  Since the image gradient isn't required, users of {@link GeneralFeatureIntensity} such as
+ * {@link boofcv.alg.feature.detect.interest.EasyGeneralFeatureDetector} will not compute or store it.
+ *
+ * @author Peter Abeles
+ */
+public class WrapperFusedCornerIntensity<I extends ImageGray<I>,D extends ImageGray<D>>
+		extends BaseGeneralFeatureIntensity<I,D>
+{
+	// true for Harris and false for Shi-Tomasi
+	boolean harris;
+	// Harris tuning parameter
+	float kappa;
+	// radius of the square window
+	int radius;
+
+	/**
+	 * @param harris true for Harris and false for Shi-Tomasi
+	 * @param radius Radius of the square window
+	 * @param kappa Harris tuning parameter. Ignored by Shi-Tomasi.
+	 * @param imageType Type of input image. {@link GrayU8} and {@link GrayF32} are supported.
+	 */
+	public WrapperFusedCornerIntensity(boolean harris, int radius, float kappa, Class<I> imageType) {
+		if( imageType != GrayU8.class && imageType != GrayF32.class )
+			throw new IllegalArgumentException("Unsupported image type "+imageType.getSimpleName());
+		this.harris = harris;
+		this.radius = radius;
+		this.kappa = kappa;
+	}
+
+	@Override
+	public void process(I image , D derivX, D derivY, D derivXX, D derivYY, D derivXY ) {
+		init(image.width,image.height);
+
+		if( image instanceof GrayU8 ) {
+			GrayU8 input = (GrayU8)image;
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				if( harris )
+					ImplCornerIntensityFused_MT.harris(input,radius,kappa,intensity);
+				else
+					ImplCornerIntensityFused_MT.shiTomasi(input,radius,intensity);
+			} else {
+				if( harris )
+					ImplCornerIntensityFused.harris(input,radius,kappa,intensity);
+				else
+					ImplCornerIntensityFused.shiTomasi(input,radius,intensity);
+			}
+		} else {
+			GrayF32 input = (GrayF32)image;
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				if( harris )
+					ImplCornerIntensityFused_MT.harris(input,radius,kappa,intensity);
+				else
+					ImplCornerIntensityFused_MT.shiTomasi(input,radius,intensity);
+			} else {
+				if( harris )
+					ImplCornerIntensityFused.harris(input,radius,kappa,intensity);
+				else
+					ImplCornerIntensityFused.shiTomasi(input,radius,intensity);
+			}
+		}
+	}
+
+	@Override
+	public QueueCorner getCandidatesMin() {
+		return null;
+	}
+
+	@Override
+	public QueueCorner getCandidatesMax() {
+		return null;
+	}
+
+	@Override
+	public boolean getRequiresGradient() {
+		return false;
+	}
+
+	@Override
+	public boolean getRequiresHessian() {
+		return false;
+	}
+
+	@Override
+	public boolean hasCandidates() {
+		return false;
+	}
+
+	@Override
+	public int getIgnoreBorder() {
+		return radius;
+	}
+
+	@Override
+	public boolean localMaximums() {
+		return true;
+	}
+
+	@Override
+	public boolean localMinimums() {
+		return false;
+	}
+}
@@ -20,6 +20,7 @@ package boofcv.abst.flow;
 
 import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.flow.DenseOpticalFlowKlt;
+import boofcv.alg.transform.pyramid.PyramidDiscreteShared;
 import boofcv.alg.transform.pyramid.PyramidOps;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.flow.ImageFlow;
@@ -28,6 +29,8 @@ import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.ImagePyramid;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Wrapper around {@link DenseOpticalFlowKlt} for {@link DenseOpticalFlow}.
@@ -42,6 +45,8 @@ public class FlowKlt_to_DenseOpticalFlow<I extends ImageGray<I>, D extends Image
 
 	ImagePyramid<I> pyramidSrc;
 	ImagePyramid<I> pyramidDst;
+	// pyramids which are shared and have been reserved. Released by dispose()
+	List<PyramidDiscreteShared> reserved = new ArrayList<>();
 
 	D[] srcDerivX;
 	D[] srcDerivY;
@@ -61,6 +66,14 @@ public class FlowKlt_to_DenseOpticalFlow<I extends ImageGray<I>, D extends Image
 		this.pyramidSrc = pyramidSrc;
 		this.pyramidDst = pyramidDst;
 
+		// pyramids shared with other consumers, e.g. a tracker, are only computed once for each image
+		if( pyramidSrc instanceof PyramidDiscreteShared )
+			reserved.add((PyramidDiscreteShared)pyramidSrc);
+		if( pyramidDst instanceof PyramidDiscreteShared )
+			reserved.add((PyramidDiscreteShared)pyramidDst);
+		for( PyramidDiscreteShared p : reserved )
+			p.reserve();
+
 		srcDerivX = (D[])Array.newInstance(derivType,pyramidSrc.getNumLayers());
 		srcDerivY = (D[])Array.newInstance(derivType,pyramidSrc.getNumLayers());
 
@@ -89,4 +102,14 @@ public class FlowKlt_to_DenseOpticalFlow<I extends ImageGray<I>, D extends Image
 	public ImageType<I> getInputType() {
 		return imageType;
 	}
+
+	/**
+	 * Releases pyramids which are a {@link PyramidDiscreteShared}. Call when this is no longer going to be used.
+	 * Calling it more than once has no effect.
+	 */
+	public void dispose() {
+		for( PyramidDiscreteShared p : reserved )
+			p.release();
+		reserved.clear();
+	}
 }
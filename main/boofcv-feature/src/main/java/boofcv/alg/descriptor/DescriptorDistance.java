@@ -194,28 +194,529 @@ public class DescriptorDistance {
 	 * @return The hamming distance
 	 */
 	public static int hamming( TupleDesc_B a, TupleDesc_B b ) {
-		int score = 0;
-		final int N = a.data.length;
-		for( int i = 0; i < N; i++ ) {
-			score += hamming(a.data[i] ^ b.data[i]);
-		}
-		return score;
+		return hamming(a.data,0,b.data,0,a.data.length);
 	}
 
 	/**
 	 * <p>Computes the hamming distance.  A bit = 0 is a match and 1 is not match<p>
 	 *
-	 * Based on code snippet from <a href="http://graphics.stanford.edu/~seander/bithacks.html">Sean Eron Anderson Bit Twiddling Hacks</a>.
+	 * Uses Integer.bitCount(), which the JIT replaces with a single instruction on most CPUs.  Previously this
+	 * used a snippet from <a href="http://graphics.stanford.edu/~seander/bithacks.html">Sean Eron Anderson Bit Twiddling Hacks</a>.
 	 *
 	 * @param val Hamming encoding
 	 * @return The hamming distance
 	 */
 	public static int hamming( int val ) {
-		int c;
-		int v = val;
-		v = v - ((v >> 1) & 0x55555555);
-		v = (v & 0x33333333) + ((v >> 2) & 0x33333333);
-		c = ((v + (v >> 4) & 0xF0F0F0F) * 0x1010101) >> 24;
-		return c;
+		return Integer.bitCount(val);
+	}
+
+	/**
+	 * Number of descriptors in a block which fit in the L1 cache. Assumes a 32 KB cache which is shared with
+	 * the queries and output.
+	 *
+	 * @param bytesPerDesc Number of bytes in a descriptor
+	 */
+	static int blockSize( int bytesPerDesc ) {
+		return Math.max(1,16*1024/Math.max(1,bytesPerDesc));
+	}
+
+	/**
+	 * Euclidean distance squared between two descriptors which are stored in arrays.
+	 * The loop is unrolled with multiple accumulators so that the JIT can pipeline or vectorize it.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first descriptor's first element
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the second descriptor's first element
+	 * @param length Number of elements in a descriptor
+	 * @return The distance
+	 */
+	public static float euclideanSq( float[] a , int offsetA , float[] b , int offsetB , int length ) {
+		float total0 = 0, total1 = 0, total2 = 0, total3 = 0;
+		int i = 0;
+		for( ; i <= length-4; i += 4, offsetA += 4, offsetB += 4 ) {
+			float d0 = a[offsetA] - b[offsetB];
+			float d1 = a[offsetA+1] - b[offsetB+1];
+			float d2 = a[offsetA+2] - b[offsetB+2];
+			float d3 = a[offsetA+3] - b[offsetB+3];
+			total0 += d0*d0;
+			total1 += d1*d1;
+			total2 += d2*d2;
+			total3 += d3*d3;
+		}
+		for( ; i < length; i++ ) {
+			float d = a[offsetA++] - b[offsetB++];
+			total0 += d*d;
+		}
+		return (total0 + total1) + (total2 + total3);
+	}
+
+	/**
+	 * Computes the distance between a query and a sequence of descriptors which are packed into a single array.
+	 * Descriptor 'i' starts at element i*length.
+	 *
+	 * @see #euclideanSq(float[], int, float[], int, int)
+	 *
+	 * @param query Array containing the query
+	 * @param offsetQuery Index of the query's first element
+	 * @param points Packed descriptors
+	 * @param firstPoint Index of the first descriptor which is compared against
+	 * @param numPoints Number of descriptors which are compared against
+	 * @param length Number of elements in a descriptor
+	 * @param output Storage for the results. output[offsetOutput+i] is the distance to descriptor firstPoint+i
+	 * @param offsetOutput First element in output that's written to
+	 */
+	public static void euclideanSq( float[] query , int offsetQuery , float[] points , int firstPoint , int numPoints ,
+							   int length , float[] output , int offsetOutput ) {
+		for( int i = 0; i < numPoints; i++ ) {
+			output[offsetOutput+i] = euclideanSq(query,offsetQuery,points,(firstPoint+i)*length,length);
+		}
+	}
+
+	/**
+	 * Computes the distance between every query and every descriptor. Both sets are packed into a single
+	 * array. The descriptors are processed in blocks so that they stay in the cache while all the queries are
+	 * compared against them.
+	 *
+	 * @param queries Packed query descriptors
+	 * @param numQueries Number of queries
+	 * @param points Packed descriptors
+	 * @param numPoints Number of descriptors
+	 * @param length Number of elements in a descriptor
+	 * @param output Storage for the results. output[i*numPoints+j] is the distance from query i to descriptor j
+	 */
+	public static void euclideanSq( float[] queries , int numQueries , float[] points , int numPoints ,
+							   int length , float[] output ) {
+		final int blockSize = blockSize(length*4);
+		for( int j0 = 0; j0 < numPoints; j0 += blockSize ) {
+			int j1 = Math.min(numPoints,j0+blockSize);
+			for( int i = 0; i < numQueries; i++ ) {
+				euclideanSq(queries,i*length,points,j0,j1-j0,length,output,i*numPoints+j0);
+			}
+		}
+	}
+
+	/**
+	 * Euclidean distance squared between two descriptors which are stored in arrays.
+	 * The loop is unrolled with multiple accumulators so that the JIT can pipeline or vectorize it.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first descriptor's first element
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the second descriptor's first element
+	 * @param length Number of elements in a descriptor
+	 * @return The distance
+	 */
+	public static double euclideanSq( double[] a , int offsetA , double[] b , int offsetB , int length ) {
+		double total0 = 0, total1 = 0, total2 = 0, total3 = 0;
+		int i = 0;
+		for( ; i <= length-4; i += 4, offsetA += 4, offsetB += 4 ) {
+			double d0 = a[offsetA] - b[offsetB];
+			double d1 = a[offsetA+1] - b[offsetB+1];
+			double d2 = a[offsetA+2] - b[offsetB+2];
+			double d3 = a[offsetA+3] - b[offsetB+3];
+			total0 += d0*d0;
+			total1 += d1*d1;
+			total2 += d2*d2;
+			total3 += d3*d3;
+		}
+		for( ; i < length; i++ ) {
+			double d = a[offsetA++] - b[offsetB++];
+			total0 += d*d;
+		}
+		return (total0 + total1) + (total2 + total3);
+	}
+
+	/**
+	 * Computes the distance between a query and a sequence of descriptors which are packed into a single array.
+	 * Descriptor 'i' starts at element i*length.
+	 *
+	 * @see #euclideanSq(double[], int, double[], int, int)
+	 *
+	 * @param query Array containing the query
+	 * @param offsetQuery Index of the query's first element
+	 * @param points Packed descriptors
+	 * @param firstPoint Index of the first descriptor which is compared against
+	 * @param numPoints Number of descriptors which are compared against
+	 * @param length Number of elements in a descriptor
+	 * @param output Storage for the results. output[offsetOutput+i] is the distance to descriptor firstPoint+i
+	 * @param offsetOutput First element in output that's written to
+	 */
+	public static void euclideanSq( double[] query , int offsetQuery , double[] points , int firstPoint , int numPoints ,
+							   int length , double[] output , int offsetOutput ) {
+		for( int i = 0; i < numPoints; i++ ) {
+			output[offsetOutput+i] = euclideanSq(query,offsetQuery,points,(firstPoint+i)*length,length);
+		}
+	}
+
+	/**
+	 * Computes the distance between every query and every descriptor. Both sets are packed into a single
+	 * array. The descriptors are processed in blocks so that they stay in the cache while all the queries are
+	 * compared against them.
+	 *
+	 * @param queries Packed query descriptors
+	 * @param numQueries Number of queries
+	 * @param points Packed descriptors
+	 * @param numPoints Number of descriptors
+	 * @param length Number of elements in a descriptor
+	 * @param output Storage for the results. output[i*numPoints+j] is the distance from query i to descriptor j
+	 */
+	public static void euclideanSq( double[] queries , int numQueries , double[] points , int numPoints ,
+							   int length , double[] output ) {
+		final int blockSize = blockSize(length*8);
+		for( int j0 = 0; j0 < numPoints; j0 += blockSize ) {
+			int j1 = Math.min(numPoints,j0+blockSize);
+			for( int i = 0; i < numQueries; i++ ) {
+				euclideanSq(queries,i*length,points,j0,j1-j0,length,output,i*numPoints+j0);
+			}
+		}
+	}
+
+	/**
+	 * Sum of absolute difference (SAD) score between two unsigned 8-bit descriptors which are stored in arrays.
+	 * The loop is unrolled with multiple accumulators so that the JIT can pipeline or vectorize it.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first descriptor's first element
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the second descriptor's first element
+	 * @param length Number of elements in a descriptor
+	 * @return The score
+	 */
+	public static int sad( byte[] a , int offsetA , byte[] b , int offsetB , int length ) {
+		int total0 = 0, total1 = 0, total2 = 0, total3 = 0;
+		int i = 0;
+		for( ; i <= length-4; i += 4, offsetA += 4, offsetB += 4 ) {
+			total0 += Math.abs((a[offsetA] & 0xFF) - (b[offsetB] & 0xFF));
+			total1 += Math.abs((a[offsetA+1] & 0xFF) - (b[offsetB+1] & 0xFF));
+			total2 += Math.abs((a[offsetA+2] & 0xFF) - (b[offsetB+2] & 0xFF));
+			total3 += Math.abs((a[offsetA+3] & 0xFF) - (b[offsetB+3] & 0xFF));
+		}
+		for( ; i < length; i++ ) {
+			total0 += Math.abs((a[offsetA++] & 0xFF) - (b[offsetB++] & 0xFF));
+		}
+		return (total0 + total1) + (total2 + total3);
+	}
+
+	/**
+	 * Computes the score between a query and a sequence of descriptors which are packed into a single array.
+	 * Descriptor 'i' starts at element i*length.
+	 *
+	 * @see #sad(byte[], int, byte[], int, int)
+	 *
+	 * @param query Array containing the query
+	 * @param offsetQuery Index of the query's first element
+	 * @param points Packed descriptors
+	 * @param firstPoint Index of the first descriptor which is compared against
+	 * @param numPoints Number of descriptors which are compared against
+	 * @param length Number of elements in a descriptor
+	 * @param output Storage for the results. output[offsetOutput+i] is the score to descriptor firstPoint+i
+	 * @param offsetOutput First element in output that's written to
+	 */
+	public static void sad( byte[] query , int offsetQuery , byte[] points , int firstPoint , int numPoints ,
+							   int length , int[] output , int offsetOutput ) {
+		for( int i = 0; i < numPoints; i++ ) {
+			output[offsetOutput+i] = sad(query,offsetQuery,points,(firstPoint+i)*length,length);
+		}
+	}
+
+	/**
+	 * Computes the score between every query and every descriptor. Both sets are packed into a single
+	 * array. The descriptors are processed in blocks so that they stay in the cache while all the queries are
+	 * compared against them.
+	 *
+	 * @param queries Packed query descriptors
+	 * @param numQueries Number of queries
+	 * @param points Packed descriptors
+	 * @param numPoints Number of descriptors
+	 * @param length Number of elements in a descriptor
+	 * @param output Storage for the results. output[i*numPoints+j] is the score from query i to descriptor j
+	 */
+	public static void sad( byte[] queries , int numQueries , byte[] points , int numPoints ,
+							   int length , int[] output ) {
+		final int blockSize = blockSize(length*1);
+		for( int j0 = 0; j0 < numPoints; j0 += blockSize ) {
+			int j1 = Math.min(numPoints,j0+blockSize);
+			for( int i = 0; i < numQueries; i++ ) {
+				sad(queries,i*length,points,j0,j1-j0,length,output,i*numPoints+j0);
+			}
+		}
+	}
+
+	/**
+	 * Sum of absolute difference (SAD) score between two descriptors which are stored in arrays.
+	 * The loop is unrolled with multiple accumulators so that the JIT can pipeline or vectorize it.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first descriptor's first element
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the second descriptor's first element
+	 * @param length Number of elements in a descriptor
+	 * @return The score
+	 */
+	public static float sad( float[] a , int offsetA , float[] b , int offsetB , int length ) {
+		float total0 = 0, total1 = 0, total2 = 0, total3 = 0;
+		int i = 0;
+		for( ; i <= length-4; i += 4, offsetA += 4, offsetB += 4 ) {
+			total0 += Math.abs(a[offsetA] - b[offsetB]);
+			total1 += Math.abs(a[offsetA+1] - b[offsetB+1]);
+			total2 += Math.abs(a[offsetA+2] - b[offsetB+2]);
+			total3 += Math.abs(a[offsetA+3] - b[offsetB+3]);
+		}
+		for( ; i < length; i++ ) {
+			total0 += Math.abs(a[offsetA++] - b[offsetB++]);
+		}
+		return (total0 + total1) + (total2 + total3);
+	}
+
+	/**
+	 * Computes the score between a query and a sequence of descriptors which are packed into a single array.
+	 * Descriptor 'i' starts at element i*length.
+	 *
+	 * @see #sad(float[], int, float[], int, int)
+	 *
+	 * @param query Array containing the query
+	 * @param offsetQuery Index of the query's first element
+	 * @param points Packed descriptors
+	 * @param firstPoint Index of the first descriptor which is compared against
+	 * @param numPoints Number of descriptors which are compared against
+	 * @param length Number of elements in a descriptor
+	 * @param output Storage for the results. output[offsetOutput+i] is the score to descriptor firstPoint+i
+	 * @param offsetOutput First element in output that's written to
+	 */
+	public static void sad( float[] query , int offsetQuery , float[] points , int firstPoint , int numPoints ,
+							   int length , float[] output , int offsetOutput ) {
+		for( int i = 0; i < numPoints; i++ ) {
+			output[offsetOutput+i] = sad(query,offsetQuery,points,(firstPoint+i)*length,length);
+		}
+	}
+
+	/**
+	 * Computes the score between every query and every descriptor. Both sets are packed into a single
+	 * array. The descriptors are processed in blocks so that they stay in the cache while all the queries are
+	 * compared against them.
+	 *
+	 * @param queries Packed query descriptors
+	 * @param numQueries Number of queries
+	 * @param points Packed descriptors
+	 * @param numPoints Number of descriptors
+	 * @param length Number of elements in a descriptor
+	 * @param output Storage for the results. output[i*numPoints+j] is the score from query i to descriptor j
+	 */
+	public static void sad( float[] queries , int numQueries , float[] points , int numPoints ,
+							   int length , float[] output ) {
+		final int blockSize = blockSize(length*4);
+		for( int j0 = 0; j0 < numPoints; j0 += blockSize ) {
+			int j1 = Math.min(numPoints,j0+blockSize);
+			for( int i = 0; i < numQueries; i++ ) {
+				sad(queries,i*length,points,j0,j1-j0,length,output,i*numPoints+j0);
+			}
+		}
+	}
+
+	/**
+	 * Sum of absolute difference (SAD) score between two descriptors which are stored in arrays.
+	 * The loop is unrolled with multiple accumulators so that the JIT can pipeline or vectorize it.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first descriptor's first element
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the second descriptor's first element
+	 * @param length Number of elements in a descriptor
+	 * @return The score
+	 */
+	public static double sad( double[] a , int offsetA , double[] b , int offsetB , int length ) {
+		double total0 = 0, total1 = 0, total2 = 0, total3 = 0;
+		int i = 0;
+		for( ; i <= length-4; i += 4, offsetA += 4, offsetB += 4 ) {
+			total0 += Math.abs(a[offsetA] - b[offsetB]);
+			total1 += Math.abs(a[offsetA+1] - b[offsetB+1]);
+			total2 += Math.abs(a[offsetA+2] - b[offsetB+2]);
+			total3 += Math.abs(a[offsetA+3] - b[offsetB+3]);
+		}
+		for( ; i < length; i++ ) {
+			total0 += Math.abs(a[offsetA++] - b[offsetB++]);
+		}
+		return (total0 + total1) + (total2 + total3);
+	}
+
+	/**
+	 * Computes the score between a query and a sequence of descriptors which are packed into a single array.
+	 * Descriptor 'i' starts at element i*length.
+	 *
+	 * @see #sad(double[], int, double[], int, int)
+	 *
+	 * @param query Array containing the query
+	 * @param offsetQuery Index of the query's first element
+	 * @param points Packed descriptors
+	 * @param firstPoint Index of the first descriptor which is compared against
+	 * @param numPoints Number of descriptors which are compared against
+	 * @param length Number of elements in a descriptor
+	 * @param output Storage for the results. output[offsetOutput+i] is the score to descriptor firstPoint+i
+	 * @param offsetOutput First element in output that's written to
+	 */
+	public static void sad( double[] query , int offsetQuery , double[] points , int firstPoint , int numPoints ,
+							   int length , double[] output , int offsetOutput ) {
+		for( int i = 0; i < numPoints; i++ ) {
+			output[offsetOutput+i] = sad(query,offsetQuery,points,(firstPoint+i)*length,length);
+		}
+	}
+
+	/**
+	 * Computes the score between every query and every descriptor. Both sets are packed into a single
+	 * array. The descriptors are processed in blocks so that they stay in the cache while all the queries are
+	 * compared against them.
+	 *
+	 * @param queries Packed query descriptors
+	 * @param numQueries Number of queries
+	 * @param points Packed descriptors
+	 * @param numPoints Number of descriptors
+	 * @param length Number of elements in a descriptor
+	 * @param output Storage for the results. output[i*numPoints+j] is the score from query i to descriptor j
+	 */
+	public static void sad( double[] queries , int numQueries , double[] points , int numPoints ,
+							   int length , double[] output ) {
+		final int blockSize = blockSize(length*8);
+		for( int j0 = 0; j0 < numPoints; j0 += blockSize ) {
+			int j1 = Math.min(numPoints,j0+blockSize);
+			for( int i = 0; i < numQueries; i++ ) {
+				sad(queries,i*length,points,j0,j1-j0,length,output,i*numPoints+j0);
+			}
+		}
+	}
+
+	/**
+	 * Hamming distance between two binary descriptors which are stored in arrays of 32-bit words.
+	 * Adjacent pairs of words are combined into a long so that half as many bit counts are needed.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first descriptor's first element
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the second descriptor's first element
+	 * @param length Number of ints in a descriptor
+	 * @return The distance
+	 */
+	public static int hamming( int[] a , int offsetA , int[] b , int offsetB , int length ) {
+		int total = 0;
+		int i = 0;
+		for( ; i < length-1; i += 2 ) {
+			long lower = (a[offsetA+i] ^ b[offsetB+i]) & 0xFFFFFFFFL;
+			long upper = (long)(a[offsetA+i+1] ^ b[offsetB+i+1]) << 32;
+			total += Long.bitCount(upper | lower);
+		}
+		if( i < length ) {
+			total += Integer.bitCount(a[offsetA+i] ^ b[offsetB+i]);
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the distance between a query and a sequence of descriptors which are packed into a single array.
+	 * Descriptor 'i' starts at element i*length.
+	 *
+	 * @see #hamming(int[], int, int[], int, int)
+	 *
+	 * @param query Array containing the query
+	 * @param offsetQuery Index of the query's first element
+	 * @param points Packed descriptors
+	 * @param firstPoint Index of the first descriptor which is compared against
+	 * @param numPoints Number of descriptors which are compared against
+	 * @param length Number of words in a descriptor
+	 * @param output Storage for the results. output[offsetOutput+i] is the distance to descriptor firstPoint+i
+	 * @param offsetOutput First element in output that's written to
+	 */
+	public static void hamming( int[] query , int offsetQuery , int[] points , int firstPoint , int numPoints ,
+							   int length , int[] output , int offsetOutput ) {
+		for( int i = 0; i < numPoints; i++ ) {
+			output[offsetOutput+i] = hamming(query,offsetQuery,points,(firstPoint+i)*length,length);
+		}
+	}
+
+	/**
+	 * Computes the distance between every query and every descriptor. Both sets are packed into a single
+	 * array. The descriptors are processed in blocks so that they stay in the cache while all the queries are
+	 * compared against them.
+	 *
+	 * @param queries Packed query descriptors
+	 * @param numQueries Number of queries
+	 * @param points Packed descriptors
+	 * @param numPoints Number of descriptors
+	 * @param length Number of words in a descriptor
+	 * @param output Storage for the results. output[i*numPoints+j] is the distance from query i to descriptor j
+	 */
+	public static void hamming( int[] queries , int numQueries , int[] points , int numPoints ,
+							   int length , int[] output ) {
+		final int blockSize = blockSize(length*4);
+		for( int j0 = 0; j0 < numPoints; j0 += blockSize ) {
+			int j1 = Math.min(numPoints,j0+blockSize);
+			for( int i = 0; i < numQueries; i++ ) {
+				hamming(queries,i*length,points,j0,j1-j0,length,output,i*numPoints+j0);
+			}
+		}
+	}
+
+	/**
+	 * Hamming distance between two binary descriptors which are stored in arrays of 64-bit words. The number of
+	 * bits is counted using Long.bitCount(), which the JIT replaces with a single instruction on most CPUs.
+	 * Half as many instructions are needed compared to 32-bit words.
+	 *
+	 * @param a Array containing the first descriptor
+	 * @param offsetA Index of the first descriptor's first element
+	 * @param b Array containing the second descriptor
+	 * @param offsetB Index of the second descriptor's first element
+	 * @param length Number of words in a descriptor
+	 * @return The distance
+	 */
+	public static int hamming( long[] a , int offsetA , long[] b , int offsetB , int length ) {
+		int total = 0;
+		for( int i = 0; i < length; i++ ) {
+			total += Long.bitCount(a[offsetA+i] ^ b[offsetB+i]);
+		}
+		return total;
+	}
+
+	/**
+	 * Computes the distance between a query and a sequence of descriptors which are packed into a single array.
+	 * Descriptor 'i' starts at element i*length.
+	 *
+	 * @see #hamming(long[], int, long[], int, int)
+	 *
+	 * @param query Array containing the query
+	 * @param offsetQuery Index of the query's first element
+	 * @param points Packed descriptors
+	 * @param firstPoint Index of the first descriptor which is compared against
+	 * @param numPoints Number of descriptors which are compared against
+	 * @param length Number of words in a descriptor
+	 * @param output Storage for the results. output[offsetOutput+i] is the distance to descriptor firstPoint+i
+	 * @param offsetOutput First element in output that's written to
+	 */
+	public static void hamming( long[] query , int offsetQuery , long[] points , int firstPoint , int numPoints ,
+							   int length , int[] output , int offsetOutput ) {
+		for( int i = 0; i < numPoints; i++ ) {
+			output[offsetOutput+i] = hamming(query,offsetQuery,points,(firstPoint+i)*length,length);
+		}
+	}
+
+	/**
+	 * Computes the distance between every query and every descriptor. Both sets are packed into a single
+	 * array. The descriptors are processed in blocks so that they stay in the cache while all the queries are
+	 * compared against them.
+	 *
+	 * @param queries Packed query descriptors
+	 * @param numQueries Number of queries
+	 * @param points Packed descriptors
+	 * @param numPoints Number of descriptors
+	 * @param length Number of words in a descriptor
+	 * @param output Storage for the results. output[i*numPoints+j] is the distance from query i to descriptor j
+	 */
+	public static void hamming( long[] queries , int numQueries , long[] points , int numPoints ,
+							   int length , int[] output ) {
+		final int blockSize = blockSize(length*8);
+		for( int j0 = 0; j0 < numPoints; j0 += blockSize ) {
+			int j1 = Math.min(numPoints,j0+blockSize);
+			for( int i = 0; i < numQueries; i++ ) {
+				hamming(queries,i*length,points,j0,j1-j0,length,output,i*numPoints+j0);
+			}
+		}
 	}
 }
@@ -21,6 +21,7 @@ package boofcv.alg.descriptor;
 import boofcv.abst.feature.describe.DescribeRegionPoint;
 import boofcv.abst.feature.detdesc.DetectDescribeMulti;
 import boofcv.abst.feature.detdesc.DetectDescribePoint;
+import boofcv.struct.feature.PackedTupleArray;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
@@ -64,6 +65,22 @@ public class UtilFeature {
 		};
 	}
 
+	/**
+	 * Creates a FastQueue which contains a new copy of each descriptor in the packed array
+	 *
+	 * @param packed (Input) packed array of descriptors. Not modified.
+	 * @return New queue with copies of the descriptors
+	 */
+	public static <TD> FastQueue<TD> copyToQueue( PackedTupleArray<TD> packed ) {
+		FastQueue<TD> queue = new FastQueue<>(packed.size(),packed.getDescriptionType(),false);
+		for (int i = 0; i < packed.size(); i++) {
+			TD desc = packed.createDescription();
+			packed.getCopy(i,desc);
+			queue.add(desc);
+		}
+		return queue;
+	}
+
 	/**
 	 * Creates a FastQueue and declares new instances of the descriptor using the provided
 	 * {@link DetectDescribePoint}.  The queue will have declareInstance set to true, otherwise
@@ -122,17 +139,32 @@ public class UtilFeature {
 	 * @param desc tuple
 	 */
 	public static void normalizeL2( TupleDesc_F64 desc ) {
+		normalizeL2(desc.value,0,desc.size());
+	}
+
+	/**
+	 * Normalizes a tuple stored inside of an array such that its L2-norm is equal to 1. Used with
+	 * descriptors inside of a {@link boofcv.struct.feature.PackedTupleArray_F64}.
+	 *
+	 * @see #normalizeL2(TupleDesc_F64)
+	 *
+	 * @param data Array which contains the tuple
+	 * @param offset Index of the tuple's first element
+	 * @param length Number of elements in the tuple
+	 */
+	public static void normalizeL2( double[] data , int offset , int length ) {
+		final int end = offset+length;
 		double norm = 0;
-		for (int i = 0; i < desc.size(); i++) {
-			double v = desc.value[i];
+		for (int i = offset; i < end; i++) {
+			double v = data[i];
 			norm += v*v;
 		}
 		if( norm == 0 )
 			return;
 
 		norm = Math.sqrt(norm);
-		for (int i = 0; i < desc.size(); i++) {
-			desc.value[i] /= norm;
+		for (int i = offset; i < end; i++) {
+			data[i] /= norm;
 		}
 	}
 
@@ -19,6 +19,7 @@
 package boofcv.alg.feature.associate;
 
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.struct.feature.PackedTupleArray;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_F64;
@@ -39,6 +40,11 @@ import org.ddogleg.struct.GrowQueue_I32;
  * associated with feature in src.
  * </p>
  *
+ * <p>
+ * When backwards validation is used the score for every src and dst pair is saved, requiring O(src*dst)
+ * memory. {@link AssociateGreedy_MT} produces identical results using O(src+dst) memory.
+ * </p>
+ *
  * @param <D> Feature description type.
  *
  * @author Peter Abeles
@@ -46,17 +52,20 @@ import org.ddogleg.struct.GrowQueue_I32;
 public class AssociateGreedy<D> {
 
 	// computes association score
-	private ScoreAssociation<D> score;
+	protected ScoreAssociation<D> score;
 	// worst allowed fit score to associate
-	private double maxFitError = Double.MAX_VALUE;
+	protected double maxFitError = Double.MAX_VALUE;
 	// stores the quality of fit score
-	private GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
+	protected GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
 	// stores indexes of associated
-	private GrowQueue_I32 pairs = new GrowQueue_I32(100);
+	protected GrowQueue_I32 pairs = new GrowQueue_I32(100);
 	// various
 	private GrowQueue_F64 workBuffer = new GrowQueue_F64(100);
 	// if true backwardsValidation is done
-	private boolean backwardsValidation;
+	protected boolean backwardsValidation;
+	// work space for descriptors copied out of packed arrays
+	private D workSrc, workDst;
+	private int workDof = -1;
 
 	/**
 	 * Configure association
@@ -106,20 +115,85 @@ public class AssociateGreedy<D> {
 			fitQuality.push(bestScore);
 		}
 
-		if( backwardsValidation ) {
-			for( int i = 0; i < src.size; i++ ) {
-				int match = pairs.data[i];
-				if( match == -1 )
-					continue;
+		if( backwardsValidation )
+			backwardsValidation(src.size,dst.size);
+	}
+
+	/**
+	 * Associates the two sets objects against each other by minimizing fit score. Descriptors are scored
+	 * directly from the packed arrays when supported by {@link ScoreAssociation}. The results are identical to
+	 * {@link #associate(FastQueue, FastQueue)}.
+	 *
+	 * @param src Source list.
+	 * @param dst Destination list.
+	 */
+	public void associate( PackedTupleArray<D> src ,
+						   PackedTupleArray<D> dst )
+	{
+		checkPacked(src,dst);
+		final int numSrc = src.size();
+		final int numDst = dst.size();
+
+		fitQuality.reset();
+		pairs.reset();
+		workBuffer.reset();
+
+		fitQuality.setMaxSize(numSrc);
+		workBuffer.resize(numSrc*numDst);
+		for( int i = 0; i < numSrc; i++ ) {
+			src.getCopy(i,workSrc);
+			score.score(workSrc,dst,0,numDst,workDst,workBuffer.data,i*numDst);
+
+			double bestScore = maxFitError;
+			int bestIndex = -1;
 
-				double scoreToBeat = workBuffer.data[i*dst.size+match];
+			for( int j = 0, index = i*numDst; j < numDst; j++, index++ ) {
+				double fit = workBuffer.data[index];
 
-				for( int j = 0; j < src.size; j++ , match += dst.size ) {
-					if( workBuffer.data[match] <= scoreToBeat && j != i) {
-						pairs.data[i] = -1;
-						fitQuality.data[i] = Double.MAX_VALUE;
-						break;
-					}
+				if( fit <= bestScore ) {
+					bestIndex = j;
+					bestScore = fit;
+				}
+			}
+			pairs.push(bestIndex);
+			fitQuality.push(bestScore);
+		}
+
+		if( backwardsValidation )
+			backwardsValidation(numSrc,numDst);
+	}
+
+	/**
+	 * Makes sure the two packed arrays are compatible and declares the descriptor work space
+	 */
+	protected void checkPacked( PackedTupleArray<D> src , PackedTupleArray<D> dst ) {
+		if( src.getDof() != dst.getDof() )
+			throw new IllegalArgumentException("src and dst descriptors have a different DOF. "+
+					src.getDof()+" != "+dst.getDof());
+		if( workSrc == null || workSrc.getClass() != src.getDescriptionType() ||
+				workDof != src.getDof() ) {
+			workSrc = src.createDescription();
+			workDst = src.createDescription();
+			workDof = src.getDof();
+		}
+	}
+
+	/**
+	 * Removes associations where another src feature has a score in the same dst column which is at least as good.
+	 */
+	private void backwardsValidation( int numSrc , int numDst ) {
+		for( int i = 0; i < numSrc; i++ ) {
+			int match = pairs.data[i];
+			if( match == -1 )
+				continue;
+
+			double scoreToBeat = workBuffer.data[i*numDst+match];
+
+			for( int j = 0; j < numSrc; j++ , match += numDst ) {
+				if( workBuffer.data[match] <= scoreToBeat && j != i) {
+					pairs.data[i] = -1;
+					fitQuality.data[i] = Double.MAX_VALUE;
+					break;
 				}
 			}
 		}
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.PackedTupleArray;
+import org.ddogleg.struct.FastQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link AssociateGreedy} which also avoids storing the full src by dst score
+ * matrix. The src list is split into blocks which are processed in parallel. Inside a block the dst list is
+ * traversed in tiles so that the dst descriptors being compared against stay in the cache. Backwards validation
+ * only needs to know the smallest and second smallest score in each dst column, and these are found in the same
+ * pass as the forward association. Memory usage is O(src + threads*dst) instead of O(src*dst).
+ * </p>
+ *
+ * <p>
+ * The found pairs and fit scores are identical to the ones found by {@link AssociateGreedy}.
+ * </p>
+ *
+ * @param <D> Feature description type.
+ *
+ * @author Peter Abeles
+ */
+public class AssociateGreedy_MT<D> extends AssociateGreedy<D> {
+
+	// number of dst features in a tile
+	private int tileSize = 256;
+
+	// storage for the best scores in each dst column for each block of src features
+	private FastQueue<ColumnBest> workspace = new FastQueue<>(ColumnBest.class,true);
+
+	// storage for each block of src features when associating packed arrays
+	private final List<PackedWork<D>> packedWork = new ArrayList<>();
+
+	/**
+	 * Configure association
+	 *
+	 * @param score Computes the association score. Must be safe to call from multiple threads.
+	 * @param backwardsValidation If true then backwards validation is performed.
+	 */
+	public AssociateGreedy_MT(ScoreAssociation<D> score, boolean backwardsValidation) {
+		super(score, backwardsValidation);
+	}
+
+	/**
+	 * Associates the two sets objects against each other by minimizing fit score.
+	 *
+	 * @param src Source list.
+	 * @param dst Destination list.
+	 */
+	@Override
+	public void associate( FastQueue<D> src , FastQueue<D> dst ) {
+		fitQuality.resize(src.size);
+		pairs.resize(src.size);
+
+		final int numBlocks = Math.max(1,Math.min(src.size,BoofConcurrency.getMaxThreads()));
+		workspace.reset();
+		for (int block = 0; block < numBlocks; block++) {
+			workspace.grow().reset(dst.size);
+		}
+
+		BoofConcurrency.loopFor(0,numBlocks,block->{
+			int i0 = block*src.size/numBlocks;
+			int i1 = (block+1)*src.size/numBlocks;
+			ColumnBest columns = workspace.get(block);
+
+			for (int i = i0; i < i1; i++) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = maxFitError;
+			}
+
+			// Dst is traversed in increasing order for each src feature, ensuring that ties are resolved the
+			// same way as in the single threaded implementation
+			for (int j0 = 0; j0 < dst.size; j0 += tileSize) {
+				int j1 = Math.min(dst.size, j0 + tileSize);
+
+				for (int i = i0; i < i1; i++) {
+					D a = src.data[i];
+					double bestScore = fitQuality.data[i];
+					int bestIndex = pairs.data[i];
+
+					for (int j = j0; j < j1; j++) {
+						double fit = score.score(a, dst.data[j]);
+
+						if( fit <= bestScore ) {
+							bestIndex = j;
+							bestScore = fit;
+						}
+						if( backwardsValidation )
+							columns.add(j, fit);
+					}
+					pairs.data[i] = bestIndex;
+					fitQuality.data[i] = bestScore;
+				}
+			}
+		});
+
+		if( backwardsValidation )
+			backwardsValidation(src.size,numBlocks);
+	}
+
+	/**
+	 * Associates the two sets objects against each other by minimizing fit score. Descriptors are scored
+	 * directly from the packed arrays when supported by {@link ScoreAssociation}.
+	 *
+	 * @param src Source list.
+	 * @param dst Destination list.
+	 */
+	@Override
+	public void associate( PackedTupleArray<D> src , PackedTupleArray<D> dst ) {
+		checkPacked(src,dst);
+		final int numSrc = src.size();
+		final int numDst = dst.size();
+
+		fitQuality.resize(numSrc);
+		pairs.resize(numSrc);
+
+		final int numBlocks = Math.max(1,Math.min(numSrc,BoofConcurrency.getMaxThreads()));
+		workspace.reset();
+		for (int block = 0; block < numBlocks; block++) {
+			workspace.grow().reset(numDst);
+		}
+		if( !packedWork.isEmpty() && !packedWork.get(0).isCompatible(src) )
+			packedWork.clear();
+		while( packedWork.size() < numBlocks ) {
+			packedWork.add(new PackedWork<>(src));
+		}
+
+		BoofConcurrency.loopFor(0,numBlocks,block->{
+			int i0 = block*numSrc/numBlocks;
+			int i1 = (block+1)*numSrc/numBlocks;
+			ColumnBest columns = workspace.get(block);
+			PackedWork<D> work = packedWork.get(block);
+			if( work.scores.length < tileSize )
+				work.scores = new double[tileSize];
+
+			for (int i = i0; i < i1; i++) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = maxFitError;
+			}
+
+			for (int j0 = 0; j0 < numDst; j0 += tileSize) {
+				int j1 = Math.min(numDst, j0 + tileSize);
+
+				for (int i = i0; i < i1; i++) {
+					src.getCopy(i,work.src);
+					score.score(work.src,dst,j0,j1-j0,work.dst,work.scores,0);
+					double bestScore = fitQuality.data[i];
+					int bestIndex = pairs.data[i];
+
+					for (int j = j0; j < j1; j++) {
+						double fit = work.scores[j-j0];
+
+						if( fit <= bestScore ) {
+							bestIndex = j;
+							bestScore = fit;
+						}
+						if( backwardsValidation )
+							columns.add(j, fit);
+					}
+					pairs.data[i] = bestIndex;
+					fitQuality.data[i] = bestScore;
+				}
+			}
+		});
+
+		if( backwardsValidation )
+			backwardsValidation(numSrc,numBlocks);
+	}
+
+	/**
+	 * Merges the column scores from each block and removes associations where another src feature has a score
+	 * which is at least as good.
+	 */
+	private void backwardsValidation( int numSrc , int numBlocks ) {
+		ColumnBest columns = workspace.get(0);
+		for (int block = 1; block < numBlocks; block++) {
+			columns.add(workspace.get(block));
+		}
+
+		for( int i = 0; i < numSrc; i++ ) {
+			int match = pairs.data[i];
+			if( match == -1 )
+				continue;
+
+			// is there another src feature with a score which is at least as good?
+			double scoreToBeat = fitQuality.data[i];
+			if( columns.best[match] < scoreToBeat || columns.second[match] <= scoreToBeat ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = Double.MAX_VALUE;
+			}
+		}
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	public void setTileSize(int tileSize) {
+		this.tileSize = tileSize;
+	}
+
+	/**
+	 * Work space for a block of src features when associating packed arrays
+	 */
+	private static class PackedWork<D> {
+		// storage for descriptors copied out of the packed arrays
+		final D src, dst;
+		final int dof;
+		// scores for a tile of dst features
+		double[] scores = new double[0];
+
+		PackedWork( PackedTupleArray<D> packed ) {
+			src = packed.createDescription();
+			dst = packed.createDescription();
+			dof = packed.getDof();
+		}
+
+		boolean isCompatible( PackedTupleArray<D> packed ) {
+			return dof == packed.getDof() && src.getClass() == packed.getDescriptionType();
+		}
+	}
+
+	/**
+	 * The smallest and second smallest score in each column. NaN indicates that there is no value. Ties are
+	 * kept, so best and second will have the same value if two scores are identical.
+	 */
+	public static class ColumnBest {
+		public double[] best = new double[0];
+		public double[] second = new double[0];
+		// number of columns
+		public int length;
+
+		public void reset( int length ) {
+			this.length = length;
+			if( best.length < length ) {
+				best = new double[length];
+				second = new double[length];
+			}
+			for (int i = 0; i < length; i++) {
+				best[i] = Double.NaN;
+				second[i] = Double.NaN;
+			}
+		}
+
+		public void add( int column , double fit ) {
+			// NaN scores can never be a match
+			if( Double.isNaN(fit) )
+				return;
+
+			// comparisons are written so that they are true when the current value is NaN
+			if( !(fit >= best[column]) ) {
+				second[column] = best[column];
+				best[column] = fit;
+			} else if( !(fit >= second[column]) ) {
+				second[column] = fit;
+			}
+		}
+
+		/**
+		 * Merges the results from another block into this one
+		 */
+		public void add( ColumnBest src ) {
+			for (int i = 0; i < length; i++) {
+				add(i, src.best[i]);
+				add(i, src.second[i]);
+			}
+		}
+	}
+}
@@ -21,6 +21,9 @@ package boofcv.alg.feature.associate;
 import boofcv.abst.feature.associate.AssociateDescription;
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_Bright;
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_I32;
@@ -29,7 +32,8 @@ import org.ddogleg.struct.GrowQueue_I32;
 /**
  * Basic algorithm for specializing association for SURF features.  Two list of features are
  * created depending on the sign of the laplacian.  These lists are associated independently then
- * combined.
+ * combined. Features provided in a {@link PackedTupleArray} are split into two packed arrays which are
+ * passed directly to the association algorithm.
  *
  * @author Peter Abeles
  */
@@ -45,6 +49,12 @@ public class AssociateSurfBasic {
 	FastQueue<Helper> dstPositive = new FastQueue<>(10, Helper.class, true);
 	FastQueue<Helper> dstNegative = new FastQueue<>(10, Helper.class, true);
 
+	// packed features segmented by laplace sign
+	PackedSorted srcPacked = new PackedSorted();
+	PackedSorted dstPacked = new PackedSorted();
+	// true if the features were provided in a packed array
+	boolean isSrcPacked, isDstPacked;
+
 	// stores output matches
 	FastQueue<AssociatedIndex> matches = new FastQueue<>(10, AssociatedIndex.class, true);
 
@@ -57,10 +67,31 @@ public class AssociateSurfBasic {
 
 	public void setSrc( FastQueue<BrightFeature> src ) {
 		sort(src,srcPositive,srcNegative);
+		isSrcPacked = false;
 	}
 
 	public void setDst( FastQueue<BrightFeature> dst ) {
 		sort(dst,dstPositive,dstNegative);
+		isDstPacked = false;
+	}
+
+	/**
+	 * Specifies the source features using a packed array. The descriptors are copied into two packed arrays, one
+	 * for each sign of the laplacian, and no objects are created for individual features.
+	 */
+	public void setSrc( PackedTupleArray<BrightFeature> src ) {
+		srcPacked.sort(src);
+		isSrcPacked = true;
+	}
+
+	/**
+	 * Specifies the destination features using a packed array.
+	 *
+	 * @see #setSrc(PackedTupleArray)
+	 */
+	public void setDst( PackedTupleArray<BrightFeature> dst ) {
+		dstPacked.sort(dst);
+		isDstPacked = true;
 	}
 
 	/**
@@ -75,6 +106,14 @@ public class AssociateSurfBasic {
 		tmp = srcNegative;
 		srcNegative = dstNegative;
 		dstNegative = tmp;
+
+		PackedSorted tmpPacked = srcPacked;
+		srcPacked = dstPacked;
+		dstPacked = tmpPacked;
+
+		boolean tmpIsPacked = isSrcPacked;
+		isSrcPacked = isDstPacked;
+		isDstPacked = tmpIsPacked;
 	}
 
 	/**
@@ -86,39 +125,43 @@ public class AssociateSurfBasic {
 		matches.reset();
 		unassociatedSrc.reset();
 
-		if( srcPositive.size == 0 && srcNegative.size == 0 )
+		if( totalSource() == 0 )
 			return;
-		if( dstPositive.size == 0 && dstNegative.size == 0 )
+		if( totalDestination() == 0 )
 			return;
 
 		// find and add the matches
-		assoc.setSource((FastQueue)srcPositive);
-		assoc.setDestination((FastQueue) dstPositive);
+		associate(true);
+		associate(false);
+	}
+
+	/**
+	 * Associates features which have the specified sign and converts the matches into indexes of the input lists
+	 */
+	private void associate( boolean positive ) {
+		if( isSrcPacked )
+			assoc.setSource(srcPacked.get(positive));
+		else
+			assoc.setSource((FastQueue)(positive ? srcPositive : srcNegative));
+		if( isDstPacked )
+			assoc.setDestination(dstPacked.get(positive));
+		else
+			assoc.setDestination((FastQueue)(positive ? dstPositive : dstNegative));
 		assoc.associate();
 		FastQueue<AssociatedIndex> m = assoc.getMatches();
 		for( int i = 0; i < m.size; i++ ) {
 			AssociatedIndex a = m.data[i];
-			int globalSrcIndex = srcPositive.data[a.src].index;
-			int globalDstIndex = dstPositive.data[a.dst].index;
+			int globalSrcIndex = isSrcPacked ? srcPacked.index(positive).get(a.src) :
+					(positive ? srcPositive : srcNegative).data[a.src].index;
+			int globalDstIndex = isDstPacked ? dstPacked.index(positive).get(a.dst) :
+					(positive ? dstPositive : dstNegative).data[a.dst].index;
 			matches.grow().setAssociation(globalSrcIndex,globalDstIndex,a.fitScore);
 		}
 		GrowQueue_I32 un = assoc.getUnassociatedSource();
 		for( int i = 0; i < un.size; i++ ) {
-			unassociatedSrc.add(srcPositive.data[un.get(i)].index);
-		}
-		assoc.setSource((FastQueue)srcNegative);
-		assoc.setDestination((FastQueue) dstNegative);
-		assoc.associate();
-		m = assoc.getMatches();
-		for( int i = 0; i < m.size; i++ ) {
-			AssociatedIndex a = m.data[i];
-			int globalSrcIndex = srcNegative.data[a.src].index;
-			int globalDstIndex = dstNegative.data[a.dst].index;
-			matches.grow().setAssociation(globalSrcIndex,globalDstIndex,a.fitScore);
-		}
-		un = assoc.getUnassociatedSource();
-		for( int i = 0; i < un.size; i++ ) {
-			unassociatedSrc.add(srcNegative.data[un.get(i)].index);
+			int globalSrcIndex = isSrcPacked ? srcPacked.index(positive).get(un.get(i)) :
+					(positive ? srcPositive : srcNegative).data[un.get(i)].index;
+			unassociatedSrc.add(globalSrcIndex);
 		}
 	}
 
@@ -149,8 +192,12 @@ public class AssociateSurfBasic {
 		}
 	}
 
+	private int totalSource() {
+		return isSrcPacked ? srcPacked.size() : srcNegative.size + srcPositive.size;
+	}
+
 	public int totalDestination() {
-		return dstNegative.size + dstPositive.size;
+		return isDstPacked ? dstPacked.size() : dstNegative.size + dstPositive.size;
 	}
 
 	public GrowQueue_I32 getUnassociatedSrc() {
@@ -169,4 +216,59 @@ public class AssociateSurfBasic {
 			value = a.value;
 		}
 	}
+
+	/**
+	 * Packed features split by the sign of their laplacian, along with each feature's index in the input array
+	 */
+	static class PackedSorted {
+		PackedTupleArray_F64 positive, negative;
+		GrowQueue_I32 indexPositive = new GrowQueue_I32();
+		GrowQueue_I32 indexNegative = new GrowQueue_I32();
+
+		void sort( PackedTupleArray<BrightFeature> input ) {
+			final int dof = input.getDof();
+			if( positive == null || positive.getDof() != dof ) {
+				positive = new PackedTupleArray_F64(dof);
+				negative = new PackedTupleArray_F64(dof);
+			}
+			positive.reset();
+			negative.reset();
+			indexPositive.reset();
+			indexNegative.reset();
+
+			if( input instanceof PackedTupleArray_Bright ) {
+				// copy the descriptors directly between the arrays
+				PackedTupleArray_Bright bright = (PackedTupleArray_Bright)input;
+				for (int i = 0; i < bright.size(); i++) {
+					PackedTupleArray_F64 output = bright.white[i] ? positive : negative;
+					int offset = output.grow();
+					System.arraycopy(bright.data,i*dof,output.data,offset,dof);
+					(bright.white[i] ? indexPositive : indexNegative).add(i);
+				}
+			} else {
+				for (int i = 0; i < input.size(); i++) {
+					BrightFeature f = input.getTemp(i);
+					if( f.white ) {
+						positive.append(f);
+						indexPositive.add(i);
+					} else {
+						negative.append(f);
+						indexNegative.add(i);
+					}
+				}
+			}
+		}
+
+		PackedTupleArray_F64 get( boolean positive ) {
+			return positive ? this.positive : negative;
+		}
+
+		GrowQueue_I32 index( boolean positive ) {
+			return positive ? indexPositive : indexNegative;
+		}
+
+		int size() {
+			return indexPositive.size + indexNegative.size;
+		}
+	}
 }
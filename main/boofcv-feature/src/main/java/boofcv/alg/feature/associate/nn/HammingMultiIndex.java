@@ -0,0 +1,515 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Multi-index hashing [1] for finding the k-nearest neighbors of binary descriptors using the Hamming distance.
+ * Each descriptor is split into disjoint substrings and a hash table is created for each substring. If two
+ * descriptors have a Hamming distance of r then at least one of their m substrings must have a distance of
+ * r/m or less. The search probes the tables with a radius which is increased until the k-nearest neighbors
+ * are known to have been found. Each candidate is then verified by computing the full Hamming distance.
+ * </p>
+ *
+ * <p>
+ * The hash tables are directly addressed arrays, with one element for each possible substring value, and
+ * descriptors in the same bucket are stored in a doubly linked list. This allows descriptors to be added and
+ * removed without rebuilding the index. An ID is assigned to each descriptor when it's added and IDs
+ * of removed descriptors are recycled. After {@link #reset()} IDs are assigned sequentially starting from 0.
+ * </p>
+ *
+ * <p>
+ * Searches can be done concurrently using multiple instances of {@link Search} as long as the index isn't
+ * being modified at the same time.
+ * </p>
+ *
+ * <p>
+ * The number of buckets probed grows combinatorially with the radius. When a query has no close neighbors, e.g.
+ * the feature isn't in the index, probing would visit more buckets than there are descriptors. Once the number
+ * of buckets probed would exceed {@link #size()} the search switches to checking every remaining descriptor,
+ * which bounds the cost of a search by that of a brute force search.
+ * </p>
+ *
+ * <p>
+ * [1] Norouzi, Mohammad, Ali Punjani, and David J. Fleet. "Fast search in hamming space with multi-index
+ * hashing." CVPR 2012.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class HammingMultiIndex {
+
+	// Number of bits and ints in each descriptor
+	private final int numBits;
+	private final int numInts;
+
+	// Number of hash tables and the first bit and number of bits in each table's substring
+	private final int numTables;
+	private final int tableFirstBit[];
+	private final int tableBits[];
+	private final int maxTableBits;
+
+	// The first ID in each bucket or -1 if the bucket is empty. [table][substring]
+	private final int heads[][];
+	// Linked list of IDs in a bucket. Element at id*numTables+table
+	private int next[] = new int[0];
+	private int prev[] = new int[0];
+
+	// packed descriptors. ID 'i' starts at element i*numInts
+	private int data[] = new int[0];
+	// indicates if an ID is in use
+	private boolean active[] = new boolean[0];
+	// One more than the largest ID which has been assigned
+	private int idLimit;
+	// IDs which have been removed and can be reused
+	private GrowQueue_I32 unused = new GrowQueue_I32();
+
+	// searches used by batch queries
+	private List<Search> searches = new ArrayList<>();
+
+	/**
+	 * Configures the index
+	 *
+	 * @param numBits Number of bits in the descriptor
+	 * @param numTables Number of hash tables. The number of bits in each substring is numBits/numTables and
+	 *                  should be close to log2 of the number of descriptors. Each substring can have at most
+	 *                  24 bits.
+	 */
+	public HammingMultiIndex( int numBits , int numTables ) {
+		if( numTables <= 0 || numTables > numBits )
+			throw new IllegalArgumentException("numTables must be from 1 to numBits");
+		int substringBits = (numBits+numTables-1)/numTables;
+		if( substringBits > 24 )
+			throw new IllegalArgumentException("Too few tables. Each substring can have at most 24 bits");
+
+		this.numBits = numBits;
+		this.numInts = (numBits+31)/32;
+		this.numTables = numTables;
+
+		tableFirstBit = new int[numTables];
+		tableBits = new int[numTables];
+		heads = new int[numTables][];
+		for (int table = 0; table < numTables; table++) {
+			// distribute the bits evenly between the tables
+			tableFirstBit[table] = table*numBits/numTables;
+			tableBits[table] = (table+1)*numBits/numTables - tableFirstBit[table];
+			heads[table] = new int[1 << tableBits[table]];
+		}
+		// the way bits are distributed ensures the last table has the most
+		maxTableBits = tableBits[numTables-1];
+		reset();
+	}
+
+	/**
+	 * Removes all descriptors
+	 */
+	public void reset() {
+		for (int table = 0; table < numTables; table++) {
+			Arrays.fill(heads[table],-1);
+		}
+		Arrays.fill(active,0,idLimit,false);
+		idLimit = 0;
+		unused.reset();
+	}
+
+	/**
+	 * Adds a copy of the descriptor to the index
+	 *
+	 * @param desc Descriptor. Not modified.
+	 * @return The ID which was assigned to the descriptor
+	 */
+	public int add( TupleDesc_B desc ) {
+		if( desc.numBits != numBits )
+			throw new IllegalArgumentException("Unexpected number of bits. "+desc.numBits+" != "+numBits);
+		return add(desc.data,0);
+	}
+
+	/**
+	 * Adds a copy of a descriptor which is stored in an array, e.g. {@link PackedTupleArray_B}, using the same
+	 * layout as {@link TupleDesc_B#data}
+	 *
+	 * @param words Array containing the descriptor. Not modified.
+	 * @param offset Index of the descriptor's first element in the array
+	 * @return The ID which was assigned to the descriptor
+	 */
+	public int add( int[] words , int offset ) {
+		int id;
+		if( unused.size > 0 ) {
+			id = unused.pop();
+		} else {
+			id = idLimit++;
+			if( id >= active.length )
+				growCapacity(Math.max(16,active.length*2));
+		}
+
+		System.arraycopy(words,offset,data,id*numInts,numInts);
+		active[id] = true;
+
+		for (int table = 0; table < numTables; table++) {
+			int key = substring(data,id*numInts,table);
+			int head = heads[table][key];
+			int idx = id*numTables+table;
+			next[idx] = head;
+			prev[idx] = -1;
+			if( head >= 0 )
+				prev[head*numTables+table] = id;
+			heads[table][key] = id;
+		}
+
+		return id;
+	}
+
+	/**
+	 * Removes the descriptor with the specified ID from the index
+	 *
+	 * @param id ID of the descriptor
+	 */
+	public void remove( int id ) {
+		if( !isActive(id) )
+			throw new IllegalArgumentException("ID is not in use. "+id);
+
+		for (int table = 0; table < numTables; table++) {
+			int idx = id*numTables+table;
+			int n = next[idx];
+			int p = prev[idx];
+			if( p >= 0 )
+				next[p*numTables+table] = n;
+			else
+				heads[table][substring(data,id*numInts,table)] = n;
+			if( n >= 0 )
+				prev[n*numTables+table] = p;
+		}
+
+		active[id] = false;
+		unused.add(id);
+	}
+
+	private void growCapacity( int capacity ) {
+		next = Arrays.copyOf(next,capacity*numTables);
+		prev = Arrays.copyOf(prev,capacity*numTables);
+		data = Arrays.copyOf(data,capacity*numInts);
+		active = Arrays.copyOf(active,capacity);
+	}
+
+	/**
+	 * Extracts the substring for the table from the descriptor
+	 */
+	private int substring( int[] desc , int offset , int table ) {
+		int bit0 = tableFirstBit[table];
+		int word = bit0 >> 5;
+		long value = desc[offset+word] & 0xFFFFFFFFL;
+		if( word+1 < numInts )
+			value |= (desc[offset+word+1] & 0xFFFFFFFFL) << 32;
+		return (int)((value >>> (bit0 & 31)) & ((1L << tableBits[table])-1));
+	}
+
+	/**
+	 * Number of buckets which are a Hamming distance of 'radius' from a key with the specified number of bits
+	 */
+	static long countBuckets( int bits , int radius ) {
+		long count = 1;
+		for (int i = 0; i < radius; i++) {
+			count = count*(bits-i)/(i+1);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns true if the ID is assigned to a descriptor
+	 */
+	public boolean isActive( int id ) {
+		return id >= 0 && id < idLimit && active[id];
+	}
+
+	/**
+	 * Copies the descriptor with the specified ID
+	 */
+	public void getDescription( int id , TupleDesc_B output ) {
+		System.arraycopy(data,id*numInts,output.data,0,numInts);
+		output.numBits = numBits;
+	}
+
+	/**
+	 * Number of descriptors in the index
+	 */
+	public int size() {
+		return idLimit-unused.size;
+	}
+
+	/**
+	 * One more than the largest ID which has been assigned
+	 */
+	public int getIdLimit() {
+		return idLimit;
+	}
+
+	public int getNumBits() {
+		return numBits;
+	}
+
+	public int getNumTables() {
+		return numTables;
+	}
+
+	/**
+	 * Creates a new search. Each thread needs its own search.
+	 */
+	public Search createSearch() {
+		return new Search();
+	}
+
+	/**
+	 * Finds the k-nearest neighbors for each of the queries. If concurrency is turned on then the queries are
+	 * processed in parallel batches. The results for query 'i' are stored in elements i*k to (i+1)*k-1 of the
+	 * output arrays and are sorted by distance. If fewer than k neighbors are found then the remaining
+	 * elements have an ID of -1.
+	 *
+	 * @param queries (Input) Descriptors which are being searched for
+	 * @param k Number of neighbors. Must be greater than zero.
+	 * @param maxDistance Maximum Hamming distance of a neighbor. If negative there is no limit.
+	 * @param ids (Output) IDs of the neighbors
+	 * @param distances (Output) Hamming distance of the neighbors
+	 */
+	public void findNearest( FastQueue<TupleDesc_B> queries , int k , int maxDistance ,
+							 GrowQueue_I32 ids , GrowQueue_I32 distances ) {
+		findNearest(queries,null,queries.size,k,maxDistance,ids,distances);
+	}
+
+	/**
+	 * Same as {@link #findNearest(FastQueue, int, int, GrowQueue_I32, GrowQueue_I32)} but the queries are read
+	 * directly from a packed array.
+	 */
+	public void findNearest( PackedTupleArray_B queries , int k , int maxDistance ,
+							 GrowQueue_I32 ids , GrowQueue_I32 distances ) {
+		if( queries.getDof() != numBits )
+			throw new IllegalArgumentException("Unexpected number of bits. "+queries.getDof()+" != "+numBits);
+		findNearest(null,queries,queries.size(),k,maxDistance,ids,distances);
+	}
+
+	/**
+	 * Batch search where the queries are either in a list or a packed array. The other is null.
+	 */
+	private void findNearest( FastQueue<TupleDesc_B> list , PackedTupleArray_B packed , int numQueries ,
+							  int k , int maxDistance , GrowQueue_I32 ids , GrowQueue_I32 distances ) {
+		if( k <= 0 )
+			throw new IllegalArgumentException("k must be greater than zero. k = "+k);
+		ids.resize(numQueries*k);
+		distances.resize(numQueries*k);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			final int numBlocks = Math.max(1,Math.min(numQueries,BoofConcurrency.getMaxThreads()));
+			while( searches.size() < numBlocks ) {
+				searches.add(createSearch());
+			}
+			BoofConcurrency.loopFor(0,numBlocks,block->{
+				int idx0 = block*numQueries/numBlocks;
+				int idx1 = (block+1)*numQueries/numBlocks;
+				findNearest(searches.get(block),list,packed,idx0,idx1,k,maxDistance,ids,distances);
+			});
+		} else {
+			if( searches.isEmpty() )
+				searches.add(createSearch());
+			findNearest(searches.get(0),list,packed,0,numQueries,k,maxDistance,ids,distances);
+		}
+	}
+
+	private void findNearest( Search search , FastQueue<TupleDesc_B> list , PackedTupleArray_B packed ,
+							  int idx0 , int idx1 ,
+							  int k , int maxDistance , GrowQueue_I32 ids , GrowQueue_I32 distances ) {
+		for (int i = idx0; i < idx1; i++) {
+			int found;
+			if( packed == null )
+				found = search.findNearest(list.data[i],k,maxDistance);
+			else
+				found = search.findNearest(packed.data,i*numInts,k,maxDistance);
+			System.arraycopy(search.ids.data,0,ids.data,i*k,found);
+			System.arraycopy(search.distances.data,0,distances.data,i*k,found);
+			for (int j = found; j < k; j++) {
+				ids.data[i*k+j] = -1;
+				distances.data[i*k+j] = Integer.MAX_VALUE;
+			}
+		}
+	}
+
+	/**
+	 * Searches the index for the k-nearest neighbors. Contains the workspace for a search and is not thread safe.
+	 */
+	public class Search {
+		// IDs and distances of the neighbors which have been found, sorted by distance
+		public final GrowQueue_I32 ids = new GrowQueue_I32();
+		public final GrowQueue_I32 distances = new GrowQueue_I32();
+
+		// used to mark descriptors which have already been checked
+		int visited[] = new int[0];
+		int stamp;
+
+		int query[];
+		int queryOffset;
+		int k;
+
+		// number of buckets probed so far in the current search
+		long probed;
+		// true if the most recent search switched to checking every descriptor
+		boolean exhaustive;
+
+		/**
+		 * Searches for the k-nearest neighbors of the query
+		 *
+		 * @param query The descriptor being searched for
+		 * @param k Number of neighbors. Must be greater than zero.
+		 * @param maxDistance Maximum Hamming distance of a neighbor. If negative there is no limit.
+		 * @return Number of neighbors found
+		 */
+		public int findNearest( TupleDesc_B query , int k , int maxDistance ) {
+			return findNearest(query.data,0,k,maxDistance);
+		}
+
+		/**
+		 * Searches for the k-nearest neighbors of a query which is stored in an array, using the same
+		 * layout as {@link TupleDesc_B#data}
+		 *
+		 * @param query Array containing the descriptor being searched for
+		 * @param offset Index of the descriptor's first element in the array
+		 * @param k Number of neighbors. Must be greater than zero.
+		 * @param maxDistance Maximum Hamming distance of a neighbor. If negative there is no limit.
+		 * @return Number of neighbors found
+		 */
+		public int findNearest( int[] query , int offset , int k , int maxDistance ) {
+			if( k <= 0 )
+				throw new IllegalArgumentException("k must be greater than zero. k = "+k);
+			this.query = query;
+			this.queryOffset = offset;
+			this.k = k;
+			ids.reset();
+			distances.reset();
+			if( maxDistance < 0 )
+				maxDistance = numBits;
+
+			if( visited.length < idLimit ) {
+				visited = new int[active.length];
+				stamp = 0;
+			}
+			if( ++stamp == Integer.MAX_VALUE ) {
+				Arrays.fill(visited,0);
+				stamp = 1;
+			}
+
+			probed = 0;
+			exhaustive = false;
+			final int size = size();
+
+			for (int radius = 0; radius <= maxTableBits; radius++) {
+				for (int table = 0; table < numTables; table++) {
+					if( radius <= tableBits[table] ) {
+						// checking every descriptor is faster than probing more buckets than there are descriptors
+						probed += countBuckets(tableBits[table],radius);
+						if( probed > size ) {
+							checkAll(maxDistance);
+							return ids.size;
+						}
+						probe(table,substring(query,offset,table),0,radius,maxDistance);
+					}
+
+					// Descriptors which haven't been seen yet must have a distance of at least this
+					int lowerBound = radius*numTables + table + 1;
+					if( lowerBound > maxDistance )
+						return ids.size;
+					if( ids.size == k && distances.data[k-1] <= lowerBound )
+						return ids.size;
+				}
+			}
+			return ids.size;
+		}
+
+		/**
+		 * Checks every descriptor which hasn't already been visited
+		 */
+		private void checkAll( int maxDistance ) {
+			exhaustive = true;
+			for (int id = 0; id < idLimit; id++) {
+				if( !active[id] || visited[id] == stamp )
+					continue;
+				int distance = DescriptorDistance.hamming(data,id*numInts,query,queryOffset,numInts);
+				if( distance <= maxDistance )
+					addResult(id,distance);
+			}
+		}
+
+		/**
+		 * Visits all buckets with a substring that's a Hamming distance of 'remaining' from the key
+		 */
+		private void probe( int table , int key , int firstBit , int remaining , int maxDistance ) {
+			if( remaining == 0 ) {
+				checkBucket(table,key,maxDistance);
+				return;
+			}
+			int lastBit = tableBits[table]-remaining;
+			for (int bit = firstBit; bit <= lastBit; bit++) {
+				probe(table,key ^ (1 << bit),bit+1,remaining-1,maxDistance);
+			}
+		}
+
+		private void checkBucket( int table , int key , int maxDistance ) {
+			int id = heads[table][key];
+			while( id >= 0 ) {
+				if( visited[id] != stamp ) {
+					visited[id] = stamp;
+
+					int distance = DescriptorDistance.hamming(data,id*numInts,query,queryOffset,numInts);
+					if( distance <= maxDistance )
+						addResult(id,distance);
+				}
+				id = next[id*numTables+table];
+			}
+		}
+
+		/**
+		 * Inserts the neighbor into the sorted list of results if it's one of the k best
+		 */
+		private void addResult( int id , int distance ) {
+			if( ids.size == k ) {
+				if( distances.data[k-1] <= distance )
+					return;
+			} else {
+				ids.add(0);
+				distances.add(0);
+			}
+			int i = ids.size-1;
+			while( i > 0 && distances.data[i-1] > distance ) {
+				ids.data[i] = ids.data[i-1];
+				distances.data[i] = distances.data[i-1];
+				i--;
+			}
+			ids.data[i] = id;
+			distances.data[i] = distance;
+		}
+	}
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Random;
+
+/**
+ * <p>
+ * Approximate nearest neighbor search using a hierarchical k-means tree, as described in [1]. At each node the
+ * points are clustered using k-means and a child node is created for each cluster. Nodes with fewer points
+ * than the branching factor are leaves. The search descends to the closest cluster at each level and adds
+ * the other clusters to a priority queue which is sorted by the distance to their center. The search stops
+ * after the distance to a maximum number of points has been computed, which trades accuracy for speed.
+ * </p>
+ *
+ * <p>
+ * Nodes are stored in primitive arrays. The children of a node are next to each other, each with its
+ * cluster center, and leaves reference a range of point indexes.
+ * </p>
+ *
+ * <p>
+ * [1] Muja, Marius, and David G. Lowe. "Fast Approximate Nearest Neighbors with Automatic Algorithm
+ * Configuration." VISAPP (1) 2 (2009)
+ * </p>
+ *
+ * @param <D> Type of descriptor
+ *
+ * @author Peter Abeles
+ */
+public class KMeansTreeIndex<D> implements NnIndex<D> {
+
+	// number of clusters at each node
+	private int branchFactor;
+	// maximum number of k-means iterations
+	private int maxIterations;
+	private long randomSeed;
+	private Random rand;
+
+	// points which are being searched
+	private NnPointSet<D> points;
+
+	// Index of the first child. -1 if it's a leaf
+	private GrowQueue_I32 nodeChild = new GrowQueue_I32();
+	// Number of children
+	private GrowQueue_I32 nodeNumChild = new GrowQueue_I32();
+	// Leaf: range of elements in 'order' which contain the leaf's points
+	private GrowQueue_I32 nodeStart = new GrowQueue_I32();
+	private GrowQueue_I32 nodeEnd = new GrowQueue_I32();
+	// Center of the cluster each node represents. Node 'i' starts at element i*dof
+	private GrowQueue_F64 nodeCenter = new GrowQueue_F64();
+	// Point indexes arranged so that all the points in a node are next to each other
+	private int order[] = new int[0];
+
+	// workspace for k-means
+	private int assignment[] = new int[0];
+	private int tmpOrder[] = new int[0];
+	private double centers[] = new double[0];
+	private double sums[] = new double[0];
+	private int counts[] = new int[0];
+
+	/**
+	 * Configures the tree
+	 *
+	 * @param branchFactor Number of clusters at each node. Try 32
+	 * @param maxIterations Maximum number of k-means iterations. Try 7
+	 * @param randomSeed Seed for the random number generator used to select the initial cluster centers
+	 */
+	public KMeansTreeIndex( int branchFactor , int maxIterations , long randomSeed ) {
+		if( branchFactor < 2 )
+			throw new IllegalArgumentException("The branch factor must be at least 2");
+		this.branchFactor = branchFactor;
+		this.maxIterations = maxIterations;
+		this.randomSeed = randomSeed;
+	}
+
+	@Override
+	public void setPoints( NnPointSet<D> points ) {
+		this.points = points;
+		// reset the seed so that the same points always produce the same tree
+		rand = new Random(randomSeed);
+
+		int N = points.size();
+		int dof = points.getDof();
+		if( order.length < N ) {
+			order = new int[N];
+			assignment = new int[N];
+			tmpOrder = new int[N];
+		}
+		if( centers.length != branchFactor*dof ) {
+			centers = new double[branchFactor*dof];
+			sums = new double[branchFactor*dof];
+			counts = new int[branchFactor];
+		}
+
+		for (int i = 0; i < N; i++) {
+			order[i] = i;
+		}
+
+		nodeChild.reset();
+		nodeNumChild.reset();
+		nodeStart.reset();
+		nodeEnd.reset();
+		nodeCenter.reset();
+
+		// the root's center is never used
+		addNode();
+		build(0,0,N);
+	}
+
+	private int addNode() {
+		int node = nodeChild.size;
+		nodeChild.add(-1);
+		nodeNumChild.add(0);
+		nodeStart.add(0);
+		nodeEnd.add(0);
+
+		// grow the array geometrically since extend() only allocates what is requested
+		int length = nodeCenter.size+points.getDof();
+		if( nodeCenter.data.length < length )
+			nodeCenter.extend(Math.max(length,nodeCenter.data.length*2));
+		nodeCenter.size = length;
+		return node;
+	}
+
+	/**
+	 * Recursively clusters the points in the specified range of 'order' and creates children for the node
+	 */
+	private void build( int node , int start , int end ) {
+		nodeStart.data[node] = start;
+		nodeEnd.data[node] = end;
+
+		if( end-start <= branchFactor )
+			return;
+
+		int dof = points.getDof();
+		int numClusters = branchFactor;
+		cluster(start,end);
+
+		// count the number of non-empty clusters
+		int numChild = 0;
+		for (int c = 0; c < numClusters; c++) {
+			if( counts[c] > 0 )
+				numChild++;
+		}
+		// all the points are identical and can't be split
+		if( numChild <= 1 )
+			return;
+
+		// create children and copy the cluster centers into them
+		int firstChild = nodeChild.size;
+		int bounds[] = new int[numChild+1];
+		int clusterToChild[] = new int[numClusters];
+		for (int c = 0, child = 0; c < numClusters; c++) {
+			if( counts[c] == 0 )
+				continue;
+			int n = addNode();
+			System.arraycopy(centers,c*dof,nodeCenter.data,n*dof,dof);
+			clusterToChild[c] = child;
+			bounds[child+1] = bounds[child] + counts[c];
+			child++;
+		}
+		nodeChild.data[node] = firstChild;
+		nodeNumChild.data[node] = numChild;
+
+		// arrange the points so that each cluster is next to each other
+		int offsets[] = new int[numChild];
+		System.arraycopy(bounds,0,offsets,0,numChild);
+		for (int i = start; i < end; i++) {
+			int p = order[i];
+			tmpOrder[offsets[clusterToChild[assignment[p]]]++] = p;
+		}
+		System.arraycopy(tmpOrder,0,order,start,end-start);
+
+		// the workspace is no longer needed and can be used by the children
+		for (int child = 0; child < numChild; child++) {
+			build(firstChild+child,start+bounds[child],start+bounds[child+1]);
+		}
+	}
+
+	/**
+	 * Clusters the points using k-means. The cluster of each point is saved in 'assignment' and the number of
+	 * points in each cluster in 'counts'
+	 */
+	private void cluster( int start , int end ) {
+		int dof = points.getDof();
+		int K = branchFactor;
+
+		// randomly select the initial cluster centers from the points
+		for (int c = 0; c < K; c++) {
+			int j = start + c + rand.nextInt(end-start-c);
+			int tmp = order[start+c];
+			order[start+c] = order[j];
+			order[j] = tmp;
+			points.copyTo(order[start+c],centers,c*dof);
+		}
+
+		for (int iteration = 0; ; iteration++) {
+			// assign points to the closest cluster
+			boolean changed = false;
+			for (int i = start; i < end; i++) {
+				int p = order[i];
+				int best = 0;
+				double bestDistance = Double.MAX_VALUE;
+				for (int c = 0; c < K; c++) {
+					double d = points.distanceSq(p,centers,c*dof);
+					if( d < bestDistance ) {
+						bestDistance = d;
+						best = c;
+					}
+				}
+				if( iteration == 0 || assignment[p] != best ) {
+					changed = true;
+					assignment[p] = best;
+				}
+			}
+
+			for (int c = 0; c < K; c++) {
+				counts[c] = 0;
+			}
+			for (int i = start; i < end; i++) {
+				counts[assignment[order[i]]]++;
+			}
+
+			if( !changed || iteration >= maxIterations )
+				break;
+
+			// update the cluster centers. Empty clusters are left where they are
+			for (int i = 0; i < K*dof; i++) {
+				sums[i] = 0;
+			}
+			for (int i = start; i < end; i++) {
+				int p = order[i];
+				points.addTo(p,sums,assignment[p]*dof);
+			}
+			for (int c = 0; c < K; c++) {
+				if( counts[c] == 0 )
+					continue;
+				for (int k = 0; k < dof; k++) {
+					centers[c*dof+k] = sums[c*dof+k]/counts[c];
+				}
+			}
+		}
+	}
+
+	@Override
+	public NnIndexSearch<D> createSearch() {
+		return new Search();
+	}
+
+	/**
+	 * Best-bin-first search through the tree
+	 */
+	private class Search implements NnIndexSearch<D> {
+		NnNodeHeap heap = new NnNodeHeap();
+
+		D query;
+		double bestDistanceSq;
+		int bestIndex;
+		int checks;
+
+		@Override
+		public int findNearest( D query , double maxDistanceSq , int maxChecks ) {
+			this.query = query;
+			this.bestIndex = -1;
+			this.bestDistanceSq = maxDistanceSq < 0 ? Double.MAX_VALUE : Math.nextUp(maxDistanceSq);
+			this.checks = 0;
+
+			if( points.size() == 0 )
+				return -1;
+
+			heap.reset();
+			descend(0);
+			while( !heap.isEmpty() && checks < maxChecks ) {
+				descend(heap.pop());
+			}
+
+			return bestIndex;
+		}
+
+		/**
+		 * Traverses down to the leaf with the closest clusters, adding the other clusters to the heap
+		 */
+		private void descend( int node ) {
+			final int[] nodeChild = KMeansTreeIndex.this.nodeChild.data;
+			final int[] nodeNumChild = KMeansTreeIndex.this.nodeNumChild.data;
+			final double[] nodeCenter = KMeansTreeIndex.this.nodeCenter.data;
+			final int dof = points.getDof();
+
+			int first;
+			while( (first = nodeChild[node]) >= 0 ) {
+				int end = first + nodeNumChild[node];
+
+				int closest = first;
+				double closestDistance = points.distanceSq(query,nodeCenter,first*dof);
+				for (int child = first+1; child < end; child++) {
+					double d = points.distanceSq(query,nodeCenter,child*dof);
+					if( d < closestDistance ) {
+						heap.push(closest,closestDistance);
+						closestDistance = d;
+						closest = child;
+					} else {
+						heap.push(child,d);
+					}
+				}
+				node = closest;
+			}
+
+			int end = nodeEnd.data[node];
+			for (int i = nodeStart.data[node]; i < end; i++) {
+				int p = order[i];
+				checks++;
+				double d = points.distanceSq(p,query,bestDistanceSq);
+				if( d < bestDistanceSq ) {
+					bestDistanceSq = d;
+					bestIndex = p;
+				}
+			}
+		}
+
+		@Override
+		public double getDistanceSq() {
+			return bestDistanceSq;
+		}
+	}
+
+	public int getBranchFactor() {
+		return branchFactor;
+	}
+
+	public int getMaxIterations() {
+		return maxIterations;
+	}
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import org.ddogleg.struct.GrowQueue_F64;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * <p>
+ * Approximate nearest neighbor search using a randomized forest of K-D trees, as described in [1]. Each tree
+ * splits along a dimension which is randomly selected from the dimensions with the largest variance, at the mean
+ * value. All the trees are searched at the same time using a best-bin-first search with a single priority queue.
+ * The search stops after the distance to a maximum number of points has been computed, which trades accuracy
+ * for speed. Points are only checked once even if they are encountered in multiple trees.
+ * </p>
+ *
+ * <p>
+ * Nodes of all the trees are stored in primitive arrays and leaves reference a range of point indexes.
+ * </p>
+ *
+ * <p>
+ * [1] Muja, Marius, and David G. Lowe. "Fast Approximate Nearest Neighbors with Automatic Algorithm
+ * Configuration." VISAPP (1) 2 (2009)
+ * </p>
+ *
+ * @param <D> Type of descriptor
+ *
+ * @author Peter Abeles
+ */
+public class KdForestIndex<D> implements NnIndex<D> {
+
+	// number of trees in the forest
+	private int numTrees;
+	// the split dimension is randomly selected from this number of dimensions with the largest variance
+	private int numConsiderSplit;
+	// maximum number of points in a leaf
+	private int maxLeafSize = 4;
+	// maximum number of points which are used to compute the mean and variance at each node
+	private int maxSampleVariance = 100;
+	private long randomSeed;
+	private Random rand;
+
+	// points which are being searched
+	private NnPointSet<D> points;
+
+	// Index of each tree's root node
+	private int roots[] = new int[0];
+	// Dimension a node splits along. -1 if it's a leaf
+	private GrowQueue_I32 nodeDim = new GrowQueue_I32();
+	// Value the node splits at. NaN if the points could not be separated and both sides need to be searched
+	private GrowQueue_F64 nodeSplit = new GrowQueue_F64();
+	// Inner node: children with values less than and greater than or equal to the split
+	// Leaf: range of elements in 'order' which contain the leaf's points
+	private GrowQueue_I32 nodeA = new GrowQueue_I32();
+	private GrowQueue_I32 nodeB = new GrowQueue_I32();
+	// Point indexes. Each tree has its own region which is rearranged as the tree is constructed
+	private int order[] = new int[0];
+
+	// workspace for computing the split
+	private double mean[] = new double[0];
+	private double variance[] = new double[0];
+	private double work[] = new double[0];
+	private int topDims[] = new int[0];
+	private double topVariance[] = new double[0];
+
+	/**
+	 * Configures the forest
+	 *
+	 * @param numTrees Number of trees in the forest. Try 4 to 8
+	 * @param numConsiderSplit Number of dimensions with the largest variance which are randomly selected from
+	 *                         when splitting a node. Try 5
+	 * @param randomSeed Seed for the random number generator
+	 */
+	public KdForestIndex( int numTrees , int numConsiderSplit , long randomSeed ) {
+		if( numTrees <= 0 )
+			throw new IllegalArgumentException("There must be at least one tree");
+		if( numConsiderSplit <= 0 )
+			throw new IllegalArgumentException("numConsiderSplit must be more than zero");
+		this.numTrees = numTrees;
+		this.numConsiderSplit = numConsiderSplit;
+		this.randomSeed = randomSeed;
+	}
+
+	@Override
+	public void setPoints( NnPointSet<D> points ) {
+		this.points = points;
+		// reset the seed so that the same points always produce the same forest
+		rand = new Random(randomSeed);
+
+		int N = points.size();
+		int dof = points.getDof();
+		if( mean.length != dof ) {
+			mean = new double[dof];
+			variance = new double[dof];
+			work = new double[dof];
+		}
+		int numTop = Math.min(numConsiderSplit,dof);
+		if( topDims.length != numTop ) {
+			topDims = new int[numTop];
+			topVariance = new double[numTop];
+		}
+
+		if( order.length < N*numTrees )
+			order = new int[N*numTrees];
+		if( roots.length != numTrees )
+			roots = new int[numTrees];
+
+		nodeDim.reset();
+		nodeSplit.reset();
+		nodeA.reset();
+		nodeB.reset();
+
+		for (int tree = 0; tree < numTrees; tree++) {
+			int start = tree*N;
+			for (int i = 0; i < N; i++) {
+				order[start+i] = i;
+			}
+			// shuffle so that the points used to estimate the variance are a random sample
+			for (int i = N-1; i > 0; i--) {
+				int j = rand.nextInt(i+1);
+				int tmp = order[start+i];
+				order[start+i] = order[start+j];
+				order[start+j] = tmp;
+			}
+			roots[tree] = build(start,start+N);
+		}
+	}
+
+	/**
+	 * Recursively constructs the tree for points in the specified range of 'order'
+	 *
+	 * @return index of the node
+	 */
+	private int build( int start , int end ) {
+		int node = nodeDim.size;
+		nodeDim.add(-1);
+		nodeSplit.add(0);
+		nodeA.add(start);
+		nodeB.add(end);
+
+		if( end-start <= maxLeafSize )
+			return node;
+
+		int dim = selectSplitDimension(start,end);
+		double split = mean[dim];
+
+		// partition the points along the split
+		int i = start, j = end-1;
+		while( i <= j ) {
+			if( points.get(order[i],dim) < split ) {
+				i++;
+			} else {
+				int tmp = order[i];
+				order[i] = order[j];
+				order[j--] = tmp;
+			}
+		}
+		int middle = i;
+		if( middle == start || middle == end ) {
+			// The points can't be separated using the sample mean. Split them in half and search both sides
+			middle = (start+end)/2;
+			split = Double.NaN;
+		}
+
+		int left = build(start,middle);
+		int right = build(middle,end);
+
+		nodeDim.data[node] = dim;
+		nodeSplit.data[node] = split;
+		nodeA.data[node] = left;
+		nodeB.data[node] = right;
+		return node;
+	}
+
+	/**
+	 * Computes the mean and variance from a sample of the points then randomly selects one of the dimensions
+	 * with the largest variance.
+	 */
+	private int selectSplitDimension( int start , int end ) {
+		int dof = points.getDof();
+		int numSamples = Math.min(end-start,maxSampleVariance);
+
+		for (int k = 0; k < dof; k++) {
+			mean[k] = 0;
+			variance[k] = 0;
+		}
+		for (int i = 0; i < numSamples; i++) {
+			points.copyTo(order[start+i],work,0);
+			for (int k = 0; k < dof; k++) {
+				double v = work[k];
+				mean[k] += v;
+				variance[k] += v*v;
+			}
+		}
+
+		int numTop = 0;
+		for (int k = 0; k < dof; k++) {
+			mean[k] /= numSamples;
+			double v = variance[k]/numSamples - mean[k]*mean[k];
+
+			// insertion sort into the list of dimensions with the largest variance
+			if( numTop < topDims.length ) {
+				numTop++;
+			} else if( v <= topVariance[numTop-1] ) {
+				continue;
+			}
+			int i = numTop-1;
+			while( i > 0 && topVariance[i-1] < v ) {
+				topVariance[i] = topVariance[i-1];
+				topDims[i] = topDims[i-1];
+				i--;
+			}
+			topVariance[i] = v;
+			topDims[i] = k;
+		}
+
+		return topDims[rand.nextInt(numTop)];
+	}
+
+	@Override
+	public NnIndexSearch<D> createSearch() {
+		return new Search();
+	}
+
+	/**
+	 * Best-bin-first search through all the trees in the forest
+	 */
+	private class Search implements NnIndexSearch<D> {
+		NnNodeHeap heap = new NnNodeHeap();
+
+		// used to mark points which have already been checked in another tree
+		int visited[] = new int[0];
+		int stamp;
+
+		D query;
+		double bestDistanceSq;
+		int bestIndex;
+		int checks;
+
+		@Override
+		public int findNearest( D query , double maxDistanceSq , int maxChecks ) {
+			this.query = query;
+			this.bestIndex = -1;
+			this.bestDistanceSq = maxDistanceSq < 0 ? Double.MAX_VALUE : Math.nextUp(maxDistanceSq);
+			this.checks = 0;
+
+			if( points.size() == 0 )
+				return -1;
+
+			if( visited.length < points.size() ) {
+				visited = new int[points.size()];
+				stamp = 0;
+			}
+			if( ++stamp == Integer.MAX_VALUE ) {
+				Arrays.fill(visited,0);
+				stamp = 1;
+			}
+
+			heap.reset();
+			for (int tree = 0; tree < roots.length; tree++) {
+				descend(roots[tree]);
+			}
+
+			while( !heap.isEmpty() && checks < maxChecks ) {
+				// nodes are sorted by a lower bound on their distance so nothing better can be found
+				if( heap.peekKey() >= bestDistanceSq )
+					break;
+				descend(heap.pop());
+			}
+
+			return bestIndex;
+		}
+
+		/**
+		 * Traverses down to the leaf closest to the query, adding the other branches to the heap
+		 */
+		private void descend( int node ) {
+			final int[] nodeDim = KdForestIndex.this.nodeDim.data;
+			final double[] nodeSplit = KdForestIndex.this.nodeSplit.data;
+			final int[] nodeA = KdForestIndex.this.nodeA.data;
+			final int[] nodeB = KdForestIndex.this.nodeB.data;
+
+			int dim;
+			while( (dim = nodeDim[node]) >= 0 ) {
+				double split = nodeSplit[node];
+				double diff = points.getQuery(query,dim) - split;
+
+				int near,far;
+				double bound;
+				if( Double.isNaN(split) ) {
+					near = nodeA[node]; far = nodeB[node]; bound = 0;
+				} else if( diff < 0 ) {
+					near = nodeA[node]; far = nodeB[node]; bound = diff*diff;
+				} else {
+					near = nodeB[node]; far = nodeA[node]; bound = diff*diff;
+				}
+				if( bound < bestDistanceSq )
+					heap.push(far,bound);
+				node = near;
+			}
+
+			int end = nodeB[node];
+			for (int i = nodeA[node]; i < end; i++) {
+				int p = order[i];
+				if( visited[p] == stamp )
+					continue;
+				visited[p] = stamp;
+				checks++;
+				double d = points.distanceSq(p,query,bestDistanceSq);
+				if( d < bestDistanceSq ) {
+					bestDistanceSq = d;
+					bestIndex = p;
+				}
+			}
+		}
+
+		@Override
+		public double getDistanceSq() {
+			return bestDistanceSq;
+		}
+	}
+
+	public int getMaxLeafSize() {
+		return maxLeafSize;
+	}
+
+	public void setMaxLeafSize( int maxLeafSize ) {
+		this.maxLeafSize = maxLeafSize;
+	}
+
+	public int getNumTrees() {
+		return numTrees;
+	}
+}
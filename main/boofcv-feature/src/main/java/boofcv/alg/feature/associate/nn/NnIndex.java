@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+/**
+ * Index which is used to perform an approximate nearest neighbor search on a {@link NnPointSet}. Once
+ * the index has been constructed it is read only and can be searched by multiple threads at once, each
+ * with its own {@link NnIndexSearch}.
+ *
+ * @param <D> Type of descriptor
+ *
+ * @author Peter Abeles
+ */
+public interface NnIndex<D> {
+
+	/**
+	 * Constructs the index from the set of points. A reference to the set is saved and it must not be
+	 * modified until the index is no longer being used.
+	 *
+	 * @param points Points which are to be searched
+	 */
+	void setPoints( NnPointSet<D> points );
+
+	/**
+	 * Creates a new instance of a search. Each thread needs its own search.
+	 */
+	NnIndexSearch<D> createSearch();
+}
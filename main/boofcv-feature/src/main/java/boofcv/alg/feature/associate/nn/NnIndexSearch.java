@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+/**
+ * Searches a {@link NnIndex} for the nearest neighbor to a query. Contains all the workspace needed by a search
+ * and is not thread safe.
+ *
+ * @param <D> Type of descriptor
+ *
+ * @author Peter Abeles
+ */
+public interface NnIndexSearch<D> {
+
+	/**
+	 * Searches for the point which is closest to the query.
+	 *
+	 * @param query The query descriptor
+	 * @param maxDistanceSq The found point must have a Euclidean distance squared &le; this value.
+	 *                      If negative then there is no limit.
+	 * @param maxChecks Maximum number of points the distance is computed to. Larger values improve the chances
+	 *                  of the true nearest neighbor being found at the cost of speed.
+	 * @return Index of the nearest point found or -1 if none was found
+	 */
+	int findNearest( D query , double maxDistanceSq , int maxChecks );
+
+	/**
+	 * Euclidean distance squared of the point found in the most recent search.
+	 */
+	double getDistanceSq();
+}
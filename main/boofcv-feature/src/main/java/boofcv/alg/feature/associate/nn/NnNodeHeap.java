@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+/**
+ * Min-heap of nodes which have yet to be explored in a best-bin-first search. Stored in primitive arrays
+ * to avoid creating objects during the search.
+ *
+ * @author Peter Abeles
+ */
+public class NnNodeHeap {
+	// priority of each element in the heap. Smaller values are explored first
+	double keys[] = new double[16];
+	// index of the node
+	int nodes[] = new int[16];
+	int size;
+
+	/**
+	 * Adds the node to the heap
+	 */
+	public void push( int node , double key ) {
+		if( size == keys.length ) {
+			double[] k = new double[size*2];
+			int[] n = new int[size*2];
+			System.arraycopy(keys,0,k,0,size);
+			System.arraycopy(nodes,0,n,0,size);
+			keys = k;
+			nodes = n;
+		}
+
+		// sift up
+		int i = size++;
+		while( i > 0 ) {
+			int parent = (i-1)/2;
+			if( keys[parent] <= key )
+				break;
+			keys[i] = keys[parent];
+			nodes[i] = nodes[parent];
+			i = parent;
+		}
+		keys[i] = key;
+		nodes[i] = node;
+	}
+
+	/**
+	 * Removes the node with the smallest key. Call {@link #peekKey()} first to get its key.
+	 *
+	 * @return the node
+	 */
+	public int pop() {
+		int top = nodes[0];
+		size--;
+		if( size > 0 ) {
+			double key = keys[size];
+			int node = nodes[size];
+
+			// sift down
+			int i = 0;
+			while( true ) {
+				int child = 2*i+1;
+				if( child >= size )
+					break;
+				if( child+1 < size && keys[child+1] < keys[child] )
+					child++;
+				if( key <= keys[child] )
+					break;
+				keys[i] = keys[child];
+				nodes[i] = nodes[child];
+				i = child;
+			}
+			keys[i] = key;
+			nodes[i] = node;
+		}
+		return top;
+	}
+
+	/**
+	 * Key of the node on top of the heap
+	 */
+	public double peekKey() {
+		return keys[0];
+	}
+
+	public void reset() {
+		size = 0;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int size() {
+		return size;
+	}
+}
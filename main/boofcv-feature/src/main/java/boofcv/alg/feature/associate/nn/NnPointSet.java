@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.struct.feature.PackedTupleArray;
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Set of points which is searched by a {@link NnIndex}. All the points are packed into a single primitive array
+ * with a stride equal to the degree of freedom. This avoids a copy being made of each descriptor into its own
+ * array and keeps the points which are compared against each other close together in memory. Distance
+ * functions provide an early exit once the partial sum exceeds a limit, which is the inner loop of all
+ * the searches.
+ *
+ * @param <D> Type of descriptor
+ *
+ * @author Peter Abeles
+ */
+public abstract class NnPointSet<D> {
+	// Number of elements in each point
+	protected int dof;
+	// Number of points in the set
+	protected int size;
+
+	protected NnPointSet( int dof ) {
+		this.dof = dof;
+	}
+
+	/**
+	 * Discards the old points and copies the provided descriptors into the set
+	 *
+	 * @param points (Input) list of descriptors. Not modified.
+	 */
+	public void setTo( FastQueue<D> points ) {
+		reserve(points.size);
+		size = 0;
+		for (int i = 0; i < points.size; i++) {
+			add(points.data[i]);
+		}
+	}
+
+	/**
+	 * Discards the old points and copies the descriptors in the packed array into the set
+	 *
+	 * @param points (Input) packed array of descriptors. Not modified.
+	 */
+	public void setTo( PackedTupleArray<D> points ) {
+		reserve(points.size());
+		size = 0;
+		for (int i = 0; i < points.size(); i++) {
+			add(points.getTemp(i));
+		}
+	}
+
+	/**
+	 * Ensures the internal array has enough storage for the specified number of points
+	 */
+	public abstract void reserve( int numPoints );
+
+	/**
+	 * Copies the descriptor to the end of the set
+	 */
+	public abstract void add( D point );
+
+	/**
+	 * Returns the value of an element in a point
+	 */
+	public abstract double get( int point , int element );
+
+	/**
+	 * Returns the value of an element in a query descriptor
+	 */
+	public abstract double getQuery( D query , int element );
+
+	/**
+	 * Euclidean distance squared between a point in the set and the query. Once the distance is more than the
+	 * limit the computation stops and a value greater than the limit is returned.
+	 *
+	 * @param point Index of point in the set
+	 * @param query The query descriptor
+	 * @param limit Computation stops once the distance is greater than this value
+	 * @return Euclidean distance squared or a value more than limit.
+	 */
+	public abstract double distanceSq( int point , D query , double limit );
+
+	/**
+	 * Euclidean distance squared between a point in the set and a mean, e.g. a cluster center
+	 */
+	public abstract double distanceSq( int point , double[] mean , int offset );
+
+	/**
+	 * Euclidean distance squared between the query and a mean, e.g. a cluster center
+	 */
+	public abstract double distanceSq( D query , double[] mean , int offset );
+
+	/**
+	 * Adds the point to the sum. Used to compute a mean.
+	 */
+	public abstract void addTo( int point , double[] sum , int offset );
+
+	/**
+	 * Copies the point into the array
+	 */
+	public abstract void copyTo( int point , double[] array , int offset );
+
+	public int getDof() {
+		return dof;
+	}
+
+	public int size() {
+		return size;
+	}
+}
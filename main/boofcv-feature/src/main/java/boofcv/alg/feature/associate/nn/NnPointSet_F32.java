@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_F32;
+import boofcv.struct.feature.TupleDesc_F32;
+
+/**
+ * Implementation of {@link NnPointSet} for {@link TupleDesc_F32}. Points are stored in a float[] array.
+ *
+ * @author Peter Abeles
+ */
+public class NnPointSet_F32<D extends TupleDesc_F32> extends NnPointSet<D> {
+
+	// Packed points. Point 'i' starts at element i*dof
+	public float data[] = new float[0];
+
+	public NnPointSet_F32( int dof ) {
+		super(dof);
+	}
+
+	@Override
+	public void reserve( int numPoints ) {
+		int length = numPoints*dof;
+		if( data.length < length ) {
+			float tmp[] = new float[length];
+			System.arraycopy(data,0,tmp,0,size*dof);
+			data = tmp;
+		}
+	}
+
+	/**
+	 * If the input is a {@link PackedTupleArray_F32} then its array is copied in a single operation
+	 */
+	@Override
+	public void setTo( PackedTupleArray<D> points ) {
+		if( !(points instanceof PackedTupleArray_F32) ) {
+			super.setTo(points);
+			return;
+		}
+		PackedTupleArray_F32 packed = (PackedTupleArray_F32)points;
+		if( packed.getDof() != dof )
+			throw new IllegalArgumentException("Unexpected descriptor length. "+packed.getDof()+" != "+dof);
+		size = 0;
+		reserve(packed.size());
+		System.arraycopy(packed.data,0,data,0,packed.size()*dof);
+		size = packed.size();
+	}
+
+	@Override
+	public void add( D point ) {
+		if( point.value.length != dof )
+			throw new IllegalArgumentException("Unexpected descriptor length. "+point.value.length+" != "+dof);
+		if( data.length < (size+1)*dof )
+			reserve(Math.max(16,size*2));
+		System.arraycopy(point.value,0,data,size*dof,dof);
+		size++;
+	}
+
+	@Override
+	public double get( int point , int element ) {
+		return data[point*dof+element];
+	}
+
+	@Override
+	public double getQuery( D query , int element ) {
+		return query.value[element];
+	}
+
+	@Override
+	public double distanceSq( int point , D query , double limit ) {
+		final float[] q = query.value;
+		int index = point*dof;
+		double total = 0;
+
+		// check the limit after every block of 4 so that the branch doesn't dominate the computation
+		int i = 0;
+		int end = dof-3;
+		for (; i < end; i += 4 ) {
+			double d0 = data[index++] - q[i];
+			double d1 = data[index++] - q[i+1];
+			double d2 = data[index++] - q[i+2];
+			double d3 = data[index++] - q[i+3];
+			total += d0*d0 + d1*d1 + d2*d2 + d3*d3;
+			if( total > limit )
+				return total;
+		}
+		for (; i < dof; i++ ) {
+			double d = data[index++] - q[i];
+			total += d*d;
+		}
+		return total;
+	}
+
+	@Override
+	public double distanceSq( int point , double[] mean , int offset ) {
+		int index = point*dof;
+		double total = 0;
+		for (int i = 0; i < dof; i++) {
+			double d = data[index++] - mean[offset+i];
+			total += d*d;
+		}
+		return total;
+	}
+
+	@Override
+	public double distanceSq( D query , double[] mean , int offset ) {
+		final float[] q = query.value;
+		double total = 0;
+		for (int i = 0; i < dof; i++) {
+			double d = q[i] - mean[offset+i];
+			total += d*d;
+		}
+		return total;
+	}
+
+	@Override
+	public void addTo( int point , double[] sum , int offset ) {
+		int index = point*dof;
+		for (int i = 0; i < dof; i++) {
+			sum[offset+i] += data[index++];
+		}
+	}
+
+	@Override
+	public void copyTo( int point , double[] array , int offset ) {
+		int index = point*dof;
+		for (int i = 0; i < dof; i++) {
+			array[offset+i] = data[index++];
+		}
+	}
+}
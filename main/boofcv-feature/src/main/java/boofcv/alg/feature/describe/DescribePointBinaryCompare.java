@@ -90,22 +90,51 @@ public abstract class DescribePointBinaryCompare<T extends ImageGray<T>> {
 	 * @param feature Where the descriptor is written to.
 	 */
 	public void process( int c_x , int c_y , TupleDesc_B feature ) {
+		process(c_x,c_y,feature.data,0);
+	}
+
+	/**
+	 * Computes the descriptor at the specified point and writes it directly into an array, e.g. the array inside
+	 * of a {@link boofcv.struct.feature.PackedTupleArray_B}.
+	 *
+	 * @param c_x Center of region being described.
+	 * @param c_y Center of region being described.
+	 * @param output Array the descriptor is written into.
+	 * @param offset Index in output of the descriptor's first element.
+	 */
+	public void process( int c_x , int c_y , int[] output , int offset ) {
 		if( BoofMiscOps.checkInside(image,c_x, c_y, definition.radius) ) {
-			processInside(c_x,c_y,feature);
+			processInside(c_x,c_y,output,offset);
 		} else {
-			processBorder(c_x,c_y,feature);
+			processBorder(c_x,c_y,output,offset);
 		}
 	}
 
 	/**
 	 * Called if the descriptor region is contained entirely inside the image
 	 */
-	public abstract void processInside( int c_x , int c_y , TupleDesc_B feature );
+	public void processInside( int c_x , int c_y , TupleDesc_B feature ) {
+		processInside(c_x,c_y,feature.data,0);
+	}
 
 	/**
 	 * Called if the descriptor region goes outside the image border
 	 */
-	public abstract void processBorder( int c_x , int c_y , TupleDesc_B feature );
+	public void processBorder( int c_x , int c_y , TupleDesc_B feature ) {
+		processBorder(c_x,c_y,feature.data,0);
+	}
+
+	/**
+	 * Called if the descriptor region is contained entirely inside the image. Every element of the descriptor
+	 * is written to.
+	 */
+	public abstract void processInside( int c_x , int c_y , int[] output , int offset );
+
+	/**
+	 * Called if the descriptor region goes outside the image border. Every element of the descriptor
+	 * is written to.
+	 */
+	public abstract void processBorder( int c_x , int c_y , int[] output , int offset );
 
 	public BinaryCompareDefinition_I32 getDefinition() {
 		return definition;
@@ -88,6 +88,19 @@ public class DescribePointBrief<T extends ImageGray<T>> {
 		describe.process((int)c_x,(int)c_y,feature);
 	}
 
+	/**
+	 * Computes the descriptor at the specified point and writes it directly into an array, e.g. the array
+	 * inside of a {@link boofcv.struct.feature.PackedTupleArray_B}.
+	 *
+	 * @param c_x Center of region being described.
+	 * @param c_y Center of region being described.
+	 * @param output Array the descriptor is written into.
+	 * @param offset Index in output of the descriptor's first element.
+	 */
+	public void process( double c_x , double c_y , int[] output , int offset ) {
+		describe.process((int)c_x,(int)c_y,output,offset);
+	}
+
 	public BinaryCompareDefinition_I32 getDefinition() {
 		return describe.getDefinition();
 	}
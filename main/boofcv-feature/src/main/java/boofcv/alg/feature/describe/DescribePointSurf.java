@@ -181,6 +181,42 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 	 * @param ret storage for the feature. Must have 64 values.
 	 */
 	public void describe(double x, double y, double angle, double scale, TupleDesc_F64 ret)
+	{
+		// declare the feature if needed
+		if( ret == null )
+			ret = new BrightFeature(featureDOF);
+		else if( ret.value.length != featureDOF )
+			throw new IllegalArgumentException("Provided feature must have "+featureDOF+" values");
+
+		describeUnnormalized(x, y, angle, scale, ret.value, 0);
+	}
+
+	/**
+	 * Computes the normalized SURF descriptor and writes it directly into an array, e.g. the array inside of
+	 * a {@link boofcv.struct.feature.PackedTupleArray_F64}. The result is the same as
+	 * {@link #describe(double, double, double, double, BrightFeature)}.
+	 *
+	 * @param x Location of interest point.
+	 * @param y Location of interest point.
+	 * @param angle The angle the feature is pointing at in radians.
+	 * @param scale Scale of the interest point.
+	 * @param output Array the descriptor is written into.
+	 * @param offset Index in output of the descriptor's first element.
+	 * @return The Laplacian's sign. true if white
+	 */
+	public boolean describe(double x, double y, double angle, double scale, double[] output, int offset)
+	{
+		describeUnnormalized(x, y, angle, scale, output, offset);
+
+		// normalize feature vector to have an Euclidean length of 1
+		// adds light invariance
+		UtilFeature.normalizeL2(output, offset, featureDOF);
+
+		// Laplacian's sign
+		return computeLaplaceSign((int)(x+0.5),(int)(y+0.5), scale);
+	}
+
+	private void describeUnnormalized(double x, double y, double angle, double scale, double[] output, int offset)
 	{
 		double c = Math.cos(angle),s=Math.sin(angle);
 
@@ -189,12 +225,6 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 		boolean isInBounds =
 				SurfDescribeOps.isInside(ii,x,y, radiusDescriptor,widthSample,scale,c,s);
 
-		// declare the feature if needed
-		if( ret == null )
-			ret = new BrightFeature(featureDOF);
-		else if( ret.value.length != featureDOF )
-			throw new IllegalArgumentException("Provided feature must have "+featureDOF+" values");
-
 		gradient.setImage(ii);
 		gradient.setWidth(widthSample*scale);
 
@@ -202,7 +232,7 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 		SparseImageGradient gradient = isInBounds ? this.gradient : this.gradientSafe;
 
 		// extract descriptor
-		features(x, y, c, s, scale, gradient , ret.value);
+		features(x, y, c, s, scale, gradient , output, offset);
 	}
 
 	/**
@@ -229,6 +259,20 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 						 double c , double s, double scale,
 						 SparseImageGradient gradient ,
 						 double[] features)
+	{
+		features(c_x, c_y, c, s, scale, gradient, features, 0);
+	}
+
+	/**
+	 * Same as {@link #features(double, double, double, double, double, SparseImageGradient, double[])} but the
+	 * features are written starting at the specified offset.
+	 *
+	 * @param offset Index in features that the first feature is written to.
+	 */
+	public void features(double c_x, double c_y,
+						 double c , double s, double scale,
+						 SparseImageGradient gradient ,
+						 double[] features, int offset)
 	{
 		int regionSize = widthLargeGrid*widthSubRegion;
 		if( weight.width != regionSize ) {
@@ -238,7 +282,7 @@ public class DescribePointSurf<II extends ImageGray<II>> {
 		int regionR = regionSize/2;
 		int regionEnd = regionSize-regionR;
 
-		int regionIndex = 0;
+		int regionIndex = offset;
 
 		// when computing the pixel coordinates it is more precise to round to the nearest integer
 		// since pixels are always positive round() is equivalent to adding 0.5 and then converting
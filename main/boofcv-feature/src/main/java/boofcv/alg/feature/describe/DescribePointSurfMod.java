@@ -110,10 +110,12 @@ public class DescribePointSurfMod<II extends ImageGray<II>> extends DescribePoin
 	 * @param s sine of the orientation
 	 * @param scale The scale of the wavelets.
 	 * @param features Where the features are written to.  Must be 4*(widthLargeGrid*widthSubRegion)^2 large.
+	 * @param offset Index in features that the first feature is written to.
 	 */
+	@Override
 	public void features(double c_x, double c_y,
 						 double c , double s,
-						 double scale,  SparseImageGradient gradient , double[] features)
+						 double scale,  SparseImageGradient gradient , double[] features, int offset)
 	{
 		int regionSize = widthLargeGrid*widthSubRegion;
 
@@ -123,7 +125,7 @@ public class DescribePointSurfMod<II extends ImageGray<II>> extends DescribePoin
 		int regionEnd = regionSize-regionR;
 
 		int sampleGridWidth = regionSize+2*overLap;
-		int regionIndex = 0;
+		int regionIndex = offset;
 
 		// when computing the pixel coordinates it is more precise to round to the nearest integer
 		// since pixels are always positive round() is equivalent to adding 0.5 and then converting
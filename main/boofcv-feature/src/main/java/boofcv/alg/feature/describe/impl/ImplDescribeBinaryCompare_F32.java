@@ -20,12 +20,9 @@ package boofcv.alg.feature.describe.impl;
 
 import boofcv.alg.feature.describe.DescribePointBinaryCompare;
 import boofcv.alg.feature.describe.brief.BinaryCompareDefinition_I32;
-import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.GrayF32;
 import georegression.struct.point.Point2D_I32;
 
-import java.util.Arrays;
-
 /**
  * <p>
  * Implementation of {@link DescribePointBinaryCompare} for a specific image type.
@@ -44,10 +41,8 @@ public class ImplDescribeBinaryCompare_F32 extends DescribePointBinaryCompare<Gr
 	}
 
 	@Override
-	public void processInside( int c_x , int c_y , TupleDesc_B feature )
+	public void processInside( int c_x , int c_y , int[] output , int offset )
 	{
-		Arrays.fill(feature.data, 0);
-
 		int index = image.startIndex + image.stride*c_y + c_x;
 
 		for( int i = 0; i < definition.compare.length; i += 32 ) {
@@ -66,14 +61,12 @@ public class ImplDescribeBinaryCompare_F32 extends DescribePointBinaryCompare<Gr
 				}
 			}
 
-			feature.data[ i/32 ] = desc;
+			output[ offset + i/32 ] = desc;
 		}
 	}
 
 	@Override
-	public void processBorder( int c_x , int c_y , TupleDesc_B feature ) {
-		Arrays.fill(feature.data, 0);
-
+	public void processBorder( int c_x , int c_y , int[] output , int offset ) {
 		int index = image.startIndex + image.stride*c_y + c_x;
 
 		for( int i = 0; i < definition.compare.length; i += 32 ) {
@@ -96,7 +89,7 @@ public class ImplDescribeBinaryCompare_F32 extends DescribePointBinaryCompare<Gr
 					}
 				}
 			}
-			feature.data[ i/32 ] = desc;
+			output[ offset + i/32 ] = desc;
 		}
 	}
 
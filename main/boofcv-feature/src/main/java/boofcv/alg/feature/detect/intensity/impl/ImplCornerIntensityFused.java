@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImagePool;
+import boofcv.struct.image.ImageType;
+
+/**
+ * <p>
+ * Computes Harris and Shi-Tomasi corner intensity directly from the input image in a single pass.  Each input
+ * row's Sobel gradient is computed, summed across the window horizontally, and the sum is saved in a ring buffer
+ * which holds just enough rows for the window. Vertical sums are updated as rows enter and leave the ring buffer,
+ * from which the corner intensity of a row is then computed.  None of the intermediate images used by
+ * {@link ImplSsdCorner_F32} and {@link ImplSsdCorner_S16} are needed. The ring buffer is leased from
+ * {@link ImagePool}.
+ * </p>
+ *
+ * <p>
+ * The gradient is the same as {@link boofcv.alg.filter.derivative.GradientSobel} with an extended image border and
+ * the intensity is the same as {@link ImplHarrisCorner_F32}, {@link ImplShiTomasiCorner_F32},
+ * {@link ImplHarrisCorner_S16} and {@link ImplShiTomasiCorner_S16}.  As with those algorithms, the intensity
+ * of pixels less than the window radius from the image border is zero.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplCornerIntensityFused {
+
+	private static final ImageType<GrayF32> WORK_F32 = ImageType.single(GrayF32.class);
+	private static final ImageType<GrayS32> WORK_S32 = ImageType.single(GrayS32.class);
+
+	/**
+	 * Computes the Harris corner intensity
+	 *
+	 * @param input Input image. Not modified.
+	 * @param radius Radius of the square window
+	 * @param kappa Harris tuning parameter
+	 * @param intensity Corner intensity. Modified.
+	 */
+	public static void harris( GrayF32 input , int radius , float kappa , GrayF32 intensity ) {
+		process(input,radius,true,kappa,intensity);
+	}
+
+	/**
+	 * Computes the Shi-Tomasi corner intensity, i.e. the smallest eigenvalue
+	 *
+	 * @param input Input image. Not modified.
+	 * @param radius Radius of the square window
+	 * @param intensity Corner intensity. Modified.
+	 */
+	public static void shiTomasi( GrayF32 input , int radius , GrayF32 intensity ) {
+		process(input,radius,false,0,intensity);
+	}
+
+	/**
+	 * @see #harris(GrayF32, int, float, GrayF32)
+	 */
+	public static void harris( GrayU8 input , int radius , float kappa , GrayF32 intensity ) {
+		process(input,radius,true,kappa,intensity);
+	}
+
+	/**
+	 * @see #shiTomasi(GrayF32, int, GrayF32)
+	 */
+	public static void shiTomasi( GrayU8 input , int radius , GrayF32 intensity ) {
+		process(input,radius,false,0,intensity);
+	}
+
+	private static void process( GrayF32 input , int radius , boolean harris , float kappa , GrayF32 intensity ) {
+		ImageMiscOps.fillBorder(intensity,0,radius);
+		if( input.width <= 2*radius || input.height <= 2*radius )
+			return;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(radius,input.height-radius,minBlockRows(radius),(y0,y1)->process(input,radius,harris,kappa,intensity,y0,y1));
+		process(input,radius,harris,kappa,intensity,radius,input.height-radius);
+	}
+
+	private static void process( GrayU8 input , int radius , boolean harris , float kappa , GrayF32 intensity ) {
+		ImageMiscOps.fillBorder(intensity,0,radius);
+		if( input.width <= 2*radius || input.height <= 2*radius )
+			return;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(radius,input.height-radius,minBlockRows(radius),(y0,y1)->process(input,radius,harris,kappa,intensity,y0,y1));
+		process(input,radius,harris,kappa,intensity,radius,input.height-radius);
+	}
+
+	/**
+	 * Computes the intensity for rows y0 to y1-1, inclusive.
+	 */
+	public static void process( GrayF32 input , int radius , boolean harris , float kappa ,
+								GrayF32 intensity , int y0 , int y1 ) {
+		final int width = input.width;
+		final int windowWidth = 2*radius+1;
+
+		ImagePool pool = ImagePool.getDefault();
+		// ring buffers for XX, XY, YY horizontal sums, gradient of a row, and vertical sums
+		GrayF32 work = pool.acquire(WORK_F32,width,3*windowWidth+5);
+		try {
+			final float[] w = work.data;
+			final int offXY = windowWidth*width;
+			final int offYY = 2*windowWidth*width;
+			final int offDX = 3*windowWidth*width;
+			final int offDY = offDX + width;
+			final int offTXX = offDY + width;
+			final int offTXY = offTXX + width;
+			final int offTYY = offTXY + width;
+
+			for( int x = radius; x < width-radius; x++ ) {
+				w[offTXX+x] = w[offTXY+x] = w[offTYY+x] = 0;
+			}
+
+			for( int i = 0, row = y0-radius; row < y1+radius; i++, row++ ) {
+				gradientRow(input,row,w,offDX,offDY);
+
+				final int slot = (i%windowWidth)*width;
+				final boolean replace = i >= windowWidth;
+
+				float totalXX = 0, totalXY = 0, totalYY = 0;
+				for( int x = 0; x < windowWidth; x++ ) {
+					float dx = w[offDX+x];
+					float dy = w[offDY+x];
+					totalXX += dx*dx;
+					totalXY += dx*dy;
+					totalYY += dy*dy;
+				}
+
+				for( int x = windowWidth; ; x++ ) {
+					final int index = slot + x - radius - 1;
+					final int indexT = x - radius - 1;
+					if( replace ) {
+						w[offTXX+indexT] = w[offTXX+indexT] - w[index];
+						w[offTXY+indexT] = w[offTXY+indexT] - w[offXY+index];
+						w[offTYY+indexT] = w[offTYY+indexT] - w[offYY+index];
+					}
+					w[index] = totalXX;
+					w[offXY+index] = totalXY;
+					w[offYY+index] = totalYY;
+					w[offTXX+indexT] += totalXX;
+					w[offTXY+indexT] += totalXY;
+					w[offTYY+indexT] += totalYY;
+
+					if( x == width )
+						break;
+
+					float dx = w[offDX+x-windowWidth];
+					float dy = w[offDY+x-windowWidth];
+					totalXX -= dx*dx;
+					totalXY -= dx*dy;
+					totalYY -= dy*dy;
+
+					dx = w[offDX+x];
+					dy = w[offDY+x];
+					totalXX += dx*dx;
+					totalXY += dx*dy;
+					totalYY += dy*dy;
+				}
+
+				if( i < windowWidth-1 )
+					continue;
+
+				int indexDst = intensity.startIndex + (row-radius)*intensity.stride + radius;
+				for( int x = radius; x < width-radius; x++ ) {
+					intensity.data[indexDst++] = score(w[offTXX+x],w[offTXY+x],w[offTYY+x],harris,kappa);
+				}
+			}
+		} finally {
+			pool.release(work);
+		}
+	}
+
+	/**
+	 * Computes the intensity for rows y0 to y1-1, inclusive.
+	 */
+	public static void process( GrayU8 input , int radius , boolean harris , float kappa ,
+								GrayF32 intensity , int y0 , int y1 ) {
+		final int width = input.width;
+		final int windowWidth = 2*radius+1;
+
+		ImagePool pool = ImagePool.getDefault();
+		// ring buffers for XX, XY, YY horizontal sums, gradient of a row, and vertical sums
+		GrayS32 work = pool.acquire(WORK_S32,width,3*windowWidth+5);
+		try {
+			final int[] w = work.data;
+			final int offXY = windowWidth*width;
+			final int offYY = 2*windowWidth*width;
+			final int offDX = 3*windowWidth*width;
+			final int offDY = offDX + width;
+			final int offTXX = offDY + width;
+			final int offTXY = offTXX + width;
+			final int offTYY = offTXY + width;
+
+			for( int x = radius; x < width-radius; x++ ) {
+				w[offTXX+x] = w[offTXY+x] = w[offTYY+x] = 0;
+			}
+
+			for( int i = 0, row = y0-radius; row < y1+radius; i++, row++ ) {
+				gradientRow(input,row,w,offDX,offDY);
+
+				final int slot = (i%windowWidth)*width;
+				final boolean replace = i >= windowWidth;
+
+				int totalXX = 0, totalXY = 0, totalYY = 0;
+				for( int x = 0; x < windowWidth; x++ ) {
+					int dx = w[offDX+x];
+					int dy = w[offDY+x];
+					totalXX += dx*dx;
+					totalXY += dx*dy;
+					totalYY += dy*dy;
+				}
+
+				for( int x = windowWidth; ; x++ ) {
+					final int index = slot + x - radius - 1;
+					final int indexT = x - radius - 1;
+					if( replace ) {
+						w[offTXX+indexT] -= w[index];
+						w[offTXY+indexT] -= w[offXY+index];
+						w[offTYY+indexT] -= w[offYY+index];
+					}
+					w[index] = totalXX;
+					w[offXY+index] = totalXY;
+					w[offYY+index] = totalYY;
+					w[offTXX+indexT] += totalXX;
+					w[offTXY+indexT] += totalXY;
+					w[offTYY+indexT] += totalYY;
+
+					if( x == width )
+						break;
+
+					int dx = w[offDX+x-windowWidth];
+					int dy = w[offDY+x-windowWidth];
+					totalXX -= dx*dx;
+					totalXY -= dx*dy;
+					totalYY -= dy*dy;
+
+					dx = w[offDX+x];
+					dy = w[offDY+x];
+					totalXX += dx*dx;
+					totalXY += dx*dy;
+					totalYY += dy*dy;
+				}
+
+				if( i < windowWidth-1 )
+					continue;
+
+				int indexDst = intensity.startIndex + (row-radius)*intensity.stride + radius;
+				for( int x = radius; x < width-radius; x++ ) {
+					intensity.data[indexDst++] = score(w[offTXX+x],w[offTXY+x],w[offTYY+x],harris,kappa);
+				}
+			}
+		} finally {
+			pool.release(work);
+		}
+	}
+
+	/**
+	 * Sobel gradient of a single row. Pixels outside the image are set to the value of the closest pixel.
+	 */
+	private static void gradientRow( GrayF32 input , int row , float[] w , int offDX , int offDY ) {
+		final float[] data = input.data;
+		final int width = input.width;
+		final int rowM = input.startIndex + Math.max(row-1,0)*input.stride;
+		final int row0 = input.startIndex + row*input.stride;
+		final int rowP = input.startIndex + Math.min(row+1,input.height-1)*input.stride;
+
+		sobel(data,rowM,row0,rowP,0,0,Math.min(1,width-1),w,offDX,offDY);
+		for( int x = 1; x < width-1; x++ ) {
+			sobel(data,rowM,row0,rowP,x-1,x,x+1,w,offDX+x,offDY+x);
+		}
+		if( width > 1 )
+			sobel(data,rowM,row0,rowP,width-2,width-1,width-1,w,offDX+width-1,offDY+width-1);
+	}
+
+	private static void sobel( float[] data , int rowM , int row0 , int rowP , int xm , int x , int xp ,
+							   float[] w , int indexX , int indexY ) {
+		float v = (data[rowP+xp] - data[rowM+xm])*0.25F;
+		float u = (data[rowP+xm] - data[rowM+xp])*0.25F;
+
+		w[indexY] = (data[rowP+x] - data[rowM+x])*0.5F + v + u;
+		w[indexX] = (data[row0+xp] - data[row0+xm])*0.5F + v - u;
+	}
+
+	/**
+	 * Sobel gradient of a single row. Pixels outside the image are set to the value of the closest pixel.
+	 */
+	private static void gradientRow( GrayU8 input , int row , int[] w , int offDX , int offDY ) {
+		final byte[] data = input.data;
+		final int width = input.width;
+		final int rowM = input.startIndex + Math.max(row-1,0)*input.stride;
+		final int row0 = input.startIndex + row*input.stride;
+		final int rowP = input.startIndex + Math.min(row+1,input.height-1)*input.stride;
+
+		sobel(data,rowM,row0,rowP,0,0,Math.min(1,width-1),w,offDX,offDY);
+		for( int x = 1; x < width-1; x++ ) {
+			sobel(data,rowM,row0,rowP,x-1,x,x+1,w,offDX+x,offDY+x);
+		}
+		if( width > 1 )
+			sobel(data,rowM,row0,rowP,width-2,width-1,width-1,w,offDX+width-1,offDY+width-1);
+	}
+
+	private static void sobel( byte[] data , int rowM , int row0 , int rowP , int xm , int x , int xp ,
+							   int[] w , int indexX , int indexY ) {
+		int v = (data[rowP+xp] & 0xFF) - (data[rowM+xm] & 0xFF);
+		int u = (data[rowP+xm] & 0xFF) - (data[rowM+xp] & 0xFF);
+
+		w[indexY] = ((data[rowP+x] & 0xFF) - (data[rowM+x] & 0xFF))*2 + v + u;
+		w[indexX] = ((data[row0+xp] & 0xFF) - (data[row0+xm] & 0xFF))*2 + v - u;
+	}
+
+	private static float score( float totalXX , float totalXY , float totalYY , boolean harris , float kappa ) {
+		if( harris ) {
+			// det(A) - kappa*trace(A)^2
+			float trace = totalXX + totalYY;
+			return (totalXX * totalYY - totalXY * totalXY) - kappa * trace*trace;
+		} else {
+			// the smallest eigenvalue
+			float left = (totalXX + totalYY) * 0.5f;
+			float b = (totalXX - totalYY) * 0.5f;
+			float right = (float)Math.sqrt(b * b + totalXY * totalXY);
+			return left - right;
+		}
+	}
+
+	private static float score( int totalXX , int totalXY , int totalYY , boolean harris , float kappa ) {
+		if( harris ) {
+			// det(A) - kappa*trace(A)^2
+			float fXX = totalXX, fYY = totalYY, fXY = totalXY;
+			float trace = fXX + fYY;
+			return (fXX * fYY - fXY * fXY) - kappa * trace*trace;
+		} else {
+			// the smallest eigenvalue
+			double left = (totalXX + totalYY) * 0.5;
+			double b = (totalXX - totalYY) * 0.5;
+			double right = Math.sqrt(b * b + ((double)totalXY) * totalXY);
+			return (float)(left - right);
+		}
+	}
+
+	/**
+	 * Each block of rows processed by a thread recomputes the gradient of the rows it shares with the
+	 * neighboring blocks. The block is made large enough that this is insignificant.
+	 */
+	private static int minBlockRows( int radius ) {
+		return Math.max(16,8*radius);
+	}
+}
@@ -28,6 +28,9 @@ import boofcv.struct.image.ImageGray;
 
 /**
  * Detects features using {@link GeneralFeatureDetector} but Handles all the derivative computations automatically.
+ * Derivatives are only computed if the feature intensity requires them.  Intensities which are computed directly from
+ * the input image, e.g. {@link boofcv.factory.feature.detect.intensity.FactoryIntensityPoint#shiTomasiFused}, avoid
+ * the memory passes needed to compute and store the derivative images.
  *
  * @author Peter Abeles
  */
@@ -20,6 +20,9 @@ package boofcv.factory.feature.associate;
 
 import boofcv.abst.feature.associate.*;
 import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.AssociateGreedy_MT;
+import boofcv.alg.feature.associate.nn.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.feature.*;
 import org.ddogleg.nn.FactoryNearestNeighbor;
 import org.ddogleg.nn.NearestNeighbor;
@@ -36,8 +39,12 @@ public class FactoryAssociation {
 	/**
 	 * Returns an algorithm for associating features together which uses a brute force greedy algorithm.
 	 * See {@link AssociateGreedy} for details.
+	 *
+	 * If {@link BoofConcurrency#USE_CONCURRENT} is true then {@link AssociateGreedy_MT} is returned and the score
+	 * is called from several threads at once. The provided {@link ScoreAssociation} must then be thread safe,
+	 * which is the case for all the implementations in BoofCV.
 	 * 
-	 * @param score Computes the fit score between two features.
+	 * @param score Computes the fit score between two features. Must be thread safe when concurrency is enabled.
 	 * @param maxError Maximum allowed error/fit score between two features.  To disable set to Double.MAX_VALUE
 	 * @param backwardsValidation If true associations are validated by associating in the reverse direction.  If the 
 	 *                  forward and reverse matches fit an association is excepted.
@@ -49,7 +56,11 @@ public class FactoryAssociation {
 			double maxError ,
 			boolean backwardsValidation )
 	{
-		AssociateGreedy<D> alg = new AssociateGreedy<>(score, backwardsValidation);
+		AssociateGreedy<D> alg;
+		if( BoofConcurrency.USE_CONCURRENT )
+			alg = new AssociateGreedy_MT<>(score, backwardsValidation);
+		else
+			alg = new AssociateGreedy<>(score, backwardsValidation);
 		alg.setMaxFitError(maxError);
 		WrapAssociateGreedy<D> ret = new WrapAssociateGreedy<>(alg);
 		return ret;
@@ -99,6 +110,110 @@ public class FactoryAssociation {
 		return new AssociateNearestNeighbor<>(nn, dimension);
 	}
 
+	/**
+	 * Approximate association using a randomized forest of K-D trees. Descriptors are stored in a packed array,
+	 * which avoids the overhead of {@link #kdRandomForest}, and destination features are searched for
+	 * in parallel. Works with {@link TupleDesc_F32} and {@link TupleDesc_F64}.
+	 *
+	 * @see AssociateNnIndex
+	 * @see KdForestIndex
+	 *
+	 * @param type Type of descriptor
+	 * @param dimension Number of elements in the feature vector
+	 * @param maxChecks Maximum number of points it will compute the distance to. Controls speed and accuracy.
+	 * @param numTrees Number of trees in the forest.  Try 4 to 8.
+	 * @param numConsiderSplit Number of dimensions with the largest variance that are randomly selected from
+	 *                         when splitting a node.  Try 5
+	 * @param randomSeed Seed used by random number generator
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static <D extends TupleDesc> AssociateDescription<D> kdForest( Class<D> type ,
+																		 int dimension ,
+																		 int maxChecks ,
+																		 int numTrees ,
+																		 int numConsiderSplit ,
+																		 long randomSeed ) {
+		NnIndex<D> index = new KdForestIndex<>(numTrees,numConsiderSplit,randomSeed);
+		return nearestNeighbor(index, createPointSet(type, dimension), maxChecks);
+	}
+
+	/**
+	 * Approximate association using a hierarchical k-means tree. Descriptors are stored in a packed array and
+	 * destination features are searched for in parallel. Works with {@link TupleDesc_F32} and
+	 * {@link TupleDesc_F64}.
+	 *
+	 * @see AssociateNnIndex
+	 * @see KMeansTreeIndex
+	 *
+	 * @param type Type of descriptor
+	 * @param dimension Number of elements in the feature vector
+	 * @param maxChecks Maximum number of points it will compute the distance to. Controls speed and accuracy.
+	 * @param branchFactor Number of clusters at each node in the tree.  Try 32.
+	 * @param maxIterations Maximum number of k-means iterations when clustering a node.  Try 7.
+	 * @param randomSeed Seed used by random number generator
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static <D extends TupleDesc> AssociateDescription<D> kmeansTree( Class<D> type ,
+																		   int dimension ,
+																		   int maxChecks ,
+																		   int branchFactor ,
+																		   int maxIterations ,
+																		   long randomSeed ) {
+		NnIndex<D> index = new KMeansTreeIndex<>(branchFactor,maxIterations,randomSeed);
+		return nearestNeighbor(index, createPointSet(type, dimension), maxChecks);
+	}
+
+	/**
+	 * Association for binary descriptors using multi-index hashing. Much faster than greedy association when
+	 * there are a large number of features. Source features can be added and removed incrementally
+	 * through {@link AssociateHammingMultiIndex#getIndex()}.
+	 *
+	 * @see HammingMultiIndex
+	 *
+	 * @param numBits Number of bits in the descriptor
+	 * @param numTables Number of hash tables. Each substring should have about log2(N) bits, where N is the
+	 *                  number of source features, and can have at most 24 bits.  If &le; 0 then each table
+	 *                  will have about 16 bits.
+	 * @param maxError Maximum allowed Hamming distance between two features.  To disable set to a negative value.
+	 * @return Association using multi-index hashing
+	 */
+	public static AssociateHammingMultiIndex hammingMultiIndex( int numBits , int numTables , double maxError ) {
+		if( numTables <= 0 )
+			numTables = Math.max(1,(numBits+15)/16);
+		AssociateHammingMultiIndex alg = new AssociateHammingMultiIndex(new HammingMultiIndex(numBits,numTables));
+		alg.setThreshold(maxError);
+		return alg;
+	}
+
+	/**
+	 * Association using the provided nearest neighbor index. A concurrent implementation is returned if
+	 * concurrency is turned on.
+	 *
+	 * @param index The index which is searched
+	 * @param points Storage for the source descriptors.
+	 * @param maxChecks Maximum number of points it will compute the distance to.
+	 * @return Association using the nearest neighbor index
+	 */
+	public static <D> AssociateNnIndex<D> nearestNeighbor( NnIndex<D> index , NnPointSet<D> points , int maxChecks ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return new AssociateNnIndex_MT<>(index, points, maxChecks);
+		else
+			return new AssociateNnIndex<>(index, points, maxChecks);
+	}
+
+	/**
+	 * Creates packed storage for descriptors of the specified type
+	 */
+	public static <D> NnPointSet<D> createPointSet( Class<D> type , int dimension ) {
+		if( TupleDesc_F64.class.isAssignableFrom(type) ) {
+			return (NnPointSet)new NnPointSet_F64(dimension);
+		} else if( TupleDesc_F32.class.isAssignableFrom(type) ) {
+			return (NnPointSet)new NnPointSet_F32(dimension);
+		} else {
+			throw new IllegalArgumentException("Unsupported tuple type: "+type.getSimpleName());
+		}
+	}
+
 	/**
 	 * Given a feature descriptor type it returns a "reasonable" default {@link ScoreAssociation}.
 	 *
@@ -89,6 +89,41 @@ public class FactoryIntensityPoint {
 		return new WrapperGradientCornerIntensity<>(alg);
 	}
 
+	/**
+	 * Feature intensity for Harris corner detector which is computed directly from the input image.  The Sobel
+	 * gradient, window sums, and intensity are all computed in a single pass without intermediate images.
+	 *
+	 * @see WrapperFusedCornerIntensity
+	 *
+	 * @param windowRadius Size of the feature it is detects, Try 2.
+	 * @param kappa Tuning parameter, typically a small number around 0.04
+	 * @param imageType Type of input image. GrayU8 or GrayF32.
+	 * @param <I> Input image type.
+	 * @param <D> Derivative type.
+	 * @return Harris feature intensity
+	 */
+	public static <I extends ImageGray<I>, D extends ImageGray<D>>
+	GeneralFeatureIntensity<I,D> harrisFused(int windowRadius, float kappa, Class<I> imageType) {
+		return new WrapperFusedCornerIntensity<>(true, windowRadius, kappa, imageType);
+	}
+
+	/**
+	 * Feature intensity for KLT corner detector which is computed directly from the input image.  The Sobel
+	 * gradient, window sums, and intensity are all computed in a single pass without intermediate images.
+	 *
+	 * @see WrapperFusedCornerIntensity
+	 *
+	 * @param windowRadius Size of the feature it detects, Try 2.
+	 * @param imageType Type of input image. GrayU8 or GrayF32.
+	 * @param <I> Input image type.
+	 * @param <D> Derivative type.
+	 * @return KLT feature intensity
+	 */
+	public static <I extends ImageGray<I>, D extends ImageGray<D>>
+	GeneralFeatureIntensity<I,D> shiTomasiFused(int windowRadius, Class<I> imageType) {
+		return new WrapperFusedCornerIntensity<>(false, windowRadius, 0, imageType);
+	}
+
 	/**
 	 * Feature intensity for Kitchen and Rosenfeld corner detector.  See {@link boofcv.alg.feature.detect.intensity.KitRosCornerIntensity} for more details.
 	 *
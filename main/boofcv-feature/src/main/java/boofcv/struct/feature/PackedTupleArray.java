@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+import org.ddogleg.struct.FastQueue;
+
+/**
+ * Storage for a list of feature descriptors which are all packed into a single contiguous primitive array,
+ * instead of one object per descriptor. Descriptor 'i' starts at element i*dof. This reduces the memory
+ * footprint, the work done by the garbage collector, and improves cache locality when every descriptor is
+ * traversed, e.g. when associating. Descriptors are copied in and out of the array.
+ *
+ * @param <D> Type of descriptor
+ *
+ * @author Peter Abeles
+ */
+public interface PackedTupleArray<D> {
+
+	/**
+	 * Discards all the descriptors. Storage is not released.
+	 */
+	void reset();
+
+	/**
+	 * Ensures there is enough storage for the specified number of descriptors without needing to grow the array
+	 */
+	void reserve( int numTuples );
+
+	/**
+	 * Copies the descriptor to the end of the array
+	 *
+	 * @param tuple (Input) descriptor. Not modified.
+	 */
+	void append( D tuple );
+
+	/**
+	 * Copies the descriptor at the specified index into the provided descriptor
+	 *
+	 * @param index Which descriptor
+	 * @param output (Output) Storage for the copy. Modified.
+	 */
+	void getCopy( int index , D output );
+
+	/**
+	 * Copies the descriptor at the specified index into an internal work space and returns it. The returned
+	 * descriptor is recycled on the next call and this function is not thread safe.
+	 *
+	 * @param index Which descriptor
+	 * @return Internal work space containing a copy of the descriptor
+	 */
+	D getTemp( int index );
+
+	/**
+	 * Adds a descriptor to the end of the array without copying anything into it, allowing it to be written
+	 * directly into the implementation's primitive array. Its initial value is undefined.
+	 *
+	 * @return Index of the new descriptor's first element in the primitive array
+	 */
+	int grow();
+
+	/**
+	 * Removes the last descriptor from the array
+	 */
+	void removeTail();
+
+	/**
+	 * Copies every descriptor into the provided queue. The queue is owned by the caller and isn't referenced by
+	 * this array, so it can be discarded or recycled once it's no longer needed. Changes to the array after this
+	 * function is called are not reflected in the queue.
+	 *
+	 * @param storage (Output) Queue which is reset and filled. Its descriptors must have the same size as the
+	 * ones in this array. If null a new queue is declared.
+	 * @return Queue containing a copy of each descriptor
+	 */
+	default FastQueue<D> toQueue( FastQueue<D> storage ) {
+		if( storage == null ) {
+			storage = new FastQueue<D>(getDescriptionType(),true) {
+				@Override
+				protected D createInstance() {
+					return createDescription();
+				}
+			};
+		}
+		storage.reset();
+		for (int i = 0; i < size(); i++) {
+			getCopy(i,storage.grow());
+		}
+		return storage;
+	}
+
+	/**
+	 * Creates a new descriptor with the same number of elements as the ones stored in this array
+	 */
+	D createDescription();
+
+	/**
+	 * The type of descriptor which is stored
+	 */
+	Class<D> getDescriptionType();
+
+	/**
+	 * Number of elements in each descriptor
+	 */
+	int getDof();
+
+	/**
+	 * Number of descriptors in the array
+	 */
+	int size();
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+/**
+ * Implementation of {@link PackedTupleArray} for {@link TupleDesc_B}. Descriptors are stored in an int[] array
+ * using the same bit layout as {@link TupleDesc_B#data}, so descriptor 'i' starts at element i*numInts.
+ *
+ * @author Peter Abeles
+ */
+public class PackedTupleArray_B implements PackedTupleArray<TupleDesc_B> {
+	// Number of bits in each descriptor
+	protected final int numBits;
+	// Number of ints used to store each descriptor
+	protected final int numInts;
+	// Number of descriptors
+	protected int size;
+
+	// Packed descriptors. Descriptor 'i' starts at element i*numInts
+	public int data[] = new int[0];
+
+	// work space for getTemp()
+	private final TupleDesc_B temp;
+
+	public PackedTupleArray_B( int numBits ) {
+		this.numBits = numBits;
+		this.numInts = numBits/32 + (numBits%32 == 0 ? 0 : 1);
+		this.temp = new TupleDesc_B(numBits);
+	}
+
+	@Override
+	public void reset() {
+		size = 0;
+	}
+
+	@Override
+	public void reserve( int numTuples ) {
+		int length = numTuples*numInts;
+		if( data.length < length ) {
+			int tmp[] = new int[length];
+			System.arraycopy(data,0,tmp,0,size*numInts);
+			data = tmp;
+		}
+	}
+
+	@Override
+	public void append( TupleDesc_B tuple ) {
+		if( tuple.numBits != numBits )
+			throw new IllegalArgumentException("Unexpected number of bits. "+tuple.numBits+" != "+numBits);
+		if( data.length < (size+1)*numInts )
+			reserve(Math.max(16,size*2));
+		System.arraycopy(tuple.data,0,data,size*numInts,numInts);
+		size++;
+	}
+
+	@Override
+	public void getCopy( int index , TupleDesc_B output ) {
+		output.numBits = numBits;
+		System.arraycopy(data,index*numInts,output.data,0,numInts);
+	}
+
+	@Override
+	public TupleDesc_B getTemp( int index ) {
+		getCopy(index,temp);
+		return temp;
+	}
+
+	@Override
+	public int grow() {
+		if( data.length < (size+1)*numInts )
+			reserve(Math.max(16,size*2));
+		return numInts*size++;
+	}
+
+	@Override
+	public void removeTail() {
+		if( size == 0 )
+			throw new IllegalArgumentException("The array is empty");
+		size--;
+	}
+
+	@Override
+	public TupleDesc_B createDescription() {
+		return new TupleDesc_B(numBits);
+	}
+
+	@Override
+	public Class<TupleDesc_B> getDescriptionType() {
+		return TupleDesc_B.class;
+	}
+
+	/**
+	 * Number of bits in each descriptor
+	 */
+	@Override
+	public int getDof() {
+		return numBits;
+	}
+
+	/**
+	 * Number of ints used to store each descriptor
+	 */
+	public int getNumInts() {
+		return numInts;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+}
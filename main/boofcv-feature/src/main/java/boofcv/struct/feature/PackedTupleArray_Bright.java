@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.feature;
+
+/**
+ * Implementation of {@link PackedTupleArray} for {@link BrightFeature}. Descriptors are stored in a double[] array
+ * and whether each feature is white or dark in a boolean[] array.
+ *
+ * @author Peter Abeles
+ */
+public class PackedTupleArray_Bright implements PackedTupleArray<BrightFeature> {
+	// Number of elements in each descriptor
+	protected final int dof;
+	// Number of descriptors
+	protected int size;
+
+	// Packed descriptors. Descriptor 'i' starts at element i*dof
+	public double data[] = new double[0];
+	// Value of BrightFeature.white for each descriptor
+	public boolean white[] = new boolean[0];
+
+	// work space for getTemp()
+	private final BrightFeature temp;
+
+	public PackedTupleArray_Bright( int dof ) {
+		this.dof = dof;
+		this.temp = new BrightFeature(dof);
+	}
+
+	@Override
+	public void reset() {
+		size = 0;
+	}
+
+	@Override
+	public void reserve( int numTuples ) {
+		if( white.length < numTuples ) {
+			double tmp[] = new double[numTuples*dof];
+			System.arraycopy(data,0,tmp,0,size*dof);
+			data = tmp;
+			boolean tmpWhite[] = new boolean[numTuples];
+			System.arraycopy(white,0,tmpWhite,0,size);
+			white = tmpWhite;
+		}
+	}
+
+	@Override
+	public void append( BrightFeature tuple ) {
+		if( tuple.value.length != dof )
+			throw new IllegalArgumentException("Unexpected descriptor length. "+tuple.value.length+" != "+dof);
+		if( white.length <= size )
+			reserve(Math.max(16,size*2));
+		System.arraycopy(tuple.value,0,data,size*dof,dof);
+		white[size++] = tuple.white;
+	}
+
+	@Override
+	public void getCopy( int index , BrightFeature output ) {
+		System.arraycopy(data,index*dof,output.value,0,dof);
+		output.white = white[index];
+	}
+
+	@Override
+	public BrightFeature getTemp( int index ) {
+		getCopy(index,temp);
+		return temp;
+	}
+
+	/**
+	 * Adds a descriptor to the end of the array. {@link #white} needs to be set along with the descriptor's values.
+	 */
+	@Override
+	public int grow() {
+		if( white.length <= size )
+			reserve(Math.max(16,size*2));
+		return dof*size++;
+	}
+
+	@Override
+	public void removeTail() {
+		if( size == 0 )
+			throw new IllegalArgumentException("The array is empty");
+		size--;
+	}
+
+	@Override
+	public BrightFeature createDescription() {
+		return new BrightFeature(dof);
+	}
+
+	@Override
+	public Class<BrightFeature> getDescriptionType() {
+		return BrightFeature.class;
+	}
+
+	@Override
+	public int getDof() {
+		return dof;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+}
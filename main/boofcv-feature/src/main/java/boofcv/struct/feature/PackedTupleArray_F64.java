@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+/**
+ * Implementation of {@link PackedTupleArray} for {@link TupleDesc_F64}. Descriptors are stored in a double[] array.
+ *
+ * @author Peter Abeles
+ */
+public class PackedTupleArray_F64 implements PackedTupleArray<TupleDesc_F64> {
+	// Number of elements in each descriptor
+	protected final int dof;
+	// Number of descriptors
+	protected int size;
+
+	// Packed descriptors. Descriptor 'i' starts at element i*dof
+	public double data[] = new double[0];
+
+	// work space for getTemp()
+	private final TupleDesc_F64 temp;
+
+	public PackedTupleArray_F64( int dof ) {
+		this.dof = dof;
+		this.temp = new TupleDesc_F64(dof);
+	}
+
+	@Override
+	public void reset() {
+		size = 0;
+	}
+
+	@Override
+	public void reserve( int numTuples ) {
+		int length = numTuples*dof;
+		if( data.length < length ) {
+			double tmp[] = new double[length];
+			System.arraycopy(data,0,tmp,0,size*dof);
+			data = tmp;
+		}
+	}
+
+	@Override
+	public void append( TupleDesc_F64 tuple ) {
+		if( tuple.value.length != dof )
+			throw new IllegalArgumentException("Unexpected descriptor length. "+tuple.value.length+" != "+dof);
+		if( data.length < (size+1)*dof )
+			reserve(Math.max(16,size*2));
+		System.arraycopy(tuple.value,0,data,size*dof,dof);
+		size++;
+	}
+
+	@Override
+	public void getCopy( int index , TupleDesc_F64 output ) {
+		System.arraycopy(data,index*dof,output.value,0,dof);
+	}
+
+	@Override
+	public TupleDesc_F64 getTemp( int index ) {
+		getCopy(index,temp);
+		return temp;
+	}
+
+	@Override
+	public int grow() {
+		if( data.length < (size+1)*dof )
+			reserve(Math.max(16,size*2));
+		return dof*size++;
+	}
+
+	@Override
+	public void removeTail() {
+		if( size == 0 )
+			throw new IllegalArgumentException("The array is empty");
+		size--;
+	}
+
+	@Override
+	public TupleDesc_F64 createDescription() {
+		return new TupleDesc_F64(dof);
+	}
+
+	@Override
+	public Class<TupleDesc_F64> getDescriptionType() {
+		return TupleDesc_F64.class;
+	}
+
+	@Override
+	public int getDof() {
+		return dof;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+}
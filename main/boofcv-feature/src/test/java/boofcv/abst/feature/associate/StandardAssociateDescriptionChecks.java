@@ -20,6 +20,7 @@ package boofcv.abst.feature.associate;
 
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
 import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
@@ -48,6 +49,7 @@ public abstract class StandardAssociateDescriptionChecks<Desc> {
 		checkSetThreshold();
 		uniqueSource();
 		uniqueDestination();
+		packed();
 	}
 
 	/**
@@ -55,6 +57,13 @@ public abstract class StandardAssociateDescriptionChecks<Desc> {
 	 */
 	public abstract AssociateDescription<Desc> createAlg();
 
+	/**
+	 * Creates a packed array for the descriptors. If null is returned then packed arrays aren't tested.
+	 */
+	protected PackedTupleArray<Desc> createPacked() {
+		return null;
+	}
+
 	protected void init() {
 		listSrc.reset();
 		listDst.reset();
@@ -236,6 +245,55 @@ public abstract class StandardAssociateDescriptionChecks<Desc> {
 		}
 	}
 
+	/**
+	 * Associating packed arrays should produce the same results as associating lists
+	 */
+	@Test
+	public void packed() {
+		PackedTupleArray<Desc> packedSrc = createPacked();
+		if( packedSrc == null )
+			return;
+		PackedTupleArray<Desc> packedDst = createPacked();
+
+		init();
+		for( int i = 0; i < 30; i++ ) {
+			listSrc.add( c(i+1) );
+			listDst.add( c(30-i+0.02*(i%3)) );
+		}
+		listDst.add( c(100) ); // can't be paired with anything
+		for( int i = 0; i < listSrc.size; i++ )
+			packedSrc.append(listSrc.get(i));
+		for( int i = 0; i < listDst.size; i++ )
+			packedDst.append(listDst.get(i));
+
+		AssociateDescription<Desc> expected = createAlg();
+		expected.setThreshold(0.03);
+		expected.setSource(listSrc);
+		expected.setDestination(listDst);
+		expected.associate();
+
+		// Call it multiple times to make sure recycled storage is handled correctly
+		AssociateDescription<Desc> alg = createAlg();
+		alg.setThreshold(0.03);
+		for (int trial = 0; trial < 2; trial++) {
+			alg.setSource(packedSrc);
+			alg.setDestination(packedDst);
+			alg.associate();
+
+			FastQueue<AssociatedIndex> found = alg.getMatches();
+			assertEquals(expected.getMatches().size,found.size);
+			for( int i = 0; i < found.size; i++ ) {
+				AssociatedIndex e = expected.getMatches().get(i);
+				AssociatedIndex f = found.get(i);
+				assertEquals(e.src,f.src);
+				assertEquals(e.dst,f.dst);
+				assertEquals(e.fitScore,f.fitScore,0);
+			}
+			assertEquals(expected.getUnassociatedSource().size,alg.getUnassociatedSource().size);
+			assertEquals(expected.getUnassociatedDestination().size,alg.getUnassociatedDestination().size);
+		}
+	}
+
 	private int numMatchesSrc( int index , FastQueue<AssociatedIndex> list ) {
 		int ret = 0;
 		for( AssociatedIndex l : list.toList() ) {
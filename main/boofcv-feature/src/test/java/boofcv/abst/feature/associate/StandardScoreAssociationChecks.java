@@ -19,10 +19,14 @@
 package boofcv.abst.feature.associate;
 
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -55,6 +59,109 @@ public abstract class StandardScoreAssociationChecks<T> {
 	public abstract T createDescription();
 
 
+	/**
+	 * Creates a packed array for descriptions created by {@link #createDescription()}. If null is returned then
+	 * packed arrays aren't tested.
+	 */
+	public PackedTupleArray<T> createPacked() {
+		return null;
+	}
+
+	/**
+	 * Scores computed from a packed array must be identical to the ones computed from descriptions
+	 */
+	@Test
+	public void score_packed() {
+		ScoreAssociation<T> alg = createScore();
+		PackedTupleArray<T> packed = createPacked();
+		if( packed == null )
+			return;
+
+		T a = createDescription();
+		List<T> list = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			list.add(createDescription());
+			packed.append(list.get(i));
+		}
+
+		// The wrapper hides the packed array's type, forcing the default implementation to be used
+		for( PackedTupleArray<T> p : new PackedTupleArray[]{packed,new HideType<>(packed)}) {
+			double[] found = new double[8];
+			alg.score(a,p,2,4,p.createDescription(),found,1);
+			for (int i = 0; i < 4; i++) {
+				assertEquals(alg.score(a,list.get(2+i)),found[1+i],0);
+			}
+			assertEquals(0,found[0],0);
+			assertEquals(0,found[5],0);
+		}
+	}
+
+	/**
+	 * Passes every call to another packed array
+	 */
+	private static class HideType<T> implements PackedTupleArray<T> {
+		PackedTupleArray<T> packed;
+
+		HideType(PackedTupleArray<T> packed) {
+			this.packed = packed;
+		}
+
+		@Override
+		public void reset() {
+			packed.reset();
+		}
+
+		@Override
+		public void reserve(int numTuples) {
+			packed.reserve(numTuples);
+		}
+
+		@Override
+		public void append(T tuple) {
+			packed.append(tuple);
+		}
+
+		@Override
+		public void getCopy(int index, T output) {
+			packed.getCopy(index,output);
+		}
+
+		@Override
+		public T getTemp(int index) {
+			return packed.getTemp(index);
+		}
+
+		@Override
+		public int grow() {
+			return packed.grow();
+		}
+
+		@Override
+		public void removeTail() {
+			packed.removeTail();
+		}
+
+		@Override
+		public T createDescription() {
+			return packed.createDescription();
+		}
+
+		@Override
+		public Class<T> getDescriptionType() {
+			return packed.getDescriptionType();
+		}
+
+		@Override
+		public int getDof() {
+			return packed.getDof();
+		}
+
+		@Override
+		public int size() {
+			return packed.size();
+		}
+	}
+
 	@Test
 	public void empiricalCheckOnType() {
 		ScoreAssociation<T> alg = createScore();
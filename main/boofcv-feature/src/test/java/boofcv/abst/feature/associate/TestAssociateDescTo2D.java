@@ -20,6 +20,8 @@ package boofcv.abst.feature.associate;
 
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_I32;
@@ -55,10 +57,33 @@ public class TestAssociateDescTo2D {
 		assertTrue(MatchScoreType.CORRELATION==alg.getScoreType());
 	}
 
-	private static class Dummy implements AssociateDescription<TupleDesc_F64> {
+	/**
+	 * Packed arrays should be passed through without being copied
+	 */
+	@Test
+	public void packed() {
+		Dummy dummy = new Dummy();
+
+		AssociateDescTo2D<TupleDesc_F64> alg = new AssociateDescTo2D<>(dummy);
+
+		PackedTupleArray_F64 packedSrc = new PackedTupleArray_F64(3);
+		PackedTupleArray_F64 packedDst = new PackedTupleArray_F64(3);
+
+		alg.setSource(null,packedSrc);
+		alg.setDestination(null,packedDst);
+
+		assertTrue(packedSrc == dummy.packedSrc);
+		assertTrue(packedDst == dummy.packedDst);
+		assertTrue(null == dummy.listSrc);
+		assertTrue(null == dummy.listDst);
+	}
+
+	static class Dummy implements AssociateDescription<TupleDesc_F64> {
 
 		public FastQueue<TupleDesc_F64> listSrc;
 		public FastQueue<TupleDesc_F64> listDst;
+		public PackedTupleArray<TupleDesc_F64> packedSrc;
+		public PackedTupleArray<TupleDesc_F64> packedDst;
 		public boolean calledAssociate = false;
 		public FastQueue<AssociatedIndex> matches = new FastQueue<>(10, AssociatedIndex.class, false);
 		public GrowQueue_I32 unassociatedSrc = new GrowQueue_I32(10);
@@ -75,6 +100,16 @@ public class TestAssociateDescTo2D {
 			this.listDst = listDst;
 		}
 
+		@Override
+		public void setSource(PackedTupleArray<TupleDesc_F64> listSrc) {
+			this.packedSrc = listSrc;
+		}
+
+		@Override
+		public void setDestination(PackedTupleArray<TupleDesc_F64> listDst) {
+			this.packedDst = listDst;
+		}
+
 		@Override
 		public void associate() {
 			calledAssociate = true;
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.nn.HammingMultiIndex;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateHammingMultiIndex {
+
+	Random rand = new Random(234);
+	int numBits = 256;
+
+	/**
+	 * Each dst feature should be matched to the same src feature as brute force greedy association
+	 */
+	@Test
+	public void compareToGreedy() {
+		FastQueue<TupleDesc_B> src = new FastQueue<>(TupleDesc_B.class,false);
+		FastQueue<TupleDesc_B> dst = new FastQueue<>(TupleDesc_B.class,false);
+		for (int i = 0; i < 200; i++) {
+			src.add(random());
+		}
+		for (int i = 0; i < 100; i++) {
+			// a few features will be far from everything
+			dst.add(i%10 == 0 ? random() : perturb(src.get(i*2),8));
+		}
+
+		AssociateHammingMultiIndex alg = new AssociateHammingMultiIndex(new HammingMultiIndex(numBits,16));
+		alg.setThreshold(40);
+		alg.setSource(src);
+		alg.setDestination(dst);
+		alg.associate();
+
+		// greedy associates src to dst so swap the lists to get a unique match for each dst
+		AssociateGreedy<TupleDesc_B> greedy = new AssociateGreedy<>(new ScoreAssociateHamming_B(),false);
+		greedy.setMaxFitError(40);
+		greedy.associate(dst,src);
+
+		FastQueue<AssociatedIndex> matches = alg.getMatches();
+		int total = 0;
+		for (int i = 0; i < dst.size; i++) {
+			if( greedy.getPairs()[i] < 0 )
+				continue;
+			AssociatedIndex a = matches.get(total++);
+			assertEquals(i,a.dst);
+			assertEquals(greedy.getFitQuality()[i],a.fitScore,0);
+		}
+		assertEquals(total,matches.size);
+		assertEquals(90,total);
+		assertEquals(10,alg.getUnassociatedDestination().size);
+		assertEquals(src.size-90,alg.getUnassociatedSource().size);
+	}
+
+	/**
+	 * The source features are modified through the index instead of with setSource
+	 */
+	@Test
+	public void incrementalSource() {
+		AssociateHammingMultiIndex alg = new AssociateHammingMultiIndex(new HammingMultiIndex(numBits,16));
+		HammingMultiIndex index = alg.getIndex();
+
+		FastQueue<TupleDesc_B> dst = new FastQueue<>(TupleDesc_B.class,false);
+		for (int i = 0; i < 10; i++) {
+			TupleDesc_B a = random();
+			assertEquals(i,index.add(a));
+			dst.add(perturb(a,2));
+		}
+		index.remove(3);
+		index.remove(7);
+
+		alg.setThreshold(20);
+		alg.setDestination(dst);
+		alg.associate();
+
+		assertEquals(8,alg.getMatches().size);
+		for( AssociatedIndex a : alg.getMatches().toList() ) {
+			assertEquals(a.src,a.dst);
+			assertEquals(2,a.fitScore,0);
+		}
+		// removed features are not included
+		assertEquals(0,alg.getUnassociatedSource().size);
+		assertEquals(2,alg.getUnassociatedDestination().size);
+	}
+
+	/**
+	 * Features in a packed array should produce the same results as when in a list
+	 */
+	@Test
+	public void packed() {
+		FastQueue<TupleDesc_B> src = new FastQueue<>(TupleDesc_B.class,false);
+		FastQueue<TupleDesc_B> dst = new FastQueue<>(TupleDesc_B.class,false);
+		PackedTupleArray_B packedSrc = new PackedTupleArray_B(numBits);
+		PackedTupleArray_B packedDst = new PackedTupleArray_B(numBits);
+		for (int i = 0; i < 100; i++) {
+			src.add(random());
+			packedSrc.append(src.getTail());
+		}
+		for (int i = 0; i < 50; i++) {
+			dst.add(i%10 == 0 ? random() : perturb(src.get(i*2),8));
+			packedDst.append(dst.getTail());
+		}
+
+		AssociateHammingMultiIndex expected = new AssociateHammingMultiIndex(new HammingMultiIndex(numBits,16));
+		AssociateHammingMultiIndex alg = new AssociateHammingMultiIndex(new HammingMultiIndex(numBits,16));
+		expected.setThreshold(40);
+		alg.setThreshold(40);
+		expected.setSource(src);
+		expected.setDestination(dst);
+		expected.associate();
+		alg.setSource(packedSrc);
+		alg.setDestination(packedDst);
+		alg.associate();
+
+		assertEquals(45,alg.getMatches().size);
+		assertEquals(expected.getMatches().size,alg.getMatches().size);
+		for (int i = 0; i < alg.getMatches().size; i++) {
+			AssociatedIndex a = expected.getMatches().get(i);
+			AssociatedIndex b = alg.getMatches().get(i);
+			assertEquals(a.src,b.src);
+			assertEquals(a.dst,b.dst);
+			assertEquals(a.fitScore,b.fitScore,0);
+		}
+		assertEquals(5,alg.getUnassociatedDestination().size);
+		assertEquals(expected.getUnassociatedSource().size,alg.getUnassociatedSource().size);
+	}
+
+	@Test
+	public void various() {
+		AssociateHammingMultiIndex alg = new AssociateHammingMultiIndex(new HammingMultiIndex(numBits,16));
+		assertTrue(MatchScoreType.NORM_ERROR == alg.getScoreType());
+		assertTrue(alg.uniqueDestination());
+		assertTrue(!alg.uniqueSource());
+	}
+
+	private TupleDesc_B random() {
+		TupleDesc_B d = new TupleDesc_B(numBits);
+		for (int i = 0; i < d.data.length; i++) {
+			d.data[i] = rand.nextInt();
+		}
+		return d;
+	}
+
+	private TupleDesc_B perturb( TupleDesc_B original , int numFlips ) {
+		TupleDesc_B d = original.copy();
+		for (int i = 0; i < numFlips; i++) {
+			int bit = (i*37) % numBits;
+			d.data[bit/32] ^= 1 << (bit%32);
+		}
+		return d;
+	}
+}
@@ -19,6 +19,8 @@
 package boofcv.abst.feature.associate;
 
 import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.nn.FactoryNearestNeighbor;
 import org.ddogleg.nn.NearestNeighbor;
@@ -49,6 +51,11 @@ public class TestAssociateNearestNeighbor extends StandardAssociateDescriptionCh
 		return alg;
 	}
 
+	@Override
+	protected PackedTupleArray<TupleDesc_F64> createPacked() {
+		return new PackedTupleArray_F64(1);
+	}
+
 	@Override
 	protected TupleDesc_F64 c(double value) {
 		TupleDesc_F64 s = new TupleDesc_F64(1);
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.nn.KMeansTreeIndex;
+import boofcv.alg.feature.associate.nn.KdForestIndex;
+import boofcv.alg.feature.associate.nn.NnPointSet_F32;
+import boofcv.alg.feature.associate.nn.NnPointSet_F64;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateNnIndex extends StandardAssociateDescriptionChecks<TupleDesc_F64> {
+
+	Random rand = new Random(234);
+
+	public TestAssociateNnIndex() {
+		super(TupleDesc_F64.class);
+	}
+
+	@Override
+	public AssociateDescription<TupleDesc_F64> createAlg() {
+		// enough checks for it to be an exhaustive search
+		return new AssociateNnIndex<>(new KdForestIndex<>(2,5,234),new NnPointSet_F64<>(1),1000);
+	}
+
+	@Override
+	protected TupleDesc_F64 c(double value) {
+		TupleDesc_F64 s = new TupleDesc_F64(1);
+		s.value[0] = value;
+		return s;
+	}
+
+	/**
+	 * Compare against a brute force search using a k-means tree and F32 descriptors
+	 */
+	@Test
+	public void compareToBruteForce() {
+		int dof = 16;
+		FastQueue<TupleDesc_F32> src = new FastQueue<>(TupleDesc_F32.class,false);
+		FastQueue<TupleDesc_F32> dst = new FastQueue<>(TupleDesc_F32.class,false);
+		for (int i = 0; i < 300; i++) {
+			src.add(random(dof));
+		}
+		for (int i = 0; i < 120; i++) {
+			dst.add(random(dof));
+		}
+
+		AssociateNnIndex<TupleDesc_F32> alg = new AssociateNnIndex<>(
+				new KMeansTreeIndex<>(8,5,234),new NnPointSet_F32<>(dof),src.size);
+		alg.setSource(src);
+		alg.setDestination(dst);
+		alg.associate();
+
+		FastQueue<AssociatedIndex> matches = alg.getMatches();
+		assertEquals(dst.size,matches.size);
+		for (int i = 0; i < matches.size; i++) {
+			AssociatedIndex a = matches.get(i);
+			assertEquals(i,a.dst);
+
+			int best = -1;
+			double bestScore = Double.MAX_VALUE;
+			for (int j = 0; j < src.size; j++) {
+				double d = distanceSq(src.get(j),dst.get(i));
+				if( d < bestScore ) {
+					bestScore = d;
+					best = j;
+				}
+			}
+			assertEquals(best,a.src);
+			assertEquals(bestScore,a.fitScore,1e-4);
+		}
+	}
+
+	private TupleDesc_F32 random( int dof ) {
+		TupleDesc_F32 d = new TupleDesc_F32(dof);
+		for (int k = 0; k < dof; k++) {
+			d.value[k] = rand.nextFloat();
+		}
+		return d;
+	}
+
+	private static double distanceSq( TupleDesc_F32 a , TupleDesc_F32 b ) {
+		double total = 0;
+		for (int k = 0; k < a.value.length; k++) {
+			double d = a.value[k]-b.value[k];
+			total += d*d;
+		}
+		return total;
+	}
+}
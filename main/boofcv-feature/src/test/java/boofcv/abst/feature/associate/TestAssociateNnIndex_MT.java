@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.nn.KMeansTreeIndex;
+import boofcv.alg.feature.associate.nn.KdForestIndex;
+import boofcv.alg.feature.associate.nn.NnIndex;
+import boofcv.alg.feature.associate.nn.NnPointSet_F32;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.PackedTupleArray_F32;
+import boofcv.struct.feature.TupleDesc_F32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateNnIndex_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * The approximate solution should be identical to the single threaded approximate solution
+	 */
+	@Test
+	public void compareToSingleThread() {
+		compareToSingleThread(new KdForestIndex<>(4,5,234),new KdForestIndex<>(4,5,234));
+		compareToSingleThread(new KMeansTreeIndex<>(16,5,234),new KMeansTreeIndex<>(16,5,234));
+	}
+
+	private void compareToSingleThread( NnIndex<TupleDesc_F32> indexST , NnIndex<TupleDesc_F32> indexMT ) {
+		int dof = 32;
+		AssociateNnIndex<TupleDesc_F32> single = new AssociateNnIndex<>(indexST,new NnPointSet_F32<>(dof),30);
+		AssociateNnIndex<TupleDesc_F32> multi = new AssociateNnIndex_MT<>(indexMT,new NnPointSet_F32<>(dof),30);
+		single.setThreshold(1.3);
+		multi.setThreshold(1.3);
+
+		// call it multiple times with different sizes to see if the workspace is handled correctly
+		for( int numDst : new int[]{0,1,5,500,50} ) {
+			FastQueue<TupleDesc_F32> src = create(1000, dof);
+			FastQueue<TupleDesc_F32> dst = create(numDst, dof);
+
+			single.setSource(src);
+			single.setDestination(dst);
+			single.associate();
+			multi.setSource(src);
+			multi.setDestination(dst);
+			multi.associate();
+
+			checkIdentical(single, multi);
+		}
+	}
+
+	/**
+	 * Features in a packed array should produce the same results as when in a list
+	 */
+	@Test
+	public void packed() {
+		int dof = 32;
+		for( boolean concurrent : new boolean[]{false,true} ) {
+			AssociateNnIndex<TupleDesc_F32> list = new AssociateNnIndex<>(
+					new KdForestIndex<>(4,5,234),new NnPointSet_F32<>(dof),30);
+			AssociateNnIndex<TupleDesc_F32> packed = concurrent ?
+					new AssociateNnIndex_MT<>(new KdForestIndex<>(4,5,234),new NnPointSet_F32<>(dof),30) :
+					new AssociateNnIndex<>(new KdForestIndex<>(4,5,234),new NnPointSet_F32<>(dof),30);
+			list.setThreshold(1.3);
+			packed.setThreshold(1.3);
+
+			for( int numDst : new int[]{0,1,500,50} ) {
+				FastQueue<TupleDesc_F32> src = create(1000, dof);
+				FastQueue<TupleDesc_F32> dst = create(numDst, dof);
+
+				list.setSource(src);
+				list.setDestination(dst);
+				list.associate();
+				packed.setSource(pack(src,dof));
+				packed.setDestination(pack(dst,dof));
+				packed.associate();
+
+				checkIdentical(list, packed);
+			}
+		}
+	}
+
+	private void checkIdentical( AssociateNnIndex<TupleDesc_F32> algA, AssociateNnIndex<TupleDesc_F32> algB ) {
+		FastQueue<AssociatedIndex> expected = algA.getMatches();
+		FastQueue<AssociatedIndex> found = algB.getMatches();
+		assertEquals(expected.size,found.size);
+		for (int i = 0; i < expected.size; i++) {
+			assertEquals(expected.get(i).src,found.get(i).src);
+			assertEquals(expected.get(i).dst,found.get(i).dst);
+			assertEquals(expected.get(i).fitScore,found.get(i).fitScore,0);
+		}
+		assertEquals(algA.getUnassociatedSource().size,algB.getUnassociatedSource().size);
+		assertEquals(algA.getUnassociatedDestination().size,algB.getUnassociatedDestination().size);
+	}
+
+	private PackedTupleArray_F32 pack( FastQueue<TupleDesc_F32> list , int dof ) {
+		PackedTupleArray_F32 packed = new PackedTupleArray_F32(dof);
+		for (int i = 0; i < list.size; i++) {
+			packed.append(list.get(i));
+		}
+		return packed;
+	}
+
+	private FastQueue<TupleDesc_F32> create( int N , int dof ) {
+		FastQueue<TupleDesc_F32> list = new FastQueue<>(TupleDesc_F32.class,false);
+		for (int i = 0; i < N; i++) {
+			TupleDesc_F32 d = new TupleDesc_F32(dof);
+			for (int k = 0; k < dof; k++) {
+				d.value[k] = rand.nextFloat();
+			}
+			list.add(d);
+		}
+		return list;
+	}
+}
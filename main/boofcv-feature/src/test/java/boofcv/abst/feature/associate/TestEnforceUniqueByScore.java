@@ -21,6 +21,8 @@ package boofcv.abst.feature.associate;
 import boofcv.alg.feature.associate.AssociateUniqueByScoreAlg;
 import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray_F64;
+import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.ddogleg.struct.GrowQueue_I32;
 import org.junit.Test;
@@ -58,6 +60,40 @@ public class TestEnforceUniqueByScore {
 		assertEquals(checkDestination,alg.uniqueDestination());
 	}
 
+	/**
+	 * Packed arrays should be passed through to the association and the number of features recorded
+	 */
+	@Test
+	public void packed() {
+		PackedTupleArray_F64 packedSrc = new PackedTupleArray_F64(3);
+		PackedTupleArray_F64 packedDst = new PackedTupleArray_F64(3);
+		for (int i = 0; i < 5; i++) {
+			packedSrc.append(new TupleDesc_F64(3));
+		}
+		for (int i = 0; i < 6; i++) {
+			packedDst.append(new TupleDesc_F64(3));
+		}
+
+		TestAssociateDescTo2D.Dummy dummy = new TestAssociateDescTo2D.Dummy();
+		EnforceUniqueByScore.Describe<TupleDesc_F64> alg = new EnforceUniqueByScore.Describe<>(dummy,true,true);
+		alg.setSource(packedSrc);
+		alg.setDestination(packedDst);
+		assertTrue(packedSrc == dummy.packedSrc);
+		assertTrue(packedDst == dummy.packedDst);
+		assertEquals(5,alg.numSource);
+		assertEquals(6,alg.numDestination);
+
+		dummy = new TestAssociateDescTo2D.Dummy();
+		EnforceUniqueByScore.Describe2D<TupleDesc_F64> alg2D =
+				new EnforceUniqueByScore.Describe2D<>(new AssociateDescTo2D<>(dummy),true,true);
+		alg2D.setSource(null,packedSrc);
+		alg2D.setDestination(null,packedDst);
+		assertTrue(packedSrc == dummy.packedSrc);
+		assertTrue(packedDst == dummy.packedDst);
+		assertEquals(5,alg2D.numSource);
+		assertEquals(6,alg2D.numDestination);
+	}
+
 	@Test
 	public void checkUniqueFlags() {
 		DummyAssociate associate = new DummyAssociate();
@@ -20,6 +20,8 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.descriptor.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
 import org.junit.Test;
 
@@ -61,6 +63,11 @@ public class TestScoreAssociateHamming_B extends StandardScoreAssociationChecks<
 		return new ScoreAssociateHamming_B();
 	}
 
+	@Override
+	public PackedTupleArray<TupleDesc_B> createPacked() {
+		return new PackedTupleArray_B(5);
+	}
+
 	@Override
 	public TupleDesc_B createDescription() {
 		TupleDesc_B a = new TupleDesc_B(5);
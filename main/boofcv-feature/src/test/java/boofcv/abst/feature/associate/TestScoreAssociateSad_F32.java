@@ -19,6 +19,8 @@
 package boofcv.abst.feature.associate;
 
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_F32;
 import boofcv.struct.feature.TupleDesc_F32;
 import org.junit.Test;
 
@@ -38,6 +40,11 @@ public class TestScoreAssociateSad_F32 extends StandardScoreAssociationChecks<Tu
 		return new ScoreAssociateSad_F32();
 	}
 
+	@Override
+	public PackedTupleArray<TupleDesc_F32> createPacked() {
+		return new PackedTupleArray_F32(5);
+	}
+
 	@Override
 	public TupleDesc_F32 createDescription() {
 		TupleDesc_F32 a = new TupleDesc_F32(5);
@@ -19,6 +19,8 @@
 package boofcv.abst.feature.associate;
 
 import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_U8;
 import boofcv.struct.feature.TupleDesc_U8;
 import org.junit.Test;
 
@@ -38,6 +40,11 @@ public class TestScoreAssociateSad_U8 extends StandardScoreAssociationChecks<Tup
 		return new ScoreAssociateSad_U8();
 	}
 
+	@Override
+	public PackedTupleArray<TupleDesc_U8> createPacked() {
+		return new PackedTupleArray_U8(5);
+	}
+
 	@Override
 	public TupleDesc_U8 createDescription() {
 		TupleDesc_U8 a = new TupleDesc_U8(5);
@@ -19,6 +19,10 @@
 package boofcv.abst.feature.associate;
 
 import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.AssociateGreedy_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.junit.Test;
 
@@ -51,6 +55,24 @@ public class TestWrapAssociateGreedy {
 		}.allTests();
 	}
 
+	@Test
+	public void concurrent() {
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+		try {
+			new StandardTests() {
+				@Override
+				public AssociateDescription<TupleDesc_F64> createAlg() {
+					ScoreAssociateEuclidean_F64 score = new ScoreAssociateEuclidean_F64();
+					AssociateGreedy<TupleDesc_F64> greedy = new AssociateGreedy_MT<>(score, true);
+					return new WrapAssociateGreedy<>(greedy);
+				}
+			}.allTests();
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
 	private static abstract class StandardTests extends StandardAssociateDescriptionChecks<TupleDesc_F64>
 	{
 		public StandardTests() {
@@ -61,6 +83,11 @@ public class TestWrapAssociateGreedy {
 		protected TupleDesc_F64 c(double value) {
 			return createFeature(value);
 		}
+
+		@Override
+		protected PackedTupleArray<TupleDesc_F64> createPacked() {
+			return new PackedTupleArray_F64(1);
+		}
 	}
 
 	private static TupleDesc_F64 createFeature(double value) {
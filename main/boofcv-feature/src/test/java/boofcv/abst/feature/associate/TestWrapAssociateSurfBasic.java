@@ -20,11 +20,18 @@ package boofcv.abst.feature.associate;
 
 import boofcv.alg.feature.associate.AssociateSurfBasic;
 import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.AssociatedIndex;
 import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.feature.PackedTupleArray;
+import boofcv.struct.feature.PackedTupleArray_Bright;
 import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
 
 import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * Standard tests
  *
@@ -48,6 +55,63 @@ public class TestWrapAssociateSurfBasic extends StandardAssociateDescriptionChec
 		return new WrapAssociateSurfBasic(basic);
 	}
 
+	@Override
+	protected PackedTupleArray<BrightFeature> createPacked() {
+		return new PackedTupleArray_Bright(1);
+	}
+
+	/**
+	 * Features with both signs in a packed array should be associated the same as features in a list, including
+	 * when the source is packed and the destination isn't
+	 */
+	@Test
+	public void packed_mixedSign() {
+		FastQueue<BrightFeature> listSrc = new FastQueue<>(BrightFeature.class,false);
+		FastQueue<BrightFeature> listDst = new FastQueue<>(BrightFeature.class,false);
+		PackedTupleArray_Bright packedSrc = new PackedTupleArray_Bright(1);
+		PackedTupleArray_Bright packedDst = new PackedTupleArray_Bright(1);
+		for (int i = 0; i < 40; i++) {
+			BrightFeature a = c(rand.nextDouble());
+			a.white = rand.nextBoolean();
+			listSrc.add(a);
+			packedSrc.append(a);
+			BrightFeature b = c(rand.nextDouble());
+			b.white = rand.nextBoolean();
+			listDst.add(b);
+			packedDst.append(b);
+		}
+
+		AssociateDescription<BrightFeature> expected = createAlg();
+		expected.setSource(listSrc);
+		expected.setDestination(listDst);
+		expected.associate();
+
+		AssociateDescription<BrightFeature> alg = createAlg();
+		for (int trial = 0; trial < 2; trial++) {
+			alg.setSource(packedSrc);
+			if( trial == 0 )
+				alg.setDestination(packedDst);
+			else
+				alg.setDestination(listDst);
+			alg.associate();
+
+			FastQueue<AssociatedIndex> found = alg.getMatches();
+			assertEquals(expected.getMatches().size,found.size);
+			for (int i = 0; i < found.size; i++) {
+				AssociatedIndex e = expected.getMatches().get(i);
+				AssociatedIndex f = found.get(i);
+				assertEquals(e.src,f.src);
+				assertEquals(e.dst,f.dst);
+				assertEquals(e.fitScore,f.fitScore,0);
+			}
+			assertEquals(expected.getUnassociatedSource().size,alg.getUnassociatedSource().size);
+			for (int i = 0; i < alg.getUnassociatedSource().size; i++) {
+				assertEquals(expected.getUnassociatedSource().get(i),alg.getUnassociatedSource().get(i));
+			}
+			assertEquals(expected.getUnassociatedDestination().size,alg.getUnassociatedDestination().size);
+		}
+	}
+
 	@Override
 	protected BrightFeature c(double value) {
 		BrightFeature s = new BrightFeature(1);
@@ -19,7 +19,7 @@
 package boofcv.abst.feature.detdesc;
 
 import boofcv.alg.misc.GImageMiscOps;
-import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.*;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageMultiBand;
 import boofcv.struct.image.ImageType;
@@ -67,6 +67,8 @@ public abstract class GenericTestsDetectDescribePoint<T extends ImageBase<T>,D e
 		hasScale();
 		hasOrientation();
 		checkMultipleCalls();
+		getDescriptions_packed();
+		detect_packed();
 	}
 
 	public abstract DetectDescribePoint<T,D> createDetDesc();
@@ -156,6 +158,88 @@ public abstract class GenericTestsDetectDescribePoint<T extends ImageBase<T>,D e
 		checkIdenticalResponse(alg1, alg2);
 	}
 
+	/**
+	 * Copying the descriptors into a packed array should produce the same values
+	 */
+	@Test
+	public void getDescriptions_packed() {
+		DetectDescribePoint<T,D> alg = createDetDesc();
+		alg.detect(image);
+
+		int N = alg.getNumberOfFeatures();
+		assertTrue(N > 1);
+		PackedTupleArray packed = createPacked(alg.getDescription(0));
+		if( packed == null )
+			return;
+		// the array should be reset first
+		packed.append(alg.getDescription(0));
+		alg.getDescriptions(packed);
+
+		assertEquals(N,packed.size());
+		for( int i = 0; i < N; i++ ) {
+			D expected = alg.getDescription(i);
+			TupleDesc found = (TupleDesc)packed.getTemp(i);
+			for( int j = 0; j < expected.size(); j++ ) {
+				assertTrue(expected.getDouble(j) == found.getDouble(j));
+			}
+		}
+	}
+
+	/**
+	 * Detecting directly into a packed array should produce the same features and descriptors as detecting
+	 * normally
+	 */
+	@Test
+	public void detect_packed() {
+		DetectDescribePoint<T,D> expected = createDetDesc();
+		expected.detect(image);
+		int N = expected.getNumberOfFeatures();
+		assertTrue(N > 1);
+
+		PackedTupleArray packed = createPacked(expected.getDescription(0));
+		if( packed == null )
+			return;
+
+		// call it multiple times to make sure the array is reset and storage is recycled correctly
+		DetectDescribePoint<T,D> alg = createDetDesc();
+		for (int trial = 0; trial < 2; trial++) {
+			alg.detect(image,packed);
+
+			assertEquals(N,alg.getNumberOfFeatures());
+			assertEquals(N,packed.size());
+			for( int i = 0; i < N; i++ ) {
+				assertTrue(expected.getLocation(i).isIdentical(alg.getLocation(i),1e-16));
+				assertTrue(expected.getRadius(i) == alg.getRadius(i));
+				assertTrue(expected.getOrientation(i) == alg.getOrientation(i));
+
+				D e = expected.getDescription(i);
+				TupleDesc found = (TupleDesc)packed.getTemp(i);
+				for( int j = 0; j < e.size(); j++ ) {
+					assertTrue(e.getDouble(j) == found.getDouble(j));
+				}
+				if( e instanceof BrightFeature ) {
+					assertEquals(((BrightFeature)e).white,((BrightFeature)found).white);
+				}
+			}
+		}
+	}
+
+	private PackedTupleArray createPacked( D desc ) {
+		if( desc instanceof BrightFeature ) {
+			return new PackedTupleArray_Bright(desc.size());
+		} else if( desc instanceof TupleDesc_F64 ) {
+			return new PackedTupleArray_F64(desc.size());
+		} else if( desc instanceof TupleDesc_F32 ) {
+			return new PackedTupleArray_F32(desc.size());
+		} else if( desc instanceof TupleDesc_U8 ) {
+			return new PackedTupleArray_U8(desc.size());
+		} else if( desc instanceof TupleDesc_B ) {
+			return new PackedTupleArray_B(desc.size());
+		} else {
+			return null;
+		}
+	}
+
 	@Test
 	public void hasScale() {
 		DetectDescribePoint<T,D> alg = createDetDesc();
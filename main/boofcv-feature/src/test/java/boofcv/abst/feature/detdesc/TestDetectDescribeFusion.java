@@ -18,6 +18,7 @@
 
 package boofcv.abst.feature.detdesc;
 
+import boofcv.abst.feature.describe.ConfigBrief;
 import boofcv.abst.feature.describe.DescribeRegionPoint;
 import boofcv.abst.feature.detect.interest.InterestPointDetector;
 import boofcv.abst.feature.orientation.OrientationImage;
@@ -25,7 +26,9 @@ import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
 import boofcv.factory.feature.detect.interest.FactoryInterestPoint;
 import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
 import boofcv.struct.feature.BrightFeature;
+import boofcv.struct.feature.PackedTupleArray_Bright;
 import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
@@ -64,6 +67,46 @@ public class TestDetectDescribeFusion {
 		}
 	}
 
+	/**
+	 * Features which can't be described should not be added to the packed array
+	 */
+	@Test
+	public void checkFeatureNotInBounds_packed() {
+
+		InterestPointDetector detector = new DummyDetector();
+		DescribeRegionPoint describe = new DummyRegionPoint();
+
+		DetectDescribeFusion alg = new DetectDescribeFusion(detector,null,describe);
+
+		PackedTupleArray_Bright packed = new PackedTupleArray_Bright(10);
+		alg.detect(new GrayF32(2,2),packed);
+
+		// one feature should not be inside the image
+		assertEquals(9, alg.getNumberOfFeatures());
+		assertEquals(9, packed.size());
+
+		for( int i = 0; i < 9; i++ ) {
+			assertEquals(2,alg.getRadius(i),1e-8);
+			assertEquals(1,alg.getOrientation(i),1e-8);
+			assertTrue(alg.getLocation(i) != null);
+		}
+	}
+
+	@Test
+	public void checkBrief() {
+		final InterestPointDetector<GrayF32> detector = FactoryInterestPoint.fastHessian(null);
+		final DescribeRegionPoint<GrayF32,TupleDesc_B> desc =
+				FactoryDescribeRegionPoint.brief(new ConfigBrief(true), GrayF32.class);
+
+		new GenericTestsDetectDescribePoint(true,false, ImageType.single(GrayF32.class),TupleDesc_B.class) {
+
+			@Override
+			public DetectDescribePoint createDetDesc() {
+				return new DetectDescribeFusion(detector,null,desc);
+			}
+		}.allTests();
+	}
+
 	@Test
 	public void checkWithOrientation() {
 		final InterestPointDetector<GrayF32> detector = FactoryInterestPoint.fastHessian(null);
@@ -18,8 +18,17 @@
 
 package boofcv.abst.flow;
 
+import boofcv.alg.flow.DenseOpticalFlowKlt;
+import boofcv.alg.transform.pyramid.PyramidDiscreteShared;
+import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.factory.flow.FactoryDenseOpticalFlow;
+import boofcv.factory.tracker.FactoryTrackerAlg;
+import boofcv.factory.transform.pyramid.FactoryPyramid;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Peter Abeles
@@ -34,4 +43,29 @@ public class TestFlowKlt_to_DenseOpticalFlow extends GeneralDenseOpticalFlowChec
 	public DenseOpticalFlow<GrayF32> createAlg(Class<GrayF32> imageType) {
 		return (DenseOpticalFlow)FactoryDenseOpticalFlow.flowKlt(null,2,imageType,null);
 	}
+
+	/**
+	 * Shared pyramids are reserved when constructed and released by dispose
+	 */
+	@Test
+	public void dispose_sharedPyramids() {
+		int scales[] = new int[]{1,2};
+		ImageType<GrayF32> type = ImageType.single(GrayF32.class);
+		PyramidDiscreteShared<GrayF32> src = new PyramidDiscreteShared<>(
+				FactoryPyramid.discreteGaussian(scales,-1,2,true,type));
+		PyramidDiscreteShared<GrayF32> dst = new PyramidDiscreteShared<>(
+				FactoryPyramid.discreteGaussian(scales,-1,2,true,type));
+
+		DenseOpticalFlowKlt<GrayF32,GrayF32> flowKlt = new DenseOpticalFlowKlt<>(
+				FactoryTrackerAlg.kltPyramid(null,GrayF32.class,GrayF32.class),scales.length,2);
+		FlowKlt_to_DenseOpticalFlow<GrayF32,GrayF32> alg = new FlowKlt_to_DenseOpticalFlow<>(flowKlt,
+				FactoryDerivative.sobel(GrayF32.class,GrayF32.class),src,dst,GrayF32.class,GrayF32.class);
+
+		assertEquals(1,src.getReferences());
+		assertEquals(1,dst.getReferences());
+		alg.dispose();
+		alg.dispose();
+		assertEquals(0,src.getReferences());
+		assertEquals(0,dst.getReferences());
+	}
 }
@@ -24,6 +24,7 @@ import org.junit.Test;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -187,6 +188,279 @@ public class TestDescriptorDistance {
 		assertEquals(8,DescriptorDistance.hamming(0xF000000F));
 	}
 
+	/**
+	 * Compares the array kernels against the functions which take in descriptors. Descriptor lengths are selected
+	 * so that the unrolled loop and the remainder are both tested.
+	 */
+	@Test
+	public void arrays_euclideanSq_F32() {
+		for( int length : new int[]{1,3,4,7,64} ) {
+			int numA = 5, numB = 13;
+			float[] arrayA = new float[numA*length];
+			float[] arrayB = new float[numB*length];
+			for (int i = 0; i < arrayA.length; i++) arrayA[i] = rand.nextFloat();
+			for (int i = 0; i < arrayB.length; i++) arrayB[i] = rand.nextFloat();
+
+			float[] expected = new float[numA*numB];
+			TupleDesc_F32 a = new TupleDesc_F32(length);
+			TupleDesc_F32 b = new TupleDesc_F32(length);
+			for (int i = 0; i < numA; i++) {
+				System.arraycopy(arrayA,i*length,a.value,0,length);
+				for (int j = 0; j < numB; j++) {
+					System.arraycopy(arrayB,j*length,b.value,0,length);
+					expected[i*numB+j] = (float)DescriptorDistance.euclideanSq(a,b);
+					assertEquals(expected[i*numB+j],
+							DescriptorDistance.euclideanSq(arrayA,i*length,arrayB,j*length,length),1e-4);
+				}
+			}
+
+			float[] found = new float[numA*numB+2];
+			DescriptorDistance.euclideanSq(arrayA,length,arrayB,3,5,length,found,2);
+			for (int j = 0; j < 5; j++) {
+				assertEquals(expected[numB+3+j],found[2+j],1e-4);
+			}
+			DescriptorDistance.euclideanSq(arrayA,numA,arrayB,numB,length,found);
+			for (int i = 0; i < numA*numB; i++) {
+				assertEquals(expected[i],found[i],1e-4);
+			}
+		}
+	}
+
+	@Test
+	public void arrays_euclideanSq_F64() {
+		for( int length : new int[]{1,3,4,7,64} ) {
+			int numA = 5, numB = 13;
+			double[] arrayA = new double[numA*length];
+			double[] arrayB = new double[numB*length];
+			for (int i = 0; i < arrayA.length; i++) arrayA[i] = rand.nextDouble();
+			for (int i = 0; i < arrayB.length; i++) arrayB[i] = rand.nextDouble();
+
+			double[] expected = new double[numA*numB];
+			TupleDesc_F64 a = new TupleDesc_F64(length);
+			TupleDesc_F64 b = new TupleDesc_F64(length);
+			for (int i = 0; i < numA; i++) {
+				System.arraycopy(arrayA,i*length,a.value,0,length);
+				for (int j = 0; j < numB; j++) {
+					System.arraycopy(arrayB,j*length,b.value,0,length);
+					expected[i*numB+j] = DescriptorDistance.euclideanSq(a,b);
+					assertEquals(expected[i*numB+j],
+							DescriptorDistance.euclideanSq(arrayA,i*length,arrayB,j*length,length),1e-8);
+				}
+			}
+
+			double[] found = new double[numA*numB+2];
+			DescriptorDistance.euclideanSq(arrayA,length,arrayB,3,5,length,found,2);
+			for (int j = 0; j < 5; j++) {
+				assertEquals(expected[numB+3+j],found[2+j],1e-8);
+			}
+			DescriptorDistance.euclideanSq(arrayA,numA,arrayB,numB,length,found);
+			for (int i = 0; i < numA*numB; i++) {
+				assertEquals(expected[i],found[i],1e-8);
+			}
+		}
+	}
+
+	@Test
+	public void arrays_sad_U8() {
+		for( int length : new int[]{1,3,4,7,64} ) {
+			int numA = 5, numB = 13;
+			byte[] arrayA = new byte[numA*length];
+			byte[] arrayB = new byte[numB*length];
+			rand.nextBytes(arrayA);
+			rand.nextBytes(arrayB);
+
+			int[] expected = new int[numA*numB];
+			TupleDesc_U8 a = new TupleDesc_U8(length);
+			TupleDesc_U8 b = new TupleDesc_U8(length);
+			for (int i = 0; i < numA; i++) {
+				System.arraycopy(arrayA,i*length,a.value,0,length);
+				for (int j = 0; j < numB; j++) {
+					System.arraycopy(arrayB,j*length,b.value,0,length);
+					expected[i*numB+j] = DescriptorDistance.sad(a,b);
+					assertEquals(expected[i*numB+j],
+							DescriptorDistance.sad(arrayA,i*length,arrayB,j*length,length));
+				}
+			}
+
+			int[] found = new int[numA*numB+2];
+			DescriptorDistance.sad(arrayA,length,arrayB,3,5,length,found,2);
+			for (int j = 0; j < 5; j++) {
+				assertEquals(expected[numB+3+j],found[2+j]);
+			}
+			DescriptorDistance.sad(arrayA,numA,arrayB,numB,length,found);
+			for (int i = 0; i < numA*numB; i++) {
+				assertEquals(expected[i],found[i]);
+			}
+		}
+	}
+
+	@Test
+	public void arrays_sad_F32() {
+		for( int length : new int[]{1,3,4,7,64} ) {
+			int numA = 5, numB = 13;
+			float[] arrayA = new float[numA*length];
+			float[] arrayB = new float[numB*length];
+			for (int i = 0; i < arrayA.length; i++) arrayA[i] = rand.nextFloat();
+			for (int i = 0; i < arrayB.length; i++) arrayB[i] = rand.nextFloat();
+
+			float[] expected = new float[numA*numB];
+			TupleDesc_F32 a = new TupleDesc_F32(length);
+			TupleDesc_F32 b = new TupleDesc_F32(length);
+			for (int i = 0; i < numA; i++) {
+				System.arraycopy(arrayA,i*length,a.value,0,length);
+				for (int j = 0; j < numB; j++) {
+					System.arraycopy(arrayB,j*length,b.value,0,length);
+					expected[i*numB+j] = DescriptorDistance.sad(a,b);
+					assertEquals(expected[i*numB+j],
+							DescriptorDistance.sad(arrayA,i*length,arrayB,j*length,length),1e-4);
+				}
+			}
+
+			float[] found = new float[numA*numB+2];
+			DescriptorDistance.sad(arrayA,length,arrayB,3,5,length,found,2);
+			for (int j = 0; j < 5; j++) {
+				assertEquals(expected[numB+3+j],found[2+j],1e-4);
+			}
+			DescriptorDistance.sad(arrayA,numA,arrayB,numB,length,found);
+			for (int i = 0; i < numA*numB; i++) {
+				assertEquals(expected[i],found[i],1e-4);
+			}
+		}
+	}
+
+	@Test
+	public void arrays_sad_F64() {
+		for( int length : new int[]{1,3,4,7,64} ) {
+			int numA = 5, numB = 13;
+			double[] arrayA = new double[numA*length];
+			double[] arrayB = new double[numB*length];
+			for (int i = 0; i < arrayA.length; i++) arrayA[i] = rand.nextDouble();
+			for (int i = 0; i < arrayB.length; i++) arrayB[i] = rand.nextDouble();
+
+			double[] expected = new double[numA*numB];
+			TupleDesc_F64 a = new TupleDesc_F64(length);
+			TupleDesc_F64 b = new TupleDesc_F64(length);
+			for (int i = 0; i < numA; i++) {
+				System.arraycopy(arrayA,i*length,a.value,0,length);
+				for (int j = 0; j < numB; j++) {
+					System.arraycopy(arrayB,j*length,b.value,0,length);
+					expected[i*numB+j] = DescriptorDistance.sad(a,b);
+					assertEquals(expected[i*numB+j],
+							DescriptorDistance.sad(arrayA,i*length,arrayB,j*length,length),1e-8);
+				}
+			}
+
+			double[] found = new double[numA*numB+2];
+			DescriptorDistance.sad(arrayA,length,arrayB,3,5,length,found,2);
+			for (int j = 0; j < 5; j++) {
+				assertEquals(expected[numB+3+j],found[2+j],1e-8);
+			}
+			DescriptorDistance.sad(arrayA,numA,arrayB,numB,length,found);
+			for (int i = 0; i < numA*numB; i++) {
+				assertEquals(expected[i],found[i],1e-8);
+			}
+		}
+	}
+
+	@Test
+	public void arrays_hamming_I32() {
+		for( int length : new int[]{1,3,4,7,16} ) {
+			int numA = 5, numB = 13;
+			int[] arrayA = new int[numA*length];
+			int[] arrayB = new int[numB*length];
+			for (int i = 0; i < arrayA.length; i++) arrayA[i] = rand.nextInt();
+			for (int i = 0; i < arrayB.length; i++) arrayB[i] = rand.nextInt();
+
+			int[] expected = new int[numA*numB];
+			TupleDesc_B a = new TupleDesc_B(length*32);
+			TupleDesc_B b = new TupleDesc_B(length*32);
+			for (int i = 0; i < numA; i++) {
+				System.arraycopy(arrayA,i*length,a.data,0,length);
+				for (int j = 0; j < numB; j++) {
+					System.arraycopy(arrayB,j*length,b.data,0,length);
+					expected[i*numB+j] = hamming(a,b);
+					assertEquals(expected[i*numB+j],
+							DescriptorDistance.hamming(arrayA,i*length,arrayB,j*length,length));
+				}
+			}
+
+			int[] found = new int[numA*numB+2];
+			DescriptorDistance.hamming(arrayA,length,arrayB,3,5,length,found,2);
+			for (int j = 0; j < 5; j++) {
+				assertEquals(expected[numB+3+j],found[2+j]);
+			}
+			DescriptorDistance.hamming(arrayA,numA,arrayB,numB,length,found);
+			for (int i = 0; i < numA*numB; i++) {
+				assertEquals(expected[i],found[i]);
+			}
+		}
+	}
+
+	@Test
+	public void arrays_hamming_I64() {
+		for( int length : new int[]{1,3,4,7,8} ) {
+			int numA = 5, numB = 13;
+			long[] arrayA = new long[numA*length];
+			long[] arrayB = new long[numB*length];
+			for (int i = 0; i < arrayA.length; i++) arrayA[i] = rand.nextLong();
+			for (int i = 0; i < arrayB.length; i++) arrayB[i] = rand.nextLong();
+
+			// split each 64-bit word into two 32-bit words
+			int[] expected = new int[numA*numB];
+			TupleDesc_B a = new TupleDesc_B(length*64);
+			TupleDesc_B b = new TupleDesc_B(length*64);
+			for (int i = 0; i < numA; i++) {
+				for (int k = 0; k < length; k++) {
+					a.data[k*2] = (int)arrayA[i*length+k];
+					a.data[k*2+1] = (int)(arrayA[i*length+k] >>> 32);
+				}
+				for (int j = 0; j < numB; j++) {
+					for (int k = 0; k < length; k++) {
+						b.data[k*2] = (int)arrayB[j*length+k];
+						b.data[k*2+1] = (int)(arrayB[j*length+k] >>> 32);
+					}
+					expected[i*numB+j] = hamming(a,b);
+					assertEquals(expected[i*numB+j],
+							DescriptorDistance.hamming(arrayA,i*length,arrayB,j*length,length));
+				}
+			}
+
+			int[] found = new int[numA*numB+2];
+			DescriptorDistance.hamming(arrayA,length,arrayB,3,5,length,found,2);
+			for (int j = 0; j < 5; j++) {
+				assertEquals(expected[numB+3+j],found[2+j]);
+			}
+			DescriptorDistance.hamming(arrayA,numA,arrayB,numB,length,found);
+			for (int i = 0; i < numA*numB; i++) {
+				assertEquals(expected[i],found[i]);
+			}
+		}
+	}
+
+	/**
+	 * Make sure the blocks in many to many cover all the descriptors when the block size doesn't divide evenly
+	 */
+	@Test
+	public void arrays_manyToMany_blocks() {
+		int length = 3000;
+		int numA = 3, numB = 23;
+		assertTrue(DescriptorDistance.blockSize(length*8) < numB);
+
+		double[] arrayA = new double[numA*length];
+		double[] arrayB = new double[numB*length];
+		for (int i = 0; i < arrayA.length; i++) arrayA[i] = rand.nextDouble();
+		for (int i = 0; i < arrayB.length; i++) arrayB[i] = rand.nextDouble();
+
+		double[] found = new double[numA*numB];
+		DescriptorDistance.euclideanSq(arrayA,numA,arrayB,numB,length,found);
+		for (int i = 0; i < numA; i++) {
+			for (int j = 0; j < numB; j++) {
+				assertEquals(DescriptorDistance.euclideanSq(arrayA,i*length,arrayB,j*length,length),
+						found[i*numB+j],1e-8);
+			}
+		}
+	}
+
 	private int hamming( TupleDesc_B a, TupleDesc_B b) {
 		int ret = 0;
 		for( int i = 0; i < a.data.length; i++ ) {
@@ -18,19 +18,41 @@
 
 package boofcv.alg.descriptor;
 
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
  */
 public class TestUtilFeature {
 
+	@Test
+	public void copyToQueue() {
+		PackedTupleArray_F64 packed = new PackedTupleArray_F64(4);
+		TupleDesc_F64 d = new TupleDesc_F64(4);
+		for (int i = 0; i < 5; i++) {
+			d.value[2] = i;
+			packed.append(d);
+		}
+
+		FastQueue<TupleDesc_F64> found = UtilFeature.copyToQueue(packed);
+		assertEquals(5,found.size);
+		for (int i = 0; i < 5; i++) {
+			assertEquals(4,found.get(i).size());
+			assertEquals(i,found.get(i).value[2],0);
+		}
+		// each one should be a new instance
+		assertTrue(found.get(0) != found.get(1));
+	}
+
 	@Test
 	public void combine() {
 		TupleDesc_F64 feature0 = new TupleDesc_F64(64);
@@ -59,6 +81,23 @@ public class TestUtilFeature {
 		assertEquals(0.89443, feature.value[10], 1e-3);
 	}
 
+	/**
+	 * Only the elements of the tuple inside the array should be modified
+	 */
+	@Test
+	public void normalizeL2_array() {
+		double[] data = new double[10];
+		data[2] = 5;
+		data[3] = 2;
+		data[6] = 4;
+		data[8] = 7;
+		UtilFeature.normalizeL2(data,3,5);
+		assertEquals(5,data[2],0);
+		assertEquals(0.44721,data[3],1e-3);
+		assertEquals(0.89443,data[6],1e-3);
+		assertEquals(7,data[8],0);
+	}
+
 	/**
 	 * The descriptor is all zeros.  See if it handles this special case.
 	 */
@@ -18,8 +18,10 @@
 
 package boofcv.alg.feature.associate;
 
+import boofcv.abst.feature.associate.ScoreAssociateEuclideanSq_F64;
 import boofcv.abst.feature.associate.ScoreAssociateEuclidean_F64;
 import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.struct.feature.PackedTupleArray_F64;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.ddogleg.struct.FastQueue;
 import org.junit.Test;
@@ -101,6 +103,44 @@ public class TestAssociateGreedy {
 		assertEquals(2,fitScore[3],1e-5);
 	}
 
+	/**
+	 * Associating packed arrays should produce identical results. Checked with a score that reads the packed array
+	 * directly and one which uses the default implementation.
+	 */
+	@Test
+	public void packed() {
+		FastQueue<TupleDesc_F64> a = createData(1,2,3,8,2,5);
+		FastQueue<TupleDesc_F64> b = createData(3,4,1,10,2.1);
+
+		for( ScoreAssociation<TupleDesc_F64> score : new ScoreAssociation[]{
+				this.score,new ScoreAssociateEuclideanSq_F64()}) {
+			for( boolean backwards : new boolean[]{false,true}) {
+				AssociateGreedy<TupleDesc_F64> expected = new AssociateGreedy<>(score, backwards);
+				AssociateGreedy<TupleDesc_F64> found = new AssociateGreedy<>(score, backwards);
+				expected.setMaxFitError(5);
+				found.setMaxFitError(5);
+
+				expected.associate(a,b);
+				// call it twice to make sure the work space is handled correctly
+				for (int trial = 0; trial < 2; trial++) {
+					found.associate(pack(a),pack(b));
+					for (int i = 0; i < a.size; i++) {
+						assertEquals(expected.getPairs()[i], found.getPairs()[i]);
+						assertEquals(expected.getFitQuality()[i], found.getFitQuality()[i], 0.0);
+					}
+				}
+			}
+		}
+	}
+
+	private PackedTupleArray_F64 pack( FastQueue<TupleDesc_F64> list ) {
+		PackedTupleArray_F64 packed = new PackedTupleArray_F64(1);
+		for (int i = 0; i < list.size; i++) {
+			packed.append(list.get(i));
+		}
+		return packed;
+	}
+
 	private FastQueue<TupleDesc_F64> createData( double ...values )
 	{
 		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateEuclideanSq_F64;
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.PackedTupleArray_F64;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedy_MT {
+
+	Random rand = new Random(234);
+	ScoreAssociation<TupleDesc_F64> score = new ScoreAssociateEuclideanSq_F64();
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		// several threads so that the work is split into blocks
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	/**
+	 * Results should be identical to the single threaded implementation. Descriptors take on a small number
+	 * of discrete values so that there are lots of ties.
+	 */
+	@Test
+	public void compareToSingleThread() {
+		int sizes[][] = new int[][]{{0,5},{5,0},{1,1},{1,20},{20,1},{30,40},{200,150}};
+		for( int[] size : sizes ) {
+			FastQueue<TupleDesc_F64> src = createData(size[0]);
+			FastQueue<TupleDesc_F64> dst = createData(size[1]);
+
+			for( boolean backwards : new boolean[]{false,true} ) {
+				for( double maxError : new double[]{Double.MAX_VALUE,2} ) {
+					for( int tileSize : new int[]{7,256} ) {
+						AssociateGreedy<TupleDesc_F64> expected = new AssociateGreedy<>(score, backwards);
+						AssociateGreedy_MT<TupleDesc_F64> found = new AssociateGreedy_MT<>(score, backwards);
+						expected.setMaxFitError(maxError);
+						found.setMaxFitError(maxError);
+						found.setTileSize(tileSize);
+
+						expected.associate(src, dst);
+						found.associate(src, dst);
+
+						for (int i = 0; i < src.size; i++) {
+							assertEquals(expected.getPairs()[i], found.getPairs()[i]);
+							assertEquals(expected.getFitQuality()[i], found.getFitQuality()[i], 0.0);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Makes sure the instance can be called multiple times with lists of different sizes
+	 */
+	@Test
+	public void multipleCalls() {
+		AssociateGreedy<TupleDesc_F64> expected = new AssociateGreedy<>(score, true);
+		AssociateGreedy_MT<TupleDesc_F64> found = new AssociateGreedy_MT<>(score, true);
+
+		for( int trial = 0; trial < 4; trial++ ) {
+			FastQueue<TupleDesc_F64> src = createData(60-trial*15);
+			FastQueue<TupleDesc_F64> dst = createData(20+trial*15);
+
+			expected.associate(src, dst);
+			found.associate(src, dst);
+
+			for (int i = 0; i < src.size; i++) {
+				assertEquals(expected.getPairs()[i], found.getPairs()[i]);
+				assertEquals(expected.getFitQuality()[i], found.getFitQuality()[i], 0.0);
+			}
+		}
+	}
+
+	/**
+	 * Associating packed arrays should produce results identical to the single threaded implementation
+	 */
+	@Test
+	public void packed() {
+		int sizes[][] = new int[][]{{0,5},{5,0},{1,20},{30,40},{200,150}};
+		for( int[] size : sizes ) {
+			FastQueue<TupleDesc_F64> src = createData(size[0]);
+			FastQueue<TupleDesc_F64> dst = createData(size[1]);
+
+			for( boolean backwards : new boolean[]{false,true} ) {
+				AssociateGreedy<TupleDesc_F64> expected = new AssociateGreedy<>(score, backwards);
+				AssociateGreedy_MT<TupleDesc_F64> found = new AssociateGreedy_MT<>(score, backwards);
+				found.setTileSize(7);
+
+				expected.associate(src, dst);
+				found.associate(pack(src), pack(dst));
+
+				for (int i = 0; i < src.size; i++) {
+					assertEquals(expected.getPairs()[i], found.getPairs()[i]);
+					assertEquals(expected.getFitQuality()[i], found.getFitQuality()[i], 0.0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void ColumnBest_add() {
+		AssociateGreedy_MT.ColumnBest alg = new AssociateGreedy_MT.ColumnBest();
+		alg.reset(3);
+
+		alg.add(0,5);
+		alg.add(0,Double.NaN);
+		assertEquals(5,alg.best[0],0);
+		assertTrue(Double.isNaN(alg.second[0]));
+
+		alg.add(0,6);
+		alg.add(0,2);
+		assertEquals(2,alg.best[0],0);
+		assertEquals(5,alg.second[0],0);
+
+		// ties are kept
+		alg.add(1,3);
+		alg.add(1,3);
+		assertEquals(3,alg.best[1],0);
+		assertEquals(3,alg.second[1],0);
+
+		// merge in results from another block
+		AssociateGreedy_MT.ColumnBest other = new AssociateGreedy_MT.ColumnBest();
+		other.reset(3);
+		other.add(0,3);
+		other.add(2,7);
+		alg.add(other);
+		assertEquals(2,alg.best[0],0);
+		assertEquals(3,alg.second[0],0);
+		assertEquals(7,alg.best[2],0);
+		assertTrue(Double.isNaN(alg.second[2]));
+	}
+
+	private PackedTupleArray_F64 pack( FastQueue<TupleDesc_F64> list ) {
+		PackedTupleArray_F64 packed = new PackedTupleArray_F64(2);
+		for (int i = 0; i < list.size; i++) {
+			packed.append(list.get(i));
+		}
+		return packed;
+	}
+
+	private FastQueue<TupleDesc_F64> createData( int total ) {
+		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
+			@Override
+			protected TupleDesc_F64 createInstance() {
+				return new TupleDesc_F64(2);
+			}
+		};
+
+		for( int i = 0; i < total; i++ ) {
+			ret.grow().set(rand.nextInt(4),rand.nextInt(4));
+		}
+
+		return ret;
+	}
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Standard tests for implementations of {@link NnIndex}
+ *
+ * @author Peter Abeles
+ */
+public abstract class GenericNnIndexChecks {
+
+	Random rand = new Random(234);
+
+	public abstract <D> NnIndex<D> createIndex();
+
+	/**
+	 * If the number of checks is at least the number of points then the exact solution should be found
+	 */
+	@Test
+	public void exhaustive_F64() {
+		int dof = 10;
+		FastQueue<TupleDesc_F64> points = randomF64(500,dof);
+		FastQueue<TupleDesc_F64> queries = randomF64(100,dof);
+
+		NnPointSet<TupleDesc_F64> set = new NnPointSet_F64<>(dof);
+		set.setTo(points);
+		NnIndex<TupleDesc_F64> alg = createIndex();
+		alg.setPoints(set);
+		NnIndexSearch<TupleDesc_F64> search = alg.createSearch();
+
+		for (int i = 0; i < queries.size; i++) {
+			int found = search.findNearest(queries.get(i),-1,points.size);
+			int expected = bruteForce(set,queries.get(i));
+			assertEquals(expected,found);
+			assertEquals(set.distanceSq(expected,queries.get(i),Double.MAX_VALUE),search.getDistanceSq(),1e-8);
+		}
+	}
+
+	@Test
+	public void exhaustive_F32() {
+		int dof = 10;
+		FastQueue<TupleDesc_F32> points = randomF32(500,dof);
+		FastQueue<TupleDesc_F32> queries = randomF32(100,dof);
+
+		NnPointSet<TupleDesc_F32> set = new NnPointSet_F32<>(dof);
+		set.setTo(points);
+		NnIndex<TupleDesc_F32> alg = createIndex();
+		alg.setPoints(set);
+		NnIndexSearch<TupleDesc_F32> search = alg.createSearch();
+
+		for (int i = 0; i < queries.size; i++) {
+			int found = search.findNearest(queries.get(i),-1,points.size);
+			assertEquals(bruteForce(set,queries.get(i)),found);
+		}
+	}
+
+	/**
+	 * Queries are close to a point in the set. Even with a small number of checks most should be found
+	 */
+	@Test
+	public void approximate() {
+		int dof = 20;
+		FastQueue<TupleDesc_F32> points = randomF32(2000,dof);
+
+		NnPointSet<TupleDesc_F32> set = new NnPointSet_F32<>(dof);
+		set.setTo(points);
+		NnIndex<TupleDesc_F32> alg = createIndex();
+		alg.setPoints(set);
+		NnIndexSearch<TupleDesc_F32> search = alg.createSearch();
+
+		int correct = 0;
+		TupleDesc_F32 query = new TupleDesc_F32(dof);
+		for (int i = 0; i < points.size; i += 10) {
+			for (int k = 0; k < dof; k++) {
+				query.value[k] = points.get(i).value[k] + (float)(rand.nextGaussian()*0.01);
+			}
+			if( search.findNearest(query,-1,100) == i )
+				correct++;
+		}
+		assertTrue(correct >= 0.9*points.size/10);
+	}
+
+	/**
+	 * Points further away than the maximum distance should not be returned
+	 */
+	@Test
+	public void maxDistance() {
+		int dof = 4;
+		FastQueue<TupleDesc_F64> points = randomF64(100,dof);
+
+		NnPointSet<TupleDesc_F64> set = new NnPointSet_F64<>(dof);
+		set.setTo(points);
+		NnIndex<TupleDesc_F64> alg = createIndex();
+		alg.setPoints(set);
+		NnIndexSearch<TupleDesc_F64> search = alg.createSearch();
+
+		TupleDesc_F64 query = points.get(5).copy();
+		query.value[0] += 0.05;
+
+		assertEquals(5,search.findNearest(query,0.0025,points.size));
+		assertEquals(0.0025,search.getDistanceSq(),1e-8);
+		assertEquals(-1,search.findNearest(query,0.002,points.size));
+		assertEquals(5,search.findNearest(query,-1,points.size));
+	}
+
+	@Test
+	public void noPoints() {
+		NnPointSet<TupleDesc_F64> set = new NnPointSet_F64<>(4);
+		NnIndex<TupleDesc_F64> alg = createIndex();
+		alg.setPoints(set);
+
+		assertEquals(-1,alg.createSearch().findNearest(new TupleDesc_F64(4),-1,100));
+	}
+
+	/**
+	 * Many identical points which can't be split
+	 */
+	@Test
+	public void identicalPoints() {
+		int dof = 6;
+		FastQueue<TupleDesc_F64> points = randomF64(200,dof);
+		for (int i = 1; i < points.size; i++) {
+			points.get(i).setTo(points.get(0));
+		}
+
+		NnPointSet<TupleDesc_F64> set = new NnPointSet_F64<>(dof);
+		set.setTo(points);
+		NnIndex<TupleDesc_F64> alg = createIndex();
+		alg.setPoints(set);
+
+		NnIndexSearch<TupleDesc_F64> search = alg.createSearch();
+		assertTrue(search.findNearest(points.get(0),-1,10) >= 0);
+		assertEquals(0,search.getDistanceSq(),1e-8);
+	}
+
+	/**
+	 * The index is constructed multiple times from different point sets
+	 */
+	@Test
+	public void multipleCalls() {
+		int dof = 8;
+		NnPointSet<TupleDesc_F64> set = new NnPointSet_F64<>(dof);
+		NnIndex<TupleDesc_F64> alg = createIndex();
+		NnIndexSearch<TupleDesc_F64> search = alg.createSearch();
+
+		for (int trial = 0; trial < 3; trial++) {
+			FastQueue<TupleDesc_F64> points = randomF64(400-trial*150,dof);
+			set.setTo(points);
+			alg.setPoints(set);
+
+			for (int i = 0; i < 20; i++) {
+				TupleDesc_F64 query = randomF64(1,dof).get(0);
+				assertEquals(bruteForce(set,query),search.findNearest(query,-1,points.size));
+			}
+		}
+	}
+
+	private static <D> int bruteForce( NnPointSet<D> set , D query ) {
+		int best = -1;
+		double bestDistance = Double.MAX_VALUE;
+		for (int i = 0; i < set.size(); i++) {
+			double d = set.distanceSq(i,query,Double.MAX_VALUE);
+			if( d < bestDistance ) {
+				bestDistance = d;
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	private FastQueue<TupleDesc_F64> randomF64( int N , int dof ) {
+		FastQueue<TupleDesc_F64> list = new FastQueue<>(TupleDesc_F64.class,false);
+		for (int i = 0; i < N; i++) {
+			TupleDesc_F64 d = new TupleDesc_F64(dof);
+			for (int k = 0; k < dof; k++) {
+				d.value[k] = rand.nextDouble()*2-1;
+			}
+			list.add(d);
+		}
+		return list;
+	}
+
+	private FastQueue<TupleDesc_F32> randomF32( int N , int dof ) {
+		FastQueue<TupleDesc_F32> list = new FastQueue<>(TupleDesc_F32.class,false);
+		for (int i = 0; i < N; i++) {
+			TupleDesc_F32 d = new TupleDesc_F32(dof);
+			for (int k = 0; k < dof; k++) {
+				d.value[k] = rand.nextFloat()*2-1;
+			}
+			list.add(d);
+		}
+		return list;
+	}
+}
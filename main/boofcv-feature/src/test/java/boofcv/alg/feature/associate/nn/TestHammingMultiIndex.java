@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.alg.descriptor.DescriptorDistance;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestHammingMultiIndex {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Compare the k-nearest neighbors against a brute force search for different descriptor and table sizes
+	 */
+	@Test
+	public void compareToBruteForce() {
+		compareToBruteForce(64,4,1);
+		compareToBruteForce(100,7,3);
+		compareToBruteForce(256,16,5);
+		compareToBruteForce(256,16,1);
+	}
+
+	private void compareToBruteForce( int numBits , int numTables , int k ) {
+		FastQueue<TupleDesc_B> points = new FastQueue<>(TupleDesc_B.class,false);
+		for (int i = 0; i < 300; i++) {
+			points.add(random(numBits));
+		}
+
+		HammingMultiIndex alg = new HammingMultiIndex(numBits,numTables);
+		for (int i = 0; i < points.size; i++) {
+			assertEquals(i,alg.add(points.get(i)));
+		}
+		HammingMultiIndex.Search search = alg.createSearch();
+
+		for (int trial = 0; trial < 40; trial++) {
+			// the query is either close to a point in the set or a random descriptor
+			TupleDesc_B query = trial%2 == 0 ? random(numBits) : perturb(points.get(trial),numBits/20);
+
+			int found = search.findNearest(query,k,-1);
+			assertEquals(k,found);
+			int expected[] = bruteForceDistances(points,query);
+			for (int i = 0; i < k; i++) {
+				assertEquals(expected[i],search.distances.get(i));
+				int id = search.ids.get(i);
+				assertEquals(expected[i],DescriptorDistance.hamming(points.get(id),query));
+			}
+		}
+	}
+
+	@Test
+	public void maxDistance() {
+		int numBits = 128;
+		HammingMultiIndex alg = new HammingMultiIndex(numBits,8);
+		TupleDesc_B a = random(numBits);
+		alg.add(a);
+		alg.add(perturb(a,20));
+
+		HammingMultiIndex.Search search = alg.createSearch();
+		TupleDesc_B query = perturb(a,5);
+		assertEquals(1,search.findNearest(query,3,5));
+		assertEquals(0,search.ids.get(0));
+		assertEquals(5,search.distances.get(0));
+		assertEquals(0,search.findNearest(query,3,4));
+		assertEquals(2,search.findNearest(query,3,-1));
+	}
+
+	@Test
+	public void add_remove() {
+		int numBits = 64;
+		HammingMultiIndex alg = new HammingMultiIndex(numBits,4);
+		FastQueue<TupleDesc_B> points = new FastQueue<>(TupleDesc_B.class,false);
+		for (int i = 0; i < 50; i++) {
+			points.add(random(numBits));
+			alg.add(points.get(i));
+		}
+		// remove every other point
+		for (int i = 0; i < 50; i += 2) {
+			alg.remove(i);
+		}
+		assertEquals(25,alg.size());
+		assertFalse(alg.isActive(4));
+		assertTrue(alg.isActive(5));
+
+		HammingMultiIndex.Search search = alg.createSearch();
+		for (int i = 0; i < 50; i++) {
+			search.findNearest(points.get(i),1,-1);
+			if( i%2 == 0 ) {
+				assertTrue(search.ids.get(0)%2 == 1);
+				assertTrue(search.distances.get(0) > 0);
+			} else {
+				assertEquals(i,search.ids.get(0));
+				assertEquals(0,search.distances.get(0));
+			}
+		}
+
+		// IDs should be recycled
+		int id = alg.add(points.get(10));
+		assertTrue(id < 50 && id%2 == 0);
+		assertEquals(26,alg.size());
+		search.findNearest(points.get(10),1,-1);
+		assertEquals(id,search.ids.get(0));
+		TupleDesc_B copy = new TupleDesc_B(numBits);
+		alg.getDescription(id,copy);
+		assertEquals(0,DescriptorDistance.hamming(points.get(10),copy));
+
+		// after a reset IDs start from zero
+		alg.reset();
+		assertEquals(0,alg.size());
+		assertEquals(0,alg.add(points.get(3)));
+		assertEquals(1,alg.add(points.get(4)));
+		assertEquals(2,search.findNearest(points.get(3),5,-1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void remove_notActive() {
+		HammingMultiIndex alg = new HammingMultiIndex(64,4);
+		alg.add(random(64));
+		alg.remove(0);
+		alg.remove(0);
+	}
+
+	/**
+	 * A query which is far from everything in the index should switch to checking every descriptor instead of
+	 * probing more buckets than there are descriptors. The results must still be the k-nearest neighbors.
+	 */
+	@Test
+	public void unmatchedQuery() {
+		int numBits = 256;
+		FastQueue<TupleDesc_B> points = new FastQueue<>(TupleDesc_B.class,false);
+		HammingMultiIndex alg = new HammingMultiIndex(numBits,16);
+		for (int i = 0; i < 500; i++) {
+			points.add(random(numBits));
+			alg.add(points.getTail());
+		}
+
+		HammingMultiIndex.Search search = alg.createSearch();
+		TupleDesc_B query = random(numBits);
+		assertEquals(2,search.findNearest(query,2,-1));
+		assertTrue(search.exhaustive);
+		assertTrue(search.probed > alg.size());
+		int expected[] = bruteForceDistances(points,query);
+		assertEquals(expected[0],search.distances.get(0));
+		assertEquals(expected[1],search.distances.get(1));
+
+		// a query which is in the index is found without checking everything
+		assertEquals(1,search.findNearest(points.get(20),1,-1));
+		assertFalse(search.exhaustive);
+		assertEquals(20,search.ids.get(0));
+	}
+
+	@Test
+	public void countBuckets() {
+		assertEquals(1,HammingMultiIndex.countBuckets(16,0));
+		assertEquals(16,HammingMultiIndex.countBuckets(16,1));
+		assertEquals(120,HammingMultiIndex.countBuckets(16,2));
+		assertEquals(2704156,HammingMultiIndex.countBuckets(24,12));
+		assertEquals(1,HammingMultiIndex.countBuckets(24,24));
+	}
+
+	@Test
+	public void findNearest_badK() {
+		HammingMultiIndex alg = new HammingMultiIndex(64,4);
+		alg.add(random(64));
+		HammingMultiIndex.Search search = alg.createSearch();
+		try {
+			search.findNearest(random(64),0,-1);
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ) {}
+
+		FastQueue<TupleDesc_B> queries = new FastQueue<>(TupleDesc_B.class,false);
+		queries.add(random(64));
+		try {
+			alg.findNearest(queries,-1,-1,new GrowQueue_I32(),new GrowQueue_I32());
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ) {}
+	}
+
+	/**
+	 * Batch queries should produce the same results as individual queries with and without concurrency
+	 */
+	@Test
+	public void findNearest_batch() {
+		int numBits = 128;
+		HammingMultiIndex alg = new HammingMultiIndex(numBits,8);
+		FastQueue<TupleDesc_B> queries = new FastQueue<>(TupleDesc_B.class,false);
+		PackedTupleArray_B packed = new PackedTupleArray_B(numBits);
+		for (int i = 0; i < 200; i++) {
+			TupleDesc_B a = random(numBits);
+			alg.add(a);
+			queries.add(perturb(a,10));
+			packed.append(queries.getTail());
+		}
+
+		int k = 3;
+		HammingMultiIndex.Search search = alg.createSearch();
+		for( int trial = 0; trial < 4; trial++ ) {
+			BoofConcurrency.USE_CONCURRENT = trial%2 == 1;
+			GrowQueue_I32 ids = new GrowQueue_I32();
+			GrowQueue_I32 distances = new GrowQueue_I32();
+			// the same queries are either read from a list or a packed array
+			if( trial < 2 )
+				alg.findNearest(queries,k,12,ids,distances);
+			else
+				alg.findNearest(packed,k,12,ids,distances);
+			assertEquals(queries.size*k,ids.size);
+
+			for (int i = 0; i < queries.size; i++) {
+				int found = search.findNearest(queries.get(i),k,12);
+				for (int j = 0; j < k; j++) {
+					if( j < found ) {
+						assertEquals(search.ids.get(j),ids.get(i*k+j));
+						assertEquals(search.distances.get(j),distances.get(i*k+j));
+					} else {
+						assertEquals(-1,ids.get(i*k+j));
+					}
+				}
+			}
+		}
+		BoofConcurrency.USE_CONCURRENT = true;
+	}
+
+	/**
+	 * Descriptors added from an array should be the same as adding the descriptor
+	 */
+	@Test
+	public void add_array() {
+		int numBits = 96;
+		HammingMultiIndex alg = new HammingMultiIndex(numBits,4);
+		TupleDesc_B a = random(numBits);
+		TupleDesc_B b = random(numBits);
+		int words[] = new int[a.data.length*2];
+		System.arraycopy(a.data,0,words,0,a.data.length);
+		System.arraycopy(b.data,0,words,a.data.length,b.data.length);
+
+		assertEquals(0,alg.add(words,0));
+		assertEquals(1,alg.add(words,a.data.length));
+
+		HammingMultiIndex.Search search = alg.createSearch();
+		assertEquals(1,search.findNearest(b,1,0));
+		assertEquals(1,search.ids.get(0));
+		assertEquals(1,search.findNearest(words,0,1,0));
+		assertEquals(0,search.ids.get(0));
+	}
+
+	private int[] bruteForceDistances( FastQueue<TupleDesc_B> points , TupleDesc_B query ) {
+		int distances[] = new int[points.size];
+		for (int i = 0; i < points.size; i++) {
+			distances[i] = DescriptorDistance.hamming(points.get(i),query);
+		}
+		Arrays.sort(distances);
+		return distances;
+	}
+
+	private TupleDesc_B random( int numBits ) {
+		TupleDesc_B d = new TupleDesc_B(numBits);
+		for (int i = 0; i < numBits; i++) {
+			if( rand.nextBoolean() )
+				d.data[i/32] |= 1 << (i%32);
+		}
+		return d;
+	}
+
+	/**
+	 * Flips the specified number of bits
+	 */
+	private TupleDesc_B perturb( TupleDesc_B original , int numFlips ) {
+		TupleDesc_B d = original.copy();
+		int bits[] = new int[d.numBits];
+		for (int i = 0; i < bits.length; i++) {
+			bits[i] = i;
+		}
+		for (int i = 0; i < numFlips; i++) {
+			int j = i + rand.nextInt(bits.length-i);
+			int tmp = bits[i]; bits[i] = bits[j]; bits[j] = tmp;
+			d.data[bits[i]/32] ^= 1 << (bits[i]%32);
+		}
+		return d;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestNnNodeHeap {
+	@Test
+	public void pushPop() {
+		Random rand = new Random(234);
+		NnNodeHeap alg = new NnNodeHeap();
+
+		// run it twice to make sure reset works
+		for (int trial = 0; trial < 2; trial++) {
+			alg.reset();
+			double keys[] = new double[100];
+			for (int i = 0; i < keys.length; i++) {
+				keys[i] = rand.nextDouble();
+				alg.push(i, keys[i]);
+			}
+			assertEquals(keys.length, alg.size());
+
+			double sorted[] = keys.clone();
+			Arrays.sort(sorted);
+			for (int i = 0; i < sorted.length; i++) {
+				assertEquals(sorted[i], alg.peekKey(), 0);
+				int node = alg.pop();
+				assertEquals(sorted[i], keys[node], 0);
+			}
+			assertTrue(alg.isEmpty());
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate.nn;
+
+import boofcv.struct.feature.PackedTupleArray_F64;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestNnPointSet_F64 {
+	Random rand = new Random(234);
+
+	@Test
+	public void setTo_get() {
+		FastQueue<TupleDesc_F64> list = create(30,7);
+		NnPointSet_F64<TupleDesc_F64> alg = new NnPointSet_F64<>(7);
+		alg.setTo(list);
+		// call it twice to make sure the old points are removed
+		alg.setTo(list);
+
+		assertEquals(30, alg.size());
+		for (int i = 0; i < list.size; i++) {
+			for (int k = 0; k < 7; k++) {
+				assertEquals(list.get(i).value[k], alg.get(i,k), 0);
+			}
+		}
+	}
+
+	@Test
+	public void setTo_packed() {
+		FastQueue<TupleDesc_F64> list = create(30,7);
+		PackedTupleArray_F64 packed = new PackedTupleArray_F64(7);
+		for (int i = 0; i < list.size; i++) {
+			packed.append(list.get(i));
+		}
+
+		NnPointSet_F64<TupleDesc_F64> alg = new NnPointSet_F64<>(7);
+		alg.add(list.get(4));
+		alg.setTo(packed);
+
+		assertEquals(30, alg.size());
+		for (int i = 0; i < list.size; i++) {
+			for (int k = 0; k < 7; k++) {
+				assertEquals(list.get(i).value[k], alg.get(i,k), 0);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setTo_packed_wrongSize() {
+		new NnPointSet_F64<>(5).setTo(new PackedTupleArray_F64(4));
+	}
+
+	@Test
+	public void distanceSq() {
+		// sizes which do and don't line up with the unrolled loop
+		for( int dof : new int[]{1,4,7,64} ) {
+			FastQueue<TupleDesc_F64> list = create(5,dof);
+			NnPointSet_F64<TupleDesc_F64> alg = new NnPointSet_F64<>(dof);
+			alg.setTo(list);
+
+			TupleDesc_F64 query = create(1,dof).get(0);
+			double mean[] = new double[dof+2];
+			for (int k = 0; k < dof; k++) {
+				mean[k+2] = query.value[k];
+			}
+
+			for (int i = 0; i < list.size; i++) {
+				double expected = 0;
+				for (int k = 0; k < dof; k++) {
+					double d = list.get(i).value[k] - query.value[k];
+					expected += d*d;
+				}
+				assertEquals(expected, alg.distanceSq(i,query,Double.MAX_VALUE), 1e-5);
+				assertEquals(expected, alg.distanceSq(i,mean,2), 1e-5);
+				// early exit must return a value larger than the limit
+				assertTrue(alg.distanceSq(i,query,expected*0.5) > expected*0.5);
+			}
+			assertEquals(0, alg.distanceSq(query,mean,2), 1e-5);
+		}
+	}
+
+	@Test
+	public void addTo_copyTo() {
+		FastQueue<TupleDesc_F64> list = create(2,5);
+		NnPointSet_F64<TupleDesc_F64> alg = new NnPointSet_F64<>(5);
+		alg.setTo(list);
+
+		double sum[] = new double[6];
+		alg.addTo(0,sum,1);
+		alg.addTo(1,sum,1);
+		double copy[] = new double[6];
+		alg.copyTo(1,copy,1);
+		for (int k = 0; k < 5; k++) {
+			assertEquals(list.get(0).value[k]+list.get(1).value[k], sum[k+1], 1e-5);
+			assertEquals(list.get(1).value[k], copy[k+1], 0);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void add_wrongSize() {
+		new NnPointSet_F64<>(5).add(new TupleDesc_F64(4));
+	}
+
+	private FastQueue<TupleDesc_F64> create( int N , int dof ) {
+		FastQueue<TupleDesc_F64> list = new FastQueue<>(TupleDesc_F64.class,false);
+		for (int i = 0; i < N; i++) {
+			TupleDesc_F64 d = new TupleDesc_F64(dof);
+			for (int k = 0; k < dof; k++) {
+				d.value[k] = rand.nextDouble();
+			}
+			list.add(d);
+		}
+		return list;
+	}
+}
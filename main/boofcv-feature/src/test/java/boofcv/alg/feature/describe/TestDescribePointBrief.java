@@ -22,7 +22,6 @@ import boofcv.abst.filter.blur.BlurFilter;
 import boofcv.alg.feature.describe.brief.BinaryCompareDefinition_I32;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
-import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageType;
 import org.junit.Test;
@@ -51,11 +50,11 @@ public class TestDescribePointBrief {
 		DescribePointBrief<GrayU8> alg = new DescribePointBrief<>(helper,filterBlur);
 
 		alg.setImage(input);
-		alg.process(15,20,null);
+		alg.process(15,20,alg.createFeature());
 		assertEquals(1,helper.numInside);
 		assertEquals(0,helper.numOutside);
 
-		alg.process(0,0,null);
+		alg.process(0,0,alg.createFeature());
 		assertEquals(1,helper.numInside);
 		assertEquals(1,helper.numOutside);
 
@@ -71,12 +70,12 @@ public class TestDescribePointBrief {
 		}
 
 		@Override
-		public void processInside(int c_x, int c_y, TupleDesc_B feature) {
+		public void processInside(int c_x, int c_y, int[] output, int offset) {
 			numInside++;
 		}
 
 		@Override
-		public void processBorder(int c_x, int c_y, TupleDesc_B feature) {
+		public void processBorder(int c_x, int c_y, int[] output, int offset) {
 			numOutside++;
 		}
 	}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderIndex1D_Extend;
+import boofcv.core.image.border.ImageBorder1D_F32;
+import boofcv.core.image.border.ImageBorder1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplCornerIntensityFused {
+	Random rand = new Random(234);
+
+	int width = 35;
+	int height = 40;
+
+	/**
+	 * Compare against the Sobel gradient followed by the SSD corner intensity
+	 */
+	@Test
+	public void compareToGradient_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "compareToGradient", true, input, new GrayF32(width,height));
+	}
+
+	public void compareToGradient( GrayF32 input , GrayF32 found ) {
+		GrayF32 derivX = new GrayF32(width,height);
+		GrayF32 derivY = new GrayF32(width,height);
+		GradientSobel.process(input, derivX, derivY, new ImageBorder1D_F32(BorderIndex1D_Extend.class));
+
+		for( int radius = 1; radius <= 4; radius++ ) {
+			GrayF32 expected = new GrayF32(width,height);
+			new ImplShiTomasiCorner_F32(radius).process(derivX,derivY,expected);
+			ImplCornerIntensityFused.shiTomasi(input,radius,found);
+			assertRelative(expected,found);
+
+			new ImplHarrisCorner_F32(radius,0.04f).process(derivX,derivY,expected);
+			ImplCornerIntensityFused.harris(input,radius,0.04f,found);
+			assertRelative(expected,found);
+		}
+	}
+
+	/**
+	 * The integer gradient and sums are exact and should produce identical results
+	 */
+	@Test
+	public void compareToGradient_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		BoofTesting.checkSubImage(this, "compareToGradient", true, input, new GrayF32(width,height));
+	}
+
+	public void compareToGradient( GrayU8 input , GrayF32 found ) {
+		GrayS16 derivX = new GrayS16(width,height);
+		GrayS16 derivY = new GrayS16(width,height);
+		GradientSobel.process(input, derivX, derivY, new ImageBorder1D_S32(BorderIndex1D_Extend.class));
+
+		for( int radius = 1; radius <= 4; radius++ ) {
+			GrayF32 expected = new GrayF32(width,height);
+			new ImplShiTomasiCorner_S16(radius).process(derivX,derivY,expected);
+			ImplCornerIntensityFused.shiTomasi(input,radius,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			new ImplHarrisCorner_S16(radius,0.04f).process(derivX,derivY,expected);
+			ImplCornerIntensityFused.harris(input,radius,0.04f,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Images which are smaller than the window should be all zeros
+	 */
+	@Test
+	public void smallImage() {
+		GrayU8 input = new GrayU8(4,20);
+		ImageMiscOps.fillUniform(input, rand, 0, 255);
+		GrayF32 found = new GrayF32(4,20);
+		ImageMiscOps.fill(found,2);
+
+		ImplCornerIntensityFused.shiTomasi(input,2,found);
+		for( int i = 0; i < found.data.length; i++ ) {
+			assertEquals(0,found.data[i],0);
+		}
+	}
+
+	private static void assertRelative( GrayF32 expected , GrayF32 found ) {
+		for( int y = 0; y < expected.height; y++ ) {
+			for( int x = 0; x < expected.width; x++ ) {
+				float a = expected.get(x,y);
+				assertEquals(a,found.get(x,y),Math.abs(a)*1e-4+1e-3);
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplCornerIntensityFused_MT {
+	Random rand = new Random(234);
+
+	int width = 120;
+	int height = 301;
+
+	@Test
+	public void compareToSingle_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( int radius = 1; radius <= 7; radius += 3 ) {
+			GrayF32 expected = new GrayF32(width,height);
+			GrayF32 found = new GrayF32(width,height);
+
+			// floating point running sums are restarted at the start of each block
+			ImplCornerIntensityFused.shiTomasi(input,radius,expected);
+			ImplCornerIntensityFused_MT.shiTomasi(input,radius,found);
+			assertRelative(expected,found);
+
+			ImplCornerIntensityFused.harris(input,radius,0.04f,expected);
+			ImplCornerIntensityFused_MT.harris(input,radius,0.04f,found);
+			assertRelative(expected,found);
+		}
+	}
+
+	@Test
+	public void compareToSingle_U8() {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		for( int radius = 1; radius <= 7; radius += 3 ) {
+			GrayF32 expected = new GrayF32(width,height);
+			GrayF32 found = new GrayF32(width,height);
+
+			ImplCornerIntensityFused.shiTomasi(input,radius,expected);
+			ImplCornerIntensityFused_MT.shiTomasi(input,radius,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			ImplCornerIntensityFused.harris(input,radius,0.04f,expected);
+			ImplCornerIntensityFused_MT.harris(input,radius,0.04f,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Differences are caused by round off errors, which are relative to the largest values in the image
+	 */
+	private static void assertRelative( GrayF32 expected , GrayF32 found ) {
+		double tol = ImageStatistics.maxAbs(expected)*1e-5;
+		BoofTesting.assertEquals(expected,found,tol);
+	}
+}
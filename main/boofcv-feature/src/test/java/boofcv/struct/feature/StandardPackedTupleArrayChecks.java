@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Standard tests for implementations of {@link PackedTupleArray}
+ *
+ * @author Peter Abeles
+ */
+public abstract class StandardPackedTupleArrayChecks<D extends TupleDesc> {
+
+	protected Random rand = new Random(234);
+
+	protected int dof = 11;
+
+	/**
+	 * Creates a packed array for descriptors with the specified number of elements
+	 */
+	public abstract PackedTupleArray<D> createAlg( int dof );
+
+	/**
+	 * Creates a descriptor with random values
+	 */
+	public abstract D createRandom( int dof );
+
+	/**
+	 * Number of primitive elements used to store each descriptor
+	 */
+	public int getElementsPerTuple( PackedTupleArray<D> alg ) {
+		return alg.getDof();
+	}
+
+	/**
+	 * Writes the descriptor directly into the array's primitive data starting at the offset
+	 */
+	public abstract void writeAt( PackedTupleArray<D> alg , int offset , D desc );
+
+	@Test
+	public void append_getCopy() {
+		PackedTupleArray<D> alg = createAlg(dof);
+
+		// enough to force the internal array to grow several times
+		List<D> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			D d = createRandom(dof);
+			expected.add(d);
+			alg.append(d);
+		}
+		assertEquals(expected.size(),alg.size());
+
+		D found = alg.createDescription();
+		for (int i = 0; i < expected.size(); i++) {
+			alg.getCopy(i,found);
+			checkEquals(expected.get(i),found);
+		}
+	}
+
+	@Test
+	public void getTemp() {
+		PackedTupleArray<D> alg = createAlg(dof);
+		D a = createRandom(dof);
+		D b = createRandom(dof);
+		alg.append(a);
+		alg.append(b);
+
+		checkEquals(b,alg.getTemp(1));
+		D found = alg.getTemp(0);
+		checkEquals(a,found);
+		// the work space is recycled
+		assertTrue(found == alg.getTemp(1));
+	}
+
+	@Test
+	public void reset() {
+		PackedTupleArray<D> alg = createAlg(dof);
+		alg.append(createRandom(dof));
+		alg.append(createRandom(dof));
+		alg.reset();
+		assertEquals(0,alg.size());
+
+		D a = createRandom(dof);
+		alg.append(a);
+		assertEquals(1,alg.size());
+		checkEquals(a,alg.getTemp(0));
+	}
+
+	/**
+	 * Reserving more space should not modify the descriptors already in the array
+	 */
+	@Test
+	public void reserve() {
+		PackedTupleArray<D> alg = createAlg(dof);
+		D a = createRandom(dof);
+		alg.append(a);
+		alg.reserve(500);
+		assertEquals(1,alg.size());
+		checkEquals(a,alg.getTemp(0));
+	}
+
+	@Test
+	public void toQueue() {
+		PackedTupleArray<D> alg = createAlg(dof);
+		List<D> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			D d = createRandom(dof);
+			expected.add(d);
+			alg.append(d);
+		}
+
+		// a new queue is declared if none is provided
+		FastQueue<D> found = alg.toQueue(null);
+		assertEquals(expected.size(),found.size);
+		for (int i = 0; i < expected.size(); i++) {
+			checkEquals(expected.get(i),found.get(i));
+		}
+		D first = found.get(0);
+
+		// the caller's queue and its descriptors are recycled
+		alg.reset();
+		for (int i = 0; i < 5; i++) {
+			alg.append(expected.get(19-i));
+		}
+		assertTrue(found == alg.toQueue(found));
+		assertEquals(5,found.size);
+		assertTrue(first == found.get(0));
+		for (int i = 0; i < 5; i++) {
+			checkEquals(expected.get(19-i),found.get(i));
+		}
+
+		// the array doesn't keep a reference to the queue
+		assertTrue(found != alg.toQueue(null));
+	}
+
+	/**
+	 * Descriptors added with grow() should be written directly into the array at the returned offset
+	 */
+	@Test
+	public void grow() {
+		PackedTupleArray<D> alg = createAlg(dof);
+
+		// enough to force the internal array to grow several times
+		List<D> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			D d = createRandom(dof);
+			expected.add(d);
+			if( i%2 == 0 ) {
+				alg.append(d);
+			} else {
+				int offset = alg.grow();
+				assertEquals(i*getElementsPerTuple(alg),offset);
+				writeAt(alg,offset,d);
+			}
+		}
+		assertEquals(expected.size(),alg.size());
+
+		for (int i = 0; i < expected.size(); i++) {
+			checkEquals(expected.get(i),alg.getTemp(i));
+		}
+	}
+
+	@Test
+	public void removeTail() {
+		PackedTupleArray<D> alg = createAlg(dof);
+		D a = createRandom(dof);
+		alg.append(a);
+		alg.grow();
+		alg.removeTail();
+		assertEquals(1,alg.size());
+		checkEquals(a,alg.getTemp(0));
+
+		alg.removeTail();
+		assertEquals(0,alg.size());
+		try {
+			alg.removeTail();
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	@Test
+	public void createDescription() {
+		PackedTupleArray<D> alg = createAlg(dof);
+		D d = alg.createDescription();
+		assertEquals(alg.getDof(),d.size());
+		assertTrue(alg.getDescriptionType() == d.getClass());
+	}
+
+	@Test
+	public void append_wrongSize() {
+		PackedTupleArray<D> alg = createAlg(dof);
+		try {
+			alg.append(createRandom(dof+1));
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	protected void checkEquals( D expected , D found ) {
+		assertEquals(expected.size(),found.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.getDouble(i),found.getDouble(i),0);
+		}
+	}
+}
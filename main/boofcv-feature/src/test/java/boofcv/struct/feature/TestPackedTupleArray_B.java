@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPackedTupleArray_B extends StandardPackedTupleArrayChecks<TupleDesc_B> {
+	@Override
+	public PackedTupleArray<TupleDesc_B> createAlg( int dof ) {
+		return new PackedTupleArray_B(dof);
+	}
+
+	@Override
+	public TupleDesc_B createRandom( int dof ) {
+		TupleDesc_B d = new TupleDesc_B(dof);
+		for (int i = 0; i < d.data.length; i++) {
+			d.data[i] = rand.nextInt();
+		}
+		return d;
+	}
+
+	@Override
+	public int getElementsPerTuple( PackedTupleArray<TupleDesc_B> alg ) {
+		return ((PackedTupleArray_B)alg).getNumInts();
+	}
+
+	@Override
+	public void writeAt( PackedTupleArray<TupleDesc_B> alg , int offset , TupleDesc_B desc ) {
+		System.arraycopy(desc.data,0,((PackedTupleArray_B)alg).data,offset,desc.data.length);
+	}
+
+	/**
+	 * Descriptors with a number of bits that isn't a multiple of 32
+	 */
+	@Test
+	public void oddNumberOfBits() {
+		PackedTupleArray_B alg = new PackedTupleArray_B(70);
+		assertEquals(70,alg.getDof());
+		assertEquals(3,alg.getNumInts());
+
+		TupleDesc_B a = createRandom(70);
+		TupleDesc_B b = createRandom(70);
+		alg.append(a);
+		alg.append(b);
+		assertTrue(alg.data.length >= 6);
+
+		TupleDesc_B found = alg.getTemp(1);
+		assertEquals(70,found.numBits);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(b.data[i],found.data[i]);
+			assertEquals(a.data[i],alg.data[i]);
+		}
+	}
+}
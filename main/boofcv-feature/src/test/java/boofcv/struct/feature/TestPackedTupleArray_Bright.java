@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.feature;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPackedTupleArray_Bright extends StandardPackedTupleArrayChecks<BrightFeature> {
+	@Override
+	public PackedTupleArray<BrightFeature> createAlg( int dof ) {
+		return new PackedTupleArray_Bright(dof);
+	}
+
+	@Override
+	public BrightFeature createRandom( int dof ) {
+		BrightFeature d = new BrightFeature(dof);
+		for (int i = 0; i < dof; i++) {
+			d.value[i] = rand.nextDouble();
+		}
+		d.white = rand.nextBoolean();
+		return d;
+	}
+
+	@Override
+	public void writeAt( PackedTupleArray<BrightFeature> alg , int offset , BrightFeature desc ) {
+		PackedTupleArray_Bright packed = (PackedTupleArray_Bright)alg;
+		System.arraycopy(desc.value,0,packed.data,offset,desc.size());
+		packed.white[offset/desc.size()] = desc.white;
+	}
+
+	@Override
+	protected void checkEquals( BrightFeature expected , BrightFeature found ) {
+		super.checkEquals(expected, found);
+		assertEquals(expected.white,found.white);
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.feature;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPackedTupleArray_F64 extends StandardPackedTupleArrayChecks<TupleDesc_F64> {
+	@Override
+	public PackedTupleArray<TupleDesc_F64> createAlg( int dof ) {
+		return new PackedTupleArray_F64(dof);
+	}
+
+	@Override
+	public TupleDesc_F64 createRandom( int dof ) {
+		TupleDesc_F64 d = new TupleDesc_F64(dof);
+		for (int i = 0; i < dof; i++) {
+			d.value[i] = rand.nextDouble();
+		}
+		return d;
+	}
+
+	@Override
+	public void writeAt( PackedTupleArray<TupleDesc_F64> alg , int offset , TupleDesc_F64 desc ) {
+		System.arraycopy(desc.value,0,((PackedTupleArray_F64)alg).data,offset,desc.size());
+	}
+}
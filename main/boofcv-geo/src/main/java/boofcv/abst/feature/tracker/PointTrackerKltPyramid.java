@@ -22,6 +22,7 @@ import boofcv.abst.filter.derivative.ImageGradient;
 import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
 import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.tracker.klt.*;
+import boofcv.alg.transform.pyramid.PyramidDiscreteShared;
 import boofcv.alg.transform.pyramid.PyramidOps;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageGray;
@@ -49,6 +50,8 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 
 	// storage for image pyramid
 	protected PyramidDiscrete<I> basePyramid;
+	// the pyramid if it's shared and has been reserved. null after dispose()
+	private PyramidDiscreteShared<I> sharedPyramid;
 	protected D[] derivX;
 	protected D[] derivY;
 	protected Class<D> derivType;
@@ -83,7 +86,9 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 	 *
 	 * @param config KLT tracker configuration
 	 * @param templateRadius Radius of square templates that are tracked
-	 * @param pyramid The image pyramid which KLT is tracking inside of
+	 * @param pyramid The image pyramid which KLT is tracking inside of. If a {@link PyramidDiscreteShared} then
+	 *                it's reserved until {@link #dispose()} is called. The owner of the input image must
+	 *                invalidate the shared pyramid each time the image changes.
 	 * @param detector Feature detector.   If null then no feature detector will be available and spawn won't work.
 	 * @param gradient Computes gradient image pyramid.
 	 * @param interpInput Interpolation used on input image
@@ -103,6 +108,10 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		this.templateRadius = templateRadius;
 		this.gradient = gradient;
 		this.basePyramid = pyramid;
+		if( pyramid instanceof PyramidDiscreteShared ) {
+			sharedPyramid = (PyramidDiscreteShared<I>)pyramid;
+			sharedPyramid.reserve();
+		}
 		this.derivType = derivType;
 
 		KltTracker<I, D> klt = new KltTracker<>(interpInput, interpDeriv, config);
@@ -346,4 +355,15 @@ public class PointTrackerKltPyramid<I extends ImageGray<I>,D extends ImageGray<D
 		dropAllTracks();
 		totalFeatures = 0;
 	}
+
+	/**
+	 * Releases the image pyramid if it's a {@link PyramidDiscreteShared}. Call when the tracker is no longer
+	 * going to be used. Calling it more than once has no effect.
+	 */
+	public void dispose() {
+		if( sharedPyramid != null ) {
+			sharedPyramid.release();
+			sharedPyramid = null;
+		}
+	}
 }
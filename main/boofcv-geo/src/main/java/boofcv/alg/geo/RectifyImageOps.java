@@ -18,6 +18,7 @@
 
 package boofcv.alg.geo;
 
+import boofcv.alg.distort.DistortImageOps;
 import boofcv.alg.distort.ImageDistort;
 import boofcv.alg.distort.PointToPixelTransform_F32;
 import boofcv.alg.distort.PointTransformHomography_F32;
@@ -427,4 +428,23 @@ public class RectifyImageOps {
 		return ret;
 	}
 
+	/**
+	 * Creates an {@link ImageDistort} for rectifying an image given its radial distortion and
+	 * rectification matrix. A fixed-point remap table is computed once and then reused for every
+	 * image, which is much faster than {@link #rectifyImage(CameraPinholeRadial, FMatrixRMaj, BorderType, ImageType)}
+	 * when processing a video sequence. Only images with U8 bands are supported.
+	 *
+	 * @param param Intrinsic parameters.
+	 * @param rectify Transform for rectifying the image.
+	 * @param imageType Type of image the transform is to be applied to.
+	 * @return ImageDistort for rectifying the image.
+	 */
+	public static <T extends ImageBase<T>> ImageDistort<T,T>
+	rectifyImageRemap(CameraPinholeRadial param, FMatrixRMaj rectify , BorderType borderType, ImageType<T> imageType)
+	{
+		Point2Transform2_F32 transform = transformRectToPixel(param, rectify);
+
+		return DistortImageOps.createRemap(new PointToPixelTransform_F32(transform), borderType, imageType);
+	}
+
 }
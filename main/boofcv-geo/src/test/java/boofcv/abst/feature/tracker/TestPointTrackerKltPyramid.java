@@ -21,8 +21,13 @@ package boofcv.abst.feature.tracker;
 import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.tracker.klt.*;
+import boofcv.alg.transform.pyramid.PyramidDiscreteShared;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.factory.feature.tracker.FactoryPointTracker;
+import boofcv.factory.transform.pyramid.FactoryPyramid;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
@@ -47,6 +52,25 @@ public class TestPointTrackerKltPyramid extends StandardPointTracker<GrayF32> {
 				GrayF32.class, GrayF32.class);
 	}
 
+	/**
+	 * A shared pyramid is reserved when constructed and released by dispose
+	 */
+	@Test
+	public void dispose_sharedPyramid() {
+		PyramidDiscreteShared<GrayF32> pyramid = new PyramidDiscreteShared<>(
+				FactoryPyramid.discreteGaussian(new int[]{1,2},-1,2,true,ImageType.single(GrayF32.class)));
+
+		PointTrackerKltPyramid<GrayF32,GrayF32> alg = new PointTrackerKltPyramid<>(new KltConfig(),3,pyramid,null,
+				FactoryDerivative.sobel(GrayF32.class,GrayF32.class),
+				FactoryInterpolation.bilinearRectangle(GrayF32.class),
+				FactoryInterpolation.bilinearRectangle(GrayF32.class),GrayF32.class);
+
+		assertEquals(1,pyramid.getReferences());
+		alg.dispose();
+		alg.dispose();
+		assertEquals(0,pyramid.getReferences());
+	}
+
 	/**
 	 * Checks to see if tracks are correctly recycled by process and spawn
 	 */
@@ -18,13 +18,18 @@
 
 package boofcv.abst.filter.convolve;
 
+import boofcv.alg.filter.blur.impl.ImplBlurTiled;
+import boofcv.alg.filter.blur.impl.ImplBlurTiled_MT;
 import boofcv.alg.filter.convolve.ConvolveImage;
+import boofcv.alg.filter.convolve.ConvolveImageMean;
 import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.filter.convolve.ConvolveImageNormalized;
 import boofcv.alg.filter.convolve.noborder.*;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.core.image.border.BorderIndex1D_Extend;
 import boofcv.core.image.border.ImageBorder1D_S32;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_S32;
 import boofcv.struct.convolve.Kernel2D_F32;
@@ -33,211 +38,242 @@ import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Benchmark for different convolution operations.
  * @author Peter Abeles
  */
-@SuppressWarnings({"UnusedDeclaration"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkConvolve  {
-	static int width = 640;
-	static int height = 480;
-
-	Random rand = new Random(234);
-
-	static Kernel2D_F32 kernel2D_F32;
-	static Kernel1D_F32 kernelF32;
-	static Kernel1D_S32 kernelI32;
-	static Kernel2D_S32 kernel2D_I32;
-	static GrayF32 input_F32 = new GrayF32(width,height);
-	static GrayF32 out_F32 = new GrayF32(width,height);
-	static GrayU8 input_U8 = new GrayU8(width,height);
-	static GrayS16 input_S16 = new GrayS16(width,height);
-	static GrayU8 out_U8 = new GrayU8(width,height);
-	static GrayS16 out_S16 = new GrayS16(width,height);
-	static GrayS32 out_S32 = new GrayS32(width,height);
+	@Param({"640x480","1920x1080"})
+	public String size;
 
 	// iterate through different sized kernel radius
-//	@Param({"1", "2"})
-	private int radius;
+	@Param({"1", "2", "5"})
+	public int radius;
+
+	Kernel2D_F32 kernel2D_F32;
+	Kernel1D_F32 kernelF32;
+	Kernel1D_S32 kernelI32;
+	Kernel2D_S32 kernel2D_I32;
+	GrayF32 input_F32 = new GrayF32(1,1);
+	GrayF32 out_F32 = new GrayF32(1,1);
+	GrayU8 input_U8 = new GrayU8(1,1);
+	GrayS16 input_S16 = new GrayS16(1,1);
+	GrayU8 out_U8 = new GrayU8(1,1);
+	GrayS16 out_S16 = new GrayS16(1,1);
+	GrayS32 out_S32 = new GrayS32(1,1);
+	GrayF32 storage_F32 = new GrayF32(1,1);
+	GrayU8 storage_U8 = new GrayU8(1,1);
+
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		Random rand = new Random(234);
+
+		for( ImageGray image : new ImageGray[]{input_F32,out_F32,input_U8,input_S16,out_U8,out_S16,out_S32,storage_F32,storage_U8}) {
+			image.reshape(shape.width,shape.height);
+		}
 
-	public BenchmarkConvolve() {
 		ImageMiscOps.fillUniform(input_U8,rand,0,20);
 		ImageMiscOps.fillUniform(input_S16,rand,0,20);
 		ImageMiscOps.fillUniform(input_F32,rand,0,20);
-	}
 
-	protected void setUp() throws Exception {
 		kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
 		kernelI32 = FactoryKernelGaussian.gaussian(Kernel1D_S32.class,-1,radius);
 		kernel2D_F32 = FactoryKernelGaussian.gaussian(Kernel2D_F32.class,-1,radius);
 		kernel2D_I32 = FactoryKernelGaussian.gaussian(Kernel2D_S32.class, -1, radius);
 	}
 
-	public int timeHorizontal_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageStandard_SB.horizontal(kernelF32, input_F32,out_F32);
-		return 0;
+	@Benchmark
+	public void Horizontal_F32() {
+		ConvolveImageStandard_SB.horizontal(kernelF32, input_F32,out_F32);
+	}
+
+	@Benchmark
+	public void Horizontal_I8_I8_div2() {
+		ConvolveImageStandard_SB.horizontal(kernelI32, input_U8, out_U8, 10);
+	}
+
+	@Benchmark
+	public void HorizontalUnroll_I8_I8_div() {
+		if( !ConvolveImageUnrolled_SB_U8_I8_Div.horizontal(kernelI32, input_U8, out_U8,10) )
+			throw new RuntimeException();
+	}
+
+	@Benchmark
+	public void Horizontal_I8_I16() {
+		ConvolveImageStandard_SB.horizontal(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void Horizontal_I16_I16() {
+		ConvolveImageStandard_SB.horizontal(kernelI32, input_S16, out_S16);
 	}
 
-	public int timeHorizontal_I8_I8_div2(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageStandard_SB.horizontal(kernelI32, input_U8, out_U8, 10);
-		return 0;
+	@Benchmark
+	public void Vertical_F32() {
+		ConvolveImageStandard_SB.vertical(kernelF32, input_F32, out_F32);
 	}
 
-	public int timeHorizontalUnroll_I8_I8_div(int reps) {
-		for( int i = 0; i < reps; i++ )
-			if( !ConvolveImageUnrolled_SB_U8_I8_Div.horizontal(kernelI32, input_U8, out_U8,10) )
-				throw new RuntimeException();
-		return 0;
+	@Benchmark
+	public void Vertical_I8_I8_div() {
+		ConvolveImageStandard_SB.vertical(kernelI32, input_U8, out_U8,10);
 	}
 
-	public int timeHorizontal_I8_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageStandard_SB.horizontal(kernelI32, input_U8, out_S16);
-		return 0;
+	@Benchmark
+	public void VerticalUnrolled_U8_I8_div() {
+		if( !ConvolveImageUnrolled_SB_U8_I8_Div.vertical(kernelI32, input_U8, out_U8,10) )
+			throw new RuntimeException();
 	}
 
-	public int timeHorizontal_I16_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageStandard_SB.horizontal(kernelI32, input_S16, out_S16);
-		return 0;
+	@Benchmark
+	public void Vertical_I8_I16() {
+		ConvolveImageStandard_SB.vertical(kernelI32, input_U8, out_S16);
 	}
 
-	public int timeVertical_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageStandard_SB.vertical(kernelF32, input_F32, out_F32);
-		return 0;
+	@Benchmark
+	public void Vertical_I16_I16() {
+		ConvolveImageStandard_SB.vertical(kernelI32, input_S16, out_S16);
 	}
 
-	public int timeVertical_I8_I8_div(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageStandard_SB.vertical(kernelI32, input_U8, out_U8,10);
-		return 0;
+	@Benchmark
+	public void Convolve2D_F32() {
+		ConvolveImageNoBorder.convolve(kernel2D_F32, input_F32, out_F32);
 	}
 
-	public int timeVerticalUnrolled_U8_I8_div(int reps) {
-		for( int i = 0; i < reps; i++ )
-			if( !ConvolveImageUnrolled_SB_U8_I8_Div.vertical(kernelI32, input_U8, out_U8,10) )
-				throw new RuntimeException();
-		return 0;
+	@Benchmark
+	public void Convolve2D_Std_F32() {
+		ConvolveImageStandard_SB.convolve(kernel2D_F32, input_F32,out_F32);
 	}
 
-	public int timeVertical_I8_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageStandard_SB.vertical(kernelI32, input_U8, out_S16);
-		return 0;
+	@Benchmark
+	public void Convolve2D_Unrolled_F32() {
+		if( !ConvolveImageUnrolled_SB_F32_F32.convolve(kernel2D_F32, input_F32,out_F32) )
+			throw new RuntimeException();
 	}
 
-	public int timeVertical_I16_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageStandard_SB.vertical(kernelI32, input_S16, out_S16);
-		return 0;
+	@Benchmark
+	public void Convolve2D_I8_I16() {
+		ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_S16);
 	}
 
-	public int timeConvolve2D_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNoBorder.convolve(kernel2D_F32, input_F32, out_F32);
-		return 0;
+	@Benchmark
+	public void Convolve2D_Extend_I8_I16() {
+		ConvolveImage.convolve(kernel2D_I32, input_U8, out_S16, new ImageBorder1D_S32(BorderIndex1D_Extend.class));
 	}
 
-	public int timeConvolve2D_Std_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageStandard_SB.convolve(kernel2D_F32, input_F32,out_F32);
-		return 0;
+	@Benchmark
+	public void Convolve2D_Std_I8_I8_DIV() {
+		ConvolveImageStandard_SB.convolve(kernel2D_I32, input_U8, out_U8,10);
 	}
 
-	public int timeConvolve2D_Unrolled_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			if( !ConvolveImageUnrolled_SB_F32_F32.convolve(kernel2D_F32, input_F32,out_F32) )
-				throw new RuntimeException();
-		return 0;
+	@Benchmark
+	public void Convolve2D_I8_I8_DIV() {
+		ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_U8,10);
 	}
 
-	public int timeConvolve2D_I8_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_S16);
-		return 0;
+	@Benchmark
+	public void Convolve2D_Std_I8_I16() {
+		ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_U8,10);
 	}
 
-	public int timeConvolve2D_Extend_I8_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImage.convolve(kernel2D_I32, input_U8, out_S16, new ImageBorder1D_S32(BorderIndex1D_Extend.class));
-		return 0;
+	@Benchmark
+	public void HorizontalUnrolled_F32() {
+		if( !ConvolveImageUnrolled_SB_F32_F32.horizontal(kernelF32, input_F32,out_F32) )
+			throw new RuntimeException();
 	}
 
-	public int timeConvolve2D_Std_I8_I8_DIV(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageStandard_SB.convolve(kernel2D_I32, input_U8, out_U8,10);
-		return 0;
+	@Benchmark
+	public void VerticalUnrolled_F32() {
+		if( !ConvolveImageUnrolled_SB_F32_F32.vertical(kernelF32, input_F32, out_F32) )
+			throw new RuntimeException();
 	}
 
-	public int timeConvolve2D_I8_I8_DIV(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_U8,10);
-		return 0;
+	@Benchmark
+	public void HorizontalUnrolled_U8() {
+		if( !ConvolveImageUnrolled_SB_U8_I16.horizontal(kernelI32, input_U8, out_S16) )
+			throw new RuntimeException();
 	}
 
-	public int timeConvolve2D_Std_I8_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_U8,10);
-		return 0;
+	@Benchmark
+	public void VerticalUnrolled_U8() {
+		if( !ConvolveImageUnrolled_SB_U8_I16.vertical(kernelI32, input_U8, out_S16) )
+			throw new RuntimeException();
 	}
 
-	public int timeHorizontalUnrolled_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			if( !ConvolveImageUnrolled_SB_F32_F32.horizontal(kernelF32, input_F32,out_F32) )
-				throw new RuntimeException();
-		return 0;
+	@Benchmark
+	public void HorizontalUnrolled_I16() {
+		if( !ConvolveImageUnrolled_SB_S16_I16.horizontal(kernelI32, input_S16, out_S16) )
+			throw new RuntimeException();
 	}
 
-	public int timeVerticalUnrolled_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			if( !ConvolveImageUnrolled_SB_F32_F32.vertical(kernelF32, input_F32, out_F32) )
-				throw new RuntimeException();
-		return 0;
+	@Benchmark
+	public void VerticalUnrolled_I16() {
+		if( !ConvolveImageUnrolled_SB_S16_I16.vertical(kernelI32, input_S16, out_S16) )
+			throw new RuntimeException();
 	}
 
-	public int timeHorizontalUnrolled_U8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			if( !ConvolveImageUnrolled_SB_U8_I16.horizontal(kernelI32, input_U8, out_S16) )
-				throw new RuntimeException();
-		return 0;
+	@Benchmark
+	public void Box_U8_S32_Vertical6() {
+		ImplConvolveBox.vertical(input_U8, out_S32,radius);
 	}
 
-	public int timeVerticalUnrolled_U8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			if( !ConvolveImageUnrolled_SB_U8_I16.vertical(kernelI32, input_U8, out_S16) )
-				throw new RuntimeException();
-		return 0;
+	@Benchmark
+	public void GaussianTwoPass_F32() {
+		ConvolveImageNormalized.horizontal(kernelF32, input_F32, storage_F32);
+		ConvolveImageNormalized.vertical(kernelF32, storage_F32, out_F32);
 	}
 
-	public int timeHorizontalUnrolled_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			if( !ConvolveImageUnrolled_SB_S16_I16.horizontal(kernelI32, input_S16, out_S16) )
-				throw new RuntimeException();
-		return 0;
+	@Benchmark
+	public void GaussianTiled_F32() {
+		ImplBlurTiled.gaussian(kernelF32, input_F32, out_F32);
 	}
 
-	public int timeVerticalUnrolled_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			if( !ConvolveImageUnrolled_SB_S16_I16.vertical(kernelI32, input_S16, out_S16) )
-				throw new RuntimeException();
-		return 0;
+	@Benchmark
+	public void GaussianTiled_MT_F32() {
+		ImplBlurTiled_MT.gaussian(kernelF32, input_F32, out_F32);
 	}
 
-	public int timeBox_U8_S32_Vertical6(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveBox.vertical(input_U8, out_S32,radius);
-		return 0;
+	@Benchmark
+	public void GaussianTwoPass_U8() {
+		ConvolveImageNormalized.horizontal(kernelI32, input_U8, storage_U8);
+		ConvolveImageNormalized.vertical(kernelI32, storage_U8, out_U8);
 	}
 
-//	public static void main( String args[] ) {
-//		System.out.println("=========  Profile Image Size "+ width +" x "+ height +" ==========");
-//
-//		Runner.main(BenchmarkConvolve.class, args);
-//	}
+	@Benchmark
+	public void GaussianTiled_U8() {
+		ImplBlurTiled.gaussian(kernelI32, input_U8, out_U8);
+	}
+
+	@Benchmark
+	public void GaussianTiled_MT_U8() {
+		ImplBlurTiled_MT.gaussian(kernelI32, input_U8, out_U8);
+	}
+
+	@Benchmark
+	public void MeanTwoPass_F32() {
+		ConvolveImageMean.horizontal(input_F32, storage_F32, radius);
+		ConvolveImageMean.vertical(storage_F32, out_F32, radius);
+	}
+
+	@Benchmark
+	public void MeanTiled_F32() {
+		ImplBlurTiled.mean(input_F32, out_F32, radius);
+	}
+
+	@Benchmark
+	public void MeanTiled_MT_F32() {
+		ImplBlurTiled_MT.mean(input_F32, out_F32, radius);
+	}
 }
@@ -18,17 +18,21 @@
 
 package boofcv.alg.color;
 
+import boofcv.alg.color.impl.*;
 import boofcv.alg.misc.GImageMiscOps;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.Planar;
+import boofcv.core.image.impl.ImplConvertImage;
+import boofcv.core.image.impl.ImplConvertImage_MT;
+import boofcv.misc.BenchmarkImageSize;
+import boofcv.struct.image.*;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 /**
+ * Benchmark for color space conversions and conversions between planar and interleaved images. Single threaded
+ * implementations are called directly so that they can be compared against the concurrent "_MT" versions.
+ *
  * @author Peter Abeles
  */
 @BenchmarkMode(Mode.AverageTime)
@@ -38,43 +42,167 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 @Fork(value=1)
 public class BenchmarkColorConvert {
-	public static final int imgWidth = 640;
-	public static final int imgHeight = 480;
-	public static final Random rand = new Random(234);
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	Planar<GrayF32> src_F32;
+	Planar<GrayF32> dst_F32;
+	Planar<GrayU8> src_U8;
+	Planar<GrayU8> dst_U8;
 
-	public static final int TEST_TIME = 1000;
+	InterleavedF32 inter_F32;
+	InterleavedU8 inter_U8;
 
-	public static Planar<GrayF32> src_F32;
-	public static Planar<GrayF32> dst_F32;
+	GrayF32 gray_F32;
+	GrayU8 gray_U8;
 
-	{
-//		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
-//		System.out.println();
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		int w = shape.width, h = shape.height;
+		Random rand = new Random(234);
 
-		src_F32 = new Planar<>(GrayF32.class,imgWidth,imgHeight,3);
-		dst_F32 = new Planar<>(GrayF32.class,imgWidth,imgHeight,3);
+		src_F32 = new Planar<>(GrayF32.class,w,h,3);
+		dst_F32 = new Planar<>(GrayF32.class,w,h,3);
+		src_U8 = new Planar<>(GrayU8.class,w,h,3);
+		dst_U8 = new Planar<>(GrayU8.class,w,h,3);
+		inter_F32 = new InterleavedF32(w,h,3);
+		inter_U8 = new InterleavedU8(w,h,3);
+		gray_F32 = new GrayF32(w,h);
+		gray_U8 = new GrayU8(w,h);
 
 		GImageMiscOps.addUniform(src_F32,rand,0,255);
+		GImageMiscOps.fillUniform(src_U8,rand,0,255);
+		GImageMiscOps.fillUniform(inter_F32,rand,0,255);
+		GImageMiscOps.fillUniform(inter_U8,rand,0,255);
 	}
 
 	@Benchmark
 	public void RGB_to_HSV_F32() {
-		ColorHsv.rgbToHsv_F32(src_F32,dst_F32);
+		ImplColorHsv.rgbToHsv_F32(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_HSV_F32_MT() {
+		ImplColorHsv_MT.rgbToHsv_F32(src_F32,dst_F32);
 	}
 
 	@Benchmark
 	public void HSV_to_RGB_F32() {
-		ColorHsv.hsvToRgb_F32(src_F32,dst_F32);
+		ImplColorHsv.hsvToRgb_F32(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void HSV_to_RGB_F32_MT() {
+		ImplColorHsv_MT.hsvToRgb_F32(src_F32,dst_F32);
 	}
 
 	@Benchmark
 	public void RGB_to_YUV_F32() {
-		ColorYuv.rgbToYuv_F32(src_F32,dst_F32);
+		ImplColorYuv.rgbToYuv_F32(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_YUV_F32_MT() {
+		ImplColorYuv_MT.rgbToYuv_F32(src_F32,dst_F32);
 	}
 
 	@Benchmark
 	public void YUV_to_RGB_F32() {
-		ColorYuv.yuvToRgb_F32(src_F32,dst_F32);
+		ImplColorYuv.yuvToRgb_F32(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void YUV_to_RGB_F32_MT() {
+		ImplColorYuv_MT.yuvToRgb_F32(src_F32,dst_F32);
+	}
+
+	@Benchmark
+	public void YCbCr_to_RGB_U8() {
+		ImplColorYuv.ycbcrToRgb_U8(src_U8,dst_U8);
+	}
+
+	@Benchmark
+	public void YCbCr_to_RGB_U8_MT() {
+		ImplColorYuv_MT.ycbcrToRgb_U8(src_U8,dst_U8);
+	}
+
+	@Benchmark
+	public void RGB_to_Gray_PL_U8() {
+		ImplColorRgb.rgbToGray_Weighted_U8(src_U8,gray_U8);
+	}
+
+	@Benchmark
+	public void RGB_to_Gray_PL_U8_MT() {
+		ImplColorRgb_MT.rgbToGray_Weighted_U8(src_U8,gray_U8);
+	}
+
+	@Benchmark
+	public void RGB_to_Gray_PL_F32() {
+		ImplColorRgb.rgbToGray_Weighted_F32(src_F32,gray_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_Gray_PL_F32_MT() {
+		ImplColorRgb_MT.rgbToGray_Weighted_F32(src_F32,gray_F32);
 	}
 
+	@Benchmark
+	public void RGB_to_Gray_IL_U8() {
+		ImplColorRgb.rgbToGray_Weighted(inter_U8,gray_U8);
+	}
+
+	@Benchmark
+	public void RGB_to_Gray_IL_U8_MT() {
+		ImplColorRgb_MT.rgbToGray_Weighted(inter_U8,gray_U8);
+	}
+
+	/**
+	 * Interleaved to gray by first converting into a planar image. Baseline for the direct conversion.
+	 */
+	@Benchmark
+	public void RGB_to_Gray_IL_via_PL_U8() {
+		ImplConvertImage.convert(inter_U8,dst_U8);
+		ImplColorRgb.rgbToGray_Weighted_U8(dst_U8,gray_U8);
+	}
+
+	@Benchmark
+	public void RGB_to_Gray_IL_F32() {
+		ImplColorRgb.rgbToGray_Weighted(inter_F32,gray_F32);
+	}
+
+	@Benchmark
+	public void RGB_to_Gray_IL_F32_MT() {
+		ImplColorRgb_MT.rgbToGray_Weighted(inter_F32,gray_F32);
+	}
+
+	@Benchmark
+	public void PL_to_IL_U8() {
+		ImplConvertImage.convert(src_U8,inter_U8);
+	}
+
+	@Benchmark
+	public void PL_to_IL_U8_MT() {
+		ImplConvertImage_MT.convert(src_U8,inter_U8);
+	}
+
+	@Benchmark
+	public void IL_to_PL_U8() {
+		ImplConvertImage.convert(inter_U8,dst_U8);
+	}
+
+	@Benchmark
+	public void IL_to_PL_U8_MT() {
+		ImplConvertImage_MT.convert(inter_U8,dst_U8);
+	}
+
+	@Benchmark
+	public void PL_to_IL_F32() {
+		ImplConvertImage.convert(src_F32,inter_F32);
+	}
+
+	@Benchmark
+	public void PL_to_IL_F32_MT() {
+		ImplConvertImage_MT.convert(src_F32,inter_F32);
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,114 +16,106 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.distort.FactoryDistort;
 import boofcv.factory.interpolate.FactoryInterpolation;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.distort.PixelTransform2_F32;
-import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageDataType;
 import boofcv.struct.image.ImageGray;
 import georegression.struct.homography.Homography2D_F32;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkImageDistort<T extends ImageGray<T>> {
-	public static final int imgWidth = 640;
-	public static final int imgHeight = 480;
-
-	public static final int TEST_TIME = 1000;
-
-	Class<T> imageType;
-	
-	public T src_F32;
-	public T dst_F32;
-
-	public BenchmarkImageDistort(Class<T> imageType) {
-		this.imageType = imageType;
-		src_F32 = GeneralizedImageOps.createSingleBand(imageType,imgWidth,imgHeight);
-		dst_F32 = GeneralizedImageOps.createSingleBand(imageType,imgWidth,imgHeight);
-	}
-
-	public class HomographyBilinear_F32 extends PerformerBase {
-		ImageDistort<T,T> alg;
-
-		public HomographyBilinear_F32(Homography2D_F32 affine) {
-			PixelTransform2_F32 tran = new PixelTransformHomography_F32(affine);
-			InterpolatePixelS<T> interp = FactoryInterpolation.bilinearPixelS(imageType, BorderType.EXTENDED);
-			
-			alg = FactoryDistort.distortSB(false, interp, imageType);
-			alg.setModel(tran);
-		}
-
-		@Override
-		public void process() {
-			alg.apply(src_F32, dst_F32);
-		}
-	}
-
-	public class HomographyBilinearCrop_F32 extends PerformerBase {
-		ImageDistort<T,T> alg;
-
-		public HomographyBilinearCrop_F32(Homography2D_F32 affine) {
-			PixelTransform2_F32 tran = new PixelTransformHomography_F32(affine);
-			InterpolatePixelS<T> interp = FactoryInterpolation.bilinearPixelS(imageType, BorderType.EXTENDED);
+	@Param({"640x480","1920x1080"})
+	public String size;
 
-			alg = FactoryDistort.distortSB(false, interp, imageType);
-			alg.setModel(tran);
-		}
+	@Param({"U8","F32"})
+	public ImageDataType imageType;
 
-		@Override
-		public void process() {
-			alg.apply(src_F32, dst_F32,0,0,imgWidth,imgHeight);
-		}
-	}
+	@Param({"true","false"})
+	public boolean concurrent;
 
-	public class MapBilinear_F32 extends PerformerBase {
-		ImageDistort<T,T> alg;
+	public T src;
+	public T dst;
 
-		public MapBilinear_F32( Homography2D_F32 homography ) {
-			PixelTransform2_F32 tran = new PixelTransformHomography_F32(homography);
-			InterpolatePixelS<T> interp = FactoryInterpolation.bilinearPixelS(imageType, BorderType.EXTENDED);
+	ImageDistort<T,T> homography;
+	ImageDistort<T,T> map;
+	// only U8 images are supported by the fixed-point remap
+	ImageDistort<T,T> remap;
 
-			alg = FactoryDistort.distortSB(true, interp, imageType);
-			alg.setModel(tran);
-		}
-
-		@Override
-		public void process() {
-			alg.apply(src_F32, dst_F32,0,0,imgWidth,imgHeight);
-		}
-	}
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		src = GeneralizedImageOps.createSingleBand(imageType,shape.width,shape.height);
+		dst = GeneralizedImageOps.createSingleBand(imageType,shape.width,shape.height);
 
-	private void benchmark() {
 		Random rand = new Random(234);
+		GImageMiscOps.fillUniform(src,rand,0,100);
 
 		Homography2D_F32 affine = new Homography2D_F32((float)rand.nextGaussian(),(float)rand.nextGaussian(),
 				(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian(),
 				(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian(),
 				(float)rand.nextGaussian());
 
-		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
-		System.out.println();
+		homography = createBilinear(affine, false);
+		map = createBilinear(affine, true);
+		if( imageType == ImageDataType.U8 ) {
+			remap = FactoryDistort.distortRemap(BorderType.EXTENDED, src.getImageType());
+			remap.setModel(new PixelTransformHomography_F32(affine));
+		} else {
+			remap = null;
+		}
+	}
+
+	private ImageDistort<T,T> createBilinear(Homography2D_F32 affine, boolean cached) {
+		Class<T> type = (Class)src.getClass();
+		PixelTransform2_F32 tran = new PixelTransformHomography_F32(affine);
+		InterpolatePixelS<T> interp = FactoryInterpolation.bilinearPixelS(type, BorderType.EXTENDED);
 
-		ProfileOperation.printOpsPerSec(new MapBilinear_F32(affine),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HomographyBilinear_F32(affine),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HomographyBilinearCrop_F32(affine),TEST_TIME);
+		ImageDistort<T,T> alg = FactoryDistort.distortSB(cached, interp, type);
+		alg.setModel(tran);
+		return alg;
+	}
 
+	@Benchmark
+	public void HomographyBilinear() {
+		homography.apply(src, dst);
 	}
 
+	@Benchmark
+	public void HomographyBilinearCrop() {
+		homography.apply(src, dst,0,0,src.width,src.height);
+	}
 
-	public static void main( String args[] ) {
-		BenchmarkImageDistort benchmark = new BenchmarkImageDistort(GrayF32.class);
+	@Benchmark
+	public void MapBilinear() {
+		map.apply(src, dst,0,0,src.width,src.height);
+	}
 
-		benchmark.benchmark();
+	@Benchmark
+	public void RemapFixedBilinear() {
+		if( remap != null )
+			remap.apply(src, dst);
 	}
 }
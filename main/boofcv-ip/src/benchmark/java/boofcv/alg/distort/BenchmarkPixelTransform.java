@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,55 +16,45 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.distort;
 
-import boofcv.misc.Performer;
-import boofcv.misc.ProfileOperation;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.distort.PixelTransform2_F32;
 import georegression.struct.affine.Affine2D_F32;
 import georegression.struct.homography.Homography2D_F32;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Applies a pixel transform to every pixel in an image
+ *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkPixelTransform {
+	@Param({"640x480","1920x1080"})
+	public String size;
 
+	int imgWidth,imgHeight;
 
-	public static final int imgWidth = 640;
-	public static final int imgHeight = 480;
-	
-	public static final int TEST_TIME = 1000;
-
-	public static class TestPixelTransform_F32 implements Performer {
-		PixelTransform2_F32 alg;
-		String name;
-
-		public TestPixelTransform_F32(PixelTransform2_F32 alg, String name ) {
-			this.alg = alg;
-			this.name = name;
-		}
+	PixelTransform2_F32 homography;
+	PixelTransform2_F32 affine;
 
-		@Override
-		public void process() {
-			for (int y = 0; y < imgHeight; y++ )
-				for (int x = 0; x < imgWidth; x++)
-					alg.compute(x, y);
-		}
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		imgWidth = shape.width;
+		imgHeight = shape.height;
 
-		@Override
-		public String getName() {
-			return name;
-		}
-	}
-
-	
-	private static void benchmark(PixelTransform2_F32 alg , String name ) {
-		ProfileOperation.printOpsPerSec(new TestPixelTransform_F32(alg,name), TEST_TIME);
-	}
-	
-	public static void main( String args[] ) {
 		Random rand = new Random(234);
 
 		Affine2D_F32 affine = new Affine2D_F32((float)rand.nextGaussian(),(float)rand.nextGaussian(),
@@ -76,11 +66,26 @@ public class BenchmarkPixelTransform {
 				(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian(),
 				(float)rand.nextGaussian());
 
-		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
-		System.out.println();
+		this.homography = new PixelTransformHomography_F32(homography);
+		this.affine = new PixelTransformAffine_F32(affine);
+	}
 
-		benchmark(new PixelTransformHomography_F32(homography), "Homography");
-		benchmark(new PixelTransformAffine_F32(affine), "Affine");
+	@Benchmark
+	public void Homography( Blackhole bh ) {
+		process(homography,bh);
+	}
 
+	@Benchmark
+	public void Affine( Blackhole bh ) {
+		process(affine,bh);
+	}
+
+	private void process( PixelTransform2_F32 alg , Blackhole bh ) {
+		for (int y = 0; y < imgHeight; y++ ) {
+			for (int x = 0; x < imgWidth; x++) {
+				alg.compute(x, y);
+				bh.consume(alg.distX);
+			}
+		}
 	}
 }
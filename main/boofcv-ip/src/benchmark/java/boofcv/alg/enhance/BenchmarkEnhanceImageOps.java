@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.enhance;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.misc.BenchmarkImageSize;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.GrowQueue_I32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for histogram based image enhancement
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkEnhanceImageOps {
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	GrayU8 input;
+	GrayU8 output;
+
+	int histogram[] = new int[256];
+	int transform[] = new int[256];
+	GrowQueue_I32 transforms = new GrowQueue_I32();
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+
+		input = new GrayU8(shape.width,shape.height);
+		output = input.createSameShape();
+		ImageMiscOps.fillUniform(input,new Random(234),0,255);
+	}
+
+	@Benchmark
+	public void Histogram() {
+		ImageStatistics.histogram(input,0,histogram);
+	}
+
+	@Benchmark
+	public void Equalize() {
+		ImageStatistics.histogram(input,0,histogram);
+		EnhanceImageOps.equalize(histogram,transform);
+		EnhanceImageOps.applyTransform(input,transform,output);
+	}
+
+	@Benchmark
+	public void EqualizeLocal_R10() {
+		EnhanceImageOps.equalizeLocal(input,10,output,histogram,transform);
+	}
+
+	@Benchmark
+	public void EqualizeLocalTiles_8x8() {
+		EnhanceImageOps.equalizeLocalTiles(input,8,8,3.0,output,histogram,transforms);
+	}
+}
@@ -20,160 +20,211 @@ package boofcv.alg.filter.binary;
 
 import boofcv.alg.filter.binary.impl.ImplBinaryInnerOps;
 import boofcv.alg.filter.binary.impl.ImplBinaryNaiveOps;
+import boofcv.alg.filter.binary.impl.ImplBinaryPackedOps;
+import boofcv.alg.filter.binary.impl.ImplBinaryPackedOps_MT;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Benchmark for different convolution operations.
  *
  * @author Peter Abeles
  */
-public class BenchmarkBinaryOps  {
-	static int imgWidth = 640;
-	static int imgHeight = 480;
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkBinaryOps {
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	GrayU8 input;
+	GrayU8 output;
+	PackedBinaryImage packedA = new PackedBinaryImage();
+	PackedBinaryImage packedB = new PackedBinaryImage();
+	PackedBinaryImage packedOut = new PackedBinaryImage();
+
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		input = new GrayU8(shape.width, shape.height);
+		output = new GrayU8(shape.width, shape.height);
 
-	static GrayU8 input = new GrayU8(imgWidth, imgHeight);
-	static GrayU8 output = new GrayU8(imgWidth, imgHeight);
-
-	public BenchmarkBinaryOps() {
 		Random rand = new Random(234);
 		// test structures and unstructured images
 		// naive is some times faster in unstructured because it can escape earlier
 		ImageMiscOps.fillUniform(input, rand, 0, 1);
+		BinaryImageOps.pack(input, packedA);
+		BinaryImageOps.pack(input, packedB);
+		packedOut.reshape(shape.width, shape.height);
 //		ImageMiscOps.fillRectangle(input,1,100,200,150,100);
 	}
 
-	public int timeNaiveErode4(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryNaiveOps.erode4(input, output);
-		return 0;
+	@Benchmark
+	public void NaiveErode4() {
+		ImplBinaryNaiveOps.erode4(input, output);
+	}
+
+	@Benchmark
+	public void NaiveErode8() {
+		ImplBinaryNaiveOps.erode8(input, output);
+	}
+
+	@Benchmark
+	public void NaiveDilate4() {
+		ImplBinaryNaiveOps.dilate4(input, output);
+	}
+
+	@Benchmark
+	public void NaiveDilate8() {
+		ImplBinaryNaiveOps.dilate8(input, output);
+	}
+
+	@Benchmark
+	public void NaiveEdge4() {
+		ImplBinaryNaiveOps.edge4(input, output);
+	}
+
+	@Benchmark
+	public void NaiveEdge8() {
+		ImplBinaryNaiveOps.edge8(input, output);
+	}
+
+	@Benchmark
+	public void NaiveRemovePointNoise() {
+		ImplBinaryNaiveOps.removePointNoise(input, output);
+	}
+
+	@Benchmark
+	public void InnerErode4() {
+		ImplBinaryInnerOps.erode4(input, output);
 	}
 
-	public int timeNaiveErode8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryNaiveOps.erode8(input, output);
-		return 0;
+	@Benchmark
+	public void InnerErode8() {
+		ImplBinaryInnerOps.erode8(input, output);
 	}
 
-	public int timeNaiveDilate4(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryNaiveOps.dilate4(input, output);
-		return 0;
+	@Benchmark
+	public void InnerDilate4() {
+		ImplBinaryInnerOps.dilate4(input, output);
 	}
 
-	public int timeNaiveDilate8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryNaiveOps.dilate8(input, output);
-		return 0;
+	@Benchmark
+	public void InnerDilate8() {
+		ImplBinaryInnerOps.dilate8(input, output);
 	}
 
-	public int timeNaiveEdge4(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryNaiveOps.edge4(input, output);
-		return 0;
+	@Benchmark
+	public void InnerEdge4() {
+		ImplBinaryInnerOps.edge4(input, output);
 	}
 
-	public int timeNaiveEdge8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryNaiveOps.edge8(input, output);
-		return 0;
+	@Benchmark
+	public void InnerEdge8() {
+		ImplBinaryInnerOps.edge8(input, output);
 	}
 
-	public int timeNaiveRemovePointNoise(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryNaiveOps.removePointNoise(input, output);
-		return 0;
+	@Benchmark
+	public void InnerRemovePointNoise() {
+		ImplBinaryInnerOps.removePointNoise(input, output);
 	}
 
-	public int timeInnerErode4(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryInnerOps.erode4(input, output);
-		return 0;
+	@Benchmark
+	public void Erode4() {
+		BinaryImageOps.erode4(input, 1, output);
 	}
 
-	public int timeInnerErode8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryInnerOps.erode8(input, output);
-		return 0;
+	@Benchmark
+	public void Erode8() {
+		BinaryImageOps.erode8(input, 1, output);
 	}
 
-	public int timeInnerDilate4(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryInnerOps.dilate4(input, output);
-		return 0;
+	@Benchmark
+	public void Dilate4() {
+		BinaryImageOps.dilate4(input, 1, output);
 	}
 
-	public int timeInnerDilate8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryInnerOps.dilate8(input, output);
-		return 0;
+	@Benchmark
+	public void Dilate8() {
+		BinaryImageOps.dilate8(input, 1, output);
 	}
 
-	public int timeInnerEdge4(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryInnerOps.edge4(input, output);
-		return 0;
+	@Benchmark
+	public void Edge4() {
+		BinaryImageOps.edge4(input, output);
 	}
 
-	public int timeInnerEdge8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryInnerOps.edge8(input, output);
-		return 0;
+	@Benchmark
+	public void Edge8() {
+		BinaryImageOps.edge8(input, output);
 	}
 
-	public int timeInnerRemovePointNoise(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplBinaryInnerOps.removePointNoise(input, output);
-		return 0;
+	@Benchmark
+	public void RemovePointNoise() {
+		BinaryImageOps.removePointNoise(input, output);
 	}
 
-	public int timeErode4(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BinaryImageOps.erode4(input, 1, output);
-		return 0;
+	@Benchmark
+	public void LogicAnd() {
+		BinaryImageOps.logicAnd(input, input, output);
 	}
 
-	public int timeErode8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BinaryImageOps.erode8(input, 1, output);
-		return 0;
+	@Benchmark
+	public void PackedErode4() {
+		ImplBinaryPackedOps.erode4(packedA, packedOut);
 	}
 
-	public int timeDilate4(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BinaryImageOps.dilate4(input, 1, output);
-		return 0;
+	@Benchmark
+	public void PackedErode8() {
+		ImplBinaryPackedOps.erode8(packedA, packedOut);
 	}
 
-	public int timeDilate8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BinaryImageOps.dilate8(input, 1, output);
-		return 0;
+	@Benchmark
+	public void PackedDilate4() {
+		ImplBinaryPackedOps.dilate4(packedA, packedOut);
 	}
 
-	public int timeEdge4(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BinaryImageOps.edge4(input, output);
-		return 0;
+	@Benchmark
+	public void PackedDilate8() {
+		ImplBinaryPackedOps.dilate8(packedA, packedOut);
 	}
 
-	public int timeEdge8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BinaryImageOps.edge8(input, output);
-		return 0;
+	@Benchmark
+	public void PackedEdge8() {
+		ImplBinaryPackedOps.edge8(packedA, packedOut);
 	}
 
-	public int timeRemovePointNoise(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BinaryImageOps.removePointNoise(input, output);
-		return 0;
+	@Benchmark
+	public void PackedRemovePointNoise() {
+		ImplBinaryPackedOps.removePointNoise(packedA, packedOut);
 	}
 
-	public static void main(String args[]) {
-		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
+	@Benchmark
+	public void PackedLogicAnd() {
+		ImplBinaryPackedOps.logicAnd(packedA, packedB, packedOut);
+	}
+
+	@Benchmark
+	public void PackedErode8_MT() {
+		ImplBinaryPackedOps_MT.erode8(packedA, packedOut);
+	}
+
+	@Benchmark
+	public void Pack() {
+		BinaryImageOps.pack(input, packedOut);
+	}
 
-//		Runner.main(BenchmarkBinaryOps.class, args);
+	@Benchmark
+	public void Unpack() {
+		BinaryImageOps.unpack(packedA, output);
 	}
 }
@@ -16,115 +16,117 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.filter.binary;
 
-import boofcv.alg.filter.binary.impl.ThresholdBlockMinMax_F32;
-import boofcv.alg.filter.binary.impl.ThresholdBlockMinMax_U8;
-import boofcv.alg.filter.binary.impl.ThresholdSauvola;
-import boofcv.alg.misc.ImageMiscOps;
-import boofcv.core.image.ConvertImage;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.abst.filter.binary.InputToBinary;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.filter.binary.FactoryThresholdBinary;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.ConfigLength;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Benchmark for different convolution operations.
+ * Benchmark for different thresholding operations.
  *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkThresholding {
-	static int imgWidth = 640;
-	static int imgHeight = 480;
-	static long TEST_TIME = 1000;
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"U8","F32"})
+	public ImageDataType imageType;
+
+	// width of the local region. Large regions are used to detect fiducials in high resolution images
+	@Param({"13","101"})
+	public int regionWidth;
+
+	int threshLower = 20;
+
+	ConfigLength adaptiveWidth;
 
-	static GrayU8 input = new GrayU8(imgWidth, imgHeight);
-	static GrayF32 inputF32 = new GrayF32(imgWidth, imgHeight);
-	static GrayS32 output_S32 = new GrayS32(imgWidth, imgHeight);
-	static GrayU8 output_U8 = new GrayU8(imgWidth, imgHeight);
-	static GrayU8 work = new GrayU8(imgWidth, imgHeight);
-	static GrayU8 work2 = new GrayU8(imgWidth, imgHeight);
+	ImageGray input;
+	GrayU8 output_U8;
 
-	static int threshLower = 20;
-	static int threshUpper = 30;
+	InputToBinary localMean;
+	InputToBinary localGaussian;
+	InputToBinary localSauvola;
+	InputToBinary localOtsu;
+	InputToBinary blockMinMax;
+	InputToBinary blockMean;
+	InputToBinary blockOtsu;
 
-	static ConfigLength adaptiveWidth = ConfigLength.fixed(13);
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		input = GeneralizedImageOps.createSingleBand(imageType,shape.width,shape.height);
+		output_U8 = new GrayU8(shape.width,shape.height);
+		adaptiveWidth = ConfigLength.fixed(regionWidth);
 
-	public BenchmarkThresholding() {
 		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(input, rand, 0, 100);
-		ConvertImage.convert(input,inputF32);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		Class type = input.getClass();
+		localMean = FactoryThresholdBinary.localMean(adaptiveWidth,1.0,true,type);
+		localGaussian = FactoryThresholdBinary.localGaussian(adaptiveWidth,1.0,true,type);
+		localSauvola = FactoryThresholdBinary.localSauvola(adaptiveWidth,0.3f,true,type);
+		localOtsu = FactoryThresholdBinary.localOtsu(false,adaptiveWidth,0.5,1.0,true,type);
+		blockMinMax = FactoryThresholdBinary.blockMinMax(adaptiveWidth,0.95,true,20,true,type);
+		blockMean = FactoryThresholdBinary.blockMean(adaptiveWidth,0.95,true,true,type);
+		blockOtsu = FactoryThresholdBinary.blockOtsu(false,adaptiveWidth,0.5,0.95,true,true,type);
 	}
 
-	public static class Threshold extends PerformerBase {
-		@Override
-		public void process() {
-			ThresholdImageOps.threshold(input, output_U8, threshLower, true);
-		}
+	@Benchmark
+	public void Threshold() {
+		GThresholdImageOps.threshold(input, output_U8, threshLower, true);
 	}
 
-	public static class LocalMean extends PerformerBase {
-		@Override
-		public void process() {
-			ThresholdImageOps.localMean(input, output_U8, adaptiveWidth, 0, true, work, work2);
-		}
+	@Benchmark
+	public void LocalMean() {
+		localMean.process(input, output_U8);
 	}
 
-	public static class LocalGaussian extends PerformerBase {
-		@Override
-		public void process() {
-			ThresholdImageOps.localGaussian(input, output_U8, adaptiveWidth, 0, true, work, work2);
-		}
+	@Benchmark
+	public void LocalGaussian() {
+		localGaussian.process(input, output_U8);
 	}
 
-	public static class LocalSauvola extends PerformerBase {
-		@Override
-		public void process() {
-			GThresholdImageOps.localSauvola(input, output_U8, adaptiveWidth, 0.3f, true);
-		}
+	@Benchmark
+	public void LocalSauvola() {
+		localSauvola.process(input, output_U8);
 	}
 
-	public static class LocalSauvola2 extends PerformerBase {
-		ThresholdSauvola alg = new ThresholdSauvola(adaptiveWidth,0.3f, true);
-		@Override
-		public void process() {
-			alg.process(inputF32,output_U8);
-		}
+	@Benchmark
+	public void LocalOtsu() {
+		localOtsu.process(input, output_U8);
 	}
 
-	public static class SquareBlockMinMax_F32 extends PerformerBase {
-		ThresholdBlockMinMax_F32 alg = new ThresholdBlockMinMax_F32(20,adaptiveWidth,0.95f,true, true);
-		@Override
-		public void process() {
-			alg.process(inputF32,output_U8);
-		}
+	@Benchmark
+	public void BlockMinMax() {
+		blockMinMax.process(input, output_U8);
 	}
 
-	public static class SquareBlockMinMax_U8 extends PerformerBase {
-		ThresholdBlockMinMax_U8 alg = new ThresholdBlockMinMax_U8(20,adaptiveWidth,0.95,true, true);
-		@Override
-		public void process() {
-			alg.process(input,output_U8);
-		}
+	@Benchmark
+	public void BlockMean() {
+		blockMean.process(input, output_U8);
 	}
 
-
-	public static void main(String args[]) {
-
-		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
-		System.out.println();
-
-		ProfileOperation.printOpsPerSec(new Threshold(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new LocalMean(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new LocalGaussian(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new LocalSauvola(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new LocalSauvola2(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new SquareBlockMinMax_F32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new SquareBlockMinMax_U8(), TEST_TIME);
-
+	@Benchmark
+	public void BlockOtsu() {
+		blockOtsu.process(input, output_U8);
 	}
 }
@@ -18,83 +18,100 @@
 
 package boofcv.alg.filter.blur;
 
+import boofcv.alg.filter.blur.impl.ImplMedianConstantTime;
+import boofcv.alg.filter.blur.impl.ImplMedianConstantTime_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInnerNaive;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.GrayS16;
-import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Benchmark for different convolution operations.
+ * Benchmark for different median filter implementations.
  * @author Peter Abeles
  */
-public class BenchmarkMedianFilter  {
-	static int imgWidth = 640;
-	static int imgHeight = 480;
-	static long TEST_TIME = 1000;
-
-	static GrayF32 imgFloat32 = new GrayF32(imgWidth,imgHeight);
-	static GrayF32 out_F32 = new GrayF32(imgWidth,imgHeight);
-	static GrayU8 imgInt8 = new GrayU8(imgWidth,imgHeight);
-	static GrayS16 imgInt16 = new GrayS16(imgWidth,imgHeight);
-	static GrayU8 out_I8 = new GrayU8(imgWidth,imgHeight);
-	static GrayS16 out_I16 = new GrayS16(imgWidth,imgHeight);
-	static GrayS32 out_I32 = new GrayS32(imgWidth,imgHeight);
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkMedianFilter {
+	@Param({"640x480","1920x1080"})
+	public String size;
 
 	// iterate through different sized kernel radius
-	private int radius;
+	@Param({"1", "2", "5", "10", "25"})
+	public int radius;
+
+	GrayF32 imgFloat32;
+	GrayF32 out_F32;
+	GrayU8 imgInt8;
+	GrayU8 out_I8;
+
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		int imgWidth = shape.width, imgHeight = shape.height;
+
+		imgFloat32 = new GrayF32(imgWidth,imgHeight);
+		out_F32 = new GrayF32(imgWidth,imgHeight);
+		imgInt8 = new GrayU8(imgWidth,imgHeight);
+		out_I8 = new GrayU8(imgWidth,imgHeight);
 
-	public BenchmarkMedianFilter() {
 		Random rand = new Random(234);
 		ImageMiscOps.fillUniform(imgInt8,rand, 0, 100);
 		ImageMiscOps.fillUniform(imgFloat32,rand,0,200);
 	}
 
-	public int timeBlurImageOps_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BlurImageOps.median(imgInt8, out_I8, radius);
-		return 0;
+	@Benchmark
+	public void BlurImageOps_I8() {
+		BlurImageOps.median(imgInt8, out_I8, radius);
 	}
 
-	public int timeBlurImageOps_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BlurImageOps.median(imgFloat32,out_F32,radius);
-		return 0;
+	@Benchmark
+	public void BlurImageOps_F32() {
+		BlurImageOps.median(imgFloat32,out_F32,radius);
 	}
 
-	public int timeHistogramNaive_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplMedianHistogramInnerNaive.process(imgInt8, out_I8, radius, null, null);
-		return 0;
+	@Benchmark
+	public void BlurImageOps_F32_Quantized() {
+		BlurImageOps.median(imgFloat32,out_F32,radius,0,200);
 	}
 
-	public int timeHistogram_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplMedianHistogramInner.process(imgInt8,out_I8,radius,null,null);
-		return 0;
+	@Benchmark
+	public void ConstantTime_I8() {
+		ImplMedianConstantTime.process(imgInt8,out_I8,radius);
 	}
 
-	public int timeSortNaive_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplMedianSortNaive.process(imgInt8,out_I8,radius,null);
-		return 0;
+	@Benchmark
+	public void ConstantTime_MT_I8() {
+		ImplMedianConstantTime_MT.process(imgInt8,out_I8,radius);
 	}
 
-	public int timeSortNaive_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplMedianSortNaive.process(imgFloat32,out_F32,radius,null);
-		return 0;
+	@Benchmark
+	public void HistogramNaive_I8() {
+		ImplMedianHistogramInnerNaive.process(imgInt8, out_I8, radius, null, null);
 	}
 
-	public static void main( String args[] ) {
-		System.out.println("=========  Profile Image Size "+imgWidth+" x "+imgHeight+" ==========");
-		System.out.println();
+	@Benchmark
+	public void Histogram_I8() {
+		ImplMedianHistogramInner.process(imgInt8,out_I8,radius,null,null);
+	}
+
+	@Benchmark
+	public void SortNaive_I8() {
+		ImplMedianSortNaive.process(imgInt8,out_I8,radius,null);
+	}
 
-//		Runner.main(BenchmarkMedianFilter.class, args);
+	@Benchmark
+	public void SortNaive_F32() {
+		ImplMedianSortNaive.process(imgFloat32,out_F32,radius,null);
 	}
 }
@@ -21,120 +21,124 @@ package boofcv.alg.filter.convolve;
 import boofcv.alg.filter.convolve.noborder.ImplConvolveBox;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_S32;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Benchmark for different convolution operations.
  * @author Peter Abeles
  */
-@SuppressWarnings("UnusedDeclaration")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkConvolveBox {
-
-	static int width = 640;
-	static int height = 480;
-	static long TEST_TIME = 1000;
-	static Random rand = new Random(234);
-
-	static Kernel1D_S32 kernelI32;
-	static Kernel1D_F32 kernelF32;
-	static GrayF32 input_F32 = new GrayF32(width,height);
-	static GrayF32 out_F32 = new GrayF32(width,height);
-	static GrayF32 storageF32 = new GrayF32(width,height);
-	static GrayU8 input_I8 = new GrayU8(width,height);
-	static GrayS16 input_I16 = new GrayS16(width,height);
-	static GrayU8 out_I8 = new GrayU8(width,height);
-	static GrayS16 out_I16 = new GrayS16(width,height);
-	static GrayS32 out_I32 = new GrayS32(width,height);
+	@Param({"640x480","1920x1080"})
+	public String size;
 
 	// iterate through different sized kernel radius
-//	@Param({"1", "2", "3", "5","10"})
-	private int radius;
+	@Param({"1", "2", "3", "5","10"})
+	public int radius;
+
+	Kernel1D_S32 kernelI32;
+	Kernel1D_F32 kernelF32;
+	GrayF32 input_F32;
+	GrayF32 out_F32;
+	GrayF32 storageF32;
+	GrayU8 input_I8;
+	GrayS16 input_I16;
+	GrayU8 out_I8;
+	GrayS16 out_I16;
+	GrayS32 out_I32;
+
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		int width = shape.width, height = shape.height;
+		Random rand = new Random(234);
+
+		input_F32 = new GrayF32(width,height);
+		out_F32 = new GrayF32(width,height);
+		storageF32 = new GrayF32(width,height);
+		input_I8 = new GrayU8(width,height);
+		input_I16 = new GrayS16(width,height);
+		out_I8 = new GrayU8(width,height);
+		out_I16 = new GrayS16(width,height);
+		out_I32 = new GrayS32(width,height);
 
-	public BenchmarkConvolveBox() {
 		ImageMiscOps.fillUniform(input_I8,rand,0,20);
 		ImageMiscOps.fillUniform(input_I16,rand,0,20);
 		ImageMiscOps.fillUniform(input_F32,rand,0,20);
-	}
 
-	protected void setUp() throws Exception {
 		kernelF32 = FactoryKernel.table1D_F32(radius,false);
 		kernelI32 = FactoryKernel.table1D_I32(radius);
 	}
 
-	public int timeConvolve_Vertical_I8_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNoBorder.vertical(kernelI32, input_I8,out_I16);
-		return 0;
+	@Benchmark
+	public void Convolve_Vertical_I8_I16() {
+		ConvolveImageNoBorder.vertical(kernelI32, input_I8,out_I16);
 	}
 
-	public int timeConvolve_Vertical_I8_I32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNoBorder.vertical(kernelI32, input_I8,out_I32);
-		return 0;
+	@Benchmark
+	public void Convolve_Vertical_I8_I32() {
+		ConvolveImageNoBorder.vertical(kernelI32, input_I8,out_I32);
 	}
 
-	public int timeBox_U8_I16_Vertical(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveBox.vertical(input_I8,out_I16,radius);
-		return 0;
+	@Benchmark
+	public void Box_U8_I16_Vertical() {
+		ImplConvolveBox.vertical(input_I8,out_I16,radius);
 	}
 
-	public int timeBox_U8_I32_Vertical(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveBox.vertical(input_I8,out_I32,radius);
-		return 0;
+	@Benchmark
+	public void Box_U8_I32_Vertical() {
+		ImplConvolveBox.vertical(input_I8,out_I32,radius);
 	}
 
-	public int timeBox_S16_I16_Vertical(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveBox.vertical(input_I16,out_I16,radius);
-		return 0;
+	@Benchmark
+	public void Box_S16_I16_Vertical() {
+		ImplConvolveBox.vertical(input_I16,out_I16,radius);
 	}
 
-	public int timeBox_F32_F32_Vertical(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveBox.vertical(input_F32,out_F32,radius);
-		return 0;
+	@Benchmark
+	public void Box_F32_F32_Vertical() {
+		ImplConvolveBox.vertical(input_F32,out_F32,radius);
 	}
 
-	public int timeBoxAlt_F32_F32_Vertical(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveBoxAlt.vertical(input_F32,out_F32,radius,false);
-		return 0;
+	@Benchmark
+	public void BoxAlt_F32_F32_Vertical() {
+		ConvolveBoxAlt.vertical(input_F32,out_F32,radius,false);
 	}
 
-	public int timeBox_U8_I16_Horizontal(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveBox.horizontal(input_I8, out_I16, radius);
-		return 0;
+	@Benchmark
+	public void Box_U8_I16_Horizontal() {
+		ImplConvolveBox.horizontal(input_I8, out_I16, radius);
 	}
 
-	public int timeBox_U8_I32_Horizontal(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveBox.horizontal(input_I8,out_I32,radius);
-		return 0;
+	@Benchmark
+	public void Box_U8_I32_Horizontal() {
+		ImplConvolveBox.horizontal(input_I8,out_I32,radius);
 	}
 
-	public int timeBox_S16_I16_Horizontal(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveBox.horizontal(input_I16,out_I16,radius);
-		return 0;
+	@Benchmark
+	public void Box_S16_I16_Horizontal() {
+		ImplConvolveBox.horizontal(input_I16,out_I16,radius);
 	}
 
-	public int timeBox_F32_F32_Horizontal(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveBox.horizontal(input_F32,out_F32,radius);
-		return 0;
+	@Benchmark
+	public void Box_F32_F32_Horizontal() {
+		ImplConvolveBox.horizontal(input_F32,out_F32,radius);
 	}
 
-//	public static void main( String args[] ) {
-//		Runner.main(BenchmarkConvolveBox.class, args);
-//	}
+//
 }
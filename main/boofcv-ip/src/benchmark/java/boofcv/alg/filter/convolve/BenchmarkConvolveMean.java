@@ -24,97 +24,101 @@ import boofcv.alg.filter.convolve.noborder.ImplConvolveMean;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_S32;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageType;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Benchmark for different convolution operations.
  * @author Peter Abeles
  */
-@SuppressWarnings({"UnusedDeclaration"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkConvolveMean {
-	static private int width = 640;
-	static private int height = 480;
-	static private Random rand = new Random(234);
-
-	static private Kernel1D_F32 kernelF32;
-	static private GrayF32 input_F32 = new GrayF32(width,height);
-	static private GrayF32 out_F32 = new GrayF32(width,height);
-	static private GrayF32 storageF32 = new GrayF32(width,height);
-	static private Kernel1D_S32 kernelI32;
-	static private GrayU8 input_I8 = new GrayU8(width,height);
-	static private GrayS16 input_I16 = new GrayS16(width,height);
-	static private GrayU8 out_I8 = new GrayU8(width,height);
-
-	static private BlurFilter<GrayF32> filter;
+	@Param({"640x480","1920x1080"})
+	public String size;
 
 	// iterate through different sized kernel radius
-//	@Param({"1", "2", "3", "5","10"})
-	private int radius;
+	@Param({"1", "2", "3", "5","10"})
+	public int radius;
+
+	private Kernel1D_F32 kernelF32;
+	private GrayF32 input_F32;
+	private GrayF32 out_F32;
+	private GrayF32 storageF32;
+	private Kernel1D_S32 kernelI32;
+	private GrayU8 input_I8;
+	private GrayS16 input_I16;
+	private GrayU8 out_I8;
+
+	private BlurFilter<GrayF32> filter;
+
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		int width = shape.width, height = shape.height;
+		Random rand = new Random(234);
+
+		input_F32 = new GrayF32(width,height);
+		out_F32 = new GrayF32(width,height);
+		storageF32 = new GrayF32(width,height);
+		input_I8 = new GrayU8(width,height);
+		input_I16 = new GrayS16(width,height);
+		out_I8 = new GrayU8(width,height);
 
-	public BenchmarkConvolveMean() {
 		ImageMiscOps.fillUniform(input_I8,rand,0,20);
 		ImageMiscOps.fillUniform(input_I16,rand,0,20);
 		ImageMiscOps.fillUniform(input_F32,rand,0,20);
-	}
 
-	protected void setUp() throws Exception {
 		filter = FactoryBlurFilter.mean(ImageType.single(GrayF32.class),radius);
 		kernelF32 = FactoryKernel.table1D_F32(radius, true);
 		kernelI32 = FactoryKernel.table1D_I32(radius);
 	}
 
-	public int timeConvolve_Vertical_U8_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNoBorder.vertical(kernelI32, input_I8,out_I8,radius*2+1);
-		return 0;
+	@Benchmark
+	public void Convolve_Vertical_U8_I8() {
+		ConvolveImageNoBorder.vertical(kernelI32, input_I8,out_I8,radius*2+1);
 	}
 
-	public int timeConvolve_Horizontal_U8_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNoBorder.horizontal(kernelI32, input_I8, out_I8, radius * 2 + 1);
-		return 0;
+	@Benchmark
+	public void Convolve_Horizontal_U8_I8() {
+		ConvolveImageNoBorder.horizontal(kernelI32, input_I8, out_I8, radius * 2 + 1);
 	}
 
-	public int timeMean_U8_I8_Vertical(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveMean.vertical(input_I8, out_I8, radius);
-		return 0;
+	@Benchmark
+	public void Mean_U8_I8_Vertical() {
+		ImplConvolveMean.vertical(input_I8, out_I8, radius);
 	}
 
-	public int timeMean_F32_F32_Vertical(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveMean.vertical(input_F32,out_F32,radius);
-		return 0;
+	@Benchmark
+	public void Mean_F32_F32_Vertical() {
+		ImplConvolveMean.vertical(input_F32,out_F32,radius);
 	}
 
-	public int timeMean_F32_F32_Horizontal(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ImplConvolveMean.horizontal(input_F32, out_F32, radius);
-		return 0;
+	@Benchmark
+	public void Mean_F32_F32_Horizontal() {
+		ImplConvolveMean.horizontal(input_F32, out_F32, radius);
 	}
 
-	public int timeMean_F32_F32_Blur(int reps) {
-		for( int i = 0; i < reps; i++ )
-			BlurImageOps.mean(input_F32, out_F32, radius, storageF32);
-		return 0;
+	@Benchmark
+	public void Mean_F32_F32_Blur() {
+		BlurImageOps.mean(input_F32, out_F32, radius, storageF32);
 	}
 
-	public int timeMean_F32_F32_BlurAbst(int reps) {
-		for( int i = 0; i < reps; i++ )
-			filter.process(input_F32, out_F32);
-		return 0;
-	}
-
-	public static void main( String args[] ) {
-		System.out.println("=========  Profile Image Size "+ width +" x "+ height +" ==========");
-
-//		Runner.main(BenchmarkConvolveMean.class, args);
+	@Benchmark
+	public void Mean_F32_F32_BlurAbst() {
+		filter.process(input_F32, out_F32);
 	}
 }
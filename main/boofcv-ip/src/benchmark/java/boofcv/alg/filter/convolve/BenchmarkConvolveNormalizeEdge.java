@@ -21,6 +21,7 @@ package boofcv.alg.filter.convolve;
 import boofcv.alg.filter.convolve.normalized.ConvolveNormalizedNaive_SB;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_S32;
 import boofcv.struct.convolve.Kernel2D_F32;
@@ -29,36 +30,47 @@ import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS16;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Benchmark for different convolution which renormalize along the image edges.
  *
  * @author Peter Abeles
  */
-@SuppressWarnings({"UnusedDeclaration"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkConvolveNormalizeEdge {
-	static private int imgWidth = 640;
-	static private int imgHeight = 480;
-
-	static private Kernel2D_F32 kernel2D_F32;
-	static private Kernel1D_F32 kernelF32;
-	static private GrayF32 imgFloat32;
-	static private GrayF32 out_F32;
-	static private Kernel1D_S32 kernelI32;
-	static private Kernel2D_S32 kernel2D_I32;
-	static private GrayU8 imgInt8;
-	static private GrayS16 imgInt16;
-	static private GrayU8 out_I8;
-	static private GrayS16 out_I16;
-	static private GrayS32 out_I32;
+	@Param({"640x480","1920x1080"})
+	public String size;
 
 	// iterate through different sized kernel radius
-//	@Param({"1", "2", "3", "5","10"})
-	private int radius;
+	@Param({"1", "2", "3", "5","10"})
+	public int radius;
+
+	private Kernel2D_F32 kernel2D_F32;
+	private Kernel1D_F32 kernelF32;
+	private GrayF32 imgFloat32;
+	private GrayF32 out_F32;
+	private Kernel1D_S32 kernelI32;
+	private Kernel2D_S32 kernel2D_I32;
+	private GrayU8 imgInt8;
+	private GrayS16 imgInt16;
+	private GrayU8 out_I8;
+	private GrayS16 out_I16;
+	private GrayS32 out_I32;
+
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		int imgWidth = shape.width, imgHeight = shape.height;
 
-	public BenchmarkConvolveNormalizeEdge() {
 		imgInt8 = new GrayU8(imgWidth,imgHeight);
 		imgInt16 = new GrayS16(imgWidth,imgHeight);
 		out_I32 = new GrayS32(imgWidth,imgHeight);
@@ -71,60 +83,45 @@ public class BenchmarkConvolveNormalizeEdge {
 		ImageMiscOps.fillUniform(imgInt8,rand, 0, 100);
 		ImageMiscOps.fillUniform(imgInt16,rand,0,200);
 		ImageMiscOps.fillUniform(imgFloat32,rand,0,200);
-	}
 
-	protected void setUp() throws Exception {
 		kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
 		kernelI32 = FactoryKernelGaussian.gaussian(Kernel1D_S32.class, -1, radius);
 		kernel2D_F32 = FactoryKernelGaussian.gaussian(Kernel2D_F32.class,-1,radius);
 		kernel2D_I32 = FactoryKernelGaussian.gaussian(Kernel2D_S32.class, -1, radius);
 	}
 
-	public int timeHorizontal_Naive_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveNormalizedNaive_SB.horizontal(kernelF32, imgFloat32, out_F32);
-		return 0;
-	}
-
-	public int timeHorizontal_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNormalized.horizontal(kernelF32,imgFloat32,out_F32);
-		return 0;
+	@Benchmark
+	public void Horizontal_Naive_F32() {
+		ConvolveNormalizedNaive_SB.horizontal(kernelF32, imgFloat32, out_F32);
 	}
 
-	public int timeHorizontal_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNormalized.horizontal(kernelI32,imgInt8,out_I8);
-		return 0;
+	@Benchmark
+	public void Horizontal_F32() {
+		ConvolveImageNormalized.horizontal(kernelF32,imgFloat32,out_F32);
 	}
 
-	public int timeHorizontal_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNormalized.horizontal(kernelI32,imgInt16,out_I16);
-		return 0;
+	@Benchmark
+	public void Horizontal_I8() {
+		ConvolveImageNormalized.horizontal(kernelI32,imgInt8,out_I8);
 	}
 
-	public int timeVertical_F32(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNormalized.vertical(kernelF32, imgFloat32, out_F32);
-		return 0;
+	@Benchmark
+	public void Horizontal_I16() {
+		ConvolveImageNormalized.horizontal(kernelI32,imgInt16,out_I16);
 	}
 
-	public int timeVertical_I8(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNormalized.vertical(kernelI32,imgInt8,out_I8);
-		return 0;
+	@Benchmark
+	public void Vertical_F32() {
+		ConvolveImageNormalized.vertical(kernelF32, imgFloat32, out_F32);
 	}
 
-	public int timeVertical_I16(int reps) {
-		for( int i = 0; i < reps; i++ )
-			ConvolveImageNormalized.vertical(kernelI32,imgInt16,out_I16);
-		return 0;
+	@Benchmark
+	public void Vertical_I8() {
+		ConvolveImageNormalized.vertical(kernelI32,imgInt8,out_I8);
 	}
 
-	public static void main( String args[] ) {
-		System.out.println("=========  Profile Image Size "+ imgWidth +" x "+ imgHeight +" ==========");
-
-//		Runner.main(BenchmarkConvolveMean.class, args);
+	@Benchmark
+	public void Vertical_I16() {
+		ConvolveImageNormalized.vertical(kernelI32,imgInt16,out_I16);
 	}
 }
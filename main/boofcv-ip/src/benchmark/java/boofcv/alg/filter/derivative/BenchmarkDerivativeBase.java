@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,69 +16,71 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.*;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.GrayS16;
-import boofcv.struct.image.GrayU8;
+import boofcv.misc.BenchmarkImageSize;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Base class for benchmarking derivative classes
- * 
+ * Base class for benchmarking derivative classes. Parameterized by image size and input image type. Derivative
+ * images are {@link GrayS16} for integer inputs and {@link GrayF32} for floating point.
+ *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public abstract class BenchmarkDerivativeBase {
-	public static int imgWidth = 640;
-	public static int imgHeight = 480;
-	public static long TEST_TIME = 1000;
-	public static boolean border = true;
-	public static ImageBorder_S32 borderI32 = new ImageBorder1D_S32(BorderIndex1D_Extend.class);
-	public static ImageBorder_F32 borderF32 = new ImageBorder1D_F32(BorderIndex1D_Extend.class);
+	@Param({"640x480","1920x1080"})
+	public String size;
 
-	public static GrayF32 imgFloat32;
-	public static GrayF32 derivX_F32;
-	public static GrayF32 derivY_F32;
-	public static GrayF32 derivXY_F32;
-	public static GrayU8 imgInt8;
-	public static GrayS16 derivX_I16;
-	public static GrayS16 derivY_I16;
+	@Param({"U8","F32"})
+	public ImageDataType imageType;
 
-	public static GrayS16 derivXY_I16;
+	public ImageBorder_S32 borderI32 = new ImageBorder1D_S32(BorderIndex1D_Extend.class);
+	public ImageBorder_F32 borderF32 = new ImageBorder1D_F32(BorderIndex1D_Extend.class);
 
+	public ImageGray input;
+	public ImageGray derivX;
+	public ImageGray derivY;
+	public ImageGray derivXY;
 
-	public abstract void profile_I8();
-	public abstract void profile_F32();
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
 
-	public void process() {
-		imgInt8 = new GrayU8(imgWidth,imgHeight);
-		derivX_I16 = new GrayS16(imgWidth,imgHeight);
-		derivY_I16 = new GrayS16(imgWidth,imgHeight);
-		derivXY_I16 = new GrayS16(imgWidth,imgHeight);
-		imgFloat32 = new GrayF32(imgWidth,imgHeight);
-		derivX_F32 = new GrayF32(imgWidth,imgHeight);
-		derivY_F32 = new GrayF32(imgWidth,imgHeight);
-		derivXY_F32 = new GrayF32(imgWidth,imgHeight);
+		ImageDataType derivType = imageType.isInteger() ? ImageDataType.S16 : ImageDataType.F32;
+		input = GeneralizedImageOps.createSingleBand(imageType,shape.width,shape.height);
+		derivX = GeneralizedImageOps.createSingleBand(derivType,shape.width,shape.height);
+		derivY = GeneralizedImageOps.createSingleBand(derivType,shape.width,shape.height);
+		derivXY = GeneralizedImageOps.createSingleBand(derivType,shape.width,shape.height);
 
 		Random rand = new Random(123);
-		GImageMiscOps.fillUniform(imgInt8, rand, 0, 100);
-		GImageMiscOps.fillUniform(imgFloat32,rand,0,100);
-		
-		System.out.println("=========  Profile Image Size "+imgWidth+" x "+imgHeight+" ==========");
-		System.out.println("               border = "+border);
-		System.out.println();
-		System.out.println("             GrayU8");
-		System.out.println();
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
 
-		profile_I8();
-
-		System.out.println("\n             GrayF32");
-		System.out.println();
+		declareStorage(shape.width,shape.height,derivType);
+	}
 
-		profile_F32();
+	/**
+	 * Used by children to declare additional work images
+	 */
+	protected void declareStorage( int width , int height , ImageDataType derivType ) {}
 
+	/**
+	 * Returns true if the input image is {@link GrayU8} and the derivatives are {@link GrayS16}
+	 */
+	public boolean isInteger() {
+		return imageType.isInteger();
 	}
 }
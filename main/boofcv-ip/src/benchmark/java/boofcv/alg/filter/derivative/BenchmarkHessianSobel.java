@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,76 +16,47 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.filter.derivative;
 
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.GrayS16;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.Benchmark;
 
 /**
  * Benchmarks related to computing image derivatives
- * 
+ *
  * @author Peter Abeles
  */
 public class BenchmarkHessianSobel extends BenchmarkDerivativeBase {
 
-	static GrayF32 tempA_F32 = new GrayF32(imgWidth,imgHeight);
-	static GrayF32 tempB_F32 = new GrayF32(imgWidth,imgHeight);
-	static GrayS16 tempA_I16 = new GrayS16(imgWidth,imgHeight);
-	static GrayS16 tempB_I16 = new GrayS16(imgWidth,imgHeight);
-
-
-	public static class Hessian_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			HessianSobel.process(imgInt8,derivX_I16,derivY_I16,derivXY_I16,borderI32);
-		}
-	}
-
-	public static class Hessian_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			HessianSobel.process(imgFloat32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
-		}
-	}
-
-	public static class HessianFromDeriv_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel.process(imgInt8,tempA_I16,tempB_I16,borderI32);
-			HessianFromGradient.hessianSobel(tempA_I16,tempB_I16,derivX_I16,derivY_I16,derivXY_I16,borderI32);
-		}
-	}
-
-	public static class HessianFromDeriv_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel.process(imgFloat32,tempA_F32,tempB_F32,borderF32);
-			HessianFromGradient.hessianSobel(tempA_F32,tempB_F32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
-		}
-	}
+	ImageGray tempA;
+	ImageGray tempB;
 
 	@Override
-	public void profile_I8() {
-		ProfileOperation.printOpsPerSec(new Hessian_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HessianFromDeriv_I8(),TEST_TIME);
+	protected void declareStorage(int width, int height, ImageDataType derivType) {
+		tempA = GeneralizedImageOps.createSingleBand(derivType,width,height);
+		tempB = GeneralizedImageOps.createSingleBand(derivType,width,height);
 	}
 
-	@Override
-	public void profile_F32() {
-		ProfileOperation.printOpsPerSec(new Hessian_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HessianFromDeriv_F32(),TEST_TIME);
+	@Benchmark
+	public void Hessian() {
+		if( isInteger() )
+			HessianSobel.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(GrayS16)derivXY,borderI32);
+		else
+			HessianSobel.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(GrayF32)derivXY,borderF32);
 	}
 
-	public static void main( String args[] ) {
-		BenchmarkHessianSobel benchmark = new BenchmarkHessianSobel();
-
-		BenchmarkHessianSobel.border = true;
-		benchmark.process();
+	@Benchmark
+	public void HessianFromDeriv() {
+		if( isInteger() ) {
+			GradientSobel.process((GrayU8)input,(GrayS16)tempA,(GrayS16)tempB,borderI32);
+			HessianFromGradient.hessianSobel((GrayS16)tempA,(GrayS16)tempB,
+					(GrayS16)derivX,(GrayS16)derivY,(GrayS16)derivXY,borderI32);
+		} else {
+			GradientSobel.process((GrayF32)input,(GrayF32)tempA,(GrayF32)tempB,borderF32);
+			HessianFromGradient.hessianSobel((GrayF32)tempA,(GrayF32)tempB,
+					(GrayF32)derivX,(GrayF32)derivY,(GrayF32)derivXY,borderF32);
+		}
 	}
 }
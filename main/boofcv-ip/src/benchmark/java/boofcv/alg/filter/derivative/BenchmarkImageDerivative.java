@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,156 +16,75 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.filter.derivative.impl.HessianThree_Standard;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.Benchmark;
 
 /**
  * Benchmarks related to computing image derivatives
- * 
+ *
  * @author Peter Abeles
  */
 public class BenchmarkImageDerivative extends BenchmarkDerivativeBase {
 
-	public static class Sobel_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel.process(imgInt8,derivX_I16,derivY_I16,borderI32);
-		}
-	}
-
-	public static class Sobel_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
-		}
-	}
-
-	public static class DerivativeThree_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientThree.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
-		}
-	}
-
-	public static class DerivativeThree_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientThree.process(imgInt8,derivX_I16,derivY_I16,borderI32);
-		}
-	}
-
-	public static class HessianThree_Std_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			HessianThree_Standard.process(imgInt8,derivX_I16,derivY_I16,derivXY_I16);
-		}
-	}
-
-	public static class HessianThree_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			HessianThree.process(imgInt8,derivX_I16,derivY_I16,derivXY_I16,borderI32);
-		}
+	@Benchmark
+	public void Sobel() {
+		if( isInteger() )
+			GradientSobel.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,borderI32);
+		else
+			GradientSobel.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,borderF32);
 	}
 
-	public static class HessianThree_Std_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			HessianThree_Standard.process(imgFloat32,derivX_F32,derivY_F32,derivXY_F32);
-		}
+	@Benchmark
+	public void Prewitt() {
+		if( isInteger() )
+			GradientPrewitt.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,borderI32);
+		else
+			GradientPrewitt.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,borderF32);
 	}
 
-	public static class HessianThree_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			HessianThree.process(imgFloat32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
-		}
+	@Benchmark
+	public void DerivativeThree() {
+		if( isInteger() )
+			GradientThree.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,borderI32);
+		else
+			GradientThree.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,borderF32);
 	}
 
-	public static class HessianSobel_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			HessianSobel.process(imgInt8,derivX_I16,derivY_I16,derivXY_I16,borderI32);
-		}
+	@Benchmark
+	public void HessianThree_Std() {
+		if( isInteger() )
+			HessianThree_Standard.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(GrayS16)derivXY);
+		else
+			HessianThree_Standard.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(GrayF32)derivXY);
 	}
 
-	public static class HessianSobel_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			HessianSobel.process(imgFloat32,derivX_F32,derivY_F32,derivXY_F32,borderF32);
-		}
+	@Benchmark
+	public void HessianThree() {
+		if( isInteger() )
+			HessianThree.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(GrayS16)derivXY,borderI32);
+		else
+			HessianThree.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(GrayF32)derivXY,borderF32);
 	}
 
-	public static class LaplacianEdge_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			LaplacianEdge.process(imgFloat32,derivX_F32);
-		}
+	@Benchmark
+	public void HessianSobel() {
+		if( isInteger() )
+			HessianSobel.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,(GrayS16)derivXY,borderI32);
+		else
+			HessianSobel.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,(GrayF32)derivXY,borderF32);
 	}
 
-	public static class LaplacianEdge_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			LaplacianEdge.process(imgInt8,derivX_I16);
-		}
+	@Benchmark
+	public void LaplacianEdge() {
+		if( isInteger() )
+			LaplacianEdge.process((GrayU8)input,(GrayS16)derivX);
+		else
+			LaplacianEdge.process((GrayF32)input,(GrayF32)derivX);
 	}
-
-	public static class Prewitt_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientPrewitt.process(imgInt8,derivX_I16,derivY_I16,borderI32);
-		}
-	}
-
-	public static class Prewitt_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientPrewitt.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
-		}
-	}
-
-	@Override
-	public void profile_I8() {
-		ProfileOperation.printOpsPerSec(new Sobel_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Prewitt_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new DerivativeThree_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HessianThree_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HessianSobel_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new LaplacianEdge_I8(),TEST_TIME);
-	}
-
-	@Override
-	public void profile_F32() {
-		ProfileOperation.printOpsPerSec(new Sobel_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Prewitt_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new DerivativeThree_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HessianThree_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HessianSobel_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new LaplacianEdge_F32(),TEST_TIME);
-	}
-
-	public static void main( String args[] ) {
-		BenchmarkImageDerivative benchmark = new BenchmarkImageDerivative();
-
-		BenchmarkImageDerivative.border = true;
-		benchmark.process();
-	}
-
 }
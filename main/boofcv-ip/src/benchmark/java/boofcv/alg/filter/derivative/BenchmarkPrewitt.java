@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,68 +16,35 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.filter.derivative.impl.GradientPrewitt_Shared;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.Benchmark;
 
 /**
  * Benchmarks related to computing image derivatives
- * 
+ *
  * @author Peter Abeles
  */
 public class BenchmarkPrewitt extends BenchmarkDerivativeBase {
 
-	public static class Prewitt_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientPrewitt.process(imgInt8,derivX_I16,derivY_I16,borderI32);
-		}
-	}
-
-	public static class Prewitt_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientPrewitt.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
-		}
-	}
-
-	public static class PrewittShared_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientPrewitt_Shared.process(imgInt8,derivX_I16,derivY_I16);
-		}
-	}
-
-	public static class PrewittShared_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientPrewitt_Shared.process(imgFloat32,derivX_F32,derivY_F32);
-		}
-	}
-
-	@Override
-	public void profile_I8() {
-		ProfileOperation.printOpsPerSec(new Prewitt_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new PrewittShared_I8(),TEST_TIME);
+	@Benchmark
+	public void Prewitt() {
+		if( isInteger() )
+			GradientPrewitt.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,borderI32);
+		else
+			GradientPrewitt.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,borderF32);
 	}
 
-	@Override
-	public void profile_F32() {
-		ProfileOperation.printOpsPerSec(new Prewitt_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new PrewittShared_F32(),TEST_TIME);
+	@Benchmark
+	public void PrewittShared() {
+		if( isInteger() )
+			GradientPrewitt_Shared.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY);
+		else
+			GradientPrewitt_Shared.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY);
 	}
-
-	public static void main( String args[] ) {
-		BenchmarkPrewitt benchmark = new BenchmarkPrewitt();
-
-		BenchmarkPrewitt.border = true;
-		benchmark.process();
-	}
-
 }
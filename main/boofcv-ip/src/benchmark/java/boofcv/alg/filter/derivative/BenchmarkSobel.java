@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,123 +16,64 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.filter.derivative.impl.GradientSobel_Naive;
 import boofcv.alg.filter.derivative.impl.GradientSobel_Outer;
 import boofcv.alg.filter.derivative.impl.GradientSobel_UnrolledOuter;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.Benchmark;
 
 /**
  * Benchmarks related to computing image derivatives
- * 
+ *
  * @author Peter Abeles
  */
-public class BenchmarkSobel extends BenchmarkDerivativeBase{
-
-	public static class Sobel_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel.process(imgInt8,derivX_I16,derivY_I16,borderI32);
-		}
-	}
-
-	public static class Sobel_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
-		}
-	}
-
-	public static class SobelNaive_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel_Naive.process(imgInt8,derivX_I16,derivY_I16);
-		}
-	}
-
-	public static class SobelNaive_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel_Naive.process(imgFloat32,derivX_F32,derivY_F32);
-		}
-	}
-
-	public static class SobelOuter_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel_Outer.process_I8(imgInt8,derivX_I16,derivY_I16);
-		}
-	}
-
-	public static class SobelOuter_I8_Sub extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel_Outer.process_I8_sub(imgInt8,derivX_I16,derivY_I16);
-		}
-	}
-
-	public static class SobelOuter_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel_Outer.process_F32(imgFloat32,derivX_F32,derivY_F32);
-		}
+public class BenchmarkSobel extends BenchmarkDerivativeBase {
+
+	@Benchmark
+	public void Sobel() {
+		if( isInteger() )
+			GradientSobel.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,borderI32);
+		else
+			GradientSobel.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,borderF32);
 	}
 
-	public static class SobelUnrolledOuter_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel_UnrolledOuter.process_I8(imgInt8,derivX_I16,derivY_I16);
-		}
+	@Benchmark
+	public void SobelNaive() {
+		if( isInteger() )
+			GradientSobel_Naive.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY);
+		else
+			GradientSobel_Naive.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY);
 	}
 
-	public static class SobelUnrolledOuter_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel_UnrolledOuter.process_F32(imgFloat32,derivX_F32,derivY_F32);
-		}
+	@Benchmark
+	public void SobelOuter() {
+		if( isInteger() )
+			GradientSobel_Outer.process_I8((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY);
+		else
+			GradientSobel_Outer.process_F32((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY);
 	}
 
-	public static class SobelUnrolledOuter_F32_Sub extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientSobel_UnrolledOuter.process_F32_sub(imgFloat32,derivX_F32,derivY_F32);
-		}
+	@Benchmark
+	public void SobelUnrolledOuter() {
+		if( isInteger() )
+			GradientSobel_UnrolledOuter.process_I8((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY);
+		else
+			GradientSobel_UnrolledOuter.process_F32((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY);
 	}
 
-	@Override
-	public void profile_I8() {
-		ProfileOperation.printOpsPerSec(new Sobel_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new SobelNaive_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new SobelOuter_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new SobelOuter_I8_Sub(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new SobelUnrolledOuter_I8(),TEST_TIME);
-	}
-
-	@Override
-	public void profile_F32() {
-		ProfileOperation.printOpsPerSec(new Sobel_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new SobelNaive_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new SobelOuter_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new SobelUnrolledOuter_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new SobelUnrolledOuter_F32_Sub(),TEST_TIME);
-	}
-
-	public static void main( String args[] ) {
-		BenchmarkSobel benchmark = new BenchmarkSobel();
-
-		BenchmarkSobel.border = true;
-		benchmark.process();
+	/**
+	 * Variants which work directly on sub-images. Only one implementation exists for each image type.
+	 */
+	@Benchmark
+	public void SobelSub() {
+		if( isInteger() )
+			GradientSobel_Outer.process_I8_sub((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY);
+		else
+			GradientSobel_UnrolledOuter.process_F32_sub((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY);
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,67 +16,35 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.filter.derivative.impl.GradientThree_Standard;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayS16;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.Benchmark;
 
 /**
  * Benchmarks related to computing image derivatives
- * 
+ *
  * @author Peter Abeles
  */
 public class BenchmarkThree extends BenchmarkDerivativeBase {
 
-	public static class Three_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientThree.process(imgInt8,derivX_I16,derivY_I16,borderI32);
-		}
-	}
-
-	public static class Three_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientThree.process(imgFloat32,derivX_F32,derivY_F32,borderF32);
-		}
+	@Benchmark
+	public void Three() {
+		if( isInteger() )
+			GradientThree.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY,borderI32);
+		else
+			GradientThree.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY,borderF32);
 	}
 
-	public static class ThreeStandard_I8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientThree_Standard.process(imgInt8,derivX_I16,derivY_I16);
-		}
-	}
-
-	public static class ThreeStandard_F32 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			GradientThree_Standard.process(imgFloat32,derivX_F32,derivY_F32);
-		}
-	}
-
-	@Override
-	public void profile_I8() {
-		ProfileOperation.printOpsPerSec(new Three_I8(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new ThreeStandard_I8(),TEST_TIME);
-	}
-
-	@Override
-	public void profile_F32() {
-		ProfileOperation.printOpsPerSec(new Three_F32(),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new ThreeStandard_F32(),TEST_TIME);
-	}
-
-	public static void main( String args[] ) {
-		BenchmarkThree benchmark = new BenchmarkThree();
-
-		BenchmarkThree.border = true;
-		benchmark.process();
+	@Benchmark
+	public void ThreeStandard() {
+		if( isInteger() )
+			GradientThree_Standard.process((GrayU8)input,(GrayS16)derivX,(GrayS16)derivY);
+		else
+			GradientThree_Standard.process((GrayF32)input,(GrayF32)derivX,(GrayF32)derivY);
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,111 +16,139 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.interpolate;
 
-import boofcv.alg.interpolate.impl.ImplBilinearPixel_F32;
-import boofcv.alg.interpolate.impl.ImplInterpolatePixelConvolution_F32;
-import boofcv.alg.interpolate.impl.ImplPolynomialPixel_F32;
-import boofcv.alg.interpolate.impl.NearestNeighborPixel_F32;
-import boofcv.alg.interpolate.kernel.BicubicKernel_F32;
-import boofcv.alg.misc.ImageMiscOps;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.GrayU8;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.misc.BenchmarkImageSize;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Benchmark for interpolating on a per-pixel basis
  *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkInterpolatePixel {
-	static int imgWidth = 640;
-	static int imgHeight = 480;
-	static long TEST_TIME = 1000;
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"U8","F32"})
+	public ImageDataType imageType;
 
-	static GrayF32 imgFloat32;
-	static GrayU8 imgInt8;
+	ImageGray image;
 
 	// defines the region its interpolation
-	static float start = 10.1f;
-	static float end = 310.1f;
-	static float step = 1f;
-
-	public static class Bilinear_Safe_F32 extends PerformerBase {
-		ImplBilinearPixel_F32 alg = new ImplBilinearPixel_F32(imgFloat32);
-
-		@Override
-		public void process() {
-			for (float x = start; x <= end; x += step)
-				for (float y = start; y <= end; y += step)
-					alg.get(x, y);
+	float start = 10.1f;
+	float end;
+	float step = 1f;
+
+	// same sample locations as the per-point benchmarks, stored for the batch and grid interfaces
+	int gridLength;
+	float[] points;
+	float[] values;
+
+	InterpolatePixelS bilinear;
+	InterpolatePixelS nearest;
+	InterpolatePixelS bicubic;
+	InterpolatePixelS polynomial;
+
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		image = GeneralizedImageOps.createSingleBand(imageType,shape.width,shape.height);
+		GImageMiscOps.fillUniform(image, new Random(234), 0, 200);
+
+		end = Math.min(shape.width,shape.height) - 10.1f;
+
+		Class type = image.getClass();
+		bilinear = FactoryInterpolation.bilinearPixelS(type, BorderType.EXTENDED);
+		nearest = FactoryInterpolation.nearestNeighborPixelS(type);
+		bicubic = FactoryInterpolation.bicubicS(-0.5f,0,255,type);
+		polynomial = FactoryInterpolation.polynomialS(5,0,255,type);
+
+		for( InterpolatePixelS alg : new InterpolatePixelS[]{bilinear,nearest,bicubic,polynomial}) {
+			alg.setImage(image);
 		}
-	}
-
-	public static class Bilinear_UnSafe_F32 extends PerformerBase {
-		ImplBilinearPixel_F32 alg = new ImplBilinearPixel_F32(imgFloat32);
 
-		@Override
-		public void process() {
-			for (float x = start; x <= end; x += step)
-				for (float y = start; y <= end; y += step)
-					alg.get_fast(x, y);
+		gridLength = 0;
+		for (float x = start; x <= end; x += step)
+			gridLength++;
+		points = new float[gridLength*gridLength*2];
+		values = new float[gridLength*gridLength];
+		int index = 0;
+		for (float x = start; x <= end; x += step) {
+			for (float y = start; y <= end; y += step) {
+				points[index++] = x;
+				points[index++] = y;
+			}
 		}
 	}
 
-	public static class NearestNeighbor_Safe_F32 extends PerformerBase {
-		NearestNeighborPixel_F32 alg = new NearestNeighborPixel_F32(imgFloat32);
-
-		@Override
-		public void process() {
-			for (float x = start; x <= end; x += step)
-				for (float y = start; y <= end; y += step)
-					alg.get(x, y);
-		}
+	@Benchmark
+	public void Bilinear_Safe( Blackhole bh ) {
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				bh.consume(bilinear.get(x, y));
 	}
 
-	public static class BilinearConvolution_Safe_F32 extends PerformerBase {
-		ImplInterpolatePixelConvolution_F32 alg = new ImplInterpolatePixelConvolution_F32(new BicubicKernel_F32(-0.5f),0,255);
-
-		@Override
-		public void process() {
-			alg.setImage(imgFloat32);
-			for (float x = start; x <= end; x += step)
-				for (float y = start; y <= end; y += step)
-					alg.get(x, y);
-		}
+	@Benchmark
+	public void Bilinear_UnSafe( Blackhole bh ) {
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				bh.consume(bilinear.get_fast(x, y));
 	}
 
-	public static class Polynomial_Safe_F32 extends PerformerBase {
-		ImplPolynomialPixel_F32 alg = new ImplPolynomialPixel_F32(5,0,255);
+	@Benchmark
+	public void Bilinear_Batch( Blackhole bh ) {
+		bilinear.getBatch(points, gridLength*gridLength, values);
+		bh.consume(values);
+	}
 
-		@Override
-		public void process() {
-			alg.setImage(imgFloat32);
-			for (float x = start; x <= end; x += step)
-				for (float y = start; y <= end; y += step)
-					alg.get(x, y);
-		}
+	@Benchmark
+	public void Bilinear_Grid( Blackhole bh ) {
+		bilinear.getGrid(start, start, step, step, gridLength, gridLength, values);
+		bh.consume(values);
 	}
 
-	public static void main(String args[]) {
-		imgInt8 = new GrayU8(imgWidth, imgHeight);
-		imgFloat32 = new GrayF32(imgWidth, imgHeight);
+	@Benchmark
+	public void NearestNeighbor_Safe( Blackhole bh ) {
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				bh.consume(nearest.get(x, y));
+	}
 
-		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(imgInt8, rand, 0, 100);
-		ImageMiscOps.fillUniform(imgFloat32, rand, 0, 200);
+	@Benchmark
+	public void Bicubic_Safe( Blackhole bh ) {
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				bh.consume(bicubic.get(x, y));
+	}
 
-		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
-		System.out.println();
+	@Benchmark
+	public void Polynomial_Safe( Blackhole bh ) {
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				bh.consume(polynomial.get(x, y));
+	}
 
-		ProfileOperation.printOpsPerSec(new Bilinear_Safe_F32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Bilinear_UnSafe_F32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new NearestNeighbor_Safe_F32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new BilinearConvolution_Safe_F32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Polynomial_Safe_F32(), TEST_TIME);
+	@Benchmark
+	public void Polynomial_Batch( Blackhole bh ) {
+		polynomial.getBatch(points, gridLength*gridLength, values);
+		bh.consume(values);
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,63 +16,62 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.interpolate;
 
 import boofcv.alg.interpolate.impl.BilinearRectangle_F32;
 import boofcv.alg.misc.ImageMiscOps;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.GrayU8;
 import boofcv.testing.BoofTesting;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Benchmark interpolating rectangular regions
  *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkInterpolateRegion {
-	static int imgWidth = 640;
-	static int imgHeight = 480;
-	static long TEST_TIME = 1000;
+	@Param({"640x480","1920x1080"})
+	public String size;
 
-	static GrayF32 imgFloat32;
-	static GrayU8 imgInt8;
-	static GrayF32 outputImage;
+	@Param({"false","true"})
+	public boolean subimage;
 
 	// defines the region its interpolation
-	static float start = 10.1f;
-	static int regionSize = 300;
+	float start = 10.1f;
+	int regionSize;
 
-	public static class Bilinear_F32 extends PerformerBase {
-		BilinearRectangle_F32 alg = new BilinearRectangle_F32(imgFloat32);
+	GrayF32 imgFloat32;
+	GrayF32 outputImage;
 
-		@Override
-		public void process() {
-			alg.region(start, start, outputImage);
-		}
-	}
+	BilinearRectangle_F32 bilinear;
 
-	public static void main(String args[]) {
-		imgInt8 = new GrayU8(imgWidth, imgHeight);
-		imgFloat32 = new GrayF32(imgWidth, imgHeight);
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		imgFloat32 = new GrayF32(shape.width, shape.height);
+		ImageMiscOps.fillUniform(imgFloat32, new Random(234), 0, 200);
 
+		regionSize = Math.min(300,Math.min(shape.width,shape.height)-12);
 		outputImage = new GrayF32(regionSize,regionSize);
+		if( subimage )
+			outputImage = BoofTesting.createSubImageOf(outputImage);
 
-		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(imgInt8, rand, 0, 100);
-		ImageMiscOps.fillUniform(imgFloat32, rand, 0, 200);
-
-		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
-		System.out.println();
-
-		ProfileOperation.printOpsPerSec(new Bilinear_F32(), TEST_TIME);
-
-		System.out.println("   ---- Sub-Image ----");
-		outputImage = BoofTesting.createSubImageOf(outputImage);
-		ProfileOperation.printOpsPerSec(new Bilinear_F32(), TEST_TIME);
+		bilinear = new BilinearRectangle_F32(imgFloat32);
+	}
 
+	@Benchmark
+	public void Bilinear_F32() {
+		bilinear.region(start, start, outputImage);
 	}
 }
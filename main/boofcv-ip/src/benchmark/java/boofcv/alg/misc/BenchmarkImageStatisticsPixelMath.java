@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.misc.BenchmarkImageSize;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for reductions in {@link ImageStatistics} and element-wise operations in {@link PixelMath}
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
+public class BenchmarkImageStatisticsPixelMath {
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	GrayU8 inputU8;
+	GrayU8 outputU8;
+	GrayF32 inputF32;
+	GrayF32 otherF32;
+	GrayF32 outputF32;
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		Random rand = new Random(234);
+
+		inputU8 = new GrayU8(shape.width,shape.height);
+		outputU8 = inputU8.createSameShape();
+		inputF32 = new GrayF32(shape.width,shape.height);
+		otherF32 = inputF32.createSameShape();
+		outputF32 = inputF32.createSameShape();
+		ImageMiscOps.fillUniform(inputU8,rand,0,255);
+		ImageMiscOps.fillUniform(inputF32,rand,-100,100);
+		ImageMiscOps.fillUniform(otherF32,rand,-100,100);
+	}
+
+	@Benchmark
+	public int Sum_U8() {
+		return ImageStatistics.sum(inputU8);
+	}
+
+	@Benchmark
+	public float Sum_F32() {
+		return ImageStatistics.sum(inputF32);
+	}
+
+	@Benchmark
+	public float Max_F32() {
+		return ImageStatistics.max(inputF32);
+	}
+
+	@Benchmark
+	public float Variance_F32() {
+		return ImageStatistics.variance(inputF32,1.5f);
+	}
+
+	@Benchmark
+	public void Multiply_U8() {
+		PixelMath.multiply(inputU8,1.5,outputU8);
+	}
+
+	@Benchmark
+	public void Divide_F32() {
+		PixelMath.divide(inputF32,1.5f,outputF32);
+	}
+
+	@Benchmark
+	public void Abs_F32() {
+		PixelMath.abs(inputF32,outputF32);
+	}
+
+	@Benchmark
+	public void DiffAbs_F32() {
+		PixelMath.diffAbs(inputF32,otherF32,outputF32);
+	}
+
+	@Benchmark
+	public void BoundImage_F32() {
+		outputF32.setTo(inputF32);
+		PixelMath.boundImage(outputF32,-50,50);
+	}
+}
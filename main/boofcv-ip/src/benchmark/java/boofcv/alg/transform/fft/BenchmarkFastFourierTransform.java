@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,50 +16,109 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.transform.fft;
 
 import boofcv.abst.transform.fft.DiscreteFourierTransform;
-import boofcv.alg.misc.ImageMiscOps;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.InterleavedF32;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.misc.BenchmarkImageSize;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkFastFourierTransform {
+	@Param({"512x512","640x480","1920x1080"})
+	public String size;
+
+	@Param({"F32","F64"})
+	public ImageDataType imageType;
 
-	static int width = 640;
-	static int height = 480;
-	static long TEST_TIME = 1000;
+	@Param({"true","false"})
+	public boolean concurrent;
 
-	static GrayF32 input = new GrayF32(width,height);
-	static InterleavedF32 fourier = new InterleavedF32(width,height,2);
-	static GrayF32 output = new GrayF32(width,height);
+	ImageGray input;
+	ImageInterleaved fourier;
+	ImageGray output;
 
+	DiscreteFourierTransform dft;
 
-	public static class ComputeFFT extends PerformerBase {
+	// complex 2D FFT which the images were processed by previously
+	GeneralPurposeFFT_F32_2D generalF32;
+	GeneralPurposeFFT_F64_2D generalF64;
+	ImageInterleaved work;
 
-		DiscreteFourierTransform dft = DiscreteFourierTransformOps.createTransformF32();
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		int width = shape.width, height = shape.height;
 
-		@Override
-		public void process() {
-			dft.forward(input,fourier);
-			dft.inverse(fourier,output);
+		input = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		output = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		if( imageType == ImageDataType.F32 ) {
+			fourier = new InterleavedF32(width,height,2);
+			work = new InterleavedF32(width,height,2);
+			dft = DiscreteFourierTransformOps.createTransformF32();
+			generalF32 = new GeneralPurposeFFT_F32_2D(height,width);
+		} else {
+			fourier = new InterleavedF64(width,height,2);
+			work = new InterleavedF64(width,height,2);
+			dft = DiscreteFourierTransformOps.createTransformF64();
+			generalF64 = new GeneralPurposeFFT_F64_2D(height,width);
 		}
+
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+	}
+
+	@Benchmark
+	public void Forward() {
+		dft.forward(input,fourier);
 	}
 
-	public static void main( String args[] ) {
+	@Benchmark
+	public void ForwardInverse() {
+		dft.forward(input,fourier);
+		dft.inverse(fourier,output);
+	}
 
-		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(input, rand, 0, 100);
+	@Benchmark
+	public void GeneralPurpose_Forward() {
+		if( imageType == ImageDataType.F32 ) {
+			float[] data = ((InterleavedF32)fourier).data;
+			System.arraycopy(((GrayF32)input).data,0,data,0,input.width*input.height);
+			generalF32.realForwardFull(data);
+		} else {
+			double[] data = ((InterleavedF64)fourier).data;
+			System.arraycopy(((GrayF64)input).data,0,data,0,input.width*input.height);
+			generalF64.realForwardFull(data);
+		}
+	}
 
-		System.out.println("=========  Profile Image Size " + width + " x " + height + " ==========");
-		System.out.println();
+	@Benchmark
+	public void GeneralPurpose_Inverse() {
+		work.setTo(fourier);
+		if( imageType == ImageDataType.F32 ) {
+			generalF32.complexInverse(((InterleavedF32)work).data,true);
+		} else {
+			generalF64.complexInverse(((InterleavedF64)work).data,true);
+		}
+	}
 
-		ProfileOperation.printOpsPerSec(new ComputeFFT(), TEST_TIME);
+	@Benchmark
+	public void Inverse() {
+		dft.inverse(fourier,output);
 	}
 }
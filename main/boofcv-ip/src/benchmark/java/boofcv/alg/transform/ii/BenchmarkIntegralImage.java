@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,70 +16,85 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.transform.ii;
 
-import boofcv.alg.misc.ImageMiscOps;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
-
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Benchmark for computing or updating the integral image and convolving kernels across it. Integer images are
+ * transformed into {@link boofcv.struct.image.GrayS32} integral images.
  *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkIntegralImage {
-	static int width = 640;
-	static int height = 480;
-	static long TEST_TIME = 1000;
-
-	static GrayF32 input = new GrayF32(width,height);
-	static GrayF32 integral = new GrayF32(width,height);
+	@Param({"640x480","1920x1080"})
+	public String size;
 
-	static GrayF32 output = new GrayF32(width,height);
+	@Param({"U8","F32"})
+	public ImageDataType imageType;
 
+	ImageGray input;
+	ImageGray integral;
+	ImageGray output;
 
-	public static class ComputeIntegral extends PerformerBase {
-		@Override
-		public void process() {
-			IntegralImageOps.transform(input,integral);
-		}
-	}
-
-	public static class DerivXX extends PerformerBase {
+	IntegralKernel kernel = DerivativeIntegralImage.kernelDerivXX(9,null);
 
-		IntegralKernel kernel = DerivativeIntegralImage.kernelDerivXX(9,null);
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		input = GeneralizedImageOps.createSingleBand(imageType,shape.width,shape.height);
+		Class integralType = GIntegralImageOps.getIntegralType(input.getClass());
+		integral = GeneralizedImageOps.createSingleBand(integralType,shape.width,shape.height);
+		output = GeneralizedImageOps.createSingleBand(integralType,shape.width,shape.height);
 
-		@Override
-		public void process() {
-			DerivativeIntegralImage.derivXX(integral,output,9);
-			IntegralImageOps.convolveBorder(integral,kernel,output,4,4);
-		}
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
+		GIntegralImageOps.transform(input,integral);
 	}
 
-	public static class GenericDerivXX extends PerformerBase {
+	@Benchmark
+	public void ComputeIntegral() {
+		GIntegralImageOps.transform(input,integral);
+	}
 
-		IntegralKernel kernel = DerivativeIntegralImage.kernelDerivXX(9,null);
+	/**
+	 * Update after the lower right quadrant of the input image has been modified
+	 */
+	@Benchmark
+	public void ComputeIntegralUpdate() {
+		GIntegralImageOps.transformUpdate(input,integral,input.width/2,input.height/2);
+	}
 
-		@Override
-		public void process() {
-			IntegralImageOps.convolve(integral,kernel,output);
+	/**
+	 * Specialized second derivative, which is only available for floating point images
+	 */
+	@Benchmark
+	public void DerivXX() {
+		if( integral instanceof GrayF32 ) {
+			DerivativeIntegralImage.derivXX((GrayF32)integral,(GrayF32)output,9);
+		} else {
+			GIntegralImageOps.convolve(integral,kernel,output);
 		}
+		GIntegralImageOps.convolveBorder(integral,kernel,output,4,4);
 	}
 
-	public static void main(String args[]) {
-
-		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(input, rand, 0, 100);
-		IntegralImageOps.transform(input,integral);
-
-		System.out.println("=========  Profile Image Size " + width + " x " + height + " ==========");
-		System.out.println();
-
-		ProfileOperation.printOpsPerSec(new ComputeIntegral(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new DerivXX(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new GenericDerivXX(), TEST_TIME);
+	@Benchmark
+	public void GenericDerivXX() {
+		GIntegralImageOps.convolve(integral,kernel,output);
 	}
 }
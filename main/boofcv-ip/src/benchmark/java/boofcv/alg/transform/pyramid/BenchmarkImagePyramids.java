@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,76 +16,81 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.transform.pyramid;
 
-import boofcv.alg.misc.ImageMiscOps;
-import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.transform.pyramid.FactoryPyramid;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
-import boofcv.struct.convolve.Kernel1D_F32;
-import boofcv.struct.image.GrayF32;
+import boofcv.misc.BenchmarkImageSize;
+import boofcv.struct.image.ImageDataType;
+import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import boofcv.struct.pyramid.PyramidFloat;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
-
+import java.util.concurrent.TimeUnit;
 
 /**
  * Shows runtime performance difference of each type of image pyramid given similar configurations.
  *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkImagePyramids {
-	static int width = 640;
-	static int height = 480;
-	static long TEST_TIME = 1000;
+	@Param({"640x480","1920x1080"})
+	public String size;
 
-	static GrayF32 input = new GrayF32(width,height);
+	@Param({"U8","F32"})
+	public ImageDataType imageType;
 
-	static int scalesD[] = new int[]{1,2,4,8};
-	static double scalesF[] = new double[]{1,2,4,8};
+	int scalesD[] = new int[]{1,2,4,8};
+	double scalesF[] = new double[]{1,2,4,8};
 
-	static PyramidDiscrete<GrayF32> pyramidD;
-	static PyramidFloat<GrayF32> pyramidF;
+	ImageGray input;
 
-	static Class<GrayF32> imageType = GrayF32.class;
+	PyramidDiscrete pyramidD;
+	PyramidFloat pyramidF;
+	PyramidDiscreteShared pyramidShared;
 
-	public static class Float_F32 extends PerformerBase {
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		input = GeneralizedImageOps.createSingleBand(imageType,shape.width,shape.height);
+		GImageMiscOps.fillUniform(input, new Random(234), 0, 100);
 
-		@Override
-		public void process() {
-			pyramidF.process(input);
-		}
-	}
+		Class type = input.getClass();
+		pyramidD = FactoryPyramid.discreteGaussian(scalesD,-1,2,true,ImageType.single(type));
+		pyramidF = FactoryPyramid.scaleSpacePyramid(scalesF, type);
 
-	public static class Discrete_F32 extends PerformerBase {
-
-		@Override
-		public void process() {
-			pyramidD.process(input);
-		}
+		// three consumers, e.g. tracker, descriptor, and display, which share a single pyramid
+		pyramidShared = new PyramidDiscreteShared(FactoryPyramid.discreteGaussian(scalesD,-1,2,true,ImageType.single(type)));
+		for( int i = 0; i < 3; i++ )
+			pyramidShared.reserve();
 	}
 
-	private static void createUpdate() {
-		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1.0,2);
-		pyramidD = new PyramidDiscreteSampleBlur<>(kernel,2, ImageType.single(GrayF32.class),true,scalesD);
-
-		pyramidF = FactoryPyramid.scaleSpacePyramid(scalesF, GrayF32.class);
-
+	@Benchmark
+	public void Float() {
+		pyramidF.process(input);
 	}
 
-	public static void main(String args[]) {
-
-		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(input, rand, 0, 100);
-		createUpdate();
-
-		System.out.println("=========  Profile Image Size " + width + " x " + height + " ==========");
-		System.out.println();
+	@Benchmark
+	public void Discrete() {
+		pyramidD.process(input);
+	}
 
-		ProfileOperation.printOpsPerSec(new Float_F32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Discrete_F32(), TEST_TIME);
+	@Benchmark
+	public void DiscreteShared() {
+		// a new frame in the same image
+		pyramidShared.invalidate();
+		for( int i = 0; i < 3; i++ )
+			pyramidShared.process(input);
 	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,110 +16,148 @@
  * limitations under the License.
  */
 
+
 package boofcv.alg.transform.wavelet;
 
+import boofcv.abst.denoise.FactoryImageDenoise;
+import boofcv.abst.denoise.WaveletDenoiseFilter;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformNaive;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.ImageDimension;
 import boofcv.struct.wavelet.WaveletDescription;
 import boofcv.struct.wavelet.WlCoef_F32;
 import boofcv.struct.wavelet.WlCoef_I32;
+import org.openjdk.jmh.annotations.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
-
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkWaveletTransform {
-	static int imgWidth = 640;
-	static int imgHeight = 480;
-	static long TEST_TIME = 1000;
-
-	static WaveletDescription<WlCoef_F32> desc_F32 = FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT);
-	static WaveletDescription<WlCoef_I32> desc_I32 = FactoryWaveletDaub.biorthogonal_I32(5,BorderType.REFLECT);
-
-	static GrayF32 orig_F32 = new GrayF32(imgWidth,imgHeight);
-	static GrayF32 temp1_F32 = new GrayF32(imgWidth,imgHeight);
-	static GrayF32 temp2_F32 = new GrayF32(imgWidth,imgHeight);
-	static GrayS32 orig_I32 = new GrayS32(imgWidth,imgHeight);
-	static GrayS32 temp1_I32 = new GrayS32(imgWidth,imgHeight);
-	static GrayS32 temp2_I32 = new GrayS32(imgWidth,imgHeight);
-
-	public static class Naive_F32 extends PerformerBase {
-
-		@Override
-		public void process() {
-			ImplWaveletTransformNaive.horizontal(desc_F32.getBorder(),desc_F32.getForward(),orig_F32,temp1_F32);
-			ImplWaveletTransformNaive.vertical(desc_F32.getBorder(),desc_F32.getForward(),temp1_F32,temp2_F32);
-		}
-	}
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"true","false"})
+	public boolean concurrent;
+
+	WaveletDescription<WlCoef_F32> desc_F32 = FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT);
+	WaveletDescription<WlCoef_I32> desc_I32 = FactoryWaveletDaub.biorthogonal_I32(5,BorderType.REFLECT);
+
+	GrayF32 orig_F32;
+	GrayF32 temp1_F32;
+	GrayF32 temp2_F32;
+	GrayS32 orig_I32;
+	GrayS32 temp1_I32;
+	GrayS32 temp2_I32;
+
+	// storage for the multi-level transform
+	GrayF32 copy;
+	GrayF32 tran;
+	GrayF32 storage;
+
+	// same sized images which are denoised one at a time or as a batch
+	WaveletDenoiseFilter<GrayF32> denoiser = FactoryImageDenoise.waveletBayes(GrayF32.class,3,0,255);
+	List<GrayF32> sequenceInput = new ArrayList<>();
+	List<GrayF32> sequenceOutput = new ArrayList<>();
+
+	@Setup
+	public void setup() {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		int imgWidth = shape.width, imgHeight = shape.height;
+
+		orig_F32 = new GrayF32(imgWidth,imgHeight);
+		temp1_F32 = new GrayF32(imgWidth,imgHeight);
+		temp2_F32 = new GrayF32(imgWidth,imgHeight);
+		orig_I32 = new GrayS32(imgWidth,imgHeight);
+		temp1_I32 = new GrayS32(imgWidth,imgHeight);
+		temp2_I32 = new GrayS32(imgWidth,imgHeight);
+
+		copy = new GrayF32(imgWidth,imgHeight);
+		ImageDimension dim = UtilWavelet.transformDimension(copy,3);
+		tran = new GrayF32(dim.width,dim.height);
+		storage = new GrayF32(dim.width,dim.height);
 
-	public static class Standard_F32 extends PerformerBase {
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(orig_F32, rand, 0, 100);
+		ImageMiscOps.fillUniform(orig_I32, rand, 0, 100);
 
-		@Override
-		public void process() {
-			WaveletTransformOps.transform1(desc_F32,orig_F32,temp1_F32,temp1_F32);
+		sequenceInput.clear();
+		sequenceOutput.clear();
+		for (int i = 0; i < 8; i++) {
+			GrayF32 image = new GrayF32(imgWidth,imgHeight);
+			ImageMiscOps.fillUniform(image, rand, 0, 255);
+			sequenceInput.add(image);
+			sequenceOutput.add(image.createSameShape());
 		}
 	}
 
-	public static class Naive_I32 extends PerformerBase {
-
-		@Override
-		public void process() {
-			ImplWaveletTransformNaive.horizontal(desc_I32.getBorder(),desc_I32.getForward(),orig_I32,temp1_I32);
-			ImplWaveletTransformNaive.vertical(desc_I32.getBorder(),desc_I32.getForward(),temp1_I32,temp2_I32);
-		}
+	@Benchmark
+	public void Naive_F32() {
+		ImplWaveletTransformNaive.horizontal(desc_F32.getBorder(),desc_F32.getForward(),orig_F32,temp1_F32);
+		ImplWaveletTransformNaive.vertical(desc_F32.getBorder(),desc_F32.getForward(),temp1_F32,temp2_F32);
 	}
 
-	public static class Standard_I32 extends PerformerBase {
-
-		@Override
-		public void process() {
-			WaveletTransformOps.transform1(desc_I32,orig_I32,temp1_I32,temp1_I32);
-		}
+	@Benchmark
+	public void Standard_F32() {
+		WaveletTransformOps.transform1(desc_F32,orig_F32,temp1_F32,temp1_F32);
 	}
 
-	public static class FullLevel3_F32 extends PerformerBase {
+	@Benchmark
+	public void Naive_I32() {
+		ImplWaveletTransformNaive.horizontal(desc_I32.getBorder(),desc_I32.getForward(),orig_I32,temp1_I32);
+		ImplWaveletTransformNaive.vertical(desc_I32.getBorder(),desc_I32.getForward(),temp1_I32,temp2_I32);
+	}
 
-		static GrayF32 copy = new GrayF32(imgWidth,imgHeight);
-		GrayF32 tran;
-		GrayF32 storage;
+	@Benchmark
+	public void Standard_I32() {
+		WaveletTransformOps.transform1(desc_I32,orig_I32,temp1_I32,temp1_I32);
+	}
 
-		public FullLevel3_F32() {
-			ImageDimension dim = UtilWavelet.transformDimension(copy,3);
-			tran = new GrayF32(dim.width,dim.height);
-			storage = new GrayF32(dim.width,dim.height);
-		}
+	@Benchmark
+	public void FullLevel3_F32() {
+		// don't modify the input image
+		copy.setTo(orig_F32);
+		WaveletTransformOps.transformN(desc_F32,copy,tran,storage,3);
+	}
 
-		@Override
-		public void process() {
-			// don't modify the input image
-			copy.setTo(orig_F32);
-			WaveletTransformOps.transformN(desc_F32,copy,tran,storage,3);
+	/**
+	 * Number of images per second which can be denoised when the filter is reused
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@OperationsPerInvocation(8)
+	public void DenoiseSequence_F32() {
+		for (int i = 0; i < sequenceInput.size(); i++) {
+			denoiser.process(sequenceInput.get(i),sequenceOutput.get(i));
 		}
 	}
 
-
-	public static void main(String args[]) {
-
-		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(orig_F32, rand, 0, 100);
-		ImageMiscOps.fillUniform(orig_I32, rand, 0, 100);
-
-		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
-		System.out.println();
-
-		ProfileOperation.printOpsPerSec(new FullLevel3_F32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Naive_F32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Standard_F32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Naive_I32(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new Standard_I32(), TEST_TIME);
+	/**
+	 * Number of images per second which can be denoised when processed as a batch
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.Throughput)
+	@OutputTimeUnit(TimeUnit.SECONDS)
+	@OperationsPerInvocation(8)
+	public void DenoiseBatch_F32() {
+		denoiser.process(sequenceInput,sequenceOutput);
 	}
 }
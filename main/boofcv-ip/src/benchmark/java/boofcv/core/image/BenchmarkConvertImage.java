@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,103 +16,105 @@
  * limitations under the License.
  */
 
+
 package boofcv.core.image;
 
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.GrayS16;
-import boofcv.struct.image.GrayU8;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.misc.BenchmarkImageSize;
+import boofcv.struct.image.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Benchmarks related to functions inside of ConvertImage
  * 
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkConvertImage {
-	static int imgWidth = 640;
-	static int imgHeight = 480;
-
-	static GrayF32 imgFloat32;
-	static GrayU8 imgUInt8;
-	static GrayS16 imgUInt16;
-	static GrayU8 imgSInt8;
-	static GrayS16 imgSInt16;
-
-	public static class Float32toInt8 extends PerformerBase
-	{
-		@Override
-		public void process() {
-			ConvertImage.convert(imgFloat32,imgUInt8);
-		}
-	}
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"3"})
+	public int numBands;
+
+	GrayF32 imgFloat32;
+	GrayU8 imgUInt8;
+	GrayS16 imgSInt16;
 
-	public static class Int8ToFloat32 extends PerformerBase
-	{
-		GrayU8 img;
+	InterleavedU8 interleavedU8;
+	InterleavedF32 interleavedF32;
+	Planar<GrayU8> planarU8;
 
-		public Int8ToFloat32(GrayU8 img) {
-			this.img = img;
-		}
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		int imgWidth = shape.width, imgHeight = shape.height;
 
-		@Override
-		public void process() {
-			ConvertImage.convert(img,imgFloat32);
-		}
+		imgUInt8 = new GrayU8(imgWidth,imgHeight);
+		imgSInt16 = new GrayS16(imgWidth,imgHeight);
+		imgFloat32 = new GrayF32(imgWidth,imgHeight);
+		interleavedU8 = new InterleavedU8(imgWidth,imgHeight,numBands);
+		interleavedF32 = new InterleavedF32(imgWidth,imgHeight,numBands);
+		planarU8 = new Planar<>(GrayU8.class,imgWidth,imgHeight,numBands);
+
+		Random rand = new Random(234);
+		GImageMiscOps.fillUniform(imgUInt8,rand,0,255);
+		GImageMiscOps.fillUniform(imgSInt16,rand,-200,200);
+		GImageMiscOps.fillUniform(imgFloat32,rand,0,255);
+		GImageMiscOps.fillUniform(interleavedU8,rand,0,255);
+		GImageMiscOps.fillUniform(planarU8,rand,0,255);
 	}
 
-	public static class Int16ToFloat32 extends PerformerBase
-	{
-		GrayS16 img;
+	@Benchmark
+	public void Float32toInt8() {
+		ConvertImage.convert(imgFloat32,imgUInt8);
+	}
 
-		public Int16ToFloat32(GrayS16 img) {
-			this.img = img;
-		}
+	@Benchmark
+	public void Int8ToFloat32() {
+		ConvertImage.convert(imgUInt8,imgFloat32);
+	}
 
-		@Override
-		public void process() {
-			ConvertImage.convert(img,imgFloat32);
-		}
+	@Benchmark
+	public void Int16ToFloat32() {
+		ConvertImage.convert(imgSInt16,imgFloat32);
 	}
 
-	public static class Int16ToInt8 extends PerformerBase
-	{
-		GrayS16 img;
+	@Benchmark
+	public void Int16ToInt8() {
+		ConvertImage.convert(imgSInt16,imgUInt8);
+	}
 
-		public Int16ToInt8(GrayS16 img) {
-			this.img = img;
-		}
+	@Benchmark
+	public void InterleavedU8ToF32() {
+		ConvertImage.convert(interleavedU8,interleavedF32);
+	}
 
-		@Override
-		public void process() {
-			ConvertImage.convert(img,imgSInt8);
-		}
+	@Benchmark
+	public void InterleavedToPlanar_U8() {
+		ConvertImage.convert(interleavedU8,planarU8);
 	}
 
-	public static void main( String args[] ) {
-		imgSInt8 = new GrayU8(imgWidth,imgHeight);
-		imgSInt16 = new GrayS16(imgWidth,imgHeight);
-		imgUInt8 = new GrayU8(imgWidth,imgHeight);
-		imgUInt16 = new GrayS16(imgWidth,imgHeight);
-		imgFloat32 = new GrayF32(imgWidth,imgHeight);
+	@Benchmark
+	public void PlanarToInterleaved_U8() {
+		ConvertImage.convert(planarU8,interleavedU8);
+	}
 
-		System.out.println("=========  Profile Image Size "+imgWidth+" x "+imgHeight+" ==========");
-		System.out.println();
-
-		System.out.printf("Float32 to Int8              %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new Float32toInt8(),1000, false));
-		System.out.printf("Int8 to Float32 signed       %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new Int8ToFloat32(imgSInt8),1000, false));
-		System.out.printf("Int8 to Float32 unsigned     %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new Int8ToFloat32(imgUInt8),1000, false));
-		System.out.printf("Int16 to Float32 signed       %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new Int16ToFloat32(imgSInt16),1000, false));
-		System.out.printf("Int16 to Float32 unsigned     %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new Int16ToFloat32(imgUInt16),1000, false));
-		System.out.printf("Int16 to Int8 signed          %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new Int16ToInt8(imgSInt16),1000, false));
-		System.out.printf("Int16 to Int8 unsigned        %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new Int16ToInt8(imgUInt16),1000, false));
+	@Benchmark
+	public void AverageInterleaved_U8() {
+		ConvertImage.average(interleavedU8,imgUInt8);
+	}
 
+	@Benchmark
+	public void AveragePlanar_U8() {
+		ConvertImage.average(planarU8,imgUInt8);
 	}
 }
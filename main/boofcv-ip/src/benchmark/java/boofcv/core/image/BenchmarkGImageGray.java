@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -16,58 +16,64 @@
  * limitations under the License.
  */
 
+
 package boofcv.core.image;
 
 import boofcv.alg.misc.ImageMiscOps;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.misc.BenchmarkImageSize;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageDataType;
 import boofcv.struct.image.ImageGray;
+import org.openjdk.jmh.annotations.*;
 
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Compares the cost of accessing pixels through {@link GImageGray} against direct array access
+ *
  * @author Peter Abeles
  */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@Fork(value=1)
 public class BenchmarkGImageGray {
+	@Param({"640x480","1920x1080"})
+	public String size;
 
-	static int period = 1000;
+	@Param({"U8","F32"})
+	public ImageDataType imageType;
 
-	static int width = 640;
-	static int height = 480;
+	GrayF32 input;
+	ImageGray output;
+	GImageGray wrapped;
 
-	static GrayF32 input = new GrayF32(width,height);
+	@Setup
+	public void setup() {
+		BenchmarkImageSize shape = BenchmarkImageSize.parse(size);
+		input = new GrayF32(shape.width,shape.height);
+		output = GeneralizedImageOps.createSingleBand(imageType,shape.width,shape.height);
+		wrapped = FactoryGImageGray.wrap(output);
 
-	public static class IndexDirect_U8 extends PerformerBase
-	{
-		GrayU8 output;
-
-		public IndexDirect_U8(GrayU8 output) {
-			this.output = output;
-		}
+		ImageMiscOps.fillUniform(input,new Random(234),0,50);
+	}
 
-		@Override
-		public void process() {
+	@Benchmark
+	public void IndexDirect() {
+		if( output instanceof GrayU8 ) {
+			GrayU8 output = (GrayU8)this.output;
 			int index = 0;
 			for( int y = 0; y < input.height; y++ ) {
 				for( int x = 0; x < input.width; x++ , index++) {
 					output.data[index] = (byte)input.data[index];
 				}
 			}
-		}
-	}
-
-	public static class IndexDirect_F32 extends PerformerBase
-	{
-		GrayF32 output;
-
-		public IndexDirect_F32( GrayF32 output) {
-			this.output = output;
-		}
-
-		@Override
-		public void process() {
+		} else {
+			GrayF32 output = (GrayF32)this.output;
 			int index = 0;
 			for( int y = 0; y < input.height; y++ ) {
 				for( int x = 0; x < input.width; x++ , index++) {
@@ -77,67 +83,23 @@ public class BenchmarkGImageGray {
 		}
 	}
 
-	public static class IndexAccess extends PerformerBase
-	{
-		GImageGray output;
-
-		public IndexAccess( ImageGray output) {
-			this.output = FactoryGImageGray.wrap(output);
-		}
-
-		@Override
-		public void process() {
-			int index = 0;
-			for( int y = 0; y < input.height; y++ ) {
-				for( int x = 0; x < input.width; x++ , index++) {
-					output.set(index,input.data[index]);
-				}
+	@Benchmark
+	public void IndexAccess() {
+		int index = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ , index++) {
+				wrapped.set(index,input.data[index]);
 			}
 		}
 	}
 
-	public static class PixelAccess extends PerformerBase
-	{
-		GImageGray output;
-
-		public PixelAccess( ImageGray output) {
-			this.output = FactoryGImageGray.wrap(output);
-		}
-
-		@Override
-		public void process() {
-
-			int index = 0;
-			for( int y = 0; y < input.height; y++ ) {
-				for( int x = 0; x < input.width; x++ , index++) {
-					output.set(x,y,input.data[index]);
-				}
+	@Benchmark
+	public void PixelAccess() {
+		int index = 0;
+		for( int y = 0; y < input.height; y++ ) {
+			for( int x = 0; x < input.width; x++ , index++) {
+				wrapped.set(x,y,input.data[index]);
 			}
 		}
 	}
-
-	public static void main( String args[] ) {
-		GrayF32 output_F32 = new GrayF32(width,height);
-		GrayU8 output_U8 = new GrayU8(width,height);
-
-		Random rand = new Random(234);
-
-		ImageMiscOps.fillUniform(input,rand,0,50);
-
-		System.out.println("=========  Profile Image Size "+width+" x "+height+" ==========");
-		System.out.println();
-
-		System.out.printf("Direct  U8          %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new IndexDirect_U8(output_U8), period, false));
-		System.out.printf("Wrapped U8 Index    %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new IndexAccess(output_U8),period, false));
-		System.out.printf("Wrapped U8 Pixel    %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new PixelAccess(output_U8),period, false));
-		System.out.printf("Direct  F32         %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new IndexDirect_F32(output_F32), period, false));
-		System.out.printf("Wrapped F32 Index   %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new IndexAccess(output_F32),period, false));
-		System.out.printf("Wrapped F32 Pixel   %10.2f ops/sec\n",
-				ProfileOperation.profileOpsPerSec(new PixelAccess(output_F32),period, false));
-	}
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.misc;
+
+/**
+ * Image shape used by JMH benchmarks.  Benchmarks declare a String {@code @Param} with values like "640x480"
+ * so that the image size can be changed from the command line, e.g. "-p size=3000x2000".
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkImageSize {
+	public final int width;
+	public final int height;
+
+	public BenchmarkImageSize(int width, int height) {
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Parses a string of the form "WIDTHxHEIGHT"
+	 */
+	public static BenchmarkImageSize parse( String size ) {
+		String words[] = size.toLowerCase().split("x");
+		if( words.length != 2 )
+			throw new IllegalArgumentException("Expected image size of the form WIDTHxHEIGHT, not "+size);
+		return new BenchmarkImageSize(Integer.parseInt(words[0].trim()),Integer.parseInt(words[1].trim()));
+	}
+
+	@Override
+	public String toString() {
+		return width+"x"+height;
+	}
+}
@@ -46,6 +46,8 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 		printInner(AutoTypeImage.U8);
 		printInner(AutoTypeImage.U16);
 
+		clipHistogram();
+
 		out.print("\n" +
 				"}\n");
 	}
@@ -56,6 +58,7 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 		equalizeLocalRow(image);
 		equalizeLocalCol(image);
 		localHistogram(image);
+		equalizeTiles(image);
 	}
 
 	private void printPreamble() {
@@ -72,7 +75,11 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 				" *\n" +
 				" * @author Peter Abeles\n" +
 				" */\n" +
-				"public class "+className+" {\n\n");
+				"public class "+className+" {\n" +
+				"\n" +
+				"\t//CONCURRENT_INLINE // the histogram for each block is leased so that it's not declared each time\n" +
+				"\t//CONCURRENT_INLINE private static final ImageType<GrayS32> HISTOGRAM = ImageType.single(GrayS32.class);\n" +
+				"\n");
 	}
 
 	private void applyTransform_U( AutoTypeImage image ) {
@@ -80,6 +87,7 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 		String bitwise = image.getBitWise();
 
 		out.print("\tpublic static void applyTransform( "+image.getSingleBandName()+" input , int transform[] , "+image.getSingleBandName()+" output ) {\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, i -> {\n" +
 				"\t\tfor( int i = 0; i < input.height; i++ ) {\n" +
 				"\t\t\tint indexInput = input.startIndex + i*input.stride;\n" +
 				"\t\t\tint indexOutput = output.startIndex + i*output.stride;\n" +
@@ -88,6 +96,7 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 				"\t\t\t\toutput.data[indexOutput++] = "+typecast+"transform[input.data[indexInput++] "+bitwise+"];\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -95,6 +104,7 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 		String typecast = image.getTypeCastFromSum();
 
 		out.print("\tpublic static void applyTransform( "+image.getSingleBandName()+" input , int transform[] , int minValue , "+image.getSingleBandName()+" output ) {\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, i -> {\n" +
 				"\t\tfor( int i = 0; i < input.height; i++ ) {\n" +
 				"\t\t\tint indexInput = input.startIndex + i*input.stride;\n" +
 				"\t\t\tint indexOutput = output.startIndex + i*output.stride;\n" +
@@ -103,6 +113,7 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 				"\t\t\t\toutput.data[indexOutput++] = "+typecast+"transform[input.data[indexInput++]- minValue];\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -187,14 +198,19 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 				"\t\tint area = width*width;\n" +
 				"\t\tint maxValue = histogram.length-1;\n" +
 				"\n" +
+				"\t\t//CONCURRENT_INLINE BoofConcurrency.loopBlocks(radius,input.height-radius,(y0,y1)->{\n" +
+				"\t\t//CONCURRENT_INLINE final GrayS32 work = ImagePool.getDefault().acquire(HISTOGRAM,histogram.length,1);\n" +
+				"\t\t//CONCURRENT_BELOW final int[] h = work.data;\n" +
+				"\t\tfinal int[] h = histogram;\n" +
+				"\t\t//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {\n" +
 				"\t\tfor( int y = radius; y < input.height-radius; y++ ) {\n" +
-				"\t\t\tlocalHistogram(input,0,y-radius,width,y+radius+1,histogram);\n" +
+				"\t\t\tlocalHistogram(input,0,y-radius,width,y+radius+1,h);\n" +
 				"\n" +
 				"\t\t\t// compute equalized pixel value using the local histogram\n" +
 				"\t\t\tint inputValue = input.unsafe_get(radius, y);\n" +
 				"\t\t\tint sum = 0;\n" +
 				"\t\t\tfor( int i = 0; i <= inputValue; i++ ) {\n" +
-				"\t\t\t\tsum += histogram[i];\n" +
+				"\t\t\t\tsum += h[i];\n" +
 				"\t\t\t}\n" +
 				"\n" +
 				"\t\t\toutput.set(radius,y, (sum*maxValue)/area );\n" +
@@ -211,19 +227,19 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 				"\n" +
 				"\t\t\t\t// update local histogram by removing the left column\n" +
 				"\t\t\t\tfor( int i = -radius; i <= radius; i++ ) {\n" +
-				"\t\t\t\t\thistogram[input.data[indexOld + i*input.stride] "+bitwise+"]--;\n" +
+				"\t\t\t\t\th[input.data[indexOld + i*input.stride] "+bitwise+"]--;\n" +
 				"\t\t\t\t}\n" +
 				"\n" +
 				"\t\t\t\t// update local histogram by adding the right column\n" +
 				"\t\t\t\tfor( int i = -radius; i <= radius; i++ ) {\n" +
-				"\t\t\t\t\thistogram[input.data[indexNew + i*input.stride] "+bitwise+"]++;\n" +
+				"\t\t\t\t\th[input.data[indexNew + i*input.stride] "+bitwise+"]++;\n" +
 				"\t\t\t\t}\n" +
 				"\n" +
 				"\t\t\t\t// compute equalized pixel value using the local histogram\n" +
 				"\t\t\t\tinputValue =  input.data[indexIn++] "+bitwise+";\n" +
 				"\t\t\t\tsum = 0;\n" +
 				"\t\t\t\tfor( int i = 0; i <= inputValue; i++ ) {\n" +
-				"\t\t\t\t\tsum += histogram[i];\n" +
+				"\t\t\t\t\tsum += h[i];\n" +
 				"\t\t\t\t}\n" +
 				"\n" +
 				"\t\t\t\toutput.data[indexOut++] = "+typecast+"((sum*maxValue)/area);\n" +
@@ -232,6 +248,8 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 				"\t\t\t\tindexNew++;\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_INLINE ImagePool.getDefault().release(work);\n" +
+				"\t\t//CONCURRENT_INLINE });\n" +
 				"\t}\n\n");
 	}
 
@@ -429,6 +447,144 @@ public class GenerateImplEnhanceHistogram extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void equalizeTiles( AutoTypeImage image ) {
+		String name = image.getSingleBandName();
+		String typecast = image.getTypeCastFromSum();
+		String bitwise = image.getBitWise();
+
+		out.print("\t/**\n" +
+				"\t * Computes the equalization transform of each tile for contrast limited adaptive histogram equalization.\n" +
+				"\t * Tile (tx,ty) contains columns tx*width/tilesX to (tx+1)*width/tilesX and the equivalent rows. Its\n" +
+				"\t * transform is saved in transforms starting at index (ty*tilesX + tx)*histogram.length.\n" +
+				"\t *\n" +
+				"\t * @param clipLimit Maximum number of counts in a histogram bin relative to the average. If &le; 0 then\n" +
+				"\t *                  there is no limit.\n" +
+				"\t */\n" +
+				"\tpublic static void equalizeTilesTransforms( "+name+" input , int tilesX , int tilesY , double clipLimit ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t\tint histogram[] , int transforms[] ) {\n" +
+				"\t\tfinal int numBins = histogram.length;\n" +
+				"\t\tfinal int maxValue = numBins-1;\n" +
+				"\n" +
+				"\t\t//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,tilesX*tilesY,(i0,i1)->{\n" +
+				"\t\t//CONCURRENT_INLINE final GrayS32 work = ImagePool.getDefault().acquire(HISTOGRAM,numBins,1);\n" +
+				"\t\t//CONCURRENT_BELOW final int[] h = work.data;\n" +
+				"\t\tfinal int[] h = histogram;\n" +
+				"\t\t//CONCURRENT_BELOW for( int tile = i0; tile < i1; tile++ ) {\n" +
+				"\t\tfor( int tile = 0; tile < tilesX*tilesY; tile++ ) {\n" +
+				"\t\t\tint tx = tile%tilesX;\n" +
+				"\t\t\tint ty = tile/tilesX;\n" +
+				"\t\t\tint x0 = tx*input.width/tilesX;\n" +
+				"\t\t\tint x1 = (tx+1)*input.width/tilesX;\n" +
+				"\t\t\tint y0 = ty*input.height/tilesY;\n" +
+				"\t\t\tint y1 = (ty+1)*input.height/tilesY;\n" +
+				"\n" +
+				"\t\t\tlocalHistogram(input,x0,y0,x1,y1,h);\n" +
+				"\n" +
+				"\t\t\tint area = (x1-x0)*(y1-y0);\n" +
+				"\t\t\tif( clipLimit > 0 )\n" +
+				"\t\t\t\tclipHistogram(h,Math.max(1,(int)(clipLimit*area/numBins)));\n" +
+				"\n" +
+				"\t\t\tint offset = tile*numBins;\n" +
+				"\t\t\tlong sum = 0;\n" +
+				"\t\t\tfor( int i = 0; i < numBins; i++ ) {\n" +
+				"\t\t\t\tsum += h[i];\n" +
+				"\t\t\t\ttransforms[offset+i] = (int)((sum*maxValue)/area);\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\t//CONCURRENT_INLINE ImagePool.getDefault().release(work);\n" +
+				"\t\t//CONCURRENT_INLINE });\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Applies the tile transforms computed by equalizeTilesTransforms() to the image. The output value of each\n" +
+				"\t * pixel is found by bilinear interpolation between the transforms of the four closest tile centers.\n" +
+				"\t */\n" +
+				"\tpublic static void equalizeTilesApply( "+name+" input , int tilesX , int tilesY , int numBins ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t   int transforms[] , "+name+" output ) {\n" +
+				"\t\t// horizontal tile offsets and weight are the same for every row\n" +
+				"\t\tfinal int[] columnOffset0 = new int[input.width];\n" +
+				"\t\tfinal int[] columnOffset1 = new int[input.width];\n" +
+				"\t\tfinal float[] columnWeight = new float[input.width];\n" +
+				"\t\tfor( int x = 0; x < input.width; x++ ) {\n" +
+				"\t\t\tfloat fx = (x+0.5f)*tilesX/input.width - 0.5f;\n" +
+				"\t\t\tint tx0 = (int)Math.floor(fx);\n" +
+				"\t\t\tfloat wx = fx - tx0;\n" +
+				"\t\t\tif( tx0 < 0 ) {\n" +
+				"\t\t\t\ttx0 = 0; wx = 0;\n" +
+				"\t\t\t} else if( tx0 >= tilesX-1 ) {\n" +
+				"\t\t\t\ttx0 = tilesX-1; wx = 0;\n" +
+				"\t\t\t}\n" +
+				"\t\t\tcolumnOffset0[x] = tx0*numBins;\n" +
+				"\t\t\tcolumnOffset1[x] = Math.min(tx0+1,tilesX-1)*numBins;\n" +
+				"\t\t\tcolumnWeight[x] = wx;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {\n" +
+				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				"\t\t\tfloat fy = (y+0.5f)*tilesY/input.height - 0.5f;\n" +
+				"\t\t\tint ty0 = (int)Math.floor(fy);\n" +
+				"\t\t\tfloat wy = fy - ty0;\n" +
+				"\t\t\tif( ty0 < 0 ) {\n" +
+				"\t\t\t\tty0 = 0; wy = 0;\n" +
+				"\t\t\t} else if( ty0 >= tilesY-1 ) {\n" +
+				"\t\t\t\tty0 = tilesY-1; wy = 0;\n" +
+				"\t\t\t}\n" +
+				"\t\t\tint rowOffset0 = ty0*tilesX*numBins;\n" +
+				"\t\t\tint rowOffset1 = Math.min(ty0+1,tilesY-1)*tilesX*numBins;\n" +
+				"\n" +
+				"\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
+				"\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
+				"\n" +
+				"\t\t\tfor( int x = 0; x < input.width; x++ ) {\n" +
+				"\t\t\t\tint value = input.data[indexIn++] "+bitwise+";\n" +
+				"\t\t\t\tfloat wx = columnWeight[x];\n" +
+				"\n" +
+				"\t\t\t\tfloat top = (1.0f-wx)*transforms[rowOffset0+columnOffset0[x]+value] +\n" +
+				"\t\t\t\t\t\twx*transforms[rowOffset0+columnOffset1[x]+value];\n" +
+				"\t\t\t\tfloat bottom = (1.0f-wx)*transforms[rowOffset1+columnOffset0[x]+value] +\n" +
+				"\t\t\t\t\t\twx*transforms[rowOffset1+columnOffset1[x]+value];\n" +
+				"\n" +
+				"\t\t\t\toutput.data[indexOut++] = "+typecast+"((1.0f-wy)*top + wy*bottom + 0.5f);\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
+				"\t}\n" +
+				"\n");
+	}
+
+	private void clipHistogram() {
+		out.print("\t/**\n" +
+				"\t * Clips the histogram so that no bin has more than limit counts. The clipped counts are redistributed\n" +
+				"\t * evenly across all the bins so that the total number of counts doesn't change.\n" +
+				"\t */\n" +
+				"\tpublic static void clipHistogram( int histogram[] , int limit ) {\n" +
+				"\t\tint excess = 0;\n" +
+				"\t\tfor( int i = 0; i < histogram.length; i++ ) {\n" +
+				"\t\t\tif( histogram[i] > limit ) {\n" +
+				"\t\t\t\texcess += histogram[i] - limit;\n" +
+				"\t\t\t\thistogram[i] = limit;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\tif( excess == 0 )\n" +
+				"\t\t\treturn;\n" +
+				"\n" +
+				"\t\tint increment = excess/histogram.length;\n" +
+				"\t\tfor( int i = 0; i < histogram.length; i++ ) {\n" +
+				"\t\t\thistogram[i] += increment;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t// spread out what's left over\n" +
+				"\t\tint remainder = excess - increment*histogram.length;\n" +
+				"\t\tif( remainder > 0 ) {\n" +
+				"\t\t\tint step = Math.max(1,histogram.length/remainder);\n" +
+				"\t\t\tfor( int i = 0; i < histogram.length && remainder > 0; i += step, remainder-- ) {\n" +
+				"\t\t\t\thistogram[i]++;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImplEnhanceHistogram app = new GenerateImplEnhanceHistogram();
 		app.generate();
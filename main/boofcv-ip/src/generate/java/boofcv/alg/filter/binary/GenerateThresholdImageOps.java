@@ -42,15 +42,23 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 		printLocal(AutoTypeImage.U8);
 		printLocal(AutoTypeImage.F32);
 
+		printThresholdPacked(AutoTypeImage.U8);
+		printThresholdPacked(AutoTypeImage.F32);
+
 		out.print("\n" +
 				"}\n");
 	}
 
 	private void printPreamble() throws FileNotFoundException {
 		out.print("import boofcv.alg.InputSanityCheck;\n" +
-				"import boofcv.struct.image.*;\n" +
+				"import boofcv.alg.filter.binary.impl.ImplBinaryPackedOps;\n" +
+				"import boofcv.alg.filter.binary.impl.ImplBinaryPackedOps_MT;\n" +
+				"import boofcv.alg.filter.binary.impl.ImplThresholdImageOps;\n" +
+				"import boofcv.alg.filter.binary.impl.ImplThresholdImageOps_MT;\n" +
 				"import boofcv.alg.filter.blur.BlurImageOps;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"import boofcv.struct.ConfigLength;\n" +
+				"import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>\n" +
@@ -93,24 +101,41 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 				"\t{\n" +
 				"\t\toutput = InputSanityCheck.checkDeclare(input,output,GrayU8.class);\n" +
 				"\n" +
-				"\t\tif( down ) {\n" +
-				"\t\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
-				"\t\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
-				"\n" +
-				"\t\t\t\tfor( int i = input.width; i>0; i-- ) {\n" +
-				"\t\t\t\t\toutput.data[indexOut++] = (byte)((input.data[indexIn++]"+imageIn.getBitWise()+") <= threshold ? 1 : 0);\n" +
-				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplThresholdImageOps_MT.threshold(input,output,threshold,down);\n" +
 				"\t\t} else {\n" +
-				"\t\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
-				"\t\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
+				"\t\t\tImplThresholdImageOps.threshold(input,output,threshold,down);\n" +
+				"\t\t}\n" +
 				"\n" +
-				"\t\t\t\tfor( int i = input.width; i>0; i-- ) {\n" +
-				"\t\t\t\t\toutput.data[indexOut++] = (byte)((input.data[indexIn++]"+imageIn.getBitWise()+") > threshold ? 1 : 0);\n" +
-				"\t\t\t\t}\n" +
-				"\t\t\t}\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+	}
+
+	public void printThresholdPacked( AutoTypeImage imageIn ) {
+		out.print("\t/**\n" +
+				"\t * Applies a global threshold across the whole image and writes the results directly into a\n" +
+				"\t * {@link PackedBinaryImage}.  If 'down' is true, then pixels with values <= to 'threshold' are set to 1\n" +
+				"\t * and the others set to 0.  If 'down' is false, then pixels with values > to 'threshold' are set to 1\n" +
+				"\t * and the others set to 0.\n" +
+				"\t *\n" +
+				"\t * @param input Input image. Not modified.\n" +
+				"\t * @param output (Optional) Packed binary output image. If null a new image will be declared. Reshaped. Modified.\n" +
+				"\t * @param threshold threshold value.\n" +
+				"\t * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.\n" +
+				"\t * @return Output image.\n" +
+				"\t */\n" +
+				"\tpublic static PackedBinaryImage thresholdPacked( "+imageIn.getSingleBandName()+" input , PackedBinaryImage output ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t\t\t "+imageIn.getSumType()+" threshold , boolean down )\n" +
+				"\t{\n" +
+				"\t\tif( output == null )\n" +
+				"\t\t\toutput = new PackedBinaryImage(input.width,input.height);\n" +
+				"\t\telse\n" +
+				"\t\t\toutput.reshape(input.width,input.height);\n" +
+				"\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplBinaryPackedOps_MT.threshold(input,output,threshold,down);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplBinaryPackedOps.threshold(input,output,threshold,down);\n" +
 				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
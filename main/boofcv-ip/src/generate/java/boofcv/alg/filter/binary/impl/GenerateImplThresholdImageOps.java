@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+
+import java.io.FileNotFoundException;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class GenerateImplThresholdImageOps extends CodeGeneratorBase {
+	@Override
+	public void generate() throws FileNotFoundException {
+		printPreamble();
+
+		printThreshold(AutoTypeImage.F32);
+		printThreshold(AutoTypeImage.F64);
+		printThreshold(AutoTypeImage.U8);
+		printThreshold(AutoTypeImage.S16);
+		printThreshold(AutoTypeImage.U16);
+		printThreshold(AutoTypeImage.S32);
+
+		out.print("}\n");
+	}
+
+	private void printPreamble() throws FileNotFoundException {
+		out.print("import boofcv.struct.image.*;\n" +
+				"\n" +
+				"import javax.annotation.Generated;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Implementations of functions for {@link boofcv.alg.filter.binary.ThresholdImageOps}. Input images\n" +
+				" * are assumed to be the correct shape.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
+				" * WARNING: Do not modify.  Automatically generated by "+getClass().getSimpleName()+".\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				generatedString() +
+				"public class "+className+" {\n\n");
+	}
+
+	public void printThreshold( AutoTypeImage imageIn ) {
+		out.print("\tpublic static void threshold( "+imageIn.getSingleBandName()+" input , GrayU8 output ,\n" +
+				"\t\t\t\t\t\t\t\t  "+imageIn.getSumType()+" threshold , boolean down )\n" +
+				"\t{\n" +
+				"\t\tif( down ) {\n" +
+				"\t\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {\n" +
+				"\t\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				"\t\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
+				"\t\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
+				"\n" +
+				"\t\t\t\tfor( int i = input.width; i>0; i-- ) {\n" +
+				"\t\t\t\t\toutput.data[indexOut++] = (byte)((input.data[indexIn++]"+imageIn.getBitWise()+") <= threshold ? 1 : 0);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t\t//CONCURRENT_ABOVE });\n" +
+				"\t\t} else {\n" +
+				"\t\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {\n" +
+				"\t\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				"\t\t\t\tint indexIn = input.startIndex + y*input.stride;\n" +
+				"\t\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
+				"\n" +
+				"\t\t\t\tfor( int i = input.width; i>0; i-- ) {\n" +
+				"\t\t\t\t\toutput.data[indexOut++] = (byte)((input.data[indexIn++]"+imageIn.getBitWise()+") > threshold ? 1 : 0);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t\t//CONCURRENT_ABOVE });\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	public static void main(String args[]) throws FileNotFoundException {
+		GenerateImplThresholdImageOps gen = new GenerateImplThresholdImageOps();
+		gen.generate();
+	}
+}
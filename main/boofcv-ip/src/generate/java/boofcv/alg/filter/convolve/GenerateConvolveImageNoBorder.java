@@ -57,6 +57,7 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 		out.print(
 				"import boofcv.alg.InputSanityCheck;\n" +
 				"import boofcv.alg.filter.convolve.noborder.*;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"import boofcv.struct.convolve.*;\n" +
 				"import boofcv.struct.image.*;\n");
 		out.println();
@@ -140,8 +141,14 @@ public class GenerateConvolveImageNoBorder extends CodeGeneratorBase {
 				"\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\n");
 		if( singleBand ) {
-			out.print("\t\tif (!ConvolveImageUnrolled_"+typeIn+"_"+typeOut+divideSuf+"."+name+"(kernel, input, output"+divideInput+"))\n" +
-					"\t\t\tConvolveImageStandard_SB."+name+"(kernel, input, output"+divideInput+");\n");
+			String unrolled = "ConvolveImageUnrolled_SB_"+typeIn+"_"+typeOut+divideSuf;
+			out.print("\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+					"\t\t\tif (!"+unrolled+"_MT."+name+"(kernel, input, output"+divideInput+"))\n" +
+					"\t\t\t\tConvolveImageStandard_SB_MT."+name+"(kernel, input, output"+divideInput+");\n" +
+					"\t\t} else {\n" +
+					"\t\t\tif (!"+unrolled+"."+name+"(kernel, input, output"+divideInput+"))\n" +
+					"\t\t\t\tConvolveImageStandard_SB."+name+"(kernel, input, output"+divideInput+");\n" +
+					"\t\t}\n");
 		} else {
 			out.print("\t\tConvolveImageStandard_IL."+name+"(kernel, input, output"+divideInput+");\n");
 		}
@@ -126,6 +126,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 		out.print("\n" +
 				"\t\tfinal int width = image.getWidth();\n" +
 				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {\n" +
 				"\t\tfor( int i = 0; i < image.height; i++ ) {\n" +
 				"\t\t\tint indexDst = dest.startIndex + i*dest.stride+offset;\n" +
 				"\t\t\tint j = image.startIndex + i*image.stride;\n" +
@@ -140,6 +141,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				"\t\t\t\tdataDst[indexDst++] = " + typeCast + totalDiv + ";\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -164,6 +166,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int yEnd = imgHeight-(kernelWidth-offset-1);\n" +
 				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {\n" +
 				"\t\tfor( int y = offset; y < yEnd; y++ ) {\n" +
 				"\t\t\tint indexDst = dest.startIndex+y*dest.stride;\n" +
 				"\t\t\tint i = image.startIndex + (y-offset)*image.stride;\n" +
@@ -179,6 +182,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				"\t\t\t\tdataDst[indexDst++] = " + typeCast + totalDiv + ";\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -202,6 +206,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				"\t\tint offsetL = kernel.offset;\n" +
 				"\t\tint offsetR = kernel.width-kernel.offset-1;\n" +
 				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(offsetL, height-offsetR, y -> {\n" +
 				"\t\tfor( int y = offsetL; y < height-offsetR; y++ ) {\n" +
 				"\t\t\tint indexDst = dest.startIndex + y*dest.stride+offsetL;\n" +
 				"\t\t\tfor( int x = offsetL; x < width-offsetR; x++ ) {\n" +
@@ -217,6 +222,7 @@ public class GenerateConvolveImageStandard_SB extends CodeGeneratorBase {
 				"\t\t\t\tdataDst[indexDst++] = " + typeCast + totalDiv + ";\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -44,6 +44,10 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 	String declareHalf;
 	String divide;
 
+	public GenerateConvolvedUnrolled_SB() {
+		super(false);
+	}
+
 	@Override
 	public void generate() throws FileNotFoundException {
 		create(AutoTypeImage.F32,AutoTypeImage.F32,false);
@@ -80,6 +84,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 	}
 
 	public void createFile( String fileName ) throws FileNotFoundException {
+		className = null;
 		setOutputFile(fileName);
 		printPreamble();
 		createMaster("horizontal",1,hasDivisor);
@@ -194,6 +199,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\t\tfinal int width = image.getWidth();\n" +
 				(hasDivisor ? declareHalf : "")+
 				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {\n" +
 				"\t\tfor( int i = 0; i < image.height; i++ ) {\n" +
 				"\t\t\tint indexDst = dest.startIndex + i*dest.stride+radius;\n" +
 				"\t\t\tint j = image.startIndex + i*image.stride - radius;\n" +
@@ -215,6 +221,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 
 		out.print("\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -244,6 +251,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int yEnd = imgHeight-radius;\n" +
 				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {\n" +
 				"\t\tfor( int y = radius; y < yEnd; y++ ) {\n" +
 				"\t\t\tint indexDst = dest.startIndex+y*dest.stride;\n" +
 				"\t\t\tint i = image.startIndex + (y-radius)*image.stride;\n" +
@@ -264,6 +272,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 			out.print("\t\t\t\tdataDst[indexDst++] = " + typeCast + "total;\n");
 		out.print("\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -281,6 +290,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\n" +
 				"\t\tfinal int kernelRadius = kernel.getRadius();\n" +
 				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {\n" +
 				"\t\tfor( int y = kernelRadius; y < height-kernelRadius; y++ ) {\n" +
 				"\n" +
 				"\t\t\t// first time through the value needs to be set\n");
@@ -324,6 +334,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -341,8 +352,12 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				declareHalf +
 				"\n" +
 				"\t\tfinal int kernelRadius = kernel.getRadius();\n");
+		out.print("\t\t//CONCURRENT_REMOVE_BELOW\n");
 		out.print("\t\tfinal "+sumType+" totalRow[] = new int[ width ];\n");
 		out.print("\n" +
+				"\t\t//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{\n" +
+				"\t\t//CONCURRENT_INLINE final "+sumType+" totalRow[] = new int[ width ];\n" +
+				"\t\t//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {\n" +
 				"\t\tfor( int y = kernelRadius; y < height-kernelRadius; y++ ) {\n" +
 				"\n" +
 				"\t\t\t// first time through the value needs to be set\n");
@@ -388,6 +403,7 @@ public class GenerateConvolvedUnrolled_SB extends CodeGeneratorBase {
 				"\t\t\t\tdataDst[indexDst++] = "+typeCast+"((totalRow[x]+halfDivisor)/ divisor);\n" +
 				"\t\t\t}\n"+
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_INLINE });\n" +
 				"\t}\n\n");
 	}
 
@@ -75,7 +75,9 @@ public class GenerateImplConvolveMean {
 				" * @author Peter Abeles\n" +
 				" */\n" +
 				"@Generated({\""+getClass().getCanonicalName()+"\"})\n" +
-				"public class " + className + " {\n\n");
+				"public class " + className + " {\n\n" +
+				"\t// minimum number of rows in a block processed by vertical()\n" +
+				"\tprivate static final int MIN_BLOCK_ROWS = 128;\n\n");
 	}
 
 	public void printHorizontal() {
@@ -93,6 +95,7 @@ public class GenerateImplConvolveMean {
 				"\t\tfinal " + sumType + " divisor = kernelWidth;\n" +
 				declareHalf +
 				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {\n" +
 				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
 				"\t\t\tint indexIn = input.startIndex + input.stride*y;\n" +
 				"\t\t\tint indexOut = output.startIndex + output.stride*y + radius;\n" +
@@ -114,6 +117,7 @@ public class GenerateImplConvolveMean {
 				"\t\t\t\toutput.data[indexOut++] = " + typeCast + "("+divide+");\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -133,33 +137,47 @@ public class GenerateImplConvolveMean {
 				"\n" +
 				"\t\t"+sumType+" divisor = kernelWidth;\n" +
 				declareHalf +
+				"\t\t// The running sums are restarted at the first row in each block. Blocks don't depend on the number\n" +
+				"\t\t// of threads, which ensures the concurrent implementation produces identical results.\n" +
+				"\t\tfinal int blockRows = Math.max(MIN_BLOCK_ROWS,8*kernelWidth);\n" +
+				"\t\tfinal int numBlocks = Math.max(0,(output.height-2*radius+blockRows-1)/blockRows);\n" +
+				"\t\t//CONCURRENT_REMOVE_BELOW\n" +
 				"\t\t"+sumType+" totals[] = new "+sumType+"[ input.width ];\n" +
 				"\n" +
-				"\t\tfor( int x = 0; x < input.width; x++ ) {\n" +
-				"\t\t\tint indexIn = input.startIndex + x;\n" +
-				"\t\t\tint indexOut = output.startIndex + output.stride*radius + x;\n" +
+				"\t\t//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, numBlocks, (block0,block1)->{\n" +
+				"\t\t//CONCURRENT_INLINE final "+sumType+" totals[] = new "+sumType+"[ input.width ];\n" +
+				"\t\t//CONCURRENT_BELOW for( int block = block0; block < block1; block++ ) {\n" +
+				"\t\tfor( int block = 0; block < numBlocks; block++ ) {\n" +
+				"\t\t\tfinal int y0 = radius + block*blockRows;\n" +
+				"\t\t\tfinal int y1 = Math.min(output.height-radius,y0+blockRows);\n" +
 				"\n" +
-				"\t\t\t"+sumType+" total = 0;\n" +
-				"\t\t\tint indexEnd = indexIn + input.stride*kernelWidth;\n" +
-				"\t\t\tfor( ; indexIn < indexEnd; indexIn += input.stride) {\n" +
-				"\t\t\t\ttotal += input.data[indexIn] "+bitWise+";\n" +
+				"\t\t\tfor( int x = 0; x < input.width; x++ ) {\n" +
+				"\t\t\t\tint indexIn = input.startIndex + (y0-radius)*input.stride + x;\n" +
+				"\t\t\t\tint indexOut = output.startIndex + output.stride*y0 + x;\n" +
+				"\n" +
+				"\t\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\t\tint indexEnd = indexIn + input.stride*kernelWidth;\n" +
+				"\t\t\t\tfor( ; indexIn < indexEnd; indexIn += input.stride) {\n" +
+				"\t\t\t\t\ttotal += input.data[indexIn] "+bitWise+";\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t\ttotals[x] = total;\n" +
+				"\t\t\t\toutput.data[indexOut] = "+typeCast+"("+divide+");\n" +
 				"\t\t\t}\n" +
-				"\t\t\ttotals[x] = total;\n" +
-				"\t\t\toutput.data[indexOut] = "+typeCast+"("+divide+");\n" +
-				"\t\t}\n" +
 				"\n" +
-				"\t\t// change the order it is processed in to reduce cache misses\n" +
-				"\t\tfor( int y = radius+1; y < output.height-radius; y++ ) {\n" +
-				"\t\t\tint indexIn = input.startIndex + (y+radius)*input.stride;\n" +
-				"\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
+				"\t\t\t// change the order it is processed in to reduce cache misses\n" +
+				"\t\t\tfor( int y = y0+1; y < y1; y++ ) {\n" +
+				"\t\t\t\tint indexIn = input.startIndex + (y+radius)*input.stride;\n" +
+				"\t\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
 				"\n" +
-				"\t\t\tfor( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {\n" +
-				"\t\t\t\t"+sumType+" total = totals[ x ]  - (input.data[ indexIn - backStep ]"+bitWise+");\n" +
-				"\t\t\t\ttotals[ x ] = total += input.data[ indexIn ]"+bitWise+";\n" +
+				"\t\t\t\tfor( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {\n" +
+				"\t\t\t\t\t"+sumType+" total = totals[ x ]  - (input.data[ indexIn - backStep ]"+bitWise+");\n" +
+				"\t\t\t\t\ttotals[ x ] = total += input.data[ indexIn ]"+bitWise+";\n" +
 				"\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"("+divide+");\n" +
+				"\t\t\t\t\toutput.data[indexOut] = "+typeCast+"("+divide+");\n" +
+				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_INLINE });\n" +
 				"\t}\n\n");
 	}
 
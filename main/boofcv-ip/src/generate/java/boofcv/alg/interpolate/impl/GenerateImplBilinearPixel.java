@@ -57,6 +57,7 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 		f = !image.isInteger() && image.getNumBits()==64 ? "" : "f";
 
 		printPreamble();
+		printBatch();
 		printTheRest();
 		out.println("}");
 	}
@@ -92,6 +93,91 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 
 	}
 
+	private void printBatch() {
+		String bitWise = image.getBitWise();
+		String cast = floatType.equals("double") ? "(float)" : "";
+
+		out.print("\t@Override\n" +
+				"\tpublic void getBatch(float[] points, int count, float[] values) {\n" +
+				"\t\tfinal "+image.getDataType()+"[] data = orig.data;\n" +
+				"\n" +
+				"\t\tfor (int i = 0, j = 0; i < count; i++, j += 2) {\n" +
+				"\t\t\tfloat x = points[j];\n" +
+				"\t\t\tfloat y = points[j+1];\n" +
+				"\n" +
+				"\t\t\tif (x < 0 || y < 0 || x > width-2 || y > height-2) {\n" +
+				"\t\t\t\tvalues[i] = get_border(x,y);\n" +
+				"\t\t\t\tcontinue;\n" +
+				"\t\t\t}\n" +
+				"\n" +
+				"\t\t\tint xt = (int) x;\n" +
+				"\t\t\tint yt = (int) y;\n" +
+				"\t\t\t"+floatType+" ax = x - xt;\n" +
+				"\t\t\t"+floatType+" ay = y - yt;\n" +
+				"\n" +
+				"\t\t\tint index = orig.startIndex + yt * stride + xt;\n" +
+				"\n" +
+				"\t\t\t"+floatType+" val = (1.0"+f+" - ax) * (1.0"+f+" - ay) * (data[index] "+bitWise+"); // (x,y)\n" +
+				"\t\t\tval += ax * (1.0"+f+" - ay) * (data[index + 1] "+bitWise+"); // (x+1,y)\n" +
+				"\t\t\tval += ax * ay * (data[index + 1 + stride] "+bitWise+"); // (x+1,y+1)\n" +
+				"\t\t\tval += (1.0"+f+" - ax) * ay * (data[index + stride] "+bitWise+"); // (x,y+1)\n" +
+				"\n" +
+				"\t\t\tvalues[i] = "+cast+"val;\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void getGrid(float x0, float y0, float stepX, float stepY, int cols, int rows, float[] values) {\n" +
+				"\t\tif( cols <= 0 || rows <= 0 )\n" +
+				"\t\t\treturn;\n" +
+				"\n" +
+				"\t\t// the grid is axis aligned so it's entirely inside the fast bounds if two opposite corners are\n" +
+				"\t\tif( !isInFastBounds(x0, y0) || !isInFastBounds(x0 + stepX*(cols-1), y0 + stepY*(rows-1)) ) {\n" +
+				"\t\t\tfor (int row = 0, i = 0; row < rows; row++) {\n" +
+				"\t\t\t\tfloat y = y0 + stepY*row;\n" +
+				"\t\t\t\tfor (int col = 0; col < cols; col++) {\n" +
+				"\t\t\t\t\tvalues[i++] = get(x0 + stepX*col, y);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t\treturn;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t// the horizontal offset and weight are the same in every row\n" +
+				"\t\tgridColumnIndex.resize(cols);\n" +
+				"\t\tgridColumnWeight.resize(cols);\n" +
+				"\t\tfor (int col = 0; col < cols; col++) {\n" +
+				"\t\t\tfloat x = x0 + stepX*col;\n" +
+				"\t\t\tint xt = (int) x;\n" +
+				"\t\t\tgridColumnIndex.data[col] = xt;\n" +
+				"\t\t\tgridColumnWeight.data[col] = x - xt;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tfinal "+image.getDataType()+"[] data = orig.data;\n" +
+				"\n" +
+				"\t\tfor (int row = 0, i = 0; row < rows; row++) {\n" +
+				"\t\t\tfloat y = y0 + stepY*row;\n" +
+				"\t\t\tint yt = (int) y;\n" +
+				"\t\t\t"+floatType+" ay = y - yt;\n" +
+				"\t\t\t"+floatType+" ay1 = 1.0"+f+" - ay;\n" +
+				"\n" +
+				"\t\t\tint indexRow = orig.startIndex + yt * stride;\n" +
+				"\n" +
+				"\t\t\tfor (int col = 0; col < cols; col++) {\n" +
+				"\t\t\t\t"+floatType+" ax = gridColumnWeight.data[col];\n" +
+				"\t\t\t\tint index = indexRow + gridColumnIndex.data[col];\n" +
+				"\n" +
+				"\t\t\t\t"+floatType+" val = (1.0"+f+" - ax) * ay1 * (data[index] "+bitWise+"); // (x,y)\n" +
+				"\t\t\t\tval += ax * ay1 * (data[index + 1] "+bitWise+"); // (x+1,y)\n" +
+				"\t\t\t\tval += ax * ay * (data[index + 1 + stride] "+bitWise+"); // (x+1,y+1)\n" +
+				"\t\t\t\tval += (1.0"+f+" - ax) * ay * (data[index + stride] "+bitWise+"); // (x,y+1)\n" +
+				"\n" +
+				"\t\t\t\tvalues[i++] = "+cast+"val;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n");
+	}
+
 	private void printTheRest() {
 		String bitWise = image.getBitWise();
 
@@ -46,7 +46,9 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 		out.print("import boofcv.struct.image.*;\n" +
 				"import javax.annotation.Generated;\n" +
 				"import boofcv.alg.InputSanityCheck;\n" +
-				"import java.util.Arrays;\n" +
+				"import boofcv.alg.misc.impl.ImplImageStatistics;\n" +
+				"import boofcv.alg.misc.impl.ImplImageStatistics_MT;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"\n" +
 				"/**\n" +
 				" * Computes statistical properties of pixels inside an image.\n" +
@@ -101,22 +103,10 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.\n" +
 				"\t */\n" +
 				"\tpublic static void histogram( "+input.getSingleBandName()+" input , "+sumType+" minValue , int histogram[] ) {\n" +
-				"\t\tArrays.fill(histogram,0);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint index = input.startIndex + y*input.stride;\n" +
-				"\t\t\tint end = index + input.width;\n" +
-				"\n" +
-				"\t\t\twhile( index < end ) {\n");
-		if( input.isInteger()) {
-			if( input.getNumBits() == 64 )
-				out.print("\t\t\t\thistogram[(int)(input.data[index++] - minValue)]++;\n");
-			else
-				out.print("\t\t\t\thistogram[(input.data[index++]"+input.getBitWise()+") - minValue ]++;\n");
-		} else {
-			out.print("\t\t\t\thistogram[(int)(input.data[index++] - minValue)]++;\n");
-		}
-		out.print("\t\t\t}\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplImageStatistics_MT.histogram(input,minValue,histogram);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplImageStatistics.histogram(input,minValue,histogram);\n" +
 				"\t\t}\n" +
 				"\t}\n\n");
 	}
@@ -201,9 +191,9 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 
 	public void printSum( ImageType.Family family ) {
 
-		String bitWise = input.getBitWise();
 		String columns = family == ImageType.Family.INTERLEAVED ? "*img.numBands" : "";
 		String sumType = input.getSumType();
+		String name = "sum" + (input.isSigned() ? "" : "U");
 
 		out.print("\t/**\n" +
 				"\t * <p>\n" +
@@ -213,22 +203,11 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @param img Input image. Not modified.\n" +
 				"\t */\n" +
 				"\tpublic static "+sumType+" sum( "+input.getImageName(family)+" img ) {\n" +
-				"\n" +
-				"\t\tfinal int rows = img.height;\n" +
-				"\t\tfinal int columns = img.width"+columns+";\n" +
-				"\n" +
-				"\t\t"+sumType+" total = 0;\n" +
-				"\t\t\n" +
-				"\t\tfor (int y = 0; y < rows; y++) {\n" +
-				"\t\t\tint index = img.startIndex + y * img.stride;\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = index+columns;\n" +
-				"\t\t\tfor (; index < indexEnd; index++ ) {\n" +
-				"\t\t\t\ttotal += img.data[index] "+bitWise+";\n" +
-				"\t\t\t}\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\treturn ImplImageStatistics_MT."+name+"(img.data,img.startIndex,img.height,img.width"+columns+",img.stride);\n" +
+				"\t\t} else {\n" +
+				"\t\t\treturn ImplImageStatistics."+name+"(img.data,img.startIndex,img.height,img.width"+columns+",img.stride);\n" +
 				"\t\t}\n" +
-				"\t\t\n" +
-				"\t\treturn total;\n" +
 				"\t}\n\n");
 	}
 
@@ -249,8 +228,8 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 
 	public void printVariance() {
 
-		String bitWise = input.getBitWise();
 		String sumType = input.isInteger() ? "double" : input.getSumType();
+		String name = "variance" + (input.isSigned() ? "" : "U");
 
 		out.print("\t/**\n" +
 				"\t * Computes the variance of pixel intensity values inside the image.\n" +
@@ -260,21 +239,11 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @return Pixel variance   \n" +
 				"\t */\n" +
 				"\tpublic static "+sumType+" variance( "+input.getSingleBandName()+" img , "+sumType+" mean ) {\n" +
-				"\n" +
-				"\t\t"+sumType+" variance = 0;\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < img.height; y++) {\n" +
-				"\t\t\tint index = img.getStartIndex() + y * img.getStride();\n" +
-				"\n" +
-				"\t\t\tint indexEnd = index+img.width;\n" +
-				"\t\t\t// for(int x = 0; x < img.width; x++ ) {\n" +
-				"\t\t\tfor (; index < indexEnd; index++ ) {\n" +
-				"\t\t\t\t"+sumType+" d = (img.data[index]"+bitWise+") - mean; \n" +
-				"\t\t\t\tvariance += d*d;\n" +
-				"\t\t\t}\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\treturn ImplImageStatistics_MT."+name+"(img.data,img.startIndex,img.height,img.width,img.stride,mean);\n" +
+				"\t\t} else {\n" +
+				"\t\t\treturn ImplImageStatistics."+name+"(img.data,img.startIndex,img.height,img.width,img.stride,mean);\n" +
 				"\t\t}\n" +
-				"\n" +
-				"\t\treturn variance/(img.width*img.height);\n" +
 				"\t}\n\n");
 	}
 
@@ -341,7 +310,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 	private class GenerateMin extends InitValue {
 
 		public GenerateMin() {
-			super("min", "v < output",
+			super("min", "v < output", true,
 					"\t/**\n" +
 					"\t * Returns the minimum element value.\n" +
 					"\t * \n" +
@@ -358,7 +327,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 	private class GenerateMax extends InitValue {
 
 		public GenerateMax() {
-			super("max", "v > output",
+			super("max", "v > output", true,
 							"\t/**\n" +
 							"\t * Returns the maximum element value.\n" +
 							"\t * \n" +
@@ -375,7 +344,7 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 	private class GenerateMaxAbs extends InitValue {
 
 		public GenerateMaxAbs() {
-			super("maxAbs", "v > output",
+			super("maxAbs", "v > output", false,
 							"\t/**\n" +
 							"\t * Returns the maximum element value.\n" +
 							"\t * \n" +
@@ -424,11 +393,14 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 
 		String name;
 		String conditional;
+		// if true the low level function is provided by ImplImageStatistics
+		boolean concurrent;
 		String javaDoc;
 
-		public InitValue(String name, String conditional, String javaDoc) {
+		public InitValue(String name, String conditional, boolean concurrent, String javaDoc) {
 			this.name = name;
 			this.conditional = conditional;
+			this.concurrent = concurrent;
 			this.javaDoc = javaDoc;
 		}
 
@@ -439,12 +411,24 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 			String nameUn = this.name + (input.isSigned() ? "" : "U");
 
 			out.println(javaDoc);
-			out.print("\tpublic static "+sumType+" "+name+"( "+input.getImageName(family)+" input ) {\n" +
-					"\t\treturn "+nameUn+"( input.data, input.startIndex, input.height, "+columns+" , input.stride );\n" +
-					"\t}\n\n");
+			if( concurrent ) {
+				out.print("\tpublic static "+sumType+" "+name+"( "+input.getImageName(family)+" input ) {\n" +
+						"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+						"\t\t\treturn ImplImageStatistics_MT."+nameUn+"( input.data, input.startIndex, input.height, "+columns+" , input.stride );\n" +
+						"\t\t} else {\n" +
+						"\t\t\treturn ImplImageStatistics."+nameUn+"( input.data, input.startIndex, input.height, "+columns+" , input.stride );\n" +
+						"\t\t}\n" +
+						"\t}\n\n");
+			} else {
+				out.print("\tpublic static "+sumType+" "+name+"( "+input.getImageName(family)+" input ) {\n" +
+						"\t\treturn "+nameUn+"( input.data, input.startIndex, input.height, "+columns+" , input.stride );\n" +
+						"\t}\n\n");
+			}
 		}
 
 		public void printLowLevel() {
+			if( concurrent )
+				return;
 			String sumType = input.getSumType();
 			String name = this.name + (input.isSigned() ? "" : "U");
 
@@ -502,10 +486,13 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 			String name = this.name + (input.isSigned() ? "" : "U");
 			String bitWise = input.getBitWise();
 
+			// a float accumulator loses too much precision
+			String totalType = input.isInteger() ? sumType : "double";
+
 			out.print("\tprivate static double "+name+"("+dataType+" []dataA, int startIndexA , int strideA,\n" +
 					"\t\t\t\t\t\t\t\t\t"+dataType+" []dataB, int startIndexB , int strideB,\n" +
 					"\t\t\t\t\t\t\t\t\tint rows , int columns ) {\n" +
-					"\t\t"+sumType+" total = 0;\n" +
+					"\t\t"+totalType+" total = 0;\n" +
 					"\n" +
 					"\t\tfor (int y = 0; y < rows; y++) {\n" +
 					"\t\t\tint indexA = startIndexA + y * strideA;\n" +
@@ -36,8 +36,6 @@ import static boofcv.misc.AutoTypeImage.*;
  */
 public class GeneratePixelMath extends CodeGeneratorBase {
 
-	String className = "PixelMath";
-
 	private AutoTypeImage input;
 
 	ImageType.Family families[] = new ImageType.Family[]{ImageType.Family.GRAY,ImageType.Family.INTERLEAVED};
@@ -65,10 +63,12 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 	}
 
 	private void printPreamble() throws FileNotFoundException {
-		setOutputFile(className);
 		out.print("import boofcv.struct.image.*;\n" +
 				"\n" +
 				"import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.alg.misc.impl.ImplPixelMath;\n" +
+				"import boofcv.alg.misc.impl.ImplPixelMath_MT;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"import javax.annotation.Generated;\n" +
 				"\n" +
 				"/**\n" +
@@ -112,7 +112,22 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		}
 	}
 
-	private void print( String funcName , String javadoc , String operation , AutoTypeImage types[] ) {
+	/**
+	 * Prints a call to a low level function. Concurrent functions are implemented in ImplPixelMath and
+	 * the call is dispatched to the single or multi-threaded implementation.
+	 */
+	private String printCall( String funcName , String arguments , boolean concurrent ) {
+		if( !concurrent )
+			return "\t\t" + funcName + "(" + arguments + ");\n";
+		String indented = arguments.replace("\n","\n\t");
+		return "\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplPixelMath_MT." + funcName + "(" + indented + ");\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplPixelMath." + funcName + "(" + indented + ");\n" +
+				"\t\t}\n";
+	}
+
+	private void print( String funcName , String javadoc , String operation , AutoTypeImage types[] , boolean concurrent ) {
 		for( AutoTypeImage t : types ) {
 			input = t;
 			for (ImageType.Family family : families) {
@@ -131,12 +146,14 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 						"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
 						"\n" +
 						"\t\tint columns = " + columns + ";\n" +
-						"\t\t" + funcName + "(input.data,input.startIndex,input.stride,\n" +
+						printCall(funcName,"input.data,input.startIndex,input.stride,\n" +
 						"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
-						"\t\t\t\tinput.height,columns);\n" +
+						"\t\t\t\tinput.height,columns",concurrent) +
 						"\t}\n");
 			}
-			printArray(funcName,operation);
+			// concurrent low level functions are in ImplPixelMath
+			if( !concurrent )
+				printArray(funcName,operation);
 		}
 	}
 
@@ -170,7 +187,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param output Where the absolute value image is written to. Modified.\n" +
 				"\t */";
 
-		print("abs",javaDoc,"Math.abs(input[indexSrc])",AutoTypeImage.getSigned());
+		print("abs",javaDoc,"Math.abs(input[indexSrc])",AutoTypeImage.getSigned(),true);
 	}
 
 	public void printInvert()
@@ -182,7 +199,7 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param output Where the inverted image is written to. Modified.\n" +
 				"\t */";
 
-		print("invert",javaDoc,"-input[indexSrc]",AutoTypeImage.getSigned());
+		print("invert",javaDoc,"-input[indexSrc]",AutoTypeImage.getSigned(),false);
 	}
 
 	private void print_img_scalar( TwoTemplate template , boolean bounded ) {
@@ -231,9 +248,9 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 							"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
 							"\n" +
 							"\t\tint columns = " + columns + ";\n" +
-							"\t\t" + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + ", lower, upper ,\n" +
+							printCall(funcArrayName,"input.data,input.startIndex,input.stride," + varName + ", lower, upper ,\n" +
 							"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
-							"\t\t\t\tinput.height,columns);\n" +
+							"\t\t\t\tinput.height,columns",template.isConcurrent()) +
 							"\t}\n");
 				} else {
 					String prototype;
@@ -249,13 +266,15 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 							"\t\tInputSanityCheck.checkSameShape"+banded+"(input,output);\n" +
 							"\n" +
 							"\t\tint columns = " + columns + ";\n" +
-							"\t\t" + funcArrayName + "(input.data,input.startIndex,input.stride," + varName + " , \n" +
+							printCall(funcArrayName,"input.data,input.startIndex,input.stride," + varName + " , \n" +
 							"\t\t\t\toutput.data,output.startIndex,output.stride,\n" +
-							"\t\t\t\tinput.height,columns);\n" +
+							"\t\t\t\tinput.height,columns",template.isConcurrent()) +
 							"\t}\n");
 				}
 			}
-			if( bounded ) {
+			if( template.isConcurrent() ) {
+				// implemented in ImplPixelMath
+			} else if( bounded ) {
 				print_array_scalar_bounded(funcArrayName, variableType, varName, template.getOperation());
 			} else {
 				print_array_scalar(funcArrayName, variableType, varName, template.getOperation());
@@ -315,7 +334,6 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 
 	public void printBoundImage() {
 
-		String bitWise = input.getBitWise();
 		String sumType = input.getSumType();
 
 		out.print("\t/**\n" +
@@ -326,31 +344,12 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param max maximum value.\n" +
 				"\t */\n" +
 				"\tpublic static void boundImage( "+input.getSingleBandName()+" img , "+sumType+" min , "+sumType+" max ) {\n" +
-				"\t\tfinal int h = img.getHeight();\n" +
-				"\t\tfinal int w = img.getWidth();\n" +
-				"\n" +
-				"\t\t"+input.getDataType()+"[] data = img.data;\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint index = img.getStartIndex() + y * img.getStride();\n" +
-				"\t\t\tint indexEnd = index+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; index < indexEnd; index++) {\n" +
-				"\t\t\t\t"+sumType+" value = data[index]"+bitWise+";\n" +
-				"\t\t\t\tif( value < min )\n" +
-				"\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"min;\n" +
-				"\t\t\t\telse if( value > max )\n" +
-				"\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"max;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
+				printCall("boundImage","img,min,max",true) +
 				"\t}\n\n");
 	}
 
 	public void printDiffAbs() {
 
-		String bitWise = input.getBitWise();
-		String typeCast = input.isInteger() ? "("+input.getDataType()+")" : "";
-
 		out.print("\t/**\n" +
 				"\t * <p>\n" +
 				"\t * Computes the absolute value of the difference between each pixel in the two images.<br>\n" +
@@ -362,21 +361,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t */\n" +
 				"\tpublic static void diffAbs( "+input.getSingleBandName()+" imgA , "+input.getSingleBandName()+" imgB , "+input.getSingleBandName()+" diff ) {\n" +
 				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,diff);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
 				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexDiff = diff.getStartIndex() + y * diff.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {\n" +
-				"\t\t\t\tdiff.data[indexDiff] = "+typeCast+"Math.abs((imgA.data[indexA] "+bitWise+") - (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
+				printCall("diffAbs","imgA,imgB,diff",true) +
 				"\t}\n\n");
 	}
 
@@ -647,6 +633,9 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		@Override
 		public boolean isImageFirst() { return true; }
 
+		@Override
+		public boolean isConcurrent() { return true; }
+
 		@Override
 		public AutoTypeImage[] getTypes() { return AutoTypeImage.getSpecificTypes(); }
 
@@ -681,6 +670,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 
 		@Override public boolean isImageFirst() { return true; }
 
+		@Override public boolean isConcurrent() { return true; }
+
 		@Override public AutoTypeImage[] getTypes() { return AutoTypeImage.getSpecificTypes(); }
 
 		@Override
@@ -713,6 +704,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 
 		@Override public boolean isImageFirst() { return true; }
 
+		@Override public boolean isConcurrent() { return false; }
+
 		@Override public AutoTypeImage[] getTypes() { return AutoTypeImage.getSpecificTypes(); }
 
 		@Override
@@ -749,6 +742,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 
 		@Override public boolean isImageFirst() { return imageFirst; }
 
+		@Override public boolean isConcurrent() { return false; }
+
 		@Override public AutoTypeImage[] getTypes() { return AutoTypeImage.getSpecificTypes(); }
 
 		@Override
@@ -798,6 +793,11 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 
 		boolean isImageFirst();
 
+		/**
+		 * If true the low level function is implemented in ImplPixelMath and has a concurrent variant
+		 */
+		boolean isConcurrent();
+
 		AutoTypeImage[] getTypes();
 	}
 
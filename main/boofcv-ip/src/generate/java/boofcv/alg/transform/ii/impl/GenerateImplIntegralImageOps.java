@@ -48,12 +48,14 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S32);
 		printTwoInput(AutoTypeImage.S32, AutoTypeImage.S32);
 		printTwoInput(AutoTypeImage.S64, AutoTypeImage.S64);
+		out.print("\t//CONCURRENT_OMIT_BEGIN\n\n");
 		singleInput(AutoTypeImage.F32);
 		singleInput(AutoTypeImage.S32);
 		singleInput(AutoTypeImage.F64);
 		singleInput(AutoTypeImage.S64);
 
-		out.print("\n" +
+		out.print("\t//CONCURRENT_OMIT_END\n" +
+				"\n" +
 				"}\n");
 	}
 
@@ -61,7 +63,10 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		out.print(CodeGeneratorUtil.copyright);
 		out.print("package boofcv.alg.transform.ii.impl;\n" +
 				"\n" +
+				"//CONCURRENT_REMOVE_BELOW\n" +
 				"import boofcv.alg.transform.ii.IntegralKernel;\n" +
+				"//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;\n" +
+				"//CONCURRENT_REMOVE_BELOW\n" +
 				"import boofcv.struct.ImageRectangle;\n" +
 				"import boofcv.struct.image.*;\n" +
 				"\n" +
@@ -82,7 +87,12 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 
 	private void printTwoInput( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
 		printTransform(imageIn,imageOut);
-
+		printTransformUpdate(imageIn,imageOut);
+		printPrefixRows(imageIn,imageOut);
+		// U8 and S32 share the same output type
+		if( imageIn == imageOut )
+			printSumColumns(imageOut);
+		out.print("\t//CONCURRENT_OMIT_END\n\n");
 	}
 
 	private void singleInput(AutoTypeImage image) {
@@ -101,6 +111,9 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 
 		out.print("\tpublic static void transform( final "+imageIn.getSingleBandName()+" input , final "+imageOut.getSingleBandName()+" transformed )\n" +
 				"\t{\n" +
+				"\t\t//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));\n" +
+				"\t\t//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));\n" +
+				"\t\t//CONCURRENT_OMIT_BEGIN\n" +
 				"\t\tint indexSrc = input.startIndex;\n" +
 				"\t\tint indexDst = transformed.startIndex;\n" +
 				"\t\tint end = indexSrc + input.width;\n" +
@@ -123,9 +136,76 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"\t\t\t\ttransformed.data[indexDst++] = transformed.data[indexPrev++] + total;\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_OMIT_END\n" +
 				"\t}\n\n");
 	}
 
+	private void printTransformUpdate( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
+		out.print("\t/**\n" +
+				"\t * Updates the integral image after the input image has been modified inside a region whose upper left\n" +
+				"\t * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.\n" +
+				"\t */\n" +
+				"\tpublic static void transformUpdate(final "+imageIn.getSingleBandName()+" input , final "+imageOut.getSingleBandName()+" transformed , final int x0 , final int y0 )\n" +
+				"\t{\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));\n" +
+				"\t\tprefixRows(input,transformed,x0,y0,input.height);\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));\n" +
+				"\t\tsumColumns(transformed,y0,x0,input.width);\n" +
+				"\t}\n" +
+				"\t//CONCURRENT_OMIT_BEGIN\n" +
+				"\n");
+	}
+
+	private void printPrefixRows( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
+		String sumType = imageOut.getSumType();
+		String bitWise = imageIn.getBitWise();
+
+		out.print("\t/**\n" +
+				"\t * First pass of the blocked transform. For rows y0 to y1-1, the cumulative sum along each row starting at\n" +
+				"\t * column x0 is written into transformed. Row sums to the left of x0 are recovered from the integral image.\n" +
+				"\t * Rows are independent of each other.\n" +
+				"\t */\n" +
+				"\tpublic static void prefixRows( "+imageIn.getSingleBandName()+" input , "+imageOut.getSingleBandName()+" transformed , int x0 , int y0 , int y1 )\n" +
+				"\t{\n" +
+				"\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\tint indexSrc = input.startIndex + input.stride*y + x0;\n" +
+				"\t\t\tint indexDst = transformed.startIndex + transformed.stride*y + x0;\n" +
+				"\t\t\tint end = indexSrc + input.width - x0;\n" +
+				"\n" +
+				"\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\tif( x0 > 0 ) {\n" +
+				"\t\t\t\ttotal = transformed.data[indexDst-1];\n" +
+				"\t\t\t\tif( y > 0 )\n" +
+				"\t\t\t\t\ttotal -= transformed.data[indexDst-1-transformed.stride];\n" +
+				"\t\t\t}\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t\ttotal += input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t\ttransformed.data[indexDst++] = total;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n");
+	}
+
+	private void printSumColumns( AutoTypeImage imageOut ) {
+		out.print("\n" +
+				"\t/**\n" +
+				"\t * Second pass of the blocked transform. Starting at row y0, adds the row above to each row for columns x0 to x1-1.\n" +
+				"\t * Columns are independent of each other.\n" +
+				"\t */\n" +
+				"\tpublic static void sumColumns( "+imageOut.getSingleBandName()+" transformed , int y0 , int x0 , int x1 )\n" +
+				"\t{\n" +
+				"\t\tfor( int y = Math.max(1,y0); y < transformed.height; y++ ) {\n" +
+				"\t\t\tint indexDst = transformed.startIndex + transformed.stride*y + x0;\n" +
+				"\t\t\tint indexPrev = indexDst - transformed.stride;\n" +
+				"\t\t\tint end = indexDst + x1 - x0;\n" +
+				"\n" +
+				"\t\t\tfor( ; indexDst < end; indexDst++ ) {\n" +
+				"\t\t\t\ttransformed.data[indexDst] += transformed.data[indexPrev++];\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n");
+	}
+
 	private void printConvolve( AutoTypeImage imageIn , AutoTypeImage imageOut) {
 		out.print("\tpublic static void convolve( "+imageIn.getSingleBandName()+" integral ,\n" +
 				"\t\t\t\t\t\t\t\t IntegralKernel kernel,\n" +
@@ -73,7 +73,12 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				" * @author Peter Abeles\n" +
 				" */\n" +
 				"@SuppressWarnings({\"ForLoopReplaceableByForEach\"})\n" +
-				"public class ImplWaveletTransformInner {\n\n");
+				"public class ImplWaveletTransformInner {\n" +
+				"\n" +
+				"\t//CONCURRENT_INLINE // storage for the inverse is leased so that it's not declared for every block\n" +
+				"\t//CONCURRENT_INLINE private static final ImageType<GrayF32> WORK_F32 = ImageType.single(GrayF32.class);\n" +
+				"\t//CONCURRENT_INLINE private static final ImageType<GrayS32> WORK_S32 = ImageType.single(GrayS32.class);\n" +
+				"\n");
 	}
 
 	private void printFuncs( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
@@ -117,6 +122,7 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\tfinal int startX = UtilWavelet.borderForwardLower(coefficients);\n" +
 				"\t\tfinal int endOffsetX = input.width - UtilWavelet.borderForwardUpper(coefficients,input.width) - startX;\n" +
 				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {\n" +
 				"\t\tfor( int y = 0; y < height; y++ ) {\n" +
 				"\n" +
 				"\t\t\tint indexIn = input.startIndex + input.stride*y + startX;\n" +
@@ -146,6 +152,7 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\t\t\tdataOut[ indexOut++ ] = "+outputCast+"scale;\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -166,6 +173,7 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\tfinal int startY = UtilWavelet.borderForwardLower(coefficients);\n" +
 				"\t\tfinal int endY = input.height - UtilWavelet.borderForwardUpper(coefficients,input.width);\n" +
 				"\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(startY/2, (endY+1)/2, row -> { final int y = row*2;\n" +
 				"\t\tfor( int y = startY; y < endY; y += 2 ) {\n" +
 				"\n" +
 				"\t\t\tint indexIn = input.startIndex + input.stride*y;\n" +
@@ -196,6 +204,7 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_ABOVE });\n" +
 				"\t}\n\n");
 	}
 
@@ -207,7 +216,9 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\tfinal "+sumType+"[] alpha = coefficients.scaling;\n" +
 				"\t\tfinal "+sumType+"[] beta = coefficients.wavelet;\n" +
 				"\n" +
+				"\t\t//CONCURRENT_REMOVE_BELOW\n" +
 				"\t\t"+sumType+" []trends = new "+sumType+"[ output.width ];\n" +
+				"\t\t//CONCURRENT_REMOVE_BELOW\n" +
 				"\t\t"+sumType+" []details = new "+sumType+"[ output.width ];\n" +
 				"\n" +
 				"\t\tfinal int width = input.width;\n" +
@@ -224,7 +235,13 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 					"\n");
 		}
 
-		out.print("\t\tfor( int y = 0; y < height; y++ ) {\n" +
+		out.print("\t\t//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, height, (y0,y1)->{\n" +
+				"\t\t//CONCURRENT_INLINE final "+imageIn.getSingleBandName()+" workTrends = ImagePool.getDefault().acquire(WORK_"+imageIn.getAbbreviatedType()+",output.width,1);\n" +
+				"\t\t//CONCURRENT_INLINE final "+imageIn.getSingleBandName()+" workDetails = ImagePool.getDefault().acquire(WORK_"+imageIn.getAbbreviatedType()+",output.width,1);\n" +
+				"\t\t//CONCURRENT_INLINE final "+sumType+" []trends = workTrends.data;\n" +
+				"\t\t//CONCURRENT_INLINE final "+sumType+" []details = workDetails.data;\n" +
+				"\t\t//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {\n" +
+				"\t\tfor( int y = 0; y < height; y++ ) {\n" +
 				"\n" +
 				"\t\t\t// initialize details and trends arrays\n" +
 				"\t\t\tint indexSrc = input.startIndex + y*input.stride+lowerBorder/2;\n" +
@@ -274,6 +291,9 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 
 		out.print("\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_INLINE ImagePool.getDefault().release(workTrends);\n" +
+				"\t\t//CONCURRENT_INLINE ImagePool.getDefault().release(workDetails);\n" +
+				"\t\t//CONCURRENT_INLINE });\n" +
 				"\t}\n\n");
 	}
 
@@ -285,7 +305,9 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 				"\t\tfinal "+sumType+"[] alpha = coefficients.scaling;\n" +
 				"\t\tfinal "+sumType+"[] beta = coefficients.wavelet;\n" +
 				"\n" +
+				"\t\t//CONCURRENT_REMOVE_BELOW\n" +
 				"\t\t"+sumType+" []trends = new "+sumType+"[ output.height ];\n" +
+				"\t\t//CONCURRENT_REMOVE_BELOW\n" +
 				"\t\t"+sumType+" []details = new "+sumType+"[ output.height ];\n" +
 				"\n" +
 				"\t\tfinal int width = output.width;\n" +
@@ -302,7 +324,13 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 					"\t\tfinal int ef2 = ef/2;\n" +
 					"\n");
 		}
-		out.print("\t\tfor( int x = 0; x < width; x++) {\n" +
+		out.print("\t\t//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, width, (x0,x1)->{\n" +
+				"\t\t//CONCURRENT_INLINE final "+imageIn.getSingleBandName()+" workTrends = ImagePool.getDefault().acquire(WORK_"+imageIn.getAbbreviatedType()+",output.height,1);\n" +
+				"\t\t//CONCURRENT_INLINE final "+imageIn.getSingleBandName()+" workDetails = ImagePool.getDefault().acquire(WORK_"+imageIn.getAbbreviatedType()+",output.height,1);\n" +
+				"\t\t//CONCURRENT_INLINE final "+sumType+" []trends = workTrends.data;\n" +
+				"\t\t//CONCURRENT_INLINE final "+sumType+" []details = workDetails.data;\n" +
+				"\t\t//CONCURRENT_BELOW for( int x = x0; x < x1; x++ ) {\n" +
+				"\t\tfor( int x = 0; x < width; x++) {\n" +
 				"\n" +
 				"\t\t\tint indexSrc = input.startIndex + (lowerBorder/2)*input.stride + x;\n" +
 				"\t\t\tfor( int y = lowerBorder; y < upperBorder; y += 2 , indexSrc += input.stride ) {\n" +
@@ -350,6 +378,9 @@ public class GenerateImplWaveletTransformInner extends CodeGeneratorBase {
 		}
 		out.print("\t\t\t}\n" +
 				"\t\t}\n" +
+				"\t\t//CONCURRENT_INLINE ImagePool.getDefault().release(workTrends);\n" +
+				"\t\t//CONCURRENT_INLINE ImagePool.getDefault().release(workDetails);\n" +
+				"\t\t//CONCURRENT_INLINE });\n" +
 				"\t}\n\n");
 	}
 
@@ -54,7 +54,9 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 
 	private void printPreamble() {
 		out.print("import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
 				"import boofcv.core.image.impl.ImplConvertImage;\n" +
+				"import boofcv.core.image.impl.ImplConvertImage_MT;\n" +
 				"import boofcv.core.image.impl.ImplConvertMsToSingle;\n" +
 				"import boofcv.core.image.impl.ConvertInterleavedToSingle;\n" +
 				"import boofcv.struct.image.*;\n" +
@@ -95,7 +97,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input, output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -119,7 +125,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input, output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input, output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -194,7 +204,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
@@ -218,7 +232,11 @@ public class GenerateConvertImage extends CodeGeneratorBase {
 				"\t\t\tInputSanityCheck.checkSameShape(input, output);\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplConvertImage_MT.convert(input,output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplConvertImage.convert(input,output);\n" +
+				"\t\t}\n" +
 				"\n" +
 				"\t\treturn output;\n" +
 				"\t}\n\n");
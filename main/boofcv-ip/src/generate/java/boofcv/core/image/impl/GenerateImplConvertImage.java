@@ -85,6 +85,7 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\n" +
 				"\t\tif (from.isSubimage() || to.isSubimage()) {\n" +
 				"\n" +
+				"\t\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {\n" +
 				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
 				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
 				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
@@ -93,6 +94,7 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\t\t\t\t\tto.data[indexTo++] = "+typeCast+"( from.data[indexFrom++] "+bitWise+");\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
+				"\t\t\t//CONCURRENT_ABOVE });\n" +
 				"\n" +
 				"\t\t} else {\n" +
 				"\t\t\tfinal int N = from.width * from.height;\n" +
@@ -101,9 +103,12 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 		if( sameTypes ) {
 			out.print("\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
 		} else {
-			out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
+			out.print("\t\t\t//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{\n" +
+					"\t\t\t//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {\n" +
+					"\t\t\tfor (int i = 0; i < N; i++) {\n" +
 					"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
-					"\t\t\t}\n");
+					"\t\t\t}\n" +
+					"\t\t\t//CONCURRENT_INLINE });\n");
 		}
 		out.print("\t\t}\n" +
 				"\t}\n\n");
@@ -128,6 +133,7 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\t\tif (from.isSubimage() || to.isSubimage()) {\n" +
 				"\t\t\tfinal int N = from.width * from.getNumBands();\n" +
 				"\n" +
+				"\t\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {\n" +
 				"\t\t\tfor (int y = 0; y < from.height; y++) {\n" +
 				"\t\t\t\tint indexFrom = from.getIndex(0, y);\n" +
 				"\t\t\t\tint indexTo = to.getIndex(0, y);\n" +
@@ -136,6 +142,7 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 				"\t\t\t\t\tto.data[indexTo++] = "+typeCast+"( from.data[indexFrom++] "+bitWise+");\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
+				"\t\t\t//CONCURRENT_ABOVE });\n" +
 				"\n" +
 				"\t\t} else {\n" +
 				"\t\t\tfinal int N = from.width * from.height * from.getNumBands();\n" +
@@ -144,60 +151,97 @@ public class GenerateImplConvertImage extends CodeGeneratorBase {
 		if( sameTypes ) {
 			out.print("\t\t\tSystem.arraycopy(from.data, 0, to.data, 0, N);\n");
 		} else {
-			out.print("\t\t\tfor (int i = 0; i < N; i++) {\n" +
+			out.print("\t\t\t//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{\n" +
+					"\t\t\t//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {\n" +
+					"\t\t\tfor (int i = 0; i < N; i++) {\n" +
 					"\t\t\t\tto.data[i] = "+typeCast+"( from.data[i] "+bitWise+");\n" +
-					"\t\t\t}\n");
+					"\t\t\t}\n" +
+					"\t\t\t//CONCURRENT_INLINE });\n");
 		}
 		out.print("\t\t}\n" +
 				"\t}\n\n");
 	}
 
-		private void printInterleaveToMulti(AutoTypeImage imageIn) {
+	private void printInterleaveToMulti(AutoTypeImage imageIn) {
 		String inputName = imageIn.getInterleavedName();
 		String bandName = imageIn.getSingleBandName();
+		String dataType = imageIn.getDataType();
 
 		out.print(
 				"\tpublic static void convert( "+inputName+" input , Planar<"+bandName+"> output ) {\n" +
 				"\n" +
 				"\t\tfinal int numBands = input.numBands;\n" +
-				"\t\tfor (int i = 0; i < numBands; i++) {\n" +
-				"\t\t\t"+bandName+" band = output.bands[i];\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {\n" +
+				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
+				"\t\t\tfinal "+dataType+"[] src = input.data;\n" +
+				"\t\t\tint indexSrc = y*input.stride + input.startIndex;\n" +
+				"\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
+				"\t\t\tint end = indexDst + input.width;\n" +
 				"\n" +
-				"\t\t\tfor (int y = 0; y < input.height; y++) {\n" +
-				"\t\t\t\tint indexSrc = y*input.stride + input.startIndex + i;\n" +
-				"\t\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
-				"\t\t\t\tint end = indexDst + input.width;\n" +
-				"\t\t\t\twhile( indexDst != end ) {\n" +
-				"\t\t\t\t\tband.data[indexDst++] = input.data[indexSrc];\n" +
-				"\t\t\t\t\tindexSrc += numBands;\n" +
+				"\t\t\tif( numBands == 3 ) {\n" +
+				"\t\t\t\tfinal "+dataType+"[] band0 = output.bands[0].data;\n" +
+				"\t\t\t\tfinal "+dataType+"[] band1 = output.bands[1].data;\n" +
+				"\t\t\t\tfinal "+dataType+"[] band2 = output.bands[2].data;\n" +
+				"\t\t\t\tfor( ; indexDst != end; indexDst++ ) {\n" +
+				"\t\t\t\t\tband0[indexDst] = src[indexSrc++];\n" +
+				"\t\t\t\t\tband1[indexDst] = src[indexSrc++];\n" +
+				"\t\t\t\t\tband2[indexDst] = src[indexSrc++];\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t} else {\n" +
+				"\t\t\t\tfor (int i = 0; i < numBands; i++) {\n" +
+				"\t\t\t\t\tfinal "+dataType+"[] band = output.bands[i].data;\n" +
+				"\t\t\t\t\tint indexS = indexSrc + i;\n" +
+				"\t\t\t\t\tfor( int indexD = indexDst; indexD != end; indexD++ ) {\n" +
+				"\t\t\t\t\t\tband[indexD] = src[indexS];\n" +
+				"\t\t\t\t\t\tindexS += numBands;\n" +
+				"\t\t\t\t\t}\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t//CONCURRENT_ABOVE });\n" +
+				"\t}\n" +
+				"\n");
 	}
 
 	private void printMultiToInterleaved(AutoTypeImage imageIn) {
 		String outputName = imageIn.getInterleavedName();
 		String bandName = imageIn.getSingleBandName();
+		String dataType = imageIn.getDataType();
 
 		out.print(
 				"\tpublic static void convert( Planar<"+bandName+"> input , "+outputName+" output ) {\n" +
 				"\n" +
 				"\t\tfinal int numBands = input.getNumBands();\n" +
-				"\t\tfor (int i = 0; i < numBands; i++) {\n" +
-				"\t\t\t"+bandName+" band = input.bands[i];\n" +
-				"\t\t\tfor (int y = 0; y < input.height; y++) {\n" +
-				"\t\t\t\tint indexSrc = y * input.stride + input.startIndex;\n" +
-				"\t\t\t\tint indexDst = y * output.stride + output.startIndex + i;\n" +
-				"\t\t\t\tint end = indexSrc + input.width;\n" +
-				"\t\t\t\t\n" +
-				"\t\t\t\twhile( indexSrc != end ) { \n" +
-				"\t\t\t\t\toutput.data[indexDst] = band.data[indexSrc++];\n" +
-				"\t\t\t\t\tindexDst += numBands;\n" +
+				"\t\t//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {\n" +
+				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
+				"\t\t\tfinal "+dataType+"[] dst = output.data;\n" +
+				"\t\t\tint indexSrc = y*input.stride + input.startIndex;\n" +
+				"\t\t\tint indexDst = y*output.stride + output.startIndex;\n" +
+				"\t\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\tif( numBands == 3 ) {\n" +
+				"\t\t\t\tfinal "+dataType+"[] band0 = input.bands[0].data;\n" +
+				"\t\t\t\tfinal "+dataType+"[] band1 = input.bands[1].data;\n" +
+				"\t\t\t\tfinal "+dataType+"[] band2 = input.bands[2].data;\n" +
+				"\t\t\t\tfor( ; indexSrc != end; indexSrc++ ) {\n" +
+				"\t\t\t\t\tdst[indexDst++] = band0[indexSrc];\n" +
+				"\t\t\t\t\tdst[indexDst++] = band1[indexSrc];\n" +
+				"\t\t\t\t\tdst[indexDst++] = band2[indexSrc];\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t} else {\n" +
+				"\t\t\t\tfor (int i = 0; i < numBands; i++) {\n" +
+				"\t\t\t\t\tfinal "+dataType+"[] band = input.bands[i].data;\n" +
+				"\t\t\t\t\tint indexD = indexDst + i;\n" +
+				"\t\t\t\t\tfor( int indexS = indexSrc; indexS != end; indexS++ ) {\n" +
+				"\t\t\t\t\t\tdst[indexD] = band[indexS];\n" +
+				"\t\t\t\t\t\tindexD += numBands;\n" +
+				"\t\t\t\t\t}\n" +
 				"\t\t\t\t}\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
-				"\t}\n\n");
+				"\t\t//CONCURRENT_ABOVE });\n" +
+				"\t}\n" +
+				"\n");
 	}
 
 	public static void main( String args[] ) throws FileNotFoundException {
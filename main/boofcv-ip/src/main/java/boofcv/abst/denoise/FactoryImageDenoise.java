@@ -19,7 +19,6 @@
 package boofcv.abst.denoise;
 
 import boofcv.abst.transform.wavelet.WaveletTransform;
-import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.denoise.FactoryDenoiseWaveletAlg;
 import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
@@ -56,10 +55,10 @@ public class FactoryImageDenoise {
 	waveletVisu( Class<T> imageType , int numLevels , double minPixelValue , double maxPixelValue )
 	{
 		ImageDataType info = ImageDataType.classToType(imageType);
-		WaveletTransform descTran = createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue);
-		DenoiseWavelet denoiser  = FactoryDenoiseWaveletAlg.visu(imageType);
 
-		return new WaveletDenoiseFilter<>(descTran, denoiser);
+		return new WaveletDenoiseFilter<>(
+				() -> createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue),
+				() -> FactoryDenoiseWaveletAlg.visu(imageType));
 	}
 
 	/**
@@ -75,10 +74,10 @@ public class FactoryImageDenoise {
 	waveletBayes( Class<T> imageType , int numLevels , double minPixelValue , double maxPixelValue )
 	{
 		ImageDataType info = ImageDataType.classToType(imageType);
-		WaveletTransform descTran = createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue);
-		DenoiseWavelet denoiser = FactoryDenoiseWaveletAlg.bayes(null, imageType);
 
-		return new WaveletDenoiseFilter<>(descTran, denoiser);
+		return new WaveletDenoiseFilter<>(
+				() -> createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue),
+				() -> FactoryDenoiseWaveletAlg.bayes(null, imageType));
 	}
 
 	/**
@@ -94,10 +93,10 @@ public class FactoryImageDenoise {
 	waveletSure( Class<T> imageType , int numLevels , double minPixelValue , double maxPixelValue )
 	{
 		ImageDataType info = ImageDataType.classToType(imageType);
-		WaveletTransform descTran = createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue);
-		DenoiseWavelet denoiser = FactoryDenoiseWaveletAlg.sure(imageType);
 
-		return new WaveletDenoiseFilter<>(descTran, denoiser);
+		return new WaveletDenoiseFilter<>(
+				() -> createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue),
+				() -> FactoryDenoiseWaveletAlg.sure(imageType));
 	}
 
 	/**
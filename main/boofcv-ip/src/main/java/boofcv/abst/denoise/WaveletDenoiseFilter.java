@@ -22,10 +22,15 @@ import boofcv.abst.filter.FilterImageInterface;
 import boofcv.abst.transform.wavelet.WaveletTransform;
 import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.transform.wavelet.UtilWavelet;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageDimension;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
 
 /**
  * Simplifies removing image noise using a wavelet transform.
@@ -46,8 +51,16 @@ public class WaveletDenoiseFilter<T extends ImageGray<T>> implements FilterImage
 	// where the wavelet transform is stored
 	private T transform;
 
+	// creates the transform and denoiser for additional threads. null if they can't be created
+	private Supplier<WaveletTransform<T,?,?>> waveletFactory;
+	private Supplier<DenoiseWavelet> denoiserFactory;
+
+	// filters used to process blocks of images in a batch. The first one is always this filter
+	private final List<WaveletDenoiseFilter<T>> workers = new ArrayList<>();
+
 	/**
-	 * Specifies which wavelet and algorithm is used for removing image noise.
+	 * Specifies which wavelet and algorithm is used for removing image noise. A batch of images is
+	 * processed by a single thread since the wavelet and denoiser can't be copied.
 	 *
 	 * @param wavelet Description of the wavelet transform.
 	 * @param denoiser Algorithm used to remove noise
@@ -56,6 +69,21 @@ public class WaveletDenoiseFilter<T extends ImageGray<T>> implements FilterImage
 								DenoiseWavelet denoiser) {
 		this.wavelet = (WaveletTransform<T,T,?>)wavelet;
 		this.alg = denoiser;
+		this.workers.add(this);
+	}
+
+	/**
+	 * Specifies how the wavelet and algorithm used for removing image noise are created. Each thread used
+	 * to process a batch of images is given its own instances.
+	 *
+	 * @param waveletFactory Creates the wavelet transform
+	 * @param denoiserFactory Creates the algorithm used to remove noise
+	 */
+	public WaveletDenoiseFilter(Supplier<WaveletTransform<T, ?, ?>> waveletFactory,
+								Supplier<DenoiseWavelet> denoiserFactory) {
+		this(waveletFactory.get(),denoiserFactory.get());
+		this.waveletFactory = waveletFactory;
+		this.denoiserFactory = denoiserFactory;
 	}
 
 	@Override
@@ -75,6 +103,52 @@ public class WaveletDenoiseFilter<T extends ImageGray<T>> implements FilterImage
 		wavelet.invert(transform,denoised);
 	}
 
+	/**
+	 * Removes noise from a batch of images which all have the same shape. If concurrency is enabled and the
+	 * filter was created with factories then the batch is split into blocks and each block is processed by
+	 * its own thread. Each block has its own wavelet pyramid and workspace, which are reused between calls.
+	 *
+	 * @param originals Images which are to be denoised. Not modified.
+	 * @param denoised Storage for the denoised images. Must be the same size as originals. Modified.
+	 */
+	public void process( List<T> originals , List<T> denoised ) {
+		if( originals.size() != denoised.size() )
+			throw new IllegalArgumentException("Input and output lists must be the same size");
+		if( originals.isEmpty() )
+			return;
+
+		final int total = originals.size();
+		int width = originals.get(0).width;
+		int height = originals.get(0).height;
+		for (int i = 0; i < total; i++) {
+			T original = originals.get(i);
+			if( original.width != width || original.height != height )
+				throw new IllegalArgumentException("All images in a batch must have the same shape");
+		}
+
+		int threads = BoofConcurrency.USE_CONCURRENT && waveletFactory != null ? BoofConcurrency.getMaxThreads() : 1;
+		final int blockSize = BoofConcurrency.selectBlockSize(total,1,threads);
+		final int numBlocks = (total+blockSize-1)/blockSize;
+
+		while( workers.size() < numBlocks ) {
+			workers.add(new WaveletDenoiseFilter<>(waveletFactory.get(),denoiserFactory.get()));
+		}
+
+		if( numBlocks > 1 ) {
+			BoofConcurrency.loopFor(0,numBlocks,block->{
+				WaveletDenoiseFilter<T> worker = workers.get(block);
+				int i1 = Math.min(total,(block+1)*blockSize);
+				for (int i = block*blockSize; i < i1; i++) {
+					worker.process(originals.get(i),denoised.get(i));
+				}
+			});
+		} else {
+			for (int i = 0; i < total; i++) {
+				process(originals.get(i),denoised.get(i));
+			}
+		}
+	}
+
 	@Override
 	public int getHorizontalBorder() {
 		return 0;
@@ -20,12 +20,13 @@ package boofcv.abst.filter;
 
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 
 
 /**
  * Applies a sequence of filters. After the first filter each filter will have the same input
- * and output image type.
+ * and output image type.  Intermediate images are leased from the default {@link ImagePool}.
  *
  * @author Peter Abeles
  */
@@ -60,20 +61,36 @@ public class FilterSequence<Input extends ImageGray<Input>, Output extends Image
 
 	@Override
 	public void process(Input input, Output output) {
-		Output temp1 = (Output)output.createNew( output.width , output.height );
-		Output temp2 = (Output)output.createNew( output.width , output.height );
-
-		firstFilter.process(input,temp1);
-
-		for( FilterImageInterface<Output,Output> f : sequence ) {
-			f.process(temp1,temp2);
-			Output swap = temp1;
-			temp1 = temp2;
-			temp2 = swap;
-			GImageMiscOps.fill(temp2, 0);
+		// The last filter writes directly into the output. At most two intermediate images are needed
+		ImagePool pool = ImagePool.getDefault();
+		Output temp1 = sequence.length > 0 ? pool.acquire(output.getImageType(), output.width, output.height) : null;
+		Output temp2 = sequence.length > 1 ? pool.acquire(output.getImageType(), output.width, output.height) : null;
+		try {
+			Output dst = sequence.length > 0 ? temp1 : output;
+			clearBorder(firstFilter, dst);
+			firstFilter.process(input,dst);
+
+			for( int i = 0; i < sequence.length; i++ ) {
+				FilterImageInterface<Output,Output> f = sequence[i];
+				Output src = dst;
+				dst = i == sequence.length-1 ? output : (src == temp1 ? temp2 : temp1);
+				clearBorder(f, dst);
+				f.process(src,dst);
+			}
+		} finally {
+			pool.release(temp1);
+			pool.release(temp2);
 		}
+	}
 
-		output.setTo(temp1);
+	/**
+	 * Filters don't write to their border. Pooled images and the output have undefined contents so
+	 * the border is set to zero, which is what it would be in a newly declared image.
+	 */
+	private static void clearBorder( FilterImageInterface f , ImageGray image ) {
+		int border = Math.max(f.getHorizontalBorder(),f.getVerticalBorder());
+		if( border > 0 )
+			GImageMiscOps.fillBorder(image, 0, border);
 	}
 
 	@Override
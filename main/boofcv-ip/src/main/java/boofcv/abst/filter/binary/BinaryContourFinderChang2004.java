@@ -20,6 +20,8 @@ package boofcv.abst.filter.binary;
 
 import boofcv.alg.filter.binary.ContourPacked;
 import boofcv.alg.filter.binary.LinearContourLabelChang2004;
+import boofcv.alg.filter.binary.LinearContourLabelChang2004_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
@@ -30,16 +32,34 @@ import java.util.List;
 
 /**
  * Wrapper around {@link boofcv.alg.filter.binary.LinearContourLabelChang2004} for
- * {@link BinaryContourFinder}
+ * {@link BinaryContourFinder}. The concurrent implementation is selected each time {@link #process} is called
+ * if {@link BoofConcurrency#USE_CONCURRENT} is true and more than one thread is allowed.
  *
  * @author Peter Abeles
  */
 public class BinaryContourFinderChang2004 implements BinaryContourFinder {
 
-	LinearContourLabelChang2004 finder = new LinearContourLabelChang2004(ConnectRule.FOUR);
+	// stores the settings and is used when running single threaded
+	LinearContourLabelChang2004 serial = new LinearContourLabelChang2004(ConnectRule.FOUR);
+	// created the first time it's needed
+	LinearContourLabelChang2004_MT concurrent;
+
+	// the implementation which processed the most recent image
+	LinearContourLabelChang2004 finder = serial;
 
 	@Override
 	public void process(GrayU8 binary, GrayS32 labeled) {
+		if( BoofConcurrency.USE_CONCURRENT && BoofConcurrency.getMaxThreads() > 1 ) {
+			if( concurrent == null ) {
+				concurrent = new LinearContourLabelChang2004_MT(serial.getConnectRule());
+				concurrent.setSaveInternalContours(serial.isSaveInternalContours());
+				concurrent.setMinContourSize(serial.getMinContourSize());
+				concurrent.setMaxContourSize(serial.getMaxContourSize());
+			}
+			finder = concurrent;
+		} else {
+			finder = serial;
+		}
 		finder.process(binary,labeled);
 	}
 
@@ -60,41 +80,49 @@ public class BinaryContourFinderChang2004 implements BinaryContourFinder {
 
 	@Override
 	public void setSaveInnerContour(boolean enabled) {
-		finder.setSaveInternalContours(enabled);
+		serial.setSaveInternalContours(enabled);
+		if( concurrent != null )
+			concurrent.setSaveInternalContours(enabled);
 	}
 
 	@Override
 	public boolean isSaveInternalContours() {
-		return finder.isSaveInternalContours();
+		return serial.isSaveInternalContours();
 	}
 
 	@Override
 	public void setMinContour(int length) {
-		finder.setMinContourSize(length);
+		serial.setMinContourSize(length);
+		if( concurrent != null )
+			concurrent.setMinContourSize(length);
 	}
 
 	@Override
 	public int getMinContour() {
-		return finder.getMinContourSize();
+		return serial.getMinContourSize();
 	}
 
 	@Override
 	public void setMaxContour(int length) {
-		finder.setMaxContourSize(length);
+		serial.setMaxContourSize(length);
+		if( concurrent != null )
+			concurrent.setMaxContourSize(length);
 	}
 
 	@Override
 	public int getMaxContour() {
-		return finder.getMaxContourSize();
+		return serial.getMaxContourSize();
 	}
 
 	@Override
 	public void setConnectRule(ConnectRule rule) {
-		finder.setConnectRule(rule);
+		serial.setConnectRule(rule);
+		if( concurrent != null )
+			concurrent.setConnectRule(rule);
 	}
 
 	@Override
 	public ConnectRule getConnectRule() {
-		return finder.getConnectRule();
+		return serial.getConnectRule();
 	}
 }
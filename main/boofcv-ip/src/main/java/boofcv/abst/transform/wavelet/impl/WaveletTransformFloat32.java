@@ -19,6 +19,7 @@
 package boofcv.abst.transform.wavelet.impl;
 
 import boofcv.abst.transform.wavelet.WaveletTransform;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.wavelet.UtilWavelet;
 import boofcv.alg.transform.wavelet.WaveletTransformOps;
 import boofcv.core.image.border.BorderType;
@@ -61,6 +62,8 @@ public class WaveletTransformFloat32 implements WaveletTransform<GrayF32,GrayF32
 			transformed = new GrayF32(d.width,d.height);
 		}
 		temp.reshape(transformed.width,transformed.height);
+		// the padded region of temp is read by the transform. Make sure results don't depend on the previous call
+		ImageMiscOps.fill(temp,0);
 		copy.reshape(original.width,original.height);
 		copy.setTo(original);
 
@@ -19,6 +19,7 @@
 package boofcv.abst.transform.wavelet.impl;
 
 import boofcv.abst.transform.wavelet.WaveletTransform;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.wavelet.UtilWavelet;
 import boofcv.alg.transform.wavelet.WaveletTransformOps;
 import boofcv.core.image.GConvertImage;
@@ -77,6 +78,8 @@ public class WaveletTransformInt<T extends GrayI<T>> implements WaveletTransform
 			transformed = new GrayS32(d.width,d.height);
 		}
 		temp.reshape(transformed.width,transformed.height);
+		// the padded region of temp is read by the transform. Make sure results don't depend on the previous call
+		ImageMiscOps.fill(temp,0);
 
 		copyInput.reshape(original.width,original.height);
 		if( original.getDataType().getDataType() == int.class ) {
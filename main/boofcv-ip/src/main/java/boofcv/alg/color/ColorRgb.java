@@ -18,6 +18,9 @@
 
 package boofcv.alg.color;
 
+import boofcv.alg.color.impl.ImplColorRgb;
+import boofcv.alg.color.impl.ImplColorRgb_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -66,104 +69,50 @@ public class ColorRgb {
 	}
 
 	public static void rgbToGray_Weighted_U8(Planar<GrayU8> rgb , GrayU8 gray ) {
-		GrayU8 R = rgb.getBand(0);
-		GrayU8 G = rgb.getBand(1);
-		GrayU8 B = rgb.getBand(2);
-
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ , indexRgb++) {
-				double r = R.data[indexRgb]&0xFF;
-				double g = G.data[indexRgb]&0xFF;
-				double b = B.data[indexRgb]&0xFF;
-
-				gray.data[indedGra] = (byte)(0.299*r + 0.587*g + 0.114*b);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorRgb_MT.rgbToGray_Weighted_U8(rgb,gray);
+		} else {
+			ImplColorRgb.rgbToGray_Weighted_U8(rgb,gray);
 		}
 	}
 
 	public static void rgbToGray_Weighted_F32(Planar<GrayF32> rgb , GrayF32 gray ) {
-		GrayF32 R = rgb.getBand(0);
-		GrayF32 G = rgb.getBand(1);
-		GrayF32 B = rgb.getBand(2);
-
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ , indexRgb++) {
-				float r = R.data[indexRgb];
-				float g = G.data[indexRgb];
-				float b = B.data[indexRgb];
-
-				gray.data[indedGra] = 0.299f*r + 0.587f*g + 0.114f*b;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorRgb_MT.rgbToGray_Weighted_F32(rgb,gray);
+		} else {
+			ImplColorRgb.rgbToGray_Weighted_F32(rgb,gray);
 		}
 	}
 
 	public static void rgbToGray_Weighted_F64(Planar<GrayF64> rgb , GrayF64 gray ) {
-		GrayF64 R = rgb.getBand(0);
-		GrayF64 G = rgb.getBand(1);
-		GrayF64 B = rgb.getBand(2);
-
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ , indexRgb++) {
-				double r = R.data[indexRgb];
-				double g = G.data[indexRgb];
-				double b = B.data[indexRgb];
-
-				gray.data[indedGra] = 0.299*r + 0.587*g + 0.114*b;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorRgb_MT.rgbToGray_Weighted_F64(rgb,gray);
+		} else {
+			ImplColorRgb.rgbToGray_Weighted_F64(rgb,gray);
 		}
 	}
 
 	public static void rgbToGray_Weighted(InterleavedU8 rgb , GrayU8 gray ) {
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ ) {
-				double r = rgb.data[indexRgb++]&0xFF;
-				double g = rgb.data[indexRgb++]&0xFF;
-				double b = rgb.data[indexRgb++]&0xFF;
-
-				gray.data[indedGra] = (byte)(0.299*r + 0.587*g + 0.114*b);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorRgb_MT.rgbToGray_Weighted(rgb,gray);
+		} else {
+			ImplColorRgb.rgbToGray_Weighted(rgb,gray);
 		}
 	}
 
 	public static void rgbToGray_Weighted(InterleavedF32 rgb , GrayF32 gray ) {
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ ) {
-				float r = rgb.data[indexRgb++];
-				float g = rgb.data[indexRgb++];
-				float b = rgb.data[indexRgb++];
-
-				gray.data[indedGra] = 0.299f*r + 0.587f*g + 0.114f*b;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorRgb_MT.rgbToGray_Weighted(rgb,gray);
+		} else {
+			ImplColorRgb.rgbToGray_Weighted(rgb,gray);
 		}
 	}
 
 	public static void rgbToGray_Weighted(InterleavedF64 rgb , GrayF64 gray ) {
-		for( int row = 0; row < rgb.height; row++ ) {
-			int indexRgb = rgb.startIndex + row*rgb.stride;
-			int indedGra = gray.startIndex + row*gray.stride;
-
-			for( int col = 0; col < rgb.width; col++ , indedGra++ ) {
-				double r = rgb.data[indexRgb++];
-				double g = rgb.data[indexRgb++];
-				double b = rgb.data[indexRgb++];
-
-				gray.data[indedGra] = 0.299*r + 0.587*g + 0.114*b;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplColorRgb_MT.rgbToGray_Weighted(rgb,gray);
+		} else {
+			ImplColorRgb.rgbToGray_Weighted(rgb,gray);
 		}
 	}
 
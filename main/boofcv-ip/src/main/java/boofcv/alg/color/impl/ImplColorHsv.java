@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.color.ColorHsv;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.Planar;
+
+import static boofcv.alg.color.ColorHsv.PI2_F32;
+import static boofcv.alg.color.ColorHsv.d60_F32;
+
+/**
+ * <p>
+ * Low level implementations of {@link ColorHsv} for converting between RGB and HSV images. Band arrays are copied
+ * into local variables and each row is processed independently.
+ * </p>
+ *
+ * <p>
+ * Results are identical to the per-pixel equations in {@link ColorHsv}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorHsv {
+
+	public static void hsvToRgb_F32( Planar<GrayF32> hsv , Planar<GrayF32> rgb ) {
+		final float[] H = hsv.getBand(0).data;
+		final float[] S = hsv.getBand(1).data;
+		final float[] V = hsv.getBand(2).data;
+
+		final float[] R = rgb.getBand(0).data;
+		final float[] G = rgb.getBand(1).data;
+		final float[] B = rgb.getBand(2).data;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, hsv.height, row -> {
+		for( int row = 0; row < hsv.height; row++ ) {
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexHsv + hsv.width;
+
+			for( ; indexHsv < end; indexHsv++ , indexRgb++ ) {
+				float h = H[indexHsv];
+				float s = S[indexHsv];
+				float v = V[indexHsv];
+
+				if( s == 0 ) {
+					R[indexRgb] = v;
+					G[indexRgb] = v;
+					B[indexRgb] = v;
+					continue;
+				}
+				h /= d60_F32;
+				int h_int = (int)h;
+				float remainder = h - h_int;
+				float p = v * ( 1 - s );
+				float q = v * ( 1 - s * remainder );
+				float t = v * ( 1 - s * ( 1 - remainder ) );
+
+				float r,g,b;
+				if( h_int < 1 ) {
+					r = v; g = t; b = p;
+				} else if( h_int < 2 ) {
+					r = q; g = v; b = p;
+				} else if( h_int < 3 ) {
+					r = p; g = v; b = t;
+				} else if( h_int < 4 ) {
+					r = p; g = q; b = v;
+				} else if( h_int < 5 ) {
+					r = t; g = p; b = v;
+				} else {
+					r = v; g = p; b = q;
+				}
+				R[indexRgb] = r;
+				G[indexRgb] = g;
+				B[indexRgb] = b;
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void rgbToHsv_F32( Planar<GrayF32> rgb , Planar<GrayF32> hsv ) {
+		final float[] R = rgb.getBand(0).data;
+		final float[] G = rgb.getBand(1).data;
+		final float[] B = rgb.getBand(2).data;
+
+		final float[] H = hsv.getBand(0).data;
+		final float[] S = hsv.getBand(1).data;
+		final float[] V = hsv.getBand(2).data;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, hsv.height, row -> {
+		for( int row = 0; row < hsv.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexHsv = hsv.startIndex + row*hsv.stride;
+			int end = indexHsv + hsv.width;
+
+			for( ; indexHsv < end; indexHsv++ , indexRgb++ ) {
+				float r = R[indexRgb];
+				float g = G[indexRgb];
+				float b = B[indexRgb];
+
+				float max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+				float min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+
+				float delta = max - min;
+
+				V[indexHsv] = max;
+
+				if( max == 0 ) {
+					H[indexHsv] = Float.NaN;
+					S[indexHsv] = 0;
+					continue;
+				}
+				S[indexHsv] = delta / max;
+
+				float h;
+				if( r == max )
+					h = ( g - b ) / delta;
+				else if( g == max )
+					h = 2 + ( b - r ) / delta;
+				else
+					h = 4 + ( r - g ) / delta;
+
+				h *= d60_F32;
+				if( h < 0 )
+					h += PI2_F32;
+
+				H[indexHsv] = h;
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.color.ColorRgb;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Low level implementations of {@link ColorRgb} for converting RGB images into gray scale. Each row is processed
+ * by a single tight loop over primitive arrays which have been copied into local variables, making it easy for
+ * the JIT to unroll and vectorize.
+ * </p>
+ *
+ * <p>
+ * Results are identical to the per-pixel equations in {@link ColorRgb}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorRgb {
+
+	public static void rgbToGray_Weighted_U8( Planar<GrayU8> rgb , GrayU8 gray ) {
+		final byte[] R = rgb.getBand(0).data;
+		final byte[] G = rgb.getBand(1).data;
+		final byte[] B = rgb.getBand(2).data;
+		final byte[] out = gray.data;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, rgb.height, row -> {
+		for( int row = 0; row < rgb.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexGray = gray.startIndex + row*gray.stride;
+			int end = indexRgb + rgb.width;
+
+			for( ; indexRgb < end; indexRgb++ , indexGray++ ) {
+				out[indexGray] = (byte)(0.299*(R[indexRgb]&0xFF) + 0.587*(G[indexRgb]&0xFF) + 0.114*(B[indexRgb]&0xFF));
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void rgbToGray_Weighted_F32( Planar<GrayF32> rgb , GrayF32 gray ) {
+		final float[] R = rgb.getBand(0).data;
+		final float[] G = rgb.getBand(1).data;
+		final float[] B = rgb.getBand(2).data;
+		final float[] out = gray.data;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, rgb.height, row -> {
+		for( int row = 0; row < rgb.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexGray = gray.startIndex + row*gray.stride;
+			int end = indexRgb + rgb.width;
+
+			for( ; indexRgb < end; indexRgb++ , indexGray++ ) {
+				out[indexGray] = 0.299f*R[indexRgb] + 0.587f*G[indexRgb] + 0.114f*B[indexRgb];
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void rgbToGray_Weighted_F64( Planar<GrayF64> rgb , GrayF64 gray ) {
+		final double[] R = rgb.getBand(0).data;
+		final double[] G = rgb.getBand(1).data;
+		final double[] B = rgb.getBand(2).data;
+		final double[] out = gray.data;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, rgb.height, row -> {
+		for( int row = 0; row < rgb.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexGray = gray.startIndex + row*gray.stride;
+			int end = indexRgb + rgb.width;
+
+			for( ; indexRgb < end; indexRgb++ , indexGray++ ) {
+				out[indexGray] = 0.299*R[indexRgb] + 0.587*G[indexRgb] + 0.114*B[indexRgb];
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void rgbToGray_Weighted( InterleavedU8 rgb , GrayU8 gray ) {
+		final byte[] src = rgb.data;
+		final byte[] out = gray.data;
+		final int numBands = rgb.numBands;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, rgb.height, row -> {
+		for( int row = 0; row < rgb.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexGray = gray.startIndex + row*gray.stride;
+			int end = indexGray + rgb.width;
+
+			for( ; indexGray < end; indexGray++ , indexRgb += numBands ) {
+				out[indexGray] = (byte)(0.299*(src[indexRgb]&0xFF) + 0.587*(src[indexRgb+1]&0xFF) + 0.114*(src[indexRgb+2]&0xFF));
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void rgbToGray_Weighted( InterleavedF32 rgb , GrayF32 gray ) {
+		final float[] src = rgb.data;
+		final float[] out = gray.data;
+		final int numBands = rgb.numBands;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, rgb.height, row -> {
+		for( int row = 0; row < rgb.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexGray = gray.startIndex + row*gray.stride;
+			int end = indexGray + rgb.width;
+
+			for( ; indexGray < end; indexGray++ , indexRgb += numBands ) {
+				out[indexGray] = 0.299f*src[indexRgb] + 0.587f*src[indexRgb+1] + 0.114f*src[indexRgb+2];
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void rgbToGray_Weighted( InterleavedF64 rgb , GrayF64 gray ) {
+		final double[] src = rgb.data;
+		final double[] out = gray.data;
+		final int numBands = rgb.numBands;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, rgb.height, row -> {
+		for( int row = 0; row < rgb.height; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexGray = gray.startIndex + row*gray.stride;
+			int end = indexGray + rgb.width;
+
+			for( ; indexGray < end; indexGray++ , indexRgb += numBands ) {
+				out[indexGray] = 0.299*src[indexRgb] + 0.587*src[indexRgb+1] + 0.114*src[indexRgb+2];
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.color.ColorYuv;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.Planar;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>
+ * Low level implementations of {@link ColorYuv} for converting between RGB and YUV images. Band arrays are copied
+ * into local variables and each row is processed by a single branch free loop.
+ * </p>
+ *
+ * <p>
+ * Results are identical to the per-pixel equations in {@link ColorYuv}.
+ * </p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by AutocodeConcurrentApp</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("boofcv.alg.color.impl.ImplColorYuv")
+public class ImplColorYuv_MT {
+
+	public static void yuvToRgb_F32( Planar<GrayF32> yuv , Planar<GrayF32> rgb ) {
+		final float[] Y = yuv.getBand(0).data;
+		final float[] U = yuv.getBand(1).data;
+		final float[] V = yuv.getBand(2).data;
+
+		final float[] R = rgb.getBand(0).data;
+		final float[] G = rgb.getBand(1).data;
+		final float[] B = rgb.getBand(2).data;
+
+		BoofConcurrency.loopFor(0, yuv.height, row -> {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexYuv + yuv.width;
+
+			for( ; indexYuv < end; indexYuv++ , indexRgb++ ) {
+				float y = Y[indexYuv];
+				float u = U[indexYuv];
+				float v = V[indexYuv];
+
+				R[indexRgb] = y + 1.13983f*v;
+				G[indexRgb] = y - 0.39465f*u - 0.58060f*v;
+				B[indexRgb] = y + 2.032f*u;
+			}
+		});
+	}
+
+	public static void rgbToYuv_F32( Planar<GrayF32> rgb , Planar<GrayF32> yuv ) {
+		final float[] R = rgb.getBand(0).data;
+		final float[] G = rgb.getBand(1).data;
+		final float[] B = rgb.getBand(2).data;
+
+		final float[] Y = yuv.getBand(0).data;
+		final float[] U = yuv.getBand(1).data;
+		final float[] V = yuv.getBand(2).data;
+
+		BoofConcurrency.loopFor(0, yuv.height, row -> {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexYuv + yuv.width;
+
+			for( ; indexYuv < end; indexYuv++ , indexRgb++ ) {
+				float r = R[indexRgb];
+				float g = G[indexRgb];
+				float b = B[indexRgb];
+
+				float y = 0.299f*r + 0.587f*g + 0.114f*b;
+
+				Y[indexYuv] = y;
+				U[indexYuv] = 0.492f*(b-y);
+				V[indexYuv] = 0.877f*(r-y);
+			}
+		});
+	}
+
+	public static void ycbcrToRgb_U8( Planar<GrayU8> yuv , Planar<GrayU8> rgb ) {
+		final byte[] Y = yuv.getBand(0).data;
+		final byte[] U = yuv.getBand(1).data;
+		final byte[] V = yuv.getBand(2).data;
+
+		final byte[] R = rgb.getBand(0).data;
+		final byte[] G = rgb.getBand(1).data;
+		final byte[] B = rgb.getBand(2).data;
+
+		BoofConcurrency.loopFor(0, yuv.height, row -> {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexYuv + yuv.width;
+
+			for( ; indexYuv < end; indexYuv++ , indexRgb++ ) {
+				int y = Math.max(0,1191*((Y[indexYuv]&0xFF) - 16));
+				int cb = (U[indexYuv]&0xFF) - 128;
+				int cr = (V[indexYuv]&0xFF) - 128;
+
+				int r = (y + 1836*cr) >> 10;
+				int g = (y - 547*cr - 218*cb) >> 10;
+				int b = (y + 2165*cb) >> 10;
+
+				R[indexRgb] = (byte)Math.min(255,Math.max(0,r));
+				G[indexRgb] = (byte)Math.min(255,Math.max(0,g));
+				B[indexRgb] = (byte)Math.min(255,Math.max(0,b));
+			}
+		});
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.alg.denoise.wavelet;
 import boofcv.alg.denoise.ShrinkThresholdRule;
 import boofcv.alg.misc.ImageStatistics;
 import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.GrowQueue_F32;
 
 
 /**
@@ -46,6 +47,9 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<GrayF32> {
 
 	float noiseVariance;
 
+	// storage for coefficients when estimating the noise. Reused between calls
+	GrowQueue_F32 storage = new GrowQueue_F32();
+
 	public DenoiseBayesShrink_F32( ShrinkThresholdRule<GrayF32> rule ) {
 		super(rule);
 	}
@@ -86,7 +90,9 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<GrayF32> {
 		int h = transform.height;
 
 		// compute the noise variance using the HH_1 subband
-		noiseVariance = UtilDenoiseWavelet.estimateNoiseStdDev(transform.subimage(w/2,h/2,w,h, null),null);
+		GrayF32 subbandHH = transform.subimage(w/2,h/2,w,h, null);
+		storage.resize(subbandHH.width*subbandHH.height);
+		noiseVariance = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,storage.data);
 		noiseVariance *= noiseVariance;
 
 //		System.out.println("Noise Variance: "+noiseVariance);
@@ -22,6 +22,7 @@ import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.ShrinkThresholdRule;
 import boofcv.alg.transform.wavelet.UtilWavelet;
 import boofcv.struct.image.GrayF32;
+import org.ddogleg.struct.GrowQueue_F32;
 
 
 /**
@@ -41,6 +42,9 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<GrayF32> {
 
 	ShrinkThresholdRule<GrayF32> rule = new ShrinkThresholdSoft_F32();
 
+	// storage for coefficients when estimating the noise. Reused between calls
+	GrowQueue_F32 storage = new GrowQueue_F32();
+
 	/**
 	 * Applies VisuShrink denoising to the provided multilevel wavelet transform using
 	 * the provided threshold.
@@ -60,7 +64,8 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<GrayF32> {
 		final int innerHeight = h/scale;
 
 		GrayF32 subbandHH = transform.subimage(w/2,h/2,w,h, null);
-		float sigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,null);
+		storage.resize(subbandHH.width*subbandHH.height);
+		float sigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,storage.data);
 		float threshold = (float) UtilDenoiseWavelet.universalThreshold(subbandHH,sigma);
 
 		// apply same threshold to all wavelet coefficients
@@ -32,6 +32,7 @@ import boofcv.struct.distort.PixelTransform2_F64;
 import boofcv.struct.distort.Point2Transform2_F32;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.ImageType;
 import boofcv.struct.image.Planar;
 import georegression.struct.affine.Affine2D_F32;
 import georegression.struct.shapes.RectangleLength2D_F32;
@@ -197,6 +198,26 @@ public class DistortImageOps {
 		return distorter;
 	}
 
+	/**
+	 * Creates an {@link ImageDistort} which applies the transform using a precomputed fixed-point remap table.
+	 * The table is computed the first time the distortion is applied and reused afterwards, making it well suited
+	 * for distortions which are applied to every frame, e.g. removing lens distortion. Only images with U8 bands
+	 * are supported.
+	 *
+	 * @see ImageDistortRemap
+	 *
+	 * @param dstToSrc Transform from destination pixels to source pixels
+	 * @param borderType How pixels outside the image border are handled. If SKIP then those pixels are not modified.
+	 * @param imageType Type of input and output image. Gray, planar, or interleaved.
+	 * @return The {@link ImageDistort}
+	 */
+	public static <T extends ImageBase<T>>
+	ImageDistort<T,T> createRemap( PixelTransform2_F32 dstToSrc , BorderType borderType , ImageType<T> imageType ) {
+		ImageDistort<T,T> distorter = FactoryDistort.distortRemap(borderType, imageType);
+		distorter.setModel(dstToSrc);
+		return distorter;
+	}
+
 	/**
 	 * Rescales the input image and writes the results into the output image.  The scale
 	 * factor is determined independently of the width and height.
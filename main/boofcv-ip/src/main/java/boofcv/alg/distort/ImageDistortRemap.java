@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.ImageBase;
+
+/**
+ * <p>
+ * Image distortion which uses a precomputed {@link RemapTableFixed fixed-point remap table} and bilinear
+ * interpolation. Designed for distortions which don't change between frames, e.g. removing lens distortion or
+ * stereo rectification. Computing the table is expensive but only done when the model or the image shape changes.
+ * After that, applying the distortion doesn't declare any memory and rows are processed concurrently when
+ * {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
+ * <p>
+ * Pixels inside the source image are computed using integer math and are rounded to the nearest integer.
+ * Pixels near or outside the source image's border are handled by a general purpose interpolation algorithm,
+ * which determines how the border is handled.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class ImageDistortRemap<T extends ImageBase<T>> implements ImageDistort<T,T> {
+
+	// precomputed table
+	protected RemapTableFixed table = new RemapTableFixed();
+
+	// transform
+	private PixelTransform2_F32 dstToSrc;
+	private boolean dirty;
+
+	// should it render all pixels in the destination, even ones outside the input image
+	protected boolean renderAll = true;
+	protected T srcImg;
+	protected T dstImg;
+
+	@Override
+	public void setModel(PixelTransform2_F32 dstToSrc) {
+		this.dirty = true;
+		this.dstToSrc = dstToSrc;
+	}
+
+	@Override
+	public void apply(T srcImg, T dstImg) {
+		apply(srcImg,dstImg,0,0,dstImg.width,dstImg.height);
+	}
+
+	@Override
+	public void apply(T srcImg, T dstImg, int dstX0, int dstY0, int dstX1, int dstY1) {
+		init(srcImg, dstImg);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(dstY0,dstY1,(y0,y1)->applyInner(dstX0,y0,dstX1,y1));
+		} else {
+			applyInner(dstX0,dstY0,dstX1,dstY1);
+		}
+		applyBorder(dstX0,dstY0,dstX1,dstY1);
+	}
+
+	private void init(T srcImg, T dstImg) {
+		if( dirty || !table.isShape(dstImg.width,dstImg.height,srcImg.width,srcImg.height) ) {
+			table.compute(dstToSrc,dstImg.width,dstImg.height,srcImg.width,srcImg.height);
+			dirty = false;
+		}
+		this.srcImg = srcImg;
+		this.dstImg = dstImg;
+	}
+
+	/**
+	 * Renders all the pixels in the specified region which are inside the remap table
+	 */
+	protected abstract void applyInner( int x0 , int y0 , int x1 , int y1 );
+
+	/**
+	 * Renders all the pixels in the specified region which are along the border
+	 */
+	private void applyBorder( int x0 , int y0 , int x1 , int y1 ) {
+		setBorderImage(srcImg);
+
+		float maxWidth = srcImg.getWidth()-1;
+		float maxHeight = srcImg.getHeight()-1;
+
+		int dstWidth = table.getDstWidth();
+		int[] indexes = table.borderIndexes.data;
+		float[] points = table.borderPoints.data;
+		int N = table.borderIndexes.size;
+		for (int i = 0; i < N; i++) {
+			int index = indexes[i];
+			int y = index/dstWidth;
+			int x = index - y*dstWidth;
+			if( x < x0 || x >= x1 || y < y0 || y >= y1 )
+				continue;
+
+			float srcX = points[i*2];
+			float srcY = points[i*2+1];
+			// written so that NaN is treated as being outside, the same as ImageDistortBasic
+			if( !renderAll && !(srcX >= 0 && srcX <= maxWidth && srcY >= 0 && srcY <= maxHeight) )
+				continue;
+
+			assignBorder(x,y,srcX,srcY);
+		}
+	}
+
+	/**
+	 * Passes the source image to the border interpolation algorithm
+	 */
+	protected abstract void setBorderImage( T srcImg );
+
+	/**
+	 * Interpolates the source image at (srcX,srcY) and writes the results into pixel (x,y) in the destination
+	 */
+	protected abstract void assignBorder( int x , int y , float srcX , float srcY );
+
+	public RemapTableFixed getTable() {
+		return table;
+	}
+
+	@Override
+	public void setRenderAll(boolean renderAll) {
+		this.renderAll = renderAll;
+	}
+
+	@Override
+	public boolean getRenderAll() {
+		return renderAll;
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.struct.distort.PixelTransform2_F32;
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Precomputed table which maps every pixel in the destination image to a location in the source image using
+ * fixed-point arithmetic. The integer coordinate of the top-left pixel in the bilinear interpolation
+ * neighborhood is packed into 16-bits for each axis and the fractional offset is quantized to {@link #FRACTION_BITS}
+ * bits per axis. Interpolation weights for each possible fractional offset are looked up from {@link #WEIGHTS}.
+ * This removes all floating point math and most branches from the per pixel inner loop and is much more memory
+ * efficient than caching a {@link georegression.struct.point.Point2D_F32} for each pixel.
+ * </p>
+ *
+ * <p>
+ * Pixels whose interpolation neighborhood is not entirely inside the source image can't be handled by the table.
+ * Their floating point location is saved in a separate list so that they can be processed using a general purpose
+ * interpolation algorithm with border handling.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class RemapTableFixed {
+	/** Number of bits used to encode the fractional portion of a coordinate */
+	public static final int FRACTION_BITS = 5;
+	/** Number of possible fractional values along each axis */
+	public static final int FRACTION_SIZE = 1 << FRACTION_BITS;
+	/** Number of bits the interpolation weights sum up to */
+	public static final int WEIGHT_BITS = 2*FRACTION_BITS;
+	/** Added to the weighted sum to round instead of truncate */
+	public static final int WEIGHT_ROUND = 1 << (WEIGHT_BITS-1);
+	/** Value in the coordinate table for pixels which must be handled by the border */
+	public static final int BORDER = -1;
+
+	/**
+	 * Bilinear interpolation weights for each fractional offset. Four weights are stored for each offset, in the
+	 * order (x,y), (x+1,y), (x,y+1), (x+1,y+1). The weights sum up to 2<sup>WEIGHT_BITS</sup>
+	 */
+	public static final int[] WEIGHTS = createWeights();
+
+	// shape of the images the table was computed for
+	int dstWidth,dstHeight;
+	int srcWidth,srcHeight;
+
+	/** Integer location of the top-left pixel in the source image, encoded as (y &lt;&lt; 16) | x, or BORDER. */
+	public int[] coordinates = new int[0];
+	/** Index of the fractional offset, encoded as (fy &lt;&lt; FRACTION_BITS) | fx */
+	public short[] fractions = new short[0];
+
+	/** Index of destination pixels (y*dstWidth + x) which must be handled by the border */
+	public GrowQueue_I32 borderIndexes = new GrowQueue_I32();
+	/** Location of each border pixel in the source image. Interleaved x and y */
+	public GrowQueue_F32 borderPoints = new GrowQueue_F32();
+
+	/**
+	 * Computes the remap table
+	 *
+	 * @param dstToSrc Transform from destination pixels to source pixels
+	 * @param dstWidth Width of the destination image
+	 * @param dstHeight Height of the destination image
+	 * @param srcWidth Width of the source image
+	 * @param srcHeight Height of the source image
+	 */
+	public void compute( PixelTransform2_F32 dstToSrc ,
+						 int dstWidth , int dstHeight ,
+						 int srcWidth , int srcHeight ) {
+		if( srcWidth > 0xFFFF || srcHeight > 0xFFFF )
+			throw new IllegalArgumentException("Source image is too large for a fixed-point table");
+
+		this.dstWidth = dstWidth;
+		this.dstHeight = dstHeight;
+		this.srcWidth = srcWidth;
+		this.srcHeight = srcHeight;
+
+		int N = dstWidth*dstHeight;
+		if( coordinates.length < N ) {
+			coordinates = new int[N];
+			fractions = new short[N];
+		}
+		borderIndexes.reset();
+		borderPoints.reset();
+
+		// the entire neighborhood must be inside the image
+		int maxX = srcWidth-2;
+		int maxY = srcHeight-2;
+
+		int index = 0;
+		for (int y = 0; y < dstHeight; y++) {
+			for (int x = 0; x < dstWidth; x++, index++) {
+				dstToSrc.compute(x,y);
+				float srcX = dstToSrc.distX;
+				float srcY = dstToSrc.distY;
+
+				// round to the nearest fixed-point value. floor() so that negative values are handled correctly
+				int fixedX = (int)Math.floor(srcX*FRACTION_SIZE + 0.5f);
+				int fixedY = (int)Math.floor(srcY*FRACTION_SIZE + 0.5f);
+				int px = fixedX >> FRACTION_BITS;
+				int py = fixedY >> FRACTION_BITS;
+
+				// NaN would be converted into zero, which is inside the image, so it's explicitly sent to the border
+				if( px >= 0 && py >= 0 && px <= maxX && py <= maxY && !Float.isNaN(srcX) && !Float.isNaN(srcY) ) {
+					coordinates[index] = (py << 16) | px;
+					fractions[index] = (short)(((fixedY & (FRACTION_SIZE-1)) << FRACTION_BITS) | (fixedX & (FRACTION_SIZE-1)));
+				} else {
+					coordinates[index] = BORDER;
+					borderIndexes.add(index);
+					borderPoints.add(srcX);
+					borderPoints.add(srcY);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns true if the table was computed for images with the specified shapes
+	 */
+	public boolean isShape( int dstWidth , int dstHeight , int srcWidth , int srcHeight ) {
+		return this.dstWidth == dstWidth && this.dstHeight == dstHeight &&
+				this.srcWidth == srcWidth && this.srcHeight == srcHeight;
+	}
+
+	private static int[] createWeights() {
+		int[] weights = new int[FRACTION_SIZE*FRACTION_SIZE*4];
+		int index = 0;
+		for (int fy = 0; fy < FRACTION_SIZE; fy++) {
+			for (int fx = 0; fx < FRACTION_SIZE; fx++) {
+				weights[index++] = (FRACTION_SIZE-fx)*(FRACTION_SIZE-fy);
+				weights[index++] = fx*(FRACTION_SIZE-fy);
+				weights[index++] = (FRACTION_SIZE-fx)*fy;
+				weights[index++] = fx*fy;
+			}
+		}
+		return weights;
+	}
+
+	public int getDstWidth() {
+		return dstWidth;
+	}
+
+	public int getDstHeight() {
+		return dstHeight;
+	}
+
+	public int getSrcWidth() {
+		return srcWidth;
+	}
+
+	public int getSrcHeight() {
+		return srcHeight;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.alg.distort.RemapTableFixed;
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.struct.image.InterleavedU8;
+
+import static boofcv.alg.distort.RemapTableFixed.*;
+
+/**
+ * Implementation of {@link ImageDistortRemap} for {@link InterleavedU8}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplImageDistortRemap_IL_U8 extends ImageDistortRemap<InterleavedU8> {
+
+	// used to interpolate pixels along the border
+	private InterpolatePixelMB<InterleavedU8> interp;
+	// storage for the interpolated value of a border pixel
+	private float[] values = new float[0];
+
+	public ImplImageDistortRemap_IL_U8(InterpolatePixelMB<InterleavedU8> interp) {
+		this.interp = interp;
+	}
+
+	@Override
+	public void apply(InterleavedU8 srcImg, InterleavedU8 dstImg, int dstX0, int dstY0, int dstX1, int dstY1) {
+		if( srcImg.numBands != dstImg.numBands )
+			throw new IllegalArgumentException("Number of bands must be the same. "+srcImg.numBands+" vs "+dstImg.numBands);
+		super.apply(srcImg, dstImg, dstX0, dstY0, dstX1, dstY1);
+	}
+
+	@Override
+	protected void applyInner(int x0, int y0, int x1, int y1) {
+		final RemapTableFixed table = this.table;
+		final int[] coordinates = table.coordinates;
+		final short[] fractions = table.fractions;
+		final byte[] src = srcImg.data;
+		final byte[] dst = dstImg.data;
+		final int numBands = srcImg.numBands;
+		final int srcStart = srcImg.startIndex;
+		final int srcStride = srcImg.stride;
+		final int dstWidth = table.getDstWidth();
+
+		for (int y = y0; y < y1; y++) {
+			int indexMap = y*dstWidth + x0;
+			int indexDst = dstImg.startIndex + y*dstImg.stride + x0*numBands;
+			for (int x = x0; x < x1; x++, indexMap++, indexDst += numBands) {
+				int c = coordinates[indexMap];
+				if( c == BORDER )
+					continue;
+				int w = fractions[indexMap]*4;
+				final int w00 = WEIGHTS[w  ], w10 = WEIGHTS[w+1];
+				final int w01 = WEIGHTS[w+2], w11 = WEIGHTS[w+3];
+				int indexSrc = srcStart + (c >>> 16)*srcStride + (c & 0xFFFF)*numBands;
+
+				for (int band = 0; band < numBands; band++, indexSrc++) {
+					int total = w00*(src[indexSrc                   ] & 0xFF) +
+								w10*(src[indexSrc+numBands          ] & 0xFF) +
+								w01*(src[indexSrc+srcStride         ] & 0xFF) +
+								w11*(src[indexSrc+srcStride+numBands] & 0xFF);
+
+					dst[indexDst+band] = (byte)((total + WEIGHT_ROUND) >> WEIGHT_BITS);
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void setBorderImage(InterleavedU8 srcImg) {
+		interp.setImage(srcImg);
+		if( values.length != srcImg.numBands )
+			values = new float[srcImg.numBands];
+	}
+
+	@Override
+	protected void assignBorder(int x, int y, float srcX, float srcY) {
+		interp.get(srcX,srcY,values);
+		int indexDst = dstImg.startIndex + y*dstImg.stride + x*values.length;
+		for (int band = 0; band < values.length; band++) {
+			dstImg.data[indexDst+band] = (byte)(values[band] + 0.5f);
+		}
+	}
+}
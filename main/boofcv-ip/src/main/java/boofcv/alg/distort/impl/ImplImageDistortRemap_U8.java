@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.alg.distort.RemapTableFixed;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.struct.image.GrayU8;
+
+import static boofcv.alg.distort.RemapTableFixed.*;
+
+/**
+ * Implementation of {@link ImageDistortRemap} for {@link GrayU8}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplImageDistortRemap_U8 extends ImageDistortRemap<GrayU8> {
+
+	// used to interpolate pixels along the border
+	private InterpolatePixelS<GrayU8> interp;
+
+	public ImplImageDistortRemap_U8(InterpolatePixelS<GrayU8> interp) {
+		this.interp = interp;
+	}
+
+	@Override
+	protected void applyInner(int x0, int y0, int x1, int y1) {
+		final RemapTableFixed table = this.table;
+		final int[] coordinates = table.coordinates;
+		final short[] fractions = table.fractions;
+		final byte[] src = srcImg.data;
+		final byte[] dst = dstImg.data;
+		final int srcStart = srcImg.startIndex;
+		final int srcStride = srcImg.stride;
+		final int dstWidth = table.getDstWidth();
+
+		for (int y = y0; y < y1; y++) {
+			int indexMap = y*dstWidth + x0;
+			int indexDst = dstImg.startIndex + y*dstImg.stride + x0;
+			for (int x = x0; x < x1; x++, indexMap++, indexDst++) {
+				int c = coordinates[indexMap];
+				if( c == BORDER )
+					continue;
+				int w = fractions[indexMap]*4;
+				int indexSrc = srcStart + (c >>> 16)*srcStride + (c & 0xFFFF);
+
+				int total = WEIGHTS[w  ]*(src[indexSrc            ] & 0xFF) +
+							WEIGHTS[w+1]*(src[indexSrc+1          ] & 0xFF) +
+							WEIGHTS[w+2]*(src[indexSrc+srcStride  ] & 0xFF) +
+							WEIGHTS[w+3]*(src[indexSrc+srcStride+1] & 0xFF);
+
+				dst[indexDst] = (byte)((total + WEIGHT_ROUND) >> WEIGHT_BITS);
+			}
+		}
+	}
+
+	@Override
+	protected void setBorderImage(GrayU8 srcImg) {
+		interp.setImage(srcImg);
+	}
+
+	@Override
+	protected void assignBorder(int x, int y, float srcX, float srcY) {
+		dstImg.data[dstImg.startIndex + y*dstImg.stride + x] = (byte)(interp.get(srcX,srcY) + 0.5f);
+	}
+}
@@ -21,8 +21,13 @@ package boofcv.alg.enhance;
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.enhance.impl.ImplEnhanceFilter;
 import boofcv.alg.enhance.impl.ImplEnhanceHistogram;
+import boofcv.alg.enhance.impl.ImplEnhanceHistogram_MT;
 import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import javax.annotation.Nullable;
 
 /**
  * <p>
@@ -73,7 +78,11 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayU8 input , int transform[] , GrayU8 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ImplEnhanceHistogram.applyTransform(input,transform,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.applyTransform(input,transform,output);
+		} else {
+			ImplEnhanceHistogram.applyTransform(input,transform,output);
+		}
 	}
 
 	/**
@@ -86,7 +95,11 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayU16 input , int transform[] , GrayU16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ImplEnhanceHistogram.applyTransform(input,transform,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.applyTransform(input,transform,output);
+		} else {
+			ImplEnhanceHistogram.applyTransform(input,transform,output);
+		}
 	}
 
 	/**
@@ -100,7 +113,11 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayS8 input , int transform[] , int minValue, GrayS8 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.applyTransform(input,transform,minValue,output);
+		} else {
+			ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		}
 	}
 
 	/**
@@ -114,7 +131,11 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayS16 input , int transform[] , int minValue, GrayS16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.applyTransform(input,transform,minValue,output);
+		} else {
+			ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		}
 	}
 
 	/**
@@ -128,7 +149,11 @@ public class EnhanceImageOps {
 	public static void applyTransform(GrayS32 input , int transform[] , int minValue, GrayS32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.applyTransform(input,transform,minValue,output);
+		} else {
+			ImplEnhanceHistogram.applyTransform(input,transform,minValue,output);
+		}
 	}
 
 	/**
@@ -149,7 +174,11 @@ public class EnhanceImageOps {
 
 		// use more efficient algorithms if possible
 		if( input.width >= width && input.height >= width ) {
-			ImplEnhanceHistogram.equalizeLocalInner(input,radius,output,histogram);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplEnhanceHistogram_MT.equalizeLocalInner(input,radius,output,histogram);
+			} else {
+				ImplEnhanceHistogram.equalizeLocalInner(input,radius,output,histogram);
+			}
 
 			// top border
 			ImplEnhanceHistogram.equalizeLocalRow(input,radius,0,output,histogram,transform);
@@ -189,7 +218,11 @@ public class EnhanceImageOps {
 
 		// use more efficient algorithms if possible
 		if( input.width >= width && input.height >= width ) {
-			ImplEnhanceHistogram.equalizeLocalInner(input,radius,output,histogram);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplEnhanceHistogram_MT.equalizeLocalInner(input,radius,output,histogram);
+			} else {
+				ImplEnhanceHistogram.equalizeLocalInner(input,radius,output,histogram);
+			}
 
 			// top border
 			ImplEnhanceHistogram.equalizeLocalRow(input,radius,0,output,histogram,transform);
@@ -211,6 +244,94 @@ public class EnhanceImageOps {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Contrast limited adaptive histogram equalization (CLAHE). The image is divided into a grid of tiles and
+	 * an equalization transform is computed for each tile from its clipped histogram. The output value of each
+	 * pixel is found by bilinearly interpolating between the transforms of the four closest tiles, which avoids
+	 * discontinuities along tile boundaries. Unlike {@link #equalizeLocal} the cost doesn't depend on the size
+	 * of the local region.
+	 * </p>
+	 *
+	 * <p>
+	 * Clipping limits how much the contrast can be amplified in nearly uniform regions. Bins in a tile's
+	 * histogram are limited to clipLimit times the average number of counts per bin and the excess is
+	 * redistributed across all the bins.
+	 * </p>
+	 *
+	 * @param input Input image.
+	 * @param tilesX Number of tiles along the x-axis. Can't be more than the image's width.
+	 * @param tilesY Number of tiles along the y-axis. Can't be more than the image's height.
+	 * @param clipLimit Maximum bin size relative to the average bin size. Typical values are 2 to 4. If &le; 0
+	 *                  then the histogram isn't clipped.
+	 * @param output Output image.
+	 * @param histogram Storage for image histogram.  Must be large enough to contain all possible values.
+	 * @param transforms (Optional) Storage for the transform of every tile. If null then it's declared internally.
+	 */
+	public static void equalizeLocalTiles( GrayU8 input , int tilesX , int tilesY , double clipLimit , GrayU8 output ,
+										   int histogram[] , @Nullable GrowQueue_I32 transforms ) {
+		InputSanityCheck.checkSameShape(input, output);
+		if( tilesX <= 0 || tilesY <= 0 )
+			throw new IllegalArgumentException("There must be at least one tile along each axis");
+		if( tilesX > input.width || tilesY > input.height )
+			throw new IllegalArgumentException("There can't be more tiles than pixels along an axis");
+		if( transforms == null )
+			transforms = new GrowQueue_I32();
+		transforms.resize(tilesX*tilesY*histogram.length);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.equalizeTilesTransforms(input,tilesX,tilesY,clipLimit,histogram,transforms.data);
+			ImplEnhanceHistogram_MT.equalizeTilesApply(input,tilesX,tilesY,histogram.length,transforms.data,output);
+		} else {
+			ImplEnhanceHistogram.equalizeTilesTransforms(input,tilesX,tilesY,clipLimit,histogram,transforms.data);
+			ImplEnhanceHistogram.equalizeTilesApply(input,tilesX,tilesY,histogram.length,transforms.data,output);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Contrast limited adaptive histogram equalization (CLAHE). The image is divided into a grid of tiles and
+	 * an equalization transform is computed for each tile from its clipped histogram. The output value of each
+	 * pixel is found by bilinearly interpolating between the transforms of the four closest tiles, which avoids
+	 * discontinuities along tile boundaries. Unlike {@link #equalizeLocal} the cost doesn't depend on the size
+	 * of the local region.
+	 * </p>
+	 *
+	 * <p>
+	 * Clipping limits how much the contrast can be amplified in nearly uniform regions. Bins in a tile's
+	 * histogram are limited to clipLimit times the average number of counts per bin and the excess is
+	 * redistributed across all the bins.
+	 * </p>
+	 *
+	 * @param input Input image.
+	 * @param tilesX Number of tiles along the x-axis. Can't be more than the image's width.
+	 * @param tilesY Number of tiles along the y-axis. Can't be more than the image's height.
+	 * @param clipLimit Maximum bin size relative to the average bin size. Typical values are 2 to 4. If &le; 0
+	 *                  then the histogram isn't clipped.
+	 * @param output Output image.
+	 * @param histogram Storage for image histogram.  Must be large enough to contain all possible values.
+	 * @param transforms (Optional) Storage for the transform of every tile. If null then it's declared internally.
+	 */
+	public static void equalizeLocalTiles( GrayU16 input , int tilesX , int tilesY , double clipLimit , GrayU16 output ,
+										   int histogram[] , @Nullable GrowQueue_I32 transforms ) {
+		InputSanityCheck.checkSameShape(input, output);
+		if( tilesX <= 0 || tilesY <= 0 )
+			throw new IllegalArgumentException("There must be at least one tile along each axis");
+		if( tilesX > input.width || tilesY > input.height )
+			throw new IllegalArgumentException("There can't be more tiles than pixels along an axis");
+		if( transforms == null )
+			transforms = new GrowQueue_I32();
+		transforms.resize(tilesX*tilesY*histogram.length);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceHistogram_MT.equalizeTilesTransforms(input,tilesX,tilesY,clipLimit,histogram,transforms.data);
+			ImplEnhanceHistogram_MT.equalizeTilesApply(input,tilesX,tilesY,histogram.length,transforms.data,output);
+		} else {
+			ImplEnhanceHistogram.equalizeTilesTransforms(input,tilesX,tilesY,clipLimit,histogram,transforms.data);
+			ImplEnhanceHistogram.equalizeTilesApply(input,tilesX,tilesY,histogram.length,transforms.data,output);
+		}
+	}
+
 	/**
 	 * Applies a Laplacian-4 based sharpen filter to the image.
 	 *
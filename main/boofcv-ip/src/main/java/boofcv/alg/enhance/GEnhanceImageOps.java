@@ -20,6 +20,9 @@ package boofcv.alg.enhance;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.struct.image.*;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import javax.annotation.Nullable;
 
 /**
  * Weakly typed version of {@link EnhanceImageOps}.
@@ -75,6 +78,31 @@ public class GEnhanceImageOps {
 		}
 	}
 
+	/**
+	 * Contrast limited adaptive histogram equalization (CLAHE) using a grid of tiles.
+	 *
+	 * @see EnhanceImageOps#equalizeLocalTiles(GrayU8, int, int, double, GrayU8, int[], GrowQueue_I32)
+	 *
+	 * @param input Input image.
+	 * @param tilesX Number of tiles along the x-axis.
+	 * @param tilesY Number of tiles along the y-axis.
+	 * @param clipLimit Maximum bin size relative to the average bin size. If &le; 0 then there is no limit.
+	 * @param output Output image.
+	 * @param histogram Storage for image histogram.  Must be large enough to contain all possible values.
+	 * @param transforms (Optional) Storage for the transform of every tile. If null then it's declared internally.
+	 */
+	public static <T extends ImageGray<T>>
+	void equalizeLocalTiles( T input , int tilesX , int tilesY , double clipLimit , T output ,
+							 int histogram[] , @Nullable GrowQueue_I32 transforms ) {
+		if( input instanceof GrayU8) {
+			EnhanceImageOps.equalizeLocalTiles((GrayU8)input,tilesX,tilesY,clipLimit,(GrayU8)output,histogram,transforms);
+		} else if( input instanceof GrayU16) {
+			EnhanceImageOps.equalizeLocalTiles((GrayU16)input,tilesX,tilesY,clipLimit,(GrayU16)output,histogram,transforms);
+		} else {
+			throw new IllegalArgumentException("Unsupported image type "+input.getClass().getSimpleName());
+		}
+	}
+
 	/**
 	 * Applies a Laplacian-4 based sharpen filter to the image.
 	 *
@@ -32,7 +32,11 @@ import boofcv.struct.image.*;
  */
 public class ImplEnhanceHistogram {
 
+	//CONCURRENT_INLINE // the histogram for each block is leased so that it's not declared each time
+	//CONCURRENT_INLINE private static final ImageType<GrayS32> HISTOGRAM = ImageType.single(GrayS32.class);
+
 	public static void applyTransform(GrayU8 input , int transform[] , GrayU8 output ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, i -> {
 		for( int i = 0; i < input.height; i++ ) {
 			int indexInput = input.startIndex + i*input.stride;
 			int indexOutput = output.startIndex + i*output.stride;
@@ -41,9 +45,11 @@ public class ImplEnhanceHistogram {
 				output.data[indexOutput++] = (byte)transform[input.data[indexInput++] & 0xFF];
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void applyTransform(GrayU16 input , int transform[] , GrayU16 output ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, i -> {
 		for( int i = 0; i < input.height; i++ ) {
 			int indexInput = input.startIndex + i*input.stride;
 			int indexOutput = output.startIndex + i*output.stride;
@@ -52,9 +58,11 @@ public class ImplEnhanceHistogram {
 				output.data[indexOutput++] = (short)transform[input.data[indexInput++] & 0xFFFF];
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void applyTransform(GrayS8 input , int transform[] , int minValue , GrayS8 output ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, i -> {
 		for( int i = 0; i < input.height; i++ ) {
 			int indexInput = input.startIndex + i*input.stride;
 			int indexOutput = output.startIndex + i*output.stride;
@@ -63,9 +71,11 @@ public class ImplEnhanceHistogram {
 				output.data[indexOutput++] = (byte)transform[input.data[indexInput++] - minValue];
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void applyTransform(GrayS16 input , int transform[] , int minValue , GrayS16 output ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, i -> {
 		for( int i = 0; i < input.height; i++ ) {
 			int indexInput = input.startIndex + i*input.stride;
 			int indexOutput = output.startIndex + i*output.stride;
@@ -74,9 +84,11 @@ public class ImplEnhanceHistogram {
 				output.data[indexOutput++] = (short)transform[input.data[indexInput++]- minValue];
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void applyTransform(GrayS32 input , int transform[] , int minValue , GrayS32 output ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, i -> {
 		for( int i = 0; i < input.height; i++ ) {
 			int indexInput = input.startIndex + i*input.stride;
 			int indexOutput = output.startIndex + i*output.stride;
@@ -85,6 +97,7 @@ public class ImplEnhanceHistogram {
 				output.data[indexOutput++] = transform[input.data[indexInput++]- minValue];
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	/**
@@ -157,14 +170,19 @@ public class ImplEnhanceHistogram {
 		int area = width*width;
 		int maxValue = histogram.length-1;
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(radius,input.height-radius,(y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 work = ImagePool.getDefault().acquire(HISTOGRAM,histogram.length,1);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = radius; y < input.height-radius; y++ ) {
-			localHistogram(input,0,y-radius,width,y+radius+1,histogram);
+			localHistogram(input,0,y-radius,width,y+radius+1,h);
 
 			// compute equalized pixel value using the local histogram
 			int inputValue = input.unsafe_get(radius, y);
 			int sum = 0;
 			for( int i = 0; i <= inputValue; i++ ) {
-				sum += histogram[i];
+				sum += h[i];
 			}
 
 			output.set(radius,y, (sum*maxValue)/area );
@@ -181,19 +199,19 @@ public class ImplEnhanceHistogram {
 
 				// update local histogram by removing the left column
 				for( int i = -radius; i <= radius; i++ ) {
-					histogram[input.data[indexOld + i*input.stride] & 0xFF]--;
+					h[input.data[indexOld + i*input.stride] & 0xFF]--;
 				}
 
 				// update local histogram by adding the right column
 				for( int i = -radius; i <= radius; i++ ) {
-					histogram[input.data[indexNew + i*input.stride] & 0xFF]++;
+					h[input.data[indexNew + i*input.stride] & 0xFF]++;
 				}
 
 				// compute equalized pixel value using the local histogram
 				inputValue =  input.data[indexIn++] & 0xFF;
 				sum = 0;
 				for( int i = 0; i <= inputValue; i++ ) {
-					sum += histogram[i];
+					sum += h[i];
 				}
 
 				output.data[indexOut++] = (byte)((sum*maxValue)/area);
@@ -202,6 +220,8 @@ public class ImplEnhanceHistogram {
 				indexNew++;
 			}
 		}
+		//CONCURRENT_INLINE ImagePool.getDefault().release(work);
+		//CONCURRENT_INLINE });
 	}
 
 	/**
@@ -380,6 +400,104 @@ public class ImplEnhanceHistogram {
 		}
 	}
 
+	/**
+	 * Computes the equalization transform of each tile for contrast limited adaptive histogram equalization.
+	 * Tile (tx,ty) contains columns tx*width/tilesX to (tx+1)*width/tilesX and the equivalent rows. Its
+	 * transform is saved in transforms starting at index (ty*tilesX + tx)*histogram.length.
+	 *
+	 * @param clipLimit Maximum number of counts in a histogram bin relative to the average. If &le; 0 then
+	 *                  there is no limit.
+	 */
+	public static void equalizeTilesTransforms( GrayU8 input , int tilesX , int tilesY , double clipLimit ,
+												int histogram[] , int transforms[] ) {
+		final int numBins = histogram.length;
+		final int maxValue = numBins-1;
+
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,tilesX*tilesY,(i0,i1)->{
+		//CONCURRENT_INLINE final GrayS32 work = ImagePool.getDefault().acquire(HISTOGRAM,numBins,1);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int tile = i0; tile < i1; tile++ ) {
+		for( int tile = 0; tile < tilesX*tilesY; tile++ ) {
+			int tx = tile%tilesX;
+			int ty = tile/tilesX;
+			int x0 = tx*input.width/tilesX;
+			int x1 = (tx+1)*input.width/tilesX;
+			int y0 = ty*input.height/tilesY;
+			int y1 = (ty+1)*input.height/tilesY;
+
+			localHistogram(input,x0,y0,x1,y1,h);
+
+			int area = (x1-x0)*(y1-y0);
+			if( clipLimit > 0 )
+				clipHistogram(h,Math.max(1,(int)(clipLimit*area/numBins)));
+
+			int offset = tile*numBins;
+			long sum = 0;
+			for( int i = 0; i < numBins; i++ ) {
+				sum += h[i];
+				transforms[offset+i] = (int)((sum*maxValue)/area);
+			}
+		}
+		//CONCURRENT_INLINE ImagePool.getDefault().release(work);
+		//CONCURRENT_INLINE });
+	}
+
+	/**
+	 * Applies the tile transforms computed by equalizeTilesTransforms() to the image. The output value of each
+	 * pixel is found by bilinear interpolation between the transforms of the four closest tile centers.
+	 */
+	public static void equalizeTilesApply( GrayU8 input , int tilesX , int tilesY , int numBins ,
+										   int transforms[] , GrayU8 output ) {
+		// horizontal tile offsets and weight are the same for every row
+		final int[] columnOffset0 = new int[input.width];
+		final int[] columnOffset1 = new int[input.width];
+		final float[] columnWeight = new float[input.width];
+		for( int x = 0; x < input.width; x++ ) {
+			float fx = (x+0.5f)*tilesX/input.width - 0.5f;
+			int tx0 = (int)Math.floor(fx);
+			float wx = fx - tx0;
+			if( tx0 < 0 ) {
+				tx0 = 0; wx = 0;
+			} else if( tx0 >= tilesX-1 ) {
+				tx0 = tilesX-1; wx = 0;
+			}
+			columnOffset0[x] = tx0*numBins;
+			columnOffset1[x] = Math.min(tx0+1,tilesX-1)*numBins;
+			columnWeight[x] = wx;
+		}
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for( int y = 0; y < input.height; y++ ) {
+			float fy = (y+0.5f)*tilesY/input.height - 0.5f;
+			int ty0 = (int)Math.floor(fy);
+			float wy = fy - ty0;
+			if( ty0 < 0 ) {
+				ty0 = 0; wy = 0;
+			} else if( ty0 >= tilesY-1 ) {
+				ty0 = tilesY-1; wy = 0;
+			}
+			int rowOffset0 = ty0*tilesX*numBins;
+			int rowOffset1 = Math.min(ty0+1,tilesY-1)*tilesX*numBins;
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < input.width; x++ ) {
+				int value = input.data[indexIn++] & 0xFF;
+				float wx = columnWeight[x];
+
+				float top = (1.0f-wx)*transforms[rowOffset0+columnOffset0[x]+value] +
+						wx*transforms[rowOffset0+columnOffset1[x]+value];
+				float bottom = (1.0f-wx)*transforms[rowOffset1+columnOffset0[x]+value] +
+						wx*transforms[rowOffset1+columnOffset1[x]+value];
+
+				output.data[indexOut++] = (byte)((1.0f-wy)*top + wy*bottom + 0.5f);
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
 	/**
 	 * Inefficiently computes the local histogram, but can handle every possible case for image size and
 	 * local region size
@@ -450,14 +568,19 @@ public class ImplEnhanceHistogram {
 		int area = width*width;
 		int maxValue = histogram.length-1;
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(radius,input.height-radius,(y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 work = ImagePool.getDefault().acquire(HISTOGRAM,histogram.length,1);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = radius; y < input.height-radius; y++ ) {
-			localHistogram(input,0,y-radius,width,y+radius+1,histogram);
+			localHistogram(input,0,y-radius,width,y+radius+1,h);
 
 			// compute equalized pixel value using the local histogram
 			int inputValue = input.unsafe_get(radius, y);
 			int sum = 0;
 			for( int i = 0; i <= inputValue; i++ ) {
-				sum += histogram[i];
+				sum += h[i];
 			}
 
 			output.set(radius,y, (sum*maxValue)/area );
@@ -474,19 +597,19 @@ public class ImplEnhanceHistogram {
 
 				// update local histogram by removing the left column
 				for( int i = -radius; i <= radius; i++ ) {
-					histogram[input.data[indexOld + i*input.stride] & 0xFFFF]--;
+					h[input.data[indexOld + i*input.stride] & 0xFFFF]--;
 				}
 
 				// update local histogram by adding the right column
 				for( int i = -radius; i <= radius; i++ ) {
-					histogram[input.data[indexNew + i*input.stride] & 0xFFFF]++;
+					h[input.data[indexNew + i*input.stride] & 0xFFFF]++;
 				}
 
 				// compute equalized pixel value using the local histogram
 				inputValue =  input.data[indexIn++] & 0xFFFF;
 				sum = 0;
 				for( int i = 0; i <= inputValue; i++ ) {
-					sum += histogram[i];
+					sum += h[i];
 				}
 
 				output.data[indexOut++] = (short)((sum*maxValue)/area);
@@ -495,6 +618,8 @@ public class ImplEnhanceHistogram {
 				indexNew++;
 			}
 		}
+		//CONCURRENT_INLINE ImagePool.getDefault().release(work);
+		//CONCURRENT_INLINE });
 	}
 
 	/**
@@ -673,5 +798,132 @@ public class ImplEnhanceHistogram {
 		}
 	}
 
+	/**
+	 * Computes the equalization transform of each tile for contrast limited adaptive histogram equalization.
+	 * Tile (tx,ty) contains columns tx*width/tilesX to (tx+1)*width/tilesX and the equivalent rows. Its
+	 * transform is saved in transforms starting at index (ty*tilesX + tx)*histogram.length.
+	 *
+	 * @param clipLimit Maximum number of counts in a histogram bin relative to the average. If &le; 0 then
+	 *                  there is no limit.
+	 */
+	public static void equalizeTilesTransforms( GrayU16 input , int tilesX , int tilesY , double clipLimit ,
+												int histogram[] , int transforms[] ) {
+		final int numBins = histogram.length;
+		final int maxValue = numBins-1;
+
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,tilesX*tilesY,(i0,i1)->{
+		//CONCURRENT_INLINE final GrayS32 work = ImagePool.getDefault().acquire(HISTOGRAM,numBins,1);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int tile = i0; tile < i1; tile++ ) {
+		for( int tile = 0; tile < tilesX*tilesY; tile++ ) {
+			int tx = tile%tilesX;
+			int ty = tile/tilesX;
+			int x0 = tx*input.width/tilesX;
+			int x1 = (tx+1)*input.width/tilesX;
+			int y0 = ty*input.height/tilesY;
+			int y1 = (ty+1)*input.height/tilesY;
+
+			localHistogram(input,x0,y0,x1,y1,h);
+
+			int area = (x1-x0)*(y1-y0);
+			if( clipLimit > 0 )
+				clipHistogram(h,Math.max(1,(int)(clipLimit*area/numBins)));
+
+			int offset = tile*numBins;
+			long sum = 0;
+			for( int i = 0; i < numBins; i++ ) {
+				sum += h[i];
+				transforms[offset+i] = (int)((sum*maxValue)/area);
+			}
+		}
+		//CONCURRENT_INLINE ImagePool.getDefault().release(work);
+		//CONCURRENT_INLINE });
+	}
+
+	/**
+	 * Applies the tile transforms computed by equalizeTilesTransforms() to the image. The output value of each
+	 * pixel is found by bilinear interpolation between the transforms of the four closest tile centers.
+	 */
+	public static void equalizeTilesApply( GrayU16 input , int tilesX , int tilesY , int numBins ,
+										   int transforms[] , GrayU16 output ) {
+		// horizontal tile offsets and weight are the same for every row
+		final int[] columnOffset0 = new int[input.width];
+		final int[] columnOffset1 = new int[input.width];
+		final float[] columnWeight = new float[input.width];
+		for( int x = 0; x < input.width; x++ ) {
+			float fx = (x+0.5f)*tilesX/input.width - 0.5f;
+			int tx0 = (int)Math.floor(fx);
+			float wx = fx - tx0;
+			if( tx0 < 0 ) {
+				tx0 = 0; wx = 0;
+			} else if( tx0 >= tilesX-1 ) {
+				tx0 = tilesX-1; wx = 0;
+			}
+			columnOffset0[x] = tx0*numBins;
+			columnOffset1[x] = Math.min(tx0+1,tilesX-1)*numBins;
+			columnWeight[x] = wx;
+		}
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for( int y = 0; y < input.height; y++ ) {
+			float fy = (y+0.5f)*tilesY/input.height - 0.5f;
+			int ty0 = (int)Math.floor(fy);
+			float wy = fy - ty0;
+			if( ty0 < 0 ) {
+				ty0 = 0; wy = 0;
+			} else if( ty0 >= tilesY-1 ) {
+				ty0 = tilesY-1; wy = 0;
+			}
+			int rowOffset0 = ty0*tilesX*numBins;
+			int rowOffset1 = Math.min(ty0+1,tilesY-1)*tilesX*numBins;
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < input.width; x++ ) {
+				int value = input.data[indexIn++] & 0xFFFF;
+				float wx = columnWeight[x];
+
+				float top = (1.0f-wx)*transforms[rowOffset0+columnOffset0[x]+value] +
+						wx*transforms[rowOffset0+columnOffset1[x]+value];
+				float bottom = (1.0f-wx)*transforms[rowOffset1+columnOffset0[x]+value] +
+						wx*transforms[rowOffset1+columnOffset1[x]+value];
+
+				output.data[indexOut++] = (short)((1.0f-wy)*top + wy*bottom + 0.5f);
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Clips the histogram so that no bin has more than limit counts. The clipped counts are redistributed
+	 * evenly across all the bins so that the total number of counts doesn't change.
+	 */
+	public static void clipHistogram( int histogram[] , int limit ) {
+		int excess = 0;
+		for( int i = 0; i < histogram.length; i++ ) {
+			if( histogram[i] > limit ) {
+				excess += histogram[i] - limit;
+				histogram[i] = limit;
+			}
+		}
+		if( excess == 0 )
+			return;
+
+		int increment = excess/histogram.length;
+		for( int i = 0; i < histogram.length; i++ ) {
+			histogram[i] += increment;
+		}
+
+		// spread out what's left over
+		int remainder = excess - increment*histogram.length;
+		if( remainder > 0 ) {
+			int step = Math.max(1,histogram.length/remainder);
+			for( int i = 0; i < histogram.length && remainder > 0; i += step, remainder-- ) {
+				histogram[i]++;
+			}
+		}
+	}
 
 }
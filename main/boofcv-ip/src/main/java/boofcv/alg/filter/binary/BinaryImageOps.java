@@ -23,17 +23,22 @@ import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.binary.impl.BinaryThinning;
 import boofcv.alg.filter.binary.impl.ImplBinaryBorderOps;
 import boofcv.alg.filter.binary.impl.ImplBinaryInnerOps;
+import boofcv.alg.filter.binary.impl.ImplBinaryPackedOps;
+import boofcv.alg.filter.binary.impl.ImplBinaryPackedOps_MT;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.binary.FactoryBinaryContourFinder;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
 import georegression.struct.point.Point2D_I32;
 import org.ddogleg.struct.FastQueue;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.BiConsumer;
 
 /**
  * <p>
@@ -45,6 +50,11 @@ import java.util.Random;
  * NOTE: If an element's value is not zero or one then each function's behavior is undefined.
  * </p>
  *
+ * <p>
+ * Most operations are also provided for {@link PackedBinaryImage}, which stores 64 pixels in each long and
+ * processes them in parallel. Use {@link #pack} and {@link #unpack} to convert between the two formats.
+ * </p>
+ *
  * @author Peter Abeles
  */
 /*
@@ -383,6 +393,288 @@ public class BinaryImageOps {
 		return output;
 	}
 
+	/**
+	 * Converts a binary {@link GrayU8} image, such as the output from {@link ThresholdImageOps}, into a
+	 * {@link PackedBinaryImage}. Any pixel which isn't zero is true.
+	 *
+	 * @param input Input binary image. Not modified.
+	 * @param output (Optional) Output packed image. If null a new instance is declared. Reshaped to match input. Modified.
+	 * @return Packed image.
+	 */
+	public static PackedBinaryImage pack( GrayU8 input , PackedBinaryImage output ) {
+		if( output == null )
+			output = new PackedBinaryImage(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBinaryPackedOps_MT.pack(input,output);
+		} else {
+			ImplBinaryPackedOps.pack(input,output);
+		}
+		return output;
+	}
+
+	/**
+	 * Converts a {@link PackedBinaryImage} into a binary {@link GrayU8} image with values of 0 and 1.
+	 *
+	 * @param input Input packed image. Not modified.
+	 * @param output (Optional) Output binary image. If null a new instance is declared. Reshaped to match input. Modified.
+	 * @return Binary image.
+	 */
+	public static GrayU8 unpack( PackedBinaryImage input , GrayU8 output ) {
+		if( output == null )
+			output = new GrayU8(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBinaryPackedOps_MT.unpack(input,output);
+		} else {
+			ImplBinaryPackedOps.unpack(input,output);
+		}
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'and' operator between two packed images. 64 pixels are
+	 * processed at once.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output Output image. Can be same as either input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage logicAnd(PackedBinaryImage inputA , PackedBinaryImage inputB ,
+											 PackedBinaryImage output )
+	{
+		checkSameShape(inputA,inputB);
+		output = checkDeclare(inputA,output);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBinaryPackedOps_MT.logicAnd(inputA,inputB,output);
+		} else {
+			ImplBinaryPackedOps.logicAnd(inputA,inputB,output);
+		}
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'or' operator between two packed images. 64 pixels are
+	 * processed at once.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output Output image. Can be same as either input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage logicOr(PackedBinaryImage inputA , PackedBinaryImage inputB ,
+											PackedBinaryImage output )
+	{
+		checkSameShape(inputA,inputB);
+		output = checkDeclare(inputA,output);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBinaryPackedOps_MT.logicOr(inputA,inputB,output);
+		} else {
+			ImplBinaryPackedOps.logicOr(inputA,inputB,output);
+		}
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'xor' operator between two packed images. 64 pixels are
+	 * processed at once.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output Output image. Can be same as either input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage logicXor(PackedBinaryImage inputA , PackedBinaryImage inputB ,
+											 PackedBinaryImage output )
+	{
+		checkSameShape(inputA,inputB);
+		output = checkDeclare(inputA,output);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBinaryPackedOps_MT.logicXor(inputA,inputB,output);
+		} else {
+			ImplBinaryPackedOps.logicXor(inputA,inputB,output);
+		}
+		return output;
+	}
+
+	/**
+	 * Inverts each pixel in a packed image from true to false and vis-versa.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Can be same as input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static PackedBinaryImage invert(PackedBinaryImage input , PackedBinaryImage output)
+	{
+		output = checkDeclare(input,output);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBinaryPackedOps_MT.invert(input,output);
+		} else {
+			ImplBinaryPackedOps.invert(input,output);
+		}
+		return output;
+	}
+
+	/**
+	 * Erodes a packed image according to a 4-neighborhood. Same as {@link #erode4(GrayU8, int, GrayU8)} except
+	 * that pixels outside the image are always treated as true.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage erode4(PackedBinaryImage input, int numTimes, PackedBinaryImage output) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return repeat(input,numTimes,output,ImplBinaryPackedOps_MT::erode4);
+		else
+			return repeat(input,numTimes,output,ImplBinaryPackedOps::erode4);
+	}
+
+	/**
+	 * Dilates a packed image according to a 4-neighborhood. See {@link #dilate4(GrayU8, int, GrayU8)}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage dilate4(PackedBinaryImage input, int numTimes, PackedBinaryImage output) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return repeat(input,numTimes,output,ImplBinaryPackedOps_MT::dilate4);
+		else
+			return repeat(input,numTimes,output,ImplBinaryPackedOps::dilate4);
+	}
+
+	/**
+	 * Erodes a packed image according to a 8-neighborhood. See {@link #erode8(GrayU8, int, GrayU8)}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage erode8(PackedBinaryImage input, int numTimes, PackedBinaryImage output) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return repeat(input,numTimes,output,ImplBinaryPackedOps_MT::erode8);
+		else
+			return repeat(input,numTimes,output,ImplBinaryPackedOps::erode8);
+	}
+
+	/**
+	 * Dilates a packed image according to a 8-neighborhood. See {@link #dilate8(GrayU8, int, GrayU8)}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage dilate8(PackedBinaryImage input, int numTimes, PackedBinaryImage output) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return repeat(input,numTimes,output,ImplBinaryPackedOps_MT::dilate8);
+		else
+			return repeat(input,numTimes,output,ImplBinaryPackedOps::dilate8);
+	}
+
+	/**
+	 * Edge of objects in a packed image using a 4-neighborhood. See {@link #edge4(GrayU8, GrayU8)}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage edge4(PackedBinaryImage input, PackedBinaryImage output) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return repeat(input,1,output,ImplBinaryPackedOps_MT::edge4);
+		else
+			return repeat(input,1,output,ImplBinaryPackedOps::edge4);
+	}
+
+	/**
+	 * Edge of objects in a packed image using a 8-neighborhood. See {@link #edge8(GrayU8, GrayU8)}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage edge8(PackedBinaryImage input, PackedBinaryImage output) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return repeat(input,1,output,ImplBinaryPackedOps_MT::edge8);
+		else
+			return repeat(input,1,output,ImplBinaryPackedOps::edge8);
+	}
+
+	/**
+	 * Removes point noise from a packed image. See {@link #removePointNoise(GrayU8, GrayU8)}.
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage removePointNoise(PackedBinaryImage input, PackedBinaryImage output) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return repeat(input,1,output,ImplBinaryPackedOps_MT::removePointNoise);
+		else
+			return repeat(input,1,output,ImplBinaryPackedOps::removePointNoise);
+	}
+
+	/**
+	 * Applies a neighborhood operation to a packed image multiple times while swapping between two images
+	 */
+	private static PackedBinaryImage repeat(PackedBinaryImage input, int numTimes, PackedBinaryImage output,
+											BiConsumer<PackedBinaryImage,PackedBinaryImage> operation ) {
+		if( numTimes <= 0 )
+			throw new IllegalArgumentException("numTimes must be >= 1");
+		if( input == output )
+			throw new IllegalArgumentException("Input and output can't be the same image");
+		output = checkDeclare(input,output);
+
+		operation.accept(input,output);
+
+		if( numTimes > 1 ) {
+			PackedBinaryImage tmp1 = input.createSameShape();
+			PackedBinaryImage tmp2 = output;
+
+			for( int i = 1; i < numTimes; i++ ) {
+				operation.accept(tmp2,tmp1);
+
+				PackedBinaryImage a = tmp1;
+				tmp1 = tmp2;
+				tmp2 = a;
+			}
+
+			if( tmp2 != output ) {
+				output.setTo(tmp2);
+			}
+		}
+
+		return output;
+	}
+
+	private static PackedBinaryImage checkDeclare(PackedBinaryImage input, PackedBinaryImage output) {
+		if( output == null )
+			return input.createSameShape();
+		if( !input.isSameShape(output) )
+			throw new IllegalArgumentException("Width and/or height of input and output do not match. "+
+					input.width+"x"+input.height+" "+output.width+"x"+output.height);
+		return output;
+	}
+
+	private static void checkSameShape(PackedBinaryImage imgA, PackedBinaryImage imgB) {
+		if( !imgA.isSameShape(imgB) )
+			throw new IllegalArgumentException("Image shapes do not match. "+
+					imgA.width+"x"+imgA.height+" "+imgB.width+"x"+imgB.height);
+	}
+
 	/**
 	 * Applies a morphological thinning operation to the image.  Also known as skeletonization.
 	 *
@@ -46,6 +46,9 @@ public class ComputeOtsu {
 	// scale factor applied to the threshold. 1.0 = unmodified
 	private double scale;
 
+	// normalized value of each histogram bin
+	private double[] binValues = new double[0];
+
 	/**
 	 *
 	 * @param useOtsu2 true to use modified otsu. false uses clasical
@@ -86,12 +89,26 @@ public class ComputeOtsu {
 		threshold = (int)(scale*Math.max(threshold,0)+0.5); // TODO  threshold is a double. REmove rounding?
 	}
 
+	/**
+	 * Returns a table with the normalized value of each bin, i.e. i/length. Avoids a division for every bin.
+	 */
+	private double[] lookupBinValues( int length ) {
+		if( binValues.length != length ) {
+			binValues = new double[length];
+			double dlength = length;
+			for (int i = 0; i < length; i++) {
+				binValues[i] = i / dlength;
+			}
+		}
+		return binValues;
+	}
+
 	protected void computeOtsu(int histogram[] , int length , int totalPixels ) {
 
-		double dlength = length;
+		double[] binValues = lookupBinValues(length);
 		double sum = 0;
 		for (int i = 0; i < length; i++)
-			sum += (i / dlength) * histogram[i];
+			sum += binValues[i] * histogram[i];
 
 		double sumB = 0;
 		int wB = 0;
@@ -101,13 +118,16 @@ public class ComputeOtsu {
 
 		int i;
 		for (i = 0; i < length; i++) {
+			// an empty bin doesn't change the variance and can't be selected. Skipping them speeds up small regions
+			if( histogram[i] == 0 ) continue;
+
 			wB += histogram[i];               // Weight Background
 			if (wB == 0) continue;
 
 			int wF = totalPixels - wB;        // Weight Foreground
 			if (wF == 0) break;
 
-			double f = i / dlength;
+			double f = binValues[i];
 			sumB += f * histogram[i];
 
 			double mB = sumB / wB;            // Mean Background
@@ -126,10 +146,10 @@ public class ComputeOtsu {
 
 	protected void computeOtsu2(int histogram[] , int length , int totalPixels ) {
 
-		double dlength = length;
+		double[] binValues = lookupBinValues(length);
 		double sum = 0;
 		for (int i = 0; i < length; i++)
-			sum += (i / dlength) * histogram[i];
+			sum += binValues[i] * histogram[i];
 
 		double sumB = 0;
 		int wB = 0;
@@ -142,13 +162,16 @@ public class ComputeOtsu {
 
 		int i;
 		for (i = 0; i < length; i++) {
+			// an empty bin doesn't change the variance and can't be selected. Skipping them speeds up small regions
+			if( histogram[i] == 0 ) continue;
+
 			wB += histogram[i];               // Weight Background
 			if (wB == 0) continue;
 
 			int wF = totalPixels - wB;        // Weight Foreground
 			if (wF == 0) break;
 
-			double f = i / dlength;
+			double f = binValues[i];
 			sumB += f * histogram[i];
 
 			double mB = sumB / wB;            // Mean Background
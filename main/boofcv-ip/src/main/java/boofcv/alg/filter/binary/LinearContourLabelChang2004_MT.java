@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link LinearContourLabelChang2004}. The labeled image, contours, and packed points
+ * are identical to what the single threaded algorithm produces. Instead of tracing contours while scanning
+ * the image, the image is processed in three stages.
+ * </p>
+ *
+ * <ol>
+ *     <li>Connected components of black and white pixels are found by labeling horizontal strips of the image
+ *     in parallel using union-find, then merging components along the strip boundaries. White pixels use the
+ *     complementary connectivity rule. When two sets are merged the root with the lower index is kept, making
+ *     the root of every component its first pixel in raster order.</li>
+ *     <li>Blob IDs are assigned to black roots in raster order, just like the single threaded algorithm
+ *     encounters them. White components which do not touch the image border are holes and their internal contour
+ *     starts at the black pixel above the hole's root.</li>
+ *     <li>All contours are traced in parallel, then copied into the output in the order the single threaded
+ *     algorithm would have traced them.</li>
+ * </ol>
+ *
+ * <p>
+ * Tracing marks white pixels in the bordered copy of the input image. Since marked pixels are only ever compared
+ * against the value of a black pixel, threads tracing different contours can mark the same pixel without
+ * affecting each other.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearContourLabelChang2004_MT extends LinearContourLabelChang2004 {
+
+	// Minimum number of rows in a strip
+	private int minStripHeight = 16;
+
+	// Union-find forest for pixels in the bordered image. Each element points to its parent.
+	private int[] parent = new int[0];
+
+	// Number of blobs in each strip and the ID of the first blob in each strip
+	private GrowQueue_I32 stripCounts = new GrowQueue_I32();
+	// Pixels which start a contour in each strip, encoded as index*2 + (internal ? 1 : 0)
+	private FastQueue<GrowQueue_I32> stripStarts = new FastQueue<>(GrowQueue_I32.class, true);
+	// All pixels which start a contour in raster order
+	private GrowQueue_I32 starts = new GrowQueue_I32();
+
+	// Storage for contours traced by each group of starting pixels
+	private FastQueue<TraceWork> work = new FastQueue<>(TraceWork.class, true);
+
+	/**
+	 * Configures the algorithm.
+	 *
+	 * @param rule Connectivity rule.  4 or 8
+	 */
+	public LinearContourLabelChang2004_MT( ConnectRule rule ) {
+		super(rule);
+	}
+
+	@Override
+	public void process(GrayU8 binary , GrayS32 labeled ) {
+		labeled.reshape(binary.width,binary.height);
+		copyIntoBorder(binary);
+		packedPoints.reset();
+		contours.reset();
+
+		final ConnectRule rule = getConnectRule();
+		final int height = border.height;
+		final int stripHeight = BoofConcurrency.selectBlockSize(height,minStripHeight,BoofConcurrency.getMaxThreads());
+		final int numStrips = (height+stripHeight-1)/stripHeight;
+
+		if( parent.length < border.width*border.height )
+			parent = new int[border.width*border.height];
+
+		// Find connected components inside each strip then merge along the strip boundaries
+		BoofConcurrency.loopFor(0,numStrips,strip->{
+			int y0 = strip*stripHeight;
+			labelRows(rule, y0, Math.min(height,y0+stripHeight));
+		});
+		for (int strip = 1; strip < numStrips; strip++) {
+			connectToRowAbove(rule, strip*stripHeight);
+		}
+
+		// Make every pixel point directly at its root. The parent always has a lower index so pixels inside
+		// the strip have already been flattened. A thread can read values in another strip while they are being
+		// written, but a parent is only ever replaced by one of its ancestors so the root it finds is the same.
+		BoofConcurrency.loopFor(0,numStrips,strip->{
+			int start = strip*stripHeight*border.stride;
+			int end = Math.min(height,(strip+1)*stripHeight)*border.stride;
+			for (int i = start; i < end; i++) {
+				int root = parent[i];
+				if( root >= start ) {
+					root = parent[root];
+				} else {
+					while( parent[root] != root )
+						root = parent[root];
+				}
+				parent[i] = root;
+			}
+		});
+
+		// Blob IDs are assigned in raster order of their root, i.e. the order the blobs are first encountered
+		stripCounts.resize(numStrips);
+		BoofConcurrency.loopFor(0,numStrips,strip->{
+			int start = strip*stripHeight*border.stride;
+			int end = Math.min(height,(strip+1)*stripHeight)*border.stride;
+			int count = 0;
+			for (int i = start; i < end; i++) {
+				if( parent[i] == i && border.data[i] == 1 )
+					count++;
+			}
+			stripCounts.data[strip] = count;
+		});
+		int total = 0;
+		for (int strip = 0; strip < numStrips; strip++) {
+			int count = stripCounts.data[strip];
+			stripCounts.data[strip] = total+1;
+			total += count;
+		}
+
+		// The ID of each blob is saved in its root as a negative number
+		BoofConcurrency.loopFor(0,numStrips,strip->{
+			int start = strip*stripHeight*border.stride;
+			int end = Math.min(height,(strip+1)*stripHeight)*border.stride;
+			int id = stripCounts.data[strip];
+			for (int i = start; i < end; i++) {
+				if( parent[i] == i && border.data[i] == 1 )
+					parent[i] = -id++;
+			}
+		});
+
+		stripStarts.resize(numStrips);
+		BoofConcurrency.loopFor(0,numStrips,strip->{
+			labelStrip(labeled,stripStarts.get(strip),
+					Math.max(1,strip*stripHeight),Math.min(height-1,(strip+1)*stripHeight));
+		});
+
+		starts.reset();
+		for (int strip = 0; strip < numStrips; strip++) {
+			GrowQueue_I32 s = stripStarts.get(strip);
+			for (int i = 0; i < s.size; i++) {
+				starts.add(s.data[i]);
+			}
+		}
+
+		traceContours(rule, labeled);
+	}
+
+	/**
+	 * Applies union-find to pixels inside the specified rows. Each pixel is connected to the pixel to its left and
+	 * to the row above, except for the first row which has no row above it.
+	 */
+	private void labelRows( ConnectRule rule , int y0 , int y1 ) {
+		final byte[] data = border.data;
+		final int stride = border.stride;
+
+		for (int y = y0; y < y1; y++) {
+			int index = y*stride;
+			int end = index + border.width;
+			parent[index] = index;
+			for (index++; index < end; index++) {
+				// joining the set of the pixel to the left is trivial since this pixel has no children yet
+				parent[index] = (data[index] == 1) == (data[index-1] == 1) ? parent[index-1] : index;
+			}
+			if( y > y0 )
+				connectToRowAbove(rule, y);
+		}
+	}
+
+	/**
+	 * Connects pixels in row y to pixels in row y-1 which they are adjacent to. Pixels in row y must already
+	 * be connected to the pixel on their left.
+	 */
+	private void connectToRowAbove( ConnectRule rule , int y ) {
+		final byte[] data = border.data;
+		final int width = border.width;
+		final boolean rule8 = rule == ConnectRule.EIGHT;
+
+		int index = y*border.stride;
+		int above = index - border.stride;
+
+		// Black pixels are 1 and white pixels are 0. The contour tracer marks white pixels it has visited with
+		// a value other than 0 so the colors are normalized. Pixels outside the image are given a third color
+		// so that they are never considered connected
+		int left = 2, aboveLeft = 2;
+		int aboveCenter = data[above] == 1 ? 1 : 0;
+		for (int x = 0; x < width; x++, index++, above++) {
+			int value = data[index] == 1 ? 1 : 0;
+			int aboveRight = x+1 < width ? (data[above+1] == 1 ? 1 : 0) : 2;
+
+			boolean sameLeft = value == left;
+			boolean sameAboveLeft = value == aboveLeft;
+			if( value == aboveCenter ) {
+				// If the pixels to the left and above-left have the same color then they already connect this pixel
+				// to the pixel above
+				if( !(sameLeft && sameAboveLeft) )
+					union(index, above);
+			} else if( (value == 1) == rule8 ) {
+				// eight connectivity is used by black pixels with the 8 rule and by white pixels with the 4 rule
+				if( sameAboveLeft && !sameLeft )
+					union(index, above-1);
+				if( value == aboveRight )
+					union(index, above+1);
+			}
+
+			left = value;
+			aboveLeft = aboveCenter;
+			aboveCenter = aboveRight;
+		}
+	}
+
+	/**
+	 * Merges the sets the two pixels belong to. The root with the smaller index is kept
+	 */
+	private void union( int a , int b ) {
+		int rootA = find(a);
+		int rootB = find(b);
+		if( rootA < rootB )
+			parent[rootB] = rootA;
+		else if( rootB < rootA )
+			parent[rootA] = rootB;
+	}
+
+	/**
+	 * Finds the root of the set and shortens the path to it along the way
+	 */
+	private int find( int index ) {
+		while( parent[index] != index ) {
+			int grand = parent[parent[index]];
+			parent[index] = grand;
+			index = grand;
+		}
+		return index;
+	}
+
+	/**
+	 * Copies each blob's ID from its root to all of its pixels and records which pixels start a contour
+	 */
+	private void labelStrip( GrayS32 labeled , GrowQueue_I32 found , int y0 , int y1 ) {
+		final byte[] data = border.data;
+		final int stride = border.stride;
+
+		found.reset();
+		for (int y = y0; y < y1; y++) {
+			int index = y*stride+1;
+			int indexOut = labeled.startIndex + (y-1)*labeled.stride;
+			for (int x = 1; x < border.width-1; x++, index++, indexOut++) {
+				if( data[index] != 1 ) {
+					labeled.data[indexOut] = 0;
+					continue;
+				}
+				int root = parent[index];
+				if( root < 0 ) {
+					// first pixel in a blob, external contour
+					labeled.data[indexOut] = -root;
+					found.add(index*2);
+				} else {
+					labeled.data[indexOut] = -parent[root];
+				}
+				// first pixel in a hole, which is any white component not connected to the image border
+				int below = index+stride;
+				if( data[below] != 1 && parent[below] == below && below != 0 )
+					found.add(index*2+1);
+			}
+		}
+	}
+
+	/**
+	 * Traces all the contours in parallel then copies the results into the output in the same order as the
+	 * single threaded algorithm
+	 */
+	private void traceContours( ConnectRule rule , GrayS32 labeled ) {
+		final int numStarts = starts.size;
+		final int groupSize = Math.max(1,numStarts/(BoofConcurrency.getMaxThreads()*4));
+		final int numGroups = (numStarts+groupSize-1)/groupSize;
+
+		work.resize(numGroups);
+		for (int i = 0; i < numGroups; i++) {
+			TraceWork w = work.get(i);
+			if( w.tracer == null || w.tracer.getConnectRule() != rule )
+				w.tracer = new ContourTracer(rule);
+			w.tracer.setInputs(border,labeled,w.points);
+		}
+
+		BoofConcurrency.loopFor(0,numGroups,group->{
+			TraceWork w = work.get(group);
+			w.points.reset();
+			int end = Math.min(numStarts,(group+1)*groupSize);
+			for (int i = group*groupSize; i < end; i++) {
+				int encoded = starts.data[i];
+				int index = encoded/2;
+				boolean external = encoded%2 == 0;
+				int x = index%border.stride, y = index/border.stride;
+
+				w.points.grow();
+				w.tracer.setMaxContourSize(external || saveInternalContours ? maxContourSize : 0);
+				w.tracer.trace(labeled.unsafe_get(x-1,y-1),x,y,external);
+
+				// Free the points of contours which are too large or too small
+				if( w.points.sizeOfTail() >= maxContourSize || w.points.sizeOfTail() < minContourSize ) {
+					w.points.removeTail();
+					w.points.grow();
+				}
+			}
+		});
+
+		for (int i = 0; i < numStarts; i++) {
+			int encoded = starts.data[i];
+			int index = encoded/2;
+			int x = index%border.stride, y = index/border.stride;
+
+			if( encoded%2 == 0 ) {
+				ContourPacked c = contours.grow();
+				c.reset();
+				c.id = contours.size();
+				c.externalIndex = packedPoints.size();
+			} else {
+				ContourPacked c = contours.get(labeled.unsafe_get(x-1,y-1)-1);
+				c.internalIndexes.add(packedPoints.size());
+			}
+			packedPoints.grow();
+			packedPoints.addSetToTail(work.get(i/groupSize).points, i%groupSize);
+		}
+	}
+
+	public int getMinStripHeight() {
+		return minStripHeight;
+	}
+
+	public void setMinStripHeight(int minStripHeight) {
+		this.minStripHeight = minStripHeight;
+	}
+
+	/**
+	 * Tracer and storage for the contours traced in one group of starting pixels
+	 */
+	public static class TraceWork {
+		ContourTracer tracer;
+		PackedSetsPoint2D_I32 points = new PackedSetsPoint2D_I32(2000);
+	}
+}
@@ -20,6 +20,7 @@ package boofcv.alg.filter.binary;
 
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConfigLength;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
@@ -41,6 +42,9 @@ import boofcv.struct.image.ImageType;
  *
  * <p>The block based approach used here was inspired by a high level description found in AprilTags.</p>
  *
+ * <p>If {@link BoofConcurrency#USE_CONCURRENT} is true then statistics are computed and the threshold applied
+ * to rows of blocks in parallel. The results are identical to the single threaded version.</p>
+ *
  * @author Peter Abeles
  */
 public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends ImageBase<S>>
@@ -109,10 +113,27 @@ public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends Ima
 	}
 
 	/**
-	 * Applies the dynamically computed threshold to each pixel in the image, one block at a time
+	 * Applies the dynamically computed threshold to each pixel in the image, one block at a time. If
+	 * {@link BoofConcurrency#USE_CONCURRENT} is true then rows of blocks are thresholded in parallel.
 	 */
 	private void applyThreshold( T input, GrayU8 output ) {
-		for (int blockY = 0; blockY < stats.height; blockY++) {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,stats.height,(blockY0,blockY1)->
+					thresholdBlockRows(blockY0,blockY1,input,output));
+		} else {
+			thresholdBlockRows(0,stats.height,input,output);
+		}
+	}
+
+	/**
+	 * Thresholds every block inside the specified rows of blocks. Called concurrently on different rows, so
+	 * subclasses with work space must override this function and give each call its own copy.
+	 *
+	 * @param blockY0 First row of blocks. Inclusive.
+	 * @param blockY1 Last row of blocks. Exclusive.
+	 */
+	protected void thresholdBlockRows( int blockY0 , int blockY1 , T input, GrayU8 output ) {
+		for (int blockY = blockY0; blockY < blockY1; blockY++) {
 			for (int blockX = 0; blockX < stats.width; blockX++) {
 				thresholdBlock(blockX,blockY,input,output);
 			}
@@ -120,32 +141,37 @@ public abstract class ThresholdBlockCommon <T extends ImageGray<T>,S extends Ima
 	}
 
 	/**
-	 * Computes the min-max value for each block in the image
+	 * Computes the statistics of each block in the image. Blocks along the right and bottom image border
+	 * are enlarged to include the pixels left over when the image isn't evenly divisible by the block's size.
+	 * If {@link BoofConcurrency#USE_CONCURRENT} is true then rows of blocks are processed in parallel.
 	 */
 	protected void computeStatistics(T input, int innerWidth, int innerHeight) {
-		int statPixelStride = stats.getImageType().getNumBands();
-
-		int indexStats = 0;
-		for (int y = 0; y < innerHeight; y += blockHeight) {
-			for (int x = 0; x < innerWidth; x += blockWidth, indexStats += statPixelStride) {
-				computeBlockStatistics(x,y,blockWidth,blockHeight,indexStats,input);
-			}
-			// handle the case where the image's width isn't evenly divisible by the block's width
-			if( innerWidth != input.width ) {
-				computeBlockStatistics(innerWidth,y,input.width-innerWidth,blockHeight,indexStats,input);
-				indexStats += statPixelStride;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopFor(0,stats.height,blockY->computeStatisticsRow(blockY,input,innerWidth,innerHeight));
+		} else {
+			for (int blockY = 0; blockY < stats.height; blockY++) {
+				computeStatisticsRow(blockY,input,innerWidth,innerHeight);
 			}
 		}
+	}
+
+	/**
+	 * Computes the statistics of every block in a row of blocks
+	 */
+	private void computeStatisticsRow( int blockY , T input, int innerWidth, int innerHeight ) {
+		int statPixelStride = stats.getImageType().getNumBands();
+		int indexStats = blockY*stats.width*statPixelStride;
+
+		int y = blockY*blockHeight;
 		// handle the case where the image's height isn't evenly divisible by the block's height
-		if( innerHeight != input.height ) {
-			int y = innerHeight;
-			int blockHeight = input.height-innerHeight;
-			for (int x = 0; x < innerWidth; x += blockWidth, indexStats += statPixelStride) {
-				computeBlockStatistics(x,y,blockWidth,blockHeight,indexStats,input);
-			}
-			if( innerWidth != input.width ) {
-				computeBlockStatistics(innerWidth,y,input.width-innerWidth,blockHeight,indexStats,input);
-			}
+		int height = y < innerHeight ? blockHeight : input.height-innerHeight;
+
+		for (int x = 0; x < innerWidth; x += blockWidth, indexStats += statPixelStride) {
+			computeBlockStatistics(x,y,blockWidth,height,indexStats,input);
+		}
+		// handle the case where the image's width isn't evenly divisible by the block's width
+		if( innerWidth != input.width ) {
+			computeBlockStatistics(innerWidth,y,input.width-innerWidth,height,indexStats,input);
 		}
 	}
 
@@ -76,8 +76,29 @@ public class ThresholdBlockOtsu extends ThresholdBlockCommon<GrayU8,InterleavedS
 		}
 	}
 
+	/**
+	 * Each call is given its own histogram and {@link ComputeOtsu} since rows are thresholded concurrently
+	 */
+	@Override
+	protected void thresholdBlockRows(int blockY0, int blockY1, GrayU8 input, GrayU8 output) {
+		int histogram[] = new int[256];
+		ComputeOtsu otsu = new ComputeOtsu(
+				this.otsu.isUseOtsu2(),this.otsu.getTuning(),this.otsu.isDown(),this.otsu.getScale());
+
+		for (int blockY = blockY0; blockY < blockY1; blockY++) {
+			for (int blockX = 0; blockX < stats.width; blockX++) {
+				thresholdBlock(blockX,blockY,input,output,histogram,otsu);
+			}
+		}
+	}
+
 	@Override
 	protected void thresholdBlock(int blockX0, int blockY0, GrayU8 input, GrayU8 output) {
+		thresholdBlock(blockX0,blockY0,input,output,histogram,otsu);
+	}
+
+	private void thresholdBlock(int blockX0, int blockY0, GrayU8 input, GrayU8 output,
+								int histogram[] , ComputeOtsu otsu ) {
 
 		int x0 = blockX0*blockWidth;
 		int y0 = blockY0*blockHeight;
@@ -18,7 +18,12 @@
 package boofcv.alg.filter.binary;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.binary.impl.ImplBinaryPackedOps;
+import boofcv.alg.filter.binary.impl.ImplBinaryPackedOps_MT;
+import boofcv.alg.filter.binary.impl.ImplThresholdImageOps;
+import boofcv.alg.filter.binary.impl.ImplThresholdImageOps_MT;
 import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConfigLength;
 import boofcv.struct.image.*;
 
@@ -51,24 +56,10 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if( down ) {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]) <= threshold ? 1 : 0);
-				}
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdImageOps_MT.threshold(input,output,threshold,down);
 		} else {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]) > threshold ? 1 : 0);
-				}
-			}
+			ImplThresholdImageOps.threshold(input,output,threshold,down);
 		}
 
 		return output;
@@ -90,24 +81,10 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if( down ) {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]) <= threshold ? 1 : 0);
-				}
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdImageOps_MT.threshold(input,output,threshold,down);
 		} else {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]) > threshold ? 1 : 0);
-				}
-			}
+			ImplThresholdImageOps.threshold(input,output,threshold,down);
 		}
 
 		return output;
@@ -129,24 +106,10 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if( down ) {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]& 0xFF) <= threshold ? 1 : 0);
-				}
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdImageOps_MT.threshold(input,output,threshold,down);
 		} else {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]& 0xFF) > threshold ? 1 : 0);
-				}
-			}
+			ImplThresholdImageOps.threshold(input,output,threshold,down);
 		}
 
 		return output;
@@ -168,24 +131,10 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if( down ) {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]) <= threshold ? 1 : 0);
-				}
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdImageOps_MT.threshold(input,output,threshold,down);
 		} else {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]) > threshold ? 1 : 0);
-				}
-			}
+			ImplThresholdImageOps.threshold(input,output,threshold,down);
 		}
 
 		return output;
@@ -207,24 +156,10 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if( down ) {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]& 0xFFFF) <= threshold ? 1 : 0);
-				}
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdImageOps_MT.threshold(input,output,threshold,down);
 		} else {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]& 0xFFFF) > threshold ? 1 : 0);
-				}
-			}
+			ImplThresholdImageOps.threshold(input,output,threshold,down);
 		}
 
 		return output;
@@ -246,24 +181,10 @@ public class ThresholdImageOps {
 	{
 		output = InputSanityCheck.checkDeclare(input,output,GrayU8.class);
 
-		if( down ) {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]) <= threshold ? 1 : 0);
-				}
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdImageOps_MT.threshold(input,output,threshold,down);
 		} else {
-			for( int y = 0; y < input.height; y++ ) {
-				int indexIn = input.startIndex + y*input.stride;
-				int indexOut = output.startIndex + y*output.stride;
-
-				for( int i = input.width; i>0; i-- ) {
-					output.data[indexOut++] = (byte)((input.data[indexIn++]) > threshold ? 1 : 0);
-				}
-			}
+			ImplThresholdImageOps.threshold(input,output,threshold,down);
 		}
 
 		return output;
@@ -525,5 +446,63 @@ public class ThresholdImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies a global threshold across the whole image and writes the results directly into a
+	 * {@link PackedBinaryImage}.  If 'down' is true, then pixels with values <= to 'threshold' are set to 1
+	 * and the others set to 0.  If 'down' is false, then pixels with values > to 'threshold' are set to 1
+	 * and the others set to 0.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Packed binary output image. If null a new image will be declared. Reshaped. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage thresholdPacked( GrayU8 input , PackedBinaryImage output ,
+													 int threshold , boolean down )
+	{
+		if( output == null )
+			output = new PackedBinaryImage(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBinaryPackedOps_MT.threshold(input,output,threshold,down);
+		} else {
+			ImplBinaryPackedOps.threshold(input,output,threshold,down);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Applies a global threshold across the whole image and writes the results directly into a
+	 * {@link PackedBinaryImage}.  If 'down' is true, then pixels with values <= to 'threshold' are set to 1
+	 * and the others set to 0.  If 'down' is false, then pixels with values > to 'threshold' are set to 1
+	 * and the others set to 0.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) Packed binary output image. If null a new image will be declared. Reshaped. Modified.
+	 * @param threshold threshold value.
+	 * @param down If true then the inequality <= is used, otherwise if false then &gt; is used.
+	 * @return Output image.
+	 */
+	public static PackedBinaryImage thresholdPacked( GrayF32 input , PackedBinaryImage output ,
+													 float threshold , boolean down )
+	{
+		if( output == null )
+			output = new PackedBinaryImage(input.width,input.height);
+		else
+			output.reshape(input.width,input.height);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBinaryPackedOps_MT.threshold(input,output,threshold,down);
+		} else {
+			ImplBinaryPackedOps.threshold(input,output,threshold,down);
+		}
+
+		return output;
+	}
+
 
 }
@@ -20,19 +20,34 @@ package boofcv.alg.filter.binary;
 
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConfigLength;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
 import boofcv.struct.image.ImageType;
+import org.ddogleg.struct.FastQueue;
 
 import java.util.Arrays;
 
 /**
+ * <p>
  * Local Otsu thresholding where each pixel is thresholded by computing the
  * {@link GThresholdImageOps#computeOtsu2(int[], int, int)} Otsu-2} using its local region
+ * </p>
  *
+ * <p>
  * This implementation includes a modification from the traditional Otsu algorithm. The threshold can optionally
  * be adjusted in low variance regions. See code for details.
+ * </p>
+ *
+ * <p>
+ * Pixels along the image border use the closest region which lies entirely inside the image. The histogram of
+ * each region is found using a sliding window. As the region moves along a row its histogram is updated using
+ * the columns of pixels which enter and leave it. For wide regions a histogram is maintained for each column
+ * in the region's rows instead, which is updated by one pixel when the region moves down a row. The region's
+ * histogram is then updated by adding and removing column histograms. This way the cost per pixel does
+ * not grow with the region's size. If {@link BoofConcurrency#USE_CONCURRENT} is true then blocks of rows are processed in parallel.
+ * </p>
  *
  * @see GThresholdImageOps#computeOtsu2(ImageGray, int, int)
  *
@@ -44,8 +59,6 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 
 	ComputeOtsu otsu;
 
-	int histogram[] = new int[256];
-
 	// width of the local square region
 	ConfigLength regionWidthLength;
 	int regionWidth;
@@ -53,6 +66,9 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 	// number of pixels inside the local square region
 	int numPixels;
 
+	// storage for each block of rows which is processed
+	FastQueue<Workspace> workspaces = new FastQueue<>(Workspace.class,true);
+
 	/**
 	 * Configures the detector
 	 *
@@ -80,136 +96,173 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 
 		numPixels = regionWidth*regionWidth;
 
-		int y0 = regionWidth/2;
-		int y1 = input.height-(regionWidth-y0);
-		int x0 = regionWidth/2;
-		int x1 = input.width-(regionWidth-x0);
+		// Each block of rows has to initialize its column histograms, so blocks should be at least as tall as a region
+		int threads = BoofConcurrency.USE_CONCURRENT ? BoofConcurrency.getMaxThreads() : 1;
+		int blockHeight = BoofConcurrency.selectBlockSize(input.height,regionWidth,threads);
+		int numBlocks = (input.height+blockHeight-1)/blockHeight;
 
-		final byte a,b;
-		if( otsu.down ) {
-			a = 1; b = 0;
-		} else {
-			a = 0; b = 1;
+		workspaces.resize(numBlocks);
+		for (int i = 0; i < numBlocks; i++) {
+			workspaces.get(i).configure(otsu,input.width,regionWidth >= 256);
 		}
 
-		// handle the inner portion first
-		for (int y = y0; y < y1; y++) {
-			int indexInput = input.startIndex + y*input.stride + x0;
-			int indexOutput = output.startIndex + y*output.stride + x0;
-
-			computeHistogram(0,y-y0,input);
-			output.data[indexOutput++] = (input.data[indexInput++]&0xFF) <= otsu.threshold ? a : b;
-
-			for (int x = x0+1; x < x1; x++) {
-				updateHistogramX(x-x0,y-y0,input);
-				output.data[indexOutput++] = (input.data[indexInput++]&0xFF) <= otsu.threshold ? a : b;
-			}
+		if( numBlocks > 1 ) {
+			BoofConcurrency.loopFor(0,numBlocks,block->{
+				int y0 = block*blockHeight;
+				processRows(y0,Math.min(input.height,y0+blockHeight),input,output,workspaces.get(block));
+			});
+		} else {
+			processRows(0,input.height,input,output,workspaces.get(0));
 		}
-
-		applyToBorder(input, output, y0, y1, x0, x1);
 	}
 
 	/**
-	 * Apply around the image border. Use a region that's the full size but apply to all pixels that the region
-	 * would go outside of it was centered on them.
+	 * Thresholds all the pixels in the specified rows
+	 *
+	 * @param y0 First row. Inclusive.
+	 * @param y1 Last row. Exclusive.
 	 */
-	private void applyToBorder(GrayU8 input, GrayU8 output, int y0, int y1, int x0, int x1) {
-		// top-left corner
-		computeHistogram(0,0,input);
-		applyToBlock(0,0,x0+1,y0+1,input,output);
-		// top-middle
-		for (int x = x0+1; x < x1; x++) {
-			updateHistogramX(x-x0,0,input);
-			applyToBlock(x,0,x+1,y0,input,output);
-		}
-		// top-right
-		updateHistogramX(x1-x0,0,input);
-		applyToBlock(x1,0,input.width,y0+1,input,output);
-
-		// middle-right
-		for (int y = y0+1; y < y1; y++) {
-			updateHistogramY(x1-x0,y-y0,input);
-			applyToBlock(x1,y,input.width,y+1,input,output);
+	private void processRows( int y0 , int y1 , GrayU8 input , GrayU8 output , Workspace work ) {
+		final byte a,b;
+		if( otsu.down ) {
+			a = 1; b = 0;
+		} else {
+			a = 0; b = 1;
 		}
 
-		// bottom-right
-		updateHistogramY(x1-x0,y1-y0,input);
-		applyToBlock(x1,y1,input.width,input.height,input,output);
+		final int radius = regionWidth/2;
+		// the largest coordinate a region can start at and still be entirely inside the image
+		final int maxTop = input.height-regionWidth;
+		final int maxLeft = input.width-regionWidth;
+		final double[] thresholds = work.thresholds;
 
-		//Start over in the top-left. Yes this step could be avoided...
+		// Updating the region's histogram with column histograms costs 512 operations while using the pixels
+		// costs two per row. Only maintain the column histograms if they will be used
+		final boolean useColumns = regionWidth >= 256;
 
-		// middle-left
-		computeHistogram(0,0,input);
+		int top = Math.max(0,Math.min(maxTop,y0-radius));
+		if( useColumns )
+			initializeColumns(top,input,work.columns);
+		initializeFirstRegion(top,input,work.first);
+		computeRowThresholds(top,input,work,maxLeft,useColumns);
 
-		for (int y = y0+1; y < y1; y++) {
-			updateHistogramY(0,y-y0,input);
-			applyToBlock(0,y,x0,y+1,input,output);
-		}
-
-		// bottom-left
-		updateHistogramY(0,y1-y0,input);
-		applyToBlock(0,y1,x0+1,input.height,input,output);
+		for (int y = y0; y < y1; y++) {
+			int regionTop = Math.max(0,Math.min(maxTop,y-radius));
+			if( regionTop != top ) {
+				// the region only moves down one row at a time
+				if( useColumns )
+					shiftColumnsDown(top,input,work.columns);
+				shiftFirstRegionDown(top,input,work.first);
+				top = regionTop;
+				computeRowThresholds(top,input,work,maxLeft,useColumns);
+			}
 
-		// bottom-middle
-		for (int x = x0+1; x < x1; x++) {
-			updateHistogramX(x-x0,y1-y0,input);
-			applyToBlock(x,y1,x+1,input.height,input,output);
+			int indexInput = input.startIndex + y*input.stride;
+			int indexOutput = output.startIndex + y*output.stride;
+			for (int x = 0; x < input.width; x++) {
+				double threshold = thresholds[Math.max(0,Math.min(maxLeft,x-radius))];
+				output.data[indexOutput++] = (input.data[indexInput++]&0xFF) <= threshold ? a : b;
+			}
 		}
 	}
 
-	@Override
-	public ImageType<GrayU8> getInputType() {
-		return null;
-	}
-
-	private void applyToBlock( int x0 , int y0 , int x1 , int y1 , GrayU8 input , GrayU8 output ) {
-
-		final byte a,b;
-		if( otsu.down ) {
-			a = 1; b = 0;
-		} else {
-			a = 0; b = 1;
-		}
-
-		for (int y = y0; y < y1; y++) {
-			int indexInput = input.startIndex + y * input.stride + x0;
-			int indexOutput = output.startIndex + y * output.stride + x0;
-			int end = indexOutput + (x1 - x0);
-			while (indexOutput < end) {
-				output.data[indexOutput++] = (input.data[indexInput++] & 0xFF) <= otsu.threshold ? a : b;
+	/**
+	 * Computes the histogram of each column inside the rows of a region
+	 *
+	 * @param top First row in the region
+	 */
+	private void initializeColumns( int top , GrayU8 input , int[] columns ) {
+		Arrays.fill(columns,0,input.width*256,0);
+		for (int y = 0; y < regionWidth; y++) {
+			int indexInput = input.startIndex + (top+y)*input.stride;
+			for (int x = 0; x < input.width; x++) {
+				columns[x*256 + (input.data[indexInput++] & 0xFF)]++;
 			}
 		}
 	}
 
-	protected void computeHistogram(int x0, int y0, GrayU8 input) {
+	/**
+	 * Moves the column histograms down by one row
+	 *
+	 * @param top First row in the region before it has been moved
+	 */
+	private void shiftColumnsDown( int top , GrayU8 input , int[] columns ) {
+		int indexRemove = input.startIndex + top*input.stride;
+		int indexAdd = indexRemove + regionWidth*input.stride;
+		for (int x = 0; x < input.width; x++) {
+			columns[x*256 + (input.data[indexRemove++] & 0xFF)]--;
+			columns[x*256 + (input.data[indexAdd++] & 0xFF)]++;
+		}
+	}
 
-		Arrays.fill(histogram,0);
+	/**
+	 * Computes the histogram of the first region in a row
+	 *
+	 * @param top First row in the region
+	 */
+	private void initializeFirstRegion( int top , GrayU8 input , int[] first ) {
+		Arrays.fill(first,0);
 		for (int y = 0; y < regionWidth; y++) {
-			int indexInput = input.startIndex + (y0+y)*input.stride + x0;
+			int indexInput = input.startIndex + (top+y)*input.stride;
 			for (int x = 0; x < regionWidth; x++) {
-				histogram[input.data[indexInput++] & 0xFF]++;
+				first[input.data[indexInput++] & 0xFF]++;
 			}
 		}
-		otsu.compute(histogram,histogram.length,numPixels);
 	}
 
-	protected void updateHistogramX(int x0, int y0, GrayU8 input) {
-		int indexInput = input.startIndex + y0*input.stride + x0-1;
-		for (int y = 0; y < regionWidth; y++) {
-			histogram[input.data[indexInput] & 0xFF]--;
-			histogram[input.data[indexInput+regionWidth] & 0xFF]++;
-			indexInput += input.stride;
+	/**
+	 * Moves the first region in a row down by one row
+	 *
+	 * @param top First row in the region before it has been moved
+	 */
+	private void shiftFirstRegionDown( int top , GrayU8 input , int[] first ) {
+		int indexRemove = input.startIndex + top*input.stride;
+		int indexAdd = indexRemove + regionWidth*input.stride;
+		for (int x = 0; x < regionWidth; x++) {
+			first[input.data[indexRemove++] & 0xFF]--;
+			first[input.data[indexAdd++] & 0xFF]++;
 		}
-		otsu.compute(histogram,histogram.length,numPixels);
 	}
-	protected void updateHistogramY(int x0, int y0, GrayU8 input) {
-		int offset = regionWidth*input.stride;
-		for (int x = 0; x < regionWidth; x++) {
-			int indexInput = input.startIndex + (y0-1)*input.stride + x0+x;
-			histogram[input.data[indexInput] & 0xFF]--;
-			histogram[input.data[indexInput+offset] & 0xFF]++;
+
+	/**
+	 * Computes the threshold for every region along a row by sliding the first region in the row across it.
+	 *
+	 * @param top First row in the region
+	 * @param useColumns If true the histogram is updated using column histograms instead of pixels
+	 */
+	private void computeRowThresholds( int top , GrayU8 input , Workspace work , int maxLeft , boolean useColumns ) {
+		final int[] columns = work.columns;
+		final int[] histogram = work.histogram;
+
+		System.arraycopy(work.first,0,histogram,0,histogram.length);
+		work.otsu.compute(histogram,histogram.length,numPixels);
+		work.thresholds[0] = work.otsu.threshold;
+
+		for (int left = 1; left <= maxLeft; left++) {
+			if( useColumns ) {
+				int indexRemove = (left-1)*256;
+				int indexAdd = (left-1+regionWidth)*256;
+				for (int i = 0; i < 256; i++) {
+					histogram[i] += columns[indexAdd+i] - columns[indexRemove+i];
+				}
+			} else {
+				int indexRemove = input.startIndex + top*input.stride + left-1;
+				int indexAdd = indexRemove + regionWidth;
+				for (int y = 0; y < regionWidth; y++) {
+					histogram[input.data[indexRemove] & 0xFF]--;
+					histogram[input.data[indexAdd] & 0xFF]++;
+					indexRemove += input.stride;
+					indexAdd += input.stride;
+				}
+			}
+			work.otsu.compute(histogram,histogram.length,numPixels);
+			work.thresholds[left] = work.otsu.threshold;
 		}
-		otsu.compute(histogram,histogram.length,numPixels);
+	}
+
+	@Override
+	public ImageType<GrayU8> getInputType() {
+		return null;
 	}
 
 	public ImageType<GrayU8> getImageType() {
@@ -219,4 +272,35 @@ public class ThresholdLocalOtsu implements InputToBinary<GrayU8> {
 	public ComputeOtsu getOtsu() {
 		return otsu;
 	}
+
+	/**
+	 * Storage used while processing a block of rows
+	 */
+	public static class Workspace {
+		// histogram of each column inside the region's rows. 256 elements per column. Only used by wide regions
+		int[] columns = new int[0];
+		// histogram of the region
+		int[] histogram = new int[256];
+		// histogram of the first region in the row
+		int[] first = new int[256];
+		// threshold for each region along the row
+		double[] thresholds = new double[0];
+		ComputeOtsu otsu = new ComputeOtsu(false,false);
+
+		/**
+		 * Copies the Otsu settings and makes sure the arrays are large enough
+		 */
+		void configure( ComputeOtsu config , int width , boolean useColumns ) {
+			if( useColumns && columns.length < width*256 ) {
+				columns = new int[width*256];
+			}
+			if( thresholds.length < width ) {
+				thresholds = new double[width];
+			}
+			otsu.setUseOtsu2(config.isUseOtsu2());
+			otsu.setTuning(config.getTuning());
+			otsu.setDown(config.isDown());
+			otsu.setScale(config.getScale());
+		}
+	}
 }
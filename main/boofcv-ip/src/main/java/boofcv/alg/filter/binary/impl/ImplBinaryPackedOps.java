@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+
+/**
+ * <p>
+ * Word parallel implementations of binary operations on {@link PackedBinaryImage}. Each long contains 64
+ * pixels and the horizontal neighbors of every pixel in a word are found by shifting the word by one bit and
+ * carrying in the adjacent bit from the neighboring word. Pixels outside the image are treated the same
+ * as in {@link ImplBinaryNaiveOps}. Erode and edge treat them as true while dilate and point noise removal
+ * treat them as false.
+ * </p>
+ *
+ * <p>
+ * Input and output images are assumed to be the correct shape. Morphological operations can't be
+ * performed in place.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplBinaryPackedOps {
+
+	public static void erode4( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long[] data = input.data;
+		final int stride = input.stride;
+		final int height = input.height;
+		final long lastMask = input.getLastWordMask();
+		if( stride == 0 )
+			return;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
+		for( int y = 0; y < height; y++ ) {
+			int rowA = y > 0 ? (y-1)*stride : -1;
+			int rowC = y*stride;
+			int rowB = y < height-1 ? (y+1)*stride : -1;
+
+			long c0 = -1L;
+			long c1 = word(data,rowC,0,stride,-1L,lastMask);
+			for( int i = 0; i < stride; i++ ) {
+				long c2 = word(data,rowC,i+1,stride,-1L,lastMask);
+
+				output.data[rowC+i] = c1 & west(c0,c1) & east(c1,c2) &
+						word(data,rowA,i,stride,-1L,lastMask) & word(data,rowB,i,stride,-1L,lastMask);
+
+				c0 = c1; c1 = c2;
+			}
+			output.data[rowC+stride-1] &= lastMask;
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void dilate4( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long[] data = input.data;
+		final int stride = input.stride;
+		final int height = input.height;
+		final long lastMask = input.getLastWordMask();
+		if( stride == 0 )
+			return;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
+		for( int y = 0; y < height; y++ ) {
+			int rowA = y > 0 ? (y-1)*stride : -1;
+			int rowC = y*stride;
+			int rowB = y < height-1 ? (y+1)*stride : -1;
+
+			long c0 = 0;
+			long c1 = word(data,rowC,0,stride,0,lastMask);
+			for( int i = 0; i < stride; i++ ) {
+				long c2 = word(data,rowC,i+1,stride,0,lastMask);
+
+				output.data[rowC+i] = c1 | west(c0,c1) | east(c1,c2) |
+						word(data,rowA,i,stride,0,lastMask) | word(data,rowB,i,stride,0,lastMask);
+
+				c0 = c1; c1 = c2;
+			}
+			output.data[rowC+stride-1] &= lastMask;
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void edge4( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long[] data = input.data;
+		final int stride = input.stride;
+		final int height = input.height;
+		final long lastMask = input.getLastWordMask();
+		if( stride == 0 )
+			return;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
+		for( int y = 0; y < height; y++ ) {
+			int rowA = y > 0 ? (y-1)*stride : -1;
+			int rowC = y*stride;
+			int rowB = y < height-1 ? (y+1)*stride : -1;
+
+			long c0 = -1L;
+			long c1 = word(data,rowC,0,stride,-1L,lastMask);
+			for( int i = 0; i < stride; i++ ) {
+				long c2 = word(data,rowC,i+1,stride,-1L,lastMask);
+
+				long surrounded = west(c0,c1) & east(c1,c2) &
+						word(data,rowA,i,stride,-1L,lastMask) & word(data,rowB,i,stride,-1L,lastMask);
+				output.data[rowC+i] = c1 & ~surrounded;
+
+				c0 = c1; c1 = c2;
+			}
+			output.data[rowC+stride-1] &= lastMask;
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void erode8( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long[] data = input.data;
+		final int stride = input.stride;
+		final int height = input.height;
+		final long lastMask = input.getLastWordMask();
+		if( stride == 0 )
+			return;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
+		for( int y = 0; y < height; y++ ) {
+			int rowA = y > 0 ? (y-1)*stride : -1;
+			int rowC = y*stride;
+			int rowB = y < height-1 ? (y+1)*stride : -1;
+
+			long a0 = -1L, c0 = -1L, b0 = -1L;
+			long a1 = word(data,rowA,0,stride,-1L,lastMask);
+			long c1 = word(data,rowC,0,stride,-1L,lastMask);
+			long b1 = word(data,rowB,0,stride,-1L,lastMask);
+			for( int i = 0; i < stride; i++ ) {
+				long a2 = word(data,rowA,i+1,stride,-1L,lastMask);
+				long c2 = word(data,rowC,i+1,stride,-1L,lastMask);
+				long b2 = word(data,rowB,i+1,stride,-1L,lastMask);
+
+				output.data[rowC+i] = c1 & west(c0,c1) & east(c1,c2) &
+						a1 & west(a0,a1) & east(a1,a2) &
+						b1 & west(b0,b1) & east(b1,b2);
+
+				a0 = a1; a1 = a2;
+				c0 = c1; c1 = c2;
+				b0 = b1; b1 = b2;
+			}
+			output.data[rowC+stride-1] &= lastMask;
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void dilate8( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long[] data = input.data;
+		final int stride = input.stride;
+		final int height = input.height;
+		final long lastMask = input.getLastWordMask();
+		if( stride == 0 )
+			return;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
+		for( int y = 0; y < height; y++ ) {
+			int rowA = y > 0 ? (y-1)*stride : -1;
+			int rowC = y*stride;
+			int rowB = y < height-1 ? (y+1)*stride : -1;
+
+			long a0 = 0, c0 = 0, b0 = 0;
+			long a1 = word(data,rowA,0,stride,0,lastMask);
+			long c1 = word(data,rowC,0,stride,0,lastMask);
+			long b1 = word(data,rowB,0,stride,0,lastMask);
+			for( int i = 0; i < stride; i++ ) {
+				long a2 = word(data,rowA,i+1,stride,0,lastMask);
+				long c2 = word(data,rowC,i+1,stride,0,lastMask);
+				long b2 = word(data,rowB,i+1,stride,0,lastMask);
+
+				output.data[rowC+i] = c1 | west(c0,c1) | east(c1,c2) |
+						a1 | west(a0,a1) | east(a1,a2) |
+						b1 | west(b0,b1) | east(b1,b2);
+
+				a0 = a1; a1 = a2;
+				c0 = c1; c1 = c2;
+				b0 = b1; b1 = b2;
+			}
+			output.data[rowC+stride-1] &= lastMask;
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void edge8( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long[] data = input.data;
+		final int stride = input.stride;
+		final int height = input.height;
+		final long lastMask = input.getLastWordMask();
+		if( stride == 0 )
+			return;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
+		for( int y = 0; y < height; y++ ) {
+			int rowA = y > 0 ? (y-1)*stride : -1;
+			int rowC = y*stride;
+			int rowB = y < height-1 ? (y+1)*stride : -1;
+
+			long a0 = -1L, c0 = -1L, b0 = -1L;
+			long a1 = word(data,rowA,0,stride,-1L,lastMask);
+			long c1 = word(data,rowC,0,stride,-1L,lastMask);
+			long b1 = word(data,rowB,0,stride,-1L,lastMask);
+			for( int i = 0; i < stride; i++ ) {
+				long a2 = word(data,rowA,i+1,stride,-1L,lastMask);
+				long c2 = word(data,rowC,i+1,stride,-1L,lastMask);
+				long b2 = word(data,rowB,i+1,stride,-1L,lastMask);
+
+				long surrounded = west(c0,c1) & east(c1,c2) &
+						a1 & west(a0,a1) & east(a1,a2) &
+						b1 & west(b0,b1) & east(b1,b2);
+				output.data[rowC+i] = c1 & ~surrounded;
+
+				a0 = a1; a1 = a2;
+				c0 = c1; c1 = c2;
+				b0 = b1; b1 = b2;
+			}
+			output.data[rowC+stride-1] &= lastMask;
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * The number of neighbors which are true is computed for all 64 pixels at once using a bit sliced counter.
+	 * Bit k of each pixel's count is stored in the same bit of word sk.
+	 */
+	public static void removePointNoise( PackedBinaryImage input , PackedBinaryImage output ) {
+		final long[] data = input.data;
+		final int stride = input.stride;
+		final int height = input.height;
+		final long lastMask = input.getLastWordMask();
+		if( stride == 0 )
+			return;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
+		for( int y = 0; y < height; y++ ) {
+			int rowA = y > 0 ? (y-1)*stride : -1;
+			int rowC = y*stride;
+			int rowB = y < height-1 ? (y+1)*stride : -1;
+
+			long a0 = 0, c0 = 0, b0 = 0;
+			long a1 = word(data,rowA,0,stride,0,lastMask);
+			long c1 = word(data,rowC,0,stride,0,lastMask);
+			long b1 = word(data,rowB,0,stride,0,lastMask);
+			for( int i = 0; i < stride; i++ ) {
+				long a2 = word(data,rowA,i+1,stride,0,lastMask);
+				long c2 = word(data,rowC,i+1,stride,0,lastMask);
+				long b2 = word(data,rowB,i+1,stride,0,lastMask);
+
+				long n0 = west(a0,a1), n1 = a1, n2 = east(a1,a2), n3 = west(c0,c1);
+				long n4 = east(c1,c2), n5 = west(b0,b1), n6 = b1, n7 = east(b1,b2);
+
+				// carry save adder tree which sums the 8 neighbors
+				long sumA = n0 ^ n1 ^ n2, carryA = (n0 & n1) | (n2 & (n0 ^ n1));
+				long sumB = n3 ^ n4 ^ n5, carryB = (n3 & n4) | (n5 & (n3 ^ n4));
+				long sumC = n6 ^ n7, carryC = n6 & n7;
+				long s0 = sumA ^ sumB ^ sumC, carryD = (sumA & sumB) | (sumC & (sumA ^ sumB));
+				long sumE = carryA ^ carryB ^ carryC, carryE = (carryA & carryB) | (carryC & (carryA ^ carryB));
+				long s1 = sumE ^ carryD, carryF = sumE & carryD;
+				long s2 = carryE ^ carryF, s3 = carryE & carryF;
+
+				// more than 6 neighbors, count >= 7
+				long many = s3 | (s2 & s1 & s0);
+				// less than 2 neighbors, count <= 1
+				long few = ~(s3 | s2 | s1);
+
+				output.data[rowC+i] = many | (c1 & ~few);
+
+				a0 = a1; a1 = a2;
+				c0 = c1; c1 = c2;
+				b0 = b1; b1 = b2;
+			}
+			output.data[rowC+stride-1] &= lastMask;
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void logicAnd( PackedBinaryImage inputA , PackedBinaryImage inputB , PackedBinaryImage output ) {
+		final int stride = inputA.stride;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, inputA.height, y -> {
+		for( int y = 0; y < inputA.height; y++ ) {
+			int index = y*stride;
+			int end = index + stride;
+			for( ; index < end; index++ ) {
+				output.data[index] = inputA.data[index] & inputB.data[index];
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void logicOr( PackedBinaryImage inputA , PackedBinaryImage inputB , PackedBinaryImage output ) {
+		final int stride = inputA.stride;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, inputA.height, y -> {
+		for( int y = 0; y < inputA.height; y++ ) {
+			int index = y*stride;
+			int end = index + stride;
+			for( ; index < end; index++ ) {
+				output.data[index] = inputA.data[index] | inputB.data[index];
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void logicXor( PackedBinaryImage inputA , PackedBinaryImage inputB , PackedBinaryImage output ) {
+		final int stride = inputA.stride;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, inputA.height, y -> {
+		for( int y = 0; y < inputA.height; y++ ) {
+			int index = y*stride;
+			int end = index + stride;
+			for( ; index < end; index++ ) {
+				output.data[index] = inputA.data[index] ^ inputB.data[index];
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void invert( PackedBinaryImage input , PackedBinaryImage output ) {
+		final int stride = input.stride;
+		final long lastMask = input.getLastWordMask();
+		if( stride == 0 )
+			return;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for( int y = 0; y < input.height; y++ ) {
+			int index = y*stride;
+			int end = index + stride;
+			for( ; index < end; index++ ) {
+				output.data[index] = ~input.data[index];
+			}
+			output.data[end-1] &= lastMask;
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Converts a binary {@link GrayU8} into a packed image. Any pixel which isn't zero is true.
+	 */
+	public static void pack( GrayU8 input , PackedBinaryImage output ) {
+		final int width = input.width;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for( int x = 0; x < width; x += PackedBinaryImage.BITS ) {
+				int length = Math.min(PackedBinaryImage.BITS, width-x);
+				long bits = 0;
+				for( int b = 0; b < length; b++ ) {
+					// (-v) >>> 31 is one for any value from 1 to 255 and zero for zero
+					bits |= (long)(-(input.data[indexIn++] & 0xFF) >>> 31) << b;
+				}
+				output.data[indexOut++] = bits;
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Converts a packed image into a binary {@link GrayU8} with pixel values of 0 and 1.
+	 */
+	public static void unpack( PackedBinaryImage input , GrayU8 output ) {
+		final int width = input.width;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < width; x += PackedBinaryImage.BITS ) {
+				int length = Math.min(PackedBinaryImage.BITS, width-x);
+				long bits = input.data[indexIn++];
+				for( int b = 0; b < length; b++ ) {
+					output.data[indexOut++] = (byte)((bits >>> b) & 1);
+				}
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void threshold( GrayU8 input , PackedBinaryImage output , int threshold , boolean down ) {
+		final int width = input.width;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for( int x = 0; x < width; x += PackedBinaryImage.BITS ) {
+				int length = Math.min(PackedBinaryImage.BITS, width-x);
+				long bits = 0;
+				if( down ) {
+					for( int b = 0; b < length; b++ ) {
+						bits |= ((input.data[indexIn++] & 0xFF) <= threshold ? 1L : 0L) << b;
+					}
+				} else {
+					for( int b = 0; b < length; b++ ) {
+						bits |= ((input.data[indexIn++] & 0xFF) > threshold ? 1L : 0L) << b;
+					}
+				}
+				output.data[indexOut++] = bits;
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	public static void threshold( GrayF32 input , PackedBinaryImage output , float threshold , boolean down ) {
+		final int width = input.width;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for( int x = 0; x < width; x += PackedBinaryImage.BITS ) {
+				int length = Math.min(PackedBinaryImage.BITS, width-x);
+				long bits = 0;
+				if( down ) {
+					for( int b = 0; b < length; b++ ) {
+						bits |= (input.data[indexIn++] <= threshold ? 1L : 0L) << b;
+					}
+				} else {
+					for( int b = 0; b < length; b++ ) {
+						bits |= (input.data[indexIn++] > threshold ? 1L : 0L) << b;
+					}
+				}
+				output.data[indexOut++] = bits;
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Returns a word from the specified row. Words outside the image and bits past the end of the row are
+	 * set to the value in fill.
+	 *
+	 * @param row Index of the first word in the row or -1 if the row is outside the image
+	 */
+	static long word( long[] data , int row , int i , int stride , long fill , long lastMask ) {
+		if( row < 0 || i < 0 || i >= stride )
+			return fill;
+		if( i == stride-1 )
+			return data[row+i] | (fill & ~lastMask);
+		return data[row+i];
+	}
+
+	/**
+	 * Value of the pixel to the left of every pixel in the word
+	 */
+	static long west( long prev , long curr ) {
+		return (curr << 1) | (prev >>> 63);
+	}
+
+	/**
+	 * Value of the pixel to the right of every pixel in the word
+	 */
+	static long east( long curr , long next ) {
+		return (curr >>> 1) | (next << 63);
+	}
+}
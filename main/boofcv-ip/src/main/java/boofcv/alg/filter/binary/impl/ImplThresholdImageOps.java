@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.struct.image.*;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>
+ * Implementations of functions for {@link boofcv.alg.filter.binary.ThresholdImageOps}. Input images
+ * are assumed to be the correct shape.
+ * </p>
+ *
+ * <p>
+ * WARNING: Do not modify.  Automatically generated by GenerateImplThresholdImageOps.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("boofcv.alg.filter.binary.impl.GenerateImplThresholdImageOps")
+public class ImplThresholdImageOps {
+
+	public static void threshold( GrayF32 input , GrayU8 output ,
+								  float threshold , boolean down )
+	{
+		if( down ) {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]) <= threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		} else {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]) > threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		}
+	}
+
+	public static void threshold( GrayF64 input , GrayU8 output ,
+								  double threshold , boolean down )
+	{
+		if( down ) {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]) <= threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		} else {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]) > threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		}
+	}
+
+	public static void threshold( GrayU8 input , GrayU8 output ,
+								  int threshold , boolean down )
+	{
+		if( down ) {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]& 0xFF) <= threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		} else {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]& 0xFF) > threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		}
+	}
+
+	public static void threshold( GrayS16 input , GrayU8 output ,
+								  int threshold , boolean down )
+	{
+		if( down ) {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]) <= threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		} else {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]) > threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		}
+	}
+
+	public static void threshold( GrayU16 input , GrayU8 output ,
+								  int threshold , boolean down )
+	{
+		if( down ) {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]& 0xFFFF) <= threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		} else {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]& 0xFFFF) > threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		}
+	}
+
+	public static void threshold( GrayS32 input , GrayU8 output ,
+								  int threshold , boolean down )
+	{
+		if( down ) {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]) <= threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		} else {
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+			for( int y = 0; y < input.height; y++ ) {
+				int indexIn = input.startIndex + y*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int i = input.width; i>0; i-- ) {
+					output.data[indexOut++] = (byte)((input.data[indexIn++]) > threshold ? 1 : 0);
+				}
+			}
+			//CONCURRENT_ABOVE });
+		}
+	}
+
+}
@@ -21,7 +21,7 @@ package boofcv.alg.filter.binary.impl;
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.filter.blur.BlurImageOps;
 import boofcv.alg.misc.ImageStatistics;
-import boofcv.alg.misc.PixelMath;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConfigLength;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
@@ -41,6 +41,11 @@ import boofcv.struct.image.ImageType;
  * values are k=0.3 and radius=15.  These were found by tuning against a set of text.
  * </p>
  *
+ * <p>
+ * The local mean and standard deviation are found using a box filter, so the cost doesn't depend on the radius.
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then blocks of rows are processed in parallel.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class ThresholdSauvola implements InputToBinary<GrayF32> {
@@ -55,7 +60,6 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 	// storage for intermediate results
 	GrayF32 inputPow2 = new GrayF32(1,1); // I^2
 	GrayF32 inputMean = new GrayF32(1,1); // local mean of I
-	GrayF32 inputMeanPow2 = new GrayF32(1,1); // pow2 of local mean of I
 	GrayF32 inputPow2Mean = new GrayF32(1,1); // local mean of I^2
 	GrayF32 stdev = new GrayF32(1,1); // computed standard deviation
 
@@ -82,11 +86,9 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 	public void process(GrayF32 input , GrayU8 output ) {
 		inputPow2.reshape(input.width,input.height);
 		inputMean.reshape(input.width,input.height);
-		inputMeanPow2.reshape(input.width,input.height);
 		inputPow2Mean.reshape(input.width,input.height);
 		stdev.reshape(input.width,input.height);
 		tmp.reshape(input.width,input.height);
-		inputPow2.reshape(input.width,input.height);
 
 		int radius = width.computeI(Math.min(input.width,input.height))/2;
 
@@ -94,16 +96,58 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 		BlurImageOps.mean(input, inputMean, radius, tmp);
 
 		// standard deviation = sqrt( E[X^2] + E[X]^2)
-		PixelMath.pow2(input, inputPow2);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->computePow2(input,y0,y1));
+		} else {
+			computePow2(input,0,input.height);
+		}
 		BlurImageOps.mean(inputPow2,inputPow2Mean,radius,tmp);
-		PixelMath.pow2(inputMean,inputMeanPow2);
-		PixelMath.subtract(inputPow2Mean, inputMeanPow2, stdev);
-		PixelMath.sqrt(stdev, stdev);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,input.height,this::computeStdev);
+		} else {
+			computeStdev(0,input.height);
+		}
 
 		float R = ImageStatistics.max(stdev);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->applyThreshold(input,output,R,y0,y1));
+		} else {
+			applyThreshold(input,output,R,0,input.height);
+		}
+	}
+
+	/**
+	 * Computes I^2 for the specified rows
+	 */
+	private void computePow2( GrayF32 input , int y0 , int y1 ) {
+		for (int y = y0; y < y1; y++) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*inputPow2.width;
+			int end = indexOut + input.width;
+			while( indexOut < end ) {
+				float v = input.data[indexIn++];
+				inputPow2.data[indexOut++] = v*v;
+			}
+		}
+	}
+
+	/**
+	 * Computes the local standard deviation for the specified rows
+	 */
+	private void computeStdev( int y0 , int y1 ) {
+		for (int i = y0*stdev.width, end = y1*stdev.width; i < end; i++) {
+			float mean = inputMean.data[i];
+			stdev.data[i] = (float)Math.sqrt(inputPow2Mean.data[i] - mean*mean);
+		}
+	}
+
+	/**
+	 * Thresholds the specified rows using the local mean and standard deviation
+	 */
+	private void applyThreshold( GrayF32 input , GrayU8 output , float R , int y0 , int y1 ) {
 		if( down ) {
-			for (int y = 0; y < input.height; y++) {
+			for (int y = y0; y < y1; y++) {
 				int i = y * stdev.width;
 				int indexIn = input.startIndex + y * input.stride;
 				int indexOut = output.startIndex + y * output.stride;
@@ -115,7 +159,7 @@ public class ThresholdSauvola implements InputToBinary<GrayF32> {
 				}
 			}
 		} else {
-			for (int y = 0; y < input.height; y++) {
+			for (int y = y0; y < y1; y++) {
 				int i = y * stdev.width;
 				int indexIn = input.startIndex + y * input.stride;
 				int indexOut = output.startIndex + y * output.stride;
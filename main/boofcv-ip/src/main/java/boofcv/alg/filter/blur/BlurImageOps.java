@@ -19,11 +19,16 @@
 package boofcv.alg.filter.blur;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.blur.impl.ImplBlurTiled;
+import boofcv.alg.filter.blur.impl.ImplBlurTiled_MT;
+import boofcv.alg.filter.blur.impl.ImplMedianConstantTime;
+import boofcv.alg.filter.blur.impl.ImplMedianConstantTime_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
 import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
 import boofcv.alg.filter.convolve.ConvolveImageMean;
 import boofcv.alg.filter.convolve.ConvolveImageNormalized;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D_F32;
@@ -41,6 +46,12 @@ import javax.annotation.Nullable;
  */
 public class BlurImageOps {
 
+	/**
+	 * Median filters with a radius this size or larger use {@link ImplMedianConstantTime}. Below this radius
+	 * a histogram of the whole window is faster.
+	 */
+	public static final int MEDIAN_CONSTANT_TIME_RADIUS = 5;
+
 	/**
 	 * Applies a mean box filter.
 	 *
@@ -56,13 +67,21 @@ public class BlurImageOps {
 			throw new IllegalArgumentException("Radius must be > 0");
 
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
-		boolean processed = BOverrideBlurImageOps.invokeNativeMean(input, output, radius, storage);
+		if( BOverrideBlurImageOps.mean != null ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
+			if( BOverrideBlurImageOps.invokeNativeMean(input, output, radius, storage) )
+				return output;
+		}
 
-		if( !processed ){
+		if( !useTiled(input, input.data == output.data, radius*2+1) ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
 			ConvolveImageMean.horizontal(input, storage, radius);
 			ConvolveImageMean.vertical(storage, output, radius);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBlurTiled_MT.mean(input, output, radius);
+		} else {
+			ImplBlurTiled.mean(input, output, radius);
 		}
 
 		return output;
@@ -83,13 +102,21 @@ public class BlurImageOps {
 			throw new IllegalArgumentException("Radius must be > 0");
 
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
-		boolean processed = BOverrideBlurImageOps.invokeNativeMean(input, output, radius, storage);
+		if( BOverrideBlurImageOps.mean != null ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
+			if( BOverrideBlurImageOps.invokeNativeMean(input, output, radius, storage) )
+				return output;
+		}
 
-		if( !processed ){
+		if( !useTiled(input, input.data == output.data, radius*2+1) ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
 			ConvolveImageMean.horizontal(input, storage, radius);
 			ConvolveImageMean.vertical(storage, output, radius);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBlurTiled_MT.mean(input, output, radius);
+		} else {
+			ImplBlurTiled.mean(input, output, radius);
 		}
 
 		return output;
@@ -110,13 +137,21 @@ public class BlurImageOps {
 			throw new IllegalArgumentException("Radius must be > 0");
 
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
-		boolean processed = BOverrideBlurImageOps.invokeNativeMean(input, output, radius, storage);
+		if( BOverrideBlurImageOps.mean != null ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
+			if( BOverrideBlurImageOps.invokeNativeMean(input, output, radius, storage) )
+				return output;
+		}
 
-		if( !processed ){
+		if( !useTiled(input, input.data == output.data, radius*2+1) ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
 			ConvolveImageMean.horizontal(input, storage, radius);
 			ConvolveImageMean.vertical(storage, output, radius);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBlurTiled_MT.mean(input, output, radius);
+		} else {
+			ImplBlurTiled.mean(input, output, radius);
 		}
 
 		return output;
@@ -135,11 +170,14 @@ public class BlurImageOps {
 	public static <T extends ImageGray<T>>
 	Planar<T> mean(Planar<T> input, @Nullable Planar<T> output, int radius , @Nullable T storage ) {
 
-		if( storage == null )
-			storage = GeneralizedImageOps.createSingleBand(input.getBandType(),input.width,input.height);
 		if( output == null )
 			output = input.createNew(input.width,input.height);
 
+		// storage is shared by all the bands and only declared if it will be used
+		if( storage == null && input.getNumBands() > 0 &&
+				needsStorage(input.getBand(0),output.getBand(0),radius*2+1,BOverrideBlurImageOps.mean != null) )
+			storage = GeneralizedImageOps.createSingleBand(input.getBandType(),input.width,input.height);
+
 		for( int band = 0; band < input.getNumBands(); band++ ) {
 			GBlurImageOps.mean(input.getBand(band),output.getBand(band),radius, storage);
 		}
@@ -163,12 +201,85 @@ public class BlurImageOps {
 		boolean processed = BOverrideBlurImageOps.invokeNativeMedian(input, output, radius);
 
 		if( !processed ) {
-			int w = radius * 2 + 1;
-			int offset[] = new int[w * w];
-			int histogram[] = new int[256];
+			if( radius >= MEDIAN_CONSTANT_TIME_RADIUS ) {
+				if( BoofConcurrency.USE_CONCURRENT ) {
+					ImplMedianConstantTime_MT.process(input, output, radius);
+				} else {
+					ImplMedianConstantTime.process(input, output, radius);
+				}
+			} else {
+				int w = radius * 2 + 1;
+				int offset[] = new int[w * w];
+				int histogram[] = new int[256];
+
+				ImplMedianHistogramInner.process(input, output, radius, offset, histogram);
+				ImplMedianSortEdgeNaive.process(input, output, radius, offset);
+			}
+		}
+
+		return output;
+	}
+
+	/**
+	 * Applies a median filter. The results are exact but it's slow for larger radiuses. If the image has 256 or
+	 * fewer possible values then {@link #median(GrayU16, GrayU16, int, int, int)} is exact and much faster.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the median blur function.
+	 * @return Output blurred image.
+	 */
+	public static GrayU16 median(GrayU16 input, @Nullable GrayU16 output, int radius) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output);
 
-			ImplMedianHistogramInner.process(input, output, radius, offset, histogram);
-			ImplMedianSortEdgeNaive.process(input, output, radius, offset);
+		boolean processed = BOverrideBlurImageOps.invokeNativeMedian(input, output, radius);
+
+		if( !processed ) {
+			ImplMedianSortNaive.process(input, output, radius, null);
+		}
+		return output;
+	}
+
+	/**
+	 * Applies an approximate median filter. Pixel values are quantized into 256 levels from minValue to maxValue,
+	 * the median of the quantized image is found in constant time, and the result is converted back into the
+	 * center of each level. If there are 256 or fewer possible values then the results are exact.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the median blur function.
+	 * @param minValue Minimum pixel value in the image. Smaller values are treated as being this value.
+	 * @param maxValue Maximum pixel value in the image. Larger values are treated as being this value.
+	 * @return Output blurred image.
+	 */
+	public static GrayU16 median(GrayU16 input, @Nullable GrayU16 output, int radius, int minValue, int maxValue) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+		if( maxValue < minValue )
+			throw new IllegalArgumentException("maxValue must be >= minValue");
+
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		ImagePool pool = ImagePool.getDefault();
+		ImageType<GrayU8> binType = ImageType.single(GrayU8.class);
+		GrayU8 bins = pool.acquire(binType,input.width,input.height);
+		GrayU8 binsMedian = pool.acquire(binType,input.width,input.height);
+		try {
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplMedianConstantTime_MT.quantize(input, minValue, maxValue, bins);
+				ImplMedianConstantTime_MT.process(bins, binsMedian, radius);
+				ImplMedianConstantTime_MT.dequantize(binsMedian, minValue, maxValue, output);
+			} else {
+				ImplMedianConstantTime.quantize(input, minValue, maxValue, bins);
+				ImplMedianConstantTime.process(bins, binsMedian, radius);
+				ImplMedianConstantTime.dequantize(binsMedian, minValue, maxValue, output);
+			}
+		} finally {
+			pool.release(bins);
+			pool.release(binsMedian);
 		}
 
 		return output;
@@ -197,6 +308,49 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Applies an approximate median filter. Pixel values are quantized into 256 levels from minValue to maxValue,
+	 * the median of the quantized image is found in constant time, and the result is converted back into the
+	 * center of each level. Much faster than {@link #median(GrayF32, GrayF32, int)} for larger radiuses.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the median blur function.
+	 * @param minValue Minimum pixel value in the image. Smaller values are treated as being this value.
+	 * @param maxValue Maximum pixel value in the image. Larger values are treated as being this value.
+	 * @return Output blurred image.
+	 */
+	public static GrayF32 median(GrayF32 input, @Nullable GrayF32 output, int radius,
+								 float minValue, float maxValue) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+		if( !(maxValue > minValue) )
+			throw new IllegalArgumentException("maxValue must be > minValue");
+
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		ImagePool pool = ImagePool.getDefault();
+		ImageType<GrayU8> binType = ImageType.single(GrayU8.class);
+		GrayU8 bins = pool.acquire(binType,input.width,input.height);
+		GrayU8 binsMedian = pool.acquire(binType,input.width,input.height);
+		try {
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplMedianConstantTime_MT.quantize(input, minValue, maxValue, bins);
+				ImplMedianConstantTime_MT.process(bins, binsMedian, radius);
+				ImplMedianConstantTime_MT.dequantize(binsMedian, minValue, maxValue, output);
+			} else {
+				ImplMedianConstantTime.quantize(input, minValue, maxValue, bins);
+				ImplMedianConstantTime.process(bins, binsMedian, radius);
+				ImplMedianConstantTime.dequantize(binsMedian, minValue, maxValue, output);
+			}
+		} finally {
+			pool.release(bins);
+			pool.release(binsMedian);
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies median filter to a {@link Planar}
 	 *
@@ -231,14 +385,22 @@ public class BlurImageOps {
 	public static GrayU8 gaussian(GrayU8 input, @Nullable GrayU8 output, double sigma , int radius,
 								  @Nullable GrayU8 storage ) {
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage,GrayU8.class);
 
-		boolean processed = BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma,radius, storage);
+		if( BOverrideBlurImageOps.gaussian != null ) {
+			storage = InputSanityCheck.checkDeclare(input,storage,GrayU8.class);
+			if( BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma, radius, storage) )
+				return output;
+		}
 
-		if( !processed ) {
-			Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class, sigma, radius);
+		Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class, sigma, radius);
+		if( !useTiled(input, input.data == output.data, kernel.width) ) {
+			storage = InputSanityCheck.checkDeclare(input,storage,GrayU8.class);
 			ConvolveImageNormalized.horizontal(kernel, input, storage);
 			ConvolveImageNormalized.vertical(kernel, storage, output);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBlurTiled_MT.gaussian(kernel, input, output);
+		} else {
+			ImplBlurTiled.gaussian(kernel, input, output);
 		}
 
 		return output;
@@ -275,14 +437,22 @@ public class BlurImageOps {
 								   double sigma , int radius,
 								   @Nullable GrayF32 storage ) {
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
-		boolean processed = BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma,radius, storage);
+		if( BOverrideBlurImageOps.gaussian != null ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
+			if( BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma, radius, storage) )
+				return output;
+		}
 
-		if( !processed ) {
-			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma, radius);
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma, radius);
+		if( !useTiled(input, input.data == output.data, kernel.width) ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
 			ConvolveImageNormalized.horizontal(kernel, input, storage);
 			ConvolveImageNormalized.vertical(kernel, storage, output);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBlurTiled_MT.gaussian(kernel, input, output);
+		} else {
+			ImplBlurTiled.gaussian(kernel, input, output);
 		}
 
 		return output;
@@ -302,14 +472,22 @@ public class BlurImageOps {
 								   double sigma , int radius,
 								   @Nullable GrayF64 storage ) {
 		output = InputSanityCheck.checkDeclare(input,output);
-		storage = InputSanityCheck.checkDeclare(input,storage);
 
-		boolean processed = BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma,radius, storage);
+		if( BOverrideBlurImageOps.gaussian != null ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
+			if( BOverrideBlurImageOps.invokeNativeGaussian(input, output, sigma, radius, storage) )
+				return output;
+		}
 
-		if( !processed ) {
-			Kernel1D_F64 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F64.class,sigma, radius);
+		Kernel1D_F64 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F64.class,sigma, radius);
+		if( !useTiled(input, input.data == output.data, kernel.width) ) {
+			storage = InputSanityCheck.checkDeclare(input,storage);
 			ConvolveImageNormalized.horizontal(kernel, input, storage);
 			ConvolveImageNormalized.vertical(kernel, storage, output);
+		} else if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplBlurTiled_MT.gaussian(kernel, input, output);
+		} else {
+			ImplBlurTiled.gaussian(kernel, input, output);
 		}
 
 		return output;
@@ -361,14 +539,42 @@ public class BlurImageOps {
 	public static <T extends ImageGray<T>>
 	Planar<T> gaussian(Planar<T> input, @Nullable Planar<T> output, double sigma , int radius, @Nullable T storage ) {
 
-		if( storage == null )
-			storage = GeneralizedImageOps.createSingleBand(input.getBandType(), input.width, input.height);
 		if( output == null )
 			output = input.createNew(input.width,input.height);
 
+		// storage is shared by all the bands and only declared if it will be used
+		if( storage == null && input.getNumBands() > 0 ) {
+			int kernelRadius = radius <= 0 ? FactoryKernelGaussian.radiusForSigma(sigma,0) : radius;
+			if( needsStorage(input.getBand(0),output.getBand(0),kernelRadius*2+1,BOverrideBlurImageOps.gaussian != null) )
+				storage = GeneralizedImageOps.createSingleBand(input.getBandType(),input.width,input.height);
+		}
+
 		for( int band = 0; band < input.getNumBands(); band++ ) {
 			GBlurImageOps.gaussian(input.getBand(band),output.getBand(band),sigma,radius,storage);
 		}
 		return output;
 	}
+
+	/**
+	 * Returns true if blurring a gray image with a kernel of the specified width will write to the storage
+	 * for intermediate results. Used to avoid leasing storage which would never be touched.
+	 *
+	 * @param nativeOverride true if a native implementation has been registered for the operation
+	 */
+	static boolean needsStorage( ImageGray input , @Nullable ImageGray output , int kernelWidth ,
+								 boolean nativeOverride ) {
+		if( nativeOverride )
+			return true;
+		// The data arrays can't be compared for a generic image. If they might be shared assume they are
+		boolean sharedData = output != null && (input == output || input.isSubimage() || output.isSubimage());
+		return !useTiled(input, sharedData, kernelWidth);
+	}
+
+	/**
+	 * The tiled implementations don't need a full size intermediate image. They can't be used in-place
+	 * or when the kernel is as large as the image.
+	 */
+	private static boolean useTiled( ImageGray input , boolean sharedData , int kernelWidth ) {
+		return !sharedData && kernelWidth < input.width && kernelWidth < input.height;
+	}
 }
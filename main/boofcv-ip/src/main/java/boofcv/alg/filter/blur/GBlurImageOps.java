@@ -18,6 +18,8 @@
 
 package boofcv.alg.filter.blur;
 
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.image.*;
 
 import javax.annotation.Nullable;
@@ -25,7 +27,9 @@ import javax.annotation.Nullable;
 
 /**
  * Generalized functions for applying different image blur operators.  Invokes functions
- * from {@link BlurImageOps}, which provides type specific functions.
+ * from {@link BlurImageOps}, which provides type specific functions.  If no storage is provided and the
+ * selected implementation needs it, then it is leased from the default {@link ImagePool} instead of being
+ * declared on each call.
  *
  * @author Peter Abeles
  */
@@ -44,6 +48,16 @@ public class GBlurImageOps {
 	 */
 	public static <T extends ImageBase<T>>
 	T mean(T input, @Nullable T output, int radius, @Nullable ImageBase storage ) {
+		if( storage == null && needsStorage(input,output,radius*2+1,BOverrideBlurImageOps.mean != null) ) {
+			ImagePool pool = ImagePool.getDefault();
+			storage = leaseStorage(pool,input);
+			try {
+				return mean(input,output,radius,storage);
+			} finally {
+				pool.release(storage);
+			}
+		}
+
 		if( input instanceof GrayU8) {
 			return (T)BlurImageOps.mean((GrayU8)input,(GrayU8)output,radius,(GrayU8)storage);
 		} else if( input instanceof GrayF32) {
@@ -58,7 +72,10 @@ public class GBlurImageOps {
 	}
 
 	/**
-	 * Applies a median filter.
+	 * Applies a median filter. The results are always exact. {@link GrayU16} images are filtered in constant time
+	 * when the difference between their minimum and maximum value is less than 256, otherwise the slower exact
+	 * algorithm is used. For an approximate result with a larger range see
+	 * {@link BlurImageOps#median(GrayU16, GrayU16, int, int, int)}.
 	 *
 	 * @param input Input image.  Not modified.
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
@@ -70,6 +87,14 @@ public class GBlurImageOps {
 	T median(T input, @Nullable T output, int radius ) {
 		if( input instanceof GrayU8) {
 			return (T)BlurImageOps.median((GrayU8) input, (GrayU8) output, radius);
+		} else if( input instanceof GrayU16) {
+			int max = ImageStatistics.max((GrayU16) input);
+			int min = ImageStatistics.min((GrayU16) input);
+			// quantization is only exact when there are 256 or fewer possible values
+			if( max-min < 256 )
+				return (T)BlurImageOps.median((GrayU16) input, (GrayU16) output, radius, min, min+255);
+			else
+				return (T)BlurImageOps.median((GrayU16) input, (GrayU16) output, radius);
 		} else if( input instanceof GrayF32) {
 			return (T)BlurImageOps.median((GrayF32) input, (GrayF32) output, radius);
 		} else if( input instanceof Planar) {
@@ -92,6 +117,19 @@ public class GBlurImageOps {
 	 */
 	public static <T extends ImageBase<T>>
 	T gaussian(T input, @Nullable T output, double sigma , int radius, @Nullable ImageBase storage ) {
+		if( storage == null ) {
+			int kernelRadius = radius <= 0 ? FactoryKernelGaussian.radiusForSigma(sigma,0) : radius;
+			if( needsStorage(input,output,kernelRadius*2+1,BOverrideBlurImageOps.gaussian != null) ) {
+				ImagePool pool = ImagePool.getDefault();
+				storage = leaseStorage(pool,input);
+				try {
+					return gaussian(input,output,sigma,radius,storage);
+				} finally {
+					pool.release(storage);
+				}
+			}
+		}
+
 		switch( input.getImageType().getFamily() ) {
 			case GRAY: {
 				if (input instanceof GrayU8) {
@@ -125,4 +163,38 @@ public class GBlurImageOps {
 				throw new IllegalArgumentException("Unknown image family");
 		}
 	}
+
+	/**
+	 * Returns true if the type specific implementation will write to the storage for intermediate results.
+	 * Interleaved images always need it. Planar images blur each band as a gray image.
+	 */
+	private static boolean needsStorage( ImageBase input , @Nullable ImageBase output , int kernelWidth ,
+										 boolean nativeOverride ) {
+		switch( input.getImageType().getFamily() ) {
+			case GRAY:
+				return BlurImageOps.needsStorage((ImageGray)input,(ImageGray)output,kernelWidth,nativeOverride);
+
+			case PLANAR: {
+				Planar in = (Planar)input;
+				Planar out = (Planar)output;
+				if( in.getNumBands() == 0 )
+					return false;
+				return BlurImageOps.needsStorage(in.getBand(0),out == null ? null : out.getBand(0),
+						kernelWidth,nativeOverride);
+			}
+
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Leases storage for intermediate results.  Planar images only need a single band.
+	 */
+	private static ImageBase leaseStorage( ImagePool pool , ImageBase input ) {
+		ImageType type = input.getImageType();
+		if( type.getFamily() == ImageType.Family.PLANAR )
+			type = ImageType.single(type.getDataType());
+		return pool.acquire(type,input.width,input.height);
+	}
 }
@@ -0,0 +1,757 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.filter.convolve.ConvolveImageMean;
+import boofcv.alg.filter.convolve.ConvolveImageNormalized;
+import boofcv.alg.filter.convolve.noborder.*;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder_SB;
+import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_F64;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Separable Gaussian and mean blur which doesn't need an intermediate image the same size as the input.
+ * The horizontal pass is written into a tile which contains only the rows needed by the vertical pass
+ * for a small number of output rows. Tiles are sized to fit inside the L2 cache. Rows shared by
+ * consecutive tiles are moved to the top of the tile instead of being convolved again. Tiles are leased
+ * from {@link ImagePool}.
+ * </p>
+ *
+ * <p>
+ * Results are identical to applying {@link ConvolveImageNormalized} or {@link ConvolveImageMean} horizontally
+ * then vertically. Along the image border the kernel is renormalized. The kernel must be smaller than the image.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplBlurTiled {
+
+	//CONCURRENT_OMIT_BEGIN
+	/**
+	 * Approximate number of bytes used by the horizontal pass tile
+	 */
+	public static int TILE_BYTES = 128*1024;
+
+	//CONCURRENT_OMIT_END
+	private static final ImageType<GrayU8> TILE_U8 = ImageType.single(GrayU8.class);
+	private static final ImageType<GrayS32> TILE_S32 = ImageType.single(GrayS32.class);
+	private static final ImageType<GrayF32> TILE_F32 = ImageType.single(GrayF32.class);
+	private static final ImageType<GrayF64> TILE_F64 = ImageType.single(GrayF64.class);
+
+	/**
+	 * Gaussian blur. Produces the same results as {@link ConvolveImageNormalized} applied horizontally
+	 * and then vertically.
+	 *
+	 * @param kernel Gaussian kernel. Must be smaller than the image.
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void gaussian( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output ) {
+		if( Math.abs(kernel.computeSum() - 1.0f) > 1e-4f ) {
+			kernel = kernel.copy();
+			KernelMath.normalizeSumToOne(kernel);
+		}
+		final Kernel1D_F32 k = kernel;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, output.height, minBlockRows(k.width), (y0,y1)->gaussian(k, input, output, y0, y1));
+		gaussian(k, input, output, 0, output.height);
+	}
+
+	/**
+	 * Gaussian blur for the output rows from y0 to y1-1, inclusive.
+	 */
+	public static void gaussian( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output , int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int kernelWidth = kernel.width;
+		final int offsetL = kernel.offset;
+		final int offsetR = kernelWidth-offsetL-1;
+
+		final int tileRows = selectTileRows(width*4,kernelWidth);
+
+		ImagePool pool = ImagePool.getDefault();
+		GrayF32 tile = pool.acquire(TILE_F32,width,tileRows+kernelWidth-1);
+		try {
+			// range of input rows which have been convolved horizontally and are stored in the tile
+			int rowA = 0, rowB = 0;
+
+			for( int t0 = y0; t0 < y1; t0 += tileRows ) {
+				int t1 = Math.min(y1,t0+tileRows);
+				int needA = Math.max(0,t0-offsetL);
+				int needB = Math.min(height,t1+offsetR);
+
+				int startNew = shiftTile(tile.data,width,rowA,rowB,needA);
+				if( startNew < needB ) {
+					horizontal(kernel,input.subimage(0,startNew,width,needB),
+							tile.subimage(0,startNew-needA,width,needB-needA));
+				}
+				rowA = needA; rowB = needB;
+
+				// rows where the entire kernel is inside the image
+				int interiorA = Math.max(t0,offsetL);
+				int interiorB = Math.min(t1,height-offsetR);
+				if( interiorA < interiorB ) {
+					vertical(kernel,tile.subimage(0,interiorA-offsetL-rowA,width,interiorB+offsetR-rowA),
+							output.subimage(0,interiorA-offsetL,width,interiorB+offsetR));
+				}
+
+				for( int y = t0; y < Math.min(t1,offsetL); y++ ) {
+					verticalBorder(kernel,tile,rowA,output,y);
+				}
+				for( int y = Math.max(t0,height-offsetR); y < t1; y++ ) {
+					verticalBorder(kernel,tile,rowA,output,y);
+				}
+			}
+		} finally {
+			pool.release(tile);
+		}
+	}
+
+	private static void horizontal( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output ) {
+		if( !ConvolveImageUnrolled_SB_F32_F32.horizontal(kernel,input,output) )
+			ConvolveImageStandard_SB.horizontal(kernel,input,output);
+		ConvolveNormalized_JustBorder_SB.horizontal(kernel,input,output);
+	}
+
+	private static void vertical( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output ) {
+		if( !ConvolveImageUnrolled_SB_F32_F32.vertical(kernel,input,output) )
+			ConvolveImageStandard_SB.vertical(kernel,input,output);
+	}
+
+	/**
+	 * Vertical convolution for a row along the top or bottom image border. The kernel is renormalized.
+	 *
+	 * @param rowA The first input row in the tile
+	 */
+	private static void verticalBorder( Kernel1D_F32 kernel , GrayF32 tile , int rowA , GrayF32 output , int y ) {
+		final int width = output.width;
+		final int offsetL = kernel.offset;
+		final float[] dataKer = kernel.data;
+		final int kStart = Math.max(0,offsetL-y);
+		final int kEnd = Math.min(kernel.width,output.height+offsetL-y);
+
+		float weight = 0;
+		for( int i = kStart; i < kEnd; i++ ) {
+			weight += dataKer[i];
+		}
+
+		int indexTile = (y-offsetL+kStart-rowA)*width;
+		int indexDst = output.startIndex + y*output.stride;
+		for( int x = 0; x < width; x++ , indexTile++ ) {
+			float total = 0;
+			for( int i = kStart, indexSrc = indexTile; i < kEnd; i++, indexSrc += width ) {
+				total += tile.data[indexSrc]*dataKer[i];
+			}
+			output.data[indexDst++] = total/weight;
+		}
+	}
+
+	/**
+	 * Mean box filter. Produces the same results as {@link ConvolveImageMean} applied horizontally
+	 * and then vertically.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 * @param radius Radius of the box filter. Must be smaller than the image.
+	 */
+	public static void mean( GrayF32 input , GrayF32 output , int radius ) {
+		final Kernel1D_F32 kernel = FactoryKernel.table1D_F32(radius, true);
+		final int blockRows = sumBlockRows(kernel.width);
+		final int numBlocks = (output.height-radius+blockRows-1)/blockRows;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, numBlocks, (b0,b1)->mean(kernel, input, output, sumBlockStart(b0,blockRows,radius,output.height), sumBlockStart(b1,blockRows,radius,output.height)));
+		mean(kernel, input, output, 0, output.height);
+	}
+
+	/**
+	 * Mean box filter for the output rows from y0 to y1-1, inclusive.
+	 *
+	 * @param kernel Normalized table kernel which is used along the image border
+	 */
+	public static void mean( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output , int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int kernelWidth = kernel.width;
+		final int radius = kernel.offset;
+		final float[] dataKer = kernel.data;
+		final float divisor = kernelWidth;
+		final int blockRows = sumBlockRows(kernelWidth);
+
+		final int tileRows = selectTileRows(width*4,kernelWidth+1);
+
+		ImagePool pool = ImagePool.getDefault();
+		GrayF32 tile = pool.acquire(TILE_F32,width,tileRows+kernelWidth);
+		GrayF32 totals = pool.acquire(TILE_F32,width,1);
+		final float[] dataTile = tile.data;
+		try {
+			// The running sum is initialized at the first row which isn't along the image border. Floating point
+			// sums are also restarted at the same rows as ConvolveImageMean, so results are identical to it and
+			// splitting the image at those rows doesn't change the results
+			final int yFirst = Math.max(y0,radius);
+
+			// range of input rows which have been convolved horizontally and are stored in the tile
+			int rowA = 0, rowB = 0;
+
+			for( int t0 = y0; t0 < y1; t0 += tileRows ) {
+				int t1 = Math.min(y1,t0+tileRows);
+				// also include the row which is subtracted from the running sum
+				int needA = Math.max(0,t0-radius-1);
+				int needB = Math.min(height,t1+radius);
+
+				int startNew = shiftTile(dataTile,width,rowA,rowB,needA);
+				if( startNew < needB ) {
+					GrayF32 src = input.subimage(0,startNew,width,needB);
+					GrayF32 dst = tile.subimage(0,startNew-needA,width,needB-needA);
+					ConvolveNormalized_JustBorder_SB.horizontal(kernel,src,dst);
+					ImplConvolveMean.horizontal(src,dst,radius);
+				}
+				rowA = needA; rowB = needB;
+
+				for( int y = t0; y < t1; y++ ) {
+					int indexDst = output.startIndex + y*output.stride;
+
+					if( y < radius || y >= height-radius ) {
+						final int kStart = Math.max(0,radius-y);
+						final int kEnd = Math.min(kernelWidth,height+radius-y);
+
+						float weight = 0;
+						for( int i = kStart; i < kEnd; i++ ) {
+							weight += dataKer[i];
+						}
+
+						int indexTile = (y-radius+kStart-rowA)*width;
+						for( int x = 0; x < width; x++ , indexTile++ ) {
+							float total = 0;
+							for( int i = kStart, index = indexTile; i < kEnd; i++, index += width ) {
+								total += dataTile[index]*dataKer[i];
+							}
+							output.data[indexDst++] = total/weight;
+						}
+					} else if( y == yFirst || (y-radius)%blockRows == 0 ) {
+						int indexTile = (y-radius-rowA)*width;
+						for( int x = 0; x < width; x++ , indexTile++ ) {
+							float total = 0;
+							for( int i = 0, index = indexTile; i < kernelWidth; i++, index += width ) {
+								total += dataTile[index];
+							}
+							totals.data[x] = total;
+							output.data[indexDst++] = total/divisor;
+						}
+					} else {
+						int indexOld = (y-radius-1-rowA)*width;
+						int indexNew = (y+radius-rowA)*width;
+						for( int x = 0; x < width; x++ ) {
+							float total = totals.data[x] - dataTile[indexOld++];
+							totals.data[x] = total += dataTile[indexNew++];
+							output.data[indexDst++] = total/divisor;
+						}
+					}
+				}
+			}
+		} finally {
+			pool.release(tile);
+			pool.release(totals);
+		}
+	}
+
+	/**
+	 * Gaussian blur. Produces the same results as {@link ConvolveImageNormalized} applied horizontally
+	 * and then vertically.
+	 *
+	 * @param kernel Gaussian kernel. Must be smaller than the image.
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void gaussian( Kernel1D_F64 kernel , GrayF64 input , GrayF64 output ) {
+		if( Math.abs(kernel.computeSum() - 1.0f) > 1e-4f ) {
+			kernel = kernel.copy();
+			KernelMath.normalizeSumToOne(kernel);
+		}
+		final Kernel1D_F64 k = kernel;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, output.height, minBlockRows(k.width), (y0,y1)->gaussian(k, input, output, y0, y1));
+		gaussian(k, input, output, 0, output.height);
+	}
+
+	/**
+	 * Gaussian blur for the output rows from y0 to y1-1, inclusive.
+	 */
+	public static void gaussian( Kernel1D_F64 kernel , GrayF64 input , GrayF64 output , int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int kernelWidth = kernel.width;
+		final int offsetL = kernel.offset;
+		final int offsetR = kernelWidth-offsetL-1;
+
+		final int tileRows = selectTileRows(width*8,kernelWidth);
+
+		ImagePool pool = ImagePool.getDefault();
+		GrayF64 tile = pool.acquire(TILE_F64,width,tileRows+kernelWidth-1);
+		try {
+			// range of input rows which have been convolved horizontally and are stored in the tile
+			int rowA = 0, rowB = 0;
+
+			for( int t0 = y0; t0 < y1; t0 += tileRows ) {
+				int t1 = Math.min(y1,t0+tileRows);
+				int needA = Math.max(0,t0-offsetL);
+				int needB = Math.min(height,t1+offsetR);
+
+				int startNew = shiftTile(tile.data,width,rowA,rowB,needA);
+				if( startNew < needB ) {
+					horizontal(kernel,input.subimage(0,startNew,width,needB),
+							tile.subimage(0,startNew-needA,width,needB-needA));
+				}
+				rowA = needA; rowB = needB;
+
+				// rows where the entire kernel is inside the image
+				int interiorA = Math.max(t0,offsetL);
+				int interiorB = Math.min(t1,height-offsetR);
+				if( interiorA < interiorB ) {
+					vertical(kernel,tile.subimage(0,interiorA-offsetL-rowA,width,interiorB+offsetR-rowA),
+							output.subimage(0,interiorA-offsetL,width,interiorB+offsetR));
+				}
+
+				for( int y = t0; y < Math.min(t1,offsetL); y++ ) {
+					verticalBorder(kernel,tile,rowA,output,y);
+				}
+				for( int y = Math.max(t0,height-offsetR); y < t1; y++ ) {
+					verticalBorder(kernel,tile,rowA,output,y);
+				}
+			}
+		} finally {
+			pool.release(tile);
+		}
+	}
+
+	private static void horizontal( Kernel1D_F64 kernel , GrayF64 input , GrayF64 output ) {
+		if( !ConvolveImageUnrolled_SB_F64_F64.horizontal(kernel,input,output) )
+			ConvolveImageStandard_SB.horizontal(kernel,input,output);
+		ConvolveNormalized_JustBorder_SB.horizontal(kernel,input,output);
+	}
+
+	private static void vertical( Kernel1D_F64 kernel , GrayF64 input , GrayF64 output ) {
+		if( !ConvolveImageUnrolled_SB_F64_F64.vertical(kernel,input,output) )
+			ConvolveImageStandard_SB.vertical(kernel,input,output);
+	}
+
+	/**
+	 * Vertical convolution for a row along the top or bottom image border. The kernel is renormalized.
+	 *
+	 * @param rowA The first input row in the tile
+	 */
+	private static void verticalBorder( Kernel1D_F64 kernel , GrayF64 tile , int rowA , GrayF64 output , int y ) {
+		final int width = output.width;
+		final int offsetL = kernel.offset;
+		final double[] dataKer = kernel.data;
+		final int kStart = Math.max(0,offsetL-y);
+		final int kEnd = Math.min(kernel.width,output.height+offsetL-y);
+
+		double weight = 0;
+		for( int i = kStart; i < kEnd; i++ ) {
+			weight += dataKer[i];
+		}
+
+		int indexTile = (y-offsetL+kStart-rowA)*width;
+		int indexDst = output.startIndex + y*output.stride;
+		for( int x = 0; x < width; x++ , indexTile++ ) {
+			double total = 0;
+			for( int i = kStart, indexSrc = indexTile; i < kEnd; i++, indexSrc += width ) {
+				total += tile.data[indexSrc]*dataKer[i];
+			}
+			output.data[indexDst++] = total/weight;
+		}
+	}
+
+	/**
+	 * Mean box filter. Produces the same results as {@link ConvolveImageMean} applied horizontally
+	 * and then vertically.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 * @param radius Radius of the box filter. Must be smaller than the image.
+	 */
+	public static void mean( GrayF64 input , GrayF64 output , int radius ) {
+		final Kernel1D_F64 kernel = FactoryKernel.table1D_F64(radius, true);
+		final int blockRows = sumBlockRows(kernel.width);
+		final int numBlocks = (output.height-radius+blockRows-1)/blockRows;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, numBlocks, (b0,b1)->mean(kernel, input, output, sumBlockStart(b0,blockRows,radius,output.height), sumBlockStart(b1,blockRows,radius,output.height)));
+		mean(kernel, input, output, 0, output.height);
+	}
+
+	/**
+	 * Mean box filter for the output rows from y0 to y1-1, inclusive.
+	 *
+	 * @param kernel Normalized table kernel which is used along the image border
+	 */
+	public static void mean( Kernel1D_F64 kernel , GrayF64 input , GrayF64 output , int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int kernelWidth = kernel.width;
+		final int radius = kernel.offset;
+		final double[] dataKer = kernel.data;
+		final double divisor = kernelWidth;
+		final int blockRows = sumBlockRows(kernelWidth);
+
+		final int tileRows = selectTileRows(width*8,kernelWidth+1);
+
+		ImagePool pool = ImagePool.getDefault();
+		GrayF64 tile = pool.acquire(TILE_F64,width,tileRows+kernelWidth);
+		GrayF64 totals = pool.acquire(TILE_F64,width,1);
+		final double[] dataTile = tile.data;
+		try {
+			// The running sum is initialized at the first row which isn't along the image border. Floating point
+			// sums are also restarted at the same rows as ConvolveImageMean, so results are identical to it and
+			// splitting the image at those rows doesn't change the results
+			final int yFirst = Math.max(y0,radius);
+
+			// range of input rows which have been convolved horizontally and are stored in the tile
+			int rowA = 0, rowB = 0;
+
+			for( int t0 = y0; t0 < y1; t0 += tileRows ) {
+				int t1 = Math.min(y1,t0+tileRows);
+				// also include the row which is subtracted from the running sum
+				int needA = Math.max(0,t0-radius-1);
+				int needB = Math.min(height,t1+radius);
+
+				int startNew = shiftTile(dataTile,width,rowA,rowB,needA);
+				if( startNew < needB ) {
+					GrayF64 src = input.subimage(0,startNew,width,needB);
+					GrayF64 dst = tile.subimage(0,startNew-needA,width,needB-needA);
+					ConvolveNormalized_JustBorder_SB.horizontal(kernel,src,dst);
+					ImplConvolveMean.horizontal(src,dst,radius);
+				}
+				rowA = needA; rowB = needB;
+
+				for( int y = t0; y < t1; y++ ) {
+					int indexDst = output.startIndex + y*output.stride;
+
+					if( y < radius || y >= height-radius ) {
+						final int kStart = Math.max(0,radius-y);
+						final int kEnd = Math.min(kernelWidth,height+radius-y);
+
+						double weight = 0;
+						for( int i = kStart; i < kEnd; i++ ) {
+							weight += dataKer[i];
+						}
+
+						int indexTile = (y-radius+kStart-rowA)*width;
+						for( int x = 0; x < width; x++ , indexTile++ ) {
+							double total = 0;
+							for( int i = kStart, index = indexTile; i < kEnd; i++, index += width ) {
+								total += dataTile[index]*dataKer[i];
+							}
+							output.data[indexDst++] = total/weight;
+						}
+					} else if( y == yFirst || (y-radius)%blockRows == 0 ) {
+						int indexTile = (y-radius-rowA)*width;
+						for( int x = 0; x < width; x++ , indexTile++ ) {
+							double total = 0;
+							for( int i = 0, index = indexTile; i < kernelWidth; i++, index += width ) {
+								total += dataTile[index];
+							}
+							totals.data[x] = total;
+							output.data[indexDst++] = total/divisor;
+						}
+					} else {
+						int indexOld = (y-radius-1-rowA)*width;
+						int indexNew = (y+radius-rowA)*width;
+						for( int x = 0; x < width; x++ ) {
+							double total = totals.data[x] - dataTile[indexOld++];
+							totals.data[x] = total += dataTile[indexNew++];
+							output.data[indexDst++] = total/divisor;
+						}
+					}
+				}
+			}
+		} finally {
+			pool.release(tile);
+			pool.release(totals);
+		}
+	}
+
+	/**
+	 * Gaussian blur. Produces the same results as {@link ConvolveImageNormalized} applied horizontally
+	 * and then vertically.
+	 *
+	 * @param kernel Gaussian kernel. Must be smaller than the image.
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void gaussian( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output ) {
+		final Kernel1D_S32 k = kernel;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, output.height, minBlockRows(k.width), (y0,y1)->gaussian(k, input, output, y0, y1));
+		gaussian(k, input, output, 0, output.height);
+	}
+
+	/**
+	 * Gaussian blur for the output rows from y0 to y1-1, inclusive.
+	 */
+	public static void gaussian( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output , int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int kernelWidth = kernel.width;
+		final int offsetL = kernel.offset;
+		final int offsetR = kernelWidth-offsetL-1;
+
+		final int tileRows = selectTileRows(width,kernelWidth);
+
+		ImagePool pool = ImagePool.getDefault();
+		GrayU8 tile = pool.acquire(TILE_U8,width,tileRows+kernelWidth-1);
+		try {
+			// range of input rows which have been convolved horizontally and are stored in the tile
+			int rowA = 0, rowB = 0;
+
+			for( int t0 = y0; t0 < y1; t0 += tileRows ) {
+				int t1 = Math.min(y1,t0+tileRows);
+				int needA = Math.max(0,t0-offsetL);
+				int needB = Math.min(height,t1+offsetR);
+
+				int startNew = shiftTile(tile.data,width,rowA,rowB,needA);
+				if( startNew < needB ) {
+					horizontal(kernel,input.subimage(0,startNew,width,needB),
+							tile.subimage(0,startNew-needA,width,needB-needA));
+				}
+				rowA = needA; rowB = needB;
+
+				// rows where the entire kernel is inside the image
+				int interiorA = Math.max(t0,offsetL);
+				int interiorB = Math.min(t1,height-offsetR);
+				if( interiorA < interiorB ) {
+					vertical(kernel,tile.subimage(0,interiorA-offsetL-rowA,width,interiorB+offsetR-rowA),
+							output.subimage(0,interiorA-offsetL,width,interiorB+offsetR));
+				}
+
+				for( int y = t0; y < Math.min(t1,offsetL); y++ ) {
+					verticalBorder(kernel,tile,rowA,output,y);
+				}
+				for( int y = Math.max(t0,height-offsetR); y < t1; y++ ) {
+					verticalBorder(kernel,tile,rowA,output,y);
+				}
+			}
+		} finally {
+			pool.release(tile);
+		}
+	}
+
+	private static void horizontal( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output ) {
+		final int divisor = kernel.computeSum();
+		if( !ConvolveImageUnrolled_SB_U8_I8_Div.horizontal(kernel,input,output,divisor) )
+			ConvolveImageStandard_SB.horizontal(kernel,input,output,divisor);
+		ConvolveNormalized_JustBorder_SB.horizontal(kernel,input,output);
+	}
+
+	private static void vertical( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output ) {
+		final int divisor = kernel.computeSum();
+		if( !ConvolveImageUnrolled_SB_U8_I8_Div.vertical(kernel,input,output,divisor) )
+			ConvolveImageStandard_SB.vertical(kernel,input,output,divisor);
+	}
+
+	/**
+	 * Vertical convolution for a row along the top or bottom image border. The kernel is renormalized.
+	 *
+	 * @param rowA The first input row in the tile
+	 */
+	private static void verticalBorder( Kernel1D_S32 kernel , GrayU8 tile , int rowA , GrayU8 output , int y ) {
+		final int width = output.width;
+		final int offsetL = kernel.offset;
+		final int[] dataKer = kernel.data;
+		final int kStart = Math.max(0,offsetL-y);
+		final int kEnd = Math.min(kernel.width,output.height+offsetL-y);
+
+		int weight = 0;
+		for( int i = kStart; i < kEnd; i++ ) {
+			weight += dataKer[i];
+		}
+		final int halfWeight = weight/2;
+
+		int indexTile = (y-offsetL+kStart-rowA)*width;
+		int indexDst = output.startIndex + y*output.stride;
+		for( int x = 0; x < width; x++ , indexTile++ ) {
+			int total = 0;
+			for( int i = kStart, indexSrc = indexTile; i < kEnd; i++, indexSrc += width ) {
+				total += (tile.data[indexSrc] & 0xFF)*dataKer[i];
+			}
+			output.data[indexDst++] = (byte)((total+halfWeight)/weight);
+		}
+	}
+
+	/**
+	 * Mean box filter. Produces the same results as {@link ConvolveImageMean} applied horizontally
+	 * and then vertically.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 * @param radius Radius of the box filter. Must be smaller than the image.
+	 */
+	public static void mean( GrayU8 input , GrayU8 output , int radius ) {
+		final Kernel1D_S32 kernel = FactoryKernel.table1D_I32(radius);
+
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, output.height, minBlockRows(kernel.width), (y0,y1)->mean(kernel, input, output, y0, y1));
+		mean(kernel, input, output, 0, output.height);
+	}
+
+	/**
+	 * Mean box filter for the output rows from y0 to y1-1, inclusive.
+	 *
+	 * @param kernel Normalized table kernel which is used along the image border
+	 */
+	public static void mean( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output , int y0 , int y1 ) {
+		final int width = input.width;
+		final int height = input.height;
+		final int kernelWidth = kernel.width;
+		final int radius = kernel.offset;
+		final int[] dataKer = kernel.data;
+		final int divisor = kernelWidth;
+		final int halfDivisor = divisor/2;
+
+		final int tileRows = selectTileRows(width,kernelWidth+1);
+
+		ImagePool pool = ImagePool.getDefault();
+		GrayU8 tile = pool.acquire(TILE_U8,width,tileRows+kernelWidth);
+		GrayS32 totals = pool.acquire(TILE_S32,width,1);
+		final byte[] dataTile = tile.data;
+		try {
+			// the running sum is initialized at the first row which isn't along the image border
+			final int yFirst = Math.max(y0,radius);
+
+			// range of input rows which have been convolved horizontally and are stored in the tile
+			int rowA = 0, rowB = 0;
+
+			for( int t0 = y0; t0 < y1; t0 += tileRows ) {
+				int t1 = Math.min(y1,t0+tileRows);
+				// also include the row which is subtracted from the running sum
+				int needA = Math.max(0,t0-radius-1);
+				int needB = Math.min(height,t1+radius);
+
+				int startNew = shiftTile(dataTile,width,rowA,rowB,needA);
+				if( startNew < needB ) {
+					GrayU8 src = input.subimage(0,startNew,width,needB);
+					GrayU8 dst = tile.subimage(0,startNew-needA,width,needB-needA);
+					ConvolveNormalized_JustBorder_SB.horizontal(kernel,src,dst);
+					ImplConvolveMean.horizontal(src,dst,radius);
+				}
+				rowA = needA; rowB = needB;
+
+				for( int y = t0; y < t1; y++ ) {
+					int indexDst = output.startIndex + y*output.stride;
+
+					if( y < radius || y >= height-radius ) {
+						final int kStart = Math.max(0,radius-y);
+						final int kEnd = Math.min(kernelWidth,height+radius-y);
+
+						int weight = 0;
+						for( int i = kStart; i < kEnd; i++ ) {
+							weight += dataKer[i];
+						}
+
+						int indexTile = (y-radius+kStart-rowA)*width;
+						for( int x = 0; x < width; x++ , indexTile++ ) {
+							int total = 0;
+							for( int i = kStart, index = indexTile; i < kEnd; i++, index += width ) {
+								total += (dataTile[index] & 0xFF)*dataKer[i];
+							}
+							output.data[indexDst++] = (byte)((total+weight/2)/weight);
+						}
+					} else if( y == yFirst ) {
+						int indexTile = (y-radius-rowA)*width;
+						for( int x = 0; x < width; x++ , indexTile++ ) {
+							int total = 0;
+							for( int i = 0, index = indexTile; i < kernelWidth; i++, index += width ) {
+								total += dataTile[index] & 0xFF;
+							}
+							totals.data[x] = total;
+							output.data[indexDst++] = (byte)((total+halfDivisor)/divisor);
+						}
+					} else {
+						int indexOld = (y-radius-1-rowA)*width;
+						int indexNew = (y+radius-rowA)*width;
+						for( int x = 0; x < width; x++ ) {
+							int total = totals.data[x] - (dataTile[indexOld++] & 0xFF);
+							totals.data[x] = total += dataTile[indexNew++] & 0xFF;
+							output.data[indexDst++] = (byte)((total+halfDivisor)/divisor);
+						}
+					}
+				}
+			}
+		} finally {
+			pool.release(tile);
+			pool.release(totals);
+		}
+	}
+
+	/**
+	 * Moves rows which have already been convolved and are still needed to the top of the tile.
+	 *
+	 * @param rowA First input row in the tile
+	 * @param rowB Last input row in the tile, exclusive
+	 * @param needA First input row which is needed by the next tile
+	 * @return The first input row which needs to be convolved
+	 */
+	static int shiftTile( Object dataTile , int width , int rowA , int rowB , int needA ) {
+		if( needA < rowA || needA >= rowB )
+			return needA;
+		if( needA > rowA )
+			System.arraycopy(dataTile,(needA-rowA)*width,dataTile,0,(rowB-needA)*width);
+		return rowB;
+	}
+
+	/**
+	 * Selects the number of output rows in a tile. Rows shared with the next tile are copied, so for
+	 * wide images the tile is allowed to exceed the target size to keep the copy cheap.
+	 *
+	 * @param rowBytes Number of bytes in a row of the tile
+	 * @param kernelWidth Number of rows needed by the vertical pass
+	 */
+	static int selectTileRows( int rowBytes , int kernelWidth ) {
+		//CONCURRENT_BELOW return Math.max(2*kernelWidth,ImplBlurTiled.TILE_BYTES/rowBytes-kernelWidth);
+		return Math.max(2*kernelWidth,TILE_BYTES/rowBytes-kernelWidth);
+	}
+
+	/**
+	 * Number of rows between restarts of the floating point running sum in the mean filter. Same as
+	 * {@link ImplConvolveMean}. Restarting costs kernelWidth additions, so it's done infrequently.
+	 */
+	static int sumBlockRows( int kernelWidth ) {
+		return Math.max(128,8*kernelWidth);
+	}
+
+	/**
+	 * First row in a block of the mean filter. Blocks after the first start where the running sum is restarted,
+	 * which makes the concurrent results identical to the single threaded results.
+	 */
+	static int sumBlockStart( int block , int blockRows , int radius , int height ) {
+		return block == 0 ? 0 : Math.min(height,radius+block*blockRows);
+	}
+
+	/**
+	 * Each block of rows processed by a thread convolves kernelWidth-1 rows more than it outputs. The block
+	 * is made large enough that this is insignificant.
+	 */
+	static int minBlockRows( int kernelWidth ) {
+		return Math.max(32,4*kernelWidth);
+	}
+}
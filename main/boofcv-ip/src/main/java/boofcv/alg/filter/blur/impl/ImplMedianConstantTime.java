@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Median filter whose cost per pixel doesn't grow with the radius [1]. A histogram is maintained for each column
+ * of pixels inside the rows of the filter's window. When moving to the next row each column histogram is updated
+ * by removing one pixel and adding one pixel. The window's histogram is updated as it moves along a row by adding
+ * and removing column histograms. Histograms are split into 16 coarse bins and 256 fine bins. Coarse bins are
+ * always kept up to date and are used to find the part of the fine histogram which contains the median. Only
+ * that part of the fine histogram is brought up to date.
+ * </p>
+ *
+ * <p>
+ * Along the image border the window is truncated to lie inside the image, which gives the same results
+ * as {@link ImplMedianHistogramInner} combined with {@link ImplMedianSortEdgeNaive}. Images with more than 256
+ * values are filtered approximately by quantizing them into 256 values.
+ * </p>
+ *
+ * <p>
+ * [1] Perreault, Simon, and Patrick Hébert. "Median filtering in constant time." IEEE Transactions on
+ * Image Processing 16.9 (2007): 2389-2394.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianConstantTime {
+
+	/**
+	 * Applies a median filter.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Radius of the filter's square window.
+	 */
+	public static void process( GrayU8 input , GrayU8 output , int radius ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0, input.height, 2*radius+1, (y0,y1)->process(input, output, radius, y0, y1));
+		process(input, output, radius, 0, input.height);
+	}
+
+	/**
+	 * Applies a median filter to output rows from y0 to y1-1, inclusive.
+	 */
+	public static void process( GrayU8 input , GrayU8 output , int radius , int y0 , int y1 ) {
+		final int width = input.width, height = input.height;
+
+		// histograms of each column inside the window's rows
+		final int[] columnsFine = new int[width*256];
+		final int[] columnsCoarse = new int[width*16];
+		// histogram of the window
+		final int[] fine = new int[256];
+		final int[] coarse = new int[16];
+		// Column the window was centered at when each segment in the fine histogram was last updated
+		final int[] segmentX = new int[16];
+
+		for (int y = Math.max(0,y0-radius); y < Math.min(height,y0+radius+1); y++) {
+			updateColumns(input, y, columnsFine, columnsCoarse, 1);
+		}
+
+		for (int y = y0; y < y1; y++) {
+			if( y > y0 ) {
+				if( y+radius < height )
+					updateColumns(input, y+radius, columnsFine, columnsCoarse, 1);
+				if( y-radius-1 >= 0 )
+					updateColumns(input, y-radius-1, columnsFine, columnsCoarse, -1);
+			}
+			int rows = Math.min(height,y+radius+1)-Math.max(0,y-radius);
+
+			// window for the first pixel in the row. The fine histogram is computed when needed
+			Arrays.fill(coarse,0);
+			Arrays.fill(segmentX,-1);
+			for (int x = 0; x < Math.min(width,radius+1); x++) {
+				for (int i = 0, index = x*16; i < 16; i++) {
+					coarse[i] += columnsCoarse[index+i];
+				}
+			}
+
+			int indexOut = output.startIndex + y*output.stride;
+			for (int x = 0; x < width; x++) {
+				if( x > 0 ) {
+					if( x+radius < width ) {
+						for (int i = 0, index = (x+radius)*16; i < 16; i++) {
+							coarse[i] += columnsCoarse[index+i];
+						}
+					}
+					if( x-radius-1 >= 0 ) {
+						for (int i = 0, index = (x-radius-1)*16; i < 16; i++) {
+							coarse[i] -= columnsCoarse[index+i];
+						}
+					}
+				}
+
+				// index of the median when all the values in the window are sorted
+				int rank = rows*(Math.min(width,x+radius+1)-Math.max(0,x-radius))/2;
+
+				// find the coarse bin which contains the median
+				int c = 0, total = 0;
+				while( total + coarse[c] <= rank ) {
+					total += coarse[c++];
+				}
+
+				// bring the fine bins inside the coarse bin up to date
+				int segment = c*16;
+				int last = segmentX[c];
+				if( last < 0 || x-last > radius ) {
+					// it's cheaper to sum up every column in the window
+					Arrays.fill(fine,segment,segment+16,0);
+					for (int col = Math.max(0,x-radius); col < Math.min(width,x+radius+1); col++) {
+						for (int i = 0, index = col*256+segment; i < 16; i++) {
+							fine[segment+i] += columnsFine[index+i];
+						}
+					}
+				} else {
+					for (int col = last+1; col <= x; col++) {
+						if( col+radius < width ) {
+							for (int i = 0, index = (col+radius)*256+segment; i < 16; i++) {
+								fine[segment+i] += columnsFine[index+i];
+							}
+						}
+						if( col-radius-1 >= 0 ) {
+							for (int i = 0, index = (col-radius-1)*256+segment; i < 16; i++) {
+								fine[segment+i] -= columnsFine[index+i];
+							}
+						}
+					}
+				}
+				segmentX[c] = x;
+
+				int median = segment;
+				while( total + fine[median] <= rank ) {
+					total += fine[median++];
+				}
+				output.data[indexOut++] = (byte)median;
+			}
+		}
+	}
+
+	/**
+	 * Adds or removes the pixels in a row from the column histograms
+	 *
+	 * @param amount 1 to add and -1 to remove
+	 */
+	private static void updateColumns( GrayU8 input , int y , int[] columnsFine , int[] columnsCoarse , int amount ) {
+		int indexIn = input.startIndex + y*input.stride;
+		for (int x = 0; x < input.width; x++) {
+			int value = input.data[indexIn++] & 0xFF;
+			columnsFine[x*256 + value] += amount;
+			columnsCoarse[x*16 + (value >> 4)] += amount;
+		}
+	}
+
+	/**
+	 * Quantizes the input image into 256 evenly spaced bins from minValue to maxValue. Values outside that range
+	 * are put into the first or last bin.
+	 */
+	public static void quantize( GrayU16 input , int minValue , int maxValue , GrayU8 bins ) {
+		final int levels = maxValue-minValue+1;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = bins.startIndex + y*bins.stride;
+			for (int x = 0; x < input.width; x++) {
+				long value = (input.data[indexIn++] & 0xFFFF) - minValue;
+				int bin = (int)(value*256/levels);
+				bins.data[indexOut++] = (byte)(bin < 0 ? 0 : bin > 255 ? 255 : bin);
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Converts bins created by {@link #quantize(GrayU16, int, int, GrayU8)} back into values at the center of
+	 * each bin. If there are 256 or fewer values then each value has its own bin and the conversion is exact.
+	 */
+	public static void dequantize( GrayU8 bins , int minValue , int maxValue , GrayU16 output ) {
+		final long levels = maxValue-minValue+1;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, bins.height, y -> {
+		for (int y = 0; y < bins.height; y++) {
+			int indexIn = bins.startIndex + y*bins.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			for (int x = 0; x < bins.width; x++) {
+				int bin = bins.data[indexIn++] & 0xFF;
+				// smallest and largest values inside the bin
+				long lower = (bin*levels+255)/256;
+				long upper = ((bin+1)*levels+255)/256-1;
+				output.data[indexOut++] = (short)(minValue + (lower+upper)/2);
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Quantizes the input image into 256 evenly spaced bins from minValue to maxValue. Values outside that range
+	 * are put into the first or last bin.
+	 */
+	public static void quantize( GrayF32 input , float minValue , float maxValue , GrayU8 bins ) {
+		final float scale = 256.0f/(maxValue-minValue);
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = bins.startIndex + y*bins.stride;
+			for (int x = 0; x < input.width; x++) {
+				int bin = (int)((input.data[indexIn++] - minValue)*scale);
+				bins.data[indexOut++] = (byte)(bin < 0 ? 0 : bin > 255 ? 255 : bin);
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+
+	/**
+	 * Converts bins created by {@link #quantize(GrayF32, float, float, GrayU8)} back into values at the center of
+	 * each bin.
+	 */
+	public static void dequantize( GrayU8 bins , float minValue , float maxValue , GrayF32 output ) {
+		final float binWidth = (maxValue-minValue)/256.0f;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, bins.height, y -> {
+		for (int y = 0; y < bins.height; y++) {
+			int indexIn = bins.startIndex + y*bins.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			for (int x = 0; x < bins.width; x++) {
+				int bin = bins.data[indexIn++] & 0xFF;
+				output.data[indexOut++] = minValue + (bin+0.5f)*binWidth;
+			}
+		}
+		//CONCURRENT_ABOVE });
+	}
+}
@@ -20,6 +20,7 @@ package boofcv.alg.filter.convolve;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.convolve.noborder.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.convolve.*;
 import boofcv.struct.image.*;
 
@@ -50,24 +51,39 @@ public class ConvolveImageNoBorder {
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F32_F32.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_F32_F32_MT.horizontal(kernel, input, output))
+				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_F32_F32.horizontal(kernel, input, output))
+				ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		}
 	}
 
 	public static void vertical(Kernel1D_F32 kernel,
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F32_F32.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_F32_F32_MT.vertical(kernel, input, output))
+				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_F32_F32.vertical(kernel, input, output))
+				ConvolveImageStandard_SB.vertical(kernel, input, output);
+		}
 	}
 
 	public static void convolve(Kernel2D_F32 kernel,
 								  GrayF32 input, GrayF32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F32_F32.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_F32_F32_MT.convolve(kernel, input, output))
+				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_F32_F32.convolve(kernel, input, output))
+				ConvolveImageStandard_SB.convolve(kernel, input, output);
+		}
 	}
 
 	public static void horizontal(Kernel1D_F32 kernel,
@@ -95,24 +111,39 @@ public class ConvolveImageNoBorder {
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F64_F64.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_F64_F64_MT.horizontal(kernel, input, output))
+				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_F64_F64.horizontal(kernel, input, output))
+				ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		}
 	}
 
 	public static void vertical(Kernel1D_F64 kernel,
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F64_F64.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_F64_F64_MT.vertical(kernel, input, output))
+				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_F64_F64.vertical(kernel, input, output))
+				ConvolveImageStandard_SB.vertical(kernel, input, output);
+		}
 	}
 
 	public static void convolve(Kernel2D_F64 kernel,
 								  GrayF64 input, GrayF64 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_F64_F64.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_F64_F64_MT.convolve(kernel, input, output))
+				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_F64_F64.convolve(kernel, input, output))
+				ConvolveImageStandard_SB.convolve(kernel, input, output);
+		}
 	}
 
 	public static void horizontal(Kernel1D_F64 kernel,
@@ -140,24 +171,39 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I16.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_U8_I16_MT.horizontal(kernel, input, output))
+				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_U8_I16.horizontal(kernel, input, output))
+				ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel,
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I16.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_U8_I16_MT.vertical(kernel, input, output))
+				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_U8_I16.vertical(kernel, input, output))
+				ConvolveImageStandard_SB.vertical(kernel, input, output);
+		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel,
 								  GrayU8 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I16.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_U8_I16_MT.convolve(kernel, input, output))
+				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_U8_I16.convolve(kernel, input, output))
+				ConvolveImageStandard_SB.convolve(kernel, input, output);
+		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel,
@@ -186,7 +232,11 @@ public class ConvolveImageNoBorder {
 		InputSanityCheck.checkSameShape(input, output);
 
 //		if (!ConvolveImageUnrolled_U8_S32.horizontal(kernel, input, output))
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
+		} else {
 			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel,
@@ -194,7 +244,11 @@ public class ConvolveImageNoBorder {
 		InputSanityCheck.checkSameShape(input, output);
 
 //		if (!ConvolveImageUnrolled_U8_S32.vertical(kernel, input, output))
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
+		} else {
 			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel,
@@ -202,7 +256,11 @@ public class ConvolveImageNoBorder {
 		InputSanityCheck.checkSameShape(input, output);
 
 //		if (!ConvolveImageUnrolled_U8_S32.convolve(kernel, input, output))
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
+		} else {
 			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel,
@@ -231,7 +289,11 @@ public class ConvolveImageNoBorder {
 		InputSanityCheck.checkSameShape(input, output);
 
 //		if (!ConvolveImageUnrolled_U16_I8_Div.vertical(kernel, input, output, divisor))
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
+		} else {
 			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel,
@@ -245,24 +307,39 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S16_I16_MT.horizontal(kernel, input, output))
+				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S16_I16.horizontal(kernel, input, output))
+				ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel,
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S16_I16_MT.vertical(kernel, input, output))
+				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S16_I16.vertical(kernel, input, output))
+				ConvolveImageStandard_SB.vertical(kernel, input, output);
+		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel,
 								  GrayS16 input, GrayI16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S16_I16_MT.convolve(kernel, input, output))
+				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S16_I16.convolve(kernel, input, output))
+				ConvolveImageStandard_SB.convolve(kernel, input, output);
+		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel,
@@ -290,24 +367,39 @@ public class ConvolveImageNoBorder {
 								  GrayU8 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I8_Div.horizontal(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_U8_I8_Div_MT.horizontal(kernel, input, output, divisor))
+				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
+		} else {
+			if (!ConvolveImageUnrolled_SB_U8_I8_Div.horizontal(kernel, input, output, divisor))
+				ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel,
 								  GrayU8 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I8_Div.vertical(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_U8_I8_Div_MT.vertical(kernel, input, output, divisor))
+				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
+		} else {
+			if (!ConvolveImageUnrolled_SB_U8_I8_Div.vertical(kernel, input, output, divisor))
+				ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel,
 								  GrayU8 input, GrayI8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_U8_I8_Div.convolve(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_U8_I8_Div_MT.convolve(kernel, input, output, divisor))
+				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor);
+		} else {
+			if (!ConvolveImageUnrolled_SB_U8_I8_Div.convolve(kernel, input, output, divisor))
+				ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel,
@@ -335,24 +427,39 @@ public class ConvolveImageNoBorder {
 								  GrayS16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16_Div.horizontal(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S16_I16_Div_MT.horizontal(kernel, input, output, divisor))
+				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S16_I16_Div.horizontal(kernel, input, output, divisor))
+				ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel,
 								  GrayS16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16_Div.vertical(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S16_I16_Div_MT.vertical(kernel, input, output, divisor))
+				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S16_I16_Div.vertical(kernel, input, output, divisor))
+				ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel,
 								  GrayS16 input, GrayI16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S16_I16_Div.convolve(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S16_I16_Div_MT.convolve(kernel, input, output, divisor))
+				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S16_I16_Div.convolve(kernel, input, output, divisor))
+				ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel,
@@ -381,7 +488,11 @@ public class ConvolveImageNoBorder {
 		InputSanityCheck.checkSameShape(input, output);
 
 //		if (!ConvolveImageUnrolled_S32_I16_Div.vertical(kernel, input, output, divisor))
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
+		} else {
 			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel,
@@ -395,24 +506,39 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32.horizontal(kernel, input, output))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S32_S32_MT.horizontal(kernel, input, output))
+				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S32_S32.horizontal(kernel, input, output))
+				ConvolveImageStandard_SB.horizontal(kernel, input, output);
+		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel,
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32.vertical(kernel, input, output))
-			ConvolveImageStandard_SB.vertical(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S32_S32_MT.vertical(kernel, input, output))
+				ConvolveImageStandard_SB_MT.vertical(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S32_S32.vertical(kernel, input, output))
+				ConvolveImageStandard_SB.vertical(kernel, input, output);
+		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel,
 								  GrayS32 input, GrayS32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32.convolve(kernel, input, output))
-			ConvolveImageStandard_SB.convolve(kernel, input, output);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S32_S32_MT.convolve(kernel, input, output))
+				ConvolveImageStandard_SB_MT.convolve(kernel, input, output);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S32_S32.convolve(kernel, input, output))
+				ConvolveImageStandard_SB.convolve(kernel, input, output);
+		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel,
@@ -440,24 +566,39 @@ public class ConvolveImageNoBorder {
 								  GrayS32 input, GrayS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32_Div.horizontal(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S32_S32_Div_MT.horizontal(kernel, input, output, divisor))
+				ConvolveImageStandard_SB_MT.horizontal(kernel, input, output, divisor);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S32_S32_Div.horizontal(kernel, input, output, divisor))
+				ConvolveImageStandard_SB.horizontal(kernel, input, output, divisor);
+		}
 	}
 
 	public static void vertical(Kernel1D_S32 kernel,
 								  GrayS32 input, GrayS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32_Div.vertical(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S32_S32_Div_MT.vertical(kernel, input, output, divisor))
+				ConvolveImageStandard_SB_MT.vertical(kernel, input, output, divisor);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S32_S32_Div.vertical(kernel, input, output, divisor))
+				ConvolveImageStandard_SB.vertical(kernel, input, output, divisor);
+		}
 	}
 
 	public static void convolve(Kernel2D_S32 kernel,
 								  GrayS32 input, GrayS32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
-		if (!ConvolveImageUnrolled_SB_S32_S32_Div.convolve(kernel, input, output, divisor))
-			ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if (!ConvolveImageUnrolled_SB_S32_S32_Div_MT.convolve(kernel, input, output, divisor))
+				ConvolveImageStandard_SB_MT.convolve(kernel, input, output, divisor);
+		} else {
+			if (!ConvolveImageUnrolled_SB_S32_S32_Div.convolve(kernel, input, output, divisor))
+				ConvolveImageStandard_SB.convolve(kernel, input, output, divisor);
+		}
 	}
 
 	public static void horizontal(Kernel1D_S32 kernel,
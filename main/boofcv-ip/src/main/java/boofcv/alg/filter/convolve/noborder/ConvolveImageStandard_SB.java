@@ -47,6 +47,7 @@ public class ConvolveImageStandard_SB {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+offset;
 			int j = image.startIndex + i*image.stride;
@@ -61,6 +62,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_F32 kernel,
@@ -78,6 +80,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -93,6 +96,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve( Kernel2D_F32 kernel , GrayF32 src , GrayF32 dest )
@@ -107,6 +111,7 @@ public class ConvolveImageStandard_SB {
 		int offsetL = kernel.offset;
 		int offsetR = kernel.width-kernel.offset-1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offsetL, height-offsetR, y -> {
 		for( int y = offsetL; y < height-offsetR; y++ ) {
 			int indexDst = dest.startIndex + y*dest.stride+offsetL;
 			for( int x = offsetL; x < width-offsetR; x++ ) {
@@ -121,6 +126,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal( Kernel1D_F64 kernel ,
@@ -134,6 +140,7 @@ public class ConvolveImageStandard_SB {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+offset;
 			int j = image.startIndex + i*image.stride;
@@ -148,6 +155,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_F64 kernel,
@@ -165,6 +173,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -180,6 +189,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve( Kernel2D_F64 kernel , GrayF64 src , GrayF64 dest )
@@ -194,6 +204,7 @@ public class ConvolveImageStandard_SB {
 		int offsetL = kernel.offset;
 		int offsetR = kernel.width-kernel.offset-1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offsetL, height-offsetR, y -> {
 		for( int y = offsetL; y < height-offsetR; y++ ) {
 			int indexDst = dest.startIndex + y*dest.stride+offsetL;
 			for( int x = offsetL; x < width-offsetR; x++ ) {
@@ -208,6 +219,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal( Kernel1D_S32 kernel ,
@@ -221,6 +233,7 @@ public class ConvolveImageStandard_SB {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+offset;
 			int j = image.startIndex + i*image.stride;
@@ -235,6 +248,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (short)total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_S32 kernel,
@@ -252,6 +266,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -267,6 +282,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (short)total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayU8 src , GrayI16 dest )
@@ -281,6 +297,7 @@ public class ConvolveImageStandard_SB {
 		int offsetL = kernel.offset;
 		int offsetR = kernel.width-kernel.offset-1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offsetL, height-offsetR, y -> {
 		for( int y = offsetL; y < height-offsetR; y++ ) {
 			int indexDst = dest.startIndex + y*dest.stride+offsetL;
 			for( int x = offsetL; x < width-offsetR; x++ ) {
@@ -295,6 +312,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (short)total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal( Kernel1D_S32 kernel ,
@@ -308,6 +326,7 @@ public class ConvolveImageStandard_SB {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+offset;
 			int j = image.startIndex + i*image.stride;
@@ -322,6 +341,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_S32 kernel,
@@ -339,6 +359,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -354,6 +375,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayU8 src , GrayS32 dest )
@@ -368,6 +390,7 @@ public class ConvolveImageStandard_SB {
 		int offsetL = kernel.offset;
 		int offsetR = kernel.width-kernel.offset-1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offsetL, height-offsetR, y -> {
 		for( int y = offsetL; y < height-offsetR; y++ ) {
 			int indexDst = dest.startIndex + y*dest.stride+offsetL;
 			for( int x = offsetL; x < width-offsetR; x++ ) {
@@ -382,6 +405,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_S32 kernel,
@@ -400,6 +424,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -415,6 +440,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (byte)((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal( Kernel1D_S32 kernel ,
@@ -428,6 +454,7 @@ public class ConvolveImageStandard_SB {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+offset;
 			int j = image.startIndex + i*image.stride;
@@ -442,6 +469,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (short)total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_S32 kernel,
@@ -459,6 +487,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -474,6 +503,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (short)total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayS16 src , GrayI16 dest )
@@ -488,6 +518,7 @@ public class ConvolveImageStandard_SB {
 		int offsetL = kernel.offset;
 		int offsetR = kernel.width-kernel.offset-1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offsetL, height-offsetR, y -> {
 		for( int y = offsetL; y < height-offsetR; y++ ) {
 			int indexDst = dest.startIndex + y*dest.stride+offsetL;
 			for( int x = offsetL; x < width-offsetR; x++ ) {
@@ -502,6 +533,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (short)total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal( Kernel1D_S32 kernel ,
@@ -516,6 +548,7 @@ public class ConvolveImageStandard_SB {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+offset;
 			int j = image.startIndex + i*image.stride;
@@ -530,6 +563,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (byte)((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_S32 kernel,
@@ -548,6 +582,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -563,6 +598,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (byte)((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayU8 src , GrayI8 dest , int divisor )
@@ -578,6 +614,7 @@ public class ConvolveImageStandard_SB {
 		int offsetL = kernel.offset;
 		int offsetR = kernel.width-kernel.offset-1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offsetL, height-offsetR, y -> {
 		for( int y = offsetL; y < height-offsetR; y++ ) {
 			int indexDst = dest.startIndex + y*dest.stride+offsetL;
 			for( int x = offsetL; x < width-offsetR; x++ ) {
@@ -592,6 +629,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (byte)((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal( Kernel1D_S32 kernel ,
@@ -606,6 +644,7 @@ public class ConvolveImageStandard_SB {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+offset;
 			int j = image.startIndex + i*image.stride;
@@ -620,6 +659,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (short)((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_S32 kernel,
@@ -638,6 +678,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -653,6 +694,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (short)((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayS16 src , GrayI16 dest , int divisor )
@@ -668,6 +710,7 @@ public class ConvolveImageStandard_SB {
 		int offsetL = kernel.offset;
 		int offsetR = kernel.width-kernel.offset-1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offsetL, height-offsetR, y -> {
 		for( int y = offsetL; y < height-offsetR; y++ ) {
 			int indexDst = dest.startIndex + y*dest.stride+offsetL;
 			for( int x = offsetL; x < width-offsetR; x++ ) {
@@ -682,6 +725,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (short)((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_S32 kernel,
@@ -700,6 +744,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -715,6 +760,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = (short)((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal( Kernel1D_S32 kernel ,
@@ -728,6 +774,7 @@ public class ConvolveImageStandard_SB {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+offset;
 			int j = image.startIndex + i*image.stride;
@@ -742,6 +789,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_S32 kernel,
@@ -759,6 +807,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -774,6 +823,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayS32 src , GrayS32 dest )
@@ -788,6 +838,7 @@ public class ConvolveImageStandard_SB {
 		int offsetL = kernel.offset;
 		int offsetR = kernel.width-kernel.offset-1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offsetL, height-offsetR, y -> {
 		for( int y = offsetL; y < height-offsetR; y++ ) {
 			int indexDst = dest.startIndex + y*dest.stride+offsetL;
 			for( int x = offsetL; x < width-offsetR; x++ ) {
@@ -802,6 +853,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal( Kernel1D_S32 kernel ,
@@ -816,6 +868,7 @@ public class ConvolveImageStandard_SB {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+offset;
 			int j = image.startIndex + i*image.stride;
@@ -830,6 +883,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( Kernel1D_S32 kernel,
@@ -848,6 +902,7 @@ public class ConvolveImageStandard_SB {
 
 		final int yEnd = imgHeight-(kernelWidth-offset-1);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offset, yEnd, y -> {
 		for( int y = offset; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-offset)*image.stride;
@@ -863,6 +918,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve(Kernel2D_S32 kernel , GrayS32 src , GrayS32 dest , int divisor )
@@ -878,6 +934,7 @@ public class ConvolveImageStandard_SB {
 		int offsetL = kernel.offset;
 		int offsetR = kernel.width-kernel.offset-1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(offsetL, height-offsetR, y -> {
 		for( int y = offsetL; y < height-offsetR; y++ ) {
 			int indexDst = dest.startIndex + y*dest.stride+offsetL;
 			for( int x = offsetL; x < width-offsetR; x++ ) {
@@ -892,6 +949,7 @@ public class ConvolveImageStandard_SB {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 }
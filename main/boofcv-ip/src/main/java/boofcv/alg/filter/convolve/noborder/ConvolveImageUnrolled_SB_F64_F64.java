@@ -158,6 +158,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -172,6 +173,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal5( Kernel1D_F64 kernel , GrayF64 image, GrayF64 dest )
@@ -189,6 +191,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -205,6 +208,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal7( Kernel1D_F64 kernel , GrayF64 image, GrayF64 dest )
@@ -224,6 +228,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -242,6 +247,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal9( Kernel1D_F64 kernel , GrayF64 image, GrayF64 dest )
@@ -263,6 +269,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -283,6 +290,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal11( Kernel1D_F64 kernel , GrayF64 image, GrayF64 dest )
@@ -306,6 +314,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -328,6 +337,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical3( Kernel1D_F64 kernel , GrayF64 image, GrayF64 dest )
@@ -346,6 +356,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -363,6 +374,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical5( Kernel1D_F64 kernel , GrayF64 image, GrayF64 dest )
@@ -383,6 +395,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -404,6 +417,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical7( Kernel1D_F64 kernel , GrayF64 image, GrayF64 dest )
@@ -426,6 +440,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -451,6 +466,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical9( Kernel1D_F64 kernel , GrayF64 image, GrayF64 dest )
@@ -475,6 +491,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -504,6 +521,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical11( Kernel1D_F64 kernel , GrayF64 image, GrayF64 dest )
@@ -530,6 +548,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -563,6 +582,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				dataDst[indexDst++] = total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve3( Kernel2D_F64 kernel, GrayF64 src, GrayF64 dest)
@@ -575,6 +595,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int kernelRadius = kernel.getRadius();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -616,6 +637,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve5( Kernel2D_F64 kernel, GrayF64 src, GrayF64 dest)
@@ -628,6 +650,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int kernelRadius = kernel.getRadius();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -677,6 +700,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve7( Kernel2D_F64 kernel, GrayF64 src, GrayF64 dest)
@@ -689,6 +713,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int kernelRadius = kernel.getRadius();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -746,6 +771,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve9( Kernel2D_F64 kernel, GrayF64 src, GrayF64 dest)
@@ -758,6 +784,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int kernelRadius = kernel.getRadius();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -823,6 +850,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve11( Kernel2D_F64 kernel, GrayF64 src, GrayF64 dest)
@@ -835,6 +863,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 
 		final int kernelRadius = kernel.getRadius();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -908,6 +937,7 @@ public class ConvolveImageUnrolled_SB_F64_F64 {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 }
@@ -160,6 +160,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 		final int width = image.getWidth();
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -174,6 +175,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal5(Kernel1D_S32 kernel , GrayS16 image, GrayI16 dest , int divisor )
@@ -192,6 +194,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 		final int width = image.getWidth();
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -208,6 +211,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal7(Kernel1D_S32 kernel , GrayS16 image, GrayI16 dest , int divisor )
@@ -228,6 +232,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 		final int width = image.getWidth();
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -246,6 +251,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal9(Kernel1D_S32 kernel , GrayS16 image, GrayI16 dest , int divisor )
@@ -268,6 +274,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 		final int width = image.getWidth();
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -288,6 +295,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal11(Kernel1D_S32 kernel , GrayS16 image, GrayI16 dest , int divisor )
@@ -312,6 +320,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 		final int width = image.getWidth();
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -334,6 +343,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical3(Kernel1D_S32 kernel , GrayS16 image, GrayI16 dest , int divisor )
@@ -353,6 +363,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -370,6 +381,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical5(Kernel1D_S32 kernel , GrayS16 image, GrayI16 dest , int divisor )
@@ -391,6 +403,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -412,6 +425,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical7(Kernel1D_S32 kernel , GrayS16 image, GrayI16 dest , int divisor )
@@ -435,6 +449,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -460,6 +475,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical9(Kernel1D_S32 kernel , GrayS16 image, GrayI16 dest , int divisor )
@@ -485,6 +501,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -514,6 +531,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical11(Kernel1D_S32 kernel , GrayS16 image, GrayI16 dest , int divisor )
@@ -541,6 +559,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -574,6 +593,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve3(Kernel2D_S32 kernel, GrayS16 src, GrayI16 dest , int divisor )
@@ -586,8 +606,12 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 		final int halfDivisor = divisor/2;
 
 		final int kernelRadius = kernel.getRadius();
+		//CONCURRENT_REMOVE_BELOW
 		final int totalRow[] = new int[ width ];
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{
+		//CONCURRENT_INLINE final int totalRow[] = new int[ width ];
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -631,6 +655,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((totalRow[x]+halfDivisor)/ divisor);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void convolve5(Kernel2D_S32 kernel, GrayS16 src, GrayI16 dest , int divisor )
@@ -643,8 +668,12 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 		final int halfDivisor = divisor/2;
 
 		final int kernelRadius = kernel.getRadius();
+		//CONCURRENT_REMOVE_BELOW
 		final int totalRow[] = new int[ width ];
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{
+		//CONCURRENT_INLINE final int totalRow[] = new int[ width ];
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -696,6 +725,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((totalRow[x]+halfDivisor)/ divisor);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void convolve7(Kernel2D_S32 kernel, GrayS16 src, GrayI16 dest , int divisor )
@@ -708,8 +738,12 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 		final int halfDivisor = divisor/2;
 
 		final int kernelRadius = kernel.getRadius();
+		//CONCURRENT_REMOVE_BELOW
 		final int totalRow[] = new int[ width ];
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{
+		//CONCURRENT_INLINE final int totalRow[] = new int[ width ];
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -769,6 +803,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((totalRow[x]+halfDivisor)/ divisor);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void convolve9(Kernel2D_S32 kernel, GrayS16 src, GrayI16 dest , int divisor )
@@ -781,8 +816,12 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 		final int halfDivisor = divisor/2;
 
 		final int kernelRadius = kernel.getRadius();
+		//CONCURRENT_REMOVE_BELOW
 		final int totalRow[] = new int[ width ];
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{
+		//CONCURRENT_INLINE final int totalRow[] = new int[ width ];
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -850,6 +889,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((totalRow[x]+halfDivisor)/ divisor);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void convolve11(Kernel2D_S32 kernel, GrayS16 src, GrayI16 dest , int divisor )
@@ -862,8 +902,12 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 		final int halfDivisor = divisor/2;
 
 		final int kernelRadius = kernel.getRadius();
+		//CONCURRENT_REMOVE_BELOW
 		final int totalRow[] = new int[ width ];
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{
+		//CONCURRENT_INLINE final int totalRow[] = new int[ width ];
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -939,6 +983,7 @@ public class ConvolveImageUnrolled_SB_S16_I16_Div {
 				dataDst[indexDst++] = ( short )((totalRow[x]+halfDivisor)/ divisor);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 }
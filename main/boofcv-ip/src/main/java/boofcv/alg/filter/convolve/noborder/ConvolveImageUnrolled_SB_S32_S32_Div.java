@@ -159,6 +159,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 		final int width = image.getWidth();
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -173,6 +174,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal5(Kernel1D_S32 kernel , GrayS32 image, GrayS32 dest , int divisor )
@@ -191,6 +193,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 		final int width = image.getWidth();
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -207,6 +210,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal7(Kernel1D_S32 kernel , GrayS32 image, GrayS32 dest , int divisor )
@@ -227,6 +231,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 		final int width = image.getWidth();
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -245,6 +250,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal9(Kernel1D_S32 kernel , GrayS32 image, GrayS32 dest , int divisor )
@@ -267,6 +273,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 		final int width = image.getWidth();
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -287,6 +294,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal11(Kernel1D_S32 kernel , GrayS32 image, GrayS32 dest , int divisor )
@@ -311,6 +319,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 		final int width = image.getWidth();
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -333,6 +342,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical3(Kernel1D_S32 kernel , GrayS32 image, GrayS32 dest , int divisor )
@@ -352,6 +362,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -369,6 +380,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical5(Kernel1D_S32 kernel , GrayS32 image, GrayS32 dest , int divisor )
@@ -390,6 +402,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -411,6 +424,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical7(Kernel1D_S32 kernel , GrayS32 image, GrayS32 dest , int divisor )
@@ -434,6 +448,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -459,6 +474,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical9(Kernel1D_S32 kernel , GrayS32 image, GrayS32 dest , int divisor )
@@ -484,6 +500,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -513,6 +530,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical11(Kernel1D_S32 kernel , GrayS32 image, GrayS32 dest , int divisor )
@@ -540,6 +558,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -573,6 +592,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve3(Kernel2D_S32 kernel, GrayS32 src, GrayS32 dest , int divisor )
@@ -585,8 +605,12 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 		final int halfDivisor = divisor/2;
 
 		final int kernelRadius = kernel.getRadius();
+		//CONCURRENT_REMOVE_BELOW
 		final int totalRow[] = new int[ width ];
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{
+		//CONCURRENT_INLINE final int totalRow[] = new int[ width ];
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -630,6 +654,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((totalRow[x]+halfDivisor)/ divisor);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void convolve5(Kernel2D_S32 kernel, GrayS32 src, GrayS32 dest , int divisor )
@@ -642,8 +667,12 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 		final int halfDivisor = divisor/2;
 
 		final int kernelRadius = kernel.getRadius();
+		//CONCURRENT_REMOVE_BELOW
 		final int totalRow[] = new int[ width ];
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{
+		//CONCURRENT_INLINE final int totalRow[] = new int[ width ];
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -695,6 +724,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((totalRow[x]+halfDivisor)/ divisor);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void convolve7(Kernel2D_S32 kernel, GrayS32 src, GrayS32 dest , int divisor )
@@ -707,8 +737,12 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 		final int halfDivisor = divisor/2;
 
 		final int kernelRadius = kernel.getRadius();
+		//CONCURRENT_REMOVE_BELOW
 		final int totalRow[] = new int[ width ];
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{
+		//CONCURRENT_INLINE final int totalRow[] = new int[ width ];
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -768,6 +802,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((totalRow[x]+halfDivisor)/ divisor);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void convolve9(Kernel2D_S32 kernel, GrayS32 src, GrayS32 dest , int divisor )
@@ -780,8 +815,12 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 		final int halfDivisor = divisor/2;
 
 		final int kernelRadius = kernel.getRadius();
+		//CONCURRENT_REMOVE_BELOW
 		final int totalRow[] = new int[ width ];
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{
+		//CONCURRENT_INLINE final int totalRow[] = new int[ width ];
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -849,6 +888,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((totalRow[x]+halfDivisor)/ divisor);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void convolve11(Kernel2D_S32 kernel, GrayS32 src, GrayS32 dest , int divisor )
@@ -861,8 +901,12 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 		final int halfDivisor = divisor/2;
 
 		final int kernelRadius = kernel.getRadius();
+		//CONCURRENT_REMOVE_BELOW
 		final int totalRow[] = new int[ width ];
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(kernelRadius, height-kernelRadius, (y0,y1)->{
+		//CONCURRENT_INLINE final int totalRow[] = new int[ width ];
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -938,6 +982,7 @@ public class ConvolveImageUnrolled_SB_S32_S32_Div {
 				dataDst[indexDst++] = ((totalRow[x]+halfDivisor)/ divisor);
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 }
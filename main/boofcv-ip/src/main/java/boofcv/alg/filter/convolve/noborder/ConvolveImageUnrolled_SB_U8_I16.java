@@ -159,6 +159,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -173,6 +174,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				dataDst[indexDst++] = ( short )total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal5(Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest )
@@ -190,6 +192,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -206,6 +209,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				dataDst[indexDst++] = ( short )total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal7(Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest )
@@ -225,6 +229,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -243,6 +248,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				dataDst[indexDst++] = ( short )total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal9(Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest )
@@ -264,6 +270,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -284,6 +291,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				dataDst[indexDst++] = ( short )total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontal11(Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest )
@@ -307,6 +315,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int width = image.getWidth();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, image.height, i -> {
 		for( int i = 0; i < image.height; i++ ) {
 			int indexDst = dest.startIndex + i*dest.stride+radius;
 			int j = image.startIndex + i*image.stride - radius;
@@ -329,6 +338,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				dataDst[indexDst++] = ( short )total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical3(Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest )
@@ -347,6 +357,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -364,6 +375,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				dataDst[indexDst++] = ( short )total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical5(Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest )
@@ -384,6 +396,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -405,6 +418,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				dataDst[indexDst++] = ( short )total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical7(Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest )
@@ -427,6 +441,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -452,6 +467,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				dataDst[indexDst++] = ( short )total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical9(Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest )
@@ -476,6 +492,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -505,6 +522,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				dataDst[indexDst++] = ( short )total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical11(Kernel1D_S32 kernel , GrayU8 image, GrayI16 dest )
@@ -531,6 +549,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int yEnd = imgHeight-radius;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(radius, yEnd, y -> {
 		for( int y = radius; y < yEnd; y++ ) {
 			int indexDst = dest.startIndex+y*dest.stride;
 			int i = image.startIndex + (y-radius)*image.stride;
@@ -564,6 +583,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				dataDst[indexDst++] = ( short )total;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve3(Kernel2D_S32 kernel, GrayU8 src, GrayI16 dest)
@@ -576,6 +596,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int kernelRadius = kernel.getRadius();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -617,6 +638,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve5(Kernel2D_S32 kernel, GrayU8 src, GrayI16 dest)
@@ -629,6 +651,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int kernelRadius = kernel.getRadius();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -678,6 +701,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve7(Kernel2D_S32 kernel, GrayU8 src, GrayI16 dest)
@@ -690,6 +714,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int kernelRadius = kernel.getRadius();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -747,6 +772,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve9(Kernel2D_S32 kernel, GrayU8 src, GrayI16 dest)
@@ -759,6 +785,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int kernelRadius = kernel.getRadius();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -824,6 +851,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convolve11(Kernel2D_S32 kernel, GrayU8 src, GrayI16 dest)
@@ -836,6 +864,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 
 		final int kernelRadius = kernel.getRadius();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(kernelRadius, height-kernelRadius, y -> {
 		for( int y = kernelRadius; y < height-kernelRadius; y++ ) {
 
 			// first time through the value needs to be set
@@ -909,6 +938,7 @@ public class ConvolveImageUnrolled_SB_U8_I16 {
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 }
@@ -35,12 +35,16 @@ import javax.annotation.Generated;
 @Generated({"boofcv.alg.filter.convolve.noborder.GenerateImplConvolveMean"})
 public class ImplConvolveMean {
 
+	// minimum number of rows in a block processed by vertical()
+	private static final int MIN_BLOCK_ROWS = 128;
+
 	public static void horizontal( GrayU8 input , GrayI8 output , int radius ) {
 		final int kernelWidth = radius*2 + 1;
 
 		final int divisor = kernelWidth;
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
 		for( int y = 0; y < input.height; y++ ) {
 			int indexIn = input.startIndex + input.stride*y;
 			int indexOut = output.startIndex + output.stride*y + radius;
@@ -62,6 +66,7 @@ public class ImplConvolveMean {
 				output.data[indexOut++] = (byte)((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( GrayU8 input , GrayI8 output , int radius ) {
@@ -71,33 +76,47 @@ public class ImplConvolveMean {
 
 		int divisor = kernelWidth;
 		final int halfDivisor = divisor/2;
+		// The running sums are restarted at the first row in each block. Blocks don't depend on the number
+		// of threads, which ensures the concurrent implementation produces identical results.
+		final int blockRows = Math.max(MIN_BLOCK_ROWS,8*kernelWidth);
+		final int numBlocks = Math.max(0,(output.height-2*radius+blockRows-1)/blockRows);
+		//CONCURRENT_REMOVE_BELOW
 		int totals[] = new int[ input.width ];
 
-		for( int x = 0; x < input.width; x++ ) {
-			int indexIn = input.startIndex + x;
-			int indexOut = output.startIndex + output.stride*radius + x;
-
-			int total = 0;
-			int indexEnd = indexIn + input.stride*kernelWidth;
-			for( ; indexIn < indexEnd; indexIn += input.stride) {
-				total += input.data[indexIn] & 0xFF;
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, numBlocks, (block0,block1)->{
+		//CONCURRENT_INLINE final int totals[] = new int[ input.width ];
+		//CONCURRENT_BELOW for( int block = block0; block < block1; block++ ) {
+		for( int block = 0; block < numBlocks; block++ ) {
+			final int y0 = radius + block*blockRows;
+			final int y1 = Math.min(output.height-radius,y0+blockRows);
+
+			for( int x = 0; x < input.width; x++ ) {
+				int indexIn = input.startIndex + (y0-radius)*input.stride + x;
+				int indexOut = output.startIndex + output.stride*y0 + x;
+
+				int total = 0;
+				int indexEnd = indexIn + input.stride*kernelWidth;
+				for( ; indexIn < indexEnd; indexIn += input.stride) {
+					total += input.data[indexIn] & 0xFF;
+				}
+				totals[x] = total;
+				output.data[indexOut] = (byte)((total+halfDivisor)/divisor);
 			}
-			totals[x] = total;
-			output.data[indexOut] = (byte)((total+halfDivisor)/divisor);
-		}
 
-		// change the order it is processed in to reduce cache misses
-		for( int y = radius+1; y < output.height-radius; y++ ) {
-			int indexIn = input.startIndex + (y+radius)*input.stride;
-			int indexOut = output.startIndex + y*output.stride;
+			// change the order it is processed in to reduce cache misses
+			for( int y = y0+1; y < y1; y++ ) {
+				int indexIn = input.startIndex + (y+radius)*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
 
-			for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
-				int total = totals[ x ]  - (input.data[ indexIn - backStep ]& 0xFF);
-				totals[ x ] = total += input.data[ indexIn ]& 0xFF;
+				for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
+					int total = totals[ x ]  - (input.data[ indexIn - backStep ]& 0xFF);
+					totals[ x ] = total += input.data[ indexIn ]& 0xFF;
 
-				output.data[indexOut] = (byte)((total+halfDivisor)/divisor);
+					output.data[indexOut] = (byte)((total+halfDivisor)/divisor);
+				}
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void horizontal( GrayS16 input , GrayI16 output , int radius ) {
@@ -106,6 +125,7 @@ public class ImplConvolveMean {
 		final int divisor = kernelWidth;
 		final int halfDivisor = divisor/2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
 		for( int y = 0; y < input.height; y++ ) {
 			int indexIn = input.startIndex + input.stride*y;
 			int indexOut = output.startIndex + output.stride*y + radius;
@@ -127,6 +147,7 @@ public class ImplConvolveMean {
 				output.data[indexOut++] = (short)((total+halfDivisor)/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( GrayS16 input , GrayI16 output , int radius ) {
@@ -136,33 +157,47 @@ public class ImplConvolveMean {
 
 		int divisor = kernelWidth;
 		final int halfDivisor = divisor/2;
+		// The running sums are restarted at the first row in each block. Blocks don't depend on the number
+		// of threads, which ensures the concurrent implementation produces identical results.
+		final int blockRows = Math.max(MIN_BLOCK_ROWS,8*kernelWidth);
+		final int numBlocks = Math.max(0,(output.height-2*radius+blockRows-1)/blockRows);
+		//CONCURRENT_REMOVE_BELOW
 		int totals[] = new int[ input.width ];
 
-		for( int x = 0; x < input.width; x++ ) {
-			int indexIn = input.startIndex + x;
-			int indexOut = output.startIndex + output.stride*radius + x;
-
-			int total = 0;
-			int indexEnd = indexIn + input.stride*kernelWidth;
-			for( ; indexIn < indexEnd; indexIn += input.stride) {
-				total += input.data[indexIn] ;
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, numBlocks, (block0,block1)->{
+		//CONCURRENT_INLINE final int totals[] = new int[ input.width ];
+		//CONCURRENT_BELOW for( int block = block0; block < block1; block++ ) {
+		for( int block = 0; block < numBlocks; block++ ) {
+			final int y0 = radius + block*blockRows;
+			final int y1 = Math.min(output.height-radius,y0+blockRows);
+
+			for( int x = 0; x < input.width; x++ ) {
+				int indexIn = input.startIndex + (y0-radius)*input.stride + x;
+				int indexOut = output.startIndex + output.stride*y0 + x;
+
+				int total = 0;
+				int indexEnd = indexIn + input.stride*kernelWidth;
+				for( ; indexIn < indexEnd; indexIn += input.stride) {
+					total += input.data[indexIn] ;
+				}
+				totals[x] = total;
+				output.data[indexOut] = (short)((total+halfDivisor)/divisor);
 			}
-			totals[x] = total;
-			output.data[indexOut] = (short)((total+halfDivisor)/divisor);
-		}
 
-		// change the order it is processed in to reduce cache misses
-		for( int y = radius+1; y < output.height-radius; y++ ) {
-			int indexIn = input.startIndex + (y+radius)*input.stride;
-			int indexOut = output.startIndex + y*output.stride;
+			// change the order it is processed in to reduce cache misses
+			for( int y = y0+1; y < y1; y++ ) {
+				int indexIn = input.startIndex + (y+radius)*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
 
-			for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
-				int total = totals[ x ]  - (input.data[ indexIn - backStep ]);
-				totals[ x ] = total += input.data[ indexIn ];
+				for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
+					int total = totals[ x ]  - (input.data[ indexIn - backStep ]);
+					totals[ x ] = total += input.data[ indexIn ];
 
-				output.data[indexOut] = (short)((total+halfDivisor)/divisor);
+					output.data[indexOut] = (short)((total+halfDivisor)/divisor);
+				}
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void horizontal( GrayF32 input , GrayF32 output , int radius ) {
@@ -170,6 +205,7 @@ public class ImplConvolveMean {
 
 		final float divisor = kernelWidth;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
 		for( int y = 0; y < input.height; y++ ) {
 			int indexIn = input.startIndex + input.stride*y;
 			int indexOut = output.startIndex + output.stride*y + radius;
@@ -191,6 +227,7 @@ public class ImplConvolveMean {
 				output.data[indexOut++] = (total/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( GrayF32 input , GrayF32 output , int radius ) {
@@ -199,33 +236,47 @@ public class ImplConvolveMean {
 		final int backStep = kernelWidth*input.stride;
 
 		float divisor = kernelWidth;
+		// The running sums are restarted at the first row in each block. Blocks don't depend on the number
+		// of threads, which ensures the concurrent implementation produces identical results.
+		final int blockRows = Math.max(MIN_BLOCK_ROWS,8*kernelWidth);
+		final int numBlocks = Math.max(0,(output.height-2*radius+blockRows-1)/blockRows);
+		//CONCURRENT_REMOVE_BELOW
 		float totals[] = new float[ input.width ];
 
-		for( int x = 0; x < input.width; x++ ) {
-			int indexIn = input.startIndex + x;
-			int indexOut = output.startIndex + output.stride*radius + x;
-
-			float total = 0;
-			int indexEnd = indexIn + input.stride*kernelWidth;
-			for( ; indexIn < indexEnd; indexIn += input.stride) {
-				total += input.data[indexIn] ;
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, numBlocks, (block0,block1)->{
+		//CONCURRENT_INLINE final float totals[] = new float[ input.width ];
+		//CONCURRENT_BELOW for( int block = block0; block < block1; block++ ) {
+		for( int block = 0; block < numBlocks; block++ ) {
+			final int y0 = radius + block*blockRows;
+			final int y1 = Math.min(output.height-radius,y0+blockRows);
+
+			for( int x = 0; x < input.width; x++ ) {
+				int indexIn = input.startIndex + (y0-radius)*input.stride + x;
+				int indexOut = output.startIndex + output.stride*y0 + x;
+
+				float total = 0;
+				int indexEnd = indexIn + input.stride*kernelWidth;
+				for( ; indexIn < indexEnd; indexIn += input.stride) {
+					total += input.data[indexIn] ;
+				}
+				totals[x] = total;
+				output.data[indexOut] = (total/divisor);
 			}
-			totals[x] = total;
-			output.data[indexOut] = (total/divisor);
-		}
 
-		// change the order it is processed in to reduce cache misses
-		for( int y = radius+1; y < output.height-radius; y++ ) {
-			int indexIn = input.startIndex + (y+radius)*input.stride;
-			int indexOut = output.startIndex + y*output.stride;
+			// change the order it is processed in to reduce cache misses
+			for( int y = y0+1; y < y1; y++ ) {
+				int indexIn = input.startIndex + (y+radius)*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
 
-			for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
-				float total = totals[ x ]  - (input.data[ indexIn - backStep ]);
-				totals[ x ] = total += input.data[ indexIn ];
+				for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
+					float total = totals[ x ]  - (input.data[ indexIn - backStep ]);
+					totals[ x ] = total += input.data[ indexIn ];
 
-				output.data[indexOut] = (total/divisor);
+					output.data[indexOut] = (total/divisor);
+				}
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 	public static void horizontal( GrayF64 input , GrayF64 output , int radius ) {
@@ -233,6 +284,7 @@ public class ImplConvolveMean {
 
 		final double divisor = kernelWidth;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
 		for( int y = 0; y < input.height; y++ ) {
 			int indexIn = input.startIndex + input.stride*y;
 			int indexOut = output.startIndex + output.stride*y + radius;
@@ -254,6 +306,7 @@ public class ImplConvolveMean {
 				output.data[indexOut++] = (total/divisor);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical( GrayF64 input , GrayF64 output , int radius ) {
@@ -262,33 +315,47 @@ public class ImplConvolveMean {
 		final int backStep = kernelWidth*input.stride;
 
 		double divisor = kernelWidth;
+		// The running sums are restarted at the first row in each block. Blocks don't depend on the number
+		// of threads, which ensures the concurrent implementation produces identical results.
+		final int blockRows = Math.max(MIN_BLOCK_ROWS,8*kernelWidth);
+		final int numBlocks = Math.max(0,(output.height-2*radius+blockRows-1)/blockRows);
+		//CONCURRENT_REMOVE_BELOW
 		double totals[] = new double[ input.width ];
 
-		for( int x = 0; x < input.width; x++ ) {
-			int indexIn = input.startIndex + x;
-			int indexOut = output.startIndex + output.stride*radius + x;
-
-			double total = 0;
-			int indexEnd = indexIn + input.stride*kernelWidth;
-			for( ; indexIn < indexEnd; indexIn += input.stride) {
-				total += input.data[indexIn] ;
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, numBlocks, (block0,block1)->{
+		//CONCURRENT_INLINE final double totals[] = new double[ input.width ];
+		//CONCURRENT_BELOW for( int block = block0; block < block1; block++ ) {
+		for( int block = 0; block < numBlocks; block++ ) {
+			final int y0 = radius + block*blockRows;
+			final int y1 = Math.min(output.height-radius,y0+blockRows);
+
+			for( int x = 0; x < input.width; x++ ) {
+				int indexIn = input.startIndex + (y0-radius)*input.stride + x;
+				int indexOut = output.startIndex + output.stride*y0 + x;
+
+				double total = 0;
+				int indexEnd = indexIn + input.stride*kernelWidth;
+				for( ; indexIn < indexEnd; indexIn += input.stride) {
+					total += input.data[indexIn] ;
+				}
+				totals[x] = total;
+				output.data[indexOut] = (total/divisor);
 			}
-			totals[x] = total;
-			output.data[indexOut] = (total/divisor);
-		}
 
-		// change the order it is processed in to reduce cache misses
-		for( int y = radius+1; y < output.height-radius; y++ ) {
-			int indexIn = input.startIndex + (y+radius)*input.stride;
-			int indexOut = output.startIndex + y*output.stride;
+			// change the order it is processed in to reduce cache misses
+			for( int y = y0+1; y < y1; y++ ) {
+				int indexIn = input.startIndex + (y+radius)*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
 
-			for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
-				double total = totals[ x ]  - (input.data[ indexIn - backStep ]);
-				totals[ x ] = total += input.data[ indexIn ];
+				for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
+					double total = totals[ x ]  - (input.data[ indexIn - backStep ]);
+					totals[ x ] = total += input.data[ indexIn ];
 
-				output.data[indexOut] = (total/divisor);
+					output.data[indexOut] = (total/divisor);
+				}
 			}
 		}
+		//CONCURRENT_INLINE });
 	}
 
 }
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.noborder;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>
+ * Convolves a mean filter across the image.  The mean value of all the pixels are computed inside the kernel.
+ * </p>
+ * <p>
+ * Do not modify.  Auto generated by GenerateImplConvolveMean
+ * </p>
+ * 
+ * <p>DO NOT MODIFY. Automatically generated code created by AutocodeConcurrentApp</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("boofcv.alg.filter.convolve.noborder.ImplConvolveMean")
+public class ImplConvolveMean_MT {
+
+	// minimum number of rows in a block processed by vertical()
+	private static final int MIN_BLOCK_ROWS = 128;
+
+	public static void horizontal( GrayU8 input , GrayI8 output , int radius ) {
+		final int kernelWidth = radius*2 + 1;
+
+		final int divisor = kernelWidth;
+		final int halfDivisor = divisor/2;
+
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + input.stride*y;
+			int indexOut = output.startIndex + output.stride*y + radius;
+
+			int total = 0;
+
+			int indexEnd = indexIn + kernelWidth;
+			
+			for( ; indexIn < indexEnd; indexIn++ ) {
+				total += input.data[indexIn] & 0xFF;
+			}
+			output.data[indexOut++] = (byte)((total+halfDivisor)/divisor);
+
+			indexEnd = indexIn + input.width - kernelWidth;
+			for( ; indexIn < indexEnd; indexIn++ ) {
+				total -= input.data[ indexIn - kernelWidth ] & 0xFF;
+				total += input.data[ indexIn ] & 0xFF;
+
+				output.data[indexOut++] = (byte)((total+halfDivisor)/divisor);
+			}
+		});
+	}
+
+	public static void vertical( GrayU8 input , GrayI8 output , int radius ) {
+		final int kernelWidth = radius*2 + 1;
+
+		final int backStep = kernelWidth*input.stride;
+
+		int divisor = kernelWidth;
+		final int halfDivisor = divisor/2;
+		// The running sums are restarted at the first row in each block. Blocks don't depend on the number
+		// of threads, which ensures the concurrent implementation produces identical results.
+		final int blockRows = Math.max(MIN_BLOCK_ROWS,8*kernelWidth);
+		final int numBlocks = Math.max(0,(output.height-2*radius+blockRows-1)/blockRows);
+
+		BoofConcurrency.loopBlocks(0, numBlocks, (block0,block1)->{
+		final int totals[] = new int[ input.width ];
+		for( int block = block0; block < block1; block++ ) {
+			final int y0 = radius + block*blockRows;
+			final int y1 = Math.min(output.height-radius,y0+blockRows);
+
+			for( int x = 0; x < input.width; x++ ) {
+				int indexIn = input.startIndex + (y0-radius)*input.stride + x;
+				int indexOut = output.startIndex + output.stride*y0 + x;
+
+				int total = 0;
+				int indexEnd = indexIn + input.stride*kernelWidth;
+				for( ; indexIn < indexEnd; indexIn += input.stride) {
+					total += input.data[indexIn] & 0xFF;
+				}
+				totals[x] = total;
+				output.data[indexOut] = (byte)((total+halfDivisor)/divisor);
+			}
+
+			// change the order it is processed in to reduce cache misses
+			for( int y = y0+1; y < y1; y++ ) {
+				int indexIn = input.startIndex + (y+radius)*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
+					int total = totals[ x ]  - (input.data[ indexIn - backStep ]& 0xFF);
+					totals[ x ] = total += input.data[ indexIn ]& 0xFF;
+
+					output.data[indexOut] = (byte)((total+halfDivisor)/divisor);
+				}
+			}
+		}
+		});
+	}
+
+	public static void horizontal( GrayS16 input , GrayI16 output , int radius ) {
+		final int kernelWidth = radius*2 + 1;
+
+		final int divisor = kernelWidth;
+		final int halfDivisor = divisor/2;
+
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + input.stride*y;
+			int indexOut = output.startIndex + output.stride*y + radius;
+
+			int total = 0;
+
+			int indexEnd = indexIn + kernelWidth;
+			
+			for( ; indexIn < indexEnd; indexIn++ ) {
+				total += input.data[indexIn] ;
+			}
+			output.data[indexOut++] = (short)((total+halfDivisor)/divisor);
+
+			indexEnd = indexIn + input.width - kernelWidth;
+			for( ; indexIn < indexEnd; indexIn++ ) {
+				total -= input.data[ indexIn - kernelWidth ] ;
+				total += input.data[ indexIn ] ;
+
+				output.data[indexOut++] = (short)((total+halfDivisor)/divisor);
+			}
+		});
+	}
+
+	public static void vertical( GrayS16 input , GrayI16 output , int radius ) {
+		final int kernelWidth = radius*2 + 1;
+
+		final int backStep = kernelWidth*input.stride;
+
+		int divisor = kernelWidth;
+		final int halfDivisor = divisor/2;
+		// The running sums are restarted at the first row in each block. Blocks don't depend on the number
+		// of threads, which ensures the concurrent implementation produces identical results.
+		final int blockRows = Math.max(MIN_BLOCK_ROWS,8*kernelWidth);
+		final int numBlocks = Math.max(0,(output.height-2*radius+blockRows-1)/blockRows);
+
+		BoofConcurrency.loopBlocks(0, numBlocks, (block0,block1)->{
+		final int totals[] = new int[ input.width ];
+		for( int block = block0; block < block1; block++ ) {
+			final int y0 = radius + block*blockRows;
+			final int y1 = Math.min(output.height-radius,y0+blockRows);
+
+			for( int x = 0; x < input.width; x++ ) {
+				int indexIn = input.startIndex + (y0-radius)*input.stride + x;
+				int indexOut = output.startIndex + output.stride*y0 + x;
+
+				int total = 0;
+				int indexEnd = indexIn + input.stride*kernelWidth;
+				for( ; indexIn < indexEnd; indexIn += input.stride) {
+					total += input.data[indexIn] ;
+				}
+				totals[x] = total;
+				output.data[indexOut] = (short)((total+halfDivisor)/divisor);
+			}
+
+			// change the order it is processed in to reduce cache misses
+			for( int y = y0+1; y < y1; y++ ) {
+				int indexIn = input.startIndex + (y+radius)*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
+					int total = totals[ x ]  - (input.data[ indexIn - backStep ]);
+					totals[ x ] = total += input.data[ indexIn ];
+
+					output.data[indexOut] = (short)((total+halfDivisor)/divisor);
+				}
+			}
+		}
+		});
+	}
+
+	public static void horizontal( GrayF32 input , GrayF32 output , int radius ) {
+		final int kernelWidth = radius*2 + 1;
+
+		final float divisor = kernelWidth;
+
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + input.stride*y;
+			int indexOut = output.startIndex + output.stride*y + radius;
+
+			float total = 0;
+
+			int indexEnd = indexIn + kernelWidth;
+			
+			for( ; indexIn < indexEnd; indexIn++ ) {
+				total += input.data[indexIn] ;
+			}
+			output.data[indexOut++] = (total/divisor);
+
+			indexEnd = indexIn + input.width - kernelWidth;
+			for( ; indexIn < indexEnd; indexIn++ ) {
+				total -= input.data[ indexIn - kernelWidth ] ;
+				total += input.data[ indexIn ] ;
+
+				output.data[indexOut++] = (total/divisor);
+			}
+		});
+	}
+
+	public static void vertical( GrayF32 input , GrayF32 output , int radius ) {
+		final int kernelWidth = radius*2 + 1;
+
+		final int backStep = kernelWidth*input.stride;
+
+		float divisor = kernelWidth;
+		// The running sums are restarted at the first row in each block. Blocks don't depend on the number
+		// of threads, which ensures the concurrent implementation produces identical results.
+		final int blockRows = Math.max(MIN_BLOCK_ROWS,8*kernelWidth);
+		final int numBlocks = Math.max(0,(output.height-2*radius+blockRows-1)/blockRows);
+
+		BoofConcurrency.loopBlocks(0, numBlocks, (block0,block1)->{
+		final float totals[] = new float[ input.width ];
+		for( int block = block0; block < block1; block++ ) {
+			final int y0 = radius + block*blockRows;
+			final int y1 = Math.min(output.height-radius,y0+blockRows);
+
+			for( int x = 0; x < input.width; x++ ) {
+				int indexIn = input.startIndex + (y0-radius)*input.stride + x;
+				int indexOut = output.startIndex + output.stride*y0 + x;
+
+				float total = 0;
+				int indexEnd = indexIn + input.stride*kernelWidth;
+				for( ; indexIn < indexEnd; indexIn += input.stride) {
+					total += input.data[indexIn] ;
+				}
+				totals[x] = total;
+				output.data[indexOut] = (total/divisor);
+			}
+
+			// change the order it is processed in to reduce cache misses
+			for( int y = y0+1; y < y1; y++ ) {
+				int indexIn = input.startIndex + (y+radius)*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
+					float total = totals[ x ]  - (input.data[ indexIn - backStep ]);
+					totals[ x ] = total += input.data[ indexIn ];
+
+					output.data[indexOut] = (total/divisor);
+				}
+			}
+		}
+		});
+	}
+
+	public static void horizontal( GrayF64 input , GrayF64 output , int radius ) {
+		final int kernelWidth = radius*2 + 1;
+
+		final double divisor = kernelWidth;
+
+		BoofConcurrency.loopFor(0, input.height, y -> {
+			int indexIn = input.startIndex + input.stride*y;
+			int indexOut = output.startIndex + output.stride*y + radius;
+
+			double total = 0;
+
+			int indexEnd = indexIn + kernelWidth;
+			
+			for( ; indexIn < indexEnd; indexIn++ ) {
+				total += input.data[indexIn] ;
+			}
+			output.data[indexOut++] = (total/divisor);
+
+			indexEnd = indexIn + input.width - kernelWidth;
+			for( ; indexIn < indexEnd; indexIn++ ) {
+				total -= input.data[ indexIn - kernelWidth ] ;
+				total += input.data[ indexIn ] ;
+
+				output.data[indexOut++] = (total/divisor);
+			}
+		});
+	}
+
+	public static void vertical( GrayF64 input , GrayF64 output , int radius ) {
+		final int kernelWidth = radius*2 + 1;
+
+		final int backStep = kernelWidth*input.stride;
+
+		double divisor = kernelWidth;
+		// The running sums are restarted at the first row in each block. Blocks don't depend on the number
+		// of threads, which ensures the concurrent implementation produces identical results.
+		final int blockRows = Math.max(MIN_BLOCK_ROWS,8*kernelWidth);
+		final int numBlocks = Math.max(0,(output.height-2*radius+blockRows-1)/blockRows);
+
+		BoofConcurrency.loopBlocks(0, numBlocks, (block0,block1)->{
+		final double totals[] = new double[ input.width ];
+		for( int block = block0; block < block1; block++ ) {
+			final int y0 = radius + block*blockRows;
+			final int y1 = Math.min(output.height-radius,y0+blockRows);
+
+			for( int x = 0; x < input.width; x++ ) {
+				int indexIn = input.startIndex + (y0-radius)*input.stride + x;
+				int indexOut = output.startIndex + output.stride*y0 + x;
+
+				double total = 0;
+				int indexEnd = indexIn + input.stride*kernelWidth;
+				for( ; indexIn < indexEnd; indexIn += input.stride) {
+					total += input.data[indexIn] ;
+				}
+				totals[x] = total;
+				output.data[indexOut] = (total/divisor);
+			}
+
+			// change the order it is processed in to reduce cache misses
+			for( int y = y0+1; y < y1; y++ ) {
+				int indexIn = input.startIndex + (y+radius)*input.stride;
+				int indexOut = output.startIndex + y*output.stride;
+
+				for( int x = 0; x < input.width; x++ ,indexIn++,indexOut++) {
+					double total = totals[ x ]  - (input.data[ indexIn - backStep ]);
+					totals[ x ] = total += input.data[ indexIn ];
+
+					output.data[indexOut] = (total/divisor);
+				}
+			}
+		}
+		});
+	}
+
+}
@@ -52,6 +52,7 @@ public class GradientSobel_Outer {
 		final int width = orig.getWidth();
 		final int height = orig.getHeight() - 1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(1, height, y -> {
 		for (int y = 1; y < height; y++) {
 			int endX = width * y + width - 1;
 
@@ -64,6 +65,7 @@ public class GradientSobel_Outer {
 				imgX[index] = (short) (((data[index + 1] & 0xFF) - (data[index - 1] & 0xFF)) * 2 + v - w);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	/**
@@ -80,6 +82,7 @@ public class GradientSobel_Outer {
 		final int height = orig.getHeight() - 1;
 		final int strideSrc = orig.getStride();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(1, height, y -> {
 		for (int y = 1; y < height; y++) {
 			int indexSrc = orig.startIndex + orig.stride * y + 1;
 			final int endX = indexSrc + width - 2;
@@ -96,6 +99,7 @@ public class GradientSobel_Outer {
 				imgX[indexX++] = (short) (((data[indexSrc + 1] & 0xFF) - (data[indexSrc - 1] & 0xFF)) * 2 + v - w);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void process_I8_sub(GrayS16 orig,
@@ -109,6 +113,7 @@ public class GradientSobel_Outer {
 		final int height = orig.getHeight() - 1;
 		final int strideSrc = orig.getStride();
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(1, height, y -> {
 		for (int y = 1; y < height; y++) {
 			int indexSrc = orig.startIndex + orig.stride * y + 1;
 			final int endX = indexSrc + width - 2;
@@ -125,6 +130,7 @@ public class GradientSobel_Outer {
 				imgX[indexX++] = (short) (((data[indexSrc + 1] ) - (data[indexSrc - 1] )) * 2 + v - w);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	/**
@@ -140,6 +146,7 @@ public class GradientSobel_Outer {
 		final int width = orig.getWidth();
 		final int height = orig.getHeight() - 1;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(1, height, y -> {
 		for (int y = 1; y < height; y++) {
 			int endX = width * y + width - 1;
 
@@ -151,5 +158,6 @@ public class GradientSobel_Outer {
 				imgX[index] = (data[index + 1] - data[index - 1]) * 0.5F + v - w;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 }
\ No newline at end of file
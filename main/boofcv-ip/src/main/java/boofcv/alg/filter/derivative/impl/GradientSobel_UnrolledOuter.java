@@ -50,6 +50,7 @@ public class GradientSobel_UnrolledOuter {
 
 		final int adjWidth = width - 2;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(1, height, y -> {
 		for (int y = 1; y < height; y++) {
 			int endX_alt = width * y + (width - adjWidth % 3) - 1;
 			int endX = endX_alt + adjWidth % 3;
@@ -114,6 +115,7 @@ public class GradientSobel_UnrolledOuter {
 				imgX[index] = (short) (((data[index + 1] & 0xFF) - (data[index - 1] & 0xFF)) * 2 + v - w);
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	/**
@@ -130,6 +132,7 @@ public class GradientSobel_UnrolledOuter {
 		final int height = orig.getHeight() - 1;
 
 		final int adjWidth = width - 2;
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(1, height, y -> {
 		for (int y = 1; y < height; y++) {
 			int endX_alt = width * y + (width - adjWidth % 3) - 1;
 			int endX = endX_alt + adjWidth % 3;
@@ -196,6 +199,7 @@ public class GradientSobel_UnrolledOuter {
 				imgX[index] = (data[index + 1] - data[index - 1]) * 0.5F + v - w;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	/**
@@ -213,6 +217,7 @@ public class GradientSobel_UnrolledOuter {
 		final int strideSrc = orig.stride;
 
 		final int adjWidth = width - 2;
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(1, height, y -> {
 		for (int y = 1; y < height; y++) {
 			int index = orig.startIndex + strideSrc * y + 1;
 			int indexX = derivX.startIndex + derivX.stride * y + 1;
@@ -284,5 +289,6 @@ public class GradientSobel_UnrolledOuter {
 				imgX[indexX++] = (data[index + 1] - data[index - 1]) * 0.5F + v - w;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 }
@@ -20,6 +20,8 @@ package boofcv.alg.interpolate;
 
 import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.image.ImageGray;
+import org.ddogleg.struct.GrowQueue_F32;
+import org.ddogleg.struct.GrowQueue_I32;
 
 /**
  * <p>
@@ -37,6 +39,10 @@ public abstract class BilinearPixelS<T extends ImageGray<T>> implements Interpol
 	protected int width;
 	protected int height;
 
+	// workspace for getGrid(). Pixel offset and interpolation weight of each grid column
+	protected GrowQueue_I32 gridColumnIndex = new GrowQueue_I32();
+	protected GrowQueue_F32 gridColumnWeight = new GrowQueue_F32();
+
 	@Override
 	public void setBorder(ImageBorder<T> border) {
 		this.border = border;
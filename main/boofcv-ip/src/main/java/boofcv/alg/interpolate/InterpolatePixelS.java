@@ -48,4 +48,39 @@ public interface InterpolatePixelS<T extends ImageGray<T>> extends InterpolatePi
 	 * @return Interpolated intensity value.
 	 */
 	public float get_fast(float x, float y);
+
+	/**
+	 * Interpolates an array of points in a single call. Points which are outside the fast bounds are
+	 * handled the same as they would be by {@link #get(float, float)}.
+	 *
+	 * @param points Interleaved point coordinates, i.e. x0,y0,x1,y1,... Not modified.
+	 * @param count Number of points which are to be interpolated
+	 * @param values (Output) Interpolated value of each point. Must have at least count elements.
+	 */
+	default void getBatch( float[] points , int count , float[] values ) {
+		for (int i = 0, j = 0; i < count; i++, j += 2) {
+			values[i] = get(points[j],points[j+1]);
+		}
+	}
+
+	/**
+	 * Interpolates a regular grid of points in a single call. The grid point at column 'col' and row 'row' is
+	 * located at (x0 + stepX*col, y0 + stepY*row) and its value is written to values[row*cols + col].
+	 *
+	 * @param x0 x-coordinate of the first grid point
+	 * @param y0 y-coordinate of the first grid point
+	 * @param stepX Spacing between grid columns
+	 * @param stepY Spacing between grid rows
+	 * @param cols Number of columns in the grid
+	 * @param rows Number of rows in the grid
+	 * @param values (Output) Interpolated values in row-major order. Must have at least rows*cols elements.
+	 */
+	default void getGrid( float x0 , float y0 , float stepX , float stepY , int cols , int rows , float[] values ) {
+		for (int row = 0, i = 0; row < rows; row++) {
+			float y = y0 + stepY*row;
+			for (int col = 0; col < cols; col++) {
+				values[i++] = get(x0 + stepX*col, y);
+			}
+		}
+	}
 }
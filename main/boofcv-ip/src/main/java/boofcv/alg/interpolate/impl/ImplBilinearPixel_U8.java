@@ -44,6 +44,85 @@ public class ImplBilinearPixel_U8 extends BilinearPixelS<GrayU8> {
 
 		setImage(orig);
 	}
+	@Override
+	public void getBatch(float[] points, int count, float[] values) {
+		final byte[] data = orig.data;
+
+		for (int i = 0, j = 0; i < count; i++, j += 2) {
+			float x = points[j];
+			float y = points[j+1];
+
+			if (x < 0 || y < 0 || x > width-2 || y > height-2) {
+				values[i] = get_border(x,y);
+				continue;
+			}
+
+			int xt = (int) x;
+			int yt = (int) y;
+			float ax = x - xt;
+			float ay = y - yt;
+
+			int index = orig.startIndex + yt * stride + xt;
+
+			float val = (1.0f - ax) * (1.0f - ay) * (data[index] & 0xFF); // (x,y)
+			val += ax * (1.0f - ay) * (data[index + 1] & 0xFF); // (x+1,y)
+			val += ax * ay * (data[index + 1 + stride] & 0xFF); // (x+1,y+1)
+			val += (1.0f - ax) * ay * (data[index + stride] & 0xFF); // (x,y+1)
+
+			values[i] = val;
+		}
+	}
+
+	@Override
+	public void getGrid(float x0, float y0, float stepX, float stepY, int cols, int rows, float[] values) {
+		if( cols <= 0 || rows <= 0 )
+			return;
+
+		// the grid is axis aligned so it's entirely inside the fast bounds if two opposite corners are
+		if( !isInFastBounds(x0, y0) || !isInFastBounds(x0 + stepX*(cols-1), y0 + stepY*(rows-1)) ) {
+			for (int row = 0, i = 0; row < rows; row++) {
+				float y = y0 + stepY*row;
+				for (int col = 0; col < cols; col++) {
+					values[i++] = get(x0 + stepX*col, y);
+				}
+			}
+			return;
+		}
+
+		// the horizontal offset and weight are the same in every row
+		gridColumnIndex.resize(cols);
+		gridColumnWeight.resize(cols);
+		for (int col = 0; col < cols; col++) {
+			float x = x0 + stepX*col;
+			int xt = (int) x;
+			gridColumnIndex.data[col] = xt;
+			gridColumnWeight.data[col] = x - xt;
+		}
+
+		final byte[] data = orig.data;
+
+		for (int row = 0, i = 0; row < rows; row++) {
+			float y = y0 + stepY*row;
+			int yt = (int) y;
+			float ay = y - yt;
+			float ay1 = 1.0f - ay;
+
+			int indexRow = orig.startIndex + yt * stride;
+
+			for (int col = 0; col < cols; col++) {
+				float ax = gridColumnWeight.data[col];
+				int index = indexRow + gridColumnIndex.data[col];
+
+				float val = (1.0f - ax) * ay1 * (data[index] & 0xFF); // (x,y)
+				val += ax * ay1 * (data[index + 1] & 0xFF); // (x+1,y)
+				val += ax * ay * (data[index + 1 + stride] & 0xFF); // (x+1,y+1)
+				val += (1.0f - ax) * ay * (data[index + stride] & 0xFF); // (x,y+1)
+
+				values[i++] = val;
+			}
+		}
+	}
+
 	@Override
 	public float get_fast(float x, float y) {
 		int xt = (int) x;
@@ -18,10 +18,12 @@
 package boofcv.alg.misc;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.misc.impl.ImplImageStatistics;
+import boofcv.alg.misc.impl.ImplImageStatistics_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 import javax.annotation.Generated;
-import java.util.Arrays;
 
 /**
  * Computes statistical properties of pixels inside an image.
@@ -40,7 +42,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayU8 input ) {
-		return minU( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.minU( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.minU( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -50,24 +56,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedU8 input ) {
-		return minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static int minU( byte[] array , int startIndex , int rows , int columns , int stride ) {
-
-		int output = array[startIndex]& 0xFF;
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				int v = array[index] & 0xFF;
-				if( v < output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -77,7 +70,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayU8 input ) {
-		return maxU( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.maxU( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.maxU( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -87,24 +84,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedU8 input ) {
-		return maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static int maxU( byte[] array , int startIndex , int rows , int columns , int stride ) {
-
-		int output = array[startIndex]& 0xFF;
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				int v = array[index] & 0xFF;
-				if( v > output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -244,22 +228,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayU8 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width;
-
-		int total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] & 0xFF;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sumU(img.data,img.startIndex,img.height,img.width,img.stride);
+		} else {
+			return ImplImageStatistics.sumU(img.data,img.startIndex,img.height,img.width,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -280,22 +253,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedU8 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width*img.numBands;
-
-		int total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] & 0xFF;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sumU(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
+		} else {
+			return ImplImageStatistics.sumU(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -316,21 +278,11 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayU8 img , double mean ) {
-
-		double variance = 0;
-
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]& 0xFF) - mean; 
-				variance += d*d;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.varianceU(img.data,img.startIndex,img.height,img.width,img.stride,mean);
+		} else {
+			return ImplImageStatistics.varianceU(img.data,img.startIndex,img.height,img.width,img.stride,mean);
 		}
-
-		return variance/(img.width*img.height);
 	}
 
 	/**
@@ -341,15 +293,10 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayU8 input , int minValue , int histogram[] ) {
-		Arrays.fill(histogram,0);
-
-		for( int y = 0; y < input.height; y++ ) {
-			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
-
-			while( index < end ) {
-				histogram[(input.data[index++]& 0xFF) - minValue ]++;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+		} else {
+			ImplImageStatistics.histogram(input,minValue,histogram);
 		}
 	}
 
@@ -360,7 +307,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayS8 input ) {
-		return min( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -370,24 +321,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedS8 input ) {
-		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static int min( byte[] array , int startIndex , int rows , int columns , int stride ) {
-
-		int output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				int v = array[index] ;
-				if( v < output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -397,7 +335,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayS8 input ) {
-		return max( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -407,24 +349,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedS8 input ) {
-		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static int max( byte[] array , int startIndex , int rows , int columns , int stride ) {
-
-		int output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				int v = array[index] ;
-				if( v > output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -564,22 +493,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayS8 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width;
-
-		int total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -600,22 +518,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedS8 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width*img.numBands;
-
-		int total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -636,21 +543,11 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS8 img , double mean ) {
-
-		double variance = 0;
-
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
-				variance += d*d;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
+		} else {
+			return ImplImageStatistics.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
 		}
-
-		return variance/(img.width*img.height);
 	}
 
 	/**
@@ -661,15 +558,10 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS8 input , int minValue , int histogram[] ) {
-		Arrays.fill(histogram,0);
-
-		for( int y = 0; y < input.height; y++ ) {
-			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
-
-			while( index < end ) {
-				histogram[(input.data[index++]) - minValue ]++;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+		} else {
+			ImplImageStatistics.histogram(input,minValue,histogram);
 		}
 	}
 
@@ -680,7 +572,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayU16 input ) {
-		return minU( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.minU( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.minU( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -690,24 +586,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedU16 input ) {
-		return minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static int minU( short[] array , int startIndex , int rows , int columns , int stride ) {
-
-		int output = array[startIndex]& 0xFFFF;
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				int v = array[index] & 0xFFFF;
-				if( v < output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.minU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -717,7 +600,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayU16 input ) {
-		return maxU( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.maxU( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.maxU( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -727,24 +614,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedU16 input ) {
-		return maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static int maxU( short[] array , int startIndex , int rows , int columns , int stride ) {
-
-		int output = array[startIndex]& 0xFFFF;
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				int v = array[index] & 0xFFFF;
-				if( v > output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.maxU( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -884,22 +758,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayU16 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width;
-
-		int total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] & 0xFFFF;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sumU(img.data,img.startIndex,img.height,img.width,img.stride);
+		} else {
+			return ImplImageStatistics.sumU(img.data,img.startIndex,img.height,img.width,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -920,22 +783,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedU16 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width*img.numBands;
-
-		int total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] & 0xFFFF;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sumU(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
+		} else {
+			return ImplImageStatistics.sumU(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -956,21 +808,11 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayU16 img , double mean ) {
-
-		double variance = 0;
-
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]& 0xFFFF) - mean; 
-				variance += d*d;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.varianceU(img.data,img.startIndex,img.height,img.width,img.stride,mean);
+		} else {
+			return ImplImageStatistics.varianceU(img.data,img.startIndex,img.height,img.width,img.stride,mean);
 		}
-
-		return variance/(img.width*img.height);
 	}
 
 	/**
@@ -981,15 +823,10 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayU16 input , int minValue , int histogram[] ) {
-		Arrays.fill(histogram,0);
-
-		for( int y = 0; y < input.height; y++ ) {
-			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
-
-			while( index < end ) {
-				histogram[(input.data[index++]& 0xFFFF) - minValue ]++;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+		} else {
+			ImplImageStatistics.histogram(input,minValue,histogram);
 		}
 	}
 
@@ -1000,7 +837,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayS16 input ) {
-		return min( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -1010,24 +851,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedS16 input ) {
-		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static int min( short[] array , int startIndex , int rows , int columns , int stride ) {
-
-		int output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				int v = array[index] ;
-				if( v < output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -1037,7 +865,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayS16 input ) {
-		return max( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -1047,24 +879,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedS16 input ) {
-		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static int max( short[] array , int startIndex , int rows , int columns , int stride ) {
-
-		int output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				int v = array[index] ;
-				if( v > output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -1204,22 +1023,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayS16 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width;
-
-		int total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -1240,22 +1048,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedS16 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width*img.numBands;
-
-		int total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -1276,21 +1073,11 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS16 img , double mean ) {
-
-		double variance = 0;
-
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
-				variance += d*d;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
+		} else {
+			return ImplImageStatistics.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
 		}
-
-		return variance/(img.width*img.height);
 	}
 
 	/**
@@ -1301,15 +1088,10 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS16 input , int minValue , int histogram[] ) {
-		Arrays.fill(histogram,0);
-
-		for( int y = 0; y < input.height; y++ ) {
-			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
-
-			while( index < end ) {
-				histogram[(input.data[index++]) - minValue ]++;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+		} else {
+			ImplImageStatistics.histogram(input,minValue,histogram);
 		}
 	}
 
@@ -1320,7 +1102,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( GrayS32 input ) {
-		return min( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -1330,24 +1116,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static int min( InterleavedS32 input ) {
-		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static int min( int[] array , int startIndex , int rows , int columns , int stride ) {
-
-		int output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				int v = array[index] ;
-				if( v < output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -1357,7 +1130,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( GrayS32 input ) {
-		return max( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -1367,24 +1144,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static int max( InterleavedS32 input ) {
-		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static int max( int[] array , int startIndex , int rows , int columns , int stride ) {
-
-		int output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				int v = array[index] ;
-				if( v > output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -1524,22 +1288,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( GrayS32 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width;
-
-		int total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -1560,22 +1313,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static int sum( InterleavedS32 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width*img.numBands;
-
-		int total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -1596,21 +1338,11 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS32 img , double mean ) {
-
-		double variance = 0;
-
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
-				variance += d*d;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
+		} else {
+			return ImplImageStatistics.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
 		}
-
-		return variance/(img.width*img.height);
 	}
 
 	/**
@@ -1621,15 +1353,10 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS32 input , int minValue , int histogram[] ) {
-		Arrays.fill(histogram,0);
-
-		for( int y = 0; y < input.height; y++ ) {
-			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
-
-			while( index < end ) {
-				histogram[(input.data[index++]) - minValue ]++;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+		} else {
+			ImplImageStatistics.histogram(input,minValue,histogram);
 		}
 	}
 
@@ -1640,7 +1367,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static long min( GrayS64 input ) {
-		return min( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -1650,24 +1381,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static long min( InterleavedS64 input ) {
-		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static long min( long[] array , int startIndex , int rows , int columns , int stride ) {
-
-		long output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				long v = array[index] ;
-				if( v < output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -1677,7 +1395,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static long max( GrayS64 input ) {
-		return max( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -1687,24 +1409,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static long max( InterleavedS64 input ) {
-		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static long max( long[] array , int startIndex , int rows , int columns , int stride ) {
-
-		long output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				long v = array[index] ;
-				if( v > output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -1844,22 +1553,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static long sum( GrayS64 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width;
-
-		long total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -1880,22 +1578,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static long sum( InterleavedS64 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width*img.numBands;
-
-		long total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -1916,21 +1603,11 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayS64 img , double mean ) {
-
-		double variance = 0;
-
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
-				variance += d*d;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
+		} else {
+			return ImplImageStatistics.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
 		}
-
-		return variance/(img.width*img.height);
 	}
 
 	/**
@@ -1941,15 +1618,10 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayS64 input , long minValue , int histogram[] ) {
-		Arrays.fill(histogram,0);
-
-		for( int y = 0; y < input.height; y++ ) {
-			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
-
-			while( index < end ) {
-				histogram[(int)(input.data[index++] - minValue)]++;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+		} else {
+			ImplImageStatistics.histogram(input,minValue,histogram);
 		}
 	}
 
@@ -1960,7 +1632,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static float min( GrayF32 input ) {
-		return min( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -1970,24 +1646,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static float min( InterleavedF32 input ) {
-		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static float min( float[] array , int startIndex , int rows , int columns , int stride ) {
-
-		float output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				float v = array[index] ;
-				if( v < output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -1997,7 +1660,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static float max( GrayF32 input ) {
-		return max( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -2007,24 +1674,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static float max( InterleavedF32 input ) {
-		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static float max( float[] array , int startIndex , int rows , int columns , int stride ) {
-
-		float output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				float v = array[index] ;
-				if( v > output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -2093,7 +1747,7 @@ public class ImageStatistics {
 	private static double meanDiffSq(float []dataA, int startIndexA , int strideA,
 									float []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		float total = 0;
+		double total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -2139,7 +1793,7 @@ public class ImageStatistics {
 	private static double meanDiffAbs(float []dataA, int startIndexA , int strideA,
 									float []dataB, int startIndexB , int strideB,
 									int rows , int columns ) {
-		float total = 0;
+		double total = 0;
 
 		for (int y = 0; y < rows; y++) {
 			int indexA = startIndexA + y * strideA;
@@ -2164,22 +1818,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static float sum( GrayF32 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width;
-
-		float total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -2200,22 +1843,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static float sum( InterleavedF32 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width*img.numBands;
-
-		float total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -2236,21 +1868,11 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static float variance( GrayF32 img , float mean ) {
-
-		float variance = 0;
-
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				float d = (img.data[index]) - mean; 
-				variance += d*d;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
+		} else {
+			return ImplImageStatistics.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
 		}
-
-		return variance/(img.width*img.height);
 	}
 
 	/**
@@ -2261,15 +1883,10 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayF32 input , float minValue , int histogram[] ) {
-		Arrays.fill(histogram,0);
-
-		for( int y = 0; y < input.height; y++ ) {
-			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
-
-			while( index < end ) {
-				histogram[(int)(input.data[index++] - minValue)]++;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+		} else {
+			ImplImageStatistics.histogram(input,minValue,histogram);
 		}
 	}
 
@@ -2280,7 +1897,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static double min( GrayF64 input ) {
-		return min( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -2290,24 +1911,11 @@ public class ImageStatistics {
 	 * @return Minimum pixel value.
 	 */
 	public static double min( InterleavedF64 input ) {
-		return min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static double min( double[] array , int startIndex , int rows , int columns , int stride ) {
-
-		double output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				double v = array[index] ;
-				if( v < output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.min( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -2317,7 +1925,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static double max( GrayF64 input ) {
-		return max( input.data, input.startIndex, input.height, input.width , input.stride );
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width , input.stride );
+		}
 	}
 
 	/**
@@ -2327,24 +1939,11 @@ public class ImageStatistics {
 	 * @return Maximum pixel value.
 	 */
 	public static double max( InterleavedF64 input ) {
-		return max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
-	}
-
-	private static double max( double[] array , int startIndex , int rows , int columns , int stride ) {
-
-		double output = array[startIndex];
-
-		for( int y = 0; y < rows; y++ ) {
-			int index = startIndex + y*stride;
-			int end = index + columns;
-
-			for( ; index < end; index++ ) {
-				double v = array[index] ;
-				if( v > output )
-					output = v;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
+		} else {
+			return ImplImageStatistics.max( input.data, input.startIndex, input.height, input.width*input.numBands , input.stride );
 		}
-		return output;
 	}
 
 	/**
@@ -2484,22 +2083,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static double sum( GrayF64 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width;
-
-		double total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -2520,22 +2108,11 @@ public class ImageStatistics {
 	 * @param img Input image. Not modified.
 	 */
 	public static double sum( InterleavedF64 img ) {
-
-		final int rows = img.height;
-		final int columns = img.width*img.numBands;
-
-		double total = 0;
-		
-		for (int y = 0; y < rows; y++) {
-			int index = img.startIndex + y * img.stride;
-			
-			int indexEnd = index+columns;
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
+		} else {
+			return ImplImageStatistics.sum(img.data,img.startIndex,img.height,img.width*img.numBands,img.stride);
 		}
-		
-		return total;
 	}
 
 	/**
@@ -2556,21 +2133,11 @@ public class ImageStatistics {
 	 * @return Pixel variance   
 	 */
 	public static double variance( GrayF64 img , double mean ) {
-
-		double variance = 0;
-
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
-				variance += d*d;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImplImageStatistics_MT.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
+		} else {
+			return ImplImageStatistics.variance(img.data,img.startIndex,img.height,img.width,img.stride,mean);
 		}
-
-		return variance/(img.width*img.height);
 	}
 
 	/**
@@ -2581,15 +2148,10 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( GrayF64 input , double minValue , int histogram[] ) {
-		Arrays.fill(histogram,0);
-
-		for( int y = 0; y < input.height; y++ ) {
-			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
-
-			while( index < end ) {
-				histogram[(int)(input.data[index++] - minValue)]++;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplImageStatistics_MT.histogram(input,minValue,histogram);
+		} else {
+			ImplImageStatistics.histogram(input,minValue,histogram);
 		}
 	}
 
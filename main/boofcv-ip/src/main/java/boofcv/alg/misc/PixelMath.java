@@ -19,6 +19,9 @@
 package boofcv.alg.misc;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.misc.impl.ImplPixelMath;
+import boofcv.alg.misc.impl.ImplPixelMath_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 import javax.annotation.Generated;
@@ -45,9 +48,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -62,23 +71,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( byte[] input , int inputStart , int inputStride ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -94,9 +94,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -111,23 +117,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( short[] input , int inputStart , int inputStride ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -143,9 +140,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -160,23 +163,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( int[] input , int inputStart , int inputStride ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -192,9 +186,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -209,23 +209,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( long[] input , int inputStart , int inputStride ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -241,9 +232,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -258,23 +255,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( float[] input , int inputStart , int inputStride ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -290,9 +278,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -307,23 +301,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		abs(input.data,input.startIndex,input.stride,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void abs( double[] input , int inputStart , int inputStride ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = Math.abs(input[indexSrc]);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.abs(input.data,input.startIndex,input.stride,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -622,9 +607,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiplyU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiplyU_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -640,24 +631,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		multiplyU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiplyU_A( byte[] input , int inputStart , int inputStride , 
-							   double value ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)Math.round((input[indexSrc] & 0xFF) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiplyU_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -674,9 +655,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -692,24 +679,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( byte[] input , int inputStart , int inputStride , 
-							   double value ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)Math.round((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -726,9 +703,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiplyU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiplyU_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -744,24 +727,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		multiplyU_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiplyU_A( short[] input , int inputStart , int inputStride , 
-							   double value ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)Math.round((input[indexSrc] & 0xFFFF) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiplyU_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -778,9 +751,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -796,24 +775,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( short[] input , int inputStart , int inputStride , 
-							   double value ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)Math.round((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -830,9 +799,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -848,24 +823,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( int[] input , int inputStart , int inputStride , 
-							   double value ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (int)Math.round((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -882,9 +847,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -900,24 +871,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( long[] input , int inputStart , int inputStride , 
-							   double value ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (long)Math.round((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -934,9 +895,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -952,24 +919,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( float[] input , int inputStart , int inputStride , 
-							   float value ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -986,9 +943,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1004,24 +967,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( double[] input , int inputStart , int inputStride , 
-							   double value ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) * value);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1038,9 +991,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1056,28 +1015,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiplyU_A( byte[] input , int inputStart , int inputStride , 
-							   double value , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] & 0xFF) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
-		}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1093,9 +1039,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1111,27 +1063,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( byte[] input , int inputStart , int inputStride , 
-							   double value , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1148,9 +1087,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1166,27 +1111,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiplyU_A( short[] input , int inputStart , int inputStride , 
-							   double value , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] & 0xFFFF) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiplyU_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1203,9 +1135,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1221,27 +1159,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( short[] input , int inputStart , int inputStride , 
-							   double value , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1258,9 +1183,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1276,27 +1207,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( int[] input , int inputStart , int inputStride , 
-							   double value , int lower , int upper ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1313,9 +1231,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1331,27 +1255,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( long[] input , int inputStart , int inputStride , 
-							   double value , long lower , long upper ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				long val = (long)Math.round((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1368,9 +1279,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1386,27 +1303,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( float[] input , int inputStart , int inputStride , 
-							   float value , float lower , float upper ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				float val = ((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1423,9 +1327,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1441,27 +1351,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void multiply_A( double[] input , int inputStart , int inputStride , 
-							   double value , double lower , double upper ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				double val = ((input[indexSrc] ) * value);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.multiply_A(input.data,input.startIndex,input.stride,value, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1477,9 +1374,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divideU_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divideU_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1494,24 +1397,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		divideU_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divideU_A( byte[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)Math.round((input[indexSrc] & 0xFF) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divideU_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1527,9 +1420,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1544,24 +1443,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( byte[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (byte)Math.round((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1577,9 +1466,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divideU_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divideU_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1594,24 +1489,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		divideU_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divideU_A( short[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)Math.round((input[indexSrc] & 0xFFFF) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divideU_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1627,9 +1512,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1644,24 +1535,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( short[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (short)Math.round((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1677,9 +1558,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1694,24 +1581,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( int[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (int)Math.round((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1727,9 +1604,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1744,24 +1627,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( long[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = (long)Math.round((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1777,9 +1650,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1794,24 +1673,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( float[] input , int inputStart , int inputStride , 
-							   float denominator ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1827,9 +1696,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1844,24 +1719,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShapeB(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator , 
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( double[] input , int inputStart , int inputStride , 
-							   double denominator ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output[indexDst] = ((input[indexSrc] ) / denominator);
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator , 
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1877,9 +1742,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1894,27 +1765,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divideU_A( byte[] input , int inputStart , int inputStride , 
-							   double denominator , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] & 0xFF) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1930,9 +1788,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -1941,33 +1805,20 @@ public class PixelMath {
 	 * @param input The input image. Not modified.
 	 * @param denominator What each element is divided by.
 	 * @param output The output image. Modified.
-	 */
-	public static void divide( InterleavedS8 input , double denominator , int lower , int upper , InterleavedS8 output ) {
-
-		InputSanityCheck.checkSameShape(input,output);
-
-		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
+	 */
+	public static void divide( InterleavedS8 input , double denominator , int lower , int upper , InterleavedS8 output ) {
 
-	private static void divide_A( byte[] input , int inputStart , int inputStride , 
-							   double denominator , int lower , int upper ,
-							   byte[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
+		InputSanityCheck.checkSameShape(input,output);
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (byte)val;
-			}
+		int columns = input.width*input.numBands;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -1983,9 +1834,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -2000,27 +1857,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divideU_A( short[] input , int inputStart , int inputStride , 
-							   double denominator , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] & 0xFFFF) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divideU_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -2036,9 +1880,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -2053,27 +1903,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( short[] input , int inputStart , int inputStride , 
-							   double denominator , int lower , int upper ,
-							   short[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = (short)val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -2089,9 +1926,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -2106,27 +1949,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( int[] input , int inputStart , int inputStride , 
-							   double denominator , int lower , int upper ,
-							   int[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				int val = (int)Math.round((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -2142,9 +1972,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -2159,27 +1995,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( long[] input , int inputStart , int inputStride , 
-							   double denominator , long lower , long upper ,
-							   long[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				long val = (long)Math.round((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -2195,9 +2018,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -2212,27 +2041,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( float[] input , int inputStart , int inputStride , 
-							   float denominator , float lower , float upper ,
-							   float[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				float val = ((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -2248,9 +2064,15 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		}
 	}
 
 	/**
@@ -2265,27 +2087,14 @@ public class PixelMath {
 		InputSanityCheck.checkSameShape(input,output);
 
 		int columns = input.width*input.numBands;
-		divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
-				output.data,output.startIndex,output.stride,
-				input.height,columns);
-	}
-
-	private static void divide_A( double[] input , int inputStart , int inputStride , 
-							   double denominator , double lower , double upper ,
-							   double[] output , int outputStart , int outputStride ,
-							   int rows , int cols )
-	{
-		for( int y = 0; y < rows; y++ ) {
-			int indexSrc = inputStart + y*inputStride;
-			int indexDst = outputStart + y*outputStride;
-			int end = indexSrc + cols;
-
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				double val = ((input[indexSrc] ) / denominator);
-				if( val < lower ) val = lower;
-				if( val > upper ) val = upper;
-				output[indexDst] = val;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
+		} else {
+			ImplPixelMath.divide_A(input.data,input.startIndex,input.stride,denominator, lower, upper ,
+					output.data,output.startIndex,output.stride,
+					input.height,columns);
 		}
 	}
 
@@ -4769,22 +4578,10 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayU8 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		byte[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index]& 0xFF;
-				if( value < min )
-					data[index] = (byte)min;
-				else if( value > max )
-					data[index] = (byte)max;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -4799,20 +4596,11 @@ public class PixelMath {
 	 */
 	public static void diffAbs(GrayU8 imgA , GrayU8 imgB , GrayU8 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (byte)Math.abs((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -4852,22 +4640,10 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayS8 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		byte[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index];
-				if( value < min )
-					data[index] = (byte)min;
-				else if( value > max )
-					data[index] = (byte)max;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -4882,20 +4658,11 @@ public class PixelMath {
 	 */
 	public static void diffAbs(GrayS8 imgA , GrayS8 imgB , GrayS8 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (byte)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -4935,22 +4702,10 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayU16 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		short[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index]& 0xFFFF;
-				if( value < min )
-					data[index] = (short)min;
-				else if( value > max )
-					data[index] = (short)max;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -4965,20 +4720,11 @@ public class PixelMath {
 	 */
 	public static void diffAbs(GrayU16 imgA , GrayU16 imgB , GrayU16 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (short)Math.abs((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -5018,22 +4764,10 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayS16 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		short[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index];
-				if( value < min )
-					data[index] = (short)min;
-				else if( value > max )
-					data[index] = (short)max;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -5048,20 +4782,11 @@ public class PixelMath {
 	 */
 	public static void diffAbs(GrayS16 imgA , GrayS16 imgB , GrayS16 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (short)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -5101,22 +4826,10 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayS32 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		int[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -5131,20 +4844,11 @@ public class PixelMath {
 	 */
 	public static void diffAbs(GrayS32 imgA , GrayS32 imgB , GrayS32 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (int)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -5184,22 +4888,10 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayS64 img , long min , long max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		long[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				long value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -5214,20 +4906,11 @@ public class PixelMath {
 	 */
 	public static void diffAbs(GrayS64 imgA , GrayS64 imgB , GrayS64 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (long)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -5267,22 +4950,10 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayF32 img , float min , float max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		float[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				float value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -5297,20 +4968,11 @@ public class PixelMath {
 	 */
 	public static void diffAbs(GrayF32 imgA , GrayF32 imgB , GrayF32 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -5350,22 +5012,10 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage(GrayF64 img , double min , double max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
-
-		double[] data = img.data;
-
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				double value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.boundImage(img,min,max);
+		} else {
+			ImplPixelMath.boundImage(img,min,max);
 		}
 	}
 
@@ -5380,20 +5030,11 @@ public class PixelMath {
 	 */
 	public static void diffAbs(GrayF64 imgA , GrayF64 imgB , GrayF64 diff ) {
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
-			}
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplPixelMath_MT.diffAbs(imgA,imgB,diff);
+		} else {
+			ImplPixelMath.diffAbs(imgA,imgB,diff);
 		}
 	}
 
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.filter.binary.BinaryImageOps;
+import boofcv.alg.filter.binary.GThresholdImageOps;
+import boofcv.alg.filter.blur.GBlurImageOps;
+import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel2D;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.TiledImage;
+
+import java.util.function.BiConsumer;
+
+/**
+ * <p>
+ * Applies image processing operations to a {@link TiledImage} one tile at a time, allowing images which are too
+ * large to fit in memory to be processed. For each tile in the output image the corresponding region in the
+ * input image is read, expanded by a halo, processed with the regular in-memory function, and the tile is cut
+ * out of the result and written.
+ * </p>
+ *
+ * <p>
+ * The halo is clipped by the image border, so pixels close to the border are processed by the in-memory
+ * function exactly as they would be if the entire image was in memory. As long as the halo is at least as
+ * large as the distance from which an output pixel's value is influenced by the input image the results
+ * are the same as processing the entire image at once. Floating point images can differ in the last bit when
+ * an in-memory function selects a different code path based on the size of the image.
+ * </p>
+ *
+ * <p>
+ * Tiles are processed sequentially. The in-memory functions will use concurrent implementations when available.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class TiledImageOps {
+
+	/**
+	 * Applies an arbitrary operation to each tile. The operation is passed an input image and an output image with
+	 * the same shape.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Must have the same shape as the input. Modified.
+	 * @param halo How far away an input pixel can be and still influence the value of an output pixel.
+	 * @param operation Operation applied to each tile, e.g. (a,b)-&gt;BlurImageOps.mean(a,b,2,null)
+	 */
+	public static <In extends ImageGray<In>, Out extends ImageGray<Out>>
+	void process( TiledImage<In> input , TiledImage<Out> output , int halo , BiConsumer<In,Out> operation ) {
+		if( input.getWidth() != output.getWidth() || input.getHeight() != output.getHeight() )
+			throw new IllegalArgumentException("Input and output must have the same shape");
+		if( halo < 0 )
+			throw new IllegalArgumentException("Halo can't be negative");
+
+		In workIn = input.getImageType().createImage(1,1);
+		Out workOut = output.getImageType().createImage(1,1);
+		Out tile = null;
+
+		for( int tileY = 0; tileY < output.getNumTilesY(); tileY++ ) {
+			int y0 = tileY*output.getTileHeight();
+			int y1 = y0 + output.getTileHeight(tileY);
+			int regionY0 = Math.max(0,y0-halo);
+			int regionY1 = Math.min(output.getHeight(),y1+halo);
+
+			for( int tileX = 0; tileX < output.getNumTilesX(); tileX++ ) {
+				int x0 = tileX*output.getTileWidth();
+				int x1 = x0 + output.getTileWidth(tileX);
+				int regionX0 = Math.max(0,x0-halo);
+				int regionX1 = Math.min(output.getWidth(),x1+halo);
+
+				workIn.reshape(regionX1-regionX0,regionY1-regionY0);
+				workOut.reshape(workIn.width,workIn.height);
+				input.read(regionX0,regionY0,workIn);
+
+				operation.accept(workIn,workOut);
+
+				tile = workOut.subimage(x0-regionX0,y0-regionY0,x1-regionX0,y1-regionY0,tile);
+				output.write(x0,y0,tile);
+			}
+		}
+	}
+
+	/**
+	 * Tiled version of {@link GBlurImageOps#gaussian}.
+	 *
+	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
+	 */
+	public static <T extends ImageGray<T>>
+	void gaussian( TiledImage<T> input , TiledImage<T> output , double sigma , int radius ) {
+		if( radius <= 0 )
+			radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+		final int r = radius;
+		process(input,output,radius,(a,b)->GBlurImageOps.gaussian(a,b,sigma,r,null));
+	}
+
+	/**
+	 * Tiled version of {@link GConvolveImageOps}.convolveNormalized() with a 2D kernel.
+	 */
+	public static <T extends ImageGray<T>, K extends Kernel2D>
+	void convolveNormalized( K kernel , TiledImage<T> input , TiledImage<T> output ) {
+		int halo = Math.max(kernel.getOffset(),kernel.getWidth()-kernel.getOffset()-1);
+		process(input,output,halo,(a,b)->GConvolveImageOps.convolveNormalized(kernel,a,b));
+	}
+
+	/**
+	 * Tiled version of {@link GThresholdImageOps#threshold}.
+	 */
+	public static <T extends ImageGray<T>>
+	void threshold( TiledImage<T> input , TiledImage<GrayU8> output , double threshold , boolean down ) {
+		process(input,output,0,(a,b)->GThresholdImageOps.threshold(a,b,threshold,down));
+	}
+
+	/**
+	 * Tiled version of {@link BinaryImageOps#erode4}.
+	 */
+	public static void erode4( TiledImage<GrayU8> input , int numTimes , TiledImage<GrayU8> output ) {
+		process(input,output,numTimes,(a,b)->BinaryImageOps.erode4(a,numTimes,b));
+	}
+
+	/**
+	 * Tiled version of {@link BinaryImageOps#dilate4}.
+	 */
+	public static void dilate4( TiledImage<GrayU8> input , int numTimes , TiledImage<GrayU8> output ) {
+		process(input,output,numTimes,(a,b)->BinaryImageOps.dilate4(a,numTimes,b));
+	}
+
+	/**
+	 * Tiled version of {@link BinaryImageOps#erode8}.
+	 */
+	public static void erode8( TiledImage<GrayU8> input , int numTimes , TiledImage<GrayU8> output ) {
+		process(input,output,numTimes,(a,b)->BinaryImageOps.erode8(a,numTimes,b));
+	}
+
+	/**
+	 * Tiled version of {@link BinaryImageOps#dilate8}.
+	 */
+	public static void dilate8( TiledImage<GrayU8> input , int numTimes , TiledImage<GrayU8> output ) {
+		process(input,output,numTimes,(a,b)->BinaryImageOps.dilate8(a,numTimes,b));
+	}
+
+	/**
+	 * <p>
+	 * Tiled version of {@link ImageDistort#apply}. For each output tile the bounding box of the source pixels it
+	 * samples is found by applying the transform to every pixel in the tile. That region, expanded by the
+	 * interpolation's support, is read from the input image and the distortion is applied to it.
+	 * </p>
+	 *
+	 * <p>
+	 * Only image borders which depend on nearby pixels, e.g. extended or zero, will produce the same results as
+	 * the in-memory function. Source coordinates are shifted into the region's frame, which can change the last
+	 * bit of the interpolated values. A distortion which doesn't cache the transform should be used, since the
+	 * model is changed for each tile. After it returns the distortion's model is set to dstToSrc.
+	 * </p>
+	 *
+	 * @param input Source image. Not modified.
+	 * @param output Destination image. Modified.
+	 * @param distorter Applies the distortion to an image in memory
+	 * @param dstToSrc Transform from output pixels to input pixels
+	 * @param halo Support radius of the interpolation. 1 for bilinear, 2 for bicubic.
+	 */
+	public static <In extends ImageGray<In>, Out extends ImageGray<Out>>
+	void distort( TiledImage<In> input , TiledImage<Out> output ,
+				  ImageDistort<In,Out> distorter , PixelTransform2_F32 dstToSrc , int halo ) {
+		In workIn = input.getImageType().createImage(1,1);
+		Out workOut = output.createTileImage();
+		OffsetTransform offset = new OffsetTransform(dstToSrc);
+
+		try {
+			for( int tileY = 0; tileY < output.getNumTilesY(); tileY++ ) {
+				for( int tileX = 0; tileX < output.getNumTilesX(); tileX++ ) {
+					int x0 = tileX*output.getTileWidth();
+					int y0 = tileY*output.getTileHeight();
+					output.readTile(tileX,tileY,workOut);
+
+					// find the region in the source image which is sampled
+					float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE;
+					float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+					for( int y = y0; y < y0 + workOut.height; y++ ) {
+						for( int x = x0; x < x0 + workOut.width; x++ ) {
+							dstToSrc.compute(x,y);
+							float sx = dstToSrc.distX, sy = dstToSrc.distY;
+							if( Float.isNaN(sx) || Float.isNaN(sy) )
+								continue;
+							if( sx < minX ) minX = sx;
+							if( sx > maxX ) maxX = sx;
+							if( sy < minY ) minY = sy;
+							if( sy > maxY ) maxY = sy;
+						}
+					}
+					if( minX > maxX ) {
+						minX = maxX = minY = maxY = 0;
+					}
+
+					// pixels outside the image are handled by the border, which samples the closest pixels
+					int regionX0 = clamp((int)Math.floor(minX)-halo,input.getWidth());
+					int regionY0 = clamp((int)Math.floor(minY)-halo,input.getHeight());
+					int regionX1 = clamp((int)Math.floor(maxX)+halo,input.getWidth())+1;
+					int regionY1 = clamp((int)Math.floor(maxY)+halo,input.getHeight())+1;
+
+					workIn.reshape(regionX1-regionX0,regionY1-regionY0);
+					input.read(regionX0,regionY0,workIn);
+
+					offset.set(x0,y0,regionX0,regionY0);
+					distorter.setModel(offset);
+					distorter.apply(workIn,workOut);
+
+					output.writeTile(tileX,tileY,workOut);
+				}
+			}
+		} finally {
+			distorter.setModel(dstToSrc);
+		}
+	}
+
+	private static int clamp( int value , int length ) {
+		return Math.max(0,Math.min(length-1,value));
+	}
+
+	/**
+	 * Converts coordinates between the tile and region frames and the full image frames
+	 */
+	private static class OffsetTransform extends PixelTransform2_F32 {
+		PixelTransform2_F32 transform;
+		int dstX0, dstY0;
+		int srcX0, srcY0;
+
+		OffsetTransform(PixelTransform2_F32 transform) {
+			this.transform = transform;
+		}
+
+		void set( int dstX0 , int dstY0 , int srcX0 , int srcY0 ) {
+			this.dstX0 = dstX0;
+			this.dstY0 = dstY0;
+			this.srcX0 = srcX0;
+			this.srcY0 = srcY0;
+		}
+
+		@Override
+		public void compute(int x, int y) {
+			transform.compute(x+dstX0,y+dstY0);
+			distX = transform.distX - srcX0;
+			distY = transform.distY - srcY0;
+		}
+	}
+}
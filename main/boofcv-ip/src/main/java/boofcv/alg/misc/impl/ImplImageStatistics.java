@@ -0,0 +1,1002 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc.impl;
+
+import boofcv.struct.image.*;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Implementations of functions in {@link boofcv.alg.misc.ImageStatistics}. In the concurrent implementation
+ * each block of rows is reduced into its own partial result and the partial results are then merged together,
+ * avoiding any contention between threads.
+ * </p>
+ *
+ * <p>
+ * Sums, minimums, and maximums are first computed for each row and the row results are then combined in order.
+ * The result is thus the same in the single threaded and concurrent implementations and does not depend on
+ * the number of threads, even when floating point round off error is a factor.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplImageStatistics {
+
+	//CONCURRENT_INLINE // the histogram for each block is leased so that it's not declared each time
+	//CONCURRENT_INLINE private static final ImageType<GrayS32> HISTOGRAM = ImageType.single(GrayS32.class);
+
+	public static int minU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowResults = new int[rows];
+		int output = array[startIndex]& 0xFF;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index]& 0xFF;
+			for( ; index < end; index++ ) {
+				int v = array[index]& 0xFF;
+				if( v < rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult < output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] < output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static int maxU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowResults = new int[rows];
+		int output = array[startIndex]& 0xFF;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index]& 0xFF;
+			for( ; index < end; index++ ) {
+				int v = array[index]& 0xFF;
+				if( v > rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult > output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] > output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static int sumU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowSums = new int[rows];
+		int total = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index]& 0xFF;
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			total += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	total += rowSums[y];
+		//CONCURRENT_INLINE }
+		return total;
+	}
+
+	public static double varianceU( byte[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		//CONCURRENT_INLINE final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]& 0xFF) - mean;
+				rowSum += d*d;
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			variance += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	variance += rowSums[y];
+		//CONCURRENT_INLINE }
+		return variance/(rows*columns);
+	}
+
+	public static int min( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult < output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] < output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static int max( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult > output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] > output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static int sum( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowSums = new int[rows];
+		int total = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			total += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	total += rowSums[y];
+		//CONCURRENT_INLINE }
+		return total;
+	}
+
+	public static double variance( byte[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		//CONCURRENT_INLINE final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			variance += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	variance += rowSums[y];
+		//CONCURRENT_INLINE }
+		return variance/(rows*columns);
+	}
+
+	public static int minU( short[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowResults = new int[rows];
+		int output = array[startIndex]& 0xFFFF;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index]& 0xFFFF;
+			for( ; index < end; index++ ) {
+				int v = array[index]& 0xFFFF;
+				if( v < rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult < output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] < output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static int maxU( short[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowResults = new int[rows];
+		int output = array[startIndex]& 0xFFFF;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index]& 0xFFFF;
+			for( ; index < end; index++ ) {
+				int v = array[index]& 0xFFFF;
+				if( v > rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult > output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] > output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static int sumU( short[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowSums = new int[rows];
+		int total = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index]& 0xFFFF;
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			total += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	total += rowSums[y];
+		//CONCURRENT_INLINE }
+		return total;
+	}
+
+	public static double varianceU( short[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		//CONCURRENT_INLINE final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]& 0xFFFF) - mean;
+				rowSum += d*d;
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			variance += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	variance += rowSums[y];
+		//CONCURRENT_INLINE }
+		return variance/(rows*columns);
+	}
+
+	public static int min( short[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult < output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] < output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static int max( short[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult > output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] > output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static int sum( short[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowSums = new int[rows];
+		int total = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			total += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	total += rowSums[y];
+		//CONCURRENT_INLINE }
+		return total;
+	}
+
+	public static double variance( short[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		//CONCURRENT_INLINE final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			variance += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	variance += rowSums[y];
+		//CONCURRENT_INLINE }
+		return variance/(rows*columns);
+	}
+
+	public static int min( int[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult < output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] < output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static int max( int[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult > output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] > output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static int sum( int[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final int[] rowSums = new int[rows];
+		int total = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			total += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	total += rowSums[y];
+		//CONCURRENT_INLINE }
+		return total;
+	}
+
+	public static double variance( int[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		//CONCURRENT_INLINE final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			variance += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	variance += rowSums[y];
+		//CONCURRENT_INLINE }
+		return variance/(rows*columns);
+	}
+
+	public static long min( long[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final long[] rowResults = new long[rows];
+		long output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			long rowResult = array[index];
+			for( ; index < end; index++ ) {
+				long v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult < output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] < output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static long max( long[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final long[] rowResults = new long[rows];
+		long output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			long rowResult = array[index];
+			for( ; index < end; index++ ) {
+				long v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult > output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] > output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static long sum( long[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final long[] rowSums = new long[rows];
+		long total = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			long rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			total += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	total += rowSums[y];
+		//CONCURRENT_INLINE }
+		return total;
+	}
+
+	public static double variance( long[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		//CONCURRENT_INLINE final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			variance += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	variance += rowSums[y];
+		//CONCURRENT_INLINE }
+		return variance/(rows*columns);
+	}
+
+	public static float min( float[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final float[] rowResults = new float[rows];
+		float output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			float rowResult = array[index];
+			for( ; index < end; index++ ) {
+				float v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult < output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] < output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static float max( float[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final float[] rowResults = new float[rows];
+		float output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			float rowResult = array[index];
+			for( ; index < end; index++ ) {
+				float v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult > output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] > output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static float sum( float[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final float[] rowSums = new float[rows];
+		float total = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			float rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			total += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	total += rowSums[y];
+		//CONCURRENT_INLINE }
+		return total;
+	}
+
+	public static float variance( float[] array , int startIndex , int rows , int columns , int stride , float mean ) {
+		//CONCURRENT_INLINE final float[] rowSums = new float[rows];
+		float variance = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			float rowSum = 0;
+			for( ; index < end; index++ ) {
+				float d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			variance += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	variance += rowSums[y];
+		//CONCURRENT_INLINE }
+		return variance/(rows*columns);
+	}
+
+	public static double min( double[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final double[] rowResults = new double[rows];
+		double output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowResult = array[index];
+			for( ; index < end; index++ ) {
+				double v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult < output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] < output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static double max( double[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final double[] rowResults = new double[rows];
+		double output = array[startIndex];
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowResult = array[index];
+			for( ; index < end; index++ ) {
+				double v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			//CONCURRENT_BELOW rowResults[y] = rowResult;
+			if( rowResult > output ) output = rowResult;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	if( rowResults[y] > output ) output = rowResults[y];
+		//CONCURRENT_INLINE }
+		return output;
+	}
+
+	public static double sum( double[] array , int startIndex , int rows , int columns , int stride ) {
+		//CONCURRENT_INLINE final double[] rowSums = new double[rows];
+		double total = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			total += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	total += rowSums[y];
+		//CONCURRENT_INLINE }
+		return total;
+	}
+
+	public static double variance( double[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		//CONCURRENT_INLINE final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0,rows,y->{
+		for( int y = 0; y < rows; y++ ) {
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			//CONCURRENT_BELOW rowSums[y] = rowSum;
+			variance += rowSum;
+		//CONCURRENT_BELOW });
+		}
+		//CONCURRENT_INLINE for( int y = 0; y < rows; y++ ) {
+		//CONCURRENT_INLINE 	variance += rowSums[y];
+		//CONCURRENT_INLINE }
+		return variance/(rows*columns);
+	}
+
+	public static void histogram( GrayU8 input , int minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 work = leaseHistogram(histogram.length);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(input.data[index++]& 0xFF) - minValue]++;
+			}
+		}
+		//CONCURRENT_INLINE mergeHistogram(work,histogram);
+		//CONCURRENT_INLINE });
+	}
+
+	public static void histogram( GrayS8 input , int minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 work = leaseHistogram(histogram.length);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(input.data[index++]) - minValue]++;
+			}
+		}
+		//CONCURRENT_INLINE mergeHistogram(work,histogram);
+		//CONCURRENT_INLINE });
+	}
+
+	public static void histogram( GrayU16 input , int minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 work = leaseHistogram(histogram.length);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(input.data[index++]& 0xFFFF) - minValue]++;
+			}
+		}
+		//CONCURRENT_INLINE mergeHistogram(work,histogram);
+		//CONCURRENT_INLINE });
+	}
+
+	public static void histogram( GrayS16 input , int minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 work = leaseHistogram(histogram.length);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(input.data[index++]) - minValue]++;
+			}
+		}
+		//CONCURRENT_INLINE mergeHistogram(work,histogram);
+		//CONCURRENT_INLINE });
+	}
+
+	public static void histogram( GrayS32 input , int minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 work = leaseHistogram(histogram.length);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(input.data[index++]) - minValue]++;
+			}
+		}
+		//CONCURRENT_INLINE mergeHistogram(work,histogram);
+		//CONCURRENT_INLINE });
+	}
+
+	public static void histogram( GrayS64 input , long minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 work = leaseHistogram(histogram.length);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(int)(input.data[index++] - minValue)]++;
+			}
+		}
+		//CONCURRENT_INLINE mergeHistogram(work,histogram);
+		//CONCURRENT_INLINE });
+	}
+
+	public static void histogram( GrayF32 input , float minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 work = leaseHistogram(histogram.length);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(int)(input.data[index++] - minValue)]++;
+			}
+		}
+		//CONCURRENT_INLINE mergeHistogram(work,histogram);
+		//CONCURRENT_INLINE });
+	}
+
+	public static void histogram( GrayF64 input , double minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 work = leaseHistogram(histogram.length);
+		//CONCURRENT_BELOW final int[] h = work.data;
+		final int[] h = histogram;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(int)(input.data[index++] - minValue)]++;
+			}
+		}
+		//CONCURRENT_INLINE mergeHistogram(work,histogram);
+		//CONCURRENT_INLINE });
+	}
+
+	//CONCURRENT_INLINE /**
+	//CONCURRENT_INLINE  * Leases the histogram for a block of rows and sets it to zero
+	//CONCURRENT_INLINE  */
+	//CONCURRENT_INLINE private static GrayS32 leaseHistogram( int length ) {
+	//CONCURRENT_INLINE 	GrayS32 work = ImagePool.getDefault().acquire(HISTOGRAM,length,1);
+	//CONCURRENT_INLINE 	Arrays.fill(work.data,0,length,0);
+	//CONCURRENT_INLINE 	return work;
+	//CONCURRENT_INLINE }
+
+	//CONCURRENT_INLINE /**
+	//CONCURRENT_INLINE  * Adds the histogram for a block of rows to the total and returns it to the pool
+	//CONCURRENT_INLINE  */
+	//CONCURRENT_INLINE private static void mergeHistogram( GrayS32 work , int[] histogram ) {
+	//CONCURRENT_INLINE 	synchronized( histogram ) {
+	//CONCURRENT_INLINE 		for (int i = 0; i < histogram.length; i++) {
+	//CONCURRENT_INLINE 			histogram[i] += work.data[i];
+	//CONCURRENT_INLINE 		}
+	//CONCURRENT_INLINE 	}
+	//CONCURRENT_INLINE 	ImagePool.getDefault().release(work);
+	//CONCURRENT_INLINE }
+}
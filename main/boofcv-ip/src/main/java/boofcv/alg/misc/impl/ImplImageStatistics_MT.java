@@ -0,0 +1,896 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+import java.util.Arrays;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>
+ * Implementations of functions in {@link boofcv.alg.misc.ImageStatistics}. In the concurrent implementation
+ * each block of rows is reduced into its own partial result and the partial results are then merged together,
+ * avoiding any contention between threads.
+ * </p>
+ *
+ * <p>
+ * Sums, minimums, and maximums are first computed for each row and the row results are then combined in order.
+ * The result is thus the same in the single threaded and concurrent implementations and does not depend on
+ * the number of threads, even when floating point round off error is a factor.
+ * </p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by AutocodeConcurrentApp</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("boofcv.alg.misc.impl.ImplImageStatistics")
+public class ImplImageStatistics_MT {
+
+	// the histogram for each block is leased so that it's not declared each time
+	private static final ImageType<GrayS32> HISTOGRAM = ImageType.single(GrayS32.class);
+
+	public static int minU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowResults = new int[rows];
+		int output = array[startIndex]& 0xFF;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index]& 0xFF;
+			for( ; index < end; index++ ) {
+				int v = array[index]& 0xFF;
+				if( v < rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] < output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static int maxU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowResults = new int[rows];
+		int output = array[startIndex]& 0xFF;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index]& 0xFF;
+			for( ; index < end; index++ ) {
+				int v = array[index]& 0xFF;
+				if( v > rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] > output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static int sumU( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowSums = new int[rows];
+		int total = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index]& 0xFF;
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			total += rowSums[y];
+		}
+		return total;
+	}
+
+	public static double varianceU( byte[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]& 0xFF) - mean;
+				rowSum += d*d;
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			variance += rowSums[y];
+		}
+		return variance/(rows*columns);
+	}
+
+	public static int min( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] < output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static int max( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] > output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static int sum( byte[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowSums = new int[rows];
+		int total = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			total += rowSums[y];
+		}
+		return total;
+	}
+
+	public static double variance( byte[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			variance += rowSums[y];
+		}
+		return variance/(rows*columns);
+	}
+
+	public static int minU( short[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowResults = new int[rows];
+		int output = array[startIndex]& 0xFFFF;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index]& 0xFFFF;
+			for( ; index < end; index++ ) {
+				int v = array[index]& 0xFFFF;
+				if( v < rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] < output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static int maxU( short[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowResults = new int[rows];
+		int output = array[startIndex]& 0xFFFF;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index]& 0xFFFF;
+			for( ; index < end; index++ ) {
+				int v = array[index]& 0xFFFF;
+				if( v > rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] > output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static int sumU( short[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowSums = new int[rows];
+		int total = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index]& 0xFFFF;
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			total += rowSums[y];
+		}
+		return total;
+	}
+
+	public static double varianceU( short[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]& 0xFFFF) - mean;
+				rowSum += d*d;
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			variance += rowSums[y];
+		}
+		return variance/(rows*columns);
+	}
+
+	public static int min( short[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] < output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static int max( short[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] > output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static int sum( short[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowSums = new int[rows];
+		int total = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			total += rowSums[y];
+		}
+		return total;
+	}
+
+	public static double variance( short[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			variance += rowSums[y];
+		}
+		return variance/(rows*columns);
+	}
+
+	public static int min( int[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] < output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static int max( int[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowResults = new int[rows];
+		int output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowResult = array[index];
+			for( ; index < end; index++ ) {
+				int v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] > output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static int sum( int[] array , int startIndex , int rows , int columns , int stride ) {
+		final int[] rowSums = new int[rows];
+		int total = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			int rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			total += rowSums[y];
+		}
+		return total;
+	}
+
+	public static double variance( int[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			variance += rowSums[y];
+		}
+		return variance/(rows*columns);
+	}
+
+	public static long min( long[] array , int startIndex , int rows , int columns , int stride ) {
+		final long[] rowResults = new long[rows];
+		long output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			long rowResult = array[index];
+			for( ; index < end; index++ ) {
+				long v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] < output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static long max( long[] array , int startIndex , int rows , int columns , int stride ) {
+		final long[] rowResults = new long[rows];
+		long output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			long rowResult = array[index];
+			for( ; index < end; index++ ) {
+				long v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] > output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static long sum( long[] array , int startIndex , int rows , int columns , int stride ) {
+		final long[] rowSums = new long[rows];
+		long total = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			long rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			total += rowSums[y];
+		}
+		return total;
+	}
+
+	public static double variance( long[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			variance += rowSums[y];
+		}
+		return variance/(rows*columns);
+	}
+
+	public static float min( float[] array , int startIndex , int rows , int columns , int stride ) {
+		final float[] rowResults = new float[rows];
+		float output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			float rowResult = array[index];
+			for( ; index < end; index++ ) {
+				float v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] < output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static float max( float[] array , int startIndex , int rows , int columns , int stride ) {
+		final float[] rowResults = new float[rows];
+		float output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			float rowResult = array[index];
+			for( ; index < end; index++ ) {
+				float v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] > output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static float sum( float[] array , int startIndex , int rows , int columns , int stride ) {
+		final float[] rowSums = new float[rows];
+		float total = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			float rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			total += rowSums[y];
+		}
+		return total;
+	}
+
+	public static float variance( float[] array , int startIndex , int rows , int columns , int stride , float mean ) {
+		final float[] rowSums = new float[rows];
+		float variance = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			float rowSum = 0;
+			for( ; index < end; index++ ) {
+				float d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			variance += rowSums[y];
+		}
+		return variance/(rows*columns);
+	}
+
+	public static double min( double[] array , int startIndex , int rows , int columns , int stride ) {
+		final double[] rowResults = new double[rows];
+		double output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowResult = array[index];
+			for( ; index < end; index++ ) {
+				double v = array[index];
+				if( v < rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] < output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static double max( double[] array , int startIndex , int rows , int columns , int stride ) {
+		final double[] rowResults = new double[rows];
+		double output = array[startIndex];
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowResult = array[index];
+			for( ; index < end; index++ ) {
+				double v = array[index];
+				if( v > rowResult )
+					rowResult = v;
+			}
+			rowResults[y] = rowResult;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			if( rowResults[y] > output ) output = rowResults[y];
+		}
+		return output;
+	}
+
+	public static double sum( double[] array , int startIndex , int rows , int columns , int stride ) {
+		final double[] rowSums = new double[rows];
+		double total = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				rowSum += array[index];
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			total += rowSums[y];
+		}
+		return total;
+	}
+
+	public static double variance( double[] array , int startIndex , int rows , int columns , int stride , double mean ) {
+		final double[] rowSums = new double[rows];
+		double variance = 0;
+
+		BoofConcurrency.loopFor(0,rows,y->{
+			int index = startIndex + y*stride;
+			int end = index + columns;
+
+			double rowSum = 0;
+			for( ; index < end; index++ ) {
+				double d = (array[index]) - mean;
+				rowSum += d*d;
+			}
+			rowSums[y] = rowSum;
+		});
+		for( int y = 0; y < rows; y++ ) {
+			variance += rowSums[y];
+		}
+		return variance/(rows*columns);
+	}
+
+	public static void histogram( GrayU8 input , int minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		final GrayS32 work = leaseHistogram(histogram.length);
+		final int[] h = work.data;
+		for( int y = y0; y < y1; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(input.data[index++]& 0xFF) - minValue]++;
+			}
+		}
+		mergeHistogram(work,histogram);
+		});
+	}
+
+	public static void histogram( GrayS8 input , int minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		final GrayS32 work = leaseHistogram(histogram.length);
+		final int[] h = work.data;
+		for( int y = y0; y < y1; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(input.data[index++]) - minValue]++;
+			}
+		}
+		mergeHistogram(work,histogram);
+		});
+	}
+
+	public static void histogram( GrayU16 input , int minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		final GrayS32 work = leaseHistogram(histogram.length);
+		final int[] h = work.data;
+		for( int y = y0; y < y1; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(input.data[index++]& 0xFFFF) - minValue]++;
+			}
+		}
+		mergeHistogram(work,histogram);
+		});
+	}
+
+	public static void histogram( GrayS16 input , int minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		final GrayS32 work = leaseHistogram(histogram.length);
+		final int[] h = work.data;
+		for( int y = y0; y < y1; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(input.data[index++]) - minValue]++;
+			}
+		}
+		mergeHistogram(work,histogram);
+		});
+	}
+
+	public static void histogram( GrayS32 input , int minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		final GrayS32 work = leaseHistogram(histogram.length);
+		final int[] h = work.data;
+		for( int y = y0; y < y1; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(input.data[index++]) - minValue]++;
+			}
+		}
+		mergeHistogram(work,histogram);
+		});
+	}
+
+	public static void histogram( GrayS64 input , long minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		final GrayS32 work = leaseHistogram(histogram.length);
+		final int[] h = work.data;
+		for( int y = y0; y < y1; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(int)(input.data[index++] - minValue)]++;
+			}
+		}
+		mergeHistogram(work,histogram);
+		});
+	}
+
+	public static void histogram( GrayF32 input , float minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		final GrayS32 work = leaseHistogram(histogram.length);
+		final int[] h = work.data;
+		for( int y = y0; y < y1; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(int)(input.data[index++] - minValue)]++;
+			}
+		}
+		mergeHistogram(work,histogram);
+		});
+	}
+
+	public static void histogram( GrayF64 input , double minValue , int[] histogram ) {
+		Arrays.fill(histogram,0);
+
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->{
+		final GrayS32 work = leaseHistogram(histogram.length);
+		final int[] h = work.data;
+		for( int y = y0; y < y1; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width;
+
+			while( index < end ) {
+				h[(int)(input.data[index++] - minValue)]++;
+			}
+		}
+		mergeHistogram(work,histogram);
+		});
+	}
+
+	/**
+	 * Leases the histogram for a block of rows and sets it to zero
+	 */
+	private static GrayS32 leaseHistogram( int length ) {
+		GrayS32 work = ImagePool.getDefault().acquire(HISTOGRAM,length,1);
+		Arrays.fill(work.data,0,length,0);
+		return work;
+	}
+
+	/**
+	 * Adds the histogram for a block of rows to the total and returns it to the pool
+	 */
+	private static void mergeHistogram( GrayS32 work , int[] histogram ) {
+		synchronized( histogram ) {
+			for (int i = 0; i < histogram.length; i++) {
+				histogram[i] += work.data[i];
+			}
+		}
+		ImagePool.getDefault().release(work);
+	}
+}
@@ -0,0 +1,985 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+import javax.annotation.Generated;
+
+/**
+ * <p>
+ * Implementations of element-wise functions in {@link boofcv.alg.misc.PixelMath}. Every row is processed
+ * independently of the others, which is how the concurrent implementation divides up the work. The output
+ * is identical no matter how many threads are used.
+ * </p>
+ *
+ * <p>DO NOT MODIFY. Automatically generated code created by AutocodeConcurrentApp</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("boofcv.alg.misc.impl.ImplPixelMath")
+public class ImplPixelMath_MT {
+
+	public static void abs( byte[] input , int inputStart , int inputStride ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)Math.abs(input[indexSrc]);
+			}
+		});
+	}
+
+	public static void abs( short[] input , int inputStart , int inputStride ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)Math.abs(input[indexSrc]);
+			}
+		});
+	}
+
+	public static void abs( int[] input , int inputStart , int inputStride ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = Math.abs(input[indexSrc]);
+			}
+		});
+	}
+
+	public static void abs( long[] input , int inputStart , int inputStride ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = Math.abs(input[indexSrc]);
+			}
+		});
+	}
+
+	public static void abs( float[] input , int inputStart , int inputStride ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = Math.abs(input[indexSrc]);
+			}
+		});
+	}
+
+	public static void abs( double[] input , int inputStart , int inputStride ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = Math.abs(input[indexSrc]);
+			}
+		});
+	}
+
+	public static void multiplyU_A( byte[] input , int inputStart , int inputStride , 
+							   double value ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)Math.round((input[indexSrc] & 0xFF) * value);
+			}
+		});
+	}
+
+	public static void multiply_A( byte[] input , int inputStart , int inputStride , 
+							   double value ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)Math.round((input[indexSrc] ) * value);
+			}
+		});
+	}
+
+	public static void multiplyU_A( short[] input , int inputStart , int inputStride , 
+							   double value ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)Math.round((input[indexSrc] & 0xFFFF) * value);
+			}
+		});
+	}
+
+	public static void multiply_A( short[] input , int inputStart , int inputStride , 
+							   double value ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)Math.round((input[indexSrc] ) * value);
+			}
+		});
+	}
+
+	public static void multiply_A( int[] input , int inputStart , int inputStride , 
+							   double value ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (int)Math.round((input[indexSrc] ) * value);
+			}
+		});
+	}
+
+	public static void multiply_A( long[] input , int inputStart , int inputStride , 
+							   double value ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (long)Math.round((input[indexSrc] ) * value);
+			}
+		});
+	}
+
+	public static void multiply_A( float[] input , int inputStart , int inputStride , 
+							   float value ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) * value);
+			}
+		});
+	}
+
+	public static void multiply_A( double[] input , int inputStart , int inputStride , 
+							   double value ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) * value);
+			}
+		});
+	}
+
+	public static void multiplyU_A( byte[] input , int inputStart , int inputStride , 
+							   double value , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] & 0xFF) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		});
+	}
+
+	public static void multiply_A( byte[] input , int inputStart , int inputStride , 
+							   double value , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		});
+	}
+
+	public static void multiplyU_A( short[] input , int inputStart , int inputStride , 
+							   double value , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] & 0xFFFF) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		});
+	}
+
+	public static void multiply_A( short[] input , int inputStart , int inputStride , 
+							   double value , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		});
+	}
+
+	public static void multiply_A( int[] input , int inputStart , int inputStride , 
+							   double value , int lower , int upper ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		});
+	}
+
+	public static void multiply_A( long[] input , int inputStart , int inputStride , 
+							   double value , long lower , long upper ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				long val = (long)Math.round((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		});
+	}
+
+	public static void multiply_A( float[] input , int inputStart , int inputStride , 
+							   float value , float lower , float upper ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				float val = ((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		});
+	}
+
+	public static void multiply_A( double[] input , int inputStart , int inputStride , 
+							   double value , double lower , double upper ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				double val = ((input[indexSrc] ) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		});
+	}
+
+	public static void divideU_A( byte[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)Math.round((input[indexSrc] & 0xFF) / denominator);
+			}
+		});
+	}
+
+	public static void divide_A( byte[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (byte)Math.round((input[indexSrc] ) / denominator);
+			}
+		});
+	}
+
+	public static void divideU_A( short[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)Math.round((input[indexSrc] & 0xFFFF) / denominator);
+			}
+		});
+	}
+
+	public static void divide_A( short[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (short)Math.round((input[indexSrc] ) / denominator);
+			}
+		});
+	}
+
+	public static void divide_A( int[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (int)Math.round((input[indexSrc] ) / denominator);
+			}
+		});
+	}
+
+	public static void divide_A( long[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = (long)Math.round((input[indexSrc] ) / denominator);
+			}
+		});
+	}
+
+	public static void divide_A( float[] input , int inputStart , int inputStride , 
+							   float denominator ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) / denominator);
+			}
+		});
+	}
+
+	public static void divide_A( double[] input , int inputStart , int inputStride , 
+							   double denominator ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				output[indexDst] = ((input[indexSrc] ) / denominator);
+			}
+		});
+	}
+
+	public static void divideU_A( byte[] input , int inputStart , int inputStride , 
+							   double denominator , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] & 0xFF) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		});
+	}
+
+	public static void divide_A( byte[] input , int inputStart , int inputStride , 
+							   double denominator , int lower , int upper ,
+							   byte[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (byte)val;
+			}
+		});
+	}
+
+	public static void divideU_A( short[] input , int inputStart , int inputStride , 
+							   double denominator , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] & 0xFFFF) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		});
+	}
+
+	public static void divide_A( short[] input , int inputStart , int inputStride , 
+							   double denominator , int lower , int upper ,
+							   short[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = (short)val;
+			}
+		});
+	}
+
+	public static void divide_A( int[] input , int inputStart , int inputStride , 
+							   double denominator , int lower , int upper ,
+							   int[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				int val = (int)Math.round((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		});
+	}
+
+	public static void divide_A( long[] input , int inputStart , int inputStride , 
+							   double denominator , long lower , long upper ,
+							   long[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				long val = (long)Math.round((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		});
+	}
+
+	public static void divide_A( float[] input , int inputStart , int inputStride , 
+							   float denominator , float lower , float upper ,
+							   float[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				float val = ((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		});
+	}
+
+	public static void divide_A( double[] input , int inputStart , int inputStride , 
+							   double denominator , double lower , double upper ,
+							   double[] output , int outputStart , int outputStride ,
+							   int rows , int cols )
+	{
+		BoofConcurrency.loopFor(0,rows,y->{
+			int indexSrc = inputStart + y*inputStride;
+			int indexDst = outputStart + y*outputStride;
+			int end = indexSrc + cols;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++) {
+				double val = ((input[indexSrc] ) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output[indexDst] = val;
+			}
+		});
+	}
+
+	public static void boundImage( GrayU8 img , int min , int max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		byte[] data = img.data;
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int index = img.getStartIndex() + y * img.getStride();
+			int indexEnd = index+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; index < indexEnd; index++) {
+				int value = data[index]& 0xFF;
+				if( value < min )
+					data[index] = (byte)min;
+				else if( value > max )
+					data[index] = (byte)max;
+			}
+		});
+	}
+
+	public static void boundImage( GrayS8 img , int min , int max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		byte[] data = img.data;
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int index = img.getStartIndex() + y * img.getStride();
+			int indexEnd = index+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; index < indexEnd; index++) {
+				int value = data[index];
+				if( value < min )
+					data[index] = (byte)min;
+				else if( value > max )
+					data[index] = (byte)max;
+			}
+		});
+	}
+
+	public static void boundImage( GrayU16 img , int min , int max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		short[] data = img.data;
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int index = img.getStartIndex() + y * img.getStride();
+			int indexEnd = index+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; index < indexEnd; index++) {
+				int value = data[index]& 0xFFFF;
+				if( value < min )
+					data[index] = (short)min;
+				else if( value > max )
+					data[index] = (short)max;
+			}
+		});
+	}
+
+	public static void boundImage( GrayS16 img , int min , int max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		short[] data = img.data;
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int index = img.getStartIndex() + y * img.getStride();
+			int indexEnd = index+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; index < indexEnd; index++) {
+				int value = data[index];
+				if( value < min )
+					data[index] = (short)min;
+				else if( value > max )
+					data[index] = (short)max;
+			}
+		});
+	}
+
+	public static void boundImage( GrayS32 img , int min , int max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		int[] data = img.data;
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int index = img.getStartIndex() + y * img.getStride();
+			int indexEnd = index+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; index < indexEnd; index++) {
+				int value = data[index];
+				if( value < min )
+					data[index] = min;
+				else if( value > max )
+					data[index] = max;
+			}
+		});
+	}
+
+	public static void boundImage( GrayS64 img , long min , long max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		long[] data = img.data;
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int index = img.getStartIndex() + y * img.getStride();
+			int indexEnd = index+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; index < indexEnd; index++) {
+				long value = data[index];
+				if( value < min )
+					data[index] = min;
+				else if( value > max )
+					data[index] = max;
+			}
+		});
+	}
+
+	public static void boundImage( GrayF32 img , float min , float max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		float[] data = img.data;
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int index = img.getStartIndex() + y * img.getStride();
+			int indexEnd = index+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; index < indexEnd; index++) {
+				float value = data[index];
+				if( value < min )
+					data[index] = min;
+				else if( value > max )
+					data[index] = max;
+			}
+		});
+	}
+
+	public static void boundImage( GrayF64 img , double min , double max ) {
+		final int h = img.getHeight();
+		final int w = img.getWidth();
+
+		double[] data = img.data;
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int index = img.getStartIndex() + y * img.getStride();
+			int indexEnd = index+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; index < indexEnd; index++) {
+				double value = data[index];
+				if( value < min )
+					data[index] = min;
+				else if( value > max )
+					data[index] = max;
+			}
+		});
+	}
+
+	public static void diffAbs( GrayU8 imgA , GrayU8 imgB , GrayU8 diff ) {
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int indexA = imgA.getStartIndex() + y * imgA.getStride();
+			int indexB = imgB.getStartIndex() + y * imgB.getStride();
+			int indexDiff = diff.getStartIndex() + y * diff.getStride();
+			
+			int indexEnd = indexA+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+				diff.data[indexDiff] = (byte)Math.abs((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
+			}
+		});
+	}
+
+	public static void diffAbs( GrayS8 imgA , GrayS8 imgB , GrayS8 diff ) {
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int indexA = imgA.getStartIndex() + y * imgA.getStride();
+			int indexB = imgB.getStartIndex() + y * imgB.getStride();
+			int indexDiff = diff.getStartIndex() + y * diff.getStride();
+			
+			int indexEnd = indexA+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+				diff.data[indexDiff] = (byte)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+			}
+		});
+	}
+
+	public static void diffAbs( GrayU16 imgA , GrayU16 imgB , GrayU16 diff ) {
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int indexA = imgA.getStartIndex() + y * imgA.getStride();
+			int indexB = imgB.getStartIndex() + y * imgB.getStride();
+			int indexDiff = diff.getStartIndex() + y * diff.getStride();
+			
+			int indexEnd = indexA+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+				diff.data[indexDiff] = (short)Math.abs((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
+			}
+		});
+	}
+
+	public static void diffAbs( GrayS16 imgA , GrayS16 imgB , GrayS16 diff ) {
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int indexA = imgA.getStartIndex() + y * imgA.getStride();
+			int indexB = imgB.getStartIndex() + y * imgB.getStride();
+			int indexDiff = diff.getStartIndex() + y * diff.getStride();
+			
+			int indexEnd = indexA+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+				diff.data[indexDiff] = (short)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+			}
+		});
+	}
+
+	public static void diffAbs( GrayS32 imgA , GrayS32 imgB , GrayS32 diff ) {
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int indexA = imgA.getStartIndex() + y * imgA.getStride();
+			int indexB = imgB.getStartIndex() + y * imgB.getStride();
+			int indexDiff = diff.getStartIndex() + y * diff.getStride();
+			
+			int indexEnd = indexA+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+				diff.data[indexDiff] = (int)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+			}
+		});
+	}
+
+	public static void diffAbs( GrayS64 imgA , GrayS64 imgB , GrayS64 diff ) {
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int indexA = imgA.getStartIndex() + y * imgA.getStride();
+			int indexB = imgB.getStartIndex() + y * imgB.getStride();
+			int indexDiff = diff.getStartIndex() + y * diff.getStride();
+			
+			int indexEnd = indexA+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+				diff.data[indexDiff] = (long)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+			}
+		});
+	}
+
+	public static void diffAbs( GrayF32 imgA , GrayF32 imgB , GrayF32 diff ) {
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int indexA = imgA.getStartIndex() + y * imgA.getStride();
+			int indexB = imgB.getStartIndex() + y * imgB.getStride();
+			int indexDiff = diff.getStartIndex() + y * diff.getStride();
+			
+			int indexEnd = indexA+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+				diff.data[indexDiff] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+			}
+		});
+	}
+
+	public static void diffAbs( GrayF64 imgA , GrayF64 imgB , GrayF64 diff ) {
+		final int h = imgA.getHeight();
+		final int w = imgA.getWidth();
+
+		BoofConcurrency.loopFor(0,h,y->{
+			int indexA = imgA.getStartIndex() + y * imgA.getStride();
+			int indexB = imgB.getStartIndex() + y * imgB.getStride();
+			int indexDiff = diff.getStartIndex() + y * diff.getStride();
+			
+			int indexEnd = indexA+w;
+			// for(int x = 0; x < w; x++ ) {
+			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
+				diff.data[indexDiff] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+			}
+		});
+	}
+}
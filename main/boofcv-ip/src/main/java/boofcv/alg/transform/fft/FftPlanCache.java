@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Cache of 1D FFT plans which are looked up by the number of elements. Creating a plan requires its trigonometric
+ * tables to be computed, which can take longer than the transform itself. When a stream of images with the same
+ * shape is processed the tables only need to be computed once.
+ * </p>
+ *
+ * <p>
+ * The returned instances share the tables with the cached plan but have their own local storage, so each thread
+ * can safely use its own instance. At most {@link #getMaxPlans()} plans of each type are retained. When more are
+ * added the least recently used one is discarded.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FftPlanCache {
+
+	/**
+	 * Cache used by the FFT implementations in BoofCV
+	 */
+	private static final FftPlanCache DEFAULT = new FftPlanCache(32);
+
+	private final Map<Integer,GeneralPurposeFFT_F32_1D> plansF32 = new LinkedHashMap<>(16,0.75f,true);
+	private final Map<Integer,GeneralPurposeFFT_F64_1D> plansF64 = new LinkedHashMap<>(16,0.75f,true);
+
+	// maximum number of plans of each type that are retained
+	private int maxPlans;
+
+	/**
+	 * @param maxPlans Maximum number of plans of each type that are retained.
+	 */
+	public FftPlanCache(int maxPlans) {
+		this.maxPlans = maxPlans;
+	}
+
+	/**
+	 * Returns the cache which is shared by the library's functions.
+	 */
+	public static FftPlanCache getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns a plan for a transform with the specified number of elements.
+	 *
+	 * @param n Number of elements in the transform
+	 * @return A new instance which shares tables with the cached plan
+	 */
+	public synchronized GeneralPurposeFFT_F32_1D getF32( int n ) {
+		GeneralPurposeFFT_F32_1D plan = plansF32.get(n);
+		if( plan == null ) {
+			plan = new GeneralPurposeFFT_F32_1D(n);
+			plansF32.put(n,plan);
+			trim(plansF32);
+		}
+		return new GeneralPurposeFFT_F32_1D(plan);
+	}
+
+	/**
+	 * Returns a plan for a transform with the specified number of elements.
+	 *
+	 * @param n Number of elements in the transform
+	 * @return A new instance which shares tables with the cached plan
+	 */
+	public synchronized GeneralPurposeFFT_F64_1D getF64( int n ) {
+		GeneralPurposeFFT_F64_1D plan = plansF64.get(n);
+		if( plan == null ) {
+			plan = new GeneralPurposeFFT_F64_1D(n);
+			plansF64.put(n,plan);
+			trim(plansF64);
+		}
+		return new GeneralPurposeFFT_F64_1D(plan);
+	}
+
+	private void trim( Map<Integer,?> plans ) {
+		while( plans.size() > maxPlans ) {
+			plans.remove(plans.keySet().iterator().next());
+		}
+	}
+
+	/**
+	 * Discards all the cached plans
+	 */
+	public synchronized void clear() {
+		plansF32.clear();
+		plansF64.clear();
+	}
+
+	/**
+	 * Total number of plans currently cached
+	 */
+	public synchronized int size() {
+		return plansF32.size() + plansF64.size();
+	}
+
+	public synchronized int getMaxPlans() {
+		return maxPlans;
+	}
+
+	public synchronized void setMaxPlans(int maxPlans) {
+		this.maxPlans = maxPlans;
+		trim(plansF32);
+		trim(plansF64);
+	}
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import boofcv.concurrency.BoofConcurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * 2D Discrete Fourier Transform of real images. Only half of the spectrum of a real image needs to be computed,
+ * the other half is its complex conjugate. The forward transform applies a real FFT to each row then a complex
+ * FFT to the non-redundant columns, which is about half the work of a complex 2D FFT. The inverse transform
+ * reverses these steps and only computes the real part of the result.
+ * </p>
+ *
+ * <p>
+ * Rows and columns are processed in parallel when {@link BoofConcurrency#USE_CONCURRENT} is true. 1D plans are
+ * requested from {@link FftPlanCache} so that their tables are shared between threads and instances.
+ * </p>
+ *
+ * <p>
+ * The complex spectrum is stored in row-major order and in an interleaved format:
+ * </p>
+ * <pre>
+ * a[r*2*columns+2*c] = Re[r][c],
+ * a[r*2*columns+2*c+1] = Im[r][c], 0&le;r&lt;rows, 0&le;c&lt;columns
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class RealFFT_F32_2D {
+
+	// minimum number of elements processed by a thread
+	private static final int MIN_ELEMENTS = 4096;
+
+	// number of rows or columns which are transposed together
+	private static final int TILE = 16;
+
+	private final int rows;
+	private final int columns;
+
+	// number of columns in the non-redundant half of the spectrum
+	private final int halfColumns;
+
+	// Non-redundant columns of the spectrum. Each column is an interleaved complex array
+	private final float[][] spectrum;
+
+	// storage for each block of rows or columns which is processed in parallel
+	private final List<Workspace> workspaces = new ArrayList<>();
+
+	/**
+	 * @param rows Number of rows in the image
+	 * @param columns Number of columns in the image
+	 */
+	public RealFFT_F32_2D(int rows, int columns) {
+		if (rows < 1 || columns < 1 ) {
+			throw new IllegalArgumentException("rows and columns must be greater than 0");
+		}
+		this.rows = rows;
+		this.columns = columns;
+
+		if( rows == 1 || columns == 1 ) {
+			halfColumns = 0;
+			spectrum = null;
+		} else {
+			halfColumns = columns/2 + 1;
+			spectrum = new float[halfColumns][2*rows];
+		}
+	}
+
+	/**
+	 * Computes the full spectrum of a real image.
+	 *
+	 * @param input (Input) Real image with rows*columns elements in row-major order. Not modified.
+	 * @param output (Output) Complex spectrum with rows*2*columns elements. Modified.
+	 */
+	public void forward( final float[] input , final float[] output ) {
+		if( spectrum == null ) {
+			Workspace work = workspace(0);
+			System.arraycopy(input,0,output,0,rows*columns);
+			work.fftVector().realForwardFull(output);
+			return;
+		}
+
+		process(rows, columns, (r0,r1,work)->rowsForward(input,r0,r1,work));
+		process(halfColumns, rows, (c0,c1,work)->columnsForward(output,c0,c1,work));
+	}
+
+	/**
+	 * Computes the real part of the inverse transform. If the spectrum came from a real image then this is the
+	 * same as the full inverse transform.
+	 *
+	 * @param input (Input) Complex spectrum with rows*2*columns elements. Not modified.
+	 * @param output (Output) Real image with rows*columns elements in row-major order. Modified.
+	 * @param scale If true then the output is scaled by 1/(rows*columns)
+	 */
+	public void inverse( final float[] input , final float[] output , final boolean scale ) {
+		if( spectrum == null ) {
+			Workspace work = workspace(0);
+			int N = rows*columns;
+			if( work.vector == null )
+				work.vector = new float[2*N];
+			System.arraycopy(input,0,work.vector,0,2*N);
+			work.fftVector().complexInverse(work.vector,scale);
+			for (int i = 0; i < N; i++) {
+				output[i] = work.vector[i*2];
+			}
+			return;
+		}
+
+		process(halfColumns, rows, (c0,c1,work)->columnsInverse(input,c0,c1,scale,work));
+		process(rows, columns, (r0,r1,work)->rowsInverse(output,r0,r1,scale,work));
+	}
+
+	/**
+	 * Splits the rows or columns into blocks which are processed in parallel
+	 *
+	 * @param length Number of rows or columns
+	 * @param elements Number of elements in each row or column
+	 */
+	private void process( int length , int elements , BlockTask task ) {
+		int threads = BoofConcurrency.USE_CONCURRENT ? BoofConcurrency.getMaxThreads() : 1;
+		int minBlock = Math.max(1,MIN_ELEMENTS/elements);
+		int blockSize = BoofConcurrency.selectBlockSize(length,minBlock,threads);
+		int numBlocks = (length+blockSize-1)/blockSize;
+
+		for (int i = 0; i < numBlocks; i++) {
+			workspace(i);
+		}
+
+		if( numBlocks > 1 ) {
+			BoofConcurrency.loopFor(0,numBlocks,block->{
+				int i0 = block*blockSize;
+				task.process(i0,Math.min(length,i0+blockSize),workspaces.get(block));
+			});
+		} else {
+			task.process(0,length,workspaces.get(0));
+		}
+	}
+
+	private Workspace workspace( int index ) {
+		while( workspaces.size() <= index ) {
+			workspaces.add(new Workspace());
+		}
+		return workspaces.get(index);
+	}
+
+	/**
+	 * Real FFT of each row. The non-redundant part is saved into the columns of the spectrum. Rows are
+	 * processed in tiles so that the columns are written to in sequential order.
+	 */
+	private void rowsForward( float[] input , int r0 , int r1 , Workspace work ) {
+		final float[] tile = work.tile();
+		final GeneralPurposeFFT_F32_1D fft = work.fftRow();
+		final int last = halfColumns-1;
+		final boolean even = columns % 2 == 0;
+
+		for (int tileR0 = r0; tileR0 < r1; tileR0 += TILE) {
+			final int tileR1 = Math.min(r1,tileR0+TILE);
+			for (int r = tileR0; r < tileR1; r++) {
+				int offset = (r-tileR0)*columns;
+				System.arraycopy(input,r*columns,tile,offset,columns);
+				fft.realForward(tile,offset);
+			}
+
+			final float[] first = spectrum[0];
+			final float[] middle = spectrum[last];
+			for (int r = tileR0, offset = 0; r < tileR1; r++, offset += columns) {
+				first[2*r] = tile[offset];
+				first[2*r+1] = 0;
+				if( even ) {
+					middle[2*r] = tile[offset+1];
+					middle[2*r+1] = 0;
+				} else {
+					middle[2*r] = tile[offset+columns-1];
+					middle[2*r+1] = tile[offset+1];
+				}
+			}
+			for (int c = 1; c < last; c++) {
+				final float[] column = spectrum[c];
+				for (int r = tileR0, offset = 2*c; r < tileR1; r++, offset += columns) {
+					column[2*r] = tile[offset];
+					column[2*r+1] = tile[offset+1];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Complex FFT of each non-redundant column. The columns and their complex conjugates are written
+	 * into the output. Columns are processed in tiles so that the output is written to in sequential order.
+	 */
+	private void columnsForward( float[] output , int c0 , int c1 , Workspace work ) {
+		final GeneralPurposeFFT_F32_1D fft = work.fftColumn();
+		final int rowStride = 2*columns;
+
+		for (int tileC0 = c0; tileC0 < c1; tileC0 += TILE) {
+			final int tileC1 = Math.min(c1,tileC0+TILE);
+			for (int c = tileC0; c < tileC1; c++) {
+				fft.complexForward(spectrum[c]);
+			}
+
+			for (int r = 0; r < rows; r++) {
+				// Fill in the redundant half too. X[rows-r][columns-c] = conj(X[r][c])
+				int indexOut = r*rowStride + 2*tileC0;
+				int indexMirror = (r == 0 ? 0 : (rows-r)*rowStride) + 2*(columns-tileC0);
+				for (int c = tileC0; c < tileC1; c++, indexOut += 2, indexMirror -= 2) {
+					final float real = spectrum[c][2*r];
+					final float imag = spectrum[c][2*r+1];
+					output[indexOut] = real;
+					output[indexOut+1] = imag;
+					if( c != 0 && columns-c > c ) {
+						output[indexMirror] = real;
+						output[indexMirror+1] = -imag;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Complex inverse FFT of each non-redundant column. The input is made conjugate symmetric first so that
+	 * the result is the real part of the complex inverse.
+	 */
+	private void columnsInverse( float[] input , int c0 , int c1 , boolean scale , Workspace work ) {
+		final GeneralPurposeFFT_F32_1D fft = work.fftColumn();
+		final int rowStride = 2*columns;
+
+		for (int tileC0 = c0; tileC0 < c1; tileC0 += TILE) {
+			final int tileC1 = Math.min(c1,tileC0+TILE);
+
+			for (int r = 0; r < rows; r++) {
+				int index = r*rowStride + 2*tileC0;
+				int rowMirror = r == 0 ? 0 : (rows-r)*rowStride;
+				for (int c = tileC0; c < tileC1; c++, index += 2) {
+					int indexMirror = rowMirror + 2*(c == 0 ? 0 : columns-c);
+					spectrum[c][2*r] = 0.5f*(input[index] + input[indexMirror]);
+					spectrum[c][2*r+1] = 0.5f*(input[index+1] - input[indexMirror+1]);
+				}
+			}
+
+			for (int c = tileC0; c < tileC1; c++) {
+				fft.complexInverse(spectrum[c],scale);
+			}
+		}
+	}
+
+	/**
+	 * Real inverse FFT of each row
+	 */
+	private void rowsInverse( float[] output , int r0 , int r1 , boolean scale , Workspace work ) {
+		final GeneralPurposeFFT_F32_1D fft = work.fftRow();
+		final int last = halfColumns-1;
+		final boolean even = columns % 2 == 0;
+
+		for (int tileR0 = r0; tileR0 < r1; tileR0 += TILE) {
+			final int tileR1 = Math.min(r1,tileR0+TILE);
+
+			final float[] first = spectrum[0];
+			final float[] middle = spectrum[last];
+			for (int r = tileR0, offset = tileR0*columns; r < tileR1; r++, offset += columns) {
+				output[offset] = first[2*r];
+				if( even ) {
+					output[offset+1] = middle[2*r];
+				} else {
+					output[offset+columns-1] = middle[2*r];
+					output[offset+1] = middle[2*r+1];
+				}
+			}
+			for (int c = 1; c < last; c++) {
+				final float[] column = spectrum[c];
+				for (int r = tileR0, offset = tileR0*columns+2*c; r < tileR1; r++, offset += columns) {
+					output[offset] = column[2*r];
+					output[offset+1] = column[2*r+1];
+				}
+			}
+
+			for (int r = tileR0; r < tileR1; r++) {
+				fft.realInverse(output,r*columns,scale);
+			}
+		}
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	public int getColumns() {
+		return columns;
+	}
+
+	private interface BlockTask {
+		void process( int i0 , int i1 , Workspace work );
+	}
+
+	/**
+	 * Plans and storage used by one block. Created when first needed.
+	 */
+	private class Workspace {
+		GeneralPurposeFFT_F32_1D fftRow, fftColumn;
+		float[] tile;
+		float[] vector;
+
+		GeneralPurposeFFT_F32_1D fftRow() {
+			if( fftRow == null )
+				fftRow = FftPlanCache.getDefault().getF32(columns);
+			return fftRow;
+		}
+
+		GeneralPurposeFFT_F32_1D fftColumn() {
+			if( fftColumn == null )
+				fftColumn = FftPlanCache.getDefault().getF32(rows);
+			return fftColumn;
+		}
+
+		GeneralPurposeFFT_F32_1D fftVector() {
+			return rows == 1 ? fftRow() : fftColumn();
+		}
+
+		float[] tile() {
+			if( tile == null )
+				tile = new float[TILE*columns];
+			return tile;
+		}
+	}
+}
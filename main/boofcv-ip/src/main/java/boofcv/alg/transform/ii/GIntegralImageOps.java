@@ -69,6 +69,34 @@ public class GIntegralImageOps {
 		}
 	}
 
+	/**
+	 * Updates an integral image after the input image has been modified inside a region with its upper left
+	 * corner at (x0,y0).
+	 *
+	 * @see IntegralImageOps#transformUpdate(GrayF32, GrayF32, int, int)
+	 *
+	 * @param input Regular image which has been modified. Not modified.
+	 * @param transformed Integral image of input from before it was modified. Modified.
+	 * @param x0 Left most column which has been modified. Inclusive.
+	 * @param y0 Top most row which has been modified. Inclusive.
+	 */
+	public static <I extends ImageGray<I>, T extends ImageGray>
+	void transformUpdate( I input , T transformed , int x0 , int y0 ) {
+		if( input instanceof GrayF32) {
+			IntegralImageOps.transformUpdate((GrayF32)input,(GrayF32)transformed,x0,y0);
+		} else if( input instanceof GrayF64) {
+			IntegralImageOps.transformUpdate((GrayF64)input,(GrayF64)transformed,x0,y0);
+		} else if( input instanceof GrayU8) {
+			IntegralImageOps.transformUpdate((GrayU8)input,(GrayS32)transformed,x0,y0);
+		} else if( input instanceof GrayS32) {
+			IntegralImageOps.transformUpdate((GrayS32)input,(GrayS32)transformed,x0,y0);
+		} else if( input instanceof GrayS64) {
+			IntegralImageOps.transformUpdate((GrayS64)input,(GrayS64)transformed,x0,y0);
+		} else {
+			throw new IllegalArgumentException("Unknown input type: "+input.getClass().getSimpleName());
+		}
+	}
+
 	/**
 	 * General code for convolving a box filter across an image using the integral image.
 	 *
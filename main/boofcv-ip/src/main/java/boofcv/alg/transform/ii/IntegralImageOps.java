@@ -20,6 +20,8 @@ package boofcv.alg.transform.ii;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.transform.ii.impl.ImplIntegralImageOps;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.image.*;
 
@@ -43,11 +45,37 @@ public class IntegralImageOps {
 	public static GrayF32 transform(GrayF32 input , GrayF32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
 
+	/**
+	 * Updates an integral image after the input image has been modified.  Only pixels below and to the
+	 * right of (x0,y0) are recomputed, which is much less work than {@link #transform(GrayF32, GrayF32)} when
+	 * the change is confined to a small region of interest.  Round off error can cause the
+	 * results to differ slightly from a complete transform.
+	 *
+	 * @param input Regular image which has been modified inside a region with its upper left corner at (x0,y0). Not modified.
+	 * @param transformed Integral image of input from before it was modified. Modified.
+	 * @param x0 Left most column which has been modified. Inclusive.
+	 * @param y0 Top most row which has been modified. Inclusive.
+	 */
+	public static void transformUpdate(GrayF32 input , GrayF32 transformed , int x0 , int y0 ) {
+		InputSanityCheck.checkSameShape(input,transformed);
+		checkUpdateCorner(input,x0,y0);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transformUpdate(input,transformed,x0,y0);
+		} else {
+			ImplIntegralImageOps.transformUpdate(input,transformed,x0,y0);
+		}
+	}
+
 	/**
 	 * Converts a regular image into an integral image.
 	 *
@@ -58,11 +86,37 @@ public class IntegralImageOps {
 	public static GrayF64 transform(GrayF64 input , GrayF64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
 
+	/**
+	 * Updates an integral image after the input image has been modified.  Only pixels below and to the
+	 * right of (x0,y0) are recomputed, which is much less work than {@link #transform(GrayF64, GrayF64)} when
+	 * the change is confined to a small region of interest.  Round off error can cause the
+	 * results to differ slightly from a complete transform.
+	 *
+	 * @param input Regular image which has been modified inside a region with its upper left corner at (x0,y0). Not modified.
+	 * @param transformed Integral image of input from before it was modified. Modified.
+	 * @param x0 Left most column which has been modified. Inclusive.
+	 * @param y0 Top most row which has been modified. Inclusive.
+	 */
+	public static void transformUpdate(GrayF64 input , GrayF64 transformed , int x0 , int y0 ) {
+		InputSanityCheck.checkSameShape(input,transformed);
+		checkUpdateCorner(input,x0,y0);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transformUpdate(input,transformed,x0,y0);
+		} else {
+			ImplIntegralImageOps.transformUpdate(input,transformed,x0,y0);
+		}
+	}
+
 	/**
 	 * Converts a regular image into an integral image.
 	 *
@@ -73,11 +127,36 @@ public class IntegralImageOps {
 	public static GrayS32 transform(GrayU8 input , GrayS32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS32.class);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
 
+	/**
+	 * Updates an integral image after the input image has been modified.  Only pixels below and to the
+	 * right of (x0,y0) are recomputed, which is much less work than {@link #transform(GrayU8, GrayS32)} when
+	 * the change is confined to a small region of interest.
+	 *
+	 * @param input Regular image which has been modified inside a region with its upper left corner at (x0,y0). Not modified.
+	 * @param transformed Integral image of input from before it was modified. Modified.
+	 * @param x0 Left most column which has been modified. Inclusive.
+	 * @param y0 Top most row which has been modified. Inclusive.
+	 */
+	public static void transformUpdate(GrayU8 input , GrayS32 transformed , int x0 , int y0 ) {
+		InputSanityCheck.checkSameShape(input,transformed);
+		checkUpdateCorner(input,x0,y0);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transformUpdate(input,transformed,x0,y0);
+		} else {
+			ImplIntegralImageOps.transformUpdate(input,transformed,x0,y0);
+		}
+	}
+
 	/**
 	 * Converts a regular image into an integral image.
 	 *
@@ -88,11 +167,36 @@ public class IntegralImageOps {
 	public static GrayS32 transform(GrayS32 input , GrayS32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS32.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
 
+	/**
+	 * Updates an integral image after the input image has been modified.  Only pixels below and to the
+	 * right of (x0,y0) are recomputed, which is much less work than {@link #transform(GrayS32, GrayS32)} when
+	 * the change is confined to a small region of interest.
+	 *
+	 * @param input Regular image which has been modified inside a region with its upper left corner at (x0,y0). Not modified.
+	 * @param transformed Integral image of input from before it was modified. Modified.
+	 * @param x0 Left most column which has been modified. Inclusive.
+	 * @param y0 Top most row which has been modified. Inclusive.
+	 */
+	public static void transformUpdate(GrayS32 input , GrayS32 transformed , int x0 , int y0 ) {
+		InputSanityCheck.checkSameShape(input,transformed);
+		checkUpdateCorner(input,x0,y0);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transformUpdate(input,transformed,x0,y0);
+		} else {
+			ImplIntegralImageOps.transformUpdate(input,transformed,x0,y0);
+		}
+	}
+
 	/**
 	 * Converts a regular image into an integral image.
 	 *
@@ -103,11 +207,36 @@ public class IntegralImageOps {
 	public static GrayS64 transform(GrayS64 input , GrayS64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,GrayS64.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
 
+	/**
+	 * Updates an integral image after the input image has been modified.  Only pixels below and to the
+	 * right of (x0,y0) are recomputed, which is much less work than {@link #transform(GrayS64, GrayS64)} when
+	 * the change is confined to a small region of interest.
+	 *
+	 * @param input Regular image which has been modified inside a region with its upper left corner at (x0,y0). Not modified.
+	 * @param transformed Integral image of input from before it was modified. Modified.
+	 * @param x0 Left most column which has been modified. Inclusive.
+	 * @param y0 Top most row which has been modified. Inclusive.
+	 */
+	public static void transformUpdate(GrayS64 input , GrayS64 transformed , int x0 , int y0 ) {
+		InputSanityCheck.checkSameShape(input,transformed);
+		checkUpdateCorner(input,x0,y0);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transformUpdate(input,transformed,x0,y0);
+		} else {
+			ImplIntegralImageOps.transformUpdate(input,transformed,x0,y0);
+		}
+	}
+
 	/**
 	 * General code for convolving a box filter across an image using the integral image.
 	 *
@@ -532,4 +661,9 @@ public class IntegralImageOps {
 
 		return true;
 	}
+
+	private static void checkUpdateCorner( ImageGray input , int x0 , int y0 ) {
+		if( x0 < 0 || y0 < 0 || x0 > input.width || y0 > input.height )
+			throw new IllegalArgumentException("Modified region is outside of the image. "+x0+" "+y0);
+	}
 }
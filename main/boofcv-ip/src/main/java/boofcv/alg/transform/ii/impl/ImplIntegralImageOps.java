@@ -18,7 +18,10 @@
 
 package boofcv.alg.transform.ii.impl;
 
+//CONCURRENT_REMOVE_BELOW
 import boofcv.alg.transform.ii.IntegralKernel;
+//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
+//CONCURRENT_REMOVE_BELOW
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.image.*;
 
@@ -38,6 +41,9 @@ public class ImplIntegralImageOps {
 
 	public static void transform(final GrayF32 input , final GrayF32 transformed )
 	{
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));
+		//CONCURRENT_OMIT_BEGIN
 		int indexSrc = input.startIndex;
 		int indexDst = transformed.startIndex;
 		int end = indexSrc + input.width;
@@ -60,10 +66,70 @@ public class ImplIntegralImageOps {
 				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
 			}
 		}
+		//CONCURRENT_OMIT_END
 	}
 
+	/**
+	 * Updates the integral image after the input image has been modified inside a region whose upper left
+	 * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.
+	 */
+	public static void transformUpdate(final GrayF32 input , final GrayF32 transformed , final int x0 , final int y0 )
+	{
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));
+		prefixRows(input,transformed,x0,y0,input.height);
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));
+		sumColumns(transformed,y0,x0,input.width);
+	}
+	//CONCURRENT_OMIT_BEGIN
+
+	/**
+	 * First pass of the blocked transform. For rows y0 to y1-1, the cumulative sum along each row starting at
+	 * column x0 is written into transformed. Row sums to the left of x0 are recovered from the integral image.
+	 * Rows are independent of each other.
+	 */
+	public static void prefixRows( GrayF32 input , GrayF32 transformed , int x0 , int y0 , int y1 )
+	{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y + x0;
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int end = indexSrc + input.width - x0;
+
+			float total = 0;
+			if( x0 > 0 ) {
+				total = transformed.data[indexDst-1];
+				if( y > 0 )
+					total -= transformed.data[indexDst-1-transformed.stride];
+			}
+			for( ; indexSrc < end; indexSrc++ ) {
+				total += input.data[indexSrc];
+				transformed.data[indexDst++] = total;
+			}
+		}
+	}
+
+	/**
+	 * Second pass of the blocked transform. Starting at row y0, adds the row above to each row for columns x0 to x1-1.
+	 * Columns are independent of each other.
+	 */
+	public static void sumColumns( GrayF32 transformed , int y0 , int x0 , int x1 )
+	{
+		for( int y = Math.max(1,y0); y < transformed.height; y++ ) {
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int indexPrev = indexDst - transformed.stride;
+			int end = indexDst + x1 - x0;
+
+			for( ; indexDst < end; indexDst++ ) {
+				transformed.data[indexDst] += transformed.data[indexPrev++];
+			}
+		}
+	}
+	//CONCURRENT_OMIT_END
+
 	public static void transform(final GrayF64 input , final GrayF64 transformed )
 	{
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));
+		//CONCURRENT_OMIT_BEGIN
 		int indexSrc = input.startIndex;
 		int indexDst = transformed.startIndex;
 		int end = indexSrc + input.width;
@@ -86,10 +152,70 @@ public class ImplIntegralImageOps {
 				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
 			}
 		}
+		//CONCURRENT_OMIT_END
 	}
 
+	/**
+	 * Updates the integral image after the input image has been modified inside a region whose upper left
+	 * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.
+	 */
+	public static void transformUpdate(final GrayF64 input , final GrayF64 transformed , final int x0 , final int y0 )
+	{
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));
+		prefixRows(input,transformed,x0,y0,input.height);
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));
+		sumColumns(transformed,y0,x0,input.width);
+	}
+	//CONCURRENT_OMIT_BEGIN
+
+	/**
+	 * First pass of the blocked transform. For rows y0 to y1-1, the cumulative sum along each row starting at
+	 * column x0 is written into transformed. Row sums to the left of x0 are recovered from the integral image.
+	 * Rows are independent of each other.
+	 */
+	public static void prefixRows( GrayF64 input , GrayF64 transformed , int x0 , int y0 , int y1 )
+	{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y + x0;
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int end = indexSrc + input.width - x0;
+
+			double total = 0;
+			if( x0 > 0 ) {
+				total = transformed.data[indexDst-1];
+				if( y > 0 )
+					total -= transformed.data[indexDst-1-transformed.stride];
+			}
+			for( ; indexSrc < end; indexSrc++ ) {
+				total += input.data[indexSrc];
+				transformed.data[indexDst++] = total;
+			}
+		}
+	}
+
+	/**
+	 * Second pass of the blocked transform. Starting at row y0, adds the row above to each row for columns x0 to x1-1.
+	 * Columns are independent of each other.
+	 */
+	public static void sumColumns( GrayF64 transformed , int y0 , int x0 , int x1 )
+	{
+		for( int y = Math.max(1,y0); y < transformed.height; y++ ) {
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int indexPrev = indexDst - transformed.stride;
+			int end = indexDst + x1 - x0;
+
+			for( ; indexDst < end; indexDst++ ) {
+				transformed.data[indexDst] += transformed.data[indexPrev++];
+			}
+		}
+	}
+	//CONCURRENT_OMIT_END
+
 	public static void transform(final GrayU8 input , final GrayS32 transformed )
 	{
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));
+		//CONCURRENT_OMIT_BEGIN
 		int indexSrc = input.startIndex;
 		int indexDst = transformed.startIndex;
 		int end = indexSrc + input.width;
@@ -112,10 +238,53 @@ public class ImplIntegralImageOps {
 				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
 			}
 		}
+		//CONCURRENT_OMIT_END
+	}
+
+	/**
+	 * Updates the integral image after the input image has been modified inside a region whose upper left
+	 * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.
+	 */
+	public static void transformUpdate(final GrayU8 input , final GrayS32 transformed , final int x0 , final int y0 )
+	{
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));
+		prefixRows(input,transformed,x0,y0,input.height);
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));
+		sumColumns(transformed,y0,x0,input.width);
+	}
+	//CONCURRENT_OMIT_BEGIN
+
+	/**
+	 * First pass of the blocked transform. For rows y0 to y1-1, the cumulative sum along each row starting at
+	 * column x0 is written into transformed. Row sums to the left of x0 are recovered from the integral image.
+	 * Rows are independent of each other.
+	 */
+	public static void prefixRows( GrayU8 input , GrayS32 transformed , int x0 , int y0 , int y1 )
+	{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y + x0;
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int end = indexSrc + input.width - x0;
+
+			int total = 0;
+			if( x0 > 0 ) {
+				total = transformed.data[indexDst-1];
+				if( y > 0 )
+					total -= transformed.data[indexDst-1-transformed.stride];
+			}
+			for( ; indexSrc < end; indexSrc++ ) {
+				total += input.data[indexSrc]& 0xFF;
+				transformed.data[indexDst++] = total;
+			}
+		}
 	}
+	//CONCURRENT_OMIT_END
 
 	public static void transform(final GrayS32 input , final GrayS32 transformed )
 	{
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));
+		//CONCURRENT_OMIT_BEGIN
 		int indexSrc = input.startIndex;
 		int indexDst = transformed.startIndex;
 		int end = indexSrc + input.width;
@@ -138,10 +307,70 @@ public class ImplIntegralImageOps {
 				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
 			}
 		}
+		//CONCURRENT_OMIT_END
 	}
 
+	/**
+	 * Updates the integral image after the input image has been modified inside a region whose upper left
+	 * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.
+	 */
+	public static void transformUpdate(final GrayS32 input , final GrayS32 transformed , final int x0 , final int y0 )
+	{
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));
+		prefixRows(input,transformed,x0,y0,input.height);
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));
+		sumColumns(transformed,y0,x0,input.width);
+	}
+	//CONCURRENT_OMIT_BEGIN
+
+	/**
+	 * First pass of the blocked transform. For rows y0 to y1-1, the cumulative sum along each row starting at
+	 * column x0 is written into transformed. Row sums to the left of x0 are recovered from the integral image.
+	 * Rows are independent of each other.
+	 */
+	public static void prefixRows( GrayS32 input , GrayS32 transformed , int x0 , int y0 , int y1 )
+	{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y + x0;
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int end = indexSrc + input.width - x0;
+
+			int total = 0;
+			if( x0 > 0 ) {
+				total = transformed.data[indexDst-1];
+				if( y > 0 )
+					total -= transformed.data[indexDst-1-transformed.stride];
+			}
+			for( ; indexSrc < end; indexSrc++ ) {
+				total += input.data[indexSrc];
+				transformed.data[indexDst++] = total;
+			}
+		}
+	}
+
+	/**
+	 * Second pass of the blocked transform. Starting at row y0, adds the row above to each row for columns x0 to x1-1.
+	 * Columns are independent of each other.
+	 */
+	public static void sumColumns( GrayS32 transformed , int y0 , int x0 , int x1 )
+	{
+		for( int y = Math.max(1,y0); y < transformed.height; y++ ) {
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int indexPrev = indexDst - transformed.stride;
+			int end = indexDst + x1 - x0;
+
+			for( ; indexDst < end; indexDst++ ) {
+				transformed.data[indexDst] += transformed.data[indexPrev++];
+			}
+		}
+	}
+	//CONCURRENT_OMIT_END
+
 	public static void transform(final GrayS64 input , final GrayS64 transformed )
 	{
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));
+		//CONCURRENT_OMIT_BEGIN
 		int indexSrc = input.startIndex;
 		int indexDst = transformed.startIndex;
 		int end = indexSrc + input.width;
@@ -164,8 +393,66 @@ public class ImplIntegralImageOps {
 				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
 			}
 		}
+		//CONCURRENT_OMIT_END
+	}
+
+	/**
+	 * Updates the integral image after the input image has been modified inside a region whose upper left
+	 * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.
+	 */
+	public static void transformUpdate(final GrayS64 input , final GrayS64 transformed , final int x0 , final int y0 )
+	{
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));
+		prefixRows(input,transformed,x0,y0,input.height);
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));
+		sumColumns(transformed,y0,x0,input.width);
+	}
+	//CONCURRENT_OMIT_BEGIN
+
+	/**
+	 * First pass of the blocked transform. For rows y0 to y1-1, the cumulative sum along each row starting at
+	 * column x0 is written into transformed. Row sums to the left of x0 are recovered from the integral image.
+	 * Rows are independent of each other.
+	 */
+	public static void prefixRows( GrayS64 input , GrayS64 transformed , int x0 , int y0 , int y1 )
+	{
+		for( int y = y0; y < y1; y++ ) {
+			int indexSrc = input.startIndex + input.stride*y + x0;
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int end = indexSrc + input.width - x0;
+
+			long total = 0;
+			if( x0 > 0 ) {
+				total = transformed.data[indexDst-1];
+				if( y > 0 )
+					total -= transformed.data[indexDst-1-transformed.stride];
+			}
+			for( ; indexSrc < end; indexSrc++ ) {
+				total += input.data[indexSrc];
+				transformed.data[indexDst++] = total;
+			}
+		}
 	}
 
+	/**
+	 * Second pass of the blocked transform. Starting at row y0, adds the row above to each row for columns x0 to x1-1.
+	 * Columns are independent of each other.
+	 */
+	public static void sumColumns( GrayS64 transformed , int y0 , int x0 , int x1 )
+	{
+		for( int y = Math.max(1,y0); y < transformed.height; y++ ) {
+			int indexDst = transformed.startIndex + transformed.stride*y + x0;
+			int indexPrev = indexDst - transformed.stride;
+			int end = indexDst + x1 - x0;
+
+			for( ; indexDst < end; indexDst++ ) {
+				transformed.data[indexDst] += transformed.data[indexPrev++];
+			}
+		}
+	}
+	//CONCURRENT_OMIT_END
+	//CONCURRENT_OMIT_BEGIN
+
 	public static void convolve( GrayF32 integral ,
 								 IntegralKernel kernel,
 								 GrayF32 output )
@@ -581,6 +868,6 @@ public class ImplIntegralImageOps {
 
 		return br-tr-bl+tl;
 	}
-
+	//CONCURRENT_OMIT_END
 
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2017, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
+
+import javax.annotation.Generated;
+
+
+/**
+ * <p>
+ * Compute the integral image for different types of input images.
+ * </p>
+ * 
+ * <p>
+ * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps}.
+ * </p>
+ * 
+ * <p>DO NOT MODIFY. Automatically generated code created by AutocodeConcurrentApp</p>
+ *
+ * @author Peter Abeles
+ */
+@Generated("boofcv.alg.transform.ii.impl.ImplIntegralImageOps")
+public class ImplIntegralImageOps_MT {
+
+	public static void transform(final GrayF32 input , final GrayF32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));
+		BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));
+	}
+
+	/**
+	 * Updates the integral image after the input image has been modified inside a region whose upper left
+	 * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.
+	 */
+	public static void transformUpdate(final GrayF32 input , final GrayF32 transformed , final int x0 , final int y0 )
+	{
+		BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));
+		BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));
+	}
+
+	public static void transform(final GrayF64 input , final GrayF64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));
+		BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));
+	}
+
+	/**
+	 * Updates the integral image after the input image has been modified inside a region whose upper left
+	 * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.
+	 */
+	public static void transformUpdate(final GrayF64 input , final GrayF64 transformed , final int x0 , final int y0 )
+	{
+		BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));
+		BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));
+	}
+
+	public static void transform(final GrayU8 input , final GrayS32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));
+		BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));
+	}
+
+	/**
+	 * Updates the integral image after the input image has been modified inside a region whose upper left
+	 * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.
+	 */
+	public static void transformUpdate(final GrayU8 input , final GrayS32 transformed , final int x0 , final int y0 )
+	{
+		BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));
+		BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));
+	}
+
+	public static void transform(final GrayS32 input , final GrayS32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));
+		BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));
+	}
+
+	/**
+	 * Updates the integral image after the input image has been modified inside a region whose upper left
+	 * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.
+	 */
+	public static void transformUpdate(final GrayS32 input , final GrayS32 transformed , final int x0 , final int y0 )
+	{
+		BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));
+		BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));
+	}
+
+	public static void transform(final GrayS64 input , final GrayS64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,(y0,y1)->ImplIntegralImageOps.prefixRows(input,transformed,0,y0,y1));
+		BoofConcurrency.loopBlocks(0,input.width,(x0,x1)->ImplIntegralImageOps.sumColumns(transformed,0,x0,x1));
+	}
+
+	/**
+	 * Updates the integral image after the input image has been modified inside a region whose upper left
+	 * corner is at (x0,y0). Only the integral image's values below and to the right of that corner are recomputed.
+	 */
+	public static void transformUpdate(final GrayS64 input , final GrayS64 transformed , final int x0 , final int y0 )
+	{
+		BoofConcurrency.loopBlocks(y0,input.height,(ya,yb)->ImplIntegralImageOps.prefixRows(input,transformed,x0,ya,yb));
+		BoofConcurrency.loopBlocks(x0,input.width,(xa,xb)->ImplIntegralImageOps.sumColumns(transformed,y0,xa,xb));
+	}
+
+}
@@ -19,9 +19,16 @@
 package boofcv.alg.transform.pyramid;
 
 import boofcv.abst.filter.convolve.ConvolveDown;
+import boofcv.alg.transform.pyramid.impl.ImplPyramidBlurDown;
+import boofcv.alg.transform.pyramid.impl.ImplPyramidBlurDown_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.filter.convolve.FactoryConvolveDown;
 import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageBase;
 import boofcv.struct.image.ImageType;
 import boofcv.struct.pyramid.PyramidDiscrete;
@@ -42,11 +49,19 @@ import boofcv.struct.pyramid.PyramidDiscrete;
  * have it dependent on each level's scale factor.
  * </p>
  *
+ * <p>
+ * For {@link GrayF32} and {@link GrayU8} images blur and down sampling are done in a single pass
+ * by {@link ImplPyramidBlurDown}, which is multi-threaded if {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * Other image types are convolved horizontally into a temporary image and then vertically.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
 public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDiscrete<T> {
 
+	Kernel1D kernel;
+
 	// stores the results from the first convolution
 	private T temp;
 	ConvolveDown<T,T> horizontal;
@@ -69,6 +84,7 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 	{
 		super(imageType,saveOriginalReference,scaleFactors);
 
+		this.kernel = kernel;
 		horizontal = FactoryConvolveDown.convolve(kernel, BorderType.NORMALIZED, true, 1, imageType,imageType);
 		vertical = FactoryConvolveDown.convolve(kernel, BorderType.NORMALIZED, false, 1, imageType,imageType);
 
@@ -88,11 +104,6 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 	public void process(T input) {
 		super.initialize(input.width,input.height);
 
-		if( temp == null ) {
-			// declare it to be the latest image that it might need to be, resize below
-			temp = (T)input.createNew(1,1);
-		}
-
 		if (scale[0] == 1) {
 			if (isSaveOriginalReference()) {
 				setFirstLayer(input);
@@ -100,26 +111,43 @@ public class PyramidDiscreteSampleBlur<T extends ImageBase<T>> extends PyramidDi
 				getLayer(0).setTo(input);
 			}
 		} else {
-			int skip = scale[0];
-
-			horizontal.setSkip(skip);
-			vertical.setSkip(skip);
-
-			temp.reshape(input.width/skip,input.height);
-			horizontal.process(input,temp);
-			vertical.process(temp,getLayer(0));
+			downSample(input,getLayer(0),scale[0]);
 		}
 
 		for (int index = 1; index < getNumLayers(); index++) {
 			int skip = scale[index]/scale[index-1];
-			T prev = getLayer(index-1);
-			temp.reshape(prev.width/skip,prev.height);
+			downSample(getLayer(index-1),getLayer(index),skip);
+		}
+	}
+
+	/**
+	 * Blurs the input image and samples every skip pixel
+	 */
+	private void downSample( T input , T output , int skip ) {
+		if( input instanceof GrayF32 && kernel instanceof Kernel1D_F32 ) {
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplPyramidBlurDown_MT.process((Kernel1D_F32)kernel,(GrayF32)input,(GrayF32)output,skip);
+			} else {
+				ImplPyramidBlurDown.process((Kernel1D_F32)kernel,(GrayF32)input,(GrayF32)output,skip);
+			}
+		} else if( input instanceof GrayU8 && kernel instanceof Kernel1D_S32 ) {
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplPyramidBlurDown_MT.process((Kernel1D_S32)kernel,(GrayU8)input,(GrayU8)output,skip);
+			} else {
+				ImplPyramidBlurDown.process((Kernel1D_S32)kernel,(GrayU8)input,(GrayU8)output,skip);
+			}
+		} else {
+			if( temp == null ) {
+				// declare it to be the latest image that it might need to be, resize below
+				temp = (T)input.createNew(1,1);
+			}
+			temp.reshape(input.width/skip,input.height);
 
 			horizontal.setSkip(skip);
 			vertical.setSkip(skip);
 
-			horizontal.process(prev,temp);
-			vertical.process(temp,getLayer(index));
+			horizontal.process(input,temp);
+			vertical.process(temp,output);
 		}
 	}
 
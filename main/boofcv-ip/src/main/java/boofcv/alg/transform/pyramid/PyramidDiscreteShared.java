@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid;
+
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.pyramid.PyramidDiscrete;
+
+/**
+ * <p>
+ * Allows several consumers to share a single {@link PyramidDiscrete} instead of each constructing an identical
+ * pyramid from the same image.  Each consumer calls {@link #reserve()} once, {@link #release()} when it's done
+ * with the pyramid, and calls {@link #process} with every new image, as it would with an ordinary pyramid.
+ * Whoever owns the image must call {@link #invalidate()} each time its contents change, e.g. a new video frame
+ * has been written into the same image.  The pyramid is then computed on the next call to {@link #process} and
+ * reused by every call after that until it's invalidated again.  It's also recomputed when called with a
+ * different image or one with a different shape.  If nothing has been reserved it behaves like the pyramid
+ * which it wraps.
+ * </p>
+ *
+ * <p>
+ * Consumers which are passed an already computed pyramid, e.g. PyramidKltTracker,
+ * can be given this pyramid directly without reserving it.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PyramidDiscreteShared<T extends ImageBase<T>> extends PyramidDiscrete<T> {
+
+	// pyramid which is being shared
+	PyramidDiscrete<T> pyramid;
+
+	// number of consumers which share the pyramid
+	int references;
+	// true if the pyramid was computed from the current contents of lastInput
+	boolean valid;
+	// image the pyramid was last computed from and its shape
+	T lastInput;
+	int lastWidth, lastHeight;
+
+	/**
+	 * Shares the provided pyramid
+	 *
+	 * @param pyramid The pyramid which is computed
+	 */
+	public PyramidDiscreteShared( PyramidDiscrete<T> pyramid ) {
+		super(pyramid.getImageType(), pyramid.isSaveOriginalReference(), pyramid.getScales());
+		this.pyramid = pyramid;
+		this.scale = pyramid.scale;
+	}
+
+	/**
+	 * Registers a consumer of this pyramid.
+	 */
+	public synchronized void reserve() {
+		references++;
+	}
+
+	/**
+	 * Removes a consumer which had called {@link #reserve()}.
+	 */
+	public synchronized void release() {
+		if( references <= 0 )
+			throw new IllegalStateException("release() called more times than reserve()");
+		references--;
+	}
+
+	/**
+	 * Marks the pyramid as out of date.  Must be called each time the contents of the input image change,
+	 * before any of the consumers process it.
+	 */
+	public synchronized void invalidate() {
+		valid = false;
+	}
+
+	/**
+	 * Computes the pyramid for the input image unless it has already been computed for this image since
+	 * the last call to {@link #invalidate()}.
+	 *
+	 * @param input Input image. Not modified.
+	 */
+	@Override
+	public synchronized void process(T input) {
+		if( references == 0 || !valid || input != lastInput ||
+				input.width != lastWidth || input.height != lastHeight ) {
+			pyramid.process(input);
+			lastInput = input;
+			lastWidth = input.width;
+			lastHeight = input.height;
+			valid = true;
+			updateLayers();
+		}
+	}
+
+	@Override
+	public synchronized void initialize(int width, int height) {
+		pyramid.initialize(width,height);
+		updateLayers();
+	}
+
+	@Override
+	public synchronized void setScaleFactors(int... scaleFactors) {
+		super.setScaleFactors(scaleFactors);
+		// null when invoked by the super class's constructor
+		if( pyramid != null ) {
+			pyramid.setScaleFactors(scaleFactors);
+			scale = pyramid.scale;
+			valid = false;
+		}
+	}
+
+	/**
+	 * Makes the layers of this pyramid the same as the shared pyramid's
+	 */
+	private void updateLayers() {
+		layers = pyramid.layers;
+		bottomWidth = pyramid.getInputWidth();
+		bottomHeight = pyramid.getInputHeight();
+	}
+
+	@Override
+	public double getSampleOffset(int layer) {
+		return pyramid.getSampleOffset(layer);
+	}
+
+	@Override
+	public double getSigma(int layer) {
+		return pyramid.getSigma(layer);
+	}
+
+	/**
+	 * The pyramid which is being shared
+	 */
+	public PyramidDiscrete<T> getPyramid() {
+		return pyramid;
+	}
+
+	/**
+	 * Number of consumers which have reserved this pyramid
+	 */
+	public synchronized int getReferences() {
+		return references;
+	}
+}
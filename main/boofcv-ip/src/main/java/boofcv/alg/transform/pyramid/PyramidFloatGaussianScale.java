@@ -56,6 +56,9 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 	// how much each layer is blurred before sub-sampling
 	protected float[] sigmaLayers;
 
+	// blur filter for each layer. Created once and reused
+	protected BlurStorageFilter<T>[] blurLayers;
+
 	// The effective amount of blur in each pyramid layer relative to the input image
 	protected double[] sigma;
 
@@ -78,6 +81,10 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 		for( int i = 0; i < sigmaLayers.length; i++ )
 			this.sigmaLayers[i] = (float) sigmaLayers[i];
 
+		blurLayers = new BlurStorageFilter[ sigmaLayers.length ];
+		for( int i = 0; i < sigmaLayers.length; i++ )
+			blurLayers[i] = FactoryBlurFilter.gaussian(imageType, this.sigmaLayers[i],-1);
+
 		sigma = new double[ sigmaLayers.length ];
 		sigma[0] = sigmaLayers[0];
 		for( int i = 1; i < scales.length; i++ ) {
@@ -104,9 +111,8 @@ public class PyramidFloatGaussianScale< T extends ImageGray<T>> extends PyramidF
 			T layer = getLayer(i);
 
 			// Apply the requested blur to the previous layer
-			BlurStorageFilter<T> blur = (BlurStorageFilter<T>) FactoryBlurFilter.gaussian(layer.getImageType(), sigmaLayers[i],-1);
 			tempImage.reshape(prev.width,prev.height);
-			blur.process(prev,tempImage);
+			blurLayers[i].process(prev,tempImage);
 
 			// Resample the blurred image
 			if( scale[i] == 1 ) {
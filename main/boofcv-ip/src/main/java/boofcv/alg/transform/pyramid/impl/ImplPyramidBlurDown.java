@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid.impl;
+
+//CONCURRENT_INLINE import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImagePool;
+import boofcv.struct.image.ImageType;
+
+/**
+ * <p>
+ * Blurs and down samples an image in a single pass. Output pixel (x,y) is the convolution of the kernel centered
+ * around input pixel (x*skip,y*skip).  Along the image border the kernel is renormalized.  The horizontal pass is
+ * only computed at the sampled columns and written into a small tile which holds just the rows needed by the
+ * vertical pass, instead of an intermediate image.  Rows shared by consecutive tiles are moved to the top of the
+ * tile instead of being convolved again.  Tiles are leased from {@link ImagePool}.
+ * </p>
+ *
+ * <p>
+ * Produces the same results as a horizontal and then vertical normalized down convolution, including the
+ * rounding of the intermediate results for integer images.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplPyramidBlurDown {
+
+	//CONCURRENT_OMIT_BEGIN
+	/**
+	 * Approximate number of bytes used by the horizontal pass tile
+	 */
+	public static int TILE_BYTES = 64*1024;
+
+	//CONCURRENT_OMIT_END
+	private static final ImageType<GrayF32> TILE_F32 = ImageType.single(GrayF32.class);
+	private static final ImageType<GrayU8> TILE_U8 = ImageType.single(GrayU8.class);
+
+	/**
+	 * Blurs then down samples the image.
+	 *
+	 * @param kernel Blur kernel with an odd width.
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Must be no larger than the input divided by skip, rounded up. Modified.
+	 * @param skip Spacing between sampled input pixels
+	 */
+	public static void process( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output , int skip ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0,output.height,minBlockRows(kernel.width),(y0,y1)->process(kernel,input,output,skip,y0,y1));
+		process(kernel,input,output,skip,0,output.height);
+	}
+
+	/**
+	 * Blurs then down samples the image for the output rows from y0 to y1-1, inclusive.
+	 */
+	public static void process( Kernel1D_F32 kernel , GrayF32 input , GrayF32 output , int skip , int y0 , int y1 ) {
+		final int width = output.width;
+		final int radius = kernel.getRadius();
+		final int tileRows = selectTileRows(width*4,kernel.width,skip);
+
+		ImagePool pool = ImagePool.getDefault();
+		GrayF32 tile = pool.acquire(TILE_F32,width,(tileRows-1)*skip+kernel.width);
+		try {
+			// range of input rows which have been convolved horizontally and are stored in the tile
+			int rowA = 0, rowB = 0;
+
+			for( int t0 = y0; t0 < y1; t0 += tileRows ) {
+				int t1 = Math.min(y1,t0+tileRows);
+				int needA = Math.max(0,t0*skip-radius);
+				int needB = Math.min(input.height,(t1-1)*skip+radius+1);
+
+				int startNew = shiftTile(tile.data,width,rowA,rowB,needA);
+				for( int y = startNew; y < needB; y++ ) {
+					horizontal(kernel,input,y,tile,y-needA,skip);
+				}
+				rowA = needA; rowB = needB;
+
+				for( int y = t0; y < t1; y++ ) {
+					vertical(kernel,tile,rowA,input.height,output,y,skip);
+				}
+			}
+		} finally {
+			pool.release(tile);
+		}
+	}
+
+	private static void horizontal( Kernel1D_F32 kernel , GrayF32 input , int y , GrayF32 tile , int row , int skip ) {
+		final float[] dataSrc = input.data;
+		final float[] dataKer = kernel.data;
+		final int radius = kernel.getRadius();
+		final int width = tile.width;
+		final int indexRow = input.startIndex + y*input.stride;
+		final int indexDst = row*width;
+
+		// output columns where the entire kernel is inside the image
+		final int interiorA = Math.min(width,(radius+skip-1)/skip);
+		final int interiorB = Math.max(interiorA,Math.min(width,(input.width-radius+skip-1)/skip));
+
+		for( int x = interiorA; x < interiorB; x++ ) {
+			int indexSrc = indexRow + x*skip - radius;
+			float total = 0;
+			for( int k = 0; k < dataKer.length; k++ ) {
+				total += dataSrc[indexSrc+k]*dataKer[k];
+			}
+			tile.data[indexDst+x] = total;
+		}
+
+		for( int x = 0; x < interiorA; x++ ) {
+			tile.data[indexDst+x] = horizontalBorder(kernel,dataSrc,indexRow,input.width,x*skip);
+		}
+		for( int x = interiorB; x < width; x++ ) {
+			tile.data[indexDst+x] = horizontalBorder(kernel,dataSrc,indexRow,input.width,x*skip);
+		}
+	}
+
+	private static float horizontalBorder( Kernel1D_F32 kernel , float[] dataSrc , int indexRow , int inputWidth , int x ) {
+		final float[] dataKer = kernel.data;
+		final int radius = kernel.getRadius();
+		final int kStart = Math.max(0,radius-x);
+		final int kEnd = Math.min(dataKer.length,inputWidth-x+radius);
+
+		float total = 0;
+		float weight = 0;
+		for( int k = kStart; k < kEnd; k++ ) {
+			float w = dataKer[k];
+			weight += w;
+			total += dataSrc[indexRow+x-radius+k]*w;
+		}
+		return total/weight;
+	}
+
+	/**
+	 * Vertical pass for a single output row.
+	 *
+	 * @param rowA The first input row in the tile
+	 */
+	private static void vertical( Kernel1D_F32 kernel , GrayF32 tile , int rowA , int inputHeight ,
+								  GrayF32 output , int y , int skip ) {
+		final float[] dataKer = kernel.data;
+		final int width = output.width;
+		final int radius = kernel.getRadius();
+		final int center = y*skip;
+		final int kStart = Math.max(0,radius-center);
+		final int kEnd = Math.min(dataKer.length,inputHeight-center+radius);
+
+		final int indexTile = (center-radius+kStart-rowA)*width;
+		int indexDst = output.startIndex + y*output.stride;
+
+		if( kStart == 0 && kEnd == dataKer.length ) {
+			for( int x = 0; x < width; x++ ) {
+				float total = 0;
+				for( int k = 0, indexSrc = indexTile+x; k < dataKer.length; k++, indexSrc += width ) {
+					total += tile.data[indexSrc]*dataKer[k];
+				}
+				output.data[indexDst++] = total;
+			}
+		} else {
+			for( int x = 0; x < width; x++ ) {
+				float total = 0;
+				float weight = 0;
+				for( int k = kStart, indexSrc = indexTile+x; k < kEnd; k++, indexSrc += width ) {
+					float w = dataKer[k];
+					weight += w;
+					total += tile.data[indexSrc]*w;
+				}
+				output.data[indexDst++] = total/weight;
+			}
+		}
+	}
+
+	/**
+	 * Blurs then down samples the image.  The kernel is normalized by dividing by its sum and the
+	 * result is rounded.
+	 *
+	 * @param kernel Blur kernel with an odd width.
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Must be no larger than the input divided by skip, rounded up. Modified.
+	 * @param skip Spacing between sampled input pixels
+	 */
+	public static void process( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output , int skip ) {
+		//CONCURRENT_BELOW BoofConcurrency.loopBlocks(0,output.height,minBlockRows(kernel.width),(y0,y1)->process(kernel,input,output,skip,y0,y1));
+		process(kernel,input,output,skip,0,output.height);
+	}
+
+	/**
+	 * Blurs then down samples the image for the output rows from y0 to y1-1, inclusive.
+	 */
+	public static void process( Kernel1D_S32 kernel , GrayU8 input , GrayU8 output , int skip , int y0 , int y1 ) {
+		final int width = output.width;
+		final int radius = kernel.getRadius();
+		final int tileRows = selectTileRows(width,kernel.width,skip);
+
+		ImagePool pool = ImagePool.getDefault();
+		GrayU8 tile = pool.acquire(TILE_U8,width,(tileRows-1)*skip+kernel.width);
+		try {
+			// range of input rows which have been convolved horizontally and are stored in the tile
+			int rowA = 0, rowB = 0;
+
+			for( int t0 = y0; t0 < y1; t0 += tileRows ) {
+				int t1 = Math.min(y1,t0+tileRows);
+				int needA = Math.max(0,t0*skip-radius);
+				int needB = Math.min(input.height,(t1-1)*skip+radius+1);
+
+				int startNew = shiftTile(tile.data,width,rowA,rowB,needA);
+				for( int y = startNew; y < needB; y++ ) {
+					horizontal(kernel,input,y,tile,y-needA,skip);
+				}
+				rowA = needA; rowB = needB;
+
+				for( int y = t0; y < t1; y++ ) {
+					vertical(kernel,tile,rowA,input.height,output,y,skip);
+				}
+			}
+		} finally {
+			pool.release(tile);
+		}
+	}
+
+	private static void horizontal( Kernel1D_S32 kernel , GrayU8 input , int y , GrayU8 tile , int row , int skip ) {
+		final byte[] dataSrc = input.data;
+		final int[] dataKer = kernel.data;
+		final int radius = kernel.getRadius();
+		final int width = tile.width;
+		final int indexRow = input.startIndex + y*input.stride;
+		final int indexDst = row*width;
+		final int divisor = kernel.computeSum();
+		final int halfDivisor = divisor/2;
+
+		// output columns where the entire kernel is inside the image
+		final int interiorA = Math.min(width,(radius+skip-1)/skip);
+		final int interiorB = Math.max(interiorA,Math.min(width,(input.width-radius+skip-1)/skip));
+
+		for( int x = interiorA; x < interiorB; x++ ) {
+			int indexSrc = indexRow + x*skip - radius;
+			int total = 0;
+			for( int k = 0; k < dataKer.length; k++ ) {
+				total += (dataSrc[indexSrc+k] & 0xFF)*dataKer[k];
+			}
+			tile.data[indexDst+x] = (byte)((total+halfDivisor)/divisor);
+		}
+
+		for( int x = 0; x < interiorA; x++ ) {
+			tile.data[indexDst+x] = (byte)horizontalBorder(kernel,dataSrc,indexRow,input.width,x*skip);
+		}
+		for( int x = interiorB; x < width; x++ ) {
+			tile.data[indexDst+x] = (byte)horizontalBorder(kernel,dataSrc,indexRow,input.width,x*skip);
+		}
+	}
+
+	private static int horizontalBorder( Kernel1D_S32 kernel , byte[] dataSrc , int indexRow , int inputWidth , int x ) {
+		final int[] dataKer = kernel.data;
+		final int radius = kernel.getRadius();
+		final int kStart = Math.max(0,radius-x);
+		final int kEnd = Math.min(dataKer.length,inputWidth-x+radius);
+
+		int total = 0;
+		int weight = 0;
+		for( int k = kStart; k < kEnd; k++ ) {
+			int w = dataKer[k];
+			weight += w;
+			total += (dataSrc[indexRow+x-radius+k] & 0xFF)*w;
+		}
+		return (total+weight/2)/weight;
+	}
+
+	/**
+	 * Vertical pass for a single output row.
+	 *
+	 * @param rowA The first input row in the tile
+	 */
+	private static void vertical( Kernel1D_S32 kernel , GrayU8 tile , int rowA , int inputHeight ,
+								  GrayU8 output , int y , int skip ) {
+		final int[] dataKer = kernel.data;
+		final int width = output.width;
+		final int radius = kernel.getRadius();
+		final int center = y*skip;
+		final int kStart = Math.max(0,radius-center);
+		final int kEnd = Math.min(dataKer.length,inputHeight-center+radius);
+
+		int weight = 0;
+		for( int k = kStart; k < kEnd; k++ ) {
+			weight += dataKer[k];
+		}
+		final int halfWeight = weight/2;
+
+		final int indexTile = (center-radius+kStart-rowA)*width;
+		int indexDst = output.startIndex + y*output.stride;
+
+		for( int x = 0; x < width; x++ ) {
+			int total = 0;
+			for( int k = kStart, indexSrc = indexTile+x; k < kEnd; k++, indexSrc += width ) {
+				total += (tile.data[indexSrc] & 0xFF)*dataKer[k];
+			}
+			output.data[indexDst++] = (byte)((total+halfWeight)/weight);
+		}
+	}
+
+	/**
+	 * Moves rows which are still needed to the top of the tile.
+	 *
+	 * @return The first row which still needs to be computed
+	 */
+	private static int shiftTile( Object dataTile , int width , int rowA , int rowB , int needA ) {
+		if( needA < rowA || needA >= rowB )
+			return needA;
+		if( needA > rowA )
+			System.arraycopy(dataTile,(needA-rowA)*width,dataTile,0,(rowB-needA)*width);
+		return rowB;
+	}
+
+	/**
+	 * Selects the number of output rows in a tile.
+	 *
+	 * @param rowBytes Number of bytes in a row of the tile
+	 * @param kernelWidth Number of input rows needed by each output row
+	 */
+	private static int selectTileRows( int rowBytes , int kernelWidth , int skip ) {
+		//CONCURRENT_BELOW int inputRows = ImplPyramidBlurDown.TILE_BYTES/Math.max(1,rowBytes);
+		int inputRows = TILE_BYTES/Math.max(1,rowBytes);
+		return Math.max(4,(inputRows-kernelWidth)/skip+1);
+	}
+
+	/**
+	 * Each block of rows processed by a thread convolves rows which are shared with the next block. The
+	 * block is made large enough that this is insignificant.
+	 */
+	private static int minBlockRows( int kernelWidth ) {
+		return Math.max(16,2*kernelWidth);
+	}
+}
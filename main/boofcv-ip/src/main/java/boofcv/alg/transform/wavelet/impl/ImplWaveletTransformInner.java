@@ -19,8 +19,7 @@
 package boofcv.alg.transform.wavelet.impl;
 
 import boofcv.alg.transform.wavelet.UtilWavelet;
-import boofcv.struct.image.GrayF32;
-import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.*;
 import boofcv.struct.wavelet.WlCoef_F32;
 import boofcv.struct.wavelet.WlCoef_I32;
 
@@ -40,6 +39,10 @@ import boofcv.struct.wavelet.WlCoef_I32;
 @SuppressWarnings({"ForLoopReplaceableByForEach"})
 public class ImplWaveletTransformInner {
 
+	//CONCURRENT_INLINE // storage for the inverse is leased so that it's not declared for every block
+	//CONCURRENT_INLINE private static final ImageType<GrayF32> WORK_F32 = ImageType.single(GrayF32.class);
+	//CONCURRENT_INLINE private static final ImageType<GrayS32> WORK_S32 = ImageType.single(GrayS32.class);
+
 	public static void horizontal(WlCoef_F32 coefficients , GrayF32 input , GrayF32 output )
 	{
 		final int offsetA = coefficients.offsetScaling;
@@ -56,6 +59,7 @@ public class ImplWaveletTransformInner {
 		final int startX = UtilWavelet.borderForwardLower(coefficients);
 		final int endOffsetX = input.width - UtilWavelet.borderForwardUpper(coefficients,input.width) - startX;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
 		for( int y = 0; y < height; y++ ) {
 
 			int indexIn = input.startIndex + input.stride*y + startX;
@@ -81,6 +85,7 @@ public class ImplWaveletTransformInner {
 				dataOut[ indexOut++ ] = scale;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical(WlCoef_F32 coefficients , GrayF32 input , GrayF32 output )
@@ -99,6 +104,7 @@ public class ImplWaveletTransformInner {
 		final int startY = UtilWavelet.borderForwardLower(coefficients);
 		final int endY = input.height - UtilWavelet.borderForwardUpper(coefficients,input.width);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(startY/2, (endY+1)/2, row -> { final int y = row*2;
 		for( int y = startY; y < endY; y += 2 ) {
 
 			int indexIn = input.startIndex + input.stride*y;
@@ -125,6 +131,7 @@ public class ImplWaveletTransformInner {
 
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontalInverse(WlCoef_F32 coefficients , GrayF32 input , GrayF32 output )
@@ -134,7 +141,9 @@ public class ImplWaveletTransformInner {
 		final float[] alpha = coefficients.scaling;
 		final float[] beta = coefficients.wavelet;
 
+		//CONCURRENT_REMOVE_BELOW
 		float []trends = new float[ output.width ];
+		//CONCURRENT_REMOVE_BELOW
 		float []details = new float[ output.width ];
 
 		final int width = input.width;
@@ -142,6 +151,12 @@ public class ImplWaveletTransformInner {
 		final int widthD2 = width/2;
 		final int lowerBorder = UtilWavelet.borderForwardLower(coefficients);
 		final int upperBorder = output.width - UtilWavelet.borderForwardUpper(coefficients,output.width);
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, height, (y0,y1)->{
+		//CONCURRENT_INLINE final GrayF32 workTrends = ImagePool.getDefault().acquire(WORK_F32,output.width,1);
+		//CONCURRENT_INLINE final GrayF32 workDetails = ImagePool.getDefault().acquire(WORK_F32,output.width,1);
+		//CONCURRENT_INLINE final float []trends = workTrends.data;
+		//CONCURRENT_INLINE final float []details = workDetails.data;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = 0; y < height; y++ ) {
 
 			// initialize details and trends arrays
@@ -186,6 +201,9 @@ public class ImplWaveletTransformInner {
 				output.data[ indexDst++ ] = (trends[x] + details[x]);
 			}
 		}
+		//CONCURRENT_INLINE ImagePool.getDefault().release(workTrends);
+		//CONCURRENT_INLINE ImagePool.getDefault().release(workDetails);
+		//CONCURRENT_INLINE });
 	}
 
 	public static void verticalInverse(WlCoef_F32 coefficients , GrayF32 input , GrayF32 output )
@@ -195,7 +213,9 @@ public class ImplWaveletTransformInner {
 		final float[] alpha = coefficients.scaling;
 		final float[] beta = coefficients.wavelet;
 
+		//CONCURRENT_REMOVE_BELOW
 		float []trends = new float[ output.height ];
+		//CONCURRENT_REMOVE_BELOW
 		float []details = new float[ output.height ];
 
 		final int width = output.width;
@@ -203,6 +223,12 @@ public class ImplWaveletTransformInner {
 		final int heightD2 = (height/2)*input.stride;
 		final int lowerBorder = UtilWavelet.borderForwardLower(coefficients);
 		final int upperBorder = output.height - UtilWavelet.borderForwardUpper(coefficients,output.height);
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, width, (x0,x1)->{
+		//CONCURRENT_INLINE final GrayF32 workTrends = ImagePool.getDefault().acquire(WORK_F32,output.height,1);
+		//CONCURRENT_INLINE final GrayF32 workDetails = ImagePool.getDefault().acquire(WORK_F32,output.height,1);
+		//CONCURRENT_INLINE final float []trends = workTrends.data;
+		//CONCURRENT_INLINE final float []details = workDetails.data;
+		//CONCURRENT_BELOW for( int x = x0; x < x1; x++ ) {
 		for( int x = 0; x < width; x++) {
 
 			int indexSrc = input.startIndex + (lowerBorder/2)*input.stride + x;
@@ -247,6 +273,9 @@ public class ImplWaveletTransformInner {
 				output.data[ indexDst ] = (trends[y] + details[y]);
 			}
 		}
+		//CONCURRENT_INLINE ImagePool.getDefault().release(workTrends);
+		//CONCURRENT_INLINE ImagePool.getDefault().release(workDetails);
+		//CONCURRENT_INLINE });
 	}
 
 	public static void horizontal(WlCoef_I32 coefficients , GrayS32 input , GrayS32 output )
@@ -265,6 +294,7 @@ public class ImplWaveletTransformInner {
 		final int startX = UtilWavelet.borderForwardLower(coefficients);
 		final int endOffsetX = input.width - UtilWavelet.borderForwardUpper(coefficients,input.width) - startX;
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, height, y -> {
 		for( int y = 0; y < height; y++ ) {
 
 			int indexIn = input.startIndex + input.stride*y + startX;
@@ -293,6 +323,7 @@ public class ImplWaveletTransformInner {
 				dataOut[ indexOut++ ] = scale;
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void vertical(WlCoef_I32 coefficients , GrayS32 input , GrayS32 output )
@@ -311,6 +342,7 @@ public class ImplWaveletTransformInner {
 		final int startY = UtilWavelet.borderForwardLower(coefficients);
 		final int endY = input.height - UtilWavelet.borderForwardUpper(coefficients,input.width);
 
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(startY/2, (endY+1)/2, row -> { final int y = row*2;
 		for( int y = startY; y < endY; y += 2 ) {
 
 			int indexIn = input.startIndex + input.stride*y;
@@ -340,6 +372,7 @@ public class ImplWaveletTransformInner {
 
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void horizontalInverse(WlCoef_I32 coefficients , GrayS32 input , GrayS32 output )
@@ -349,7 +382,9 @@ public class ImplWaveletTransformInner {
 		final int[] alpha = coefficients.scaling;
 		final int[] beta = coefficients.wavelet;
 
+		//CONCURRENT_REMOVE_BELOW
 		int []trends = new int[ output.width ];
+		//CONCURRENT_REMOVE_BELOW
 		int []details = new int[ output.width ];
 
 		final int width = input.width;
@@ -362,6 +397,12 @@ public class ImplWaveletTransformInner {
 		final int ef = e*f;
 		final int ef2 = ef/2;
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, height, (y0,y1)->{
+		//CONCURRENT_INLINE final GrayS32 workTrends = ImagePool.getDefault().acquire(WORK_S32,output.width,1);
+		//CONCURRENT_INLINE final GrayS32 workDetails = ImagePool.getDefault().acquire(WORK_S32,output.width,1);
+		//CONCURRENT_INLINE final int []trends = workTrends.data;
+		//CONCURRENT_INLINE final int []details = workDetails.data;
+		//CONCURRENT_BELOW for( int y = y0; y < y1; y++ ) {
 		for( int y = 0; y < height; y++ ) {
 
 			// initialize details and trends arrays
@@ -406,6 +447,9 @@ public class ImplWaveletTransformInner {
 				output.data[ indexDst++ ] = UtilWavelet.round(trends[x]*f + details[x]*e , ef2,ef);
 			}
 		}
+		//CONCURRENT_INLINE ImagePool.getDefault().release(workTrends);
+		//CONCURRENT_INLINE ImagePool.getDefault().release(workDetails);
+		//CONCURRENT_INLINE });
 	}
 
 	public static void verticalInverse(WlCoef_I32 coefficients , GrayS32 input , GrayS32 output )
@@ -415,7 +459,9 @@ public class ImplWaveletTransformInner {
 		final int[] alpha = coefficients.scaling;
 		final int[] beta = coefficients.wavelet;
 
+		//CONCURRENT_REMOVE_BELOW
 		int []trends = new int[ output.height ];
+		//CONCURRENT_REMOVE_BELOW
 		int []details = new int[ output.height ];
 
 		final int width = output.width;
@@ -428,6 +474,12 @@ public class ImplWaveletTransformInner {
 		final int ef = e*f;
 		final int ef2 = ef/2;
 
+		//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0, width, (x0,x1)->{
+		//CONCURRENT_INLINE final GrayS32 workTrends = ImagePool.getDefault().acquire(WORK_S32,output.height,1);
+		//CONCURRENT_INLINE final GrayS32 workDetails = ImagePool.getDefault().acquire(WORK_S32,output.height,1);
+		//CONCURRENT_INLINE final int []trends = workTrends.data;
+		//CONCURRENT_INLINE final int []details = workDetails.data;
+		//CONCURRENT_BELOW for( int x = x0; x < x1; x++ ) {
 		for( int x = 0; x < width; x++) {
 
 			int indexSrc = input.startIndex + (lowerBorder/2)*input.stride + x;
@@ -472,6 +524,9 @@ public class ImplWaveletTransformInner {
 				output.data[ indexDst ] = UtilWavelet.round(trends[y]*f + details[y]*e , ef2 , ef);
 			}
 		}
+		//CONCURRENT_INLINE ImagePool.getDefault().release(workTrends);
+		//CONCURRENT_INLINE ImagePool.getDefault().release(workDetails);
+		//CONCURRENT_INLINE });
 	}
 
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * <p>
+ * Central location for controlling the use of concurrent (i.e. multi-threaded) algorithms. Functions with
+ * a concurrent implementation, which by convention have the suffix "_MT", will be used instead of their
+ * single threaded equivalent when {@link #USE_CONCURRENT} is true. Work is split across a shared
+ * {@link ForkJoinPool} whose size can be adjusted with {@link #setMaxThreads(int)}.
+ * </p>
+ *
+ * <p>
+ * Results of concurrent algorithms are identical to the single threaded versions.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BoofConcurrency {
+	/**
+	 * If true then concurrent implementations will be used when available. Set to false to turn off all threading.
+	 */
+	public static boolean USE_CONCURRENT = true;
+
+	// thread pool which all concurrent operations are run inside of
+	private static volatile ForkJoinPool pool = new ForkJoinPool();
+
+	/**
+	 * Changes the maximum number of threads available in the thread pool
+	 *
+	 * @param threads Maximum number of threads. If less than 1 then it will be set to 1.
+	 */
+	public static void setMaxThreads( int threads ) {
+		pool = new ForkJoinPool(Math.max(1,threads));
+	}
+
+	/**
+	 * Returns the maximum number of threads which will be used
+	 */
+	public static int getMaxThreads() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * Concurrent for loop. Each value in the range is passed to the consumer. The order in which values
+	 * are processed is not specified.
+	 *
+	 * @param start First value in the loop, inclusive
+	 * @param endExclusive Last value in the loop, exclusive
+	 * @param consumer Processes a single value
+	 */
+	public static void loopFor( int start , int endExclusive , IntConsumer consumer ) {
+		if( endExclusive <= start )
+			return;
+		execute(pool,() -> IntStream.range(start, endExclusive).parallel().forEach(consumer));
+	}
+
+	/**
+	 * Concurrent for loop which splits the range into contiguous blocks. Processing a block of values
+	 * at once allows work buffers to be shared within a block and reduces overhead when each value is cheap.
+	 *
+	 * @param start First value in the loop, inclusive
+	 * @param endExclusive Last value in the loop, exclusive
+	 * @param consumer Processes a block of values
+	 */
+	public static void loopBlocks( int start , int endExclusive , IntRangeConsumer consumer ) {
+		loopBlocks(start,endExclusive,1,consumer);
+	}
+
+	/**
+	 * Concurrent for loop which splits the range into contiguous blocks. Processing a block of values
+	 * at once allows work buffers to be shared within a block and reduces overhead when each value is cheap.
+	 *
+	 * @param start First value in the loop, inclusive
+	 * @param endExclusive Last value in the loop, exclusive
+	 * @param minBlock Minimum number of values in a block
+	 * @param consumer Processes a block of values
+	 */
+	public static void loopBlocks( int start , int endExclusive , int minBlock , IntRangeConsumer consumer ) {
+		if( endExclusive <= start )
+			return;
+		final ForkJoinPool pool = BoofConcurrency.pool;
+		int blockSize = selectBlockSize(endExclusive-start,minBlock,pool.getParallelism());
+
+		// not worth the overhead of spawning a task
+		if( blockSize >= endExclusive-start ) {
+			consumer.accept(start,endExclusive);
+			return;
+		}
+		pool.invoke(new IntRangeTask(start,endExclusive,blockSize,consumer));
+	}
+
+	/**
+	 * Selects the size of a block so that the work is evenly divided between the threads. Each block will have
+	 * at least 'minBlock' elements.
+	 *
+	 * @param totalWork Number of elements being processed
+	 * @param minBlock Minimum number of elements in a block
+	 * @param numThreads Number of threads
+	 * @return size of a block
+	 */
+	public static int selectBlockSize( int totalWork , int minBlock , int numThreads ) {
+		int blockSize = Math.max(minBlock,totalWork/numThreads);
+		// distribute the remainder so that the last block isn't tiny
+		int numBlocks = Math.max(1,totalWork/blockSize);
+		return Math.max(1,totalWork/numBlocks);
+	}
+
+	/**
+	 * Runs the task inside the pool and waits for it to finish. Exceptions thrown by the task are
+	 * rethrown in the calling thread.
+	 */
+	private static void execute( ForkJoinPool pool , Runnable task ) {
+		try {
+			pool.submit(task).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if( cause instanceof RuntimeException )
+				throw (RuntimeException)cause;
+			if( cause instanceof Error )
+				throw (Error)cause;
+			throw new RuntimeException(cause);
+		}
+	}
+
+	/**
+	 * Recursively splits the range in half until it's at or below the block size
+	 */
+	private static class IntRangeTask extends RecursiveAction {
+		final int start, end, blockSize;
+		final IntRangeConsumer consumer;
+
+		IntRangeTask(int start, int end, int blockSize, IntRangeConsumer consumer) {
+			this.start = start;
+			this.end = end;
+			this.blockSize = blockSize;
+			this.consumer = consumer;
+		}
+
+		@Override
+		protected void compute() {
+			int length = end-start;
+			if( length < 2*blockSize ) {
+				consumer.accept(start,end);
+			} else {
+				int middle = start + (length/blockSize/2)*blockSize;
+				invokeAll(new IntRangeTask(start,middle,blockSize,consumer),
+						new IntRangeTask(middle,end,blockSize,consumer));
+			}
+		}
+	}
+}
@@ -117,6 +117,34 @@ public class ConvertNV21 {
 		return output;
 	}
 
+	/**
+	 * Creates a gray scale U8 image which views the NV21 image's luminance plane.  Unlike
+	 * {@link #nv21ToGray(byte[], int, int, GrayU8)} nothing is copied, but the image will change when the NV21
+	 * data is modified.
+	 *
+	 * @param data Input: NV21 image data
+	 * @param width Input: NV21 image width
+	 * @param height Input: NV21 image height
+	 * @param output Output: Optional storage for output image.  Can be null.
+	 * @return Gray scale image which is a sub-image of the NV21 data
+	 */
+	public static GrayU8 nv21ToGrayView(byte[] data , int width , int height , GrayU8 output ) {
+		if( data.length < width*height )
+			throw new IllegalArgumentException("data is too small for the image");
+		if( output == null )
+			output = new GrayU8();
+
+		output.data = data;
+		output.startIndex = 0;
+		output.stride = width;
+		output.width = width;
+		output.height = height;
+		// the array belongs to the NV21 image and must not be replaced by reshape()
+		output.subImage = true;
+
+		return output;
+	}
+
 	/**
 	 * Converts an NV21 image into a gray scale F32 image.
 	 *
@@ -92,6 +92,22 @@ public class ConvertYV12 {
         return output;
     }
 
+    /**
+     * Creates a gray scale U8 image which views the YV12 image's luminance plane without copying it.
+     *
+     * @see ConvertNV21#nv21ToGrayView(byte[], int, int, GrayU8)
+     *
+     * @param data Input: YV12 image data
+     * @param width Input: image width
+     * @param height Input: image height
+     * @param output Output: Optional storage for output image.  Can be null.
+     * @return Gray scale image which is a sub-image of the YV12 data
+     */
+    public static GrayU8 yu12ToGrayView(byte[] data , int width , int height , GrayU8 output ) {
+        // the luminance plane is stored the same way in both formats
+        return ConvertNV21.nv21ToGrayView(data,width,height,output);
+    }
+
     /**
      * Converts an YV12 image into a gray scale F32 image.
      *
@@ -24,28 +24,166 @@ import org.ddogleg.struct.GrowQueue_I8;
 import java.nio.ByteBuffer;
 
 /**
+ * <p>
  * Converts images that are stored in {@link java.nio.ByteBuffer} into BoofCV image types and performs
  * a local copy when the raw array can't be accessed
+ * </p>
+ *
+ * <p>
+ * If the buffer is backed by an array, see {@link ByteBuffer#hasArray()}, then the wrap functions create an image
+ * which views the buffer's memory directly.  No pixels are copied and the image can be passed to any operation which
+ * supports sub-images.  Direct buffers, e.g. from native capture or memory mapped files, are not backed by an array
+ * and are copied one row at a time into the image instead. To avoid the copy have the source write into the buffer
+ * returned by {@link #asByteBuffer(GrayU8)} instead, e.g. with {@link java.nio.channels.FileChannel#read(ByteBuffer)}.
+ * </p>
+ *
+ * <p>
+ * Offsets are relative to the start of the buffer and not its position. The position and limit of the source
+ * buffer are never modified, so the same buffer can be read by several threads at once.
+ * </p>
  *
  * @author Peter Abeles
  */
 public class ConvertByteBufferImage {
 
+	/**
+	 * Returns true if the buffer can be wrapped by an image without copying it
+	 */
+	public static boolean canWrap( ByteBuffer src ) {
+		return src.hasArray();
+	}
+
+	/**
+	 * Creates a gray scale image which views the buffer's memory without copying it. If that's not possible,
+	 * see {@link #canWrap(ByteBuffer)}, then the pixels are copied into the image.
+	 *
+	 * @param src Buffer containing a gray scale image with 8-bits per pixel
+	 * @param srcOffset Index of the first pixel in the buffer
+	 * @param srcStride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @param dst (Optional) Storage for the output image. Can be null.
+	 * @return Image which views the buffer, or contains a copy of it. If the buffer is viewed then it's a sub-image
+	 * and can't be reshaped.
+	 */
+	public static GrayU8 wrap( ByteBuffer src , int srcOffset , int srcStride , int width , int height , GrayU8 dst ) {
+		checkSize(src,srcOffset,srcStride,width,height);
+		if( src.hasArray() ) {
+			if( dst == null )
+				dst = new GrayU8();
+			dst.data = src.array();
+			dst.startIndex = src.arrayOffset() + srcOffset;
+			dst.stride = srcStride;
+			dst.width = width;
+			dst.height = height;
+			// the array belongs to the buffer and must not be replaced by reshape()
+			dst.subImage = true;
+		} else {
+			if( dst == null || dst.isSubimage() )
+				dst = new GrayU8(width,height);
+			else
+				dst.reshape(width,height);
+			ByteBuffer view = src.duplicate();
+			for (int y = 0; y < height; y++) {
+				view.position(srcOffset + y*srcStride);
+				view.get(dst.data,dst.startIndex + y*dst.stride,width);
+			}
+		}
+		return dst;
+	}
+
+	/**
+	 * Creates an interleaved image which views the buffer's memory without copying it. If that's not possible,
+	 * see {@link #canWrap(ByteBuffer)}, then the pixels are copied into the image.
+	 *
+	 * @param src Buffer containing an interleaved image with 8-bits per band
+	 * @param srcOffset Index of the first pixel in the buffer
+	 * @param srcStride Number of bytes between the start of each row
+	 * @param width Image width
+	 * @param height Image height
+	 * @param numBands Number of interleaved bands
+	 * @param dst (Optional) Storage for the output image. Can be null.
+	 * @return Image which views the buffer, or contains a copy of it. If the buffer is viewed then it's a sub-image
+	 * and can't be reshaped.
+	 */
+	public static InterleavedU8 wrap( ByteBuffer src , int srcOffset , int srcStride ,
+									  int width , int height , int numBands , InterleavedU8 dst ) {
+		checkSize(src,srcOffset,srcStride,width*numBands,height);
+		if( src.hasArray() ) {
+			if( dst == null )
+				dst = new InterleavedU8();
+			dst.numBands = numBands;
+			dst.imageType.numBands = numBands;
+			dst.data = src.array();
+			dst.startIndex = src.arrayOffset() + srcOffset;
+			dst.stride = srcStride;
+			dst.width = width;
+			dst.height = height;
+			// the array belongs to the buffer and must not be replaced by reshape()
+			dst.subImage = true;
+		} else {
+			if( dst == null || dst.isSubimage() ) {
+				dst = new InterleavedU8(width,height,numBands);
+			} else {
+				dst.setNumberOfBands(numBands);
+				dst.reshape(width,height);
+			}
+			ByteBuffer view = src.duplicate();
+			for (int y = 0; y < height; y++) {
+				view.position(srcOffset + y*srcStride);
+				view.get(dst.data,dst.startIndex + y*dst.stride,width*numBands);
+			}
+		}
+		return dst;
+	}
+
+	/**
+	 * Returns a buffer which views the image's memory. Writing to the buffer modifies the image.
+	 * The buffer's position is the image's first pixel and its limit is after the last pixel.
+	 *
+	 * @param image Image which is to be viewed
+	 * @return Buffer backed by the image's array
+	 */
+	public static ByteBuffer asByteBuffer( GrayU8 image ) {
+		return ByteBuffer.wrap(image.data,image.startIndex,lastIndex(image.stride,image.width,image.height)).slice();
+	}
+
+	/**
+	 * @see #asByteBuffer(GrayU8)
+	 */
+	public static ByteBuffer asByteBuffer( InterleavedU8 image ) {
+		return ByteBuffer.wrap(image.data,image.startIndex,
+				lastIndex(image.stride,image.width*image.numBands,image.height)).slice();
+	}
+
+	private static int lastIndex( int stride , int rowLength , int height ) {
+		return height == 0 ? 0 : (height-1)*stride + rowLength;
+	}
+
+	private static void checkSize( ByteBuffer src , int srcOffset , int srcStride , int rowLength , int height ) {
+		if( srcOffset < 0 || srcStride < rowLength )
+			throw new IllegalArgumentException("Invalid offset or stride");
+		if( srcOffset + lastIndex(srcStride,rowLength,height) > src.limit() )
+			throw new IllegalArgumentException("Buffer is too small for the image");
+	}
+
 	public static void from_3BU8_to_U8(ByteBuffer src , int srcOffset , int srcStride ,
 									   GrayU8 dst , GrowQueue_I8 work )
 	{
 		work.resize(dst.width*3);
 
+		final ByteBuffer view = src.duplicate();
+		final byte[] data = src.hasArray() ? src.array() : work.data;
 		int indexSrc = srcOffset;
 		for (int y = 0; y < dst.height; y++) {
-			src.position(indexSrc);
-			src.get(work.data,0,work.size);
+			int i = readRow(view,indexSrc,work);
+			final int end = i + work.size;
 
 			int indexDst = dst.startIndex + dst.stride * y;
-			for (int i = 0; i < work.size;) {
-				int r = work.data[i++] & 0xFF;
-				int g = work.data[i++] & 0xFF;
-				int b = work.data[i++] & 0xFF;
+			for (; i < end;) {
+				int r = data[i++] & 0xFF;
+				int g = data[i++] & 0xFF;
+				int b = data[i++] & 0xFF;
 
 				int ave = (r + g + b) / 3;
 
@@ -64,16 +202,18 @@ public class ConvertByteBufferImage {
 		GrayU8 g = dst.getBand(1);
 		GrayU8 b = dst.getBand(2);
 
+		final ByteBuffer view = src.duplicate();
+		final byte[] data = src.hasArray() ? src.array() : work.data;
 		int indexSrc = srcOffset;
 		for (int y = 0; y < dst.height; y++) {
-			src.position(indexSrc);
-			src.get(work.data,0,work.size);
+			int i = readRow(view,indexSrc,work);
+			final int end = i + work.size;
 
 			int indexDst = dst.startIndex + dst.stride * y;
-			for (int i = 0; i < work.size; indexDst++) {
-				r.data[indexDst] = work.data[i++];
-				g.data[indexDst] = work.data[i++];
-				b.data[indexDst] = work.data[i++];
+			for (; i < end; indexDst++) {
+				r.data[indexDst] = data[i++];
+				g.data[indexDst] = data[i++];
+				b.data[indexDst] = data[i++];
 			}
 			indexSrc += srcStride;
 		}
@@ -82,10 +222,11 @@ public class ConvertByteBufferImage {
 	public static void from_3BU8_to_3IU8(ByteBuffer src , int srcOffset , int srcStride ,
 										 InterleavedU8 dst )
 	{
+		ByteBuffer view = src.duplicate();
 		int indexSrc = srcOffset;
 		for (int y = 0; y < dst.height; y++) {
-			src.position(indexSrc);
-			src.get(dst.data,0,dst.width*3);
+			view.position(indexSrc);
+			view.get(dst.data,dst.startIndex + dst.stride*y,dst.width*3);
 			indexSrc += srcStride;
 		}
 	}
@@ -95,16 +236,18 @@ public class ConvertByteBufferImage {
 	{
 		work.resize(dst.width*3);
 
+		final ByteBuffer view = src.duplicate();
+		final byte[] data = src.hasArray() ? src.array() : work.data;
 		int indexSrc = srcOffset;
 		for (int y = 0; y < dst.height; y++) {
-			src.position(indexSrc);
-			src.get(work.data,0,work.size);
+			int i = readRow(view,indexSrc,work);
+			final int end = i + work.size;
 
 			int indexDst = dst.startIndex + dst.stride * y;
-			for (int i = 0; i < work.size;) {
-				int r = work.data[i++] & 0xFF;
-				int g = work.data[i++] & 0xFF;
-				int b = work.data[i++] & 0xFF;
+			for (; i < end;) {
+				int r = data[i++] & 0xFF;
+				int g = data[i++] & 0xFF;
+				int b = data[i++] & 0xFF;
 
 				int ave = (r + g + b) / 3;
 
@@ -123,16 +266,18 @@ public class ConvertByteBufferImage {
 		GrayF32 g = dst.getBand(1);
 		GrayF32 b = dst.getBand(2);
 
+		final ByteBuffer view = src.duplicate();
+		final byte[] data = src.hasArray() ? src.array() : work.data;
 		int indexSrc = srcOffset;
 		for (int y = 0; y < dst.height; y++) {
-			src.position(indexSrc);
-			src.get(work.data,0,work.size);
+			int i = readRow(view,indexSrc,work);
+			final int end = i + work.size;
 
 			int indexDst = dst.startIndex + dst.stride * y;
-			for (int i = 0; i < work.size; indexDst++) {
-				r.data[indexDst] = work.data[i++] & 0xFF;
-				g.data[indexDst] = work.data[i++] & 0xFF;
-				b.data[indexDst] = work.data[i++] & 0xFF;
+			for (; i < end; indexDst++) {
+				r.data[indexDst] = data[i++] & 0xFF;
+				g.data[indexDst] = data[i++] & 0xFF;
+				b.data[indexDst] = data[i++] & 0xFF;
 			}
 			indexSrc += srcStride;
 		}
@@ -143,18 +288,35 @@ public class ConvertByteBufferImage {
 	{
 		work.resize(dst.width*3);
 
+		final ByteBuffer view = src.duplicate();
+		final byte[] data = src.hasArray() ? src.array() : work.data;
 		int indexSrc = srcOffset;
 		for (int y = 0; y < dst.height; y++) {
-			src.position(indexSrc);
-			src.get(work.data,0,work.size);
+			int i = readRow(view,indexSrc,work);
+			final int end = i + work.size;
 
 			int indexDst = dst.startIndex + dst.stride * y;
-			for (int i = 0; i < work.size; ) {
-				dst.data[indexDst++] = work.data[i++] & 0xFF;
-				dst.data[indexDst++] = work.data[i++] & 0xFF;
-				dst.data[indexDst++] = work.data[i++] & 0xFF;
+			for (; i < end; ) {
+				dst.data[indexDst++] = data[i++] & 0xFF;
+				dst.data[indexDst++] = data[i++] & 0xFF;
+				dst.data[indexDst++] = data[i++] & 0xFF;
 			}
 			indexSrc += srcStride;
 		}
 	}
+
+	/**
+	 * Makes a row accessible as an array. If the buffer is backed by an array it's accessed directly, otherwise
+	 * the row is copied into work.
+	 *
+	 * @param view Duplicate of the source buffer. Its position is modified.
+	 * @return Index of the row's first element
+	 */
+	private static int readRow( ByteBuffer view , int index , GrowQueue_I8 work ) {
+		if( view.hasArray() )
+			return view.arrayOffset() + index;
+		view.position(index);
+		view.get(work.data,0,work.size);
+		return 0;
+	}
 }
@@ -97,9 +97,15 @@ public class GConvertImage {
 			if( mi.getImageType().getDataType() != so.getDataType() ) {
 				int w = output.width;
 				int h = output.height;
-				ImageGray tmp = GeneralizedImageOps.createSingleBand(mi.getImageType().getDataType(),w,h);
-				average(mi,tmp);
-				convert(tmp,so);
+				ImagePool pool = ImagePool.getDefault();
+				ImageType tmpType = ImageType.single(mi.getImageType().getDataType());
+				ImageGray tmp = (ImageGray)pool.acquire(tmpType,w,h);
+				try {
+					average(mi,tmp);
+					convert(tmp,so);
+				} finally {
+					pool.release(tmp);
+				}
 			} else {
 				average(mi,so);
 			}
@@ -137,9 +143,15 @@ public class GConvertImage {
 			if( mb.getImageType().getDataType() != so.getDataType() ) {
 				int w = output.width;
 				int h = output.height;
-				ImageGray tmp = GeneralizedImageOps.createSingleBand(mb.getImageType().getDataType(),w,h);
-				average(mb,tmp);
-				convert(tmp,so);
+				ImagePool pool = ImagePool.getDefault();
+				ImageType tmpType = ImageType.single(mb.getImageType().getDataType());
+				ImageGray tmp = (ImageGray)pool.acquire(tmpType,w,h);
+				try {
+					average(mb,tmp);
+					convert(tmp,so);
+				} finally {
+					pool.release(tmp);
+				}
 			} else {
 				average(mb,so);
 			}
@@ -38,6 +38,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -46,6 +47,7 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
@@ -59,6 +61,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -67,6 +70,7 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
@@ -79,6 +83,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -87,13 +92,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] & 0xFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -102,6 +111,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -110,13 +120,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] & 0xFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -124,6 +138,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -132,13 +147,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] & 0xFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -147,6 +166,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -155,13 +175,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] & 0xFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -169,6 +193,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -177,13 +202,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] & 0xFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -192,6 +221,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -200,13 +230,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] & 0xFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -214,6 +248,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -222,13 +257,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] & 0xFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -237,6 +276,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -245,13 +285,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] & 0xFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -259,6 +303,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -267,13 +312,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] & 0xFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -282,6 +331,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -290,56 +340,91 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] & 0xFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
 	public static void convert( InterleavedU8 input , Planar<GrayU8> output ) {
 
 		final int numBands = input.numBands;
-		for (int i = 0; i < numBands; i++) {
-			GrayU8 band = output.bands[i];
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final byte[] src = input.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexDst + input.width;
 
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y*input.stride + input.startIndex + i;
-				int indexDst = y*output.stride + output.startIndex;
-				int end = indexDst + input.width;
-				while( indexDst != end ) {
-					band.data[indexDst++] = input.data[indexSrc];
-					indexSrc += numBands;
+			if( numBands == 3 ) {
+				final byte[] band0 = output.bands[0].data;
+				final byte[] band1 = output.bands[1].data;
+				final byte[] band2 = output.bands[2].data;
+				for( ; indexDst != end; indexDst++ ) {
+					band0[indexDst] = src[indexSrc++];
+					band1[indexDst] = src[indexSrc++];
+					band2[indexDst] = src[indexSrc++];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final byte[] band = output.bands[i].data;
+					int indexS = indexSrc + i;
+					for( int indexD = indexDst; indexD != end; indexD++ ) {
+						band[indexD] = src[indexS];
+						indexS += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( Planar<GrayU8> input , InterleavedU8 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int i = 0; i < numBands; i++) {
-			GrayU8 band = input.bands[i];
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y * input.stride + input.startIndex;
-				int indexDst = y * output.stride + output.startIndex + i;
-				int end = indexSrc + input.width;
-				
-				while( indexSrc != end ) { 
-					output.data[indexDst] = band.data[indexSrc++];
-					indexDst += numBands;
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final byte[] dst = output.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexSrc + input.width;
+
+			if( numBands == 3 ) {
+				final byte[] band0 = input.bands[0].data;
+				final byte[] band1 = input.bands[1].data;
+				final byte[] band2 = input.bands[2].data;
+				for( ; indexSrc != end; indexSrc++ ) {
+					dst[indexDst++] = band0[indexSrc];
+					dst[indexDst++] = band1[indexSrc];
+					dst[indexDst++] = band2[indexSrc];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final byte[] band = input.bands[i].data;
+					int indexD = indexDst + i;
+					for( int indexS = indexSrc; indexS != end; indexS++ ) {
+						dst[indexD] = band[indexS];
+						indexD += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( GrayS8 from, GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -348,6 +433,7 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
@@ -361,6 +447,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -369,6 +456,7 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
@@ -381,6 +469,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -389,13 +478,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -404,6 +497,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -412,13 +506,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -426,6 +524,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -434,13 +533,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -449,6 +552,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -457,13 +561,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -471,6 +579,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -479,13 +588,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -494,6 +607,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -502,13 +616,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -516,6 +634,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -524,13 +643,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -539,6 +662,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -547,13 +671,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -561,6 +689,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -569,13 +698,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -584,6 +717,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -592,56 +726,91 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
 	public static void convert( InterleavedS8 input , Planar<GrayS8> output ) {
 
 		final int numBands = input.numBands;
-		for (int i = 0; i < numBands; i++) {
-			GrayS8 band = output.bands[i];
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final byte[] src = input.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexDst + input.width;
 
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y*input.stride + input.startIndex + i;
-				int indexDst = y*output.stride + output.startIndex;
-				int end = indexDst + input.width;
-				while( indexDst != end ) {
-					band.data[indexDst++] = input.data[indexSrc];
-					indexSrc += numBands;
+			if( numBands == 3 ) {
+				final byte[] band0 = output.bands[0].data;
+				final byte[] band1 = output.bands[1].data;
+				final byte[] band2 = output.bands[2].data;
+				for( ; indexDst != end; indexDst++ ) {
+					band0[indexDst] = src[indexSrc++];
+					band1[indexDst] = src[indexSrc++];
+					band2[indexDst] = src[indexSrc++];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final byte[] band = output.bands[i].data;
+					int indexS = indexSrc + i;
+					for( int indexD = indexDst; indexD != end; indexD++ ) {
+						band[indexD] = src[indexS];
+						indexS += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( Planar<GrayS8> input , InterleavedS8 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int i = 0; i < numBands; i++) {
-			GrayS8 band = input.bands[i];
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y * input.stride + input.startIndex;
-				int indexDst = y * output.stride + output.startIndex + i;
-				int end = indexSrc + input.width;
-				
-				while( indexSrc != end ) { 
-					output.data[indexDst] = band.data[indexSrc++];
-					indexDst += numBands;
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final byte[] dst = output.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexSrc + input.width;
+
+			if( numBands == 3 ) {
+				final byte[] band0 = input.bands[0].data;
+				final byte[] band1 = input.bands[1].data;
+				final byte[] band2 = input.bands[2].data;
+				for( ; indexSrc != end; indexSrc++ ) {
+					dst[indexDst++] = band0[indexSrc];
+					dst[indexDst++] = band1[indexSrc];
+					dst[indexDst++] = band2[indexSrc];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final byte[] band = input.bands[i].data;
+					int indexD = indexDst + i;
+					for( int indexS = indexSrc; indexS != end; indexS++ ) {
+						dst[indexD] = band[indexS];
+						indexD += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( GrayU16 from, GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -650,13 +819,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] & 0xFFFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -665,6 +838,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -673,13 +847,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] & 0xFFFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -687,6 +865,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -695,6 +874,7 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
@@ -708,6 +888,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -716,6 +897,7 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
@@ -728,6 +910,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -736,13 +919,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] & 0xFFFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -751,6 +938,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -759,13 +947,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] & 0xFFFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -773,6 +965,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -781,13 +974,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] & 0xFFFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -796,6 +993,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -804,13 +1002,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] & 0xFFFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -818,6 +1020,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -826,13 +1029,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] & 0xFFFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -841,6 +1048,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -849,13 +1057,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] & 0xFFFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -863,6 +1075,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -871,13 +1084,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] & 0xFFFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -886,6 +1103,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -894,56 +1112,91 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] & 0xFFFF);
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] & 0xFFFF);
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
 	public static void convert( InterleavedU16 input , Planar<GrayU16> output ) {
 
 		final int numBands = input.numBands;
-		for (int i = 0; i < numBands; i++) {
-			GrayU16 band = output.bands[i];
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final short[] src = input.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexDst + input.width;
 
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y*input.stride + input.startIndex + i;
-				int indexDst = y*output.stride + output.startIndex;
-				int end = indexDst + input.width;
-				while( indexDst != end ) {
-					band.data[indexDst++] = input.data[indexSrc];
-					indexSrc += numBands;
+			if( numBands == 3 ) {
+				final short[] band0 = output.bands[0].data;
+				final short[] band1 = output.bands[1].data;
+				final short[] band2 = output.bands[2].data;
+				for( ; indexDst != end; indexDst++ ) {
+					band0[indexDst] = src[indexSrc++];
+					band1[indexDst] = src[indexSrc++];
+					band2[indexDst] = src[indexSrc++];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final short[] band = output.bands[i].data;
+					int indexS = indexSrc + i;
+					for( int indexD = indexDst; indexD != end; indexD++ ) {
+						band[indexD] = src[indexS];
+						indexS += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( Planar<GrayU16> input , InterleavedU16 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int i = 0; i < numBands; i++) {
-			GrayU16 band = input.bands[i];
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y * input.stride + input.startIndex;
-				int indexDst = y * output.stride + output.startIndex + i;
-				int end = indexSrc + input.width;
-				
-				while( indexSrc != end ) { 
-					output.data[indexDst] = band.data[indexSrc++];
-					indexDst += numBands;
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final short[] dst = output.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexSrc + input.width;
+
+			if( numBands == 3 ) {
+				final short[] band0 = input.bands[0].data;
+				final short[] band1 = input.bands[1].data;
+				final short[] band2 = input.bands[2].data;
+				for( ; indexSrc != end; indexSrc++ ) {
+					dst[indexDst++] = band0[indexSrc];
+					dst[indexDst++] = band1[indexSrc];
+					dst[indexDst++] = band2[indexSrc];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final short[] band = input.bands[i].data;
+					int indexD = indexDst + i;
+					for( int indexS = indexSrc; indexS != end; indexS++ ) {
+						dst[indexD] = band[indexS];
+						indexD += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( GrayS16 from, GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -952,13 +1205,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -967,6 +1224,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -975,13 +1233,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -989,6 +1251,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -997,6 +1260,7 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
@@ -1010,6 +1274,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1018,6 +1283,7 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
@@ -1030,6 +1296,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1038,13 +1305,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1053,6 +1324,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1061,13 +1333,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1075,6 +1351,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1083,13 +1360,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1098,6 +1379,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1106,13 +1388,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1120,6 +1406,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1128,13 +1415,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1143,6 +1434,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1151,13 +1443,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1165,6 +1461,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1173,13 +1470,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1188,6 +1489,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1196,56 +1498,91 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
 	public static void convert( InterleavedS16 input , Planar<GrayS16> output ) {
 
 		final int numBands = input.numBands;
-		for (int i = 0; i < numBands; i++) {
-			GrayS16 band = output.bands[i];
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final short[] src = input.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexDst + input.width;
 
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y*input.stride + input.startIndex + i;
-				int indexDst = y*output.stride + output.startIndex;
-				int end = indexDst + input.width;
-				while( indexDst != end ) {
-					band.data[indexDst++] = input.data[indexSrc];
-					indexSrc += numBands;
+			if( numBands == 3 ) {
+				final short[] band0 = output.bands[0].data;
+				final short[] band1 = output.bands[1].data;
+				final short[] band2 = output.bands[2].data;
+				for( ; indexDst != end; indexDst++ ) {
+					band0[indexDst] = src[indexSrc++];
+					band1[indexDst] = src[indexSrc++];
+					band2[indexDst] = src[indexSrc++];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final short[] band = output.bands[i].data;
+					int indexS = indexSrc + i;
+					for( int indexD = indexDst; indexD != end; indexD++ ) {
+						band[indexD] = src[indexS];
+						indexS += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( Planar<GrayS16> input , InterleavedS16 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int i = 0; i < numBands; i++) {
-			GrayS16 band = input.bands[i];
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y * input.stride + input.startIndex;
-				int indexDst = y * output.stride + output.startIndex + i;
-				int end = indexSrc + input.width;
-				
-				while( indexSrc != end ) { 
-					output.data[indexDst] = band.data[indexSrc++];
-					indexDst += numBands;
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final short[] dst = output.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexSrc + input.width;
+
+			if( numBands == 3 ) {
+				final short[] band0 = input.bands[0].data;
+				final short[] band1 = input.bands[1].data;
+				final short[] band2 = input.bands[2].data;
+				for( ; indexSrc != end; indexSrc++ ) {
+					dst[indexDst++] = band0[indexSrc];
+					dst[indexDst++] = band1[indexSrc];
+					dst[indexDst++] = band2[indexSrc];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final short[] band = input.bands[i].data;
+					int indexD = indexDst + i;
+					for( int indexS = indexSrc; indexS != end; indexS++ ) {
+						dst[indexD] = band[indexS];
+						indexD += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( GrayS32 from, GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1254,13 +1591,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1269,6 +1610,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1277,13 +1619,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1291,6 +1637,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1299,13 +1646,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1314,6 +1665,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1322,13 +1674,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1336,6 +1692,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1344,13 +1701,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1359,6 +1720,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1367,13 +1729,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1381,6 +1747,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1389,13 +1756,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1404,6 +1775,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1412,13 +1784,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1426,6 +1802,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1434,13 +1811,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1449,6 +1830,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1457,56 +1839,91 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
 	public static void convert( InterleavedS32 input , Planar<GrayS32> output ) {
 
 		final int numBands = input.numBands;
-		for (int i = 0; i < numBands; i++) {
-			GrayS32 band = output.bands[i];
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final int[] src = input.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexDst + input.width;
 
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y*input.stride + input.startIndex + i;
-				int indexDst = y*output.stride + output.startIndex;
-				int end = indexDst + input.width;
-				while( indexDst != end ) {
-					band.data[indexDst++] = input.data[indexSrc];
-					indexSrc += numBands;
+			if( numBands == 3 ) {
+				final int[] band0 = output.bands[0].data;
+				final int[] band1 = output.bands[1].data;
+				final int[] band2 = output.bands[2].data;
+				for( ; indexDst != end; indexDst++ ) {
+					band0[indexDst] = src[indexSrc++];
+					band1[indexDst] = src[indexSrc++];
+					band2[indexDst] = src[indexSrc++];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final int[] band = output.bands[i].data;
+					int indexS = indexSrc + i;
+					for( int indexD = indexDst; indexD != end; indexD++ ) {
+						band[indexD] = src[indexS];
+						indexS += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( Planar<GrayS32> input , InterleavedS32 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int i = 0; i < numBands; i++) {
-			GrayS32 band = input.bands[i];
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y * input.stride + input.startIndex;
-				int indexDst = y * output.stride + output.startIndex + i;
-				int end = indexSrc + input.width;
-				
-				while( indexSrc != end ) { 
-					output.data[indexDst] = band.data[indexSrc++];
-					indexDst += numBands;
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final int[] dst = output.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexSrc + input.width;
+
+			if( numBands == 3 ) {
+				final int[] band0 = input.bands[0].data;
+				final int[] band1 = input.bands[1].data;
+				final int[] band2 = input.bands[2].data;
+				for( ; indexSrc != end; indexSrc++ ) {
+					dst[indexDst++] = band0[indexSrc];
+					dst[indexDst++] = band1[indexSrc];
+					dst[indexDst++] = band2[indexSrc];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final int[] band = input.bands[i].data;
+					int indexD = indexDst + i;
+					for( int indexS = indexSrc; indexS != end; indexS++ ) {
+						dst[indexD] = band[indexS];
+						indexD += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( GrayS64 from, GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1515,13 +1932,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1530,6 +1951,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1538,13 +1960,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1552,6 +1978,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1560,13 +1987,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1575,6 +2006,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1583,13 +2015,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1597,6 +2033,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1605,13 +2042,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( int )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1620,6 +2061,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1628,13 +2070,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( int )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1642,6 +2088,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1650,13 +2097,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1665,6 +2116,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1673,13 +2125,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1687,6 +2143,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1695,13 +2152,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1710,6 +2171,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1718,56 +2180,91 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
 	public static void convert( InterleavedS64 input , Planar<GrayS64> output ) {
 
 		final int numBands = input.numBands;
-		for (int i = 0; i < numBands; i++) {
-			GrayS64 band = output.bands[i];
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final long[] src = input.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexDst + input.width;
 
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y*input.stride + input.startIndex + i;
-				int indexDst = y*output.stride + output.startIndex;
-				int end = indexDst + input.width;
-				while( indexDst != end ) {
-					band.data[indexDst++] = input.data[indexSrc];
-					indexSrc += numBands;
+			if( numBands == 3 ) {
+				final long[] band0 = output.bands[0].data;
+				final long[] band1 = output.bands[1].data;
+				final long[] band2 = output.bands[2].data;
+				for( ; indexDst != end; indexDst++ ) {
+					band0[indexDst] = src[indexSrc++];
+					band1[indexDst] = src[indexSrc++];
+					band2[indexDst] = src[indexSrc++];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final long[] band = output.bands[i].data;
+					int indexS = indexSrc + i;
+					for( int indexD = indexDst; indexD != end; indexD++ ) {
+						band[indexD] = src[indexS];
+						indexS += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( Planar<GrayS64> input , InterleavedS64 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int i = 0; i < numBands; i++) {
-			GrayS64 band = input.bands[i];
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y * input.stride + input.startIndex;
-				int indexDst = y * output.stride + output.startIndex + i;
-				int end = indexSrc + input.width;
-				
-				while( indexSrc != end ) { 
-					output.data[indexDst] = band.data[indexSrc++];
-					indexDst += numBands;
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final long[] dst = output.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexSrc + input.width;
+
+			if( numBands == 3 ) {
+				final long[] band0 = input.bands[0].data;
+				final long[] band1 = input.bands[1].data;
+				final long[] band2 = input.bands[2].data;
+				for( ; indexSrc != end; indexSrc++ ) {
+					dst[indexDst++] = band0[indexSrc];
+					dst[indexDst++] = band1[indexSrc];
+					dst[indexDst++] = band2[indexSrc];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final long[] band = input.bands[i].data;
+					int indexD = indexDst + i;
+					for( int indexS = indexSrc; indexS != end; indexS++ ) {
+						dst[indexD] = band[indexS];
+						indexD += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( GrayF32 from, GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1776,13 +2273,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1791,6 +2292,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1799,13 +2301,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1813,6 +2319,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1821,13 +2328,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1836,6 +2347,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1844,13 +2356,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1858,6 +2374,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1866,13 +2383,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( int )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1881,6 +2402,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1889,13 +2411,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( int )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1903,6 +2429,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1911,13 +2438,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( long )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( long )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1926,6 +2457,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1934,13 +2466,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( long )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( long )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1948,6 +2484,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1956,13 +2493,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -1971,6 +2512,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -1979,56 +2521,91 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( double )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( double )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
 	public static void convert( InterleavedF32 input , Planar<GrayF32> output ) {
 
 		final int numBands = input.numBands;
-		for (int i = 0; i < numBands; i++) {
-			GrayF32 band = output.bands[i];
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final float[] src = input.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexDst + input.width;
 
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y*input.stride + input.startIndex + i;
-				int indexDst = y*output.stride + output.startIndex;
-				int end = indexDst + input.width;
-				while( indexDst != end ) {
-					band.data[indexDst++] = input.data[indexSrc];
-					indexSrc += numBands;
+			if( numBands == 3 ) {
+				final float[] band0 = output.bands[0].data;
+				final float[] band1 = output.bands[1].data;
+				final float[] band2 = output.bands[2].data;
+				for( ; indexDst != end; indexDst++ ) {
+					band0[indexDst] = src[indexSrc++];
+					band1[indexDst] = src[indexSrc++];
+					band2[indexDst] = src[indexSrc++];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final float[] band = output.bands[i].data;
+					int indexS = indexSrc + i;
+					for( int indexD = indexDst; indexD != end; indexD++ ) {
+						band[indexD] = src[indexS];
+						indexS += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( Planar<GrayF32> input , InterleavedF32 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int i = 0; i < numBands; i++) {
-			GrayF32 band = input.bands[i];
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y * input.stride + input.startIndex;
-				int indexDst = y * output.stride + output.startIndex + i;
-				int end = indexSrc + input.width;
-				
-				while( indexSrc != end ) { 
-					output.data[indexDst] = band.data[indexSrc++];
-					indexDst += numBands;
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final float[] dst = output.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexSrc + input.width;
+
+			if( numBands == 3 ) {
+				final float[] band0 = input.bands[0].data;
+				final float[] band1 = input.bands[1].data;
+				final float[] band2 = input.bands[2].data;
+				for( ; indexSrc != end; indexSrc++ ) {
+					dst[indexDst++] = band0[indexSrc];
+					dst[indexDst++] = band1[indexSrc];
+					dst[indexDst++] = band2[indexSrc];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final float[] band = input.bands[i].data;
+					int indexD = indexDst + i;
+					for( int indexS = indexSrc; indexS != end; indexS++ ) {
+						dst[indexD] = band[indexS];
+						indexD += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( GrayF64 from, GrayI8 to ) {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -2037,13 +2614,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -2052,6 +2633,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -2060,13 +2642,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( byte )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( byte )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -2074,6 +2660,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -2082,13 +2669,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -2097,6 +2688,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -2105,13 +2697,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( short )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( short )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -2119,6 +2715,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -2127,13 +2724,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( int )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -2142,6 +2743,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -2150,13 +2752,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( int )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( int )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -2164,6 +2770,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -2172,13 +2779,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( long )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( long )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -2187,6 +2798,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -2195,13 +2807,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( long )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( long )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -2209,6 +2825,7 @@ public class ImplConvertImage {
 
 		if (from.isSubimage() || to.isSubimage()) {
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -2217,13 +2834,17 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height;
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
@@ -2232,6 +2853,7 @@ public class ImplConvertImage {
 		if (from.isSubimage() || to.isSubimage()) {
 			final int N = from.width * from.getNumBands();
 
+			//CONCURRENT_BELOW BoofConcurrency.loopFor(0, from.height, y -> {
 			for (int y = 0; y < from.height; y++) {
 				int indexFrom = from.getIndex(0, y);
 				int indexTo = to.getIndex(0, y);
@@ -2240,50 +2862,84 @@ public class ImplConvertImage {
 					to.data[indexTo++] = ( float )( from.data[indexFrom++] );
 				}
 			}
+			//CONCURRENT_ABOVE });
 
 		} else {
 			final int N = from.width * from.height * from.getNumBands();
 
+			//CONCURRENT_INLINE BoofConcurrency.loopBlocks(0,N,(i0,i1)->{
+			//CONCURRENT_BELOW for (int i = i0; i < i1; i++) {
 			for (int i = 0; i < N; i++) {
 				to.data[i] = ( float )( from.data[i] );
 			}
+			//CONCURRENT_INLINE });
 		}
 	}
 
 	public static void convert( InterleavedF64 input , Planar<GrayF64> output ) {
 
 		final int numBands = input.numBands;
-		for (int i = 0; i < numBands; i++) {
-			GrayF64 band = output.bands[i];
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final double[] src = input.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexDst + input.width;
 
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y*input.stride + input.startIndex + i;
-				int indexDst = y*output.stride + output.startIndex;
-				int end = indexDst + input.width;
-				while( indexDst != end ) {
-					band.data[indexDst++] = input.data[indexSrc];
-					indexSrc += numBands;
+			if( numBands == 3 ) {
+				final double[] band0 = output.bands[0].data;
+				final double[] band1 = output.bands[1].data;
+				final double[] band2 = output.bands[2].data;
+				for( ; indexDst != end; indexDst++ ) {
+					band0[indexDst] = src[indexSrc++];
+					band1[indexDst] = src[indexSrc++];
+					band2[indexDst] = src[indexSrc++];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final double[] band = output.bands[i].data;
+					int indexS = indexSrc + i;
+					for( int indexD = indexDst; indexD != end; indexD++ ) {
+						band[indexD] = src[indexS];
+						indexS += numBands;
+					}
 				}
 			}
 		}
+		//CONCURRENT_ABOVE });
 	}
 
 	public static void convert( Planar<GrayF64> input , InterleavedF64 output ) {
 
 		final int numBands = input.getNumBands();
-		for (int i = 0; i < numBands; i++) {
-			GrayF64 band = input.bands[i];
-			for (int y = 0; y < input.height; y++) {
-				int indexSrc = y * input.stride + input.startIndex;
-				int indexDst = y * output.stride + output.startIndex + i;
-				int end = indexSrc + input.width;
-				
-				while( indexSrc != end ) { 
-					output.data[indexDst] = band.data[indexSrc++];
-					indexDst += numBands;
-				}
-			}
-		}
+		//CONCURRENT_BELOW BoofConcurrency.loopFor(0, input.height, y -> {
+		for (int y = 0; y < input.height; y++) {
+			final double[] dst = output.data;
+			int indexSrc = y*input.stride + input.startIndex;
+			int indexDst = y*output.stride + output.startIndex;
+			int end = indexSrc + input.width;
+
+			if( numBands == 3 ) {
+				final double[] band0 = input.bands[0].data;
+				final double[] band1 = input.bands[1].data;
+				final double[] band2 = input.bands[2].data;
+				for( ; indexSrc != end; indexSrc++ ) {
+					dst[indexDst++] = band0[indexSrc];
+					dst[indexDst++] = band1[indexSrc];
+					dst[indexDst++] = band2[indexSrc];
+				}
+			} else {
+				for (int i = 0; i < numBands; i++) {
+					final double[] band = input.bands[i].data;
+					int indexD = indexDst + i;
+					for( int indexS = indexSrc; indexS != end; indexS++ ) {
+						dst[indexD] = band[indexS];
+						indexD += numBands;
+					}
+				}
+			}
+		}
+		//CONCURRENT_ABOVE });
 	}
 
 }
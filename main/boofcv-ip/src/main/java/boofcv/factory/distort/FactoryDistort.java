@@ -22,6 +22,7 @@ import boofcv.abst.distort.ConfigDeformPointMLS;
 import boofcv.abst.distort.PointDeformKeyPoints;
 import boofcv.abst.distort.PointDeform_MLS;
 import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.ImageDistortRemap;
 import boofcv.alg.distort.impl.*;
 import boofcv.alg.distort.mls.ImageDeformPointMLS_F32;
 import boofcv.alg.interpolate.InterpolatePixel;
@@ -157,6 +158,48 @@ public class FactoryDistort {
 		}
 	}
 
+	/**
+	 * Creates an {@link ImageDistort} which uses a precomputed fixed-point remap table and bilinear interpolation.
+	 * Intended for distortions which are applied to many images but don't change, e.g. removing lens distortion.
+	 * Supports single band, planar, and interleaved images with U8 bands.
+	 *
+	 * @see ImageDistortRemap
+	 *
+	 * @param borderType How pixels outside the image border are handled. If SKIP then those pixels are not modified.
+	 * @param imageType Type of input and output image
+	 * @return ImageDistort
+	 */
+	public static <T extends ImageBase<T>>
+	ImageDistort<T,T> distortRemap( BorderType borderType , ImageType<T> imageType ) {
+		if( imageType.getDataType() != ImageDataType.U8 )
+			throw new IllegalArgumentException("Only U8 images are supported. "+imageType.getDataType());
+
+		// pixels along the border need to be interpolated even if the ones outside are skipped
+		boolean skip = borderType == BorderType.SKIP;
+		if( skip )
+			borderType = BorderType.EXTENDED;
+
+		InterpolatePixel<T> interp =
+				FactoryInterpolation.createPixel(0,255, InterpolationType.BILINEAR,borderType,imageType);
+
+		ImageDistort ret;
+		switch( imageType.getFamily() ) {
+			case GRAY:
+				ret = new ImplImageDistortRemap_U8((InterpolatePixelS)interp);
+				break;
+			case PLANAR:
+				ret = new ImplImageDistort_PL(new ImplImageDistortRemap_U8((InterpolatePixelS)interp));
+				break;
+			case INTERLEAVED:
+				ret = new ImplImageDistortRemap_IL_U8((InterpolatePixelMB)interp);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown image family "+imageType.getFamily());
+		}
+		ret.setRenderAll(!skip);
+		return ret;
+	}
+
 	public static PointDeformKeyPoints deformMls(ConfigDeformPointMLS config ) {
 		if( config == null )
 			config = new ConfigDeformPointMLS();
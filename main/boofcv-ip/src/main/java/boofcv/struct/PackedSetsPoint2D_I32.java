@@ -132,6 +132,44 @@ public class PackedSetsPoint2D_I32 {
 		tail.length += 1;
 	}
 
+	/**
+	 * Copies all the points in a set from another instance onto the end of the tail point set
+	 *
+	 * @param src (Input) Storage which contains the set being copied
+	 * @param which (Input) which point set in src
+	 */
+	public void addSetToTail( PackedSetsPoint2D_I32 src , int which ) {
+		BlockIndexLength set = src.sets.get(which);
+
+		// copy the largest contiguous chunks possible between the two sets of blocks
+		int srcBlock = set.block;
+		int srcIndex = set.start;
+		int remaining = set.length*2;
+		while( remaining > 0 ) {
+			if( srcIndex >= src.blockLength ) {
+				srcBlock++;
+				srcIndex = 0;
+			}
+			int index = tail.start + tail.length*2;
+			int blockIndex = tail.block + index/blockLength;
+			int block[];
+			if( blockIndex == blocks.size ) {
+				tailBlockSize = 0;
+				block = blocks.grow();
+			} else {
+				block = blocks.get( blockIndex );
+			}
+			index %= blockLength;
+
+			int length = Math.min(remaining,Math.min(src.blockLength-srcIndex,blockLength-index));
+			System.arraycopy(src.blocks.get(srcBlock),srcIndex,block,index,length);
+			srcIndex += length;
+			remaining -= length;
+			tailBlockSize += length;
+			tail.length += length/2;
+		}
+	}
+
 	/**
 	 * Total number of points
 	 * @return
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * Pool of images which are used to store intermediate results. Functions which need temporary storage
+ * and were not provided any by the caller can lease an image here instead of declaring a new one each time
+ * they are invoked.  When processing a video stream this removes the per frame allocation of large arrays.
+ * </p>
+ *
+ * <p>
+ * Leased images are matched by {@link ImageType} and by their width and height.  Each thread has its own
+ * set of free images, so no locking is required and an image is never shared between threads.  At most
+ * {@link #getMaxImages()} free images are retained per thread.  If more are released then the least recently
+ * released one is discarded and counted as an eviction.
+ * </p>
+ *
+ * <p>
+ * The content of a leased image is undefined.  Once an image has been released it must not be used again.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImagePool {
+
+	/**
+	 * Pool which is used by the generalized functions and filter abstractions
+	 */
+	private static final ImagePool DEFAULT = new ImagePool(16);
+
+	// free images which belong to each thread. Most recently released image is at the end
+	private final ThreadLocal<List<ImageBase>> free = ThreadLocal.withInitial(ArrayList::new);
+
+	// maximum number of free images retained per thread
+	private volatile int maxImages;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * @param maxImages Maximum number of free images retained by each thread. If zero nothing will be retained.
+	 */
+	public ImagePool(int maxImages) {
+		setMaxImages(maxImages);
+	}
+
+	/**
+	 * Returns the pool which is shared by the library's functions.
+	 */
+	public static ImagePool getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns an image of the specified type and shape.  If a matching free image is available then it is
+	 * returned, otherwise a new image is declared.
+	 *
+	 * @param type Type of image
+	 * @param width Image width
+	 * @param height Image height
+	 * @return Image of the requested type and shape.  Contents are undefined.
+	 */
+	public <T extends ImageBase> T acquire( ImageType<T> type , int width , int height ) {
+		List<ImageBase> list = free.get();
+		for (int i = list.size()-1; i >= 0; i--) {
+			ImageBase image = list.get(i);
+			if( image.width == width && image.height == height && isType(image.getImageType(),type)) {
+				list.remove(i);
+				hits.incrementAndGet();
+				return (T)image;
+			}
+		}
+		misses.incrementAndGet();
+		return type.createImage(width,height);
+	}
+
+	/**
+	 * Returns an image with the same type and shape as the template image.
+	 *
+	 * @see #acquire(ImageType, int, int)
+	 */
+	public <T extends ImageBase> T acquire( T template ) {
+		return (T)acquire(template.getImageType(), template.width, template.height);
+	}
+
+	/**
+	 * Returns the image to the pool so that it can be leased again by the same thread.  Releasing an image
+	 * which is already in the calling thread's free list is an error, since it would then be leased twice.
+	 *
+	 * @param image The image being released.  Must not be a sub-image.  If null nothing happens.
+	 */
+	public void release( ImageBase image ) {
+		if( image == null )
+			return;
+		if( image.isSubimage() )
+			throw new IllegalArgumentException("Sub-images can't be added to the pool");
+
+		List<ImageBase> list = free.get();
+		for (int i = 0; i < list.size(); i++) {
+			if( list.get(i) == image )
+				throw new IllegalArgumentException("Image has already been released");
+		}
+		list.add(image);
+		while( list.size() > maxImages ) {
+			list.remove(0);
+			evictions.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Discards all the free images which belong to the calling thread
+	 */
+	public void clear() {
+		free.get().clear();
+	}
+
+	/**
+	 * Sets all the counters back to zero
+	 */
+	public void resetStatistics() {
+		hits.set(0);
+		misses.set(0);
+		evictions.set(0);
+	}
+
+	/**
+	 * Number of the calling thread's free images currently in the pool
+	 */
+	public int size() {
+		return free.get().size();
+	}
+
+	/**
+	 * Number of times a request was satisfied by an image in the pool
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Number of times a request caused a new image to be declared
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Number of released images which were discarded because the pool was full
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	public int getMaxImages() {
+		return maxImages;
+	}
+
+	/**
+	 * Changes the maximum number of free images retained per thread.  The new limit is enforced on the
+	 * next call to {@link #release}.
+	 */
+	public void setMaxImages(int maxImages) {
+		if( maxImages < 0 )
+			throw new IllegalArgumentException("maxImages must be >= 0");
+		this.maxImages = maxImages;
+	}
+
+	private static boolean isType( ImageType a , ImageType b ) {
+		return a.getFamily() == b.getFamily() && a.getDataType() == b.getDataType() &&
+				(a.getFamily() == ImageType.Family.GRAY || a.getNumBands() == b.getNumBands());
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Binary image where each pixel is stored as a single bit, 64 pixels to a long. Pixels along a row are packed
+ * into consecutive words starting at the least significant bit, i.e. pixel (x,y) is bit (x % 64) in
+ * data[y*stride + x/64]. Each row starts at the beginning of a word and bits past the end of a row are
+ * always zero. Compared to a {@link GrayU8} binary image it uses 8x less memory and allows logical and
+ * morphological operations to be applied to 64 pixels at once.
+ * </p>
+ *
+ * <p>
+ * Sub-images are not supported. Use {@link boofcv.alg.filter.binary.BinaryImageOps#pack} and
+ * {@link boofcv.alg.filter.binary.BinaryImageOps#unpack} to convert to and from a {@link GrayU8}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PackedBinaryImage implements Serializable {
+	/**
+	 * Number of bits in each word
+	 */
+	public static final int BITS = 64;
+
+	/**
+	 * Image width in pixels
+	 */
+	public int width;
+	/**
+	 * Image height in pixels
+	 */
+	public int height;
+	/**
+	 * Number of words in each row
+	 */
+	public int stride;
+	/**
+	 * Packed pixel values
+	 */
+	public long[] data = new long[0];
+
+	public PackedBinaryImage( int width , int height ) {
+		reshape(width, height);
+	}
+
+	public PackedBinaryImage() {
+	}
+
+	/**
+	 * Changes the image's shape. The data array is only reallocated if it's too small. All pixels are set to zero.
+	 */
+	public void reshape( int width , int height ) {
+		if( width < 0 || height < 0 )
+			throw new IllegalArgumentException("Width and height must be non-negative");
+		this.width = width;
+		this.height = height;
+		this.stride = (width+BITS-1)/BITS;
+
+		int N = stride*height;
+		if( data.length < N ) {
+			data = new long[N];
+		} else {
+			Arrays.fill(data, 0, N, 0L);
+		}
+	}
+
+	/**
+	 * Returns the value of the specified pixel, 0 or 1
+	 */
+	public int get( int x , int y ) {
+		if( !isInBounds(x, y) )
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+		return unsafe_get(x, y);
+	}
+
+	public int unsafe_get( int x , int y ) {
+		return (int)(data[y*stride + (x >> 6)] >>> (x & 63)) & 1;
+	}
+
+	/**
+	 * Sets the value of the specified pixel. Any value which isn't zero is true.
+	 */
+	public void set( int x , int y , int value ) {
+		if( !isInBounds(x, y) )
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+		unsafe_set(x, y, value);
+	}
+
+	public void unsafe_set( int x , int y , int value ) {
+		int index = y*stride + (x >> 6);
+		long mask = 1L << (x & 63);
+		if( value != 0 )
+			data[index] |= mask;
+		else
+			data[index] &= ~mask;
+	}
+
+	public boolean isInBounds( int x , int y ) {
+		return x >= 0 && x < width && y >= 0 && y < height;
+	}
+
+	/**
+	 * Mask for the valid bits in the last word of each row
+	 */
+	public long getLastWordMask() {
+		int remainder = width % BITS;
+		return remainder == 0 ? -1L : (1L << remainder) - 1;
+	}
+
+	/**
+	 * Sets every pixel in the image to the specified value
+	 */
+	public void fill( boolean value ) {
+		if( !value || stride == 0 ) {
+			Arrays.fill(data, 0, stride*height, 0L);
+		} else {
+			long lastMask = getLastWordMask();
+			for (int y = 0; y < height; y++) {
+				int index = y*stride;
+				Arrays.fill(data, index, index+stride, -1L);
+				data[index+stride-1] = lastMask;
+			}
+		}
+	}
+
+	/**
+	 * Counts the number of pixels which are true
+	 */
+	public int countTrue() {
+		int total = 0;
+		int N = stride*height;
+		for (int i = 0; i < N; i++) {
+			total += Long.bitCount(data[i]);
+		}
+		return total;
+	}
+
+	/**
+	 * Changes this image's shape to match the input then copies its values
+	 */
+	public void setTo( PackedBinaryImage src ) {
+		if( width != src.width || height != src.height )
+			reshape(src.width, src.height);
+		System.arraycopy(src.data, 0, data, 0, stride*height);
+	}
+
+	/**
+	 * Creates a new image with the same shape as this one. Values are not copied.
+	 */
+	public PackedBinaryImage createSameShape() {
+		return new PackedBinaryImage(width, height);
+	}
+
+	public PackedBinaryImage copy() {
+		PackedBinaryImage ret = createSameShape();
+		ret.setTo(this);
+		return ret;
+	}
+
+	public boolean isSameShape( PackedBinaryImage image ) {
+		return width == image.width && height == image.height;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getStride() {
+		return stride;
+	}
+
+	public long[] getData() {
+		return data;
+	}
+}
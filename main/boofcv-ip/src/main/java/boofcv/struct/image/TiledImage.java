@@ -0,0 +1,491 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Gray scale image which is stored in a file and broken up into fixed size tiles. The file is memory mapped, so
+ * the image can be much larger than the heap and the operating system decides which parts are kept in memory.
+ * Pixels are addressed with 64-bit offsets, allowing for images with more than 2<sup>31</sup> pixels. Individual
+ * tiles and regions are small enough to be copied into a regular {@link ImageGray} and processed with existing
+ * functions. See boofcv.alg.misc.TiledImageOps for functions which process the entire image one tile at a time.
+ * </p>
+ *
+ * <p>
+ * File format: A {@link #HEADER_BYTES} byte header is followed by the tiles in row-major order. Tiles along the
+ * right and bottom border are padded so that every tile has the same size. Inside a tile pixels are stored in
+ * row-major order using the platform's native byte order. Tiles are mapped in large chunks, not individually,
+ * to keep the number of mappings small.
+ * </p>
+ *
+ * <p>
+ * Reading and writing regions is thread safe as long as threads don't write to overlapping regions.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class TiledImage<T extends ImageGray<T>> implements Closeable {
+
+	/**
+	 * Number of bytes in the file header
+	 */
+	public static final int HEADER_BYTES = 64;
+
+	// identifies the file format
+	private static final byte[] MAGIC = "BOOFTILE".getBytes(StandardCharsets.US_ASCII);
+	private static final int VERSION = 2;
+	// number of bytes used to store the name of the data type
+	private static final int TYPE_NAME_BYTES = 8;
+
+	/**
+	 * Default for the largest number of bytes in a single memory mapping
+	 */
+	public static final long DEFAULT_MAX_CHUNK_BYTES = 1L << 30;
+
+	private final FileChannel channel;
+	private final boolean readOnly;
+
+	private final ImageType<T> imageType;
+	private final ImageDataType dataType;
+	private final int width, height;
+	private final int tileWidth, tileHeight;
+	private final int numTilesX, numTilesY;
+
+	// number of bytes in a tile
+	private final long tileBytes;
+	// largest number of bytes in a single memory mapping
+	private final long maxChunkBytes;
+	// number of tiles in a mapped chunk
+	private final int tilesPerChunk;
+	// lazily created memory mapped chunks
+	private final MappedByteBuffer[] chunks;
+
+	private TiledImage( FileChannel channel , boolean readOnly , ImageDataType dataType ,
+						int width , int height , int tileWidth , int tileHeight , long maxChunkBytes ) {
+		if( width <= 0 || height <= 0 )
+			throw new IllegalArgumentException("Image shape must be positive");
+		if( tileWidth <= 0 || tileHeight <= 0 )
+			throw new IllegalArgumentException("Tile shape must be positive");
+		if( maxChunkBytes <= 0 )
+			throw new IllegalArgumentException("Chunk size must be positive");
+		this.channel = channel;
+		this.readOnly = readOnly;
+		this.dataType = dataType;
+		this.imageType = ImageType.single(dataType);
+		this.width = width;
+		this.height = height;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+		this.numTilesX = (width+tileWidth-1)/tileWidth;
+		this.numTilesY = (height+tileHeight-1)/tileHeight;
+		this.tileBytes = (long)tileWidth*tileHeight*(dataType.getNumBits()/8);
+		this.maxChunkBytes = maxChunkBytes;
+		long chunkBytes = Math.min(maxChunkBytes,Integer.MAX_VALUE);
+		if( tileBytes > chunkBytes )
+			throw new IllegalArgumentException("Tiles are too large");
+
+		long numTiles = (long)numTilesX*numTilesY;
+		this.tilesPerChunk = (int)Math.min(numTiles,chunkBytes/tileBytes);
+		this.chunks = new MappedByteBuffer[(int)((numTiles+tilesPerChunk-1)/tilesPerChunk)];
+	}
+
+	/**
+	 * Creates a new tiled image using {@link #DEFAULT_MAX_CHUNK_BYTES}.
+	 *
+	 * @see #create(File, Class, int, int, int, int, long)
+	 */
+	public static <T extends ImageGray<T>> TiledImage<T> create( File file , Class<T> type ,
+																  int width , int height ,
+																  int tileWidth , int tileHeight )
+			throws IOException
+	{
+		return create(file,type,width,height,tileWidth,tileHeight,DEFAULT_MAX_CHUNK_BYTES);
+	}
+
+	/**
+	 * Creates a new tiled image. If the file already exists it is overwritten. Initial pixel values are zero.
+	 *
+	 * @param file Where the image is stored
+	 * @param type Type of gray scale image
+	 * @param width Image width
+	 * @param height Image height
+	 * @param tileWidth Width of a tile
+	 * @param tileHeight Height of a tile
+	 * @param maxChunkBytes Largest number of bytes in a single memory mapping
+	 * @return The new image. Must be closed when no longer needed.
+	 */
+	public static <T extends ImageGray<T>> TiledImage<T> create( File file , Class<T> type ,
+																  int width , int height ,
+																  int tileWidth , int tileHeight ,
+																  long maxChunkBytes )
+			throws IOException
+	{
+		ImageDataType dataType = ImageDataType.classToType(type);
+		if( dataType.isAbstract() )
+			throw new IllegalArgumentException("Image type must be specific");
+
+		RandomAccessFile raf = new RandomAccessFile(file,"rw");
+		try {
+			TiledImage<T> image = new TiledImage<>(raf.getChannel(),false,dataType,width,height,
+					tileWidth,tileHeight,maxChunkBytes);
+			raf.setLength(0);
+			raf.setLength(image.getFileBytes());
+			image.writeHeader();
+			return image;
+		} catch( IOException | RuntimeException e ) {
+			raf.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens an existing tiled image using {@link #DEFAULT_MAX_CHUNK_BYTES}.
+	 *
+	 * @see #open(File, boolean, long)
+	 */
+	public static <T extends ImageGray<T>> TiledImage<T> open( File file , boolean readOnly ) throws IOException {
+		return open(file,readOnly,DEFAULT_MAX_CHUNK_BYTES);
+	}
+
+	/**
+	 * Opens an existing tiled image which was created by {@link #create}.
+	 *
+	 * @param file Where the image is stored
+	 * @param readOnly If true the image can't be modified
+	 * @param maxChunkBytes Largest number of bytes in a single memory mapping
+	 * @return The image. Must be closed when no longer needed.
+	 */
+	public static <T extends ImageGray<T>> TiledImage<T> open( File file , boolean readOnly ,
+															   long maxChunkBytes ) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file,readOnly ? "r" : "rw");
+		try {
+			FileChannel channel = raf.getChannel();
+			ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+			while( header.hasRemaining() ) {
+				if( channel.read(header,header.position()) < 0 )
+					throw new IOException("Unexpected end of file");
+			}
+			header.flip();
+
+			byte[] magic = new byte[MAGIC.length];
+			header.get(magic);
+			if( !Arrays.equals(magic,MAGIC) )
+				throw new IOException("Not a tiled image");
+			if( header.getInt() != VERSION )
+				throw new IOException("Unsupported version");
+			if( header.get() != (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 1 : 0) )
+				throw new IOException("File was written with a different byte order");
+			ImageDataType dataType = readDataType(header);
+			int width = header.getInt();
+			int height = header.getInt();
+			int tileWidth = header.getInt();
+			int tileHeight = header.getInt();
+
+			TiledImage<T> image = new TiledImage<>(channel,readOnly,dataType,width,height,
+					tileWidth,tileHeight,maxChunkBytes);
+			if( channel.size() < image.getFileBytes() )
+				throw new IOException("File is truncated");
+			return image;
+		} catch( IOException | RuntimeException e ) {
+			raf.close();
+			throw e;
+		}
+	}
+
+	private void writeHeader() throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+		header.put(MAGIC);
+		header.putInt(VERSION);
+		header.put((byte)(ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN ? 1 : 0));
+		header.put(Arrays.copyOf(dataType.name().getBytes(StandardCharsets.US_ASCII),TYPE_NAME_BYTES));
+		header.putInt(width);
+		header.putInt(height);
+		header.putInt(tileWidth);
+		header.putInt(tileHeight);
+		header.clear();
+		while( header.hasRemaining() )
+			channel.write(header,header.position());
+	}
+
+	/**
+	 * The data type is stored by name, padded with zeros, so that the file format doesn't depend on the
+	 * order the enum values are declared in
+	 */
+	private static ImageDataType readDataType( ByteBuffer header ) throws IOException {
+		byte[] name = new byte[TYPE_NAME_BYTES];
+		header.get(name);
+		int length = 0;
+		while( length < name.length && name[length] != 0 )
+			length++;
+		ImageDataType dataType;
+		try {
+			dataType = ImageDataType.valueOf(new String(name,0,length,StandardCharsets.US_ASCII));
+		} catch( IllegalArgumentException e ) {
+			throw new IOException("Unknown data type");
+		}
+		if( dataType.isAbstract() )
+			throw new IOException("Unsupported data type "+dataType);
+		return dataType;
+	}
+
+	/**
+	 * Copies pixels from the tiled image into the output image. The region's upper left corner is at (x0,y0)
+	 * and its size is the same as the output image.
+	 *
+	 * @param x0 Left most column of the region
+	 * @param y0 Top most row of the region
+	 * @param output (Output) Storage for the region. Can be a sub-image.
+	 */
+	public void read( int x0 , int y0 , T output ) {
+		checkRegion(x0, y0, output);
+		copyRegion(x0,y0,output,true);
+	}
+
+	/**
+	 * Copies pixels from the input image into the tiled image. The region's upper left corner is at (x0,y0)
+	 * and its size is the same as the input image.
+	 *
+	 * @param x0 Left most column of the region
+	 * @param y0 Top most row of the region
+	 * @param input (Input) Pixels which are to be written. Can be a sub-image. Not modified.
+	 */
+	public void write( int x0 , int y0 , T input ) {
+		if( readOnly )
+			throw new IllegalArgumentException("Image was opened as read only");
+		checkRegion(x0, y0, input);
+		copyRegion(x0,y0,input,false);
+	}
+
+	/**
+	 * Reads the specified tile into the output image, which is reshaped to the tile's size. Tiles along the
+	 * right and bottom border can be smaller than the others.
+	 */
+	public void readTile( int tileX , int tileY , T output ) {
+		output.reshape(getTileWidth(tileX),getTileHeight(tileY));
+		read(tileX*tileWidth,tileY*tileHeight,output);
+	}
+
+	/**
+	 * Writes the input image into the specified tile. The input image must be the same size as the tile.
+	 */
+	public void writeTile( int tileX , int tileY , T input ) {
+		if( input.width != getTileWidth(tileX) || input.height != getTileHeight(tileY) )
+			throw new IllegalArgumentException("Input isn't the same size as the tile");
+		write(tileX*tileWidth,tileY*tileHeight,input);
+	}
+
+	/**
+	 * Creates a new image which is large enough to store any tile
+	 */
+	public T createTileImage() {
+		return imageType.createImage(tileWidth,tileHeight);
+	}
+
+	private void checkRegion( int x0 , int y0 , T image ) {
+		if( image.getDataType() != dataType )
+			throw new IllegalArgumentException("Image type doesn't match");
+		if( x0 < 0 || y0 < 0 || x0 + image.width > width || y0 + image.height > height )
+			throw new IllegalArgumentException("Region is outside of the image");
+	}
+
+	private void copyRegion( int x0 , int y0 , T image , boolean toImage ) {
+		if( image.width == 0 || image.height == 0 )
+			return;
+
+		int x1 = x0 + image.width;
+		int y1 = y0 + image.height;
+
+		for( int tileY = y0/tileHeight; tileY <= (y1-1)/tileHeight; tileY++ ) {
+			int tileY0 = tileY*tileHeight;
+			int regionY0 = Math.max(y0,tileY0);
+			int regionY1 = Math.min(y1,tileY0+tileHeight);
+
+			for( int tileX = x0/tileWidth; tileX <= (x1-1)/tileWidth; tileX++ ) {
+				int tileX0 = tileX*tileWidth;
+				int regionX0 = Math.max(x0,tileX0);
+				int regionX1 = Math.min(x1,tileX0+tileWidth);
+				int length = regionX1-regionX0;
+
+				long tileIndex = (long)tileY*numTilesX + tileX;
+				Buffer buffer = typedView(chunk((int)(tileIndex/tilesPerChunk)));
+				int offset = (int)(tileIndex%tilesPerChunk)*tileWidth*tileHeight;
+
+				for( int y = regionY0; y < regionY1; y++ ) {
+					int position = offset + (y-tileY0)*tileWidth + regionX0-tileX0;
+					int index = image.startIndex + (y-y0)*image.stride + regionX0-x0;
+					buffer.position(position);
+					transfer(buffer,image._getData(),index,length,toImage);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a view of the chunk with the same primitive type as the image
+	 */
+	private Buffer typedView( MappedByteBuffer chunk ) {
+		ByteBuffer bytes = chunk.duplicate().order(ByteOrder.nativeOrder());
+		switch( dataType ) {
+			case U8: case S8: return bytes;
+			case U16: case S16: return bytes.asShortBuffer();
+			case S32: return bytes.asIntBuffer();
+			case S64: return bytes.asLongBuffer();
+			case F32: return bytes.asFloatBuffer();
+			case F64: return bytes.asDoubleBuffer();
+			default: throw new IllegalArgumentException("Unsupported type "+dataType);
+		}
+	}
+
+	private static void transfer( Buffer buffer , Object data , int index , int length , boolean toImage ) {
+		if( buffer instanceof ByteBuffer ) {
+			if( toImage ) ((ByteBuffer)buffer).get((byte[])data,index,length);
+			else ((ByteBuffer)buffer).put((byte[])data,index,length);
+		} else if( buffer instanceof ShortBuffer ) {
+			if( toImage ) ((ShortBuffer)buffer).get((short[])data,index,length);
+			else ((ShortBuffer)buffer).put((short[])data,index,length);
+		} else if( buffer instanceof IntBuffer ) {
+			if( toImage ) ((IntBuffer)buffer).get((int[])data,index,length);
+			else ((IntBuffer)buffer).put((int[])data,index,length);
+		} else if( buffer instanceof LongBuffer ) {
+			if( toImage ) ((LongBuffer)buffer).get((long[])data,index,length);
+			else ((LongBuffer)buffer).put((long[])data,index,length);
+		} else if( buffer instanceof FloatBuffer ) {
+			if( toImage ) ((FloatBuffer)buffer).get((float[])data,index,length);
+			else ((FloatBuffer)buffer).put((float[])data,index,length);
+		} else {
+			if( toImage ) ((DoubleBuffer)buffer).get((double[])data,index,length);
+			else ((DoubleBuffer)buffer).put((double[])data,index,length);
+		}
+	}
+
+	/**
+	 * Returns the memory mapped chunk, mapping it if this is the first time it has been requested
+	 */
+	private synchronized MappedByteBuffer chunk( int which ) {
+		MappedByteBuffer chunk = chunks[which];
+		if( chunk == null ) {
+			long numTiles = (long)numTilesX*numTilesY;
+			long first = (long)which*tilesPerChunk;
+			long size = Math.min(tilesPerChunk,numTiles-first)*tileBytes;
+			FileChannel.MapMode mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+			try {
+				chunk = channel.map(mode,HEADER_BYTES+first*tileBytes,size);
+			} catch( IOException e ) {
+				throw new RuntimeException(e);
+			}
+			chunks[which] = chunk;
+		}
+		return chunk;
+	}
+
+	/**
+	 * Forces changes to be written to the storage device
+	 */
+	public synchronized void flush() {
+		for( MappedByteBuffer chunk : chunks ) {
+			if( chunk != null )
+				chunk.force();
+		}
+	}
+
+	/**
+	 * Flushes modifications and closes the file. Mapped memory is released once it has been garbage collected.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if( !readOnly )
+			flush();
+		for( int i = 0; i < chunks.length; i++ )
+			chunks[i] = null;
+		channel.close();
+	}
+
+	/**
+	 * Width of the specified tile
+	 */
+	public int getTileWidth( int tileX ) {
+		return Math.min(tileWidth,width-tileX*tileWidth);
+	}
+
+	/**
+	 * Height of the specified tile
+	 */
+	public int getTileHeight( int tileY ) {
+		return Math.min(tileHeight,height-tileY*tileHeight);
+	}
+
+	/**
+	 * Size of the file in bytes
+	 */
+	public long getFileBytes() {
+		return HEADER_BYTES + (long)numTilesX*numTilesY*tileBytes;
+	}
+
+	/**
+	 * Total number of pixels in the image
+	 */
+	public long getTotalPixels() {
+		return (long)width*height;
+	}
+
+	public ImageType<T> getImageType() {
+		return imageType;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getTileWidth() {
+		return tileWidth;
+	}
+
+	public int getTileHeight() {
+		return tileHeight;
+	}
+
+	public int getNumTilesX() {
+		return numTilesX;
+	}
+
+	public int getNumTilesY() {
+		return numTilesY;
+	}
+
+	public long getMaxChunkBytes() {
+		return maxChunkBytes;
+	}
+
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+}
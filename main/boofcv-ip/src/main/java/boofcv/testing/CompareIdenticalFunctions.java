@@ -32,6 +32,9 @@ import java.lang.reflect.Method;
  */
 public abstract class CompareIdenticalFunctions extends CompareEquivalentFunctions {
 
+	// relative tolerance used when comparing output images. Zero requires them to be identical
+	protected double tolerance = 1e-4;
+
 	protected CompareIdenticalFunctions(Class<?> testClass, Class<?>... validationClass) {
 		super(testClass, validationClass);
 	}
@@ -94,7 +97,7 @@ public abstract class CompareIdenticalFunctions extends CompareEquivalentFunctio
 			ImageBase t = (ImageBase)targetParam[i];
 			ImageBase v = (ImageBase)validationParam[i];
 
-			BoofTesting.assertEqualsRelative(v, t, 1e-4);// todo is this tolerance too big?  some operations with a slightly different ordering seem to require it
+			BoofTesting.assertEqualsRelative(v, t, tolerance);// todo is this tolerance too big?  some operations with a slightly different ordering seem to require it
 		}
 	}
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.denoise;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayF32;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestWaveletDenoiseFilter {
+
+	Random rand = new Random(234);
+	int width = 60;
+	int height = 50;
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		// several threads so that the batch is split into blocks
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	/**
+	 * Reusing a filter on a sequence of images should produce the same results as processing each image
+	 * with a new filter
+	 */
+	@Test
+	public void process_reuse() {
+		List<GrayF32> inputs = new ArrayList<>();
+		List<GrayF32> outputs = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			GrayF32 image = new GrayF32(width,height);
+			ImageMiscOps.fillUniform(image,rand,0,255);
+			inputs.add(image);
+			outputs.add(image.createSameShape());
+		}
+
+		WaveletDenoiseFilter<GrayF32> alg = FactoryImageDenoise.waveletSure(GrayF32.class,3,0,255);
+		for (int i = 0; i < inputs.size(); i++) {
+			alg.process(inputs.get(i),outputs.get(i));
+		}
+
+		for (int i = 0; i < inputs.size(); i++) {
+			GrayF32 expected = inputs.get(i).createSameShape();
+			FactoryImageDenoise.waveletSure(GrayF32.class,3,0,255).process(inputs.get(i),expected);
+			BoofTesting.assertEquals(expected, outputs.get(i), 1e-4);
+		}
+	}
+
+	/**
+	 * Processing a batch should produce the same results as processing each image individually. Several
+	 * batches are processed to make sure the state of each thread is reused correctly.
+	 */
+	@Test
+	public void process_batch() {
+		WaveletDenoiseFilter<GrayF32> alg = FactoryImageDenoise.waveletBayes(GrayF32.class,3,0,255);
+
+		for( int numImages : new int[]{1,7,3} ) {
+			List<GrayF32> inputs = new ArrayList<>();
+			List<GrayF32> outputs = new ArrayList<>();
+			for (int i = 0; i < numImages; i++) {
+				GrayF32 image = new GrayF32(width,height);
+				ImageMiscOps.fillUniform(image,rand,0,255);
+				inputs.add(image);
+				outputs.add(image.createSameShape());
+			}
+
+			alg.process(inputs,outputs);
+
+			WaveletDenoiseFilter<GrayF32> single = FactoryImageDenoise.waveletBayes(GrayF32.class,3,0,255);
+			for (int i = 0; i < numImages; i++) {
+				GrayF32 expected = inputs.get(i).createSameShape();
+				single.process(inputs.get(i),expected);
+				BoofTesting.assertEquals(expected, outputs.get(i), 0);
+			}
+		}
+	}
+
+	@Test
+	public void process_batch_badShape() {
+		List<GrayF32> inputs = new ArrayList<>();
+		List<GrayF32> outputs = new ArrayList<>();
+		inputs.add(new GrayF32(width,height));
+		inputs.add(new GrayF32(width+1,height));
+		outputs.add(new GrayF32(width,height));
+		outputs.add(new GrayF32(width+1,height));
+
+		WaveletDenoiseFilter<GrayF32> alg = FactoryImageDenoise.waveletSure(GrayF32.class,3,0,255);
+		try {
+			alg.process(inputs,outputs);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+
+		outputs.remove(1);
+		try {
+			alg.process(inputs,outputs);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+	}
+}
@@ -25,6 +25,7 @@ import boofcv.factory.filter.convolve.FactoryConvolve;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageType;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
@@ -78,4 +79,33 @@ public class TestFilterSequence {
 
 		BoofTesting.assertEquals(expected,found,1e-4f);
 	}
+
+	/**
+	 * The last filter writes to the output, so only the intermediate images in between are leased
+	 */
+	@Test
+	public void leasedImages() {
+		Kernel1D_F32 ker = FactoryKernel.random1D_F32(kernelWidth,radius,0,5,rand);
+		ImageType<GrayF32> imageType = ImageType.single(GrayF32.class);
+		FilterImageInterface f = FactoryConvolve.convolve(ker,imageType,imageType, BorderType.SKIP, true);
+
+		GrayF32 input = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,10);
+		GrayF32 output = new GrayF32(width,height);
+		// The border should be zero, like when the output is a newly declared image
+		ImageMiscOps.fill(output,2);
+
+		ImagePool pool = ImagePool.getDefault();
+		int[] expected = new int[]{0,1,2,2};
+		for (int length = 0; length < expected.length; length++) {
+			FilterImageInterface[] sequence = new FilterImageInterface[length];
+			for (int i = 0; i < length; i++) {
+				sequence[i] = f;
+			}
+			pool.resetStatistics();
+			new FilterSequence(f,sequence).process(input,output);
+			assertEquals(expected[length],pool.getHits()+pool.getMisses());
+			assertEquals(0,output.get(0,0),0);
+		}
+	}
 }
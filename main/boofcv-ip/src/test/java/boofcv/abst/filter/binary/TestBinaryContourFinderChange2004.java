@@ -18,6 +18,14 @@
 
 package boofcv.abst.filter.binary;
 
+import boofcv.alg.filter.binary.LinearContourLabelChang2004_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
 /**
  * @author Peter Abeles
  */
@@ -27,4 +35,36 @@ public class TestBinaryContourFinderChange2004 extends GenericBinaryContourFinde
 	protected BinaryContourFinder create() {
 		return new BinaryContourFinderChang2004();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * The implementation should be selected each time process is called using the current thread settings
+	 */
+	@Test
+	public void selectImplementationInProcess() {
+		boolean originalConcurrent = BoofConcurrency.USE_CONCURRENT;
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BinaryContourFinderChang2004 alg = new BinaryContourFinderChang2004();
+			alg.setMinContour(2);
+			GrayU8 binary = new GrayU8(20,15);
+			GrayS32 labeled = new GrayS32(20,15);
+
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(1);
+			alg.process(binary,labeled);
+			assertSame(alg.serial,alg.finder);
+
+			BoofConcurrency.setMaxThreads(4);
+			alg.process(binary,labeled);
+			assertTrue(alg.finder instanceof LinearContourLabelChang2004_MT);
+			assertEquals(2,alg.finder.getMinContourSize());
+
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process(binary,labeled);
+			assertSame(alg.serial,alg.finder);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = originalConcurrent;
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+}
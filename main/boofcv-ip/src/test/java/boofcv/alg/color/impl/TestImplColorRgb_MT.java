@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.Planar;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplColorRgb_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+	int width = 105, height = 90;
+
+	public TestImplColorRgb_MT() {
+		super(ImplColorRgb_MT.class, ImplColorRgb.class);
+	}
+
+	@Test
+	public void performTests() {
+		performTests(6);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Type params[] = candidate.getGenericParameterTypes();
+
+		ImageBase src = create(params[0]);
+		ImageBase dst = create(params[1]);
+		GImageMiscOps.fillUniform(src, rand, 0, 255);
+
+		return new Object[][]{{src,dst}};
+	}
+
+	private ImageBase create( Type param ) {
+		if( param instanceof ParameterizedType ) {
+			Class bandType = (Class)((ParameterizedType)param).getActualTypeArguments()[0];
+			return new Planar(bandType, width, height, 3);
+		}
+		Class type = (Class)param;
+		if( ImageGray.class.isAssignableFrom(type))
+			return GeneralizedImageOps.createSingleBand(type, width, height);
+		else
+			return GeneralizedImageOps.createInterleaved(type, width, height, 3);
+	}
+}
@@ -19,11 +19,15 @@
 package boofcv.alg.denoise.impl;
 
 import boofcv.alg.denoise.wavelet.DenoiseSureShrink_F32;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
+import java.util.Random;
+
 
 /**
  * @author Peter Abeles
@@ -39,6 +43,29 @@ public class TestDenoiseSureShrink_F32 extends GenericWaveletDenoiseTests<GrayF3
 		performTest();
 	}
 
+	/**
+	 * Internal storage is reused between calls. Processing a large image first should not change the
+	 * results for a smaller image
+	 */
+	@Test
+	public void reuseStorage() {
+		Random rand = new Random(234);
+		GrayF32 large = new GrayF32(64,80);
+		GrayF32 small = new GrayF32(32,40);
+		ImageMiscOps.fillUniform(large,rand,-20,20);
+		ImageMiscOps.fillUniform(small,rand,-20,20);
+
+		GrayF32 expected = small.clone();
+		new DenoiseSureShrink_F32().denoise(expected,2);
+
+		DenoiseSureShrink_F32 alg = new DenoiseSureShrink_F32();
+		alg.denoise(large,2);
+		GrayF32 found = small.clone();
+		alg.denoise(found,2);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
 	@Override
 	public void denoiseWavelet(ImageGray transformedImg, int numLevels ) {
 		DenoiseSureShrink_F32 alg = new DenoiseSureShrink_F32();
@@ -21,9 +21,10 @@ package boofcv.alg.distort;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.InterpolationType;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.interpolate.FactoryInterpolation;
-import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.*;
 import georegression.struct.affine.Affine2D_F32;
 import georegression.struct.affine.Affine2D_F64;
 import georegression.struct.shapes.RectangleLength2D_F32;
@@ -140,6 +141,35 @@ public class TestDistortImageOps {
 		assertEquals(17,found.height);
 	}
 
+	/**
+	 * The remap distortion should be able to handle all the supported image families
+	 */
+	@Test
+	public void createRemap() {
+		PixelTransformAffine_F32 tran = new PixelTransformAffine_F32(new Affine2D_F32(1,0,0,1,2,1));
+
+		for( ImageType type : new ImageType[]{ImageType.single(GrayU8.class),
+				ImageType.pl(3,GrayU8.class),ImageType.il(3,InterleavedU8.class)}) {
+			ImageBase input = type.createImage(width,height);
+			ImageBase output = type.createImage(width,height);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			ImageDistort alg = DistortImageOps.createRemap(tran,BorderType.SKIP,type);
+			alg.apply(input,output);
+
+			for (int y = 0; y < height-1; y++) {
+				for (int x = 0; x < width-2; x++) {
+					for (int band = 0; band < type.getNumBands(); band++) {
+						assertEquals(GeneralizedImageOps.get(input,x+2,y+1,band),
+								GeneralizedImageOps.get(output,x,y,band), 1e-4);
+					}
+				}
+			}
+			// skip is specified so pixels outside the image should not be modified
+			assertEquals(0, GeneralizedImageOps.get(output,width-1,height-1,0), 1e-4);
+		}
+	}
+
 	@Test
 	public void boundBox() {
 
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.struct.distort.PixelTransform2_F32;
+import org.junit.Test;
+
+import static boofcv.alg.distort.RemapTableFixed.*;
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRemapTableFixed {
+
+	@Test
+	public void weights() {
+		for (int i = 0; i < FRACTION_SIZE*FRACTION_SIZE; i++) {
+			int sum = 0;
+			for (int j = 0; j < 4; j++) {
+				assertTrue(WEIGHTS[i*4+j] >= 0);
+				sum += WEIGHTS[i*4+j];
+			}
+			assertEquals(1 << WEIGHT_BITS, sum);
+		}
+		// no fractional offset should only use the top-left pixel
+		assertEquals(1 << WEIGHT_BITS, WEIGHTS[0]);
+	}
+
+	@Test
+	public void compute() {
+		int srcWidth = 30, srcHeight = 20;
+		int dstWidth = 25, dstHeight = 22;
+
+		// shift by a fraction that can be exactly represented
+		PixelTransform2_F32 tran = new PixelTransform2_F32() {
+			@Override
+			public void compute(int x, int y) {
+				distX = x + 2.25f;
+				distY = y - 1.5f;
+			}
+		};
+
+		RemapTableFixed alg = new RemapTableFixed();
+		alg.compute(tran,dstWidth,dstHeight,srcWidth,srcHeight);
+		assertTrue(alg.isShape(dstWidth,dstHeight,srcWidth,srcHeight));
+		assertFalse(alg.isShape(dstWidth+1,dstHeight,srcWidth,srcHeight));
+
+		int numBorder = 0;
+		for (int y = 0; y < dstHeight; y++) {
+			for (int x = 0; x < dstWidth; x++) {
+				int index = y*dstWidth + x;
+				int px = x + 2;
+				int py = y - 2;
+
+				boolean inside = px >= 0 && px < srcWidth-1 && py >= 0 && py < srcHeight-1;
+				if( inside ) {
+					int c = alg.coordinates[index];
+					assertEquals(px, c & 0xFFFF);
+					assertEquals(py, c >>> 16);
+					assertEquals( (FRACTION_SIZE/2 << FRACTION_BITS) | FRACTION_SIZE/4, alg.fractions[index]);
+				} else {
+					assertEquals(BORDER, alg.coordinates[index]);
+					assertEquals(index, alg.borderIndexes.get(numBorder));
+					assertEquals(x + 2.25f, alg.borderPoints.get(numBorder*2), 1e-4f);
+					assertEquals(y - 1.5f, alg.borderPoints.get(numBorder*2+1), 1e-4f);
+					numBorder++;
+				}
+			}
+		}
+		assertEquals(numBorder, alg.borderIndexes.size);
+		assertEquals(numBorder*2, alg.borderPoints.size);
+	}
+
+	/**
+	 * Pixels which are mapped to NaN can't be interpolated using the table
+	 */
+	@Test
+	public void compute_NaN() {
+		PixelTransform2_F32 tran = new PixelTransform2_F32() {
+			@Override
+			public void compute(int x, int y) {
+				distX = x == 1 ? Float.NaN : x + 0.5f;
+				distY = y == 2 ? Float.NaN : y + 0.5f;
+			}
+		};
+
+		RemapTableFixed alg = new RemapTableFixed();
+		alg.compute(tran,4,4,10,10);
+
+		for (int y = 0; y < 4; y++) {
+			for (int x = 0; x < 4; x++) {
+				boolean nan = x == 1 || y == 2;
+				assertEquals(nan, alg.coordinates[y*4+x] == BORDER);
+			}
+		}
+		assertEquals(7, alg.borderIndexes.size);
+		assertTrue(Float.isNaN(alg.borderPoints.get(2)));
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.PixelTransformAffine_F32;
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolatePixelMB;
+import boofcv.alg.interpolate.InterpolationType;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.InterleavedU8;
+import georegression.struct.affine.Affine2D_F32;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplImageDistortRemap_IL_U8 extends GeneralImageDistortTests<InterleavedU8> {
+
+	public TestImplImageDistortRemap_IL_U8() {
+		super(ImageType.il(2,InterleavedU8.class));
+	}
+
+	@Override
+	public ImageDistort<InterleavedU8, InterleavedU8>
+	createDistort(PixelTransform2_F32 dstToSrc, InterpolatePixel<InterleavedU8> interp) {
+		ImageDistort<InterleavedU8,InterleavedU8> ret = new ImplImageDistortRemap_IL_U8((InterpolatePixelMB)interp);
+		ret.setModel(dstToSrc);
+		return ret;
+	}
+
+	/**
+	 * Compare against floating point bilinear interpolation. Fractional offsets are quantized, so the image
+	 * is smooth to keep the error small.
+	 */
+	@Test
+	public void compareToFloatBilinear() {
+		InterleavedU8 src = new InterleavedU8(120,100,3);
+		for (int y = 0; y < src.height; y++) {
+			for (int x = 0; x < src.width; x++) {
+				src.setBand(x,y,0, x + y);
+				src.setBand(x,y,1, 2*y);
+				src.setBand(x,y,2, 2*x);
+			}
+		}
+		InterleavedU8 dst = new InterleavedU8(90,80,3);
+
+		PixelTransformAffine_F32 tran = new PixelTransformAffine_F32(new Affine2D_F32(1.1f,0.2f,-0.15f,0.9f,3.3f,-4.1f));
+		InterpolatePixelMB<InterleavedU8> interp = FactoryInterpolation.createPixelMB(0,255,
+				InterpolationType.BILINEAR, BorderType.EXTENDED, src.getImageType());
+
+		ImageDistort<InterleavedU8,InterleavedU8> alg = createDistort(tran,interp);
+		alg.apply(src,dst);
+
+		float[] expected = new float[3];
+		interp.setImage(src);
+		for (int y = 0; y < dst.height; y++) {
+			for (int x = 0; x < dst.width; x++) {
+				tran.compute(x,y);
+				interp.get(tran.distX,tran.distY,expected);
+				for (int band = 0; band < 3; band++) {
+					assertEquals(expected[band], dst.getBand(x,y,band), 1.0);
+				}
+			}
+		}
+	}
+}
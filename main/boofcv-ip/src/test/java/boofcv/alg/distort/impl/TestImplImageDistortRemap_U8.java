@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.PixelTransformAffine_F32;
+import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.distort.PixelTransform2_F32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import georegression.struct.affine.Affine2D_F32;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplImageDistortRemap_U8 extends GeneralImageDistortTests<GrayU8> {
+
+	public TestImplImageDistortRemap_U8() {
+		super(ImageType.single(GrayU8.class));
+	}
+
+	@Override
+	public ImageDistort<GrayU8, GrayU8> createDistort(PixelTransform2_F32 dstToSrc, InterpolatePixel<GrayU8> interp) {
+		ImageDistort<GrayU8,GrayU8> ret = new ImplImageDistortRemap_U8((InterpolatePixelS<GrayU8>)interp);
+		ret.setModel(dstToSrc);
+		return ret;
+	}
+
+	/**
+	 * Compare against floating point bilinear interpolation. Fractional offsets are quantized, so the image
+	 * is smooth to keep the error small.
+	 */
+	@Test
+	public void compareToFloatBilinear() {
+		GrayU8 src = new GrayU8(120,100);
+		for (int y = 0; y < src.height; y++) {
+			for (int x = 0; x < src.width; x++) {
+				src.set(x,y, x + y);
+			}
+		}
+		GrayU8 dst = new GrayU8(90,80);
+
+		PixelTransformAffine_F32 tran = new PixelTransformAffine_F32(new Affine2D_F32(1.1f,0.2f,-0.15f,0.9f,3.3f,-4.1f));
+		InterpolatePixelS<GrayU8> interp = FactoryInterpolation.bilinearPixelS(GrayU8.class, BorderType.EXTENDED);
+
+		ImageDistort<GrayU8,GrayU8> alg = createDistort(tran,interp);
+		alg.apply(src,dst);
+
+		interp.setImage(src);
+		for (int y = 0; y < dst.height; y++) {
+			for (int x = 0; x < dst.width; x++) {
+				tran.compute(x,y);
+				float expected = interp.get(tran.distX,tran.distY);
+				assertEquals(expected, dst.get(x,y), 1.0);
+			}
+		}
+	}
+
+	/**
+	 * The table should be recomputed when the shape of the image changes
+	 */
+	@Test
+	public void changeShape() {
+		InterpolatePixelS<GrayU8> interp = FactoryInterpolation.bilinearPixelS(GrayU8.class, BorderType.EXTENDED);
+		ImageDistort<GrayU8,GrayU8> alg = createDistort(new BasicTransform(),interp);
+
+		GrayU8 src = new GrayU8(40,35);
+		ImageMiscOps.fillUniform(src,rand,0,255);
+		GrayU8 dst = new GrayU8(30,20);
+		alg.apply(src,dst);
+
+		src = new GrayU8(60,45);
+		ImageMiscOps.fillUniform(src,rand,0,255);
+		dst = new GrayU8(50,40);
+		alg.apply(src,dst);
+
+		for (int y = 0; y < dst.height; y++) {
+			for (int x = 0; x < dst.width; x++) {
+				assertEquals(src.get(x+offX,y+offY), dst.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * Pixels which are mapped to NaN are outside the image and should be skipped when only the inside is rendered
+	 */
+	@Test
+	public void transformNaN() {
+		PixelTransform2_F32 tran = new PixelTransform2_F32() {
+			@Override
+			public void compute(int x, int y) {
+				distX = x == 3 ? Float.NaN : x;
+				distY = y;
+			}
+		};
+		InterpolatePixelS<GrayU8> interp = FactoryInterpolation.bilinearPixelS(GrayU8.class, BorderType.EXTENDED);
+		ImageDistort<GrayU8,GrayU8> alg = createDistort(tran,interp);
+		alg.setRenderAll(false);
+
+		GrayU8 src = new GrayU8(20,15);
+		ImageMiscOps.fill(src,100);
+		GrayU8 dst = new GrayU8(10,8);
+		ImageMiscOps.fill(dst,7);
+		alg.apply(src,dst);
+
+		for (int y = 0; y < dst.height; y++) {
+			for (int x = 0; x < dst.width; x++) {
+				assertEquals(x == 3 ? 7 : 100, dst.get(x,y));
+			}
+		}
+	}
+
+	@Test
+	public void concurrent() {
+		GrayU8 src = new GrayU8(200,150);
+		ImageMiscOps.fillUniform(src,rand,0,255);
+		GrayU8 expected = new GrayU8(180,160);
+		GrayU8 found = expected.createSameShape();
+
+		PixelTransformAffine_F32 tran = new PixelTransformAffine_F32(new Affine2D_F32(1.1f,0.2f,-0.15f,0.9f,3.3f,-4.1f));
+		InterpolatePixelS<GrayU8> interp = FactoryInterpolation.bilinearPixelS(GrayU8.class, BorderType.EXTENDED);
+		ImageDistort<GrayU8,GrayU8> alg = createDistort(tran,interp);
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.apply(src,expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(4);
+			alg.apply(src,found);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+}
@@ -20,15 +20,19 @@ package boofcv.alg.enhance;
 
 import boofcv.alg.enhance.impl.ImplEnhanceHistogram;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.GImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayI;
+import boofcv.struct.image.GrayU8;
 import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.GrowQueue_I32;
 import org.junit.Test;
 
 import java.lang.reflect.Method;
 import java.util.Random;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 /**
  * @author Peter Abeles
@@ -92,4 +96,93 @@ public class TestEnhanceImageOps {
 			BoofTesting.assertEquals(expected, found, 1e-10);
 		}
 	}
+
+	@Test
+	public void equalizeLocalTiles() {
+		int numFound = 0;
+
+		Method methods[] = EnhanceImageOps.class.getMethods();
+		for( int i = 0; i < methods.length; i++ ) {
+			if( methods[i].getName().compareTo("equalizeLocalTiles") != 0 )
+				continue;
+
+			numFound++;
+
+			Class imageType = methods[i].getParameterTypes()[0];
+			GrayI input = (GrayI)GeneralizedImageOps.createSingleBand(imageType, width, height);
+			GrayI output = (GrayI)GeneralizedImageOps.createSingleBand(imageType,width,height);
+
+			equalizeLocalTiles(input, output);
+
+			BoofTesting.checkSubImage(this,"equalizeLocalTiles",true,input,output);
+		}
+
+		assertEquals(2, numFound);
+	}
+
+	/**
+	 * With a single tile and no clipping it should be the same as global equalization
+	 */
+	public void equalizeLocalTiles(GrayI input , GrayI found ) {
+		GrayI expected = (GrayI) GeneralizedImageOps.createSingleBand(input.getClass(),input.width, input.height);
+		GImageMiscOps.fillUniform(input, rand, 0, 9);
+
+		int transform[] = new int[10];
+		int histogram[] = new int[10];
+
+		GImageStatistics.histogram(input,0,histogram);
+		EnhanceImageOps.equalize(histogram,transform);
+		GEnhanceImageOps.applyTransform(input,transform,0,expected);
+
+		for( boolean concurrent : new boolean[]{false,true}) {
+			BoofConcurrency.USE_CONCURRENT = concurrent;
+			try {
+				GImageMiscOps.fill(found,0);
+				GEnhanceImageOps.equalizeLocalTiles(input,1,1,0,found,histogram,null);
+			} finally {
+				BoofConcurrency.USE_CONCURRENT = true;
+			}
+
+			BoofTesting.assertEquals(expected, found, 1e-10);
+		}
+	}
+
+	/**
+	 * Clipping should reduce how much the contrast is stretched in a nearly uniform image
+	 */
+	@Test
+	public void equalizeLocalTiles_clip() {
+		GrayU8 input = new GrayU8(60,50);
+		GImageMiscOps.fillUniform(input, rand, 100, 104);
+
+		GrayU8 noClip = input.createSameShape();
+		GrayU8 clipped = input.createSameShape();
+		int histogram[] = new int[256];
+		GrowQueue_I32 storage = new GrowQueue_I32();
+
+		EnhanceImageOps.equalizeLocalTiles(input,3,3,0,noClip,histogram,storage);
+		EnhanceImageOps.equalizeLocalTiles(input,3,3,2,clipped,histogram,storage);
+
+		double rangeNoClip = GImageStatistics.max(noClip)-GImageStatistics.min(noClip);
+		double rangeClipped = GImageStatistics.max(clipped)-GImageStatistics.min(clipped);
+
+		assertTrue(rangeNoClip > 150);
+		assertTrue(rangeClipped < rangeNoClip/2);
+	}
+
+	@Test
+	public void equalizeLocalTiles_badArguments() {
+		GrayU8 input = new GrayU8(10,8);
+		GrayU8 output = input.createSameShape();
+		int histogram[] = new int[256];
+
+		try {
+			EnhanceImageOps.equalizeLocalTiles(input,0,2,0,output,histogram,null);
+			fail("Expected an exception");
+		} catch( IllegalArgumentException ignore ) {}
+		try {
+			EnhanceImageOps.equalizeLocalTiles(input,2,9,0,output,histogram,null);
+			fail("Expected an exception");
+		} catch( IllegalArgumentException ignore ) {}
+	}
 }
@@ -31,7 +31,9 @@ import org.junit.Test;
 import java.lang.reflect.Method;
 import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -355,6 +357,105 @@ public class TestImplEnhanceHistogram {
 		}
 	}
 
+	/**
+	 * Compares the tiled equalization against a straight forward implementation
+	 */
+	@Test
+	public void equalizeTiles() {
+		int numFound = 0;
+
+		Method methods[] = ImplEnhanceHistogram.class.getMethods();
+		for (Method method : methods) {
+			if (method.getName().compareTo("equalizeTilesApply") != 0)
+				continue;
+
+			numFound++;
+
+			Class imageType = method.getParameterTypes()[0];
+			GrayI input = (GrayI) GeneralizedImageOps.createSingleBand(imageType, width, height);
+			GrayI output = (GrayI) GeneralizedImageOps.createSingleBand(imageType, width, height);
+
+			equalizeTiles(input, output);
+
+			BoofTesting.checkSubImage(this, "equalizeTiles", true, input, output);
+		}
+
+		assertEquals(2,numFound);
+	}
+
+	public void equalizeTiles(GrayI input , GrayI found ) {
+		GImageMiscOps.fillUniform(input,rand,0,9);
+
+		int numBins = 10;
+		int tilesX = 3, tilesY = 4;
+		int transforms[] = new int[tilesX*tilesY*numBins];
+
+		BoofTesting.callStaticMethod(ImplEnhanceHistogram.class, "equalizeTilesTransforms",
+				input, tilesX, tilesY, 0.0, new int[numBins], transforms);
+		BoofTesting.callStaticMethod(ImplEnhanceHistogram.class, "equalizeTilesApply",
+				input, tilesX, tilesY, numBins, transforms, found);
+
+		// equalization transform of each tile computed independently
+		int expectedTransforms[][] = new int[tilesX*tilesY][numBins];
+		for( int ty = 0; ty < tilesY; ty++ ) {
+			for( int tx = 0; tx < tilesX; tx++ ) {
+				int x0 = tx*width/tilesX, x1 = (tx+1)*width/tilesX;
+				int y0 = ty*height/tilesY, y1 = (ty+1)*height/tilesY;
+
+				GrayI sub = (GrayI)input.subimage(x0,y0,x1,y1,null);
+				int histogram[] = new int[numBins];
+				GImageStatistics.histogram(sub,0,histogram);
+				EnhanceImageOps.equalize(histogram,expectedTransforms[ty*tilesX+tx]);
+			}
+		}
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				int value = input.get(x,y);
+
+				// location relative to the tile centers
+				double fx = Math.max(0,Math.min(tilesX-1,(x+0.5)*tilesX/width - 0.5));
+				double fy = Math.max(0,Math.min(tilesY-1,(y+0.5)*tilesY/height - 0.5));
+				int tx0 = (int)fx, ty0 = (int)fy;
+				int tx1 = Math.min(tx0+1,tilesX-1), ty1 = Math.min(ty0+1,tilesY-1);
+				double wx = fx-tx0, wy = fy-ty0;
+
+				double expected =
+						(1-wx)*(1-wy)*expectedTransforms[ty0*tilesX+tx0][value] +
+						wx*(1-wy)*expectedTransforms[ty0*tilesX+tx1][value] +
+						(1-wx)*wy*expectedTransforms[ty1*tilesX+tx0][value] +
+						wx*wy*expectedTransforms[ty1*tilesX+tx1][value];
+
+				assertEquals(x+" "+y,expected,found.get(x,y),0.5+1e-4);
+			}
+		}
+	}
+
+	@Test
+	public void clipHistogram() {
+		int histogram[] = new int[]{1,20,3,0,50,2,4,0,10,5};
+		int total = 0;
+		for( int v : histogram )
+			total += v;
+
+		ImplEnhanceHistogram.clipHistogram(histogram,8);
+
+		int found = 0;
+		for( int v : histogram ) {
+			found += v;
+			// 12+42+2 = 56 counts are redistributed. up to 6 can be added to each bin
+			assertTrue(v <= 8+6);
+		}
+		assertEquals(total,found);
+		assertEquals(0+5,histogram[3],1);
+		assertEquals(8+5,histogram[4],1);
+
+		// nothing should change if it's already inside the limit
+		int before[] = histogram.clone();
+		ImplEnhanceHistogram.clipHistogram(histogram,100);
+		assertArrayEquals(before,histogram);
+	}
+
 	private void checkZeroOutsideColumns(GrayI image , int x0 , int x1, int radius) {
 		for( int y = 0; y < height; y++ ) {
 			if( y < radius || y >= height-radius) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayI;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplEnhanceHistogram_MT {
+
+	Random rand = new Random(234);
+	int width = 105, height = 90;
+
+	Class[] types = new Class[]{GrayU8.class, GrayU16.class};
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		// several threads so that the image is split into blocks
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void applyTransform() {
+		int transform[] = new int[100];
+		for (int i = 0; i < transform.length; i++) {
+			transform[i] = rand.nextInt(100);
+		}
+
+		for( Class type : types ) {
+			GrayI input = createInput(type);
+			GrayI expected = (GrayI)input.createSameShape();
+			GrayI found = (GrayI)input.createSameShape();
+
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram.class,"applyTransform",input,transform,expected);
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram_MT.class,"applyTransform",input,transform,found);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	@Test
+	public void equalizeLocalInner() {
+		for( Class type : types ) {
+			GrayI input = createInput(type);
+			GrayI expected = (GrayI)input.createSameShape();
+			GrayI found = (GrayI)input.createSameShape();
+
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram.class,"equalizeLocalInner",input,6,expected,new int[100]);
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram_MT.class,"equalizeLocalInner",input,6,found,new int[100]);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	@Test
+	public void equalizeTiles() {
+		int tilesX = 5, tilesY = 4;
+
+		for( Class type : types ) {
+			GrayI input = createInput(type);
+			GrayI expected = (GrayI)input.createSameShape();
+			GrayI found = (GrayI)input.createSameShape();
+
+			int transformsExpected[] = new int[tilesX*tilesY*100];
+			int transformsFound[] = new int[tilesX*tilesY*100];
+
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram.class,"equalizeTilesTransforms",
+					input,tilesX,tilesY,2.0,new int[100],transformsExpected);
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram_MT.class,"equalizeTilesTransforms",
+					input,tilesX,tilesY,2.0,new int[100],transformsFound);
+			assertArrayEquals(transformsExpected,transformsFound);
+
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram.class,"equalizeTilesApply",
+					input,tilesX,tilesY,100,transformsExpected,expected);
+			BoofTesting.callStaticMethod(ImplEnhanceHistogram_MT.class,"equalizeTilesApply",
+					input,tilesX,tilesY,100,transformsExpected,found);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	private GrayI createInput( Class type ) {
+		GrayI input = (GrayI)GeneralizedImageOps.createSingleBand(type, width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 99);
+		return input;
+	}
+}
@@ -23,6 +23,7 @@ import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.ConnectRule;
 import boofcv.struct.image.GrayS32;
 import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
 import boofcv.testing.BoofTesting;
 import georegression.struct.point.Point2D_I32;
 import org.ddogleg.struct.FastQueue;
@@ -162,6 +163,8 @@ public class TestBinaryImageOps {
 		int numTimes = 0;
 		for( Method m : methods ) {
 			if( m.getName().contains("erode") || m.getName().contains("dilate")) {
+				if( m.getParameterTypes()[0] != GrayU8.class )
+					continue;
 				checkMultipleCalls(m);
 				numTimes++;
 			}
@@ -193,6 +196,63 @@ public class TestBinaryImageOps {
 		}
 	}
 
+	/**
+	 * Compares the packed operations against the same operation applied to a {@link GrayU8}
+	 */
+	@Test
+	public void packed_compareToGrayU8() {
+		GrayU8 input = new GrayU8(150,40);
+		ImageMiscOps.fillUniform(input, rand, 0, 2);
+		GrayU8 inputB = new GrayU8(150,40);
+		ImageMiscOps.fillUniform(inputB, rand, 0, 2);
+
+		PackedBinaryImage packed = BinaryImageOps.pack(input,null);
+		PackedBinaryImage packedB = BinaryImageOps.pack(inputB,null);
+
+		for( int numTimes = 1; numTimes <= 3; numTimes++ ) {
+			// the GrayU8 version of erode4 treats the corners outside the image as false
+			checkPacked(BinaryImageOps.erode8(input,numTimes,null),BinaryImageOps.erode8(packed,numTimes,null));
+			checkPacked(BinaryImageOps.dilate4(input,numTimes,null),BinaryImageOps.dilate4(packed,numTimes,null));
+			checkPacked(BinaryImageOps.dilate8(input,numTimes,null),BinaryImageOps.dilate8(packed,numTimes,null));
+		}
+		checkPacked(BinaryImageOps.edge4(input,null),BinaryImageOps.edge4(packed,null));
+		checkPacked(BinaryImageOps.edge8(input,null),BinaryImageOps.edge8(packed,null));
+		checkPacked(BinaryImageOps.removePointNoise(input,null),BinaryImageOps.removePointNoise(packed,null));
+		checkPacked(BinaryImageOps.invert(input,null),BinaryImageOps.invert(packed,null));
+		checkPacked(BinaryImageOps.logicAnd(input,inputB,null),BinaryImageOps.logicAnd(packed,packedB,null));
+		checkPacked(BinaryImageOps.logicOr(input,inputB,null),BinaryImageOps.logicOr(packed,packedB,null));
+		checkPacked(BinaryImageOps.logicXor(input,inputB,null),BinaryImageOps.logicXor(packed,packedB,null));
+
+		// logical operations can be done in place
+		PackedBinaryImage copy = packed.copy();
+		BinaryImageOps.logicAnd(copy,packedB,copy);
+		checkPacked(BinaryImageOps.logicAnd(input,inputB,null),copy);
+	}
+
+	@Test
+	public void packed_erode4() {
+		PackedBinaryImage packed = new PackedBinaryImage(70,3);
+		packed.fill(true);
+
+		// pixels outside the image are treated as true, so nothing should change
+		PackedBinaryImage found = BinaryImageOps.erode4(packed,2,null);
+		assertEquals(70*3, found.countTrue());
+
+		packed.set(30,1,0);
+		found = BinaryImageOps.erode4(packed,1,null);
+		assertEquals(70*3-5, found.countTrue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void packed_inPlaceMorphology() {
+		PackedBinaryImage packed = new PackedBinaryImage(10,10);
+		BinaryImageOps.dilate8(packed,1,packed);
+	}
+
+	private void checkPacked( GrayU8 expected , PackedBinaryImage found ) {
+		BoofTesting.assertEquals(expected,BinaryImageOps.unpack(found,null),0);
+	}
+
 	/**
 	 * Very crude and not exhaustive check of contour
 	 */
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.PackedSetsPoint2D_I32;
+import boofcv.struct.image.GrayS32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearContourLabelChang2004_MT {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Random images contain lots of blobs, holes, and blobs inside of holes
+	 */
+	@Test
+	public void compareToSingleThread_random() {
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			for( double fill : new double[]{0.2,0.5,0.8}) {
+				GrayU8 binary = new GrayU8(83,97);
+				for (int i = 0; i < binary.data.length; i++) {
+					binary.data[i] = (byte)(rand.nextDouble() < fill ? 1 : 0);
+				}
+				compare(rule, binary, 0, Integer.MAX_VALUE, true);
+			}
+		}
+	}
+
+	@Test
+	public void compareToSingleThread_shapes() {
+		GrayU8 binary = new GrayU8(120,100);
+		// objects which span multiple strips with holes and objects inside the holes
+		ImageMiscOps.fillRectangle(binary,1,5,5,100,80);
+		ImageMiscOps.fillRectangle(binary,0,10,10,40,60);
+		ImageMiscOps.fillRectangle(binary,1,20,20,10,10);
+		ImageMiscOps.fillRectangle(binary,0,60,10,30,30);
+		ImageMiscOps.fillRectangle(binary,1,0,90,120,10);
+		// U shape which is only connected at the bottom
+		ImageMiscOps.fillRectangle(binary,1,110,0,3,95);
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			compare(rule, binary, 0, Integer.MAX_VALUE, true);
+			compare(rule, TestLinearContourLabelChang2004.TEST1, 0, Integer.MAX_VALUE, true);
+			compare(rule, TestLinearContourLabelChang2004.TEST2, 0, Integer.MAX_VALUE, true);
+			compare(rule, TestLinearContourLabelChang2004.TEST3, 0, Integer.MAX_VALUE, true);
+			compare(rule, TestLinearContourLabelChang2004.TEST4, 0, Integer.MAX_VALUE, true);
+		}
+	}
+
+	@Test
+	public void compareToSingleThread_settings() {
+		GrayU8 binary = new GrayU8(83,97);
+		ImageMiscOps.fillUniform(binary,rand,0,2);
+
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			compare(rule, binary, 5, 20, true);
+			compare(rule, binary, 0, 10, false);
+		}
+	}
+
+	@Test
+	public void emptyAndFull() {
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT}) {
+			GrayU8 binary = new GrayU8(30,40);
+			compare(rule, binary, 0, Integer.MAX_VALUE, true);
+			ImageMiscOps.fill(binary,1);
+			compare(rule, binary, 0, Integer.MAX_VALUE, true);
+		}
+	}
+
+	/**
+	 * Processes multiple images of different shapes with the same instance
+	 */
+	@Test
+	public void multipleCalls() {
+		LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(ConnectRule.EIGHT);
+		alg.setMinStripHeight(3);
+
+		// the same shape is processed more than once since internal storage is only reset when the shape changes
+		for (int trial = 0; trial < 4; trial++) {
+			GrayU8 binary = new GrayU8(50+(trial/2)*20,60-(trial/2)*10);
+			ImageMiscOps.fillUniform(binary,rand,0,2);
+
+			LinearContourLabelChang2004 expected = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+			GrayS32 labeledExpected = new GrayS32(1,1);
+			GrayS32 labeledFound = new GrayS32(1,1);
+			expected.process(binary.clone(),labeledExpected);
+			alg.process(binary.clone(),labeledFound);
+
+			checkIdentical(expected,labeledExpected,alg,labeledFound);
+		}
+	}
+
+	private void compare( ConnectRule rule , GrayU8 binary , int minContour , int maxContour , boolean saveInternal ) {
+		LinearContourLabelChang2004 expected = new LinearContourLabelChang2004(rule);
+		LinearContourLabelChang2004_MT found = new LinearContourLabelChang2004_MT(rule);
+		// use small strips so that there are many strip boundaries
+		found.setMinStripHeight(2);
+
+		for( LinearContourLabelChang2004 alg : new LinearContourLabelChang2004[]{expected,found}) {
+			alg.setMinContourSize(minContour);
+			alg.setMaxContourSize(maxContour);
+			alg.setSaveInternalContours(saveInternal);
+		}
+
+		GrayU8 input = binary.clone();
+		GrayS32 labeledExpected = new GrayS32(binary.width,binary.height);
+		GrayS32 labeledFound = new GrayS32(binary.width,binary.height);
+		ImageMiscOps.fill(labeledFound,-2);
+
+		expected.process(binary.clone(),labeledExpected);
+		found.process(input,labeledFound);
+
+		// input should not be modified
+		BoofTesting.assertEquals(binary,input,0);
+		checkIdentical(expected, labeledExpected, found, labeledFound);
+	}
+
+	private void checkIdentical( LinearContourLabelChang2004 expected, GrayS32 labeledExpected,
+								 LinearContourLabelChang2004 found, GrayS32 labeledFound) {
+		BoofTesting.assertEquals(labeledExpected,labeledFound,0);
+
+		FastQueue<ContourPacked> contoursA = expected.getContours();
+		FastQueue<ContourPacked> contoursB = found.getContours();
+		assertEquals(contoursA.size,contoursB.size);
+		for (int i = 0; i < contoursA.size; i++) {
+			ContourPacked a = contoursA.get(i);
+			ContourPacked b = contoursB.get(i);
+			assertEquals(a.id,b.id);
+			assertEquals(a.externalIndex,b.externalIndex);
+			assertEquals(a.internalIndexes.size,b.internalIndexes.size);
+			for (int j = 0; j < a.internalIndexes.size; j++) {
+				assertEquals(a.internalIndexes.get(j),b.internalIndexes.get(j));
+			}
+		}
+
+		PackedSetsPoint2D_I32 pointsA = expected.getPackedPoints();
+		PackedSetsPoint2D_I32 pointsB = found.getPackedPoints();
+		assertEquals(pointsA.size(),pointsB.size());
+		FastQueue<Point2D_I32> listA = new FastQueue<>(Point2D_I32.class,true);
+		FastQueue<Point2D_I32> listB = new FastQueue<>(Point2D_I32.class,true);
+		for (int i = 0; i < pointsA.size(); i++) {
+			pointsA.getSet(i,listA);
+			pointsB.getSet(i,listB);
+			assertEquals(listA.size,listB.size);
+			for (int j = 0; j < listA.size; j++) {
+				assertEquals(0,listA.get(j).distance2(listB.get(j)));
+			}
+		}
+	}
+}
@@ -29,6 +29,7 @@ import boofcv.struct.ConfigLength;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.PackedBinaryImage;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
@@ -266,6 +267,24 @@ public class TestThresholdImageOps {
 		assertEquals(6,total);
 	}
 
+	@Test
+	public void thresholdPacked() {
+		GrayU8 inputU8 = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(inputU8, rand, 0, 255);
+		GrayF32 inputF32 = new GrayF32(width,height);
+		ImageMiscOps.fillUniform(inputF32, rand, 0, 100);
+
+		for( boolean down : new boolean[]{true,false}) {
+			GrayU8 expected = ThresholdImageOps.threshold(inputU8,null,100,down);
+			PackedBinaryImage found = ThresholdImageOps.thresholdPacked(inputU8,null,100,down);
+			BoofTesting.assertEquals(expected,BinaryImageOps.unpack(found,null),0);
+
+			expected = ThresholdImageOps.threshold(inputF32,null,40.5f,down);
+			found = ThresholdImageOps.thresholdPacked(inputF32,found,40.5f,down);
+			BoofTesting.assertEquals(expected,BinaryImageOps.unpack(found,null),0);
+		}
+	}
+
 	public void performThreshold(Method m , ImageGray input , GrayU8 output )
 			throws InvocationTargetException, IllegalAccessException
 	{
@@ -20,8 +20,14 @@ package boofcv.alg.filter.binary;
 
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.filter.binary.impl.GenericThresholdCommon;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.ConfigLength;
 import boofcv.struct.image.GrayU8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
 
 /**
  * @author Peter Abeles
@@ -35,4 +41,58 @@ public class TestThresholdLocalOtsu extends GenericThresholdCommon<GrayU8> {
 	public InputToBinary<GrayU8> createAlg(int requestedBlockWidth, double scale, boolean down) {
 		return new ThresholdLocalOtsu(true,ConfigLength.fixed(requestedBlockWidth), 0, 1.0,down);
 	}
+
+	/**
+	 * Compare against a brute force implementation which computes the histogram of every pixel's region
+	 */
+	@Test
+	public void bruteForce() {
+		Random rand = new Random(234);
+
+		// the region is narrow enough for the histogram to be updated using pixels for the first few, but not
+		// for the last one
+		int[] widths = new int[]{1,4,7,12,260};
+		int[][] shapes = new int[][]{{40,35},{40,35},{13,30},{12,12},{300,270}};
+
+		for (int trial = 0; trial < widths.length; trial++) {
+			GrayU8 input = new GrayU8(shapes[trial][0],shapes[trial][1]);
+			ImageMiscOps.fillUniform(input,rand,0,256);
+
+			for( boolean down : new boolean[]{true,false}) {
+				ThresholdLocalOtsu alg = new ThresholdLocalOtsu(trial%2==0,ConfigLength.fixed(widths[trial]),
+						trial*2,1.0,down);
+				GrayU8 found = new GrayU8(input.width,input.height);
+				alg.process(input,found);
+
+				checkBruteForce(input,found,widths[trial],alg.getOtsu());
+			}
+		}
+	}
+
+	private void checkBruteForce( GrayU8 input , GrayU8 found , int regionWidth , ComputeOtsu otsu ) {
+		int radius = regionWidth/2;
+		int histogram[] = new int[256];
+
+		for (int y = 0; y < input.height; y++) {
+			// the region is shifted so that it's always entirely inside the image
+			int y0 = Math.max(0,Math.min(input.height-regionWidth,y-radius));
+			for (int x = 0; x < input.width; x++) {
+				int x0 = Math.max(0,Math.min(input.width-regionWidth,x-radius));
+
+				for (int i = 0; i < histogram.length; i++) {
+					histogram[i] = 0;
+				}
+				for (int i = 0; i < regionWidth; i++) {
+					for (int j = 0; j < regionWidth; j++) {
+						histogram[input.get(x0+j,y0+i)]++;
+					}
+				}
+				otsu.compute(histogram,histogram.length,regionWidth*regionWidth);
+
+				boolean below = input.get(x,y) <= otsu.threshold;
+				int expected = below == otsu.down ? 1 : 0;
+				assertEquals(x+" "+y,expected,found.get(x,y));
+			}
+		}
+	}
 }
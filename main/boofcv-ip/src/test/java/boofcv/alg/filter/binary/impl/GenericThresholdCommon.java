@@ -21,6 +21,7 @@ package boofcv.alg.filter.binary.impl;
 import boofcv.abst.filter.binary.InputToBinary;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.GrayU8;
 import boofcv.struct.image.ImageGray;
@@ -95,6 +96,35 @@ public abstract class GenericThresholdCommon<T extends ImageGray<T>>
 		alg.process(input,output);
 	}
 
+	/**
+	 * The concurrent implementation should produce identical results
+	 */
+	@Test
+	public void concurrent() {
+		T input = GeneralizedImageOps.createSingleBand(imageType,220,170);
+		GImageMiscOps.fillUniform(input,rand,0,255);
+
+		GrayU8 expected = new GrayU8(input.width,input.height);
+		GrayU8 found = new GrayU8(input.width,input.height);
+
+		InputToBinary<T> alg = createAlg(14,1.0,true);
+
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		int threads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process(input,expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(4);
+			alg.process(input,found);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+			BoofConcurrency.setMaxThreads(threads);
+		}
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
 	@Test
 	public void subImage() {
 		T input = GeneralizedImageOps.createSingleBand(imageType,100,120);
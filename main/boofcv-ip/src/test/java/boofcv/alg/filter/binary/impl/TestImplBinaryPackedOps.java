@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.filter.binary.BinaryImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.PackedBinaryImage;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplBinaryPackedOps {
+
+	Random rand = new Random(234);
+
+	// shapes which test words being partially filled, exactly filled, and spanning multiple words
+	int widths[] = {1,5,63,64,65,130};
+	int heights[] = {1,2,7};
+
+	@Test
+	public void erode4() {
+		compareToNaive(ImplBinaryPackedOps::erode4, ImplBinaryNaiveOps::erode4);
+	}
+
+	@Test
+	public void dilate4() {
+		compareToNaive(ImplBinaryPackedOps::dilate4, ImplBinaryNaiveOps::dilate4);
+	}
+
+	@Test
+	public void edge4() {
+		compareToNaive(ImplBinaryPackedOps::edge4, ImplBinaryNaiveOps::edge4);
+	}
+
+	@Test
+	public void erode8() {
+		compareToNaive(ImplBinaryPackedOps::erode8, ImplBinaryNaiveOps::erode8);
+	}
+
+	@Test
+	public void dilate8() {
+		compareToNaive(ImplBinaryPackedOps::dilate8, ImplBinaryNaiveOps::dilate8);
+	}
+
+	@Test
+	public void edge8() {
+		compareToNaive(ImplBinaryPackedOps::edge8, ImplBinaryNaiveOps::edge8);
+	}
+
+	@Test
+	public void removePointNoise() {
+		compareToNaive(ImplBinaryPackedOps::removePointNoise, ImplBinaryNaiveOps::removePointNoise);
+	}
+
+	private void compareToNaive( BiConsumer<PackedBinaryImage,PackedBinaryImage> packed ,
+								 BiConsumer<GrayU8,GrayU8> naive ) {
+		for( int width : widths ) {
+			for( int height : heights ) {
+				// sparse and dense images so that every neighbor count is encountered
+				for( int trial = 0; trial < 3; trial++ ) {
+					GrayU8 input = randomBinary(width, height, 0.25 + 0.25*trial);
+					GrayU8 expected = new GrayU8(width, height);
+					naive.accept(input, expected);
+
+					PackedBinaryImage inputP = BinaryImageOps.pack(input, null);
+					PackedBinaryImage outputP = new PackedBinaryImage(width, height);
+					// make sure every value is written to
+					outputP.fill(true);
+					packed.accept(inputP, outputP);
+
+					BoofTesting.assertEquals(expected, BinaryImageOps.unpack(outputP, null), 0);
+					checkPadding(outputP);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void logic() {
+		for( int width : widths ) {
+			GrayU8 a = randomBinary(width, 6, 0.5);
+			GrayU8 b = randomBinary(width, 6, 0.5);
+			PackedBinaryImage packedA = BinaryImageOps.pack(a, null);
+			PackedBinaryImage packedB = BinaryImageOps.pack(b, null);
+			PackedBinaryImage found = new PackedBinaryImage(width, 6);
+
+			ImplBinaryPackedOps.logicAnd(packedA, packedB, found);
+			BoofTesting.assertEquals(BinaryImageOps.logicAnd(a, b, null), BinaryImageOps.unpack(found, null), 0);
+			ImplBinaryPackedOps.logicOr(packedA, packedB, found);
+			BoofTesting.assertEquals(BinaryImageOps.logicOr(a, b, null), BinaryImageOps.unpack(found, null), 0);
+			ImplBinaryPackedOps.logicXor(packedA, packedB, found);
+			BoofTesting.assertEquals(BinaryImageOps.logicXor(a, b, null), BinaryImageOps.unpack(found, null), 0);
+			ImplBinaryPackedOps.invert(packedA, found);
+			BoofTesting.assertEquals(BinaryImageOps.invert(a, null), BinaryImageOps.unpack(found, null), 0);
+			checkPadding(found);
+		}
+	}
+
+	@Test
+	public void pack_unpack() {
+		for( int width : widths ) {
+			GrayU8 input = randomBinary(width, 5, 0.5);
+			PackedBinaryImage packed = new PackedBinaryImage(width, 5);
+			ImplBinaryPackedOps.pack(input, packed);
+			checkPadding(packed);
+
+			for( int y = 0; y < input.height; y++ ) {
+				for( int x = 0; x < input.width; x++ ) {
+					assertEquals(input.get(x, y), packed.get(x, y));
+				}
+			}
+
+			GrayU8 found = new GrayU8(width, 5);
+			ImplBinaryPackedOps.unpack(packed, found);
+			BoofTesting.assertEquals(input, found, 0);
+		}
+
+		// any value which isn't zero is true
+		GrayU8 input = new GrayU8(70, 2);
+		ImageMiscOps.fill(input, 255);
+		PackedBinaryImage packed = new PackedBinaryImage(70, 2);
+		ImplBinaryPackedOps.pack(input, packed);
+		assertEquals(140, packed.countTrue());
+	}
+
+	@Test
+	public void pack_unpack_subimage() {
+		GrayU8 input = randomBinary(100, 20, 0.5);
+		GrayU8 sub = BoofTesting.createSubImageOf(input);
+
+		PackedBinaryImage packed = new PackedBinaryImage(100, 20);
+		ImplBinaryPackedOps.pack(sub, packed);
+
+		GrayU8 found = BoofTesting.createSubImageOf(new GrayU8(100, 20));
+		ImplBinaryPackedOps.unpack(packed, found);
+		BoofTesting.assertEquals(input, found, 0);
+	}
+
+	@Test
+	public void threshold() {
+		for( int width : widths ) {
+			GrayU8 inputU8 = new GrayU8(width, 4);
+			ImageMiscOps.fillUniform(inputU8, rand, 0, 255);
+			GrayF32 inputF32 = new GrayF32(width, 4);
+			ImageMiscOps.fillUniform(inputF32, rand, 0, 100);
+
+			for( boolean down : new boolean[]{true, false} ) {
+				GrayU8 expected = new GrayU8(width, 4);
+				PackedBinaryImage found = new PackedBinaryImage(width, 4);
+
+				ImplThresholdImageOps.threshold(inputU8, expected, 120, down);
+				ImplBinaryPackedOps.threshold(inputU8, found, 120, down);
+				BoofTesting.assertEquals(expected, BinaryImageOps.unpack(found, null), 0);
+				checkPadding(found);
+
+				ImplThresholdImageOps.threshold(inputF32, expected, 50.5f, down);
+				ImplBinaryPackedOps.threshold(inputF32, found, 50.5f, down);
+				BoofTesting.assertEquals(expected, BinaryImageOps.unpack(found, null), 0);
+				checkPadding(found);
+			}
+		}
+	}
+
+	private GrayU8 randomBinary( int width , int height , double probability ) {
+		GrayU8 image = new GrayU8(width, height);
+		for( int i = 0; i < image.data.length; i++ ) {
+			image.data[i] = (byte)(rand.nextDouble() < probability ? 1 : 0);
+		}
+		return image;
+	}
+
+	/**
+	 * Bits past the end of each row must always be zero
+	 */
+	private void checkPadding( PackedBinaryImage image ) {
+		long mask = ~image.getLastWordMask();
+		for( int y = 0; y < image.height; y++ ) {
+			assertEquals(0, image.data[y*image.stride + image.stride-1] & mask);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.filter.binary.BinaryImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.PackedBinaryImage;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplBinaryPackedOps_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+	int width = 150, height = 90;
+
+	public TestImplBinaryPackedOps_MT() {
+		super(ImplBinaryPackedOps_MT.class, ImplBinaryPackedOps.class);
+	}
+
+	@Test
+	public void performTests() {
+		performTests(15);
+	}
+
+	@Override
+	protected boolean isTestMethod(Method m) {
+		for( Class<?> c : m.getParameterTypes() ) {
+			if( c == PackedBinaryImage.class )
+				return true;
+		}
+		return false;
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class<?> params[] = candidate.getParameterTypes();
+		String name = candidate.getName();
+
+		if( name.equals("threshold") ) {
+			ImageGray input = GeneralizedImageOps.createSingleBand((Class)params[0], width, height);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+			Object threshold = params[2] == float.class ? (Object)50.5f : (Object)50;
+			return new Object[][]{
+					{input, new PackedBinaryImage(width,height), threshold, true},
+					{input, new PackedBinaryImage(width,height), threshold, false}};
+		} else if( name.equals("pack") ) {
+			GrayU8 input = new GrayU8(width,height);
+			ImageMiscOps.fillUniform(input, rand, 0, 2);
+			return new Object[][]{{input, new PackedBinaryImage(width,height)}};
+		} else if( name.equals("unpack") ) {
+			return new Object[][]{{randomPacked(), new GrayU8(width,height)}};
+		} else if( params.length == 3 ) {
+			return new Object[][]{{randomPacked(), randomPacked(), new PackedBinaryImage(width,height)}};
+		} else {
+			return new Object[][]{{randomPacked(), new PackedBinaryImage(width,height)}};
+		}
+	}
+
+	private PackedBinaryImage randomPacked() {
+		GrayU8 binary = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(binary, rand, 0, 2);
+		return BinaryImageOps.pack(binary,null);
+	}
+
+	@Override
+	protected Object[] reformatForValidation(Method m, Object[] targetParam) {
+		Object[] ret = super.reformatForValidation(m, targetParam);
+		for( int i = 0; i < ret.length; i++ ) {
+			if( ret[i] instanceof PackedBinaryImage )
+				ret[i] = ((PackedBinaryImage)ret[i]).copy();
+		}
+		return ret;
+	}
+
+	@Override
+	protected void compareResults(Object targetResult, Object[] targetParam, Object validationResult, Object[] validationParam) {
+		for( int i = 0; i < targetParam.length; i++ ) {
+			if( targetParam[i] instanceof PackedBinaryImage ) {
+				assertArrayEquals(((PackedBinaryImage)validationParam[i]).data,((PackedBinaryImage)targetParam[i]).data);
+			} else if( targetParam[i] instanceof ImageBase ) {
+				BoofTesting.assertEquals((ImageBase)validationParam[i],(ImageBase)targetParam[i],0);
+			}
+		}
+	}
+}
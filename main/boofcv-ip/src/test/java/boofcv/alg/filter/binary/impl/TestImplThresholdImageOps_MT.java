@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplThresholdImageOps_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+	int width = 105, height = 90;
+
+	public TestImplThresholdImageOps_MT() {
+		super(ImplThresholdImageOps_MT.class, ImplThresholdImageOps.class);
+	}
+
+	@Test
+	public void performTests() {
+		performTests(6);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class<?> params[] = candidate.getParameterTypes();
+
+		ImageGray input = GeneralizedImageOps.createSingleBand((Class)params[0], width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		Object threshold;
+		if( params[2] == float.class )
+			threshold = 50.5f;
+		else if( params[2] == double.class )
+			threshold = 50.5;
+		else
+			threshold = 50;
+
+		return new Object[][]{
+				{input, new GrayU8(width,height), threshold, true},
+				{input, new GrayU8(width,height), threshold, false}};
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.alg.filter.binary.impl;
 import boofcv.alg.filter.binary.BinaryImageOps;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConfigLength;
 import boofcv.struct.image.GrayF32;
 import boofcv.struct.image.GrayU8;
@@ -82,6 +83,35 @@ public class TestThresholdSauvola {
 		checkBruteForce(10, 12, width, k, false);
 	}
 
+	/**
+	 * The concurrent implementation should produce identical results
+	 */
+	@Test
+	public void concurrent() {
+		GrayF32 input = new GrayF32(220,170);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		GrayU8 expected = new GrayU8(input.width,input.height);
+		GrayU8 found = new GrayU8(input.width,input.height);
+
+		ThresholdSauvola alg = new ThresholdSauvola(ConfigLength.fixed(15),0.3f,true);
+
+		boolean before = BoofConcurrency.USE_CONCURRENT;
+		int threads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			alg.process(input,expected);
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(4);
+			alg.process(input,found);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = before;
+			BoofConcurrency.setMaxThreads(threads);
+		}
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
 	private void checkBruteForce(int w, int h, int width, float k, boolean down) {
 		GrayU8 expected = new GrayU8(w,h);
 		GrayU8 found = new GrayU8(w,h);
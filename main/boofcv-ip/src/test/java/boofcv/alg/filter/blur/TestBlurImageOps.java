@@ -140,4 +140,75 @@ public class TestBlurImageOps {
 			}
 		}
 	}
+
+	/**
+	 * Large radius uses a different algorithm
+	 */
+	@Test
+	public void median_largeRadius() {
+		GrayU8 input = new GrayU8(40,35);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+		GrayU8 found = input.createSameShape();
+		GrayU8 expected = input.createSameShape();
+
+		for( int radius = BlurImageOps.MEDIAN_CONSTANT_TIME_RADIUS; radius <= 12; radius += 3 ) {
+			BlurImageOps.median(input,found,radius);
+			ImplMedianSortNaive.process(input,expected,radius,null);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void median_U16() {
+		GrayU16 input = new GrayU16(width,height);
+		GImageMiscOps.fillUniform(input, rand, 0, 5000);
+		GrayU16 expected = input.createSameShape();
+
+		for( int radius = 1; radius <= 4; radius++ ) {
+			ImplMedianSortNaive.process(input,expected,radius,null);
+			GrayU16 found = BlurImageOps.median(input,null,radius);
+			BoofTesting.assertEquals(expected,found,0);
+
+			// the generic version must not quantize when the range is larger than 256
+			found = GBlurImageOps.median(input,null,radius);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+
+		// a smaller range is filtered in constant time and is still exact
+		GImageMiscOps.fillUniform(input, rand, 1000, 1256);
+		ImplMedianSortNaive.process(input,expected,5,null);
+		BoofTesting.assertEquals(expected,GBlurImageOps.median(input,null,5),0);
+	}
+
+	@Test
+	public void median_quantized_U16() {
+		GrayU16 input = new GrayU16(width,height);
+		GImageMiscOps.fillUniform(input, rand, 100, 300);
+		GrayU16 expected = input.createSameShape();
+
+		for( int radius = 1; radius <= 4; radius++ ) {
+			ImplMedianSortNaive.process(input,expected,radius,null);
+
+			// the range has 256 values so it should be exact
+			GrayU16 found = BlurImageOps.median(input,null,radius,100,355);
+			BoofTesting.assertEquals(expected,found,0);
+
+			// each bin contains 8 values
+			found = BlurImageOps.median(input,null,radius,0,2047);
+			BoofTesting.assertEquals(expected,found,4);
+		}
+	}
+
+	@Test
+	public void median_quantized_F32() {
+		GrayF32 input = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(input, rand, 0, 20);
+		GrayF32 expected = input.createSameShape();
+
+		for( int radius = 1; radius <= 4; radius++ ) {
+			ImplMedianSortNaive.process(input,expected,radius,null);
+			GrayF32 found = BlurImageOps.median(input,null,radius,0,20);
+			BoofTesting.assertEquals(expected,found,20.0/256.0);
+		}
+	}
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.filter.convolve.ConvolveImageMean;
+import boofcv.alg.filter.convolve.ConvolveImageNormalized;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeConsumer;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_F64;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayF64;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Results must be identical to the two pass implementation
+ *
+ * @author Peter Abeles
+ */
+public class TestImplBlurTiled {
+
+	Random rand = new Random(234);
+
+	int width = 45;
+	int height = 60;
+
+	int originalTileBytes;
+	boolean originalConcurrent;
+
+	@Before
+	public void before() {
+		originalTileBytes = ImplBlurTiled.TILE_BYTES;
+		originalConcurrent = BoofConcurrency.USE_CONCURRENT;
+		// small tiles so that there are several tiles in each image
+		ImplBlurTiled.TILE_BYTES = 600;
+		BoofConcurrency.USE_CONCURRENT = false;
+	}
+
+	@After
+	public void after() {
+		ImplBlurTiled.TILE_BYTES = originalTileBytes;
+		BoofConcurrency.USE_CONCURRENT = originalConcurrent;
+	}
+
+	@Test
+	public void gaussian_F32() {
+		for( int radius = 1; radius <= 8; radius += 3 ) {
+			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+
+			GrayF32 input = new GrayF32(width,height);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+			GrayF32 storage = input.createSameShape();
+			GrayF32 expected = input.createSameShape();
+			ConvolveImageNormalized.horizontal(kernel, input, storage);
+			ConvolveImageNormalized.vertical(kernel, storage, expected);
+
+			GrayF32 found = input.createSameShape();
+			ImplBlurTiled.gaussian(kernel, input, found);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			// see if sub-images are handled and output rows can be split into blocks
+			GrayF32 subInput = BoofTesting.createSubImageOf(input);
+			GrayF32 subFound = BoofTesting.createSubImageOf(found);
+			GImageMiscOps.fill(subFound,0);
+			processBlocks(subFound,(y0,y1)->ImplBlurTiled.gaussian(kernel, subInput, subFound, y0, y1));
+			BoofTesting.assertEquals(expected, subFound, 0);
+		}
+	}
+
+	@Test
+	public void gaussian_F64() {
+		for( int radius = 1; radius <= 8; radius += 3 ) {
+			Kernel1D_F64 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F64.class, -1, radius);
+
+			GrayF64 input = new GrayF64(width,height);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+			GrayF64 storage = input.createSameShape();
+			GrayF64 expected = input.createSameShape();
+			ConvolveImageNormalized.horizontal(kernel, input, storage);
+			ConvolveImageNormalized.vertical(kernel, storage, expected);
+
+			GrayF64 found = input.createSameShape();
+			ImplBlurTiled.gaussian(kernel, input, found);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			GrayF64 subInput = BoofTesting.createSubImageOf(input);
+			GrayF64 subFound = BoofTesting.createSubImageOf(found);
+			GImageMiscOps.fill(subFound,0);
+			processBlocks(subFound,(y0,y1)->ImplBlurTiled.gaussian(kernel, subInput, subFound, y0, y1));
+			BoofTesting.assertEquals(expected, subFound, 0);
+		}
+	}
+
+	@Test
+	public void gaussian_U8() {
+		for( int radius = 1; radius <= 8; radius += 3 ) {
+			Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class, -1, radius);
+
+			GrayU8 input = new GrayU8(width,height);
+			GImageMiscOps.fillUniform(input, rand, 0, 255);
+			GrayU8 storage = input.createSameShape();
+			GrayU8 expected = input.createSameShape();
+			ConvolveImageNormalized.horizontal(kernel, input, storage);
+			ConvolveImageNormalized.vertical(kernel, storage, expected);
+
+			GrayU8 found = input.createSameShape();
+			ImplBlurTiled.gaussian(kernel, input, found);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			GrayU8 subInput = BoofTesting.createSubImageOf(input);
+			GrayU8 subFound = BoofTesting.createSubImageOf(found);
+			GImageMiscOps.fill(subFound,0);
+			processBlocks(subFound,(y0,y1)->ImplBlurTiled.gaussian(kernel, subInput, subFound, y0, y1));
+			BoofTesting.assertEquals(expected, subFound, 0);
+		}
+	}
+
+	@Test
+	public void mean_F32() {
+		for( int radius = 1; radius <= 8; radius += 3 ) {
+			GrayF32 input = new GrayF32(width,height);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+			GrayF32 storage = input.createSameShape();
+			GrayF32 expected = input.createSameShape();
+			ConvolveImageMean.horizontal(input, storage, radius);
+			ConvolveImageMean.vertical(storage, expected, radius);
+
+			GrayF32 found = input.createSameShape();
+			ImplBlurTiled.mean(input, found, radius);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			GrayF32 subInput = BoofTesting.createSubImageOf(input);
+			GrayF32 subFound = BoofTesting.createSubImageOf(found);
+			GImageMiscOps.fill(subFound,0);
+			ImplBlurTiled.mean(subInput, subFound, radius);
+			BoofTesting.assertEquals(expected, subFound, 0);
+		}
+	}
+
+	@Test
+	public void mean_F64() {
+		for( int radius = 1; radius <= 8; radius += 3 ) {
+			GrayF64 input = new GrayF64(width,height);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+			GrayF64 storage = input.createSameShape();
+			GrayF64 expected = input.createSameShape();
+			ConvolveImageMean.horizontal(input, storage, radius);
+			ConvolveImageMean.vertical(storage, expected, radius);
+
+			GrayF64 found = input.createSameShape();
+			ImplBlurTiled.mean(input, found, radius);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			GrayF64 subInput = BoofTesting.createSubImageOf(input);
+			GrayF64 subFound = BoofTesting.createSubImageOf(found);
+			GImageMiscOps.fill(subFound,0);
+			ImplBlurTiled.mean(subInput, subFound, radius);
+			BoofTesting.assertEquals(expected, subFound, 0);
+		}
+	}
+
+	@Test
+	public void mean_U8() {
+		for( int radius = 1; radius <= 8; radius += 3 ) {
+			GrayU8 input = new GrayU8(width,height);
+			GImageMiscOps.fillUniform(input, rand, 0, 255);
+			GrayU8 storage = input.createSameShape();
+			GrayU8 expected = input.createSameShape();
+			ConvolveImageMean.horizontal(input, storage, radius);
+			ConvolveImageMean.vertical(storage, expected, radius);
+
+			GrayU8 found = input.createSameShape();
+			ImplBlurTiled.mean(input, found, radius);
+			BoofTesting.assertEquals(expected, found, 0);
+
+			// integer running sums are exact so blocks must produce identical results
+			GrayU8 subInput = BoofTesting.createSubImageOf(input);
+			GrayU8 subFound = BoofTesting.createSubImageOf(found);
+			GImageMiscOps.fill(subFound,0);
+			Kernel1D_S32 kernel = FactoryKernel.table1D_I32(radius);
+			processBlocks(subFound,(y0,y1)->ImplBlurTiled.mean(kernel, subInput, subFound, y0, y1));
+			BoofTesting.assertEquals(expected, subFound, 0);
+		}
+	}
+
+	/**
+	 * Processes the image in uneven blocks of rows, like the concurrent implementation would
+	 */
+	private void processBlocks( ImageGray output , IntRangeConsumer processor ) {
+		int y = 0;
+		int step = 1;
+		while( y < output.height ) {
+			int y1 = Math.min(output.height,y+step);
+			processor.accept(y,y1);
+			y = y1;
+			step += 4;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.filter.convolve.ConvolveImageMean;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_F64;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayF64;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Results must be identical to the single threaded implementation
+ *
+ * @author Peter Abeles
+ */
+public class TestImplBlurTiled_MT {
+
+	Random rand = new Random(234);
+
+	int width = 120;
+	int height = 300;
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		// several threads so that the image is split into blocks
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void gaussian() {
+		for( int radius = 1; radius <= 8; radius += 3 ) {
+			GrayF32 inputF32 = new GrayF32(width,height);
+			GImageMiscOps.fillUniform(inputF32, rand, 0, 100);
+			Kernel1D_F32 kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+			GrayF32 expectedF32 = inputF32.createSameShape();
+			GrayF32 foundF32 = inputF32.createSameShape();
+			ImplBlurTiled.gaussian(kernelF32, inputF32, expectedF32);
+			ImplBlurTiled_MT.gaussian(kernelF32, inputF32, foundF32);
+			BoofTesting.assertEquals(expectedF32, foundF32, 0);
+
+			GrayF64 inputF64 = new GrayF64(width,height);
+			GImageMiscOps.fillUniform(inputF64, rand, 0, 100);
+			Kernel1D_F64 kernelF64 = FactoryKernelGaussian.gaussian(Kernel1D_F64.class, -1, radius);
+			GrayF64 expectedF64 = inputF64.createSameShape();
+			GrayF64 foundF64 = inputF64.createSameShape();
+			ImplBlurTiled.gaussian(kernelF64, inputF64, expectedF64);
+			ImplBlurTiled_MT.gaussian(kernelF64, inputF64, foundF64);
+			BoofTesting.assertEquals(expectedF64, foundF64, 0);
+
+			GrayU8 inputU8 = new GrayU8(width,height);
+			GImageMiscOps.fillUniform(inputU8, rand, 0, 255);
+			Kernel1D_S32 kernelU8 = FactoryKernelGaussian.gaussian(Kernel1D_S32.class, -1, radius);
+			GrayU8 expectedU8 = inputU8.createSameShape();
+			GrayU8 foundU8 = inputU8.createSameShape();
+			ImplBlurTiled.gaussian(kernelU8, inputU8, expectedU8);
+			ImplBlurTiled_MT.gaussian(kernelU8, inputU8, foundU8);
+			BoofTesting.assertEquals(expectedU8, foundU8, 0);
+		}
+	}
+
+	@Test
+	public void mean() {
+		for( int radius = 1; radius <= 8; radius += 3 ) {
+			// the image is tall enough for floating point running sums to be restarted, which must happen at the
+			// same rows as in ConvolveImageMean
+			GrayF32 inputF32 = new GrayF32(width,height);
+			GImageMiscOps.fillUniform(inputF32, rand, 0, 100);
+			GrayF32 expectedF32 = inputF32.createSameShape();
+			GrayF32 foundF32 = inputF32.createSameShape();
+			ImplBlurTiled.mean(inputF32, expectedF32, radius);
+			ImplBlurTiled_MT.mean(inputF32, foundF32, radius);
+			BoofTesting.assertEquals(expectedF32, foundF32, 0);
+			GrayF32 storageF32 = inputF32.createSameShape();
+			ConvolveImageMean.horizontal(inputF32, storageF32, radius);
+			ConvolveImageMean.vertical(storageF32, expectedF32, radius);
+			BoofTesting.assertEquals(expectedF32, foundF32, 0);
+
+			GrayF64 inputF64 = new GrayF64(width,height);
+			GImageMiscOps.fillUniform(inputF64, rand, 0, 100);
+			GrayF64 expectedF64 = inputF64.createSameShape();
+			GrayF64 foundF64 = inputF64.createSameShape();
+			ImplBlurTiled.mean(inputF64, expectedF64, radius);
+			ImplBlurTiled_MT.mean(inputF64, foundF64, radius);
+			BoofTesting.assertEquals(expectedF64, foundF64, 0);
+			GrayF64 storageF64 = inputF64.createSameShape();
+			ConvolveImageMean.horizontal(inputF64, storageF64, radius);
+			ConvolveImageMean.vertical(storageF64, expectedF64, radius);
+			BoofTesting.assertEquals(expectedF64, foundF64, 0);
+
+			GrayU8 inputU8 = new GrayU8(width,height);
+			GImageMiscOps.fillUniform(inputU8, rand, 0, 255);
+			GrayU8 expectedU8 = inputU8.createSameShape();
+			GrayU8 foundU8 = inputU8.createSameShape();
+			ImplBlurTiled.mean(inputU8, expectedU8, radius);
+			ImplBlurTiled_MT.mean(inputU8, foundU8, radius);
+			BoofTesting.assertEquals(expectedU8, foundU8, 0);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianConstantTime {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSort() {
+		GrayU8 image = new GrayU8(35,28);
+		ImageMiscOps.fillUniform(image,rand, 0, 256);
+
+		GrayU8 found = new GrayU8( image.width , image.height );
+		GrayU8 expected = new GrayU8( image.width , image.height );
+
+		BoofTesting.checkSubImage(this, "compareToSort", true, image, found, expected);
+	}
+
+	public void compareToSort(GrayU8 image, GrayU8 found, GrayU8 expected) {
+		// radius 20 is larger than the image
+		for( int radius : new int[]{1,2,3,6,20} ) {
+			int w = radius*2+1;
+			int offset[] = new int[w*w];
+			ImplMedianHistogramInner.process(image, expected, radius, offset, new int[256]);
+			ImplMedianSortEdgeNaive.process(image, expected, radius, offset);
+
+			ImplMedianConstantTime.process(image,found,radius);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Only a few values are used so that many pixels share the same value and the same part of the fine histogram
+	 */
+	@Test
+	public void fewValues() {
+		GrayU8 image = new GrayU8(60,40);
+		for (int i = 0; i < image.data.length; i++) {
+			image.data[i] = (byte)(rand.nextInt(3)*16+rand.nextInt(2));
+		}
+
+		GrayU8 found = image.createSameShape();
+		GrayU8 expected = image.createSameShape();
+
+		for( int radius = 1; radius <= 7; radius += 3 ) {
+			ImplMedianSortNaive.process(image, expected, radius, null);
+			ImplMedianConstantTime.process(image, found, radius);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * When the range has 256 or fewer values the quantized filter is exact
+	 */
+	@Test
+	public void quantize_U16_exact() {
+		GrayU16 image = new GrayU16(30,25);
+		GImageMiscOps.fillUniform(image,rand,1000,1255);
+
+		GrayU8 bins = new GrayU8(image.width,image.height);
+		GrayU16 found = image.createSameShape();
+		ImplMedianConstantTime.quantize(image,1000,1255,bins);
+		ImplMedianConstantTime.dequantize(bins,1000,1255,found);
+
+		BoofTesting.assertEquals(image,found,0);
+	}
+
+	@Test
+	public void quantize_U16() {
+		GrayU16 image = new GrayU16(30,25);
+		GImageMiscOps.fillUniform(image,rand,0,60000);
+
+		GrayU8 bins = new GrayU8(image.width,image.height);
+		GrayU16 found = image.createSameShape();
+		ImplMedianConstantTime.quantize(image,0,59999,bins);
+		ImplMedianConstantTime.dequantize(bins,0,59999,found);
+
+		// values should be inside of their bin
+		BoofTesting.assertEquals(image,found,60000/256/2+1);
+	}
+
+	@Test
+	public void quantize_F32() {
+		GrayF32 image = new GrayF32(30,25);
+		GImageMiscOps.fillUniform(image,rand,-2,5);
+
+		GrayU8 bins = new GrayU8(image.width,image.height);
+		GrayF32 found = image.createSameShape();
+		ImplMedianConstantTime.quantize(image,-2,5,bins);
+		ImplMedianConstantTime.dequantize(bins,-2,5,found);
+
+		BoofTesting.assertEquals(image,found,7.0/256.0/2.0 + 1e-5);
+
+		// values outside the range are saturated
+		image.set(1,2,-10);
+		image.set(2,2,10);
+		ImplMedianConstantTime.quantize(image,-2,5,bins);
+		assertEquals(0,bins.get(1,2));
+		assertEquals(255,bins.get(2,2));
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU16;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianConstantTime_MT {
+
+	Random rand = new Random(234);
+
+	int width = 120;
+	int height = 300;
+
+	@Test
+	public void process() {
+		for( int radius = 1; radius <= 8; radius += 3 ) {
+			GrayU8 input = new GrayU8(width,height);
+			GImageMiscOps.fillUniform(input, rand, 0, 255);
+			GrayU8 expected = input.createSameShape();
+			GrayU8 found = input.createSameShape();
+			ImplMedianConstantTime.process(input, expected, radius);
+			ImplMedianConstantTime_MT.process(input, found, radius);
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	@Test
+	public void quantize() {
+		GrayU16 inputU16 = new GrayU16(width,height);
+		GImageMiscOps.fillUniform(inputU16, rand, 0, 5000);
+		GrayU8 expected = new GrayU8(width,height);
+		GrayU8 found = new GrayU8(width,height);
+		ImplMedianConstantTime.quantize(inputU16, 0, 4999, expected);
+		ImplMedianConstantTime_MT.quantize(inputU16, 0, 4999, found);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		GrayF32 inputF32 = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(inputF32, rand, 0, 100);
+		ImplMedianConstantTime.quantize(inputF32, 0, 100, expected);
+		ImplMedianConstantTime_MT.quantize(inputF32, 0, 100, found);
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	public void dequantize() {
+		GrayU8 bins = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(bins, rand, 0, 255);
+
+		GrayU16 expectedU16 = new GrayU16(width,height);
+		GrayU16 foundU16 = new GrayU16(width,height);
+		ImplMedianConstantTime.dequantize(bins, 10, 4999, expectedU16);
+		ImplMedianConstantTime_MT.dequantize(bins, 10, 4999, foundU16);
+		BoofTesting.assertEquals(expectedU16, foundU16, 0);
+
+		GrayF32 expectedF32 = new GrayF32(width,height);
+		GrayF32 foundF32 = new GrayF32(width,height);
+		ImplMedianConstantTime.dequantize(bins, -1, 100, expectedF32);
+		ImplMedianConstantTime_MT.dequantize(bins, -1, 100, foundF32);
+		BoofTesting.assertEquals(expectedF32, foundF32, 0);
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve.noborder;
+
+import boofcv.alg.filter.convolve.CompareToStandardConvolution;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * Compares all the concurrent unrolled convolutions against the single threaded standard convolution
+ *
+ * @author Peter Abeles
+ */
+public class TestConvolveImageUnrolled_SB_MT {
+
+	Class[] classes = new Class[]{
+			ConvolveImageUnrolled_SB_F32_F32_MT.class,
+			ConvolveImageUnrolled_SB_F64_F64_MT.class,
+			ConvolveImageUnrolled_SB_S16_I16_MT.class,
+			ConvolveImageUnrolled_SB_S16_I16_Div_MT.class,
+			ConvolveImageUnrolled_SB_S32_S32_MT.class,
+			ConvolveImageUnrolled_SB_S32_S32_Div_MT.class,
+			ConvolveImageUnrolled_SB_U8_I16_MT.class,
+			ConvolveImageUnrolled_SB_U8_I8_Div_MT.class};
+
+	@Test
+	public void compareToStandard() {
+		for( Class c : classes ) {
+			CompareToStandardConvolution compareToStandard = new CompareToStandardConvolution(c);
+
+			int total = 0;
+			for( Method m : c.getMethods() ) {
+				// only the functions which select the unrolled kernel
+				if( m.getReturnType() != boolean.class || m.getParameterTypes().length < 3 )
+					continue;
+
+				for (int i = 0; i < GenerateConvolvedUnrolled_SB.numUnrolled; i++) {
+					compareToStandard.compareMethod(m, m.getName(), i + 1);
+				}
+				total++;
+			}
+			if( total != 3 )
+				throw new RuntimeException("Unexpected number of methods in "+c.getSimpleName()+" "+total);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve.noborder;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplConvolveMean_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+	// tall enough for the vertical pass to be split into several blocks
+	int width = 105, height = 300;
+
+	public TestImplConvolveMean_MT() {
+		super(ImplConvolveMean_MT.class, ImplConvolveMean.class);
+		// the concurrent implementation must produce identical results
+		tolerance = 0;
+	}
+
+	@Test
+	public void performTests() {
+		// force multiple threads so that the results are the same even on a single core machine
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+		try {
+			performTests(8);
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class<?> params[] = candidate.getParameterTypes();
+
+		ImageGray input = GeneralizedImageOps.createSingleBand((Class)params[0], width, height);
+		ImageGray output = GeneralizedImageOps.createSingleBand((Class)params[1], width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		return new Object[][]{{input, output, 1},{input, output.createSameShape(), 4}};
+	}
+}
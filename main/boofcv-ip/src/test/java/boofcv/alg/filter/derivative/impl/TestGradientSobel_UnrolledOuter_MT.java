@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.derivative.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestGradientSobel_UnrolledOuter_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+	int width = 105, height = 90;
+
+	public TestGradientSobel_UnrolledOuter_MT() {
+		super(GradientSobel_UnrolledOuter_MT.class, GradientSobel_UnrolledOuter.class);
+	}
+
+	@Test
+	public void performTests() {
+		performTests(3);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class<?> params[] = candidate.getParameterTypes();
+
+		ImageGray input = GeneralizedImageOps.createSingleBand((Class)params[0], width, height);
+		ImageGray derivX = GeneralizedImageOps.createSingleBand((Class)params[1], width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		return new Object[][]{{input, derivX, derivX.createSameShape()}};
+	}
+}
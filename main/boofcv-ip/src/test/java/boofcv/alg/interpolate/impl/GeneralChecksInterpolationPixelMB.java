@@ -206,6 +206,69 @@ public abstract class GeneralChecksInterpolationPixelMB<T extends ImageMultiBand
 		for (int i = 0; i < numBands; i++) { assertEquals(tmp0[i],tmp1[i],1e-4); }
 	}
 
+	/**
+	 * Compares getBatch() against get() for points inside the image, along its edge, and outside of it
+	 */
+	@Test
+	public void getBatch() {
+		T img = createImage(width, height, numBands);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "getBatch", false, img);
+	}
+	public void getBatch(T img) {
+		InterpolatePixelMB<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.genericValue(5, img.getImageType()));
+		interp.setImage(img);
+
+		int count = 200;
+		float points[] = new float[count*2];
+		for (int i = 0; i < count; i++) {
+			points[i*2]   = rand.nextFloat()*(width+10)-5;
+			points[i*2+1] = rand.nextFloat()*(height+10)-5;
+		}
+
+		float found[] = new float[count*numBands];
+		interp.getBatch(points, count, found);
+
+		for (int i = 0; i < count; i++) {
+			interp.get(points[i*2],points[i*2+1],tmp0);
+			for (int band = 0; band < numBands; band++) {
+				assertEquals(tmp0[band], found[i*numBands+band], 1e-4f);
+			}
+		}
+	}
+
+	/**
+	 * Compares getGrid() against get() for a grid which crosses the image border
+	 */
+	@Test
+	public void getGrid() {
+		T img = createImage(width, height, numBands);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "getGrid", false, img);
+	}
+	public void getGrid(T img) {
+		InterpolatePixelMB<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.genericValue(5, img.getImageType()));
+		interp.setImage(img);
+
+		float x0 = -3.5f, y0 = 10.1f, stepX = 1.7f, stepY = 1.1f;
+		int cols = 25, rows = 15;
+		float found[] = new float[rows*cols*numBands];
+		interp.getGrid(x0, y0, stepX, stepY, cols, rows, found);
+
+		for (int row = 0; row < rows; row++) {
+			for (int col = 0; col < cols; col++) {
+				interp.get(x0 + stepX*col, y0 + stepY*row, tmp0);
+				for (int band = 0; band < numBands; band++) {
+					assertEquals(tmp0[band], found[(row*cols+col)*numBands+band], 1e-4f);
+				}
+			}
+		}
+	}
+
 	@Test
 	public void getImage() {
 		T img = createImage(width, height, numBands);
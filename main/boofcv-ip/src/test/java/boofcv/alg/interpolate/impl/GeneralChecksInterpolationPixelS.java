@@ -174,6 +174,76 @@ public abstract class GeneralChecksInterpolationPixelS<T extends ImageGray<T>> {
 		assertEquals(5,interp.get(0,2330),1e-6);
 	}
 
+	/**
+	 * Compares getBatch() against get() for points inside the image, along its edge, and outside of it
+	 */
+	@Test
+	public void getBatch() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "getBatch", false, img);
+	}
+	public void getBatch(T img) {
+		InterpolatePixelS<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.singleValue(img.getClass(), 5));
+		interp.setImage(img);
+
+		int count = 200;
+		float points[] = new float[count*2];
+		for (int i = 0; i < count; i++) {
+			points[i*2]   = rand.nextFloat()*(width+10)-5;
+			points[i*2+1] = rand.nextFloat()*(height+10)-5;
+		}
+		// points exactly on the image edge
+		points[0] = width-1; points[1] = height-1;
+		points[2] = 0;       points[3] = 0;
+
+		float found[] = new float[count+1];
+		found[count] = -1;
+		interp.getBatch(points, count, found);
+
+		for (int i = 0; i < count; i++) {
+			assertEquals(interp.get(points[i*2],points[i*2+1]), found[i], 1e-4f);
+		}
+		// it should only write to the elements it was told to
+		assertEquals(-1, found[count], 0);
+	}
+
+	/**
+	 * Compares getGrid() against get() for grids entirely inside the image and ones which cross the border
+	 */
+	@Test
+	public void getGrid() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "getGrid", false, img);
+	}
+	public void getGrid(T img) {
+		InterpolatePixelS<T> interp = wrap(img, 0, 100);
+		interp.setBorder((ImageBorder)FactoryImageBorder.singleValue(img.getClass(), 5));
+		interp.setImage(img);
+
+		checkGrid(interp, 10.2f, 15.7f, 1.3f, 0.7f, 20, 30);
+		checkGrid(interp, width-10.2f, height-15.7f, -1.3f, -0.7f, 20, 30);
+		checkGrid(interp, -3.5f, 10.1f, 2.1f, 1.1f, 25, 15);
+		checkGrid(interp, width-20.5f, height-5.2f, 1.5f, 1.5f, 25, 15);
+	}
+
+	private void checkGrid( InterpolatePixelS<T> interp ,
+							float x0 , float y0 , float stepX , float stepY , int cols , int rows ) {
+		float found[] = new float[rows*cols];
+		interp.getGrid(x0, y0, stepX, stepY, cols, rows, found);
+
+		for (int row = 0; row < rows; row++) {
+			for (int col = 0; col < cols; col++) {
+				float expected = interp.get(x0 + stepX*col, y0 + stepY*row);
+				assertEquals(expected, found[row*cols+col], 1e-4f);
+			}
+		}
+	}
+
 	@Test
 	public void getImage() {
 		T img = createImage(width, height);
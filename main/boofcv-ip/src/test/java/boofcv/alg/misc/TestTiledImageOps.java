@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.PixelTransformAffine_F32;
+import boofcv.alg.filter.binary.BinaryImageOps;
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.convolve.ConvolveImageNormalized;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.image.TiledImage;
+import boofcv.testing.BoofTesting;
+import georegression.struct.affine.Affine2D_F32;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTiledImageOps {
+
+	Random rand = new Random(234);
+	int width = 67, height = 53;
+	int tileWidth = 16, tileHeight = 12;
+
+	List<TiledImage> open = new ArrayList<>();
+	List<File> files = new ArrayList<>();
+
+	@After
+	public void after() throws IOException {
+		for( TiledImage t : open )
+			t.close();
+		for( File f : files )
+			f.delete();
+	}
+
+	private <T extends ImageGray<T>> TiledImage<T> tiled( T image ) throws IOException {
+		return tiled(image, tileWidth, tileHeight);
+	}
+
+	private <T extends ImageGray<T>> TiledImage<T> tiled( T image , int tileWidth , int tileHeight ) throws IOException {
+		File file = File.createTempFile("tiled",".bin");
+		files.add(file);
+		TiledImage<T> tiled = TiledImage.create(file,(Class<T>)image.getClass(),image.width,image.height,tileWidth,tileHeight);
+		open.add(tiled);
+		tiled.write(0,0,image);
+		return tiled;
+	}
+
+	private <T extends ImageGray<T>> T read( TiledImage<T> tiled ) {
+		T found = tiled.getImageType().createImage(tiled.getWidth(),tiled.getHeight());
+		tiled.read(0,0,found);
+		return found;
+	}
+
+	@Test
+	public void process() throws IOException {
+		GrayU8 input = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(input,rand,0,200);
+		GrayU8 expected = BlurImageOps.mean(input,null,3,null);
+
+		TiledImage<GrayU8> tiledIn = tiled(input);
+		// use different tile sizes for the input and output
+		TiledImage<GrayU8> tiledOut = tiled(new GrayU8(width,height),20,7);
+		TiledImageOps.process(tiledIn,tiledOut,3,(a,b)->BlurImageOps.mean(a,b,3,null));
+
+		BoofTesting.assertEquals(expected,read(tiledOut),0);
+	}
+
+	@Test
+	public void gaussian() throws IOException {
+		GrayF32 input = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(input,rand,0,200);
+		GrayF32 expected = BlurImageOps.gaussian(input,null,-1,4,null);
+
+		TiledImage<GrayF32> tiledOut = tiled(new GrayF32(width,height));
+		TiledImageOps.gaussian(tiled(input),tiledOut,-1,4);
+
+		// order of floating point operations along the border depends on the image size
+		BoofTesting.assertEquals(expected,read(tiledOut),1e-3);
+
+		GrayU8 inputU8 = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(inputU8,rand,0,200);
+		GrayU8 expectedU8 = BlurImageOps.gaussian(inputU8,null,-1,4,null);
+
+		TiledImage<GrayU8> tiledOutU8 = tiled(new GrayU8(width,height));
+		TiledImageOps.gaussian(tiled(inputU8),tiledOutU8,-1,4);
+		BoofTesting.assertEquals(expectedU8,read(tiledOutU8),0);
+	}
+
+	@Test
+	public void convolveNormalized() throws IOException {
+		GrayF32 input = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(input,rand,0,200);
+		// offset isn't in the center
+		Kernel2D_F32 kernel = FactoryKernel.random(Kernel2D_F32.class,5,1,0,10,rand);
+		GrayF32 expected = new GrayF32(width,height);
+		ConvolveImageNormalized.convolve(kernel,input,expected);
+
+		TiledImage<GrayF32> tiledOut = tiled(new GrayF32(width,height));
+		TiledImageOps.convolveNormalized(kernel,tiled(input),tiledOut);
+
+		BoofTesting.assertEquals(expected,read(tiledOut),0);
+	}
+
+	@Test
+	public void threshold() throws IOException {
+		GrayF32 input = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(input,rand,0,200);
+		GrayU8 expected = ThresholdImageOps.threshold(input,null,90,true);
+
+		TiledImage<GrayU8> tiledOut = tiled(new GrayU8(width,height));
+		TiledImageOps.threshold(tiled(input),tiledOut,90,true);
+
+		BoofTesting.assertEquals(expected,read(tiledOut),0);
+	}
+
+	@Test
+	public void morphology() throws IOException {
+		GrayU8 input = new GrayU8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,2);
+		TiledImage<GrayU8> tiledIn = tiled(input);
+		TiledImage<GrayU8> tiledOut = tiled(new GrayU8(width,height));
+
+		TiledImageOps.erode4(tiledIn,2,tiledOut);
+		BoofTesting.assertEquals(BinaryImageOps.erode4(input,2,null),read(tiledOut),0);
+		TiledImageOps.dilate4(tiledIn,2,tiledOut);
+		BoofTesting.assertEquals(BinaryImageOps.dilate4(input,2,null),read(tiledOut),0);
+		TiledImageOps.erode8(tiledIn,3,tiledOut);
+		BoofTesting.assertEquals(BinaryImageOps.erode8(input,3,null),read(tiledOut),0);
+		TiledImageOps.dilate8(tiledIn,3,tiledOut);
+		BoofTesting.assertEquals(BinaryImageOps.dilate8(input,3,null),read(tiledOut),0);
+	}
+
+	@Test
+	public void distort() throws IOException {
+		distort(BorderType.EXTENDED);
+		distort(BorderType.ZERO);
+	}
+
+	private void distort( BorderType border ) throws IOException {
+		GrayF32 input = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(input,rand,0,200);
+
+		// rotate, scale, and translate so that some pixels are outside the input image
+		double theta = 0.4;
+		float c = (float)(1.2*Math.cos(theta)), s = (float)(1.2*Math.sin(theta));
+		PixelTransformAffine_F32 transform = new PixelTransformAffine_F32(new Affine2D_F32(c,-s,s,c,10,-20));
+
+		ImageDistort<GrayF32,GrayF32> distorter = FactoryDistort.distortSB(false,
+				FactoryInterpolation.bilinearPixelS(GrayF32.class,border),GrayF32.class);
+		distorter.setModel(transform);
+		GrayF32 expected = new GrayF32(80,45);
+		distorter.apply(input,expected);
+
+		TiledImage<GrayF32> tiledOut = tiled(new GrayF32(80,45));
+		TiledImageOps.distort(tiled(input),tiledOut,distorter,transform,1);
+
+		BoofTesting.assertEquals(expected,read(tiledOut),1e-3);
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplImageStatistics_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+	int width = 105, height = 90;
+
+	public TestImplImageStatistics_MT() {
+		super(ImplImageStatistics_MT.class, ImplImageStatistics.class);
+	}
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		// several threads so that the image is split into blocks
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void performTests() {
+		performTests(8);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class params[] = candidate.getParameterTypes();
+
+		ImageGray input = GeneralizedImageOps.createSingleBand(params[0], width, height);
+		boolean signed = input.getDataType().isSigned();
+		GImageMiscOps.fillUniform(input, rand, signed ? -50 : 0, 100);
+
+		Object minValue;
+		if( params[1] == long.class )
+			minValue = -50L;
+		else if( params[1] == float.class )
+			minValue = -50f;
+		else if( params[1] == double.class )
+			minValue = -50.0;
+		else
+			minValue = -50;
+
+		// fill it with garbage to make sure it's zeroed first
+		int histogram[] = new int[250];
+		for (int i = 0; i < histogram.length; i++) {
+			histogram[i] = rand.nextInt(100);
+		}
+
+		return new Object[][]{{input,minValue,histogram}};
+	}
+
+	@Override
+	protected Object[] reformatForValidation(Method m, Object[] targetParam) {
+		Object[] ret = super.reformatForValidation(m, targetParam);
+		ret[2] = ((int[])targetParam[2]).clone();
+		return ret;
+	}
+
+	@Override
+	protected void compareResults(Object targetResult, Object[] targetParam, Object validationResult, Object[] validationParam) {
+		super.compareResults(targetResult, targetParam, validationResult, validationParam);
+		assertArrayEquals((int[])validationParam[2], (int[])targetParam[2]);
+	}
+
+	/**
+	 * Functions which operate on the raw array. The results must be identical and not just close.
+	 */
+	@Test
+	public void arrayFunctions() throws Exception {
+		int total = 0;
+		for( Method m : ImplImageStatistics_MT.class.getMethods() ) {
+			Class params[] = m.getParameterTypes();
+			if( params.length == 0 || !params[0].isArray() )
+				continue;
+
+			Method v = ImplImageStatistics.class.getMethod(m.getName(),params);
+			ImageGray input = createImage(params[0], m.getName().endsWith("U"));
+			GImageMiscOps.fillUniform(input, rand, input.getDataType().isSigned() ? -50 : 0, 100);
+			input = BoofTesting.createSubImageOf_S(input);
+			Object data = input.getClass().getField("data").get(input);
+
+			Object[] args;
+			if( params.length == 6 ) {
+				Object mean = params[5] == float.class ? (Object)12.5f : (Object)12.5;
+				args = new Object[]{data,input.startIndex,input.height,input.width,input.stride,mean};
+			} else {
+				args = new Object[]{data,input.startIndex,input.height,input.width,input.stride};
+			}
+
+			assertEquals(m.getName(), v.invoke(null,args), m.invoke(null,args));
+			total++;
+		}
+		// min, max, sum, and variance for each image type
+		assertEquals(4*8,total);
+	}
+
+	private ImageGray createImage( Class arrayType , boolean unsigned ) {
+		if( arrayType == byte[].class )
+			return unsigned ? new GrayU8(width,height) : new GrayS8(width,height);
+		else if( arrayType == short[].class )
+			return unsigned ? new GrayU16(width,height) : new GrayS16(width,height);
+		else if( arrayType == int[].class )
+			return new GrayS32(width,height);
+		else if( arrayType == long[].class )
+			return new GrayS64(width,height);
+		else if( arrayType == float[].class )
+			return new GrayF32(width,height);
+		else
+			return new GrayF64(width,height);
+	}
+}
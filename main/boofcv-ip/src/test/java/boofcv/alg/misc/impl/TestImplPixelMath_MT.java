@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import boofcv.testing.CompareIdenticalFunctions;
+import org.junit.Test;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplPixelMath_MT extends CompareIdenticalFunctions {
+
+	Random rand = new Random(234);
+	int width = 105, height = 90;
+
+	public TestImplPixelMath_MT() {
+		super(ImplPixelMath_MT.class, ImplPixelMath.class);
+	}
+
+	/**
+	 * boundImage() and diffAbs()
+	 */
+	@Test
+	public void performTests() {
+		performTests(16);
+	}
+
+	@Override
+	protected Object[][] createInputParam(Method candidate, Method validation) {
+		Class params[] = candidate.getParameterTypes();
+
+		if( candidate.getName().equals("boundImage") ) {
+			ImageGray img = createImage(params[0]);
+			return new Object[][]{{img,cast(params[1],5),cast(params[2],60)}};
+		} else {
+			ImageGray imgA = createImage(params[0]);
+			ImageGray imgB = createImage(params[1]);
+			ImageGray diff = createImage(params[2]);
+			return new Object[][]{{imgA,imgB,diff}};
+		}
+	}
+
+	/**
+	 * Functions which operate on the raw arrays. The input is a sub-image so that the stride is tested.
+	 */
+	@Test
+	public void arrayFunctions() throws Exception {
+		int total = 0;
+		for( Method m : ImplPixelMath_MT.class.getMethods() ) {
+			Class params[] = m.getParameterTypes();
+			if( params.length == 0 || !params[0].isArray() )
+				continue;
+
+			Method v = ImplPixelMath.class.getMethod(m.getName(),params);
+			ImageGray input = BoofTesting.createSubImageOf_S(createImage(imageType(params[0],m.getName())));
+			Object data = input.getClass().getField("data").get(input);
+
+			// scalar arguments are between the input and output arrays
+			int numScalar = params.length-8;
+			Object[] args = new Object[params.length];
+			args[0] = data;
+			args[1] = input.startIndex;
+			args[2] = input.stride;
+			if( numScalar >= 1 )
+				args[3] = cast(params[3],2.5);
+			if( numScalar == 3 ) {
+				args[4] = cast(params[4],5);
+				args[5] = cast(params[5],60);
+			}
+			int idx = 3+numScalar;
+			int length = Array.getLength(args[0]);
+			Object outputA = Array.newInstance(params[0].getComponentType(),length);
+			Object outputB = Array.newInstance(params[0].getComponentType(),length);
+			args[idx+1] = input.startIndex;
+			args[idx+2] = input.stride;
+			args[idx+3] = input.height;
+			args[idx+4] = input.width;
+
+			args[idx] = outputA;
+			m.invoke(null,args);
+			args[idx] = outputB;
+			v.invoke(null,args);
+
+			for (int i = 0; i < length; i++) {
+				assertEquals(m.getName(),Array.get(outputB,i),Array.get(outputA,i));
+			}
+			total++;
+		}
+		// abs, multiply, and divide with and without bounds
+		assertEquals(6+8*4,total);
+	}
+
+	private ImageGray createImage( Class type ) {
+		ImageGray img = GeneralizedImageOps.createSingleBand(type, width, height);
+		GImageMiscOps.fillUniform(img, rand, img.getDataType().isSigned() ? -50 : 0, 100);
+		return img;
+	}
+
+	private static Class imageType( Class arrayType , String name ) {
+		boolean unsigned = name.contains("U_");
+		if( arrayType == byte[].class )
+			return unsigned ? GrayU8.class : GrayS8.class;
+		else if( arrayType == short[].class )
+			return unsigned ? GrayU16.class : GrayS16.class;
+		else if( arrayType == int[].class )
+			return GrayS32.class;
+		else if( arrayType == long[].class )
+			return GrayS64.class;
+		else if( arrayType == float[].class )
+			return GrayF32.class;
+		else
+			return GrayF64.class;
+	}
+
+	private static Object cast( Class type , double value ) {
+		if( type == int.class )
+			return (int)value;
+		else if( type == long.class )
+			return (long)value;
+		else if( type == float.class )
+			return (float)value;
+		else
+			return value;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFftPlanCache {
+
+	@Test
+	public void getF32() {
+		FftPlanCache alg = new FftPlanCache(5);
+
+		GeneralPurposeFFT_F32_1D a = alg.getF32(20);
+		GeneralPurposeFFT_F32_1D b = alg.getF32(20);
+		assertNotSame(a,b);
+		assertEquals(20,a.getSize());
+		assertEquals(1,alg.size());
+
+		alg.getF32(21);
+		assertEquals(2,alg.size());
+	}
+
+	@Test
+	public void getF64() {
+		FftPlanCache alg = new FftPlanCache(5);
+
+		GeneralPurposeFFT_F64_1D a = alg.getF64(20);
+		GeneralPurposeFFT_F64_1D b = alg.getF64(20);
+		assertNotSame(a,b);
+		assertEquals(20,a.getSize());
+		assertEquals(1,alg.size());
+
+		alg.getF64(21);
+		assertEquals(2,alg.size());
+	}
+
+	@Test
+	public void maxPlans() {
+		FftPlanCache alg = new FftPlanCache(2);
+
+		alg.getF32(10);
+		alg.getF32(11);
+		alg.getF32(12);
+		assertEquals(2,alg.size());
+
+		alg.setMaxPlans(1);
+		assertEquals(1,alg.size());
+
+		alg.clear();
+		assertEquals(0,alg.size());
+	}
+}
@@ -106,6 +106,34 @@ public class TestGeneralPurposeFFT_F32_1D {
 		}
 	}
 
+	/**
+	 * A copy should produce identical results
+	 */
+	@Test
+	public void copy() {
+		for( int n : new int[]{1,2,3,16,100,103,257} ) {
+			float input[] = new float[n*2];
+			for( int i = 0; i < input.length; i++ ) {
+				input[i] = (float)rand.nextGaussian();
+			}
+			float expected[] = input.clone();
+			float found[] = input.clone();
+
+			GeneralPurposeFFT_F32_1D alg = new GeneralPurposeFFT_F32_1D(n);
+			GeneralPurposeFFT_F32_1D copy = new GeneralPurposeFFT_F32_1D(alg);
+			assertEquals(n,copy.getSize());
+
+			alg.realForward(expected);
+			copy.realForward(found);
+			alg.complexForward(expected);
+			copy.complexForward(found);
+
+			for( int i = 0; i < input.length; i++ ) {
+				assertEquals(expected[i],found[i],0);
+			}
+		}
+	}
+
 	public static void checkForChange(float[] input, float[] original) {
 		if( input.length/2 > 1 ) {
 			boolean change = false;
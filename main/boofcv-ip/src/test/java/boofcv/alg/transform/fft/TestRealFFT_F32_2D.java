@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import boofcv.concurrency.BoofConcurrency;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestRealFFT_F32_2D {
+
+	float tol = 1e-4f;
+
+	Random rand = new Random(234);
+
+	int sizes[] = new int[]{1,2,3,16,32,100,103};
+
+	/**
+	 * Compare against the full real transform in {@link GeneralPurposeFFT_F32_2D}
+	 */
+	@Test
+	public void forward() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			for( int j = 0; j < sizes.length; j++ ) {
+				checkForward(sizes[i], sizes[j]);
+			}
+		}
+
+		// large prime which uses a different algorithm
+		checkForward(20,257);
+		checkForward(323,768);
+	}
+
+	private void checkForward(int numRows, int numColumns) {
+		float input[] = random(numRows*numColumns);
+		float original[] = input.clone();
+		float expected[] = new float[numRows*numColumns*2];
+		float found[] = new float[expected.length];
+		System.arraycopy(input,0,expected,0,input.length);
+
+		new GeneralPurposeFFT_F32_2D(numRows,numColumns).realForwardFull(expected);
+		new RealFFT_F32_2D(numRows,numColumns).forward(input,found);
+
+		// errors grow with the magnitude of the spectrum
+		double magnitude = Math.sqrt(input.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i],found[i],tol*magnitude);
+		}
+		// input should not be modified
+		checkEquals(original, input);
+	}
+
+	@Test
+	public void inverse() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			for( int j = 0; j < sizes.length; j++ ) {
+				checkInverse(sizes[i], sizes[j]);
+			}
+		}
+		checkInverse(20,257);
+	}
+
+	private void checkInverse(int numRows, int numColumns) {
+		RealFFT_F32_2D alg = new RealFFT_F32_2D(numRows,numColumns);
+
+		// spectrum of a real image
+		float image[] = random(numRows*numColumns);
+		float transform[] = new float[numRows*numColumns*2];
+		float found[] = new float[image.length];
+		alg.forward(image,transform);
+		float original[] = transform.clone();
+
+		alg.inverse(transform,found,true);
+		checkEquals(image, found);
+		checkEquals(original, transform);
+
+		// arbitrary spectrum. should be the real part of the complex inverse
+		transform = random(numRows*numColumns*2);
+		float expected[] = transform.clone();
+		new GeneralPurposeFFT_F32_2D(numRows,numColumns).complexInverse(expected,true);
+		for (int i = 0; i < image.length; i++) {
+			expected[i] = expected[i*2];
+		}
+
+		alg.inverse(transform,found,true);
+		for (int i = 0; i < image.length; i++) {
+			assertEquals(expected[i],found[i],tol);
+		}
+	}
+
+	/**
+	 * Results should be identical when processed by multiple threads
+	 */
+	@Test
+	public void concurrent() {
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			for( int[] shape : new int[][]{{64,100},{103,256}} ) {
+				int rows = shape[0], columns = shape[1];
+				float image[] = random(rows*columns);
+
+				float expected[] = new float[rows*columns*2];
+				float found[] = new float[rows*columns*2];
+				float expectedImage[] = new float[rows*columns];
+				float foundImage[] = new float[rows*columns];
+
+				BoofConcurrency.USE_CONCURRENT = false;
+				RealFFT_F32_2D alg = new RealFFT_F32_2D(rows,columns);
+				alg.forward(image,expected);
+				alg.inverse(expected,expectedImage,true);
+
+				BoofConcurrency.USE_CONCURRENT = true;
+				alg.forward(image,found);
+				alg.inverse(found,foundImage,true);
+
+				for (int i = 0; i < expected.length; i++) {
+					assertEquals(expected[i],found[i],0);
+				}
+				for (int i = 0; i < expectedImage.length; i++) {
+					assertEquals(expectedImage[i],foundImage[i],0);
+				}
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	private float[] random( int length ) {
+		float[] a = new float[length];
+		for (int i = 0; i < length; i++) {
+			a[i] = (float)rand.nextGaussian();
+		}
+		return a;
+	}
+
+	private void checkEquals( float[] expected , float[] found ) {
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i],found[i],tol*Math.max(1,Math.abs(expected[i])));
+		}
+	}
+}
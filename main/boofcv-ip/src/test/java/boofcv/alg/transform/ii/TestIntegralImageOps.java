@@ -41,6 +41,14 @@ public class TestIntegralImageOps {
 		assertEquals(expected, found);
 	}
 
+	@Test
+	public void transformUpdate() {
+		int expected = countName("transformUpdate",IntegralImageOps.class);
+		int found = countName("transformUpdate",ImplIntegralImageOps.class);
+
+		assertEquals(expected,found);
+	}
+
 	@Test
 	public void convolve() {
 		int expected = countName("convolve",IntegralImageOps.class);
@@ -94,6 +94,34 @@ public class TestImplIntegralImageOps {
 		}
 	}
 
+	@Test
+	public void transformUpdate() {
+		int numFound = BoofTesting.findMethodThenCall(this,"transformUpdate",ImplIntegralImageOps.class,"transformUpdate");
+		Assert.assertEquals(5, numFound);
+	}
+
+	public void transformUpdate( Method m ) throws InvocationTargetException, IllegalAccessException {
+		Class paramType[] = m.getParameterTypes();
+
+		ImageGray input = GeneralizedImageOps.createSingleBand(paramType[0], width, height);
+		ImageGray found = GeneralizedImageOps.createSingleBand(paramType[1], width, height);
+		ImageGray expected = GeneralizedImageOps.createSingleBand(paramType[1], width, height);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+		GIntegralImageOps.transform(input, found);
+
+		// modify a region inside the image and along its border
+		int[][] corners = new int[][]{{5,7},{0,9},{8,0},{0,0},{width-1,height-1}};
+		for( int[] c : corners ) {
+			int x0 = c[0], y0 = c[1];
+			GImageMiscOps.fillUniform(input.subimage(x0,y0,Math.min(width,x0+6),Math.min(height,y0+4)), rand, 0, 100);
+
+			m.invoke(null,input,found,x0,y0);
+			GIntegralImageOps.transform(input, expected);
+			BoofTesting.assertEquals(expected, found, 1e-2);
+		}
+	}
+
 	@Test
 	public void convolve() {
 		int numFound = BoofTesting.findMethodThenCall(this,"convolve",ImplIntegralImageOps.class,"convolve");
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageGray;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplIntegralImageOps_MT {
+
+	Random rand = new Random(234);
+	int width = 105;
+	int height = 90;
+
+	@Test
+	public void transform() {
+		int numFound = BoofTesting.findMethodThenCall(this,"transform",ImplIntegralImageOps_MT.class,"transform");
+		assertEquals(5, numFound);
+	}
+
+	public void transform( Method m ) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
+		Class paramType[] = m.getParameterTypes();
+		Method single = ImplIntegralImageOps.class.getMethod("transform",paramType);
+
+		ImageGray input = GeneralizedImageOps.createSingleBand(paramType[0], width, height);
+		ImageGray expected = GeneralizedImageOps.createSingleBand(paramType[1], width, height);
+		ImageGray found = GeneralizedImageOps.createSingleBand(paramType[1], width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		single.invoke(null,input,expected);
+		m.invoke(null,input,found);
+
+		// the order of operations is the same so the results should be identical
+		BoofTesting.assertEquals(expected, found, 0);
+
+		ImageGray subInput = BoofTesting.createSubImageOf(input);
+		ImageGray subFound = BoofTesting.createSubImageOf(found);
+		GImageMiscOps.fill(subFound,0);
+		m.invoke(null,subInput,subFound);
+		BoofTesting.assertEquals(expected, subFound, 0);
+	}
+
+	@Test
+	public void transformUpdate() {
+		int numFound = BoofTesting.findMethodThenCall(this,"transformUpdate",ImplIntegralImageOps_MT.class,"transformUpdate");
+		assertEquals(5, numFound);
+	}
+
+	public void transformUpdate( Method m ) throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
+		Class paramType[] = m.getParameterTypes();
+		Method single = ImplIntegralImageOps.class.getMethod("transformUpdate",paramType);
+
+		ImageGray input = GeneralizedImageOps.createSingleBand(paramType[0], width, height);
+		ImageGray expected = GeneralizedImageOps.createSingleBand(paramType[1], width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImplIntegralImageOps.class.getMethod("transform",paramType[0],paramType[1]).invoke(null,input,expected);
+		ImageGray found = (ImageGray)expected.clone();
+
+		GImageMiscOps.fillUniform(input.subimage(30,20,50,45), rand, 0, 100);
+		single.invoke(null,input,expected,30,20);
+		m.invoke(null,input,found,30,20);
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.ImageType;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPyramidDiscreteShared {
+
+	Random rand = new Random(234);
+
+	int width = 80;
+	int height = 60;
+
+	/**
+	 * The pyramid should only be computed once for each image while it has consumers
+	 */
+	@Test
+	public void process_referenceCount() {
+		Counting inner = new Counting();
+		PyramidDiscreteShared<GrayF32> alg = new PyramidDiscreteShared<>(inner);
+
+		GrayF32 imageA = new GrayF32(width,height);
+		GrayF32 imageB = new GrayF32(width,height);
+
+		// no consumers have reserved it. always compute
+		alg.process(imageA);
+		alg.process(imageA);
+		assertEquals(2,inner.count);
+
+		alg.reserve();
+		alg.reserve();
+		assertEquals(2,alg.getReferences());
+
+		// both consumers process the same frame
+		alg.invalidate();
+		alg.process(imageA);
+		alg.process(imageA);
+		assertEquals(3,inner.count);
+
+		// next frame reuses the same image storage
+		alg.invalidate();
+		alg.process(imageA);
+		assertEquals(4,inner.count);
+		alg.process(imageA);
+		assertEquals(4,inner.count);
+
+		// a different image is always computed
+		alg.process(imageB);
+		assertEquals(5,inner.count);
+		alg.process(imageB);
+		assertEquals(5,inner.count);
+
+		// a different shape is always computed
+		imageB.reshape(width/2,height);
+		alg.process(imageB);
+		assertEquals(6,inner.count);
+
+		// no more consumers
+		alg.release();
+		alg.release();
+		alg.process(imageB);
+		alg.process(imageB);
+		assertEquals(8,inner.count);
+
+		try {
+			alg.release();
+			fail("Exception expected");
+		} catch( IllegalStateException ignore ){}
+	}
+
+	/**
+	 * A consumer which skips a frame must not cause another consumer to see the previous frame's pyramid
+	 */
+	@Test
+	public void process_skippedFrame() {
+		Counting inner = new Counting();
+		PyramidDiscreteShared<GrayF32> alg = new PyramidDiscreteShared<>(inner);
+		alg.reserve();
+		alg.reserve();
+
+		GrayF32 frame = new GrayF32(width,height);
+
+		// only the first consumer processes the first frame
+		alg.invalidate();
+		alg.process(frame);
+		assertEquals(1,inner.count);
+
+		// new frame written into the same image. both consumers process it
+		alg.invalidate();
+		alg.process(frame);
+		alg.process(frame);
+		assertEquals(2,inner.count);
+	}
+
+	/**
+	 * The shared pyramid has the same layers as the pyramid it wraps
+	 */
+	@Test
+	public void layersSameAsPyramid() {
+		GrayF32 input = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,2);
+		PyramidDiscreteSampleBlur<GrayF32> expected =
+				new PyramidDiscreteSampleBlur<>(kernel,2, ImageType.single(GrayF32.class),false,1,2,4);
+		PyramidDiscreteShared<GrayF32> alg = new PyramidDiscreteShared<>(
+				new PyramidDiscreteSampleBlur<>(kernel,2, ImageType.single(GrayF32.class),false,1,2,4));
+
+		expected.process(input);
+		alg.process(input);
+
+		assertEquals(expected.getNumLayers(),alg.getNumLayers());
+		assertEquals(width,alg.getInputWidth());
+		assertEquals(height,alg.getInputHeight());
+		for( int i = 0; i < expected.getNumLayers(); i++ ) {
+			assertEquals(expected.getScale(i),alg.getScale(i),1e-8);
+			assertEquals(expected.getSigma(i),alg.getSigma(i),1e-8);
+			BoofTesting.assertEquals(expected.getLayer(i),alg.getLayer(i),0);
+		}
+	}
+
+	private static class Counting extends PyramidDiscreteSampleBlur<GrayF32> {
+		int count;
+
+		public Counting() {
+			super(FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,2),2,
+					ImageType.single(GrayF32.class),false,1,2);
+		}
+
+		@Override
+		public void process(GrayF32 input) {
+			count++;
+			super.process(input);
+		}
+	}
+}
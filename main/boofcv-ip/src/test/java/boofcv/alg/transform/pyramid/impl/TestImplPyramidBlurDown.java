@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid.impl;
+
+import boofcv.alg.filter.convolve.ConvolveImageDownNormalized;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplPyramidBlurDown {
+
+	Random rand = new Random(234);
+
+	int width = 75;
+	int height = 91;
+
+	/**
+	 * Compare against a horizontal and then vertical down convolution. Small tiles are used so that rows
+	 * are shifted between tiles.
+	 */
+	@Test
+	public void compareToDownConvolve() {
+		int before = ImplPyramidBlurDown.TILE_BYTES;
+		try {
+			for( int tileBytes : new int[]{400,before} ) {
+				ImplPyramidBlurDown.TILE_BYTES = tileBytes;
+				for( int radius = 1; radius <= 5; radius += 2 ) {
+					compareToDownConvolve_F32(radius);
+					compareToDownConvolve_U8(radius);
+				}
+			}
+		} finally {
+			ImplPyramidBlurDown.TILE_BYTES = before;
+		}
+	}
+
+	private void compareToDownConvolve_F32( int radius ) {
+		int skip = 2;
+		GrayF32 input = new GrayF32(width,height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+
+		GrayF32 temp = new GrayF32(width/skip,height);
+		GrayF32 expected = new GrayF32(width/skip,height/skip);
+		ConvolveImageDownNormalized.horizontal(kernel,input,temp,skip);
+		ConvolveImageDownNormalized.vertical(kernel,temp,expected,skip);
+
+		GrayF32 found = new GrayF32(width/skip,height/skip);
+		BoofTesting.checkSubImage(this,"compare",true,kernel,input,found,expected,skip);
+	}
+
+	private void compareToDownConvolve_U8( int radius ) {
+		int skip = 2;
+		GrayU8 input = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+		Kernel1D_S32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_S32.class, -1, radius);
+
+		GrayU8 temp = new GrayU8(width/skip,height);
+		GrayU8 expected = new GrayU8(width/skip,height/skip);
+		ConvolveImageDownNormalized.horizontal(kernel,input,temp,skip);
+		ConvolveImageDownNormalized.vertical(kernel,temp,expected,skip);
+
+		GrayU8 found = new GrayU8(width/skip,height/skip);
+		BoofTesting.checkSubImage(this,"compare",true,kernel,input,found,expected,skip);
+	}
+
+	public void compare( Kernel1D_F32 kernel , GrayF32 input , GrayF32 found , GrayF32 expected , int skip ) {
+		ImplPyramidBlurDown.process(kernel,input,found,skip);
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	public void compare( Kernel1D_S32 kernel , GrayU8 input , GrayU8 found , GrayU8 expected , int skip ) {
+		ImplPyramidBlurDown.process(kernel,input,found,skip);
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	/**
+	 * When the input isn't evenly divisible the last column and row are sampled from the edge of the image
+	 */
+	@Test
+	public void lastColumnAndRow() {
+		GrayF32 input = new GrayF32(width,height);
+		GImageMiscOps.fill(input,5);
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, 3);
+
+		for( int skip = 2; skip <= 4; skip++ ) {
+			GrayF32 found = new GrayF32((width+skip-1)/skip,(height+skip-1)/skip);
+			ImplPyramidBlurDown.process(kernel,input,found,skip);
+
+			// a constant image is unchanged by a normalized blur
+			for( int y = 0; y < found.height; y++ ) {
+				for( int x = 0; x < found.width; x++ ) {
+					assertEquals(5,found.get(x,y),1e-4f);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_S32;
+import boofcv.struct.image.GrayF32;
+import boofcv.struct.image.GrayU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplPyramidBlurDown_MT {
+
+	Random rand = new Random(234);
+
+	int width = 120;
+	int height = 301;
+
+	@Test
+	public void process() {
+		for( int skip = 2; skip <= 4; skip++ ) {
+			for( int radius = 1; radius <= 8; radius += 3 ) {
+				int outW = (width+skip-1)/skip;
+				int outH = (height+skip-1)/skip;
+
+				GrayF32 inputF32 = new GrayF32(width,height);
+				GImageMiscOps.fillUniform(inputF32, rand, 0, 100);
+				Kernel1D_F32 kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+				GrayF32 expectedF32 = new GrayF32(outW,outH);
+				GrayF32 foundF32 = new GrayF32(outW,outH);
+				ImplPyramidBlurDown.process(kernelF32, inputF32, expectedF32, skip);
+				ImplPyramidBlurDown_MT.process(kernelF32, inputF32, foundF32, skip);
+				BoofTesting.assertEquals(expectedF32, foundF32, 0);
+
+				GrayU8 inputU8 = new GrayU8(width,height);
+				GImageMiscOps.fillUniform(inputU8, rand, 0, 255);
+				Kernel1D_S32 kernelU8 = FactoryKernelGaussian.gaussian(Kernel1D_S32.class, -1, radius);
+				GrayU8 expectedU8 = new GrayU8(outW,outH);
+				GrayU8 foundU8 = new GrayU8(outW,outH);
+				ImplPyramidBlurDown.process(kernelU8, inputU8, expectedU8, skip);
+				ImplPyramidBlurDown_MT.process(kernelU8, inputU8, foundU8, skip);
+				BoofTesting.assertEquals(expectedU8, foundU8, 0);
+			}
+		}
+	}
+}
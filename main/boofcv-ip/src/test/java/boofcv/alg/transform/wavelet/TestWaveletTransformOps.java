@@ -19,6 +19,7 @@
 package boofcv.alg.transform.wavelet;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
@@ -181,6 +182,47 @@ public class TestWaveletTransformOps {
 		checkBounds(found,100,150);
 	}
 
+	/**
+	 * The concurrent implementation should produce identical results to the single threaded one
+	 */
+	@Test
+	public void concurrent() {
+		for( Class<?> t : types ) {
+			concurrent(t);
+		}
+	}
+
+	private void concurrent( Class typeInput ) {
+		this.typeInput = typeInput;
+		WaveletDescription<?> desc = createDesc(typeInput);
+
+		int level = 3;
+		ImageGray input = GeneralizedImageOps.createSingleBand(typeInput, width+1, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 50);
+
+		ImageDimension dim = UtilWavelet.transformDimension(input.width,input.height,level);
+		ImageGray expectedTran = GeneralizedImageOps.createSingleBand(typeInput, dim.width, dim.height);
+		ImageGray expected = (ImageGray)input.createSameShape();
+		ImageGray foundTran = (ImageGray)expectedTran.createSameShape();
+		ImageGray found = (ImageGray)input.createSameShape();
+
+		boolean original = BoofConcurrency.USE_CONCURRENT;
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.USE_CONCURRENT = false;
+			invokeTransformN(desc, (ImageGray)input.clone(), expectedTran, expected, level, 0, 255);
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(4);
+			invokeTransformN(desc, (ImageGray)input.clone(), foundTran, found, level, 0, 255);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = original;
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+
+		BoofTesting.assertEquals(expectedTran, foundTran, 0);
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
 	private void invokeTransform(WaveletDescription desc,
 								 ImageGray input, ImageGray output, ImageGray found,
 								 double minValue , double maxValue ) {
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageGray;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Compares the concurrent implementation against the single threaded one. Since the same operations are
+ * performed in the same order the results should be identical.
+ *
+ * @author Peter Abeles
+ */
+public class TestImplWaveletTransformInner_MT extends CompareToNaiveWavelet {
+
+	public TestImplWaveletTransformInner_MT() {
+		super(2,ImplWaveletTransformInner_MT.class);
+	}
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		// several threads so that the image is split into blocks
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void checkAllHorizontal() {
+		checkAll("horizontal","compareToSingle");
+	}
+
+	@Test
+	public void checkAllVertical() {
+		checkAll("vertical","compareToSingle");
+	}
+
+	@Test
+	public void checkAllHorizontalInverse() {
+		checkAll("horizontalInverse","compareToSingle");
+	}
+
+	@Test
+	public void checkAllVerticalInverse() {
+		checkAll("verticalInverse","compareToSingle");
+	}
+
+	public void compareToSingle( Method m ) {
+		PermuteWaveletCompare test = new PermuteWaveletCompare(typeInput,typeOutput) {
+			@Override
+			public void applyValidation(WaveletDescription<?> desc, ImageGray input, ImageGray output) {
+				TestImplWaveletTransformInner.applyInnerMethod(functionName,desc,input,output);
+			}
+
+			@Override
+			public void applyTransform(WaveletDescription<?> desc, ImageGray input, ImageGray output) {
+				WlCoef coef = functionName.contains("Inverse") ?
+						desc.getInverse().getInnerCoefficients() : desc.getForward();
+				try {
+					m.invoke(null,coef,input,output);
+				} catch (InvocationTargetException | IllegalAccessException e) {
+					throw new RuntimeException(e);
+				}
+			}
+
+			@Override
+			public void compareResults(WaveletDescription<?> desc, ImageGray input,
+									   ImageGray expected, ImageGray found) {
+				BoofTesting.assertEquals(expected, found, 0);
+			}
+		};
+
+		test.runTests(functionName.contains("Inverse"));
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBoofConcurrency {
+	@Test
+	public void loopFor() {
+		int counts[] = new int[200];
+		BoofConcurrency.loopFor(5,190,i -> counts[i]++);
+
+		for (int i = 0; i < counts.length; i++) {
+			assertEquals(i >= 5 && i < 190 ? 1 : 0, counts[i]);
+		}
+
+		// empty range should do nothing
+		BoofConcurrency.loopFor(10,10,i -> fail("Should not be called"));
+	}
+
+	@Test
+	public void loopBlocks() {
+		for( int minBlock : new int[]{1,7,50,1000}) {
+			int counts[] = new int[200];
+			BoofConcurrency.loopBlocks(5,190,minBlock,(i0,i1) -> {
+				assertTrue(i0 < i1);
+				assertTrue(i1-i0 >= Math.min(minBlock,185));
+				for (int i = i0; i < i1; i++) {
+					counts[i]++;
+				}
+			});
+
+			for (int i = 0; i < counts.length; i++) {
+				assertEquals(i >= 5 && i < 190 ? 1 : 0, counts[i]);
+			}
+		}
+
+		BoofConcurrency.loopBlocks(10,10,(i0,i1) -> fail("Should not be called"));
+	}
+
+	@Test
+	public void loopFor_exception() {
+		try {
+			BoofConcurrency.loopFor(0,100,i -> {
+				if( i == 50 )
+					throw new IllegalArgumentException("Expected");
+			});
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	@Test
+	public void selectBlockSize() {
+		assertEquals(25,BoofConcurrency.selectBlockSize(100,1,4));
+		assertEquals(50,BoofConcurrency.selectBlockSize(100,40,4));
+		// the remainder is spread across the blocks
+		assertEquals(33,BoofConcurrency.selectBlockSize(101,30,4));
+		assertEquals(5,BoofConcurrency.selectBlockSize(5,10,4));
+		assertEquals(1,BoofConcurrency.selectBlockSize(2,1,8));
+	}
+
+	@Test
+	public void setMaxThreads() {
+		int before = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(3);
+			assertEquals(3,BoofConcurrency.getMaxThreads());
+			BoofConcurrency.setMaxThreads(0);
+			assertEquals(1,BoofConcurrency.getMaxThreads());
+
+			// make sure it still works with a single thread
+			int counts[] = new int[50];
+			BoofConcurrency.loopBlocks(0,50,(i0,i1)->{for( int i = i0; i < i1; i++ ) counts[i]++;});
+			for (int i = 0; i < counts.length; i++) {
+				assertEquals(1,counts[i]);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(before);
+		}
+	}
+}
@@ -21,11 +21,12 @@ package boofcv.core.encoding;
 import boofcv.alg.color.ColorYuv;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 /**
  * @author Peter Abeles
@@ -56,6 +57,20 @@ public class TestConvertNV21 {
 		}
 	}
 
+	@Test
+	public void nv21ToGrayView() {
+		byte[] data = random(width,height);
+
+		GrayU8 found = ConvertNV21.nv21ToGrayView(data,width,height,null);
+		GrayU8 expected = ConvertNV21.nv21ToGray(data,width,height,(GrayU8)null);
+
+		assertSame(data,found.data);
+		assertTrue(found.isSubimage());
+		assertEquals(width,found.width);
+		assertEquals(height,found.height);
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
 	@Test
 	public void testColor() {
 		ImageType types[] = new ImageType[]{ImageType.pl(3, ImageDataType.U8),ImageType.pl(3,ImageDataType.F32),
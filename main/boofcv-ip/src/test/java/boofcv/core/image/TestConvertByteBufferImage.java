@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.ddogleg.struct.GrowQueue_I8;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvertByteBufferImage {
+	Random rand = new Random(234);
+
+	int width = 25;
+	int height = 30;
+	int offset = 7;
+	int stride = 32;
+
+	@Test
+	public void wrap_gray_array() {
+		ByteBuffer buffer = randomBuffer(offset+stride*height,false);
+		GrayU8 found = ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,null);
+
+		// no copy was made
+		assertSame(buffer.array(),found.data);
+		assertTrue(found.isSubimage());
+		checkGray(buffer,found);
+
+		// changes to the buffer are seen by the image
+		buffer.put(offset+stride*2+3,(byte)123);
+		assertEquals(123,found.get(3,2));
+	}
+
+	@Test
+	public void wrap_gray_direct() {
+		ByteBuffer buffer = randomBuffer(offset+stride*height,true);
+		assertFalse(ConvertByteBufferImage.canWrap(buffer));
+
+		GrayU8 found = ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,null);
+		assertFalse(found.isSubimage());
+		checkGray(buffer,found);
+
+		// a wrapped image can't be reshaped, so a new one is created
+		GrayU8 wrapped = ConvertByteBufferImage.wrap(randomBuffer(offset+stride*height,false),offset,stride,width,height,null);
+		found = ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,wrapped);
+		assertNotSame(wrapped,found);
+		checkGray(buffer,found);
+	}
+
+	@Test
+	public void wrap_gray_tooSmall() {
+		ByteBuffer buffer = randomBuffer(offset+stride*(height-1)+width-1,false);
+		try {
+			ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,null);
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	@Test
+	public void wrap_interleaved() {
+		for( boolean direct : new boolean[]{false,true}) {
+			int stride = width*3+5;
+			ByteBuffer buffer = randomBuffer(offset+stride*height,direct);
+			InterleavedU8 found = ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,3,null);
+
+			assertEquals(3,found.getNumBands());
+			assertEquals(3,found.getImageType().getNumBands());
+			if( !direct )
+				assertSame(buffer.array(),found.data);
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					for (int band = 0; band < 3; band++) {
+						int expected = buffer.get(offset+y*stride+x*3+band) & 0xFF;
+						assertEquals(expected,found.getBand(x,y,band));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Common operations should produce the same results with wrapped images as with regular images
+	 */
+	@Test
+	public void wrap_operations() {
+		ByteBuffer buffer = randomBuffer(offset+stride*height,false);
+		GrayU8 wrapped = ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,null);
+		GrayU8 copy = wrapped.clone();
+		assertFalse(copy.isSubimage());
+
+		GrayF32 expectedF = ConvertImage.convert(copy,(GrayF32)null);
+		GrayF32 foundF = ConvertImage.convert(wrapped,(GrayF32)null);
+		BoofTesting.assertEquals(expectedF,foundF,0);
+
+		GrayU8 expected = ThresholdImageOps.threshold(copy,null,100,true);
+		GrayU8 found = ThresholdImageOps.threshold(wrapped,null,100,true);
+		BoofTesting.assertEquals(expected,found,0);
+
+		expected = BlurImageOps.gaussian(copy,null,-1,2,null);
+		found = BlurImageOps.gaussian(wrapped,null,-1,2,null);
+		BoofTesting.assertEquals(expected,found,0);
+
+		// output can be a wrapped image too
+		ByteBuffer bufferOut = randomBuffer(offset+stride*height,false);
+		GrayU8 wrappedOut = ConvertByteBufferImage.wrap(bufferOut,offset,stride,width,height,null);
+		BlurImageOps.gaussian(wrapped,wrappedOut,-1,2,null);
+		BoofTesting.assertEquals(expected,wrappedOut,0);
+	}
+
+	@Test
+	public void asByteBuffer() {
+		GrayU8 image = new GrayU8(width+4,height+5).subimage(2,3,width+2,height+3,null);
+		ByteBuffer buffer = ConvertByteBufferImage.asByteBuffer(image);
+		assertEquals((height-1)*image.stride+width,buffer.remaining());
+
+		buffer.put(image.stride*4+6,(byte)200);
+		assertEquals(200,image.get(6,4));
+
+		InterleavedU8 color = new InterleavedU8(width,height,3);
+		buffer = ConvertByteBufferImage.asByteBuffer(color);
+		assertEquals(width*height*3,buffer.remaining());
+		buffer.put(color.stride*4+6*3+2,(byte)200);
+		assertEquals(200,color.getBand(6,4,2));
+	}
+
+	@Test
+	public void from_3BU8_to_U8() {
+		for( boolean direct : new boolean[]{false,true}) {
+			int stride = width*3+5;
+			ByteBuffer buffer = randomBuffer(offset+stride*height,direct);
+			GrayU8 found = new GrayU8(width,height);
+			ConvertByteBufferImage.from_3BU8_to_U8(buffer,offset,stride,found,new GrowQueue_I8());
+
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					int index = offset+y*stride+x*3;
+					int sum = (buffer.get(index)&0xFF) + (buffer.get(index+1)&0xFF) + (buffer.get(index+2)&0xFF);
+					assertEquals(sum/3,found.get(x,y));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void from_3BU8_to_3IU8() {
+		int stride = width*3+5;
+		ByteBuffer buffer = randomBuffer(offset+stride*height,true);
+		InterleavedU8 found = new InterleavedU8(width,height,3);
+		found = BoofTesting.createSubImageOf(found);
+		ConvertByteBufferImage.from_3BU8_to_3IU8(buffer,offset,stride,found);
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				for (int band = 0; band < 3; band++) {
+					int expected = buffer.get(offset+y*stride+x*3+band) & 0xFF;
+					assertEquals(expected,found.getBand(x,y,band));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reading from a buffer must not change its position, so that it can be shared
+	 */
+	@Test
+	public void sourcePositionNotModified() {
+		for( boolean direct : new boolean[]{false,true}) {
+			int stride = width*3+5;
+			ByteBuffer buffer = randomBuffer(offset+stride*height,direct);
+			buffer.position(3);
+
+			ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,null);
+			ConvertByteBufferImage.wrap(buffer,offset,stride,width,height,3,null);
+			ConvertByteBufferImage.from_3BU8_to_U8(buffer,offset,stride,new GrayU8(width,height),new GrowQueue_I8());
+			ConvertByteBufferImage.from_3BU8_to_3IU8(buffer,offset,stride,new InterleavedU8(width,height,3));
+			ConvertByteBufferImage.from_3BU8_to_3PF32(buffer,offset,stride,
+					new Planar<>(GrayF32.class,width,height,3),new GrowQueue_I8());
+
+			assertEquals(3,buffer.position());
+			assertEquals(offset+stride*height,buffer.limit());
+		}
+	}
+
+	private void checkGray( ByteBuffer buffer , GrayU8 found ) {
+		assertEquals(width,found.width);
+		assertEquals(height,found.height);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				assertEquals(buffer.get(offset+y*stride+x)&0xFF,found.get(x,y));
+			}
+		}
+	}
+
+	private ByteBuffer randomBuffer( int length , boolean direct ) {
+		byte[] data = new byte[length];
+		rand.nextBytes(data);
+		ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+		buffer.put(data);
+		buffer.position(0);
+		return buffer;
+	}
+}
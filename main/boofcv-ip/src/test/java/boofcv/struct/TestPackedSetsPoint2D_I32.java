@@ -137,6 +137,52 @@ public class TestPackedSetsPoint2D_I32 {
 		checkPoint(2,0,-1,3, alg);
 	}
 
+	@Test
+	public void addSetToTail() {
+		// different block sizes so that sets cross block boundaries at different locations
+		PackedSetsPoint2D_I32 src = new PackedSetsPoint2D_I32(6);
+		PackedSetsPoint2D_I32 alg = new PackedSetsPoint2D_I32(8);
+
+		for (int set = 0; set < 5; set++) {
+			src.grow();
+			for (int i = 0; i < set*3; i++) {
+				src.addPointToTail(set*100+i,-i);
+			}
+		}
+
+		alg.grow();
+		alg.addPointToTail(7,8);
+		for (int set = 4; set >= 0; set--) {
+			alg.addSetToTail(src,set);
+		}
+		alg.grow();
+		alg.addSetToTail(src,3);
+		alg.addPointToTail(9,10);
+
+		assertEquals(2,alg.size());
+		assertEquals(1+30,alg.sizeOfSet(0));
+		assertEquals(9+1,alg.sizeOfSet(1));
+
+		List<Point2D_I32> found = alg.getSet(0);
+		assertEquals(7,found.get(0).x);
+		assertEquals(8,found.get(0).y);
+		int index = 1;
+		for (int set = 4; set >= 0; set--) {
+			for (int i = 0; i < set*3; i++, index++) {
+				assertEquals(set*100+i,found.get(index).x);
+				assertEquals(-i,found.get(index).y);
+			}
+		}
+
+		found = alg.getSet(1);
+		for (int i = 0; i < 9; i++) {
+			assertEquals(300+i,found.get(i).x);
+			assertEquals(-i,found.get(i).y);
+		}
+		assertEquals(9,found.get(9).x);
+		assertEquals(10,found.get(9).y);
+	}
+
 	private void checkPoint( int set , int point , int x , int y,
 							 PackedSetsPoint2D_I32 alg) {
 
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImagePool {
+
+	@Test
+	public void acquire_release() {
+		ImagePool pool = new ImagePool(5);
+
+		GrayU8 a = pool.acquire(ImageType.single(GrayU8.class),20,30);
+		assertEquals(20,a.width);
+		assertEquals(30,a.height);
+		assertEquals(0,pool.getHits());
+		assertEquals(1,pool.getMisses());
+
+		pool.release(a);
+		assertEquals(1,pool.size());
+
+		// same type and shape should be recycled
+		GrayU8 b = pool.acquire(ImageType.single(GrayU8.class),20,30);
+		assertTrue(a == b);
+		assertEquals(1,pool.getHits());
+		assertEquals(0,pool.size());
+	}
+
+	@Test
+	public void acquire_mismatch() {
+		ImagePool pool = new ImagePool(5);
+
+		pool.release(new GrayU8(20,30));
+		pool.release(new InterleavedU8(20,30,2));
+
+		// different shape
+		assertNotNull(pool.acquire(ImageType.single(GrayU8.class),30,20));
+		// different data type
+		assertNotNull(pool.acquire(ImageType.single(GrayF32.class),20,30));
+		// different number of bands
+		assertNotNull(pool.acquire(ImageType.il(3,InterleavedU8.class),20,30));
+		assertEquals(0,pool.getHits());
+		assertEquals(3,pool.getMisses());
+		assertEquals(2,pool.size());
+
+		InterleavedU8 found = pool.acquire(ImageType.il(2,InterleavedU8.class),20,30);
+		assertEquals(2,found.numBands);
+		assertEquals(1,pool.getHits());
+	}
+
+	@Test
+	public void acquire_template() {
+		ImagePool pool = new ImagePool(5);
+		Planar<GrayF32> template = new Planar<>(GrayF32.class,10,12,3);
+
+		Planar<GrayF32> a = pool.acquire(template);
+		assertTrue(a != template);
+		assertEquals(3,a.getNumBands());
+		assertEquals(10,a.width);
+		assertEquals(12,a.height);
+
+		pool.release(a);
+		assertTrue(a == pool.acquire(template));
+	}
+
+	@Test
+	public void evictions() {
+		ImagePool pool = new ImagePool(2);
+
+		GrayF32 a = new GrayF32(10,10);
+		pool.release(a);
+		pool.release(new GrayF32(10,10));
+		assertEquals(0,pool.getEvictions());
+		pool.release(new GrayF32(10,10));
+		assertEquals(1,pool.getEvictions());
+		assertEquals(2,pool.size());
+
+		// the least recently released image should have been discarded
+		for (int i = 0; i < 2; i++) {
+			assertTrue(a != pool.acquire(ImageType.single(GrayF32.class),10,10));
+		}
+
+		pool.resetStatistics();
+		assertEquals(0,pool.getHits());
+		assertEquals(0,pool.getMisses());
+		assertEquals(0,pool.getEvictions());
+	}
+
+	@Test
+	public void threadsDoNotShare() throws InterruptedException {
+		ImagePool pool = new ImagePool(5);
+		GrayU8 a = new GrayU8(10,10);
+		pool.release(a);
+
+		GrayU8 found[] = new GrayU8[1];
+		Thread t = new Thread(() -> found[0] = pool.acquire(ImageType.single(GrayU8.class),10,10));
+		t.start();
+		t.join();
+
+		assertTrue(a != found[0]);
+		assertEquals(1,pool.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void release_subimage() {
+		ImagePool pool = new ImagePool(5);
+		pool.release(new GrayU8(10,10).subimage(0,0,5,5));
+	}
+
+	@Test
+	public void release_twice() {
+		ImagePool pool = new ImagePool(5);
+		GrayU8 a = pool.acquire(ImageType.single(GrayU8.class),10,10);
+		pool.release(a);
+		try {
+			pool.release(a);
+			fail("Exception expected");
+		} catch( IllegalArgumentException ignore ){}
+		assertEquals(1,pool.size());
+	}
+}
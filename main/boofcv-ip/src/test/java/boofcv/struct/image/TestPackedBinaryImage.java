@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPackedBinaryImage {
+
+	@Test
+	public void reshape() {
+		PackedBinaryImage image = new PackedBinaryImage(65,3);
+		assertEquals(2, image.stride);
+		assertEquals(6, image.data.length);
+
+		image.set(64,2,1);
+		long[] original = image.data;
+		image.reshape(64,2);
+		assertEquals(1, image.stride);
+		assertSame(original, image.data);
+		assertEquals(0, image.countTrue());
+
+		image.reshape(200,10);
+		assertEquals(4, image.stride);
+		assertEquals(40, image.data.length);
+	}
+
+	@Test
+	public void get_set() {
+		PackedBinaryImage image = new PackedBinaryImage(130,4);
+
+		image.set(0,0,1);
+		image.set(63,1,1);
+		image.set(64,2,1);
+		image.set(129,3,5);
+
+		assertEquals(1, image.get(0,0));
+		assertEquals(1, image.get(63,1));
+		assertEquals(1, image.get(64,2));
+		assertEquals(1, image.get(129,3));
+		assertEquals(0, image.get(1,0));
+		assertEquals(4, image.countTrue());
+
+		assertEquals(1L, image.data[0]);
+		assertEquals(1L << 63, image.data[3]);
+		assertEquals(1L, image.data[7]);
+		assertEquals(2L, image.data[11]);
+
+		image.set(63,1,0);
+		assertEquals(0, image.get(63,1));
+		assertEquals(3, image.countTrue());
+	}
+
+	@Test(expected = ImageAccessException.class)
+	public void get_outOfBounds() {
+		new PackedBinaryImage(10,10).get(10,0);
+	}
+
+	@Test
+	public void fill() {
+		PackedBinaryImage image = new PackedBinaryImage(70,3);
+		image.fill(true);
+		assertEquals(210, image.countTrue());
+		assertEquals(0x3FL, image.data[1]);
+
+		image.fill(false);
+		assertEquals(0, image.countTrue());
+	}
+
+	@Test
+	public void getLastWordMask() {
+		assertEquals(-1L, new PackedBinaryImage(64,1).getLastWordMask());
+		assertEquals(1L, new PackedBinaryImage(65,1).getLastWordMask());
+		assertEquals(0x7L, new PackedBinaryImage(3,1).getLastWordMask());
+	}
+
+	@Test
+	public void setTo_copy() {
+		PackedBinaryImage a = new PackedBinaryImage(100,5);
+		a.set(3,4,1);
+		a.set(99,0,1);
+
+		PackedBinaryImage b = new PackedBinaryImage(10,2);
+		b.setTo(a);
+		assertTrue(a.isSameShape(b));
+		assertEquals(1, b.get(3,4));
+		assertEquals(1, b.get(99,0));
+		assertEquals(2, b.countTrue());
+
+		PackedBinaryImage c = a.copy();
+		assertNotSame(a.data, c.data);
+		assertArrayEquals(a.data, c.data);
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2011-2018, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTiledImage {
+
+	Random rand = new Random(234);
+	int width = 67, height = 53;
+
+	File file;
+
+	@Before
+	public void before() throws IOException {
+		file = File.createTempFile("tiled", ".bin");
+	}
+
+	@After
+	public void after() {
+		assertTrue(file.delete());
+	}
+
+	@Test
+	public void write_read_allTypes() throws IOException {
+		Class[] types = {GrayU8.class,GrayS8.class,GrayU16.class,GrayS16.class,
+				GrayS32.class,GrayS64.class,GrayF32.class,GrayF64.class};
+
+		for( Class type : types ) {
+			write_read(type);
+		}
+	}
+
+	private <T extends ImageGray<T>> void write_read( Class<T> type ) throws IOException {
+		T expected = GeneralizedImageOps.createSingleBand(type,width,height);
+		GImageMiscOps.fillUniform(expected,rand,-100,100);
+
+		try( TiledImage<T> tiled = TiledImage.create(file,type,width,height,16,12) ) {
+			assertEquals(5,tiled.getNumTilesX());
+			assertEquals(5,tiled.getNumTilesY());
+			assertEquals(TiledImage.HEADER_BYTES+25L*16*12*expected.getDataType().getNumBits()/8,file.length());
+
+			tiled.write(0,0,expected);
+			T found = GeneralizedImageOps.createSingleBand(type,width,height);
+			tiled.read(0,0,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Read and write regions which don't line up with tiles and use sub-images
+	 */
+	@Test
+	public void regions_subimage() throws IOException {
+		GrayF32 expected = new GrayF32(width,height);
+
+		try( TiledImage<GrayF32> tiled = TiledImage.create(file,GrayF32.class,width,height,16,12) ) {
+			for( int trial = 0; trial < 20; trial++ ) {
+				int x0 = rand.nextInt(width-1), y0 = rand.nextInt(height-1);
+				int x1 = x0+1+rand.nextInt(width-x0-1), y1 = y0+1+rand.nextInt(height-y0-1);
+
+				GrayF32 region = BoofTesting.createSubImageOf(new GrayF32(x1-x0,y1-y0));
+				GImageMiscOps.fillUniform(region,rand,0,100);
+				tiled.write(x0,y0,region);
+				expected.subimage(x0,y0,x1,y1).setTo(region);
+
+				x0 = rand.nextInt(width-1); y0 = rand.nextInt(height-1);
+				x1 = x0+1+rand.nextInt(width-x0-1); y1 = y0+1+rand.nextInt(height-y0-1);
+				GrayF32 found = BoofTesting.createSubImageOf(new GrayF32(x1-x0,y1-y0));
+				tiled.read(x0,y0,found);
+				BoofTesting.assertEquals(expected.subimage(x0,y0,x1,y1),found,0);
+			}
+		}
+	}
+
+	@Test
+	public void readTile_writeTile() throws IOException {
+		try( TiledImage<GrayU8> tiled = TiledImage.create(file,GrayU8.class,width,height,16,12) ) {
+			GrayU8 tile = tiled.createTileImage();
+			assertEquals(16,tile.width);
+			assertEquals(12,tile.height);
+
+			tiled.readTile(4,4,tile);
+			assertEquals(3,tile.width);
+			assertEquals(5,tile.height);
+			assertEquals(0,ImageStatistics.sum(tile));
+
+			ImageMiscOps.fill(tile,7);
+			tiled.writeTile(4,4,tile);
+
+			GrayU8 found = new GrayU8(width,height);
+			tiled.read(0,0,found);
+			assertEquals(7*15,ImageStatistics.sum(found));
+			assertEquals(7,found.get(width-1,height-1));
+
+			try {
+				tiled.writeTile(3,4,tile);
+				fail("Exception expected");
+			} catch( IllegalArgumentException ignore ){}
+		}
+	}
+
+	/**
+	 * Contents should be the same after closing and opening the file
+	 */
+	@Test
+	public void open() throws IOException {
+		GrayS16 expected = new GrayS16(width,height);
+		GImageMiscOps.fillUniform(expected,rand,-200,200);
+
+		try( TiledImage<GrayS16> tiled = TiledImage.create(file,GrayS16.class,width,height,10,20) ) {
+			tiled.write(0,0,expected);
+		}
+
+		try( TiledImage<GrayS16> tiled = TiledImage.open(file,true) ) {
+			assertEquals(width,tiled.getWidth());
+			assertEquals(height,tiled.getHeight());
+			assertEquals(10,tiled.getTileWidth());
+			assertEquals(20,tiled.getTileHeight());
+			assertEquals(ImageDataType.S16,tiled.getImageType().getDataType());
+
+			GrayS16 found = new GrayS16(width,height);
+			tiled.read(0,0,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			// read only images can't be modified
+			try {
+				tiled.write(0,0,found);
+				fail("Exception expected");
+			} catch( IllegalArgumentException ignore ){}
+		}
+	}
+
+	/**
+	 * The data type is stored by name and not by its position in the enum
+	 */
+	@Test
+	public void header_typeName() throws IOException {
+		TiledImage.create(file,GrayF64.class,width,height,16,12).close();
+
+		byte[] header = new byte[TiledImage.HEADER_BYTES];
+		try( RandomAccessFile raf = new RandomAccessFile(file,"rw") ) {
+			raf.readFully(header);
+			// magic, version, and byte order come before the type
+			assertEquals("F64",new String(header,13,3,StandardCharsets.US_ASCII));
+			assertEquals(0,header[16]);
+
+			// an unknown type should be rejected
+			raf.seek(13);
+			raf.write("XYZ".getBytes(StandardCharsets.US_ASCII));
+		}
+
+		try {
+			TiledImage.open(file,true);
+			fail("Exception expected");
+		} catch( IOException ignore ){}
+	}
+
+	/**
+	 * Force tiles to be spread across several memory mapped chunks
+	 */
+	@Test
+	public void multipleChunks() throws IOException {
+		long chunkBytes = 3*16*12;
+
+		GrayU8 expected = new GrayU8(width,height);
+		GImageMiscOps.fillUniform(expected,rand,0,255);
+
+		try( TiledImage<GrayU8> tiled = TiledImage.create(file,GrayU8.class,width,height,16,12,chunkBytes) ) {
+			assertEquals(chunkBytes,tiled.getMaxChunkBytes());
+			tiled.write(0,0,expected);
+			GrayU8 found = new GrayU8(width,height);
+			tiled.read(0,0,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+
+		// chunk size is a setting of the instance and not stored in the file
+		try( TiledImage<GrayU8> tiled = TiledImage.open(file,true,2*chunkBytes) ) {
+			assertEquals(2*chunkBytes,tiled.getMaxChunkBytes());
+			GrayU8 found = new GrayU8(width,height);
+			tiled.read(0,0,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void checkRegion() throws IOException {
+		try( TiledImage<GrayU8> tiled = TiledImage.create(file,GrayU8.class,width,height,16,12) ) {
+			try {
+				tiled.read(1,0,new GrayU8(width,10));
+				fail("Exception expected");
+			} catch( IllegalArgumentException ignore ){}
+			try {
+				tiled.read(-1,0,new GrayU8(10,10));
+				fail("Exception expected");
+			} catch( IllegalArgumentException ignore ){}
+			try {
+				((TiledImage)tiled).read(0,0,new GrayF32(10,10));
+				fail("Exception expected");
+			} catch( IllegalArgumentException ignore ){}
+		}
+	}
+}